@@ -1,15 +1,26 @@
 package br.com.emendes.financesapi;
 
+import br.com.emendes.financesapi.config.aot.FinancesApiRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.data.web.config.EnableSpringDataWebSupport;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableSpringDataWebSupport
+@EnableScheduling
+@ImportRuntimeHints(FinancesApiRuntimeHints.class)
 public class FinancesApiApplication {
 
+	private static final int STARTUP_STEPS_CAPACITY = 4096;
+
 	public static void main(String[] args) {
-		SpringApplication.run(FinancesApiApplication.class, args);
+		SpringApplication application = new SpringApplication(FinancesApiApplication.class);
+		// Guarda as etapas da inicialização para o endpoint actuator startup.
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY));
+		application.run(args);
 	}
 
 }
@@ -0,0 +1,95 @@
+package br.com.emendes.financesapi.config.aot;
+
+import br.com.emendes.financesapi.config.psql.function.SQLFunctionContributor;
+import br.com.emendes.financesapi.controller.openapi.*;
+import br.com.emendes.financesapi.dto.request.*;
+import br.com.emendes.financesapi.dto.response.PoolDiagnosticsResponse;
+import br.com.emendes.financesapi.model.type.MoneyType;
+import br.com.emendes.financesapi.validation.validator.CategoryValidator;
+import br.com.emendes.financesapi.validation.validator.EnumValidator;
+import br.com.emendes.financesapi.validation.validator.WhiteSpaceValidator;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+/**
+ * Hints para a imagem nativa (profile maven native) do que é carregado por reflexão, ServiceLoader ou proxy e não é
+ * detectado pelo processamento AOT do Spring nem pelos metadados do GraalVM Reachability Metadata Repository.
+ */
+public class FinancesApiRuntimeHints implements RuntimeHintsRegistrar {
+
+  /**
+   * Implementações do jjwt-impl instanciadas por nome a partir do jjwt-api.
+   */
+  private static final String[] JJWT_TYPES = {
+      "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+      "io.jsonwebtoken.impl.DefaultJwtBuilder",
+      "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+      "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+      "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+      "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+      "io.jsonwebtoken.impl.security.KeysBridge",
+      "io.jsonwebtoken.impl.security.StandardCurves",
+      "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+      "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+      "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+      "io.jsonwebtoken.impl.security.StandardKeyOperations",
+      "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+      "io.jsonwebtoken.jackson.io.JacksonSerializer",
+      "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+  };
+
+  /**
+   * Interfaces com as anotações do springdoc implementadas pelos controllers.
+   */
+  private static final Class<?>[] OPENAPI_TYPES = {
+      AnalyticsControllerOpenAPI.class, AuthenticationControllerOpenAPI.class, BudgetControllerOpenAPI.class,
+      CategoryControllerOpenAPI.class, ExpenseControllerOpenAPI.class, IncomeControllerOpenAPI.class,
+      JwksControllerOpenAPI.class, RecurringRuleControllerOpenAPI.class, SummaryControllerOpenAPI.class,
+      SyncControllerOpenAPI.class, TransactionControllerOpenAPI.class, UserControllerOpenAPI.class
+  };
+
+  /**
+   * Requests validados com @Valid e validadores custom. A inferência de hints de validação do Spring ignora os
+   * controllers porque as anotações são repetidas nas interfaces OpenAPI.
+   */
+  private static final Class<?>[] VALIDATION_TYPES = {
+      BudgetRequest.class, CategoryRequest.class, ChangePasswordRequest.class, ExpenseRequest.class,
+      IncomeRequest.class, RecurringRuleRequest.class, RefreshTokenRequest.class, SignInRequest.class,
+      SignupRequest.class,
+      CategoryValidator.class, EnumValidator.class, WhiteSpaceValidator.class
+  };
+
+  @Override
+  public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+    // Hibernate carrega SQLFunctionContributor pelo ServiceLoader e instancia MoneyType a partir de @Type.
+    hints.resources().registerPattern("META-INF/services/org.hibernate.boot.model.FunctionContributor");
+    hints.reflection().registerType(SQLFunctionContributor.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+    hints.reflection().registerType(MoneyType.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+    hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+    for (String type : JJWT_TYPES) {
+      hints.reflection().registerTypeIfPresent(classLoader, type,
+          MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+
+    for (Class<?> type : OPENAPI_TYPES) {
+      hints.reflection().registerType(type, MemberCategory.INTROSPECT_PUBLIC_METHODS);
+    }
+    for (Class<?> type : VALIDATION_TYPES) {
+      hints.reflection().registerType(type, MemberCategory.DECLARED_FIELDS,
+          MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+    new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), PoolDiagnosticsResponse.class);
+
+    // Conexões envolvidas por ConnectionHoldTimeDataSource.
+    hints.proxies().registerJdkProxy(TypeReference.of(ConnectionProxy.class));
+
+    // Cotações carregadas de financesapi.fx.rates-file com prefixo classpath:.
+    hints.resources().registerPattern("fx/*.csv");
+  }
+
+}
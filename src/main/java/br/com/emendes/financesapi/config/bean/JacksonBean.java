@@ -0,0 +1,41 @@
+package br.com.emendes.financesapi.config.bean;
+
+import br.com.emendes.financesapi.config.http.MeteredJackson2HttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
+
+/**
+ * Classe com beans relacionados a serialização JSON.
+ */
+@Configuration
+public class JacksonBean {
+
+  /**
+   * Registra o {@link BlackbirdModule}, que troca a reflexão dos getters, setters e construtores por lambdas geradas
+   * na primeira serialização de cada tipo. Na imagem nativa não há geração de classes em runtime, então o módulo não
+   * é registrado.
+   */
+  @Bean
+  public Jackson2ObjectMapperBuilderCustomizer blackbirdCustomizer() {
+    return builder -> {
+      if (!NativeDetector.inNativeImage()) {
+        builder.modulesToInstall(modules -> modules.add(new BlackbirdModule()));
+      }
+    };
+  }
+
+  /**
+   * Substitui o converter JSON padrão do Spring Boot.
+   */
+  @Bean
+  public MeteredJackson2HttpMessageConverter meteredJackson2HttpMessageConverter(
+      ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    return new MeteredJackson2HttpMessageConverter(objectMapper, meterRegistry);
+  }
+
+}
@@ -0,0 +1,42 @@
+package br.com.emendes.financesapi.config.bean;
+
+import br.com.emendes.financesapi.util.component.FxRateTable;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.util.ReflectionUtils;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+
+/**
+ * Beans que continuam eager com {@code spring.main.lazy-initialization=true}: pool de conexões, migrações do Flyway,
+ * EntityManagerFactory, cadeia de filtros do Spring Security, cotações e beans com métodos {@link Scheduled} (que não
+ * são agendados enquanto o bean não é criado). Os demais beans são criados no primeiro uso.
+ */
+@Configuration
+public class LazyInitializationBean {
+
+  private static final Class<?>[] EAGER_TYPES = {
+      DataSource.class, Flyway.class, FlywayMigrationInitializer.class, EntityManagerFactory.class,
+      AbstractEntityManagerFactoryBean.class, SecurityFilterChain.class, FxRateTable.class
+  };
+
+  @Bean
+  public static LazyInitializationExcludeFilter eagerBeansExcludeFilter() {
+    return (beanName, beanDefinition, beanType) -> beanType != null &&
+        (Arrays.stream(EAGER_TYPES).anyMatch(type -> type.isAssignableFrom(beanType)) || hasScheduledMethod(beanType));
+  }
+
+  private static boolean hasScheduledMethod(Class<?> beanType) {
+    return Arrays.stream(ReflectionUtils.getUniqueDeclaredMethods(beanType))
+        .anyMatch(method -> method.isAnnotationPresent(Scheduled.class));
+  }
+
+}
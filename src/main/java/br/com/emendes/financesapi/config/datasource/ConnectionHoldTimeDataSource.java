@@ -0,0 +1,89 @@
+package br.com.emendes.financesapi.config.datasource;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * DataSource que mede por quanto tempo cada conexão fica fora do pool (de getConnection até close) e acumula esse
+ * tempo na requisição atual, entre {@link #begin()} e {@link #end()} chamados por {@link ConnectionHoldTimeFilter}.
+ * Conexões obtidas fora de uma requisição (jobs, migrations) não são medidas.
+ */
+public class ConnectionHoldTimeDataSource extends DelegatingDataSource {
+
+  private static final ThreadLocal<long[]> HOLD_NANOS = new ThreadLocal<>();
+
+  public ConnectionHoldTimeDataSource(DataSource targetDataSource) {
+    super(targetDataSource);
+  }
+
+  /**
+   * Inicia a medição na thread atual.
+   */
+  public static void begin() {
+    HOLD_NANOS.set(new long[1]);
+  }
+
+  /**
+   * Encerra a medição na thread atual.
+   *
+   * @return tempo total, em nanossegundos, que a thread manteve conexões desde {@link #begin()}.
+   */
+  public static long end() {
+    long[] holdNanos = HOLD_NANOS.get();
+    HOLD_NANOS.remove();
+    return holdNanos == null ? 0 : holdNanos[0];
+  }
+
+  @Override
+  @NonNull
+  public Connection getConnection() throws SQLException {
+    return measure(obtainTargetDataSource().getConnection());
+  }
+
+  @Override
+  @NonNull
+  public Connection getConnection(@NonNull String username, @NonNull String password) throws SQLException {
+    return measure(obtainTargetDataSource().getConnection(username, password));
+  }
+
+  private static Connection measure(Connection connection) {
+    long[] holdNanos = HOLD_NANOS.get();
+    if (holdNanos == null) return connection;
+
+    long acquiredAt = System.nanoTime();
+    boolean[] closed = new boolean[1];
+    return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+        new Class<?>[]{ConnectionProxy.class},
+        (proxy, method, args) -> {
+          switch (method.getName()) {
+            case "getTargetConnection":
+              return connection;
+            case "equals":
+              return proxy == args[0];
+            case "hashCode":
+              return System.identityHashCode(proxy);
+            case "close":
+              if (!closed[0]) {
+                closed[0] = true;
+                holdNanos[0] += System.nanoTime() - acquiredAt;
+              }
+              break;
+            default:
+              break;
+          }
+          try {
+            return method.invoke(connection, args);
+          } catch (InvocationTargetException exception) {
+            throw exception.getTargetException();
+          }
+        });
+  }
+
+}
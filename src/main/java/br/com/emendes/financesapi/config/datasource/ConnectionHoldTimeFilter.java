@@ -0,0 +1,55 @@
+package br.com.emendes.financesapi.config.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filtro que registra, por endpoint, o tempo total em que a requisição manteve conexões do pool
+ * (métrica {@code financesapi.db.connection.hold}, tags method e uri). O filtro é o primeiro da cadeia, então inclui
+ * as conexões usadas pelos filtros de segurança.
+ */
+@RequiredArgsConstructor
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ConnectionHoldTimeFilter extends OncePerRequestFilter {
+
+  private static final String UNKNOWN_URI = "UNKNOWN";
+
+  private final MeterRegistry meterRegistry;
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+    ConnectionHoldTimeDataSource.begin();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      long holdNanos = ConnectionHoldTimeDataSource.end();
+      Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+      Timer.builder("financesapi.db.connection.hold")
+          .description("Time the request held database connections")
+          .tag("method", request.getMethod())
+          .tag("uri", uri == null ? UNKNOWN_URI : uri.toString())
+          .register(meterRegistry)
+          .record(holdNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+}
@@ -0,0 +1,23 @@
+package br.com.emendes.financesapi.config.datasource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Envolve o DataSource da aplicação em um {@link ConnectionHoldTimeDataSource}.
+ */
+@Component
+public class ConnectionHoldTimePostProcessor implements BeanPostProcessor {
+
+  @Override
+  public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+    if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionHoldTimeDataSource)) {
+      return new ConnectionHoldTimeDataSource(dataSource);
+    }
+    return bean;
+  }
+
+}
@@ -0,0 +1,121 @@
+package br.com.emendes.financesapi.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * Aplica as propriedades {@code financesapi.datasource.*} como padrão do pool Hikari criado pelo Spring Boot, antes
+ * da primeira conexão. Cada valor só é aplicado quando a propriedade equivalente de
+ * {@code spring.datasource.hikari.*} (ou {@code spring.datasource.hikari.data-source-properties.*}) não foi definida,
+ * então a configuração explícita do Hikari prevalece.<br>
+ * <br>
+ * Com {@code financesapi.datasource.maximum-pool-size=0} o tamanho é derivado dos núcleos do servidor do banco
+ * ({@code financesapi.datasource.database-cores * 2 + 1}), não dos núcleos da aplicação, com
+ * {@code financesapi.datasource.minimum-idle} negativo o pool tem tamanho fixo. As propriedades de prepared
+ * statements e {@code reWriteBatchedInserts} são repassadas ao driver apenas quando a URL é do PostgreSQL.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class HikariPoolPostProcessor implements BeanPostProcessor {
+
+  private static final String HIKARI_PREFIX = "spring.datasource.hikari.";
+
+  private final Environment environment;
+
+  @Value("${financesapi.datasource.database-cores}")
+  private int databaseCores;
+
+  @Value("${financesapi.datasource.maximum-pool-size}")
+  private int maximumPoolSize;
+
+  @Value("${financesapi.datasource.minimum-idle}")
+  private int minimumIdle;
+
+  @Value("${financesapi.datasource.connection-timeout}")
+  private Duration connectionTimeout;
+
+  @Value("${financesapi.datasource.idle-timeout}")
+  private Duration idleTimeout;
+
+  @Value("${financesapi.datasource.max-lifetime}")
+  private Duration maxLifetime;
+
+  @Value("${financesapi.datasource.leak-detection-threshold}")
+  private Duration leakDetectionThreshold;
+
+  @Value("${financesapi.datasource.prepare-threshold}")
+  private int prepareThreshold;
+
+  @Value("${financesapi.datasource.prepared-statement-cache-queries}")
+  private int preparedStatementCacheQueries;
+
+  @Value("${financesapi.datasource.prepared-statement-cache-size-mib}")
+  private int preparedStatementCacheSizeMib;
+
+  @Value("${financesapi.datasource.rewrite-batched-inserts}")
+  private boolean rewriteBatchedInserts;
+
+  @Override
+  public Object postProcessBeforeInitialization(@NonNull Object bean, @NonNull String beanName) {
+    if (bean instanceof HikariDataSource hikariDataSource) {
+      configure(hikariDataSource);
+    }
+    return bean;
+  }
+
+  /**
+   * Tamanho padrão do pool para a quantidade de núcleos do servidor do banco informada.
+   */
+  public static int defaultPoolSize(int cores) {
+    return cores * 2 + 1;
+  }
+
+  private void configure(HikariDataSource hikariDataSource) {
+    if (isUnset("maximum-pool-size")) {
+      hikariDataSource.setMaximumPoolSize(maximumPoolSize > 0 ? maximumPoolSize : defaultPoolSize(databaseCores));
+    }
+    int poolSize = hikariDataSource.getMaximumPoolSize();
+    if (isUnset("minimum-idle")) {
+      hikariDataSource.setMinimumIdle(minimumIdle < 0 ? poolSize : Math.min(minimumIdle, poolSize));
+    }
+    if (isUnset("connection-timeout")) {
+      hikariDataSource.setConnectionTimeout(connectionTimeout.toMillis());
+    }
+    if (isUnset("idle-timeout")) {
+      hikariDataSource.setIdleTimeout(idleTimeout.toMillis());
+    }
+    if (isUnset("max-lifetime")) {
+      hikariDataSource.setMaxLifetime(maxLifetime.toMillis());
+    }
+    if (isUnset("leak-detection-threshold")) {
+      hikariDataSource.setLeakDetectionThreshold(leakDetectionThreshold.toMillis());
+    }
+
+    String jdbcUrl = hikariDataSource.getJdbcUrl();
+    if (jdbcUrl != null && jdbcUrl.contains(":postgresql:")) {
+      Properties dataSourceProperties = hikariDataSource.getDataSourceProperties();
+      dataSourceProperties.putIfAbsent("prepareThreshold", String.valueOf(prepareThreshold));
+      dataSourceProperties.putIfAbsent("preparedStatementCacheQueries", String.valueOf(preparedStatementCacheQueries));
+      dataSourceProperties.putIfAbsent("preparedStatementCacheSizeMiB", String.valueOf(preparedStatementCacheSizeMib));
+      dataSourceProperties.putIfAbsent("reWriteBatchedInserts", String.valueOf(rewriteBatchedInserts));
+    }
+
+    log.info("datasource pool configured with maximumPoolSize={}, minimumIdle={}, connectionTimeout={}ms",
+        poolSize, hikariDataSource.getMinimumIdle(), hikariDataSource.getConnectionTimeout());
+  }
+
+  private boolean isUnset(String hikariProperty) {
+    return !environment.containsProperty(HIKARI_PREFIX + hikariProperty);
+  }
+
+}
@@ -0,0 +1,155 @@
+package br.com.emendes.financesapi.config.datasource;
+
+import br.com.emendes.financesapi.dto.response.PoolDiagnosticsResponse;
+import br.com.emendes.financesapi.dto.response.PoolDiagnosticsResponse.Recommendation;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Amostra periodicamente o pool Hikari (conexões ativas e threads aguardando conexão) e combina as amostras com os
+ * timers {@code hikaricp.connections.acquire} e {@code hikaricp.connections.usage} para sugerir o tamanho do pool.<br>
+ * <br>
+ * Os picos, a média e os timeouts consideram apenas as últimas
+ * {@code financesapi.datasource.diagnostics.window-samples} amostras, então um pico antigo (ex.: o aquecimento da
+ * aplicação) deixa de influenciar a sugestão.<br>
+ * <br>
+ * A demanda de uma amostra é {@code ativas + aguardando}. Se alguma thread aguardou ou houve timeout, a sugestão é
+ * aumentar até o pico de demanda observado. Se o pico de conexões ativas não passou da metade do pool, a sugestão é
+ * reduzir até o pico mais uma conexão. Aumentar além da capacidade do banco ({@code núcleos do servidor * 2 + 1})
+ * raramente ajuda, a espera passa do pool para o banco.
+ */
+@RequiredArgsConstructor
+@Component
+public class PoolDiagnostics {
+
+  private static final int MINIMUM_SUGGESTED_SIZE = 2;
+
+  private final DataSource dataSource;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${financesapi.datasource.diagnostics.window-samples}")
+  private int windowSamples;
+
+  private final Deque<Sample> window = new ArrayDeque<>();
+
+  /**
+   * Registra uma amostra do pool, não faz nada antes da primeira conexão.
+   */
+  @Scheduled(fixedDelayString = "${financesapi.datasource.diagnostics.sample-interval}")
+  public synchronized void sample() {
+    HikariPoolMXBean pool = poolMXBean();
+    if (pool == null) return;
+
+    window.addLast(new Sample(pool.getActiveConnections(), pool.getThreadsAwaitingConnection(),
+        timeoutCount(hikariDataSource().getPoolName())));
+    while (window.size() > windowSamples) {
+      window.removeFirst();
+    }
+  }
+
+  /**
+   * Estado atual do pool, estatísticas das amostras da janela e sugestão de tamanho.
+   *
+   * @throws IllegalStateException caso o DataSource não seja um pool Hikari.
+   */
+  public synchronized PoolDiagnosticsResponse diagnose() {
+    HikariDataSource hikariDataSource = hikariDataSource();
+    HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+    String poolName = hikariDataSource.getPoolName();
+    int maximumPoolSize = hikariDataSource.getMaximumPoolSize();
+
+    Timer acquire = meterRegistry.find("hikaricp.connections.acquire").tag("pool", poolName).timer();
+    Timer usage = meterRegistry.find("hikaricp.connections.usage").tag("pool", poolName).timer();
+    // Timeouts desde a amostra mais antiga da janela.
+    long timeouts = window.isEmpty() ? 0 : timeoutCount(poolName) - window.getFirst().timeouts();
+
+    int samples = window.size();
+    int peakActive = 0;
+    int peakPending = 0;
+    long demandSum = 0;
+    for (Sample sample : window) {
+      peakActive = Math.max(peakActive, sample.active());
+      peakPending = Math.max(peakPending, sample.pending());
+      demandSum += sample.active() + sample.pending();
+    }
+
+    PoolDiagnosticsResponse.PoolDiagnosticsResponseBuilder builder = PoolDiagnosticsResponse.builder()
+        .poolName(poolName)
+        .maximumPoolSize(maximumPoolSize)
+        .minimumIdle(hikariDataSource.getMinimumIdle())
+        .connectionTimeoutMillis(hikariDataSource.getConnectionTimeout())
+        .activeConnections(pool == null ? 0 : pool.getActiveConnections())
+        .idleConnections(pool == null ? 0 : pool.getIdleConnections())
+        .totalConnections(pool == null ? 0 : pool.getTotalConnections())
+        .pendingThreads(pool == null ? 0 : pool.getThreadsAwaitingConnection())
+        .samples(samples)
+        .peakActiveConnections(peakActive)
+        .peakPendingThreads(peakPending)
+        .averageDemand(samples == 0 ? 0 : (double) demandSum / samples)
+        .acquireCount(acquire == null ? 0 : acquire.count())
+        .acquireMeanMillis(acquire == null ? 0 : acquire.mean(TimeUnit.MILLISECONDS))
+        .acquireMaxMillis(acquire == null ? 0 : acquire.max(TimeUnit.MILLISECONDS))
+        .usageMeanMillis(usage == null ? 0 : usage.mean(TimeUnit.MILLISECONDS))
+        .timeouts(timeouts);
+
+    int peakDemand = peakActive + peakPending;
+    if (peakPending > 0 || timeouts > 0) {
+      return builder.recommendation(Recommendation.INCREASE)
+          .suggestedMaximumPoolSize(Math.max(maximumPoolSize + 1, peakDemand))
+          .reason(String.format("%d thread(s) waited for a connection and %d acquire(s) timed out, demand peaked at %d",
+              peakPending, timeouts, peakDemand))
+          .build();
+    }
+    if (samples > 0 && peakActive * 2 < maximumPoolSize && maximumPoolSize > MINIMUM_SUGGESTED_SIZE) {
+      return builder.recommendation(Recommendation.DECREASE)
+          .suggestedMaximumPoolSize(Math.max(MINIMUM_SUGGESTED_SIZE, peakActive + 1))
+          .reason(String.format("At most %d of %d connection(s) were active at once", peakActive, maximumPoolSize))
+          .build();
+    }
+    return builder.recommendation(Recommendation.KEEP)
+        .suggestedMaximumPoolSize(maximumPoolSize)
+        .reason(samples == 0 ? "No samples yet" :
+            String.format("No waits observed and %d of %d connection(s) were active at peak", peakActive,
+                maximumPoolSize))
+        .build();
+  }
+
+  private long timeoutCount(String poolName) {
+    Counter timeoutCounter = meterRegistry.find("hikaricp.connections.timeout").tag("pool", poolName).counter();
+    return timeoutCounter == null ? 0 : (long) timeoutCounter.count();
+  }
+
+  private HikariPoolMXBean poolMXBean() {
+    HikariDataSource hikariDataSource = hikariDataSource();
+    return hikariDataSource.isRunning() ? hikariDataSource.getHikariPoolMXBean() : null;
+  }
+
+  private HikariDataSource hikariDataSource() {
+    try {
+      return dataSource.unwrap(HikariDataSource.class);
+    } catch (SQLException exception) {
+      throw new IllegalStateException("DataSource is not a Hikari pool", exception);
+    }
+  }
+
+  /**
+   * Amostra do pool, timeouts é o total acumulado do counter {@code hikaricp.connections.timeout} no momento da
+   * amostra.
+   */
+  private record Sample(int active, int pending, long timeouts) {
+  }
+
+}
@@ -0,0 +1,24 @@
+package br.com.emendes.financesapi.config.datasource;
+
+import br.com.emendes.financesapi.dto.response.PoolDiagnosticsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Endpoint actuator {@code /actuator/pool} com o diagnóstico do pool de conexões, restrito a ADMIN.
+ */
+@RequiredArgsConstructor
+@Component
+@Endpoint(id = "pool")
+public class PoolEndpoint {
+
+  private final PoolDiagnostics poolDiagnostics;
+
+  @ReadOperation
+  public PoolDiagnosticsResponse pool() {
+    return poolDiagnostics.diagnose();
+  }
+
+}
@@ -0,0 +1,111 @@
+package br.com.emendes.financesapi.config.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MappingJackson2HttpMessageConverter} que registra, por tipo do corpo da resposta, o tempo de serialização
+ * ({@code financesapi.json.serialization}) e o tamanho do JSON antes da compressão ({@code financesapi.json.payload}).
+ * <br><br>
+ * O JSON é escrito direto no stream da resposta, então respostas maiores que o buffer do servidor incluem no tempo a
+ * escrita no socket.
+ */
+public class MeteredJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+  private final MeterRegistry meterRegistry;
+  private final Map<Class<?>, Meters> metersByType = new ConcurrentHashMap<>();
+
+  public MeteredJackson2HttpMessageConverter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    super(objectMapper);
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  protected void writeInternal(@NonNull Object object, @Nullable Type type, @NonNull HttpOutputMessage outputMessage)
+      throws IOException, HttpMessageNotWritableException {
+    CountingOutputMessage countingOutputMessage = new CountingOutputMessage(outputMessage);
+    long start = System.nanoTime();
+    super.writeInternal(object, type, countingOutputMessage);
+    long elapsed = System.nanoTime() - start;
+
+    Meters meters = metersByType.computeIfAbsent(object.getClass(), this::meters);
+    meters.serialization().record(elapsed, TimeUnit.NANOSECONDS);
+    meters.payload().record(countingOutputMessage.count);
+  }
+
+  private Meters meters(Class<?> bodyType) {
+    String type = bodyType.getSimpleName();
+    return new Meters(
+        Timer.builder("financesapi.json.serialization")
+            .description("Time spent serializing response bodies to JSON")
+            .tag("type", type)
+            .register(meterRegistry),
+        DistributionSummary.builder("financesapi.json.payload")
+            .description("Size of JSON response bodies before compression")
+            .baseUnit("bytes")
+            .tag("type", type)
+            .register(meterRegistry));
+  }
+
+  private record Meters(Timer serialization, DistributionSummary payload) {
+  }
+
+  /**
+   * HttpOutputMessage que conta os bytes escritos no corpo.
+   */
+  private static class CountingOutputMessage implements HttpOutputMessage {
+
+    private final HttpOutputMessage delegate;
+    private long count;
+    private OutputStream body;
+
+    CountingOutputMessage(HttpOutputMessage delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    @NonNull
+    public OutputStream getBody() throws IOException {
+      if (body == null) {
+        body = new FilterOutputStream(delegate.getBody()) {
+          @Override
+          public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+          }
+
+          @Override
+          public void write(@NonNull byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+          }
+        };
+      }
+      return body;
+    }
+
+    @Override
+    @NonNull
+    public HttpHeaders getHeaders() {
+      return delegate.getHeaders();
+    }
+
+  }
+
+}
@@ -15,6 +15,11 @@ public class SQLFunctionContributor implements FunctionContributor {
         "unaccent",
         functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.STRING)
     );
+    // Lança o erro FX001 quando a conversão de um valor não encontra a cotação (V22).
+    functionContributions.getFunctionRegistry().registerNamed(
+        "fn_missing_fx_rate",
+        functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.BIG_DECIMAL)
+    );
   }
 
 }
@@ -1,6 +1,7 @@
 package br.com.emendes.financesapi.config.security;
 
 import br.com.emendes.financesapi.config.security.filter.JWTAuthenticationFilter;
+import br.com.emendes.financesapi.config.security.filter.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -23,6 +24,7 @@ import static br.com.emendes.financesapi.util.constant.RoleConstant.ROLE_ADMIN;
 public class SecurityConfig {
 
   private final JWTAuthenticationFilter authenticationFilter;
+  private final RateLimitFilter rateLimitFilter;
   private static final String[] SWAGGER_WHITELIST = {"/swagger-ui/index.html", "/**.html", "/api-docs/**",
       "/webjars/**", "/configuration/**", "/swagger-resources/**", "/swagger-ui/**"};
 
@@ -33,6 +35,7 @@ public class SecurityConfig {
     http.sessionManagement(sessionConfig -> sessionConfig.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
 
     http.addFilterBefore(authenticationFilter, UsernamePasswordAuthenticationFilter.class)
+        .addFilterBefore(rateLimitFilter, JWTAuthenticationFilter.class)
         .exceptionHandling(exceptionHandling -> {
           exceptionHandling.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED));
           exceptionHandling.accessDeniedHandler(
@@ -42,8 +45,11 @@ public class SecurityConfig {
     http.authorizeHttpRequests(authorize -> {
       authorize.requestMatchers(HttpMethod.GET, SWAGGER_WHITELIST).permitAll();
       authorize.requestMatchers(HttpMethod.POST, "/api/auth/*").permitAll();
+      authorize.requestMatchers(HttpMethod.GET, "/.well-known/jwks.json").permitAll();
       authorize.requestMatchers(HttpMethod.GET, "/api/users").hasRole(ROLE_ADMIN);
       authorize.requestMatchers(HttpMethod.DELETE, "/api/users/*").hasRole(ROLE_ADMIN);
+      authorize.requestMatchers(HttpMethod.GET, "/actuator/health").permitAll();
+      authorize.requestMatchers("/actuator/**").hasRole(ROLE_ADMIN);
       authorize.anyRequest().authenticated();
     });
 
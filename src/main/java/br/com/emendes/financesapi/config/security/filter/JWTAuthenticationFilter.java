@@ -3,6 +3,7 @@ package br.com.emendes.financesapi.config.security.filter;
 import br.com.emendes.financesapi.config.security.service.TokenService;
 import br.com.emendes.financesapi.model.entity.User;
 import br.com.emendes.financesapi.service.UserService;
+import br.com.emendes.financesapi.util.component.RevokedTokenRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,7 +18,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 
 /**
- * Filtro responsável por autenticar requisição via JWT.
+ * Filtro responsável por autenticar requisição via JWT, JWTs revogados (sign out) são ignorados.
  */
 @RequiredArgsConstructor
 @Component
@@ -25,6 +26,7 @@ public class JWTAuthenticationFilter extends OncePerRequestFilter {
 
   private final TokenService tokenService;
   private final UserService userService;
+  private final RevokedTokenRegistry revokedTokenRegistry;
 
   @Override
   protected void doFilterInternal(
@@ -33,16 +35,16 @@ public class JWTAuthenticationFilter extends OncePerRequestFilter {
       @NonNull FilterChain filterChain) throws ServletException, IOException {
 
     String token = tokenService.recoverToken(request);
-    boolean isValid = tokenService.isTokenValid(token);
-    if (isValid) {
-      authenticateClient(token);
-    }
+    tokenService.decode(token)
+        .filter(accessToken -> !revokedTokenRegistry.isRevoked(accessToken.id()))
+        .ifPresent(accessToken -> authenticateClient(accessToken.userId()));
     filterChain.doFilter(request, response);
   }
 
-  private void authenticateClient(String token) {
-    Long userId = tokenService.getUserId(token);
+  private void authenticateClient(Long userId) {
     User user = userService.readById(userId);
+    if (user == null || !user.isEnabled()) return;
+
     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(user, null,
         user.getRoles());
     SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -0,0 +1,171 @@
+package br.com.emendes.financesapi.config.security.filter;
+
+import br.com.emendes.financesapi.config.security.ratelimit.RateLimit;
+import br.com.emendes.financesapi.config.security.ratelimit.RateLimitStore;
+import br.com.emendes.financesapi.config.security.service.TokenService;
+import br.com.emendes.financesapi.dto.problem.ProblemDetail;
+import br.com.emendes.financesapi.handler.GlobalExceptionHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Filtro responsável por limitar a quantidade de requisições em /api/**, executado antes de
+ * {@link JWTAuthenticationFilter} para que uma requisição rejeitada não valide o JWT nem use o banco de dados.<br>
+ * <br>
+ * Limites, verificados nesta ordem:
+ * <ul>
+ *   <li>{@code ip}: por endereço do cliente, em todas as requisições.</li>
+ *   <li>{@code sign-in}: por endereço do cliente, mais restrito, em POST /api/auth/signin e /api/auth/signup, que
+ *   executam o BCrypt.</li>
+ *   <li>{@code user}: por access token, nas requisições com header Authorization. Como o filtro executa antes da
+ *   validação do JWT, a chave é o SHA-256 (Base64 URL-safe, 43 caracteres) da assinatura do token e não o usuário:
+ *   um usuário só obtém outro token por sign in ou refresh, e um token forjado gera apenas um bucket novo, ainda
+ *   sujeito ao limite por IP. O hash mantém a chave com tamanho fixo independente do header enviado pelo cliente,
+ *   dentro de tb_rate_limit_bucket.bucket_key e sem aumentar a memória de cada bucket.</li>
+ * </ul>
+ * O endereço do cliente é {@code request.getRemoteAddr()}, atrás de um proxy é necessário configurar
+ * {@code server.forward-headers-strategy}. Requisições rejeitadas recebem status 429 com o header Retry-After.
+ */
+@RequiredArgsConstructor
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  private final RateLimitStore rateLimitStore;
+  private final TokenService tokenService;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${financesapi.rate-limit.enabled}")
+  private boolean enabled;
+  @Value("${financesapi.rate-limit.ip.capacity}")
+  private int ipCapacity;
+  @Value("${financesapi.rate-limit.ip.period}")
+  private Duration ipPeriod;
+  @Value("${financesapi.rate-limit.sign-in.capacity}")
+  private int signInCapacity;
+  @Value("${financesapi.rate-limit.sign-in.period}")
+  private Duration signInPeriod;
+  @Value("${financesapi.rate-limit.user.capacity}")
+  private int userCapacity;
+  @Value("${financesapi.rate-limit.user.period}")
+  private Duration userPeriod;
+
+  private RateLimit ipLimit;
+  private RateLimit signInLimit;
+  private RateLimit userLimit;
+  private Map<String, Counter> rejectedCounters;
+
+  @PostConstruct
+  void init() {
+    ipLimit = new RateLimit("ip", ipCapacity, ipPeriod);
+    signInLimit = new RateLimit("sign-in", signInCapacity, signInPeriod);
+    userLimit = new RateLimit("user", userCapacity, userPeriod);
+    rejectedCounters = Map.of(
+        ipLimit.name(), rejectedCounter(ipLimit),
+        signInLimit.name(), rejectedCounter(signInLimit),
+        userLimit.name(), rejectedCounter(userLimit));
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !enabled || !request.getRequestURI().startsWith("/api/");
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+
+    String address = request.getRemoteAddr();
+    if (tryConsume(address, ipLimit, response)
+        && (!isCredentialsRequest(request) || tryConsume(address, signInLimit, response))
+        && tryConsumeToken(request, response)) {
+      filterChain.doFilter(request, response);
+    }
+  }
+
+  private boolean tryConsumeToken(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    String token = tokenService.recoverToken(request);
+    if (token == null || token.isBlank()) return true;
+
+    return tryConsume(tokenKey(token), userLimit, response);
+  }
+
+  /**
+   * Chave do bucket por access token, o SHA-256 da assinatura (último segmento do JWT) em Base64 URL-safe.
+   */
+  private static String tokenKey(String token) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(token.substring(token.lastIndexOf('.') + 1).getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest());
+    } catch (NoSuchAlgorithmException exception) {
+      throw new IllegalStateException("SHA-256 is not available", exception);
+    }
+  }
+
+  /**
+   * Consome uma requisição do bucket e, caso rejeitada, escreve a resposta 429.
+   *
+   * @return true caso a requisição tenha sido permitida.
+   */
+  private boolean tryConsume(String key, RateLimit limit, HttpServletResponse response) throws IOException {
+    RateLimitStore.Decision decision = rateLimitStore.tryConsume(key, limit);
+    if (decision.allowed()) return true;
+
+    rejectedCounters.get(limit.name()).increment();
+    long retryAfterSeconds = Math.max(1, (decision.retryAfter().toMillis() + 999) / 1000);
+    ProblemDetail problemDetail = ProblemDetail.builder()
+        .type(URI.create(GlobalExceptionHandler.PROBLEM_DETAIL_URI))
+        .title("Too many requests")
+        .detail(String.format("Rate limit exceeded, retry after %d second(s)", retryAfterSeconds))
+        .status(HttpStatus.TOO_MANY_REQUESTS.value())
+        .timestamp(LocalDateTime.now())
+        .build();
+
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding("UTF-8");
+    objectMapper.writeValue(response.getOutputStream(), problemDetail);
+    return false;
+  }
+
+  private static boolean isCredentialsRequest(HttpServletRequest request) {
+    String uri = request.getRequestURI();
+    return HttpMethod.POST.matches(request.getMethod())
+        && (uri.equals("/api/auth/signin") || uri.equals("/api/auth/signup"));
+  }
+
+  private Counter rejectedCounter(RateLimit limit) {
+    return Counter.builder("financesapi.rate-limit.rejected")
+        .description("Requests rejected by the rate limit")
+        .tag("limit", limit.name())
+        .register(meterRegistry);
+  }
+
+}
@@ -0,0 +1,219 @@
+package br.com.emendes.financesapi.config.security.key;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.*;
+import java.security.interfaces.ECKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Chaves usadas para assinar e verificar os JWTs.<br>
+ * <br>
+ * As chaves são lidas na inicialização dos arquivos {@code <kid>.pem} em {@code financesapi.jwt.keys.location}, cada
+ * arquivo com a chave pública (PUBLIC KEY) e, opcionalmente, a privada (PRIVATE KEY, PKCS#8). São suportadas chaves
+ * EC P-256 (ES256) e Ed25519 (EdDSA). A chave {@code financesapi.jwt.keys.signing-kid} assina os novos tokens, todas
+ * as chaves públicas verificam, então a rotação é: publicar a nova chave, trocar o signing-kid e remover a chave
+ * antiga depois que os tokens assinados com ela expirarem.<br>
+ * <br>
+ * Sem location uma chave ES256 efêmera é gerada (desenvolvimento e testes), os tokens não sobrevivem a um restart.
+ * Com {@code financesapi.jwt.secret} os tokens HS256 sem kid, emitidos antes das chaves assimétricas, continuam
+ * válidos até expirarem.<br>
+ * <br>
+ * Chaves e JWKS são montados uma vez e imutáveis, a verificação é uma busca em um Map.
+ */
+@Slf4j
+@Component
+public class JwtKeyring {
+
+  private static final Pattern PEM_BLOCK =
+      Pattern.compile("-----BEGIN (PRIVATE KEY|PUBLIC KEY)-----([A-Za-z0-9+/=\\s]+)-----END \\1-----");
+  private static final Pattern KEY_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+  @Value("${financesapi.jwt.keys.location}")
+  private String location;
+
+  @Value("${financesapi.jwt.keys.signing-kid}")
+  private String signingKid;
+
+  @Value("${financesapi.jwt.secret:}")
+  private String legacySecret;
+
+  private SigningKey signingKey;
+  private Map<String, PublicKey> verificationKeys;
+  private SecretKey legacyKey;
+  private Map<String, Object> jwkSet;
+
+  /**
+   * Carrega as chaves e monta o JWKS.
+   *
+   * @throws IllegalStateException caso um arquivo seja inválido ou a chave de assinatura não exista.
+   */
+  @PostConstruct
+  public void load() {
+    Map<String, KeyPair> keyPairs = location == null || location.isBlank() ? generateEphemeral() : read();
+
+    KeyPair signingKeyPair = keyPairs.get(signingKid);
+    if (signingKeyPair == null || signingKeyPair.getPrivate() == null) {
+      throw new IllegalStateException(String.format("No private key found for signing kid %s in %s",
+          signingKid, location));
+    }
+    signingKey = new SigningKey(signingKid, signingKeyPair.getPrivate(), algorithm(signingKeyPair.getPublic()));
+
+    Map<String, PublicKey> publicKeys = new HashMap<>();
+    List<Map<String, ?>> jwks = new ArrayList<>();
+    keyPairs.forEach((kid, keyPair) -> {
+      publicKeys.put(kid, keyPair.getPublic());
+      jwks.add(Jwks.builder().key(keyPair.getPublic())
+          .id(kid)
+          .algorithm(algorithm(keyPair.getPublic()).getId())
+          .publicKeyUse("sig")
+          .build());
+    });
+    verificationKeys = Map.copyOf(publicKeys);
+    jwkSet = Map.of("keys", List.copyOf(jwks));
+    legacyKey = legacySecret == null || legacySecret.isBlank()
+        ? null : Keys.hmacShaKeyFor(legacySecret.getBytes(StandardCharsets.UTF_8));
+
+    log.info("JWT keyring loaded, signing with {} ({}), {} verification key(s){}", signingKid,
+        signingKey.algorithm().getId(), verificationKeys.size(), legacyKey == null ? "" : " and legacy HS256 secret");
+  }
+
+  /**
+   * @return chave que assina os novos tokens.
+   */
+  public SigningKey getSigningKey() {
+    return signingKey;
+  }
+
+  /**
+   * Busca a chave que verifica um token.
+   *
+   * @param kid kid do header do token, null para tokens HS256 legados.
+   * @return chave de verificação, ou null caso não exista.
+   */
+  public Key getVerificationKey(String kid) {
+    return kid == null ? legacyKey : verificationKeys.get(kid);
+  }
+
+  /**
+   * @return JWKS (RFC 7517) com as chaves públicas de verificação.
+   */
+  public Map<String, Object> getJwkSet() {
+    return jwkSet;
+  }
+
+  private Map<String, KeyPair> read() {
+    String directory = location.endsWith("/") ? location : location + "/";
+    Map<String, KeyPair> keyPairs = new TreeMap<>();
+    try {
+      for (Resource resource : new PathMatchingResourcePatternResolver().getResources(directory + "*.pem")) {
+        String filename = Objects.requireNonNull(resource.getFilename());
+        String kid = filename.substring(0, filename.length() - ".pem".length());
+        if (!KEY_ID.matcher(kid).matches()) {
+          throw new IllegalStateException("Invalid JWT key id: " + kid);
+        }
+        keyPairs.put(kid, parse(kid, resource.getContentAsString(StandardCharsets.UTF_8)));
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Could not read JWT keys from " + location, exception);
+    }
+    return keyPairs;
+  }
+
+  private Map<String, KeyPair> generateEphemeral() {
+    try {
+      KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+      generator.initialize(new ECGenParameterSpec("secp256r1"));
+      signingKid = "ephemeral-" + UUID.randomUUID().toString().substring(0, 8);
+      log.warn("financesapi.jwt.keys.location is not set, signing JWTs with ephemeral key {}", signingKid);
+      return Map.of(signingKid, generator.generateKeyPair());
+    } catch (GeneralSecurityException exception) {
+      throw new IllegalStateException("Could not generate ephemeral JWT key", exception);
+    }
+  }
+
+  /**
+   * Lê a chave pública e a privada (opcional) de um arquivo PEM.
+   */
+  private static KeyPair parse(String kid, String pem) {
+    PublicKey publicKey = null;
+    PrivateKey privateKey = null;
+    Matcher matcher = PEM_BLOCK.matcher(pem);
+    while (matcher.find()) {
+      byte[] der = Base64.getMimeDecoder().decode(matcher.group(2));
+      if (matcher.group(1).equals("PUBLIC KEY")) {
+        publicKey = decode(kid, kf -> kf.generatePublic(new X509EncodedKeySpec(der)));
+      } else {
+        privateKey = decode(kid, kf -> kf.generatePrivate(new PKCS8EncodedKeySpec(der)));
+      }
+    }
+    if (publicKey == null) {
+      throw new IllegalStateException(String.format("JWT key %s has no PUBLIC KEY block", kid));
+    }
+    if (privateKey != null && !privateKey.getAlgorithm().equals(publicKey.getAlgorithm())) {
+      throw new IllegalStateException(String.format("JWT key %s has keys of different algorithms", kid));
+    }
+    algorithm(publicKey);
+    return new KeyPair(publicKey, privateKey);
+  }
+
+  private static <K extends Key> K decode(String kid, KeyDecoder<K> decoder) {
+    for (String algorithm : List.of("EC", "Ed25519")) {
+      try {
+        return decoder.decode(KeyFactory.getInstance(algorithm));
+      } catch (InvalidKeySpecException | NoSuchAlgorithmException exception) {
+        // tenta o próximo algoritmo
+      }
+    }
+    throw new IllegalStateException(String.format("JWT key %s is not an EC or Ed25519 key", kid));
+  }
+
+  /**
+   * @return algoritmo de assinatura da chave.
+   * @throws IllegalStateException caso a chave não seja EC P-256 nem Ed25519.
+   */
+  private static SecureDigestAlgorithm<PrivateKey, PublicKey> algorithm(PublicKey publicKey) {
+    if (publicKey instanceof ECKey ecKey && ecKey.getParams().getCurve().getField().getFieldSize() == 256) {
+      return Jwts.SIG.ES256;
+    }
+    if (publicKey.getAlgorithm().equals("EdDSA") || publicKey.getAlgorithm().equals("Ed25519")) {
+      return Jwts.SIG.EdDSA;
+    }
+    throw new IllegalStateException("Unsupported JWT key, use EC P-256 or Ed25519: " + publicKey.getAlgorithm());
+  }
+
+  @FunctionalInterface
+  private interface KeyDecoder<K extends Key> {
+    K decode(KeyFactory keyFactory) throws InvalidKeySpecException;
+  }
+
+  /**
+   * Chave privada que assina os novos tokens.
+   *
+   * @param kid       identificador da chave, enviado no header kid.
+   * @param key       chave privada.
+   * @param algorithm algoritmo de assinatura.
+   */
+  public record SigningKey(String kid, PrivateKey key, SecureDigestAlgorithm<PrivateKey, PublicKey> algorithm) {
+  }
+
+}
@@ -0,0 +1,118 @@
+package br.com.emendes.financesapi.config.security.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Implementação de {@link RateLimitStore} em memória, sem bloqueios.<br>
+ * <br>
+ * Cada bucket é um único {@code AtomicLong} com o instante teórico de chegada (GCRA, equivalente a um token bucket):
+ * uma requisição avança o instante em period / capacity e é permitida enquanto ele não passar de agora + period. A
+ * atualização é um compareAndSet, então requisições da mesma chave não se bloqueiam, e o {@link ConcurrentHashMap}
+ * distribui as chaves entre as partições da tabela.<br>
+ * <br>
+ * Um bucket cujo instante já passou está cheio e pode ser removido sem mudar nenhuma decisão, então a memória é
+ * limitada removendo os buckets ociosos periodicamente e quando o mapa atinge {@code financesapi.rate-limit.max-keys}.
+ * Caso o mapa continue cheio, chaves novas são permitidas sem bucket (a chave por IP, verificada antes, continua
+ * limitando o cliente) e contadas em {@code financesapi.rate-limit.untracked}.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "financesapi.rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+  private final MeterRegistry meterRegistry;
+
+  @Value("${financesapi.rate-limit.max-keys}")
+  private int maxKeys;
+
+  private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+  private final AtomicBoolean evicting = new AtomicBoolean();
+  private LongSupplier nanoTime = System::nanoTime;
+  private Counter untrackedCounter;
+
+  @PostConstruct
+  void registerMetrics() {
+    Gauge.builder("financesapi.rate-limit.buckets", buckets, ConcurrentHashMap::size)
+        .description("Rate limit buckets held in memory")
+        .register(meterRegistry);
+    untrackedCounter = Counter.builder("financesapi.rate-limit.untracked")
+        .description("Requests allowed without a bucket because the bucket map was full")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Decision tryConsume(String key, RateLimit limit) {
+    long now = nanoTime.getAsLong();
+    AtomicLong bucket = bucket(limit.name() + ':' + key, now);
+    if (bucket == null) {
+      untrackedCounter.increment();
+      return Decision.allow(limit.capacity() - 1L);
+    }
+
+    long interval = limit.emissionIntervalNanos();
+    long period = limit.period().toNanos();
+    while (true) {
+      long arrival = bucket.get();
+      long nextArrival = Math.max(arrival, now) + interval;
+      long backlog = nextArrival - now;
+      if (backlog > period) {
+        return Decision.reject(Duration.ofNanos(backlog - period));
+      }
+      if (bucket.compareAndSet(arrival, nextArrival)) {
+        return Decision.allow((period - backlog) / interval);
+      }
+    }
+  }
+
+  /**
+   * Remove os buckets cheios. Uma requisição concorrente à remoção pode consumir do bucket removido e ter o consumo
+   * descartado, o cliente ganha no máximo uma requisição.
+   */
+  @Override
+  public int evictIdle() {
+    long now = nanoTime.getAsLong();
+    int before = buckets.size();
+    buckets.values().removeIf(arrival -> arrival.get() - now <= 0);
+    int evicted = before - buckets.size();
+    log.debug("{} idle rate limit bucket(s) evicted, {} left", evicted, buckets.size());
+    return Math.max(evicted, 0);
+  }
+
+  /**
+   * Busca ou cria o bucket da chave, com o mapa cheio remove os buckets ociosos antes de criar.
+   *
+   * @return bucket da chave, ou null caso o mapa continue cheio.
+   */
+  private AtomicLong bucket(String key, long now) {
+    AtomicLong bucket = buckets.get(key);
+    if (bucket != null) return bucket;
+
+    if (buckets.size() >= maxKeys) {
+      if (evicting.compareAndSet(false, true)) {
+        try {
+          evictIdle();
+        } finally {
+          evicting.set(false);
+        }
+      }
+      if (buckets.size() >= maxKeys) return null;
+    }
+    return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+  }
+
+}
@@ -0,0 +1,48 @@
+package br.com.emendes.financesapi.config.security.ratelimit;
+
+import br.com.emendes.financesapi.repository.RateLimitBucketRepository;
+import br.com.emendes.financesapi.repository.projection.RateLimitConsumption;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Implementação de {@link RateLimitStore} com os buckets em tb_rate_limit_bucket, compartilhados entre as
+ * instâncias.<br>
+ * <br>
+ * Cada verificação é um comando no banco e usa uma conexão do pool, então o limite por IP deve ser o primeiro a
+ * rejeitar um cliente abusivo. Sem a necessidade de um limite exato entre instâncias, o padrão
+ * ({@code financesapi.rate-limit.store=memory}) com o limite dividido pela quantidade de instâncias é mais barato.
+ */
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "financesapi.rate-limit.store", havingValue = "jdbc")
+public class JdbcRateLimitStore implements RateLimitStore {
+
+  private final RateLimitBucketRepository rateLimitBucketRepository;
+
+  @Override
+  public Decision tryConsume(String key, RateLimit limit) {
+    long interval = Math.max(1, limit.emissionIntervalNanos() / 1000);
+    long period = limit.period().toNanos() / 1000;
+
+    RateLimitConsumption consumption = rateLimitBucketRepository.consume(limit.name() + ':' + key, interval, period);
+    if (consumption.getArrival() != null) {
+      long backlog = consumption.getArrival() - consumption.getNow();
+      return Decision.allow(Math.max(0, (period - backlog) / interval));
+    }
+    long previousArrival = consumption.getPreviousArrival() == null
+        ? consumption.getNow() : consumption.getPreviousArrival();
+    long retryAfter = Math.max(0, previousArrival + interval - consumption.getNow() - period);
+    return Decision.reject(Duration.of(retryAfter, ChronoUnit.MICROS));
+  }
+
+  @Override
+  public int evictIdle() {
+    return rateLimitBucketRepository.deleteIdle();
+  }
+
+}
@@ -0,0 +1,28 @@
+package br.com.emendes.financesapi.config.security.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Limite de requisições de um token bucket: até {@code capacity} requisições em rajada, com o bucket reabastecido
+ * por completo a cada {@code period} (uma requisição a cada period / capacity).
+ *
+ * @param name     nome do limite, usado no prefixo das chaves e nas métricas.
+ * @param capacity quantidade máxima de requisições em rajada.
+ * @param period   tempo para reabastecer o bucket vazio.
+ */
+public record RateLimit(String name, int capacity, Duration period) {
+
+  public RateLimit {
+    if (capacity <= 0 || period.isNegative() || period.isZero()) {
+      throw new IllegalArgumentException(String.format("Invalid rate limit %s: %d per %s", name, capacity, period));
+    }
+  }
+
+  /**
+   * @return intervalo, em nanossegundos, entre duas requisições com o bucket vazio.
+   */
+  public long emissionIntervalNanos() {
+    return period.toNanos() / capacity;
+  }
+
+}
@@ -0,0 +1,49 @@
+package br.com.emendes.financesapi.config.security.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Interface com as abstrações do armazenamento dos token buckets usados por
+ * {@link br.com.emendes.financesapi.config.security.filter.RateLimitFilter}.<br>
+ * <br>
+ * A implementação é escolhida por {@code financesapi.rate-limit.store}: {@code memory} (padrão) mantém os buckets
+ * na instância, {@code jdbc} compartilha os buckets entre as instâncias pelo banco de dados.
+ */
+public interface RateLimitStore {
+
+  /**
+   * Consome uma requisição do bucket da chave no dado limite.
+   *
+   * @param key   chave do bucket (IP ou token), sem o nome do limite.
+   * @param limit limite aplicado.
+   * @return decisão com a quantidade de requisições restantes ou o tempo até a próxima ser permitida.
+   */
+  Decision tryConsume(String key, RateLimit limit);
+
+  /**
+   * Remove os buckets cheios (sem requisições recentes), equivalentes a um bucket ainda não criado.
+   *
+   * @return quantidade de buckets removidos.
+   */
+  int evictIdle();
+
+  /**
+   * Resultado de {@link #tryConsume(String, RateLimit)}.
+   *
+   * @param allowed    true caso a requisição seja permitida.
+   * @param remaining  requisições que ainda podem ser feitas em rajada.
+   * @param retryAfter tempo até a próxima requisição ser permitida, zero quando permitida.
+   */
+  record Decision(boolean allowed, long remaining, Duration retryAfter) {
+
+    public static Decision allow(long remaining) {
+      return new Decision(true, remaining, Duration.ZERO);
+    }
+
+    public static Decision reject(Duration retryAfter) {
+      return new Decision(false, 0, retryAfter);
+    }
+
+  }
+
+}
@@ -1,8 +1,12 @@
 package br.com.emendes.financesapi.config.security.service;
 
+import br.com.emendes.financesapi.model.entity.User;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.security.core.Authentication;
 
+import java.time.Instant;
+import java.util.Optional;
+
 /**
  * Interface service com as abstrações para manipular Json Web Token (JWT).
  */
@@ -16,6 +20,19 @@ public interface TokenService {
    */
   String generateToken(Authentication authentication);
 
+  /**
+   * Gera um JWT de acesso para o usuário, com um jti único e validade de {@code financesapi.jwt.expiration}.
+   *
+   * @param user usuário a quem pertencerá o JWT.
+   * @return String no padrão JWT.
+   */
+  String generateToken(User user);
+
+  /**
+   * @return validade, em segundos, dos JWTs gerados.
+   */
+  long getExpiresInSeconds();
+
   /**
    * Verifica se um JWT é válido.
    *
@@ -32,6 +49,14 @@ public interface TokenService {
    */
   Long getUserId(String token);
 
+  /**
+   * Verifica o JWT e extrai as informações usadas na autenticação, com uma única verificação da assinatura.
+   *
+   * @param token string que representa o JWT.
+   * @return AccessToken com jti, usuário e expiração, ou vazio caso o JWT seja inválido.
+   */
+  Optional<AccessToken> decode(String token);
+
   /**
    * Recupera o JWT do objeto HttpServelRequest.
    *
@@ -40,4 +65,14 @@ public interface TokenService {
    */
   String recoverToken(HttpServletRequest request);
 
+  /**
+   * Informações de um JWT de acesso válido.
+   *
+   * @param id         jti do JWT, null para JWTs gerados sem jti.
+   * @param userId     identificador do usuário.
+   * @param expiration momento em que o JWT expira.
+   */
+  record AccessToken(String id, Long userId, Instant expiration) {
+  }
+
 }
@@ -1,53 +1,83 @@
 package br.com.emendes.financesapi.config.security.service;
 
+import br.com.emendes.financesapi.config.security.key.JwtKeyring;
 import br.com.emendes.financesapi.model.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.LocatorAdapter;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
- * Implementação de {@link TokenService}.
+ * Implementação de {@link TokenService}.<br>
+ * <br>
+ * Os JWTs são assinados com a chave de assinatura de {@link JwtKeyring} e levam o kid no header. O parser é criado
+ * uma vez e escolhe a chave de verificação pelo kid, sem criar chaves a cada requisição.
  */
+@RequiredArgsConstructor
 @Service
 public class TokenServiceImpl implements TokenService {
 
+  private final JwtKeyring jwtKeyring;
+
   @Value("${financesapi.jwt.expiration}")
   private String expiration;
 
-  @Value("${financesapi.jwt.secret}")
-  private String secret;
+  private JwtParser parser;
+
+  @PostConstruct
+  void buildParser() {
+    parser = Jwts.parser()
+        .keyLocator(new LocatorAdapter<>() {
+          @Override
+          protected Key locate(JwsHeader header) {
+            return jwtKeyring.getVerificationKey(header.getKeyId());
+          }
+        })
+        .build();
+  }
 
   @Override
   public String generateToken(Authentication authentication) {
-    User logged = (User) authentication.getPrincipal();
+    return generateToken((User) authentication.getPrincipal());
+  }
+
+  @Override
+  public String generateToken(User user) {
     Date now = new Date();
     Date expirationDate = new Date(now.getTime() + Long.parseLong(expiration));
+    JwtKeyring.SigningKey signingKey = jwtKeyring.getSigningKey();
 
     return Jwts.builder()
-        .subject(logged.getId().toString())
+        .header().keyId(signingKey.kid()).and()
+        .id(UUID.randomUUID().toString())
+        .subject(user.getId().toString())
         .issuedAt(now)
         .expiration(expirationDate)
         .issuer("Finances API")
-        .signWith(getSigningKey())
+        .signWith(signingKey.key(), signingKey.algorithm())
         .compact();
   }
 
+  @Override
+  public long getExpiresInSeconds() {
+    return Long.parseLong(expiration) / 1000;
+  }
+
   @Override
   public boolean isTokenValid(String token) {
-    try {
-      extractAllClaims(token);
-      return true;
-    } catch (Exception e) {
-      return false;
-    }
+    return decode(token).isPresent();
   }
 
   @Override
@@ -56,6 +86,18 @@ public class TokenServiceImpl implements TokenService {
     return Long.parseLong(claims.getSubject());
   }
 
+  @Override
+  public Optional<AccessToken> decode(String token) {
+    if (token == null || token.isBlank()) return Optional.empty();
+    try {
+      Claims claims = extractAllClaims(token);
+      return Optional.of(new AccessToken(
+          claims.getId(), Long.parseLong(claims.getSubject()), claims.getExpiration().toInstant()));
+    } catch (Exception e) {
+      return Optional.empty();
+    }
+  }
+
   @Override
   public String recoverToken(HttpServletRequest request) {
     String token = request.getHeader("Authorization");
@@ -65,12 +107,8 @@ public class TokenServiceImpl implements TokenService {
     return token.substring(7);
   }
 
-  private SecretKey getSigningKey() {
-    return Keys.hmacShaKeyFor(this.secret.getBytes(StandardCharsets.UTF_8));
-  }
-
   private Claims extractAllClaims(String token) {
-    return Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token).getPayload();
+    return parser.parseSignedClaims(token).getPayload();
   }
 
 }
@@ -0,0 +1,58 @@
+package br.com.emendes.financesapi.controller;
+
+import br.com.emendes.financesapi.controller.openapi.AnalyticsControllerOpenAPI;
+import br.com.emendes.financesapi.dto.response.BalanceSeriesResponse;
+import br.com.emendes.financesapi.dto.response.CategoryTrendsResponse;
+import br.com.emendes.financesapi.service.AnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Classe controller para lidar com os endpoints /api/analytics/**.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping(value = "/api/analytics", produces = "application/json;charset=UTF-8")
+public class AnalyticsController implements AnalyticsControllerOpenAPI {
+
+  private final AnalyticsService analyticsService;
+
+  /**
+   * Método responsável por GET /api/analytics/balance.
+   *
+   * @param from        primeiro dia da série (yyyy-MM-dd).
+   * @param to          último dia da série (yyyy-MM-dd).
+   * @param granularity tamanho dos períodos (day, week ou month), parâmetro opcional.
+   * @param currency    moeda dos valores, parâmetro opcional.
+   */
+  @Override
+  @GetMapping("/balance")
+  public ResponseEntity<BalanceSeriesResponse> balance(
+      @RequestParam(name = "from") String from,
+      @RequestParam(name = "to") String to,
+      @RequestParam(name = "granularity", defaultValue = "month") String granularity,
+      @RequestParam(name = "currency", required = false) String currency) {
+    return ResponseEntity.ok(analyticsService.balance(from, to, granularity, currency));
+  }
+
+  /**
+   * Método responsável por GET /api/analytics/categories.
+   *
+   * @param from     primeiro mês (yyyy-MM).
+   * @param to       último mês (yyyy-MM).
+   * @param currency moeda dos valores, parâmetro opcional.
+   */
+  @Override
+  @GetMapping("/categories")
+  public ResponseEntity<CategoryTrendsResponse> categories(
+      @RequestParam(name = "from") String from,
+      @RequestParam(name = "to") String to,
+      @RequestParam(name = "currency", required = false) String currency) {
+    return ResponseEntity.ok(analyticsService.categories(from, to, currency));
+  }
+
+}
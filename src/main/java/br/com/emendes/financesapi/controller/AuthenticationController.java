@@ -1,18 +1,19 @@
 package br.com.emendes.financesapi.controller;
 
+import br.com.emendes.financesapi.config.security.service.TokenService;
 import br.com.emendes.financesapi.controller.openapi.AuthenticationControllerOpenAPI;
+import br.com.emendes.financesapi.dto.request.RefreshTokenRequest;
 import br.com.emendes.financesapi.dto.request.SignInRequest;
 import br.com.emendes.financesapi.dto.request.SignupRequest;
 import br.com.emendes.financesapi.dto.response.TokenResponse;
 import br.com.emendes.financesapi.dto.response.UserResponse;
 import br.com.emendes.financesapi.service.AuthenticationService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
@@ -26,6 +27,7 @@ import java.net.URI;
 public class AuthenticationController implements AuthenticationControllerOpenAPI {
 
   private final AuthenticationService authService;
+  private final TokenService tokenService;
 
   /**
    * Método responsável por POST /api/auth/signin.
@@ -54,4 +56,28 @@ public class AuthenticationController implements AuthenticationControllerOpenAPI
     return ResponseEntity.created(uri).body(userResponse);
   }
 
+  /**
+   * Método responsável por POST /api/auth/refresh.
+   *
+   * @param refreshTokenRequest objeto contendo o refresh token.
+   */
+  @Override
+  @PostMapping("/refresh")
+  public ResponseEntity<TokenResponse> refresh(@RequestBody @Valid RefreshTokenRequest refreshTokenRequest) {
+    return ResponseEntity.ok(authService.refresh(refreshTokenRequest));
+  }
+
+  /**
+   * Método responsável por POST /api/auth/signout.
+   *
+   * @param refreshTokenRequest objeto contendo o refresh token.
+   * @param request             requisição de onde é lido o access token do header Authorization.
+   */
+  @Override
+  @ResponseStatus(HttpStatus.NO_CONTENT)
+  @PostMapping("/signout")
+  public void signOut(@RequestBody @Valid RefreshTokenRequest refreshTokenRequest, HttpServletRequest request) {
+    authService.signOut(refreshTokenRequest, tokenService.recoverToken(request));
+  }
+
 }
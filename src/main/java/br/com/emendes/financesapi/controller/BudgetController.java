@@ -0,0 +1,73 @@
+package br.com.emendes.financesapi.controller;
+
+import br.com.emendes.financesapi.controller.openapi.BudgetControllerOpenAPI;
+import br.com.emendes.financesapi.dto.request.BudgetRequest;
+import br.com.emendes.financesapi.dto.response.BudgetResponse;
+import br.com.emendes.financesapi.service.BudgetService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Classe controller para lidar com os endpoints /api/budgets/**.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping(value = "/api/budgets", produces = "application/json;charset=UTF-8")
+public class BudgetController implements BudgetControllerOpenAPI {
+
+  private final BudgetService budgetService;
+
+  /**
+   * Método responsável por GET /api/budgets/{year}/{month}.
+   *
+   * @param year  ano dos orçamentos a serem buscados.
+   * @param month mês dos orçamentos a serem buscados.
+   */
+  @Override
+  @GetMapping("/{year}/{month}")
+  public ResponseEntity<List<BudgetResponse>> readByYearAndMonth(
+      @PathVariable(name = "year") int year, @PathVariable(name = "month") int month) {
+    return ResponseEntity.ok(budgetService.readByYearAndMonth(year, month));
+  }
+
+  /**
+   * Método responsável por PUT /api/budgets/{year}/{month}/{category}.
+   *
+   * @param year          ano do orçamento.
+   * @param month         mês do orçamento.
+   * @param category      categoria do orçamento.
+   * @param budgetRequest objeto com o limite do orçamento.
+   */
+  @Override
+  @PutMapping("/{year}/{month}/{category}")
+  public ResponseEntity<BudgetResponse> save(
+      @PathVariable(name = "year") int year,
+      @PathVariable(name = "month") int month,
+      @PathVariable(name = "category") String category,
+      @Valid @RequestBody BudgetRequest budgetRequest) {
+    return ResponseEntity.ok(budgetService.save(year, month, category, budgetRequest));
+  }
+
+  /**
+   * Método responsável por DELETE /api/budgets/{year}/{month}/{category}.
+   *
+   * @param year     ano do orçamento.
+   * @param month    mês do orçamento.
+   * @param category categoria do orçamento.
+   */
+  @Override
+  @DeleteMapping("/{year}/{month}/{category}")
+  public ResponseEntity<Void> delete(
+      @PathVariable(name = "year") int year,
+      @PathVariable(name = "month") int month,
+      @PathVariable(name = "category") String category) {
+    budgetService.delete(year, month, category);
+    return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+  }
+
+}
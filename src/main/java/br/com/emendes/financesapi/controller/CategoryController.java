@@ -1,13 +1,14 @@
 package br.com.emendes.financesapi.controller;
 
 import br.com.emendes.financesapi.controller.openapi.CategoryControllerOpenAPI;
+import br.com.emendes.financesapi.dto.request.CategoryRequest;
 import br.com.emendes.financesapi.dto.response.CategoryResponse;
 import br.com.emendes.financesapi.service.CategoryService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
@@ -30,4 +31,27 @@ public class CategoryController implements CategoryControllerOpenAPI {
     return ResponseEntity.ok(categoryService.fetchAllCategories());
   }
 
+  /**
+   * Método responsável por POST /api/categories.
+   *
+   * @param categoryRequest objeto com o nome da categoria a ser criada.
+   */
+  @Override
+  @PostMapping
+  public ResponseEntity<CategoryResponse> create(@Valid @RequestBody CategoryRequest categoryRequest) {
+    return ResponseEntity.status(HttpStatus.CREATED).body(categoryService.create(categoryRequest));
+  }
+
+  /**
+   * Método responsável por DELETE /api/categories/{category}.
+   *
+   * @param category nome da categoria a ser deletada.
+   */
+  @Override
+  @DeleteMapping("/{category}")
+  public ResponseEntity<Void> delete(@PathVariable(name = "category") String category) {
+    categoryService.delete(category);
+    return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+  }
+
 }
@@ -3,6 +3,7 @@ package br.com.emendes.financesapi.controller;
 import br.com.emendes.financesapi.controller.openapi.ExpenseControllerOpenAPI;
 import br.com.emendes.financesapi.dto.request.ExpenseRequest;
 import br.com.emendes.financesapi.dto.response.ExpenseResponse;
+import br.com.emendes.financesapi.dto.response.PageResponse;
 import br.com.emendes.financesapi.service.ExpenseService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.util.Set;
 
 /**
  * Classe controller para lidar com os endpoints /api/expenses/**.
@@ -45,21 +47,27 @@ public class ExpenseController implements ExpenseControllerOpenAPI {
    * Método responsável por GET /api/expenses.
    *
    * @param description descrição das despesas a serem buscadas, parâmetro opcional.
+   * @param fields      campos de ExpenseResponse a serem retornados (além do id), parâmetro opcional.
    */
   @Override
   @GetMapping
-  public ResponseEntity<Page<ExpenseResponse>> read(
+  public ResponseEntity<PageResponse<ExpenseResponse>> read(
       @RequestParam(name = "description", required = false) String description,
+      @RequestParam(name = "fields", required = false) Set<String> fields,
       @PageableDefault(sort = "date", direction = Direction.DESC) Pageable pageable) {
     Page<ExpenseResponse> expensesDto;
 
-    if (description == null) {
+    if (description == null && isEmpty(fields)) {
       expensesDto = expenseService.readAllByUser(pageable);
-    } else {
+    } else if (description == null) {
+      expensesDto = expenseService.readAllByUser(fields, pageable);
+    } else if (isEmpty(fields)) {
       expensesDto = expenseService.readByDescriptionAndUser(description, pageable);
+    } else {
+      expensesDto = expenseService.readByDescriptionAndUser(description, fields, pageable);
     }
     return ResponseEntity.status(HttpStatus.OK)
-        .body(expensesDto);
+        .body(PageResponse.of(expensesDto));
   }
 
   /**
@@ -79,19 +87,23 @@ public class ExpenseController implements ExpenseControllerOpenAPI {
   /**
    * Método responsável por GET /api/expenses/{year}/{month}.
    *
-   * @param year  ano das despesas a serem buscadas.
-   * @param month mês das despesas a serem buscadas.
+   * @param year   ano das despesas a serem buscadas.
+   * @param month  mês das despesas a serem buscadas.
+   * @param fields campos de ExpenseResponse a serem retornados (além do id), parâmetro opcional.
    */
   @Override
   @GetMapping("/{year}/{month}")
-  public ResponseEntity<Page<ExpenseResponse>> readByYearAndMonth(
+  public ResponseEntity<PageResponse<ExpenseResponse>> readByYearAndMonth(
       @PathVariable(name = "year") int year,
       @PathVariable(name = "month") int month,
+      @RequestParam(name = "fields", required = false) Set<String> fields,
       @PageableDefault(sort = "date", direction = Direction.DESC) Pageable pageable) {
-    Page<ExpenseResponse> expensesDto = expenseService.readByYearAndMonthAndUser(year, month, pageable);
+    Page<ExpenseResponse> expensesDto = isEmpty(fields)
+        ? expenseService.readByYearAndMonthAndUser(year, month, pageable)
+        : expenseService.readByYearAndMonthAndUser(year, month, fields, pageable);
 
     return ResponseEntity.status(HttpStatus.OK)
-        .body(expensesDto);
+        .body(PageResponse.of(expensesDto));
   }
 
   /**
@@ -122,4 +134,8 @@ public class ExpenseController implements ExpenseControllerOpenAPI {
     return new ResponseEntity<>(HttpStatus.NO_CONTENT);
   }
 
+  private static boolean isEmpty(Set<String> fields) {
+    return fields == null || fields.isEmpty();
+  }
+
 }
@@ -3,6 +3,7 @@ package br.com.emendes.financesapi.controller;
 import br.com.emendes.financesapi.controller.openapi.IncomeControllerOpenAPI;
 import br.com.emendes.financesapi.dto.request.IncomeRequest;
 import br.com.emendes.financesapi.dto.response.IncomeResponse;
+import br.com.emendes.financesapi.dto.response.PageResponse;
 import br.com.emendes.financesapi.service.IncomeService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.util.Set;
 
 @RequiredArgsConstructor
 @RestController
@@ -34,19 +36,24 @@ public class IncomeController implements IncomeControllerOpenAPI {
 
   @Override
   @GetMapping
-  public ResponseEntity<Page<IncomeResponse>> read(
+  public ResponseEntity<PageResponse<IncomeResponse>> read(
       @RequestParam(required = false) String description,
+      @RequestParam(name = "fields", required = false) Set<String> fields,
       @PageableDefault(sort = "date", direction = Direction.DESC) Pageable pageable) {
 
     Page<IncomeResponse> incomesDto;
-    if (description == null) {
+    if (description == null && isEmpty(fields)) {
       incomesDto = incomeService.readAllByUser(pageable);
-    } else {
+    } else if (description == null) {
+      incomesDto = incomeService.readAllByUser(fields, pageable);
+    } else if (isEmpty(fields)) {
       incomesDto = incomeService.readByDescriptionAndUser(description, pageable);
+    } else {
+      incomesDto = incomeService.readByDescriptionAndUser(description, fields, pageable);
     }
 
     return ResponseEntity.status(HttpStatus.OK)
-        .body(incomesDto);
+        .body(PageResponse.of(incomesDto));
   }
 
   @Override
@@ -59,13 +66,16 @@ public class IncomeController implements IncomeControllerOpenAPI {
 
   @Override
   @GetMapping("/{year}/{month}")
-  public ResponseEntity<Page<IncomeResponse>> readByYearAndMonth(
+  public ResponseEntity<PageResponse<IncomeResponse>> readByYearAndMonth(
       @PathVariable(name = "year") int year,
       @PathVariable(name = "month") int month,
+      @RequestParam(name = "fields", required = false) Set<String> fields,
       @PageableDefault(sort = "date", direction = Direction.DESC) Pageable pageable) {
-    Page<IncomeResponse> incomesDto = incomeService.readByYearAndMonthAndUser(year, month, pageable);
+    Page<IncomeResponse> incomesDto = isEmpty(fields)
+        ? incomeService.readByYearAndMonthAndUser(year, month, pageable)
+        : incomeService.readByYearAndMonthAndUser(year, month, fields, pageable);
     return ResponseEntity.status(HttpStatus.OK)
-        .body(incomesDto);
+        .body(PageResponse.of(incomesDto));
   }
 
   @Override
@@ -83,4 +93,8 @@ public class IncomeController implements IncomeControllerOpenAPI {
     return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
   }
 
+  private static boolean isEmpty(Set<String> fields) {
+    return fields == null || fields.isEmpty();
+  }
+
 }
@@ -0,0 +1,42 @@
+package br.com.emendes.financesapi.controller;
+
+import br.com.emendes.financesapi.config.security.key.JwtKeyring;
+import br.com.emendes.financesapi.controller.openapi.JwksControllerOpenAPI;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Classe controller para lidar com o endpoint /.well-known/jwks.json.<br>
+ * <br>
+ * O JWKS só muda com um restart (troca de chaves), então a resposta tem Cache-Control público e ETag.
+ */
+@RequiredArgsConstructor
+@RestController
+public class JwksController implements JwksControllerOpenAPI {
+
+  private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(15)).cachePublic();
+
+  private final JwtKeyring jwtKeyring;
+
+  /**
+   * Método responsável por GET /.well-known/jwks.json.
+   */
+  @Override
+  @GetMapping(value = "/.well-known/jwks.json", produces = "application/jwk-set+json;charset=UTF-8")
+  public ResponseEntity<Map<String, Object>> jwks(WebRequest request) {
+    Map<String, Object> jwkSet = jwtKeyring.getJwkSet();
+    String eTag = "\"" + Integer.toHexString(jwkSet.hashCode()) + "\"";
+    if (request.checkNotModified(eTag)) {
+      return ResponseEntity.status(304).cacheControl(CACHE_CONTROL).eTag(eTag).build();
+    }
+    return ResponseEntity.ok().cacheControl(CACHE_CONTROL).eTag(eTag).body(jwkSet);
+  }
+
+}
@@ -0,0 +1,77 @@
+package br.com.emendes.financesapi.controller;
+
+import br.com.emendes.financesapi.controller.openapi.RecurringRuleControllerOpenAPI;
+import br.com.emendes.financesapi.dto.request.RecurringRuleRequest;
+import br.com.emendes.financesapi.dto.response.PageResponse;
+import br.com.emendes.financesapi.dto.response.RecurringRuleResponse;
+import br.com.emendes.financesapi.service.RecurringRuleService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+
+/**
+ * Classe controller para lidar com os endpoints /api/recurring-rules/**.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping(value = "/api/recurring-rules", produces = "application/json;charset=UTF-8")
+public class RecurringRuleController implements RecurringRuleControllerOpenAPI {
+
+  private final RecurringRuleService recurringRuleService;
+
+  /**
+   * Método responsável por POST /api/recurring-rules.
+   *
+   * @param recurringRuleRequest objeto contendo os dados de registro da regra de recorrência.
+   */
+  @Override
+  @PostMapping
+  public ResponseEntity<RecurringRuleResponse> create(
+      @Valid @RequestBody RecurringRuleRequest recurringRuleRequest, UriComponentsBuilder uriBuilder) {
+    RecurringRuleResponse recurringRuleResponse = recurringRuleService.create(recurringRuleRequest);
+    URI uri = uriBuilder.path("/api/recurring-rules/{id}").buildAndExpand(recurringRuleResponse.getId()).toUri();
+    return ResponseEntity.created(uri).body(recurringRuleResponse);
+  }
+
+  /**
+   * Método responsável por GET /api/recurring-rules.
+   */
+  @Override
+  @GetMapping
+  public ResponseEntity<PageResponse<RecurringRuleResponse>> read(@PageableDefault(sort = "id") Pageable pageable) {
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(PageResponse.of(recurringRuleService.readAllByUser(pageable)));
+  }
+
+  /**
+   * Método responsável por GET /api/recurring-rules/{id}.
+   *
+   * @param id identificador da regra de recorrência a ser buscada.
+   */
+  @Override
+  @GetMapping("/{id}")
+  public ResponseEntity<RecurringRuleResponse> readById(@PathVariable(name = "id") Long id) {
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(recurringRuleService.readByIdAndUser(id));
+  }
+
+  /**
+   * Método responsável por DELETE /api/recurring-rules/{id}.
+   *
+   * @param id identificador da regra de recorrência a ser deletada.
+   */
+  @Override
+  @DeleteMapping("/{id}")
+  public ResponseEntity<Void> delete(@PathVariable(name = "id") Long id) {
+    recurringRuleService.deleteById(id);
+    return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+  }
+
+}
@@ -8,6 +8,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RequiredArgsConstructor
@@ -19,8 +20,11 @@ public class SummaryController implements SummaryControllerOpenAPI {
 
   @Override
   @GetMapping("/{year}/{month}")
-  public ResponseEntity<SummaryResponse> monthSummary(@PathVariable int year, @PathVariable int month) {
-    SummaryResponse summaryResponse = summaryService.monthSummary(year, month);
+  public ResponseEntity<SummaryResponse> monthSummary(
+      @PathVariable int year,
+      @PathVariable int month,
+      @RequestParam(name = "currency", required = false) String currency) {
+    SummaryResponse summaryResponse = summaryService.monthSummary(year, month, currency);
 
     return ResponseEntity.ok(summaryResponse);
   }
@@ -0,0 +1,37 @@
+package br.com.emendes.financesapi.controller;
+
+import br.com.emendes.financesapi.controller.openapi.SyncControllerOpenAPI;
+import br.com.emendes.financesapi.dto.response.SyncResponse;
+import br.com.emendes.financesapi.service.SyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Classe controller para lidar com os endpoints /api/sync/**.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping(value = "/api/sync", produces = "application/json;charset=UTF-8")
+public class SyncController implements SyncControllerOpenAPI {
+
+  private final SyncService syncService;
+
+  /**
+   * Método responsável por GET /api/sync.
+   *
+   * @param since token retornado pela sincronização anterior, parâmetro opcional.
+   * @param size  quantidade máxima de alterações retornadas, parâmetro opcional.
+   */
+  @Override
+  @GetMapping
+  public ResponseEntity<SyncResponse> sync(
+      @RequestParam(name = "since", defaultValue = "0") long since,
+      @RequestParam(name = "size", defaultValue = "500") int size) {
+    return ResponseEntity.ok(syncService.sync(since, size));
+  }
+
+}
@@ -0,0 +1,39 @@
+package br.com.emendes.financesapi.controller;
+
+import br.com.emendes.financesapi.controller.openapi.TransactionControllerOpenAPI;
+import br.com.emendes.financesapi.dto.response.TimelineResponse;
+import br.com.emendes.financesapi.service.TransactionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Classe controller para lidar com os endpoints /api/transactions/**.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping(value = "/api/transactions", produces = "application/json;charset=UTF-8")
+public class TransactionController implements TransactionControllerOpenAPI {
+
+  private final TransactionService transactionService;
+
+  /**
+   * Método responsável por GET /api/transactions.
+   *
+   * @param cursor   cursor retornado pela página anterior, parâmetro opcional.
+   * @param size     quantidade máxima de transações retornadas, parâmetro opcional.
+   * @param currency moeda dos saldos, parâmetro opcional.
+   */
+  @Override
+  @GetMapping
+  public ResponseEntity<TimelineResponse> timeline(
+      @RequestParam(name = "cursor", required = false) String cursor,
+      @RequestParam(name = "size", defaultValue = "20") int size,
+      @RequestParam(name = "currency", required = false) String currency) {
+    return ResponseEntity.ok(transactionService.timeline(cursor, size, currency));
+  }
+
+}
@@ -2,12 +2,12 @@ package br.com.emendes.financesapi.controller;
 
 import br.com.emendes.financesapi.controller.openapi.UserControllerOpenAPI;
 import br.com.emendes.financesapi.dto.request.ChangePasswordRequest;
+import br.com.emendes.financesapi.dto.response.PageResponse;
 import br.com.emendes.financesapi.dto.response.UserResponse;
 import br.com.emendes.financesapi.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PageableDefault;
@@ -24,9 +24,9 @@ public class UserController implements UserControllerOpenAPI {
 
   @Override
   @GetMapping
-  public ResponseEntity<Page<UserResponse>> readAll(
+  public ResponseEntity<PageResponse<UserResponse>> readAll(
       @PageableDefault(sort = "id", direction = Direction.ASC) Pageable pageable) {
-    return ResponseEntity.ok(userService.read(pageable));
+    return ResponseEntity.ok(PageResponse.of(userService.read(pageable)));
   }
 
   @Override
@@ -0,0 +1,49 @@
+package br.com.emendes.financesapi.controller.openapi;
+
+import br.com.emendes.financesapi.dto.problem.ProblemDetail;
+import br.com.emendes.financesapi.dto.response.BalanceSeriesResponse;
+import br.com.emendes.financesapi.dto.response.CategoryTrendsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+
+@SecurityRequirement(name = "bearer-key")
+@Tag(name = "Análises")
+public interface AnalyticsControllerOpenAPI {
+
+  @Operation(summary = "Buscar a série do saldo acumulado entre from e to na moeda currency " +
+      "(padrão: moeda base do usuário)")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Série calculada"),
+      @ApiResponse(responseCode = "400",
+          description = "Bad request - Período, granularidade ou moeda inválidos, ou série com mais de 1000 pontos",
+          content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class))}),
+      @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+  })
+  ResponseEntity<BalanceSeriesResponse> balance(
+      @Parameter(description = "Primeiro dia da série (yyyy-MM-dd)", example = "2023-01-01") String from,
+      @Parameter(description = "Último dia da série (yyyy-MM-dd)", example = "2023-12-31") String to,
+      @Parameter(description = "Tamanho dos períodos: day, week ou month", example = "month") String granularity,
+      String currency);
+
+  @Operation(summary = "Buscar o total gasto por categoria em cada mês entre from e to, com a variação mensal e a " +
+      "média, na moeda currency (padrão: moeda base do usuário)")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Totais calculados"),
+      @ApiResponse(responseCode = "400",
+          description = "Bad request - Período ou moeda inválidos, ou período com mais de 24 meses",
+          content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class))}),
+      @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+  })
+  ResponseEntity<CategoryTrendsResponse> categories(
+      @Parameter(description = "Primeiro mês (yyyy-MM)", example = "2023-01") String from,
+      @Parameter(description = "Último mês (yyyy-MM)", example = "2023-12") String to,
+      String currency);
+
+}
@@ -2,6 +2,7 @@ package br.com.emendes.financesapi.controller.openapi;
 
 import br.com.emendes.financesapi.dto.response.TokenResponse;
 import br.com.emendes.financesapi.dto.response.UserResponse;
+import br.com.emendes.financesapi.dto.request.RefreshTokenRequest;
 import br.com.emendes.financesapi.dto.request.SignInRequest;
 import br.com.emendes.financesapi.dto.request.SignupRequest;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,6 +11,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -19,7 +21,8 @@ public interface AuthenticationControllerOpenAPI {
   @Operation(summary = "Logar um usuário")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200",
-          description = "Logado com sucesso, retorna o token que deve ser enviado a cada requisição.",
+          description = "Logado com sucesso, retorna o token que deve ser enviado a cada requisição e o refresh token " +
+              "para obter um novo token quando ele expirar.",
           content = {@Content(mediaType = "application/json", schema = @Schema(implementation = TokenResponse.class))}),
       @ApiResponse(responseCode = "400", description = "Bad request - Algum parâmetro do corpo da requisição inválido",
           content = @Content),
@@ -36,4 +39,24 @@ public interface AuthenticationControllerOpenAPI {
   })
   ResponseEntity<UserResponse> register(SignupRequest signupRequest, UriComponentsBuilder uriBuilder);
 
+  @Operation(summary = "Trocar o refresh token por um novo token",
+      description = "O refresh token enviado deixa de ser válido, use o refresh token retornado na próxima troca.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Token renovado com sucesso",
+          content = {@Content(mediaType = "application/json", schema = @Schema(implementation = TokenResponse.class))}),
+      @ApiResponse(responseCode = "400", description = "Bad request - Algum parâmetro do corpo da requisição inválido",
+          content = @Content),
+      @ApiResponse(responseCode = "401", description = "Refresh token inválido, expirado ou revogado", content = @Content)
+  })
+  ResponseEntity<TokenResponse> refresh(RefreshTokenRequest refreshTokenRequest);
+
+  @Operation(summary = "Deslogar um usuário",
+      description = "Revoga o refresh token e o token enviado no header Authorization.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "204", description = "Deslogado com sucesso", content = @Content),
+      @ApiResponse(responseCode = "400", description = "Bad request - Algum parâmetro do corpo da requisição inválido",
+          content = @Content)
+  })
+  void signOut(RefreshTokenRequest refreshTokenRequest, HttpServletRequest request);
+
 }
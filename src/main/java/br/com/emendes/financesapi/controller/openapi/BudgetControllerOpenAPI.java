@@ -0,0 +1,55 @@
+package br.com.emendes.financesapi.controller.openapi;
+
+import br.com.emendes.financesapi.dto.problem.ProblemDetail;
+import br.com.emendes.financesapi.dto.problem.ValidationProblemDetail;
+import br.com.emendes.financesapi.dto.request.BudgetRequest;
+import br.com.emendes.financesapi.dto.response.BudgetResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+@SecurityRequirement(name = "bearer-key")
+@Tag(name = "Orçamentos")
+public interface BudgetControllerOpenAPI {
+
+  @Operation(summary = "Buscar orçamentos do usuário por ano e mês, com o total gasto em cada categoria")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Encontrou orçamentos", content = {
+          @Content(mediaType = "application/json",
+              array = @ArraySchema(schema = @Schema(implementation = BudgetResponse.class)))}),
+      @ApiResponse(responseCode = "400", description = "Bad request - Algum parâmetro da requisição inválido",
+          content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class))}),
+      @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+      @ApiResponse(responseCode = "404", description = "Nenhum orçamento encontrado",
+          content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class))}),
+  })
+  ResponseEntity<List<BudgetResponse>> readByYearAndMonth(int year, int month);
+
+  @Operation(summary = "Criar ou atualizar o orçamento de uma categoria no ano e mês")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Orçamento salvo", content = {
+          @Content(mediaType = "application/json", schema = @Schema(implementation = BudgetResponse.class))}),
+      @ApiResponse(responseCode = "400", description = "Bad request - Algum parâmetro da requisição inválido",
+          content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ValidationProblemDetail.class))}),
+      @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+  })
+  ResponseEntity<BudgetResponse> save(int year, int month, String category, BudgetRequest budgetRequest);
+
+  @Operation(summary = "Deletar o orçamento de uma categoria no ano e mês")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "204", description = "Deletado com sucesso"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+      @ApiResponse(responseCode = "404", description = "Orçamento não encontrado",
+          content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class))}),
+  })
+  ResponseEntity<Void> delete(int year, int month, String category);
+
+}
@@ -1,8 +1,12 @@
 package br.com.emendes.financesapi.controller.openapi;
 
+import br.com.emendes.financesapi.dto.problem.ProblemDetail;
+import br.com.emendes.financesapi.dto.problem.ValidationProblemDetail;
+import br.com.emendes.financesapi.dto.request.CategoryRequest;
 import br.com.emendes.financesapi.dto.response.CategoryResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -15,11 +19,34 @@ import java.util.List;
 @Tag(name = "Categorias")
 public interface CategoryControllerOpenAPI {
 
-  @Operation(summary = "Buscar todas as categorias")
+  @Operation(summary = "Buscar todas as categorias do usuário")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "Busca todas as categorias.", content = @Content),
       @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
   })
   ResponseEntity<List<CategoryResponse>> fetchAllCategories();
 
+  @Operation(summary = "Criar uma categoria para o usuário")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "201", description = "Categoria criada", content = {
+          @Content(mediaType = "application/json", schema = @Schema(implementation = CategoryResponse.class))}),
+      @ApiResponse(responseCode = "400", description = "Bad request - Algum parâmetro da requisição inválido",
+          content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ValidationProblemDetail.class))}),
+      @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+      @ApiResponse(responseCode = "409", description = "Categoria já existe",
+          content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class))}),
+  })
+  ResponseEntity<CategoryResponse> create(CategoryRequest categoryRequest);
+
+  @Operation(summary = "Deletar uma categoria criada pelo usuário")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "204", description = "Deletada com sucesso"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+      @ApiResponse(responseCode = "404", description = "Categoria não encontrada",
+          content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class))}),
+      @ApiResponse(responseCode = "409", description = "Categoria padrão ou em uso",
+          content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class))}),
+  })
+  ResponseEntity<Void> delete(String category);
+
 }
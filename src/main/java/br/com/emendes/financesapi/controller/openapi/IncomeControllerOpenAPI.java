@@ -4,7 +4,9 @@ import br.com.emendes.financesapi.dto.problem.ProblemDetail;
 import br.com.emendes.financesapi.dto.problem.ValidationProblemDetail;
 import br.com.emendes.financesapi.dto.request.IncomeRequest;
 import br.com.emendes.financesapi.dto.response.IncomeResponse;
+import br.com.emendes.financesapi.dto.response.PageResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,15 +14,19 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springdoc.core.annotations.ParameterObject;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.util.Set;
+
 @SecurityRequirement(name = "bearer-key")
 @Tag(name = "Receitas")
 public interface IncomeControllerOpenAPI {
 
+  String FIELDS_DESCRIPTION = "Campos a serem retornados separados por vírgula (description, date, value e currency), o id é sempre " +
+      "retornado. Sem o parâmetro todos os campos são retornados.";
+
   @Operation(summary = "Salvar uma receita")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "201", description = "Receita salva",
@@ -42,7 +48,9 @@ public interface IncomeControllerOpenAPI {
       @ApiResponse(responseCode = "404", description = "Nenhuma receita encontrada",
           content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class))}),
   })
-  ResponseEntity<Page<IncomeResponse>> read(String description, @ParameterObject Pageable pageable);
+  ResponseEntity<PageResponse<IncomeResponse>> read(
+      String description, @Parameter(description = FIELDS_DESCRIPTION) Set<String> fields,
+      @ParameterObject Pageable pageable);
 
   @Operation(summary = "Buscar receita por id")
   @ApiResponses(value = {
@@ -62,7 +70,9 @@ public interface IncomeControllerOpenAPI {
       @ApiResponse(responseCode = "404", description = "Nenhuma receita encontrada",
           content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class))}),
   })
-  ResponseEntity<Page<IncomeResponse>> readByYearAndMonth(int year, int month, @ParameterObject Pageable pageable);
+  ResponseEntity<PageResponse<IncomeResponse>> readByYearAndMonth(
+      int year, int month, @Parameter(description = FIELDS_DESCRIPTION) Set<String> fields,
+      @ParameterObject Pageable pageable);
 
   @Operation(summary = "Atualizar receita por id")
   @ApiResponses(value = {
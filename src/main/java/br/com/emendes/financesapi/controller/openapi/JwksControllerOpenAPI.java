@@ -0,0 +1,24 @@
+package br.com.emendes.financesapi.controller.openapi;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Map;
+
+@Tag(name = "Autenticação")
+public interface JwksControllerOpenAPI {
+
+  @Operation(summary = "Buscar as chaves públicas que verificam os tokens (JWKS)",
+      description = "Cada token indica no header kid a chave que o assinou. A resposta pode ser guardada em cache " +
+          "pelo tempo do header Cache-Control, um kid desconhecido indica que a lista deve ser buscada novamente.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Chaves públicas encontradas"),
+      @ApiResponse(responseCode = "304", description = "Chaves não foram alteradas desde o ETag informado")
+  })
+  ResponseEntity<Map<String, Object>> jwks(WebRequest request);
+
+}
@@ -0,0 +1,61 @@
+package br.com.emendes.financesapi.controller.openapi;
+
+import br.com.emendes.financesapi.dto.problem.ProblemDetail;
+import br.com.emendes.financesapi.dto.problem.ValidationProblemDetail;
+import br.com.emendes.financesapi.dto.request.RecurringRuleRequest;
+import br.com.emendes.financesapi.dto.response.PageResponse;
+import br.com.emendes.financesapi.dto.response.RecurringRuleResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.util.UriComponentsBuilder;
+
+@SecurityRequirement(name = "bearer-key")
+@Tag(name = "Recorrências")
+public interface RecurringRuleControllerOpenAPI {
+
+  @Operation(summary = "Salvar uma regra de recorrência de despesa ou receita")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "201", description = "Regra de recorrência salva", content = {
+          @Content(mediaType = "application/json", schema = @Schema(implementation = RecurringRuleResponse.class))}),
+      @ApiResponse(responseCode = "400", description = "Bad request - Algum parâmetro do corpo da requisição inválido",
+          content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ValidationProblemDetail.class))}),
+      @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+  })
+  ResponseEntity<RecurringRuleResponse> create(RecurringRuleRequest recurringRuleRequest, UriComponentsBuilder uriBuilder);
+
+  @Operation(summary = "Buscar todas as regras de recorrência do usuário")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Encontrou regras de recorrência"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+      @ApiResponse(responseCode = "404", description = "Nenhuma regra de recorrência encontrada",
+          content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class))}),
+  })
+  ResponseEntity<PageResponse<RecurringRuleResponse>> read(@ParameterObject Pageable pageable);
+
+  @Operation(summary = "Buscar regra de recorrência por id")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Encontrou a regra de recorrência"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+      @ApiResponse(responseCode = "404", description = "Regra de recorrência não encontrada",
+          content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class))}),
+  })
+  ResponseEntity<RecurringRuleResponse> readById(Long id);
+
+  @Operation(summary = "Deletar regra de recorrência por id, mantendo as despesas e receitas já geradas")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "204", description = "Deletado com sucesso"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+      @ApiResponse(responseCode = "404", description = "Regra de recorrência não encontrada",
+          content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class))}),
+  })
+  ResponseEntity<Void> delete(Long id);
+
+}
@@ -15,16 +15,16 @@ import org.springframework.http.ResponseEntity;
 @Tag(name = "Resumos")
 public interface SummaryControllerOpenAPI {
 
-  @Operation(summary = "Buscar resumo mensal")
+  @Operation(summary = "Buscar resumo mensal na moeda currency (padrão: moeda base do usuário)")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "Encontrou resumo"),
-      @ApiResponse(responseCode = "400", description = "Algum parâmetro da requisição inválido",
+      @ApiResponse(responseCode = "400", description = "Algum parâmetro da requisição inválido ou moeda sem cotação",
           content = @Content),
       @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
       @ApiResponse(responseCode = "404",
           description = "Resumo não encontrado, usuário não possui receita ou despesas para o dado mês e ano",
           content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class))}),
   })
-  ResponseEntity<SummaryResponse> monthSummary(int year, int month);
+  ResponseEntity<SummaryResponse> monthSummary(int year, int month, String currency);
 
 }
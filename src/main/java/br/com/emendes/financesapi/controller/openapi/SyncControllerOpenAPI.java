@@ -0,0 +1,27 @@
+package br.com.emendes.financesapi.controller.openapi;
+
+import br.com.emendes.financesapi.dto.problem.ProblemDetail;
+import br.com.emendes.financesapi.dto.response.SyncResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+
+@SecurityRequirement(name = "bearer-key")
+@Tag(name = "Sincronização")
+public interface SyncControllerOpenAPI {
+
+  @Operation(summary = "Buscar despesas e receitas criadas, atualizadas ou deletadas desde o último token")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Alterações encontradas"),
+      @ApiResponse(responseCode = "400", description = "Bad request - Algum parâmetro da requisição inválido",
+          content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class))}),
+      @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+  })
+  ResponseEntity<SyncResponse> sync(long since, int size);
+
+}
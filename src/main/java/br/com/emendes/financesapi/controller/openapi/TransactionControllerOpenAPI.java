@@ -0,0 +1,28 @@
+package br.com.emendes.financesapi.controller.openapi;
+
+import br.com.emendes.financesapi.dto.problem.ProblemDetail;
+import br.com.emendes.financesapi.dto.response.TimelineResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+
+@SecurityRequirement(name = "bearer-key")
+@Tag(name = "Transações")
+public interface TransactionControllerOpenAPI {
+
+  @Operation(summary = "Buscar despesas e receitas do usuário, da mais recente para a menos recente, com o saldo " +
+      "acumulado na moeda currency (padrão: moeda base do usuário)")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Transações encontradas"),
+      @ApiResponse(responseCode = "400", description = "Bad request - Cursor, size ou moeda inválidos",
+          content = {@Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class))}),
+      @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+  })
+  ResponseEntity<TimelineResponse> timeline(String cursor, int size, String currency);
+
+}
@@ -1,5 +1,6 @@
 package br.com.emendes.financesapi.controller.openapi;
 
+import br.com.emendes.financesapi.dto.response.PageResponse;
 import br.com.emendes.financesapi.dto.response.UserResponse;
 import br.com.emendes.financesapi.dto.request.ChangePasswordRequest;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,7 +10,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springdoc.core.annotations.ParameterObject;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 
@@ -24,7 +24,7 @@ public interface UserControllerOpenAPI {
       @ApiResponse(responseCode = "403", description = "Forbidden, usuário não tem permissão de acesso",
           content = @Content),
   })
-  ResponseEntity<Page<UserResponse>> readAll(@ParameterObject Pageable pageable);
+  ResponseEntity<PageResponse<UserResponse>> readAll(@ParameterObject Pageable pageable);
 
   @Operation(summary = "Deletar usuário por id")
   @ApiResponses(value = {
@@ -0,0 +1,25 @@
+package br.com.emendes.financesapi.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class BudgetRequest {
+
+  @Schema(example = "800.00")
+  @NotNull(message = "limit must not be null")
+  @Positive(message = "limit must be positive")
+  @Digits(integer = 12, fraction = 2,
+      message = "Integer part must be max {integer} digits and fraction part must be max {fraction} digits")
+  private BigDecimal limit;
+
+}
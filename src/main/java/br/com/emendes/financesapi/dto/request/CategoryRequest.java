@@ -0,0 +1,20 @@
+package br.com.emendes.financesapi.dto.request;
+
+import br.com.emendes.financesapi.validation.annotation.CategoryValidation;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.*;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class CategoryRequest {
+
+  @Schema(example = "PETS")
+  @NotBlank(message = "category must not be null or blank")
+  @CategoryValidation
+  private String category;
+
+}
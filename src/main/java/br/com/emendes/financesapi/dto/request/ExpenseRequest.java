@@ -1,12 +1,15 @@
 package br.com.emendes.financesapi.dto.request;
 
+import br.com.emendes.financesapi.util.deserializer.DecimalDeserializer;
+import br.com.emendes.financesapi.util.deserializer.IsoLocalDateDeserializer;
 import br.com.emendes.financesapi.validation.annotation.CategoryValidation;
-import br.com.emendes.financesapi.validation.annotation.DateValidation;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.*;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 @AllArgsConstructor
 @NoArgsConstructor
@@ -22,16 +25,21 @@ public class ExpenseRequest {
 
   @Schema(pattern = "yyyy-MM-dd", type = "string", example = "2023-04-15")
   @NotNull(message = "date must not be null")
-  @DateValidation
-  private String date;
+  @JsonDeserialize(using = IsoLocalDateDeserializer.class)
+  private LocalDate date;
 
   @Schema(example = "271.94")
   @NotNull(message = "value must not be null")
   @Positive(message = "value must be positive")
-  @Digits(integer = 6, fraction = 2,
+  @Digits(integer = 12, fraction = 2,
       message = "Integer part must be max {integer} digits and fraction part must be max {fraction} digits")
+  @JsonDeserialize(using = DecimalDeserializer.class)
   private BigDecimal value;
 
+  @Schema(example = "BRL")
+  @Pattern(regexp = "[A-Z]{3}", message = "currency must be an ISO 4217 code")
+  private String currency;
+
   @Schema(example = "ALIMENTACAO")
   @NotBlank(message = "category must not be null or blank")
   @CategoryValidation
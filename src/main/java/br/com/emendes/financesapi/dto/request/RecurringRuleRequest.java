@@ -0,0 +1,75 @@
+package br.com.emendes.financesapi.dto.request;
+
+import br.com.emendes.financesapi.model.Frequency;
+import br.com.emendes.financesapi.model.TransactionType;
+import br.com.emendes.financesapi.util.deserializer.DecimalDeserializer;
+import br.com.emendes.financesapi.util.deserializer.IsoLocalDateDeserializer;
+import br.com.emendes.financesapi.validation.annotation.CategoryValidation;
+import br.com.emendes.financesapi.validation.annotation.EnumValidation;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class RecurringRuleRequest {
+
+  @Schema(example = "EXPENSE")
+  @NotBlank(message = "type must not be null or blank")
+  @EnumValidation(enumClass = TransactionType.class, message = "invalid type")
+  private String type;
+
+  @Schema(example = "Aluguel")
+  @NotBlank(message = "description must not be null or blank")
+  @Size(max = 255, message = "description must contain max {max} characters")
+  private String description;
+
+  @Schema(example = "1500.00")
+  @NotNull(message = "value must not be null")
+  @Positive(message = "value must be positive")
+  @Digits(integer = 12, fraction = 2,
+      message = "Integer part must be max {integer} digits and fraction part must be max {fraction} digits")
+  @JsonDeserialize(using = DecimalDeserializer.class)
+  private BigDecimal value;
+
+  @Schema(example = "BRL", description = "Padrão moeda base do usuário")
+  @Pattern(regexp = "[A-Z]{3}", message = "currency must be an ISO 4217 code")
+  private String currency;
+
+  @Schema(example = "MORADIA", description = "Usado apenas em regras de despesa, padrão OUTRAS")
+  @CategoryValidation
+  private String category;
+
+  @Schema(example = "MONTHLY")
+  @NotBlank(message = "frequency must not be null or blank")
+  @EnumValidation(enumClass = Frequency.class, message = "invalid frequency")
+  private String frequency;
+
+  @Schema(pattern = "yyyy-MM-dd", type = "string", example = "2024-01-05")
+  @NotNull(message = "startDate must not be null")
+  @JsonDeserialize(using = IsoLocalDateDeserializer.class)
+  private LocalDate startDate;
+
+  @Schema(pattern = "yyyy-MM-dd", type = "string", example = "2024-12-05")
+  @JsonDeserialize(using = IsoLocalDateDeserializer.class)
+  private LocalDate endDate;
+
+  /**
+   * Valida se endDate, quando informado, não é anterior a startDate.
+   */
+  @JsonIgnore
+  @AssertTrue(message = "endDate must be equals or after startDate")
+  public boolean isPeriodValid() {
+    if (startDate == null || endDate == null) return true;
+    return !endDate.isBefore(startDate);
+  }
+
+}
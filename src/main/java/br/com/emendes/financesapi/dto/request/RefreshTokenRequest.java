@@ -0,0 +1,16 @@
+package br.com.emendes.financesapi.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.*;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class RefreshTokenRequest {
+
+  @NotBlank(message = "refreshToken must not be null or blank")
+  private String refreshToken;
+
+}
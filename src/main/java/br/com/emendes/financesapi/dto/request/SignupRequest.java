@@ -3,6 +3,7 @@ package br.com.emendes.financesapi.dto.request;
 import br.com.emendes.financesapi.validation.annotation.NoWhiteSpace;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 
@@ -30,4 +31,7 @@ public class SignupRequest {
   @NotBlank(message = "confirm must not be null or blank")
   private String confirm;
 
+  @Pattern(regexp = "[A-Z]{3}", message = "baseCurrency must be an ISO 4217 code")
+  private String baseCurrency;
+
 }
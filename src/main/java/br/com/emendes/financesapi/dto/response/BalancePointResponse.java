@@ -0,0 +1,30 @@
+package br.com.emendes.financesapi.dto.response;
+
+import br.com.emendes.financesapi.model.Money;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@Builder
+public class BalancePointResponse {
+
+  @Schema(description = "Primeiro dia do período", pattern = "yyyy-MM-dd", type = "string", example = "2023-02-01")
+  private LocalDate period;
+
+  @Schema(type = "number", example = "2500.00")
+  private Money income;
+
+  @Schema(type = "number", example = "1825.00")
+  private Money expense;
+
+  @Schema(type = "number", description = "Saldo acumulado ao final do período", example = "1975.00")
+  private Money balance;
+
+}
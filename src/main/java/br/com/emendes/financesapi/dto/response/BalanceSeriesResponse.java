@@ -0,0 +1,37 @@
+package br.com.emendes.financesapi.dto.response;
+
+import br.com.emendes.financesapi.model.Granularity;
+import br.com.emendes.financesapi.model.Money;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@Builder
+public class BalanceSeriesResponse {
+
+  @Schema(example = "BRL")
+  private String currency;
+
+  @Schema(pattern = "yyyy-MM-dd", type = "string", example = "2023-02-01")
+  private LocalDate from;
+
+  @Schema(pattern = "yyyy-MM-dd", type = "string", example = "2023-04-30")
+  private LocalDate to;
+
+  @Schema(example = "MONTH")
+  private Granularity granularity;
+
+  @Schema(type = "number", description = "Saldo acumulado antes de from", example = "1300.00")
+  private Money openingBalance;
+
+  private List<BalancePointResponse> points;
+
+}
@@ -0,0 +1,32 @@
+package br.com.emendes.financesapi.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@Builder
+public class BudgetResponse {
+
+  @Schema(example = "ALIMENTACAO")
+  private String category;
+
+  @Schema(example = "800.00")
+  private BigDecimal limit;
+
+  @Schema(example = "271.94")
+  private BigDecimal spent;
+
+  @Schema(example = "528.06")
+  private BigDecimal remaining;
+
+  @Schema(example = "false")
+  private boolean exceeded;
+
+}
@@ -0,0 +1,27 @@
+package br.com.emendes.financesapi.dto.response;
+
+import br.com.emendes.financesapi.model.Money;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.YearMonth;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@Builder
+public class CategoryMonthResponse {
+
+  @Schema(pattern = "yyyy-MM", type = "string", example = "2023-02")
+  private YearMonth month;
+
+  @Schema(type = "number", example = "1500.00")
+  private Money total;
+
+  @Schema(type = "number", description = "Diferença para o total do mês anterior", example = "-250.00")
+  private Money delta;
+
+}
@@ -0,0 +1,29 @@
+package br.com.emendes.financesapi.dto.response;
+
+import br.com.emendes.financesapi.model.Money;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@Builder
+public class CategoryTrendResponse {
+
+  @Schema(example = "MORADIA")
+  private String category;
+
+  @Schema(type = "number", description = "Total gasto na categoria no período", example = "3000.00")
+  private Money total;
+
+  @Schema(type = "number", description = "Média mensal do período", example = "1500.00")
+  private Money average;
+
+  private List<CategoryMonthResponse> months;
+
+}
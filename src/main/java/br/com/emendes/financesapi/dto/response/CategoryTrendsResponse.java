@@ -0,0 +1,29 @@
+package br.com.emendes.financesapi.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@Builder
+public class CategoryTrendsResponse {
+
+  @Schema(example = "BRL")
+  private String currency;
+
+  @Schema(pattern = "yyyy-MM", type = "string", example = "2023-01")
+  private YearMonth from;
+
+  @Schema(pattern = "yyyy-MM", type = "string", example = "2023-02")
+  private YearMonth to;
+
+  private List<CategoryTrendResponse> categories;
+
+}
@@ -1,10 +1,10 @@
 package br.com.emendes.financesapi.dto.response;
 
-import br.com.emendes.financesapi.model.Category;
+import br.com.emendes.financesapi.model.Money;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @AllArgsConstructor
@@ -14,6 +14,7 @@ import java.time.LocalDate;
 @EqualsAndHashCode
 @ToString
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ExpenseResponse {
 
   @Schema(example = "8")
@@ -25,10 +26,13 @@ public class ExpenseResponse {
   @Schema(pattern = "yyyy-MM-dd", type = "string", example = "2023-01-17")
   private LocalDate date;
 
-  @Schema(example = "1200.00")
-  private BigDecimal value;
+  @Schema(type = "number", example = "1200.00")
+  private Money value;
+
+  @Schema(example = "BRL")
+  private String currency;
 
   @Schema(example = "MORADIA")
-  private Category category;
+  private String category;
 
 }
@@ -1,17 +1,20 @@
 package br.com.emendes.financesapi.dto.response;
 
+import br.com.emendes.financesapi.model.Money;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @AllArgsConstructor
+@NoArgsConstructor
 @Getter
 @Setter
 @EqualsAndHashCode
 @ToString
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class IncomeResponse {
 
   @Schema(example = "10")
@@ -23,7 +26,10 @@ public class IncomeResponse {
   @Schema(pattern = "yyyy-MM-dd", type = "string", example = "2023-01-17")
   private LocalDate date;
 
-  @Schema(example = "3500.00")
-  private BigDecimal value;
+  @Schema(type = "number", example = "3500.00")
+  private Money value;
+
+  @Schema(example = "BRL")
+  private String currency;
 
 }
@@ -0,0 +1,60 @@
+package br.com.emendes.financesapi.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * Envelope das respostas paginadas, com o conteúdo e os dados de paginação usados pelos clientes. Substitui a
+ * serialização de {@link Page} (PageImpl), que repete pageable e sort em toda resposta e cuja estrutura não é estável
+ * entre versões do Spring Data. Os demais campos de PageImpl são mantidos com os mesmos nomes.
+ *
+ * @param <T> tipo dos elementos da página.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@Builder
+public class PageResponse<T> {
+
+  private List<T> content;
+
+  @Schema(description = "Número da página, começando em 0", example = "0")
+  private int number;
+
+  @Schema(description = "Tamanho da página", example = "20")
+  private int size;
+
+  @Schema(description = "Total de elementos em todas as páginas", example = "42")
+  private long totalElements;
+
+  @Schema(description = "Total de páginas", example = "3")
+  private int totalPages;
+
+  @Schema(description = "Quantidade de elementos nesta página", example = "20")
+  private int numberOfElements;
+
+  @Schema(description = "Se esta é a primeira página", example = "true")
+  private boolean first;
+
+  @Schema(description = "Se esta é a última página", example = "false")
+  private boolean last;
+
+  @Schema(description = "Se esta página não possui elementos", example = "false")
+  private boolean empty;
+
+  /**
+   * Cria o envelope a partir de uma página do Spring Data.
+   */
+  public static <T> PageResponse<T> of(Page<T> page) {
+    return new PageResponse<>(page.getContent(), page.getNumber(), page.getSize(),
+        page.getTotalElements(), page.getTotalPages(), page.getNumberOfElements(),
+        page.isFirst(), page.isLast(), page.isEmpty());
+  }
+
+}
@@ -0,0 +1,46 @@
+package br.com.emendes.financesapi.dto.response;
+
+import lombok.*;
+
+/**
+ * Estado do pool de conexões e sugestão de tamanho, retornado pelo endpoint actuator {@code pool}.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@Builder
+public class PoolDiagnosticsResponse {
+
+  private String poolName;
+  private int maximumPoolSize;
+  private int minimumIdle;
+  private long connectionTimeoutMillis;
+
+  private int activeConnections;
+  private int idleConnections;
+  private int totalConnections;
+  private int pendingThreads;
+
+  private long samples;
+  private int peakActiveConnections;
+  private int peakPendingThreads;
+  private double averageDemand;
+
+  private long acquireCount;
+  private double acquireMeanMillis;
+  private double acquireMaxMillis;
+  private double usageMeanMillis;
+  private long timeouts;
+
+  private Recommendation recommendation;
+  private int suggestedMaximumPoolSize;
+  private String reason;
+
+  public enum Recommendation {
+    KEEP, INCREASE, DECREASE
+  }
+
+}
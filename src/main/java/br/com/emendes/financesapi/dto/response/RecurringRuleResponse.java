@@ -0,0 +1,52 @@
+package br.com.emendes.financesapi.dto.response;
+
+import br.com.emendes.financesapi.model.Frequency;
+import br.com.emendes.financesapi.model.TransactionType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RecurringRuleResponse {
+
+  @Schema(example = "3")
+  private Long id;
+
+  @Schema(example = "EXPENSE")
+  private TransactionType type;
+
+  @Schema(example = "Aluguel")
+  private String description;
+
+  @Schema(example = "1500.00")
+  private BigDecimal value;
+
+  @Schema(example = "BRL")
+  private String currency;
+
+  @Schema(example = "MORADIA")
+  private String category;
+
+  @Schema(example = "MONTHLY")
+  private Frequency frequency;
+
+  @Schema(pattern = "yyyy-MM-dd", type = "string", example = "2024-01-05")
+  private LocalDate startDate;
+
+  @Schema(pattern = "yyyy-MM-dd", type = "string", example = "2024-12-05")
+  private LocalDate endDate;
+
+  @Schema(pattern = "yyyy-MM-dd", type = "string", example = "2024-02-05")
+  private LocalDate nextOccurrence;
+
+}
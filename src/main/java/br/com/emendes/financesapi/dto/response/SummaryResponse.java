@@ -1,9 +1,9 @@
 package br.com.emendes.financesapi.dto.response;
 
+import br.com.emendes.financesapi.model.Money;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,23 +16,27 @@ import java.util.List;
 @Builder
 public class SummaryResponse {
 
-  @Schema(example = "5000.00")
-  private BigDecimal incomeTotalValue = BigDecimal.ZERO;
+  @Schema(example = "BRL")
+  private String currency;
 
-  @Schema(example = "3700.00")
-  private BigDecimal expenseTotalValue = BigDecimal.ZERO;
+  @Schema(type = "number", example = "5000.00")
+  private Money incomeTotalValue = Money.ZERO;
 
-  @Schema(example = "1300.00")
-  private BigDecimal finalBalance = BigDecimal.ZERO;
+  @Schema(type = "number", example = "3700.00")
+  private Money expenseTotalValue = Money.ZERO;
+
+  @Schema(type = "number", example = "1300.00")
+  private Money finalBalance = Money.ZERO;
 
   private List<ValueByCategoryResponse> valuesByCategory = new ArrayList<>();
 
-  public SummaryResponse(BigDecimal incomeTotalValue, BigDecimal expenseTotalValue,
+  public SummaryResponse(String currency, Money incomeTotalValue, Money expenseTotalValue,
                          List<ValueByCategoryResponse> valuesByCategory) {
+    this.currency = currency;
     this.incomeTotalValue = incomeTotalValue;
     this.expenseTotalValue = expenseTotalValue;
-    this.finalBalance = incomeTotalValue.subtract(expenseTotalValue);
+    this.finalBalance = incomeTotalValue.minus(expenseTotalValue);
     this.valuesByCategory = valuesByCategory;
   }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,49 @@
+package br.com.emendes.financesapi.dto.response;
+
+import br.com.emendes.financesapi.model.TransactionType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Alteração de uma despesa ou receita. Quando {@code deleted} é true a alteração é um tombstone e contém apenas
+ * type, id e deleted.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SyncChangeResponse {
+
+  @Schema(example = "EXPENSE")
+  private TransactionType type;
+
+  @Schema(example = "8")
+  private Long id;
+
+  @Schema(example = "false")
+  private boolean deleted;
+
+  @Schema(example = "Aluguel")
+  private String description;
+
+  @Schema(pattern = "yyyy-MM-dd", type = "string", example = "2023-01-17")
+  private LocalDate date;
+
+  @Schema(example = "1200.00")
+  private BigDecimal value;
+
+  @Schema(example = "BRL")
+  private String currency;
+
+  @Schema(example = "MORADIA")
+  private String category;
+
+}
@@ -0,0 +1,25 @@
+package br.com.emendes.financesapi.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@Builder
+public class SyncResponse {
+
+  private List<SyncChangeResponse> changes;
+
+  @Schema(description = "Token a ser enviado como since na próxima sincronização", example = "1024")
+  private long nextToken;
+
+  @Schema(description = "Indica que há mais alterações após nextToken", example = "false")
+  private boolean hasMore;
+
+}
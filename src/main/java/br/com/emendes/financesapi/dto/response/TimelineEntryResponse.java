@@ -0,0 +1,50 @@
+package br.com.emendes.financesapi.dto.response;
+
+import br.com.emendes.financesapi.model.Money;
+import br.com.emendes.financesapi.model.TransactionType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Despesa ou receita da linha do tempo. value está na moeda da transação (currency) e balance na moeda da linha do
+ * tempo.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TimelineEntryResponse {
+
+  @Schema(example = "EXPENSE")
+  private TransactionType type;
+
+  @Schema(example = "8")
+  private Long id;
+
+  @Schema(example = "Aluguel")
+  private String description;
+
+  @Schema(pattern = "yyyy-MM-dd", type = "string", example = "2023-01-17")
+  private LocalDate date;
+
+  @Schema(type = "number", example = "1200.00")
+  private Money value;
+
+  @Schema(example = "BRL")
+  private String currency;
+
+  @Schema(example = "MORADIA")
+  private String category;
+
+  @Schema(type = "number", description = "Saldo acumulado (receitas menos despesas) até esta transação",
+      example = "3300.00")
+  private Money balance;
+
+}
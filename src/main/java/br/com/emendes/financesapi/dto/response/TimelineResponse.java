@@ -0,0 +1,29 @@
+package br.com.emendes.financesapi.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@Builder
+public class TimelineResponse {
+
+  @Schema(description = "Moeda dos saldos", example = "BRL")
+  private String currency;
+
+  private List<TimelineEntryResponse> transactions;
+
+  @Schema(description = "Cursor a ser enviado como cursor na próxima página, null quando não há mais transações",
+      example = "MjAyMy0wMS0xNzpFWFBFTlNFOjg")
+  private String nextCursor;
+
+  @Schema(description = "Indica que há transações após nextCursor", example = "true")
+  private boolean hasMore;
+
+}
@@ -17,6 +17,12 @@ public class TokenResponse {
   @Schema(example = "Bearer")
   private String type;
 
+  @Schema(example = "r3fr35h-70k3n")
+  private String refreshToken;
+
+  @Schema(example = "900", description = "Validade do token em segundos")
+  private long expiresIn;
+
   public String generateTypeWithToken() {
     return type + " " + token;
   }
@@ -1,6 +1,6 @@
 package br.com.emendes.financesapi.dto.response;
 
-import br.com.emendes.financesapi.model.Category;
+import br.com.emendes.financesapi.model.Money;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
@@ -16,9 +16,16 @@ import java.math.BigDecimal;
 public class ValueByCategoryResponse {
 
   @Schema(example = "MORADIA")
-  private Category category;
+  private String category;
 
-  @Schema(example = "3700.00")
-  private BigDecimal value;
+  @Schema(type = "number", example = "3700.00")
+  private Money value;
+
+  /**
+   * Usado na consulta JPQL, onde SUM sobre uma coluna {@link Money} retorna {@code BigDecimal}.
+   */
+  public ValueByCategoryResponse(String category, BigDecimal value) {
+    this(category, Money.of(value));
+  }
 
 }
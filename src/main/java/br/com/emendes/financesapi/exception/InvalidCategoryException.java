@@ -0,0 +1,9 @@
+package br.com.emendes.financesapi.exception;
+
+public class InvalidCategoryException extends RuntimeException {
+
+  public InvalidCategoryException(String message) {
+    super(message);
+  }
+
+}
@@ -0,0 +1,9 @@
+package br.com.emendes.financesapi.exception;
+
+public class InvalidCurrencyException extends RuntimeException {
+
+  public InvalidCurrencyException(String message) {
+    super(message);
+  }
+
+}
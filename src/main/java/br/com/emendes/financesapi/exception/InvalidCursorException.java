@@ -0,0 +1,9 @@
+package br.com.emendes.financesapi.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+  public InvalidCursorException(String message) {
+    super(message);
+  }
+
+}
@@ -0,0 +1,9 @@
+package br.com.emendes.financesapi.exception;
+
+public class InvalidFieldsParameterException extends RuntimeException {
+
+  public InvalidFieldsParameterException(String message) {
+    super(message);
+  }
+
+}
@@ -0,0 +1,9 @@
+package br.com.emendes.financesapi.exception;
+
+public class InvalidPeriodException extends RuntimeException {
+
+  public InvalidPeriodException(String message) {
+    super(message);
+  }
+
+}
@@ -0,0 +1,9 @@
+package br.com.emendes.financesapi.exception;
+
+public class InvalidRefreshTokenException extends RuntimeException {
+
+  public InvalidRefreshTokenException(String message) {
+    super(message);
+  }
+
+}
@@ -4,16 +4,25 @@ import br.com.emendes.financesapi.dto.problem.ProblemDetail;
 import br.com.emendes.financesapi.dto.problem.ValidationProblemDetail;
 import br.com.emendes.financesapi.exception.DataConflictException;
 import br.com.emendes.financesapi.exception.EntityNotFoundException;
+import br.com.emendes.financesapi.exception.InvalidCategoryException;
+import br.com.emendes.financesapi.exception.InvalidCurrencyException;
+import br.com.emendes.financesapi.exception.InvalidCursorException;
+import br.com.emendes.financesapi.exception.InvalidFieldsParameterException;
+import br.com.emendes.financesapi.exception.InvalidPeriodException;
+import br.com.emendes.financesapi.exception.InvalidRefreshTokenException;
 import br.com.emendes.financesapi.exception.PasswordsDoNotMatchException;
 import br.com.emendes.financesapi.exception.WrongPasswordException;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.QueryException;
+import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -24,6 +33,7 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 import java.net.URI;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -37,6 +47,11 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
   public static final String PROBLEM_DETAIL_URI = "https://github.com/Edson-Mendes/finances-api";
 
+  /**
+   * SQLSTATE do erro lançado por fn_missing_fx_rate quando a conversão de um valor não encontra a cotação.
+   */
+  private static final String MISSING_FX_RATE_SQL_STATE = "FX001";
+
   @Override
   protected ResponseEntity<Object> handleMethodArgumentNotValid(
       MethodArgumentNotValidException exception,
@@ -45,26 +60,36 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
       WebRequest request) {
     log.info("Method Argument Not Valid - message: {}", exception.getMessage());
 
-    HttpStatus status = HttpStatus.BAD_REQUEST;
     List<FieldError> fieldErrors = exception.getBindingResult().getFieldErrors();
 
     String fields = fieldErrors.stream().map(FieldError::getField).collect(Collectors.joining("; "));
     String messages = fieldErrors.stream().map(FieldError::getDefaultMessage).collect(Collectors.joining("; "));
 
-    ValidationProblemDetail problem = ValidationProblemDetail.builder()
-        .type(URI.create("https://github.com/Edson-Mendes/finances-api/problem-details/invalid-field"))
-        .title("Invalid fields")
-        .detail("Some fields are invalid")
-        .status(status.value())
-        .timestamp(LocalDateTime.now())
-        .fields(fields)
-        .messages(messages)
-        .build();
+    return createInvalidFieldsResponse(fields, messages);
+  }
 
-    return ResponseEntity
-        .status(status)
-        .header("Content-Type", "application/problem+json;charset=UTF-8")
-        .body(problem);
+  /**
+   * Valores que não puderam ser convertidos para o tipo do campo (por exemplo uma data fora do formato yyyy-MM-dd)
+   * geram a mesma resposta de erros de validação, com o nome do campo e a mensagem do deserializer.
+   */
+  @Override
+  protected ResponseEntity<Object> handleHttpMessageNotReadable(
+      HttpMessageNotReadableException exception,
+      HttpHeaders headers,
+      HttpStatusCode httpStatusCode,
+      WebRequest request) {
+    if (!(exception.getCause() instanceof InvalidFormatException invalidFormatException)
+        || invalidFormatException.getPath().isEmpty()) {
+      return super.handleHttpMessageNotReadable(exception, headers, httpStatusCode, request);
+    }
+    log.info("Invalid Format - message: {}", invalidFormatException.getOriginalMessage());
+
+    String field = invalidFormatException.getPath().stream()
+        .map(reference -> reference.getFieldName() != null
+            ? reference.getFieldName() : String.valueOf(reference.getIndex()))
+        .collect(Collectors.joining("."));
+
+    return createInvalidFieldsResponse(field, invalidFormatException.getOriginalMessage());
   }
 
   @ExceptionHandler(ConstraintViolationException.class)
@@ -114,6 +139,72 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     );
   }
 
+  @ExceptionHandler(InvalidCategoryException.class)
+  public ResponseEntity<ProblemDetail> handleInvalidCategory(InvalidCategoryException exception) {
+    log.info("Invalid category - message: {}", exception.getMessage());
+    HttpStatus status = HttpStatus.BAD_REQUEST;
+
+    return createResponseEntity(
+        status,
+        createProblemDetail("Invalid category", exception.getMessage(), status.value())
+    );
+  }
+
+  @ExceptionHandler(InvalidCurrencyException.class)
+  public ResponseEntity<ProblemDetail> handleInvalidCurrency(InvalidCurrencyException exception) {
+    log.info("Invalid currency - message: {}", exception.getMessage());
+    HttpStatus status = HttpStatus.BAD_REQUEST;
+
+    return createResponseEntity(
+        status,
+        createProblemDetail("Invalid currency", exception.getMessage(), status.value())
+    );
+  }
+
+  @ExceptionHandler(InvalidCursorException.class)
+  public ResponseEntity<ProblemDetail> handleInvalidCursor(InvalidCursorException exception) {
+    log.info("Invalid cursor - message: {}", exception.getMessage());
+    HttpStatus status = HttpStatus.BAD_REQUEST;
+
+    return createResponseEntity(
+        status,
+        createProblemDetail("Invalid cursor", exception.getMessage(), status.value())
+    );
+  }
+
+  @ExceptionHandler(InvalidFieldsParameterException.class)
+  public ResponseEntity<ProblemDetail> handleInvalidFieldsParameter(InvalidFieldsParameterException exception) {
+    log.info("Invalid fields parameter - message: {}", exception.getMessage());
+    HttpStatus status = HttpStatus.BAD_REQUEST;
+
+    return createResponseEntity(
+        status,
+        createProblemDetail("Invalid fields parameter", exception.getMessage(), status.value())
+    );
+  }
+
+  @ExceptionHandler(InvalidPeriodException.class)
+  public ResponseEntity<ProblemDetail> handleInvalidPeriod(InvalidPeriodException exception) {
+    log.info("Invalid period - message: {}", exception.getMessage());
+    HttpStatus status = HttpStatus.BAD_REQUEST;
+
+    return createResponseEntity(
+        status,
+        createProblemDetail("Invalid period", exception.getMessage(), status.value())
+    );
+  }
+
+  @ExceptionHandler(InvalidRefreshTokenException.class)
+  public ResponseEntity<ProblemDetail> handleInvalidRefreshToken(InvalidRefreshTokenException exception) {
+    log.info("Invalid refresh token - message: {}", exception.getMessage());
+    HttpStatus status = HttpStatus.UNAUTHORIZED;
+
+    return createResponseEntity(
+        status,
+        createProblemDetail("Invalid refresh token", exception.getMessage(), status.value())
+    );
+  }
+
   @ExceptionHandler(QueryException.class)
   public ResponseEntity<ProblemDetail> handleQueryException(QueryException exception) {
     log.info("Query Exception - message: {}", exception.getMessage());
@@ -160,6 +251,21 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     );
   }
 
+  @ExceptionHandler(DataAccessException.class)
+  public ResponseEntity<ProblemDetail> handleDataAccess(DataAccessException exception) {
+    if (!(exception.getMostSpecificCause() instanceof SQLException sqlException)
+        || !MISSING_FX_RATE_SQL_STATE.equals(sqlException.getSQLState())) {
+      return handleRuntimeException(exception);
+    }
+    log.error("Missing FX rate - message: {}", sqlException.getMessage());
+    HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
+
+    return createResponseEntity(
+        status,
+        createProblemDetail("Missing FX rate", firstLine(sqlException.getMessage()), status.value())
+    );
+  }
+
   @ExceptionHandler(RuntimeException.class)
   public ResponseEntity<ProblemDetail> handleRuntimeException(RuntimeException exception) {
     log.error("Internal server error", exception);
@@ -171,6 +277,31 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     );
   }
 
+  /**
+   * Cria a resposta 400 com {@link ValidationProblemDetail} para campos inválidos.
+   *
+   * @param fields   nomes dos campos inválidos, separados por "; ".
+   * @param messages mensagens de erro dos campos, separadas por "; ".
+   */
+  private static ResponseEntity<Object> createInvalidFieldsResponse(String fields, String messages) {
+    HttpStatus status = HttpStatus.BAD_REQUEST;
+
+    ValidationProblemDetail problem = ValidationProblemDetail.builder()
+        .type(URI.create("https://github.com/Edson-Mendes/finances-api/problem-details/invalid-field"))
+        .title("Invalid fields")
+        .detail("Some fields are invalid")
+        .status(status.value())
+        .timestamp(LocalDateTime.now())
+        .fields(fields)
+        .messages(messages)
+        .build();
+
+    return ResponseEntity
+        .status(status)
+        .header("Content-Type", "application/problem+json;charset=UTF-8")
+        .body(problem);
+  }
+
   /**
    * Cria uma instância de {@link ResponseEntity} a partir de um objeto {@link ProblemDetail} que representa o
    * body da resposta, o status da resposta corresponde ao campo status do ProblemDetail.
@@ -204,4 +335,12 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         .build();
   }
 
+  /**
+   * Primeira linha da mensagem de um erro do banco de dados, sem o prefixo de severidade (ex.: "ERROR: ").
+   */
+  private static String firstLine(String message) {
+    String line = message.lines().findFirst().orElse("");
+    return line.startsWith("ERROR: ") ? line.substring("ERROR: ".length()) : line;
+  }
+
 }
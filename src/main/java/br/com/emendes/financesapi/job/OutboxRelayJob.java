@@ -0,0 +1,94 @@
+package br.com.emendes.financesapi.job;
+
+import br.com.emendes.financesapi.model.entity.OutboxEvent;
+import br.com.emendes.financesapi.repository.OutboxEventRepository;
+import br.com.emendes.financesapi.service.OutboxService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Job responsável por publicar os eventos do outbox e expor as métricas de atraso da publicação.<br>
+ * <br>
+ * Métricas:
+ * <ul>
+ *   <li>{@code financesapi.outbox.pending}: quantidade de eventos ainda não publicados.</li>
+ *   <li>{@code financesapi.outbox.lag}: idade, em segundos, do evento não publicado mais antigo.</li>
+ *   <li>{@code financesapi.outbox.delivery}: tempo entre a criação e a publicação de cada evento.</li>
+ * </ul>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class OutboxRelayJob {
+
+  private final OutboxService outboxService;
+  private final OutboxEventRepository outboxEventRepository;
+  private final MeterRegistry meterRegistry;
+
+  private final AtomicLong pending = new AtomicLong();
+  private final AtomicLong lagSeconds = new AtomicLong();
+  private Timer deliveryTimer;
+
+  @Value("${financesapi.outbox.relay.batch-size}")
+  private int batchSize;
+
+  @Value("${financesapi.outbox.retention}")
+  private Duration retention;
+
+  @PostConstruct
+  void registerMetrics() {
+    Gauge.builder("financesapi.outbox.pending", pending, AtomicLong::get)
+        .description("Outbox events waiting to be published")
+        .register(meterRegistry);
+    Gauge.builder("financesapi.outbox.lag", lagSeconds, AtomicLong::get)
+        .description("Age of the oldest unpublished outbox event")
+        .baseUnit("seconds")
+        .register(meterRegistry);
+    deliveryTimer = Timer.builder("financesapi.outbox.delivery")
+        .description("Time between the creation and the publication of an outbox event")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Publica lotes de eventos até que não haja mais eventos pendentes e atualiza as métricas.
+   */
+  @Scheduled(fixedDelayString = "${financesapi.outbox.relay.fixed-delay}")
+  public void relay() {
+    List<OutboxEvent> published;
+    do {
+      published = outboxService.relay(batchSize);
+      published.forEach(event -> deliveryTimer.record(Duration.between(event.getCreatedAt(), event.getPublishedAt())));
+    } while (published.size() == batchSize && !Thread.currentThread().isInterrupted());
+
+    updateLag();
+  }
+
+  /**
+   * Remove os eventos publicados há mais tempo que {@code financesapi.outbox.retention}.
+   */
+  @Scheduled(cron = "${financesapi.outbox.cleanup.cron}")
+  public void cleanup() {
+    int deleted = outboxService.deletePublishedBefore(LocalDateTime.now().minus(retention));
+    log.info("{} published outbox event(s) removed", deleted);
+  }
+
+  private void updateLag() {
+    pending.set(outboxEventRepository.countByPublishedAtIsNull());
+    lagSeconds.set(outboxEventRepository.findOldestUnpublishedCreatedAt()
+        .map(createdAt -> Math.max(0, Duration.between(createdAt, LocalDateTime.now()).toSeconds()))
+        .orElse(0L));
+  }
+
+}
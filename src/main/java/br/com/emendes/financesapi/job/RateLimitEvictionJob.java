@@ -0,0 +1,33 @@
+package br.com.emendes.financesapi.job;
+
+import br.com.emendes.financesapi.config.security.ratelimit.RateLimitStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Job responsável por remover os token buckets ociosos do rate limit, mantendo limitada a memória (ou a tabela)
+ * usada pelos buckets de clientes que pararam de fazer requisições.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RateLimitEvictionJob {
+
+  private final RateLimitStore rateLimitStore;
+
+  /**
+   * Remove os buckets cheios.
+   */
+  @Scheduled(
+      initialDelayString = "${financesapi.rate-limit.eviction-interval}",
+      fixedDelayString = "${financesapi.rate-limit.eviction-interval}")
+  public void evictIdle() {
+    int evicted = rateLimitStore.evictIdle();
+    if (evicted > 0) {
+      log.debug("{} idle rate limit bucket(s) evicted", evicted);
+    }
+  }
+
+}
@@ -0,0 +1,65 @@
+package br.com.emendes.financesapi.job;
+
+import br.com.emendes.financesapi.repository.RecurringRuleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * Job responsável por gerar as despesas e receitas das regras de recorrência vencidas.<br>
+ * <br>
+ * Cada execução do repository gera, em um único comando SQL, a próxima ocorrência de um lote de regras de todos os
+ * usuários, o job repete até não restar ocorrências vencidas (uma regra atrasada gera uma ocorrência por lote).
+ * Por ser idempotente e usar bloqueio por linha, o job pode ser reiniciado ou executado em várias instâncias.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RecurringRuleJob {
+
+  private final RecurringRuleRepository recurringRuleRepository;
+
+  @Value("${financesapi.recurring-rule.batch-size}")
+  private int batchSize;
+
+  /**
+   * Gera as ocorrências vencidas até a data atual.
+   */
+  @Scheduled(
+      initialDelayString = "${financesapi.recurring-rule.initial-delay}",
+      fixedDelayString = "${financesapi.recurring-rule.fixed-delay}")
+  public void materializeDueOccurrences() {
+    LocalDate today = LocalDate.now();
+
+    long expenses = materialize(today, recurringRuleRepository::materializeDueExpenses);
+    long incomes = materialize(today, recurringRuleRepository::materializeDueIncomes);
+
+    if (expenses > 0 || incomes > 0) {
+      log.info("recurring rules materialized, {} expense and {} income occurrence(s) processed", expenses, incomes);
+    }
+  }
+
+  /**
+   * Executa {@code materializer} em lotes até que nenhuma regra seja processada.
+   *
+   * @param today        data de referência.
+   * @param materializer função que processa um lote e retorna a quantidade de regras processadas.
+   * @return total de regras processadas.
+   */
+  private long materialize(LocalDate today, ToLongBiFunction<LocalDate, Integer> materializer) {
+    long total = 0;
+    long processed;
+    do {
+      processed = materializer.applyAsLong(today, batchSize);
+      total += processed;
+    } while (processed > 0 && !Thread.currentThread().isInterrupted());
+
+    return total;
+  }
+
+}
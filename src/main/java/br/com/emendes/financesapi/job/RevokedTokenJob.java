@@ -0,0 +1,46 @@
+package br.com.emendes.financesapi.job;
+
+import br.com.emendes.financesapi.service.RefreshTokenService;
+import br.com.emendes.financesapi.util.component.RevokedTokenRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Job responsável por manter atualizada a lista em memória de access tokens revogados e por remover os tokens
+ * expirados.<br>
+ * <br>
+ * Um token revogado em outra instância passa a ser rejeitado aqui em até {@code financesapi.jwt.revocation.refresh-interval}
+ * milissegundos. A primeira carga é feita pelo agendador logo após a inicialização, e não na criação do bean, para
+ * que a inicialização não dependa do banco.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RevokedTokenJob {
+
+  private final RevokedTokenRegistry revokedTokenRegistry;
+  private final RefreshTokenService refreshTokenService;
+
+  /**
+   * Recarrega os access tokens revogados.
+   */
+  @Scheduled(initialDelay = 0, fixedDelayString = "${financesapi.jwt.revocation.refresh-interval}")
+  public void refresh() {
+    revokedTokenRegistry.refresh();
+  }
+
+  /**
+   * Remove os access tokens revogados e os refresh tokens já expirados.
+   */
+  @Scheduled(cron = "${financesapi.jwt.cleanup.cron}")
+  public void cleanup() {
+    int revokedTokens = revokedTokenRegistry.deleteExpired();
+    int refreshTokens = refreshTokenService.deleteExpiredBefore(LocalDateTime.now());
+    log.info("{} revoked token(s) and {} refresh token(s) expired and removed", revokedTokens, refreshTokens);
+  }
+
+}
@@ -0,0 +1,114 @@
+package br.com.emendes.financesapi.job;
+
+import br.com.emendes.financesapi.repository.ExpenseRepository;
+import br.com.emendes.financesapi.repository.IncomeRepository;
+import br.com.emendes.financesapi.repository.OutboxEventRepository;
+import br.com.emendes.financesapi.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Job responsável por remover os usuários marcados como deletados junto com suas receitas, despesas e eventos do
+ * outbox (tb_outbox_event não possui chave estrangeira para tb_user).<br>
+ * <br>
+ * As linhas relacionadas ao usuário são removidas em lotes de tamanho limitado e com uma pausa entre os lotes,
+ * evitando uma única transação longa que bloquearia as tabelas tb_expense e tb_income para usuários com muitos registros.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class UserDeletionJob {
+
+  private final UserRepository userRepository;
+  private final ExpenseRepository expenseRepository;
+  private final IncomeRepository incomeRepository;
+  private final OutboxEventRepository outboxEventRepository;
+
+  @Value("${financesapi.user-deletion.chunk-size}")
+  private int chunkSize;
+
+  @Value("${financesapi.user-deletion.throttle}")
+  private long throttle;
+
+  /**
+   * Busca os usuários marcados como deletados e remove os dados de cada um deles.
+   */
+  @Scheduled(
+      initialDelayString = "${financesapi.user-deletion.fixed-delay}",
+      fixedDelayString = "${financesapi.user-deletion.fixed-delay}")
+  public void purgeDeletedUsers() {
+    List<Long> userIds = userRepository.findIdsOfDeletedUsers();
+    if (userIds.isEmpty()) return;
+
+    log.info("found {} user(s) waiting to be purged", userIds.size());
+    for (Long userId : userIds) {
+      if (Thread.currentThread().isInterrupted()) return;
+      purge(userId);
+    }
+  }
+
+  /**
+   * Remove as despesas, receitas, eventos do outbox e por fim o próprio usuário.
+   *
+   * @param userId identificador do usuário a ser removido.
+   */
+  private void purge(Long userId) {
+    log.info("attempt to purge user with id: {}", userId);
+
+    long expenses = deleteInChunks(userId, "expenses", expenseRepository::deleteChunkByUserId);
+    long incomes = deleteInChunks(userId, "incomes", incomeRepository::deleteChunkByUserId);
+    long events = deleteInChunks(userId, "outbox events", outboxEventRepository::deleteChunkByUserId);
+    if (Thread.currentThread().isInterrupted()) return;
+
+    userRepository.deleteById(userId);
+    log.info("user with id: {} purged successfully, {} expenses, {} incomes and {} outbox events removed",
+        userId, expenses, incomes, events);
+  }
+
+  /**
+   * Executa {@code deleter} repetidamente até que não haja mais linhas do usuário,
+   * pausando {@code throttle} milissegundos entre cada lote.
+   *
+   * @param userId   identificador do usuário.
+   * @param resource nome do recurso sendo removido, usado apenas no log.
+   * @param deleter  função que deleta um lote e retorna a quantidade de linhas deletadas.
+   * @return total de linhas deletadas.
+   */
+  private long deleteInChunks(Long userId, String resource, ToIntBiFunction<Long, Integer> deleter) {
+    long total = 0;
+    int deleted;
+    do {
+      deleted = deleter.applyAsInt(userId, chunkSize);
+      total += deleted;
+      if (deleted > 0) {
+        log.info("purging user with id: {}, {} {} removed so far", userId, total, resource);
+      }
+    } while (deleted == chunkSize && pause());
+
+    return total;
+  }
+
+  /**
+   * Pausa a thread atual por {@code throttle} milissegundos.
+   *
+   * @return {@code true} caso a pausa tenha sido concluída, {@code false} caso a thread tenha sido interrompida.
+   */
+  private boolean pause() {
+    if (throttle <= 0) return true;
+    try {
+      Thread.sleep(throttle);
+      return true;
+    } catch (InterruptedException e) {
+      log.warn("user purge interrupted");
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+}
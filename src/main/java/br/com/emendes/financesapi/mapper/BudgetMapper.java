@@ -0,0 +1,33 @@
+package br.com.emendes.financesapi.mapper;
+
+import br.com.emendes.financesapi.dto.response.BudgetResponse;
+import br.com.emendes.financesapi.model.entity.Budget;
+import br.com.emendes.financesapi.repository.projection.BudgetStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * Interface component com as abstrações para mapeamento do recurso Budget.
+ */
+public interface BudgetMapper {
+
+  /**
+   * Mapeia um objeto {@link BudgetStatus} para {@link BudgetResponse}.
+   *
+   * @param budgetStatus objeto a ser mapeado.
+   * @return Objeto BudgetResponse.
+   * @throws IllegalArgumentException caso budgetStatus seja null.
+   */
+  BudgetResponse toBudgetResponse(BudgetStatus budgetStatus);
+
+  /**
+   * Mapeia um objeto {@link Budget} e o total gasto para {@link BudgetResponse}.
+   *
+   * @param budget objeto a ser mapeado.
+   * @param spent  total gasto na categoria durante o mês do orçamento.
+   * @return Objeto BudgetResponse.
+   * @throws IllegalArgumentException caso budget ou spent sejam null.
+   */
+  BudgetResponse toBudgetResponse(Budget budget, BigDecimal spent);
+
+}
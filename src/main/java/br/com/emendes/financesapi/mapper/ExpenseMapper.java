@@ -2,7 +2,10 @@ package br.com.emendes.financesapi.mapper;
 
 import br.com.emendes.financesapi.dto.request.ExpenseRequest;
 import br.com.emendes.financesapi.dto.response.ExpenseResponse;
+import br.com.emendes.financesapi.exception.InvalidCategoryException;
+import br.com.emendes.financesapi.exception.InvalidCurrencyException;
 import br.com.emendes.financesapi.model.entity.Expense;
+import br.com.emendes.financesapi.model.entity.User;
 
 /**
  * Interface component com as abstrações para mapeamento do recurso Expense.
@@ -10,13 +13,16 @@ import br.com.emendes.financesapi.model.entity.Expense;
 public interface ExpenseMapper {
 
   /**
-   * Mapeia um objeto {@link ExpenseRequest} para {@link Expense}.
+   * Mapeia um objeto {@link ExpenseRequest} para {@link Expense} do dado user.
    *
    * @param expenseRequest objeto a ser mapeado.
+   * @param user           usuário dono da despesa, usado para resolver a categoria e a moeda padrão.
    * @return Objeto Expense.
-   * @throws IllegalArgumentException caso expenseRequest seja null.
+   * @throws IllegalArgumentException caso expenseRequest ou user sejam nulos.
+   * @throws InvalidCategoryException caso o usuário não tenha a categoria informada.
+   * @throws InvalidCurrencyException caso a moeda informada não possua cotação.
    */
-  Expense toExpense(ExpenseRequest expenseRequest);
+  Expense toExpense(ExpenseRequest expenseRequest, User user);
 
   /**
    * Mapeia um objeto {@link Expense} para {@link ExpenseResponse}.
@@ -33,6 +39,8 @@ public interface ExpenseMapper {
    * @param expense        objeto que receberá novos dados.
    * @param expenseRequest objeto fonte dos novos dados.
    * @throws IllegalArgumentException caso expense ou expenseRequest sejam nulos.
+   * @throws InvalidCategoryException caso o usuário não tenha a categoria informada.
+   * @throws InvalidCurrencyException caso a moeda informada não possua cotação.
    */
   void merge(Expense expense, ExpenseRequest expenseRequest);
 
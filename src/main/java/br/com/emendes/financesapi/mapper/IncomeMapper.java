@@ -2,7 +2,9 @@ package br.com.emendes.financesapi.mapper;
 
 import br.com.emendes.financesapi.dto.request.IncomeRequest;
 import br.com.emendes.financesapi.dto.response.IncomeResponse;
+import br.com.emendes.financesapi.exception.InvalidCurrencyException;
 import br.com.emendes.financesapi.model.entity.Income;
+import br.com.emendes.financesapi.model.entity.User;
 
 /**
  * Interface component com as abstrações para mapeamento do recurso Income.
@@ -10,13 +12,15 @@ import br.com.emendes.financesapi.model.entity.Income;
 public interface IncomeMapper {
 
   /**
-   * Mapeia um objeto {@link IncomeRequest} para {@link Income}.
+   * Mapeia um objeto {@link IncomeRequest} para {@link Income} do dado user.
    *
    * @param incomeRequest objeto a ser mapeado.
+   * @param user          usuário dono da receita, usado para resolver a moeda padrão.
    * @return Objeto Income.
-   * @throws IllegalArgumentException caso incomeRequest seja null.
+   * @throws IllegalArgumentException caso incomeRequest ou user sejam nulos.
+   * @throws InvalidCurrencyException caso a moeda informada não possua cotação.
    */
-  Income toIncome(IncomeRequest incomeRequest);
+  Income toIncome(IncomeRequest incomeRequest, User user);
 
   /**
    * Mapeia um objeto {@link Income} para {@link IncomeResponse}.
@@ -33,6 +37,7 @@ public interface IncomeMapper {
    * @param income        objeto que receberá novos dados.
    * @param incomeRequest objeto fonte dos novos dados.
    * @throws IllegalArgumentException caso income ou incomeRequest sejam nulos.
+   * @throws InvalidCurrencyException caso a moeda informada não possua cotação.
    */
   void merge(Income income, IncomeRequest incomeRequest);
 
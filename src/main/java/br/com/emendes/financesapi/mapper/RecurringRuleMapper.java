@@ -0,0 +1,35 @@
+package br.com.emendes.financesapi.mapper;
+
+import br.com.emendes.financesapi.dto.request.RecurringRuleRequest;
+import br.com.emendes.financesapi.dto.response.RecurringRuleResponse;
+import br.com.emendes.financesapi.exception.InvalidCategoryException;
+import br.com.emendes.financesapi.model.entity.RecurringRule;
+import br.com.emendes.financesapi.model.entity.User;
+
+/**
+ * Interface component com as abstrações para mapeamento do recurso RecurringRule.
+ */
+public interface RecurringRuleMapper {
+
+  /**
+   * Mapeia um objeto {@link RecurringRuleRequest} para {@link RecurringRule}, a primeira ocorrência da regra
+   * é a data inicial.
+   *
+   * @param recurringRuleRequest objeto a ser mapeado.
+   * @param user                 usuário dono da regra, usado para resolver a categoria.
+   * @return Objeto RecurringRule.
+   * @throws IllegalArgumentException caso recurringRuleRequest ou user sejam nulos.
+   * @throws InvalidCategoryException caso o usuário não tenha a categoria informada.
+   */
+  RecurringRule toRecurringRule(RecurringRuleRequest recurringRuleRequest, User user);
+
+  /**
+   * Mapeia um objeto {@link RecurringRule} para {@link RecurringRuleResponse}.
+   *
+   * @param recurringRule objeto a ser mapeado.
+   * @return Objeto RecurringRuleResponse.
+   * @throws IllegalArgumentException caso recurringRule seja null.
+   */
+  RecurringRuleResponse toRecurringRuleResponse(RecurringRule recurringRule);
+
+}
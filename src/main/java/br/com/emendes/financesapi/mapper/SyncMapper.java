@@ -0,0 +1,21 @@
+package br.com.emendes.financesapi.mapper;
+
+import br.com.emendes.financesapi.dto.response.SyncChangeResponse;
+import br.com.emendes.financesapi.repository.projection.SyncChange;
+
+/**
+ * Interface component com as abstrações para mapeamento das alterações usadas na sincronização.
+ */
+public interface SyncMapper {
+
+  /**
+   * Mapeia um objeto {@link SyncChange} para {@link SyncChangeResponse}, alterações deletadas são mapeadas
+   * como tombstone (apenas type, id e deleted).
+   *
+   * @param syncChange objeto a ser mapeado.
+   * @return Objeto SyncChangeResponse.
+   * @throws IllegalArgumentException caso syncChange seja null.
+   */
+  SyncChangeResponse toSyncChangeResponse(SyncChange syncChange);
+
+}
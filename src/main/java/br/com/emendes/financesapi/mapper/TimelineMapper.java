@@ -0,0 +1,24 @@
+package br.com.emendes.financesapi.mapper;
+
+import br.com.emendes.financesapi.dto.response.TimelineEntryResponse;
+import br.com.emendes.financesapi.repository.projection.TimelineEntry;
+
+import java.math.BigDecimal;
+
+/**
+ * Interface component com as abstrações para mapeamento das transações da linha do tempo.
+ */
+public interface TimelineMapper {
+
+  /**
+   * Mapeia um objeto {@link TimelineEntry} para {@link TimelineEntryResponse}, o saldo da transação é openingBalance
+   * mais o saldo acumulado dentro da página.
+   *
+   * @param timelineEntry  objeto a ser mapeado.
+   * @param openingBalance saldo anterior à transação mais antiga da página.
+   * @return Objeto TimelineEntryResponse.
+   * @throws IllegalArgumentException caso timelineEntry ou openingBalance sejam null.
+   */
+  TimelineEntryResponse toTimelineEntryResponse(TimelineEntry timelineEntry, BigDecimal openingBalance);
+
+}
@@ -13,8 +13,9 @@ public interface UserMapper {
    * Mepeia um objeto {@link SignupRequest} para User.
    *
    * @param signupRequest objeto a ser mapeado.
-   * @return Objeto User.
+   * @return Objeto User, com a moeda de cotação como moeda base caso signupRequest não informe uma.
    * @throws IllegalArgumentException caso signupRequest seja null.
+   * @throws br.com.emendes.financesapi.exception.InvalidCurrencyException caso a moeda base não possua cotação.
    */
   User toUser(SignupRequest signupRequest);
 
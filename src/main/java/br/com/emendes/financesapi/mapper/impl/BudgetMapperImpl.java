@@ -0,0 +1,51 @@
+package br.com.emendes.financesapi.mapper.impl;
+
+import br.com.emendes.financesapi.dto.response.BudgetResponse;
+import br.com.emendes.financesapi.mapper.BudgetMapper;
+import br.com.emendes.financesapi.model.entity.Budget;
+import br.com.emendes.financesapi.repository.projection.BudgetStatus;
+import br.com.emendes.financesapi.util.component.CategoryDictionary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.math.BigDecimal;
+
+/**
+ * Implementação de {@link BudgetMapper}.
+ */
+@RequiredArgsConstructor
+@Component
+public class BudgetMapperImpl implements BudgetMapper {
+
+  private final CategoryDictionary categoryDictionary;
+
+  @Override
+  public BudgetResponse toBudgetResponse(BudgetStatus budgetStatus) {
+    Assert.notNull(budgetStatus, "budgetStatus must not be null.");
+
+    return toBudgetResponse(budgetStatus.getCategory(), budgetStatus.getLimitValue(), budgetStatus.getSpent());
+  }
+
+  @Override
+  public BudgetResponse toBudgetResponse(Budget budget, BigDecimal spent) {
+    Assert.notNull(budget, "budget must not be null.");
+    Assert.notNull(spent, "spent must not be null.");
+
+    String category = categoryDictionary.getName(budget.getUser().getId(), budget.getCategoryId());
+    return toBudgetResponse(category, budget.getLimitValue(), spent);
+  }
+
+  private BudgetResponse toBudgetResponse(String category, BigDecimal limit, BigDecimal spent) {
+    BigDecimal remaining = limit.subtract(spent);
+
+    return BudgetResponse.builder()
+        .category(category)
+        .limit(limit)
+        .spent(spent)
+        .remaining(remaining)
+        .exceeded(remaining.signum() < 0)
+        .build();
+  }
+
+}
@@ -3,28 +3,38 @@ package br.com.emendes.financesapi.mapper.impl;
 import br.com.emendes.financesapi.dto.request.ExpenseRequest;
 import br.com.emendes.financesapi.dto.response.ExpenseResponse;
 import br.com.emendes.financesapi.mapper.ExpenseMapper;
-import br.com.emendes.financesapi.model.Category;
+import br.com.emendes.financesapi.model.DefaultCategory;
+import br.com.emendes.financesapi.model.Money;
 import br.com.emendes.financesapi.model.entity.Expense;
+import br.com.emendes.financesapi.model.entity.User;
+import br.com.emendes.financesapi.util.component.CategoryDictionary;
+import br.com.emendes.financesapi.util.component.FxRateTable;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
-import java.time.LocalDate;
-
 /**
  * Implementação de {@link ExpenseMapper}.
  */
+@RequiredArgsConstructor
 @Component
 public class ExpenseMapperImpl implements ExpenseMapper {
 
+  private final CategoryDictionary categoryDictionary;
+  private final FxRateTable fxRateTable;
+
   @Override
-  public Expense toExpense(ExpenseRequest expenseRequest) {
+  public Expense toExpense(ExpenseRequest expenseRequest, User user) {
     Assert.notNull(expenseRequest, "expenseRequest must not be null.");
+    Assert.notNull(user, "user must not be null.");
 
     return Expense.builder()
         .description(expenseRequest.getDescription())
-        .value(expenseRequest.getValue())
-        .category(toCategory(expenseRequest.getCategory()))
-        .date(LocalDate.parse(expenseRequest.getDate()))
+        .value(Money.of(expenseRequest.getValue()))
+        .currency(toCurrency(user, expenseRequest.getCurrency()))
+        .categoryId(toCategoryId(user.getId(), expenseRequest.getCategory()))
+        .date(expenseRequest.getDate())
+        .user(user)
         .build();
   }
 
@@ -36,7 +46,8 @@ public class ExpenseMapperImpl implements ExpenseMapper {
         .id(expense.getId())
         .description(expense.getDescription())
         .value(expense.getValue())
-        .category(expense.getCategory())
+        .currency(expense.getCurrency())
+        .category(categoryDictionary.getName(expense.getUser().getId(), expense.getCategoryId()))
         .date(expense.getDate())
         .build();
   }
@@ -47,23 +58,37 @@ public class ExpenseMapperImpl implements ExpenseMapper {
     Assert.notNull(expenseRequest, "expenseRequest must not be null.");
 
     expense.setDescription(expenseRequest.getDescription());
-    expense.setValue(expenseRequest.getValue());
-    expense.setDate(LocalDate.parse(expenseRequest.getDate()));
+    expense.setValue(Money.of(expenseRequest.getValue()));
+    expense.setDate(expenseRequest.getDate());
+    if (expenseRequest.getCurrency() != null) {
+      expense.setCurrency(fxRateTable.requireSupported(expenseRequest.getCurrency()));
+    }
     if (expenseRequest.getCategory() != null) {
-      expense.setCategory(Category.valueOf(expenseRequest.getCategory()));
+      expense.setCategoryId(categoryDictionary.getId(expense.getUser().getId(), expenseRequest.getCategory()));
     }
   }
 
   /**
-   * Converte uma String em um {@link Category}.
+   * Converte o nome de uma categoria do usuário no seu id.
+   *
+   * @param userId           identificador do usuário.
+   * @param categoryAsString nome da categoria.
+   * @return id da categoria que corresponde a categoryAsString, caso categoryAsString seja null,
+   * retorna o id de {@code DefaultCategory.OUTRAS}
+   */
+  private short toCategoryId(Long userId, String categoryAsString) {
+    if (categoryAsString == null) return DefaultCategory.OUTRAS.getId();
+    return categoryDictionary.getId(userId, categoryAsString);
+  }
+
+  /**
+   * Moeda da despesa, a moeda base do usuário caso currency seja null.
    *
-   * @param categoryAsString category como String.
-   * @return Category que corresponde a categoryAsString, caso categoryAsString seja null,
-   * retorna {@code Category.OUTRAS}
+   * @throws br.com.emendes.financesapi.exception.InvalidCurrencyException caso a moeda não possua cotação.
    */
-  private Category toCategory(String categoryAsString) {
-    if (categoryAsString == null) return Category.OUTRAS;
-    return Category.valueOf(categoryAsString);
+  private String toCurrency(User user, String currency) {
+    if (currency == null) return user.getBaseCurrency();
+    return fxRateTable.requireSupported(currency);
   }
 
 }
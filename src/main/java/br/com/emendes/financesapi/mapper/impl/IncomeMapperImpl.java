@@ -3,26 +3,35 @@ package br.com.emendes.financesapi.mapper.impl;
 import br.com.emendes.financesapi.dto.request.IncomeRequest;
 import br.com.emendes.financesapi.dto.response.IncomeResponse;
 import br.com.emendes.financesapi.mapper.IncomeMapper;
+import br.com.emendes.financesapi.model.Money;
 import br.com.emendes.financesapi.model.entity.Income;
+import br.com.emendes.financesapi.model.entity.User;
+import br.com.emendes.financesapi.util.component.FxRateTable;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
-import java.time.LocalDate;
-
 /**
  * Implementação de {@link IncomeMapper}.
  */
+@RequiredArgsConstructor
 @Component
 public class IncomeMapperImpl implements IncomeMapper {
 
+  private final FxRateTable fxRateTable;
+
   @Override
-  public Income toIncome(IncomeRequest incomeRequest) {
+  public Income toIncome(IncomeRequest incomeRequest, User user) {
     Assert.notNull(incomeRequest, "incomeRequest must not be null.");
+    Assert.notNull(user, "user must not be null.");
 
     return Income.builder()
         .description(incomeRequest.getDescription())
-        .value(incomeRequest.getValue())
-        .date(LocalDate.parse(incomeRequest.getDate()))
+        .value(Money.of(incomeRequest.getValue()))
+        .currency(incomeRequest.getCurrency() == null ?
+            user.getBaseCurrency() : fxRateTable.requireSupported(incomeRequest.getCurrency()))
+        .date(incomeRequest.getDate())
+        .user(user)
         .build();
   }
 
@@ -34,6 +43,7 @@ public class IncomeMapperImpl implements IncomeMapper {
         .id(income.getId())
         .description(income.getDescription())
         .value(income.getValue())
+        .currency(income.getCurrency())
         .date(income.getDate())
         .build();
   }
@@ -44,8 +54,11 @@ public class IncomeMapperImpl implements IncomeMapper {
     Assert.notNull(incomeRequest, "incomeRequest must not be null.");
 
     income.setDescription(incomeRequest.getDescription());
-    income.setValue(incomeRequest.getValue());
-    income.setDate(LocalDate.parse(incomeRequest.getDate()));
+    income.setValue(Money.of(incomeRequest.getValue()));
+    income.setDate(incomeRequest.getDate());
+    if (incomeRequest.getCurrency() != null) {
+      income.setCurrency(fxRateTable.requireSupported(incomeRequest.getCurrency()));
+    }
   }
 
 }
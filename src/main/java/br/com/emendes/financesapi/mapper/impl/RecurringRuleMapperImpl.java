@@ -0,0 +1,95 @@
+package br.com.emendes.financesapi.mapper.impl;
+
+import br.com.emendes.financesapi.dto.request.RecurringRuleRequest;
+import br.com.emendes.financesapi.dto.response.RecurringRuleResponse;
+import br.com.emendes.financesapi.mapper.RecurringRuleMapper;
+import br.com.emendes.financesapi.model.DefaultCategory;
+import br.com.emendes.financesapi.model.Frequency;
+import br.com.emendes.financesapi.model.TransactionType;
+import br.com.emendes.financesapi.model.entity.RecurringRule;
+import br.com.emendes.financesapi.model.entity.User;
+import br.com.emendes.financesapi.util.component.CategoryDictionary;
+import br.com.emendes.financesapi.util.component.FxRateTable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.time.LocalDate;
+
+/**
+ * Implementação de {@link RecurringRuleMapper}.
+ */
+@RequiredArgsConstructor
+@Component
+public class RecurringRuleMapperImpl implements RecurringRuleMapper {
+
+  private final CategoryDictionary categoryDictionary;
+  private final FxRateTable fxRateTable;
+
+  @Override
+  public RecurringRule toRecurringRule(RecurringRuleRequest recurringRuleRequest, User user) {
+    Assert.notNull(recurringRuleRequest, "recurringRuleRequest must not be null.");
+    Assert.notNull(user, "user must not be null.");
+
+    TransactionType type = TransactionType.valueOf(recurringRuleRequest.getType());
+    LocalDate startDate = recurringRuleRequest.getStartDate();
+
+    return RecurringRule.builder()
+        .type(type)
+        .description(recurringRuleRequest.getDescription())
+        .value(recurringRuleRequest.getValue())
+        .currency(toCurrency(user, recurringRuleRequest.getCurrency()))
+        .categoryId(type == TransactionType.EXPENSE
+            ? toCategoryId(user.getId(), recurringRuleRequest.getCategory()) : null)
+        .frequency(Frequency.valueOf(recurringRuleRequest.getFrequency()))
+        .startDate(startDate)
+        .endDate(recurringRuleRequest.getEndDate())
+        .nextOccurrence(startDate)
+        .occurrences(0)
+        .user(user)
+        .build();
+  }
+
+  @Override
+  public RecurringRuleResponse toRecurringRuleResponse(RecurringRule recurringRule) {
+    Assert.notNull(recurringRule, "recurringRule must not be null.");
+
+    return RecurringRuleResponse.builder()
+        .id(recurringRule.getId())
+        .type(recurringRule.getType())
+        .description(recurringRule.getDescription())
+        .value(recurringRule.getValue())
+        .currency(recurringRule.getCurrency())
+        .category(recurringRule.getCategoryId() != null
+            ? categoryDictionary.getName(recurringRule.getUser().getId(), recurringRule.getCategoryId()) : null)
+        .frequency(recurringRule.getFrequency())
+        .startDate(recurringRule.getStartDate())
+        .endDate(recurringRule.getEndDate())
+        .nextOccurrence(recurringRule.getNextOccurrence())
+        .build();
+  }
+
+  /**
+   * Converte o nome de uma categoria do usuário no seu id.
+   *
+   * @param userId           identificador do usuário.
+   * @param categoryAsString nome da categoria.
+   * @return id da categoria que corresponde a categoryAsString, caso categoryAsString seja null,
+   * retorna o id de {@code DefaultCategory.OUTRAS}
+   */
+  private Short toCategoryId(Long userId, String categoryAsString) {
+    if (categoryAsString == null) return DefaultCategory.OUTRAS.getId();
+    return categoryDictionary.getId(userId, categoryAsString);
+  }
+
+  /**
+   * Moeda da regra, a moeda base do usuário caso currency seja null.
+   *
+   * @throws br.com.emendes.financesapi.exception.InvalidCurrencyException caso a moeda não possua cotação.
+   */
+  private String toCurrency(User user, String currency) {
+    if (currency == null) return user.getBaseCurrency();
+    return fxRateTable.requireSupported(currency);
+  }
+
+}
@@ -0,0 +1,37 @@
+package br.com.emendes.financesapi.mapper.impl;
+
+import br.com.emendes.financesapi.dto.response.SyncChangeResponse;
+import br.com.emendes.financesapi.mapper.SyncMapper;
+import br.com.emendes.financesapi.model.TransactionType;
+import br.com.emendes.financesapi.repository.projection.SyncChange;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+/**
+ * Implementação de {@link SyncMapper}.
+ */
+@Component
+public class SyncMapperImpl implements SyncMapper {
+
+  @Override
+  public SyncChangeResponse toSyncChangeResponse(SyncChange syncChange) {
+    Assert.notNull(syncChange, "syncChange must not be null.");
+
+    SyncChangeResponse.SyncChangeResponseBuilder builder = SyncChangeResponse.builder()
+        .type(TransactionType.valueOf(syncChange.getType()))
+        .id(syncChange.getId())
+        .deleted(syncChange.getDeleted());
+
+    if (syncChange.getDeleted()) {
+      return builder.build();
+    }
+    return builder
+        .description(syncChange.getDescription())
+        .date(syncChange.getDate())
+        .value(syncChange.getValue())
+        .currency(syncChange.getCurrency())
+        .category(syncChange.getCategory())
+        .build();
+  }
+
+}
@@ -0,0 +1,36 @@
+package br.com.emendes.financesapi.mapper.impl;
+
+import br.com.emendes.financesapi.dto.response.TimelineEntryResponse;
+import br.com.emendes.financesapi.mapper.TimelineMapper;
+import br.com.emendes.financesapi.model.Money;
+import br.com.emendes.financesapi.model.TransactionType;
+import br.com.emendes.financesapi.repository.projection.TimelineEntry;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.math.BigDecimal;
+
+/**
+ * Implementação de {@link TimelineMapper}.
+ */
+@Component
+public class TimelineMapperImpl implements TimelineMapper {
+
+  @Override
+  public TimelineEntryResponse toTimelineEntryResponse(TimelineEntry timelineEntry, BigDecimal openingBalance) {
+    Assert.notNull(timelineEntry, "timelineEntry must not be null.");
+    Assert.notNull(openingBalance, "openingBalance must not be null.");
+
+    return TimelineEntryResponse.builder()
+        .type(TransactionType.valueOf(timelineEntry.getType()))
+        .id(timelineEntry.getId())
+        .description(timelineEntry.getDescription())
+        .date(timelineEntry.getDate())
+        .value(Money.of(timelineEntry.getValue()))
+        .currency(timelineEntry.getCurrency())
+        .category(timelineEntry.getCategory())
+        .balance(Money.of(openingBalance.add(timelineEntry.getBalance())))
+        .build();
+  }
+
+}
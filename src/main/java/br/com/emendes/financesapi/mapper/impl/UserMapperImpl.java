@@ -4,15 +4,20 @@ import br.com.emendes.financesapi.dto.request.SignupRequest;
 import br.com.emendes.financesapi.dto.response.UserResponse;
 import br.com.emendes.financesapi.mapper.UserMapper;
 import br.com.emendes.financesapi.model.entity.User;
+import br.com.emendes.financesapi.util.component.FxRateTable;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
 /**
  * Implementação de {@link UserMapper}.
  */
+@RequiredArgsConstructor
 @Component
 public class UserMapperImpl implements UserMapper {
 
+  private final FxRateTable fxRateTable;
+
   @Override
   public User toUser(SignupRequest signupRequest) {
     Assert.notNull(signupRequest, "signupRequest must not be null.");
@@ -21,6 +26,8 @@ public class UserMapperImpl implements UserMapper {
         .name(signupRequest.getName())
         .email(signupRequest.getEmail())
         .password(signupRequest.getPassword())
+        .baseCurrency(signupRequest.getBaseCurrency() == null ?
+            fxRateTable.getQuoteCurrency() : fxRateTable.requireSupported(signupRequest.getBaseCurrency()))
         .build();
   }
 
@@ -1,5 +0,0 @@
-package br.com.emendes.financesapi.model;
-
-public enum Category {
-  ALIMENTACAO, SAUDE, MORADIA, TRANSPORTE, EDUCACAO, LAZER, IMPREVISTOS, OUTRAS;
-}
@@ -0,0 +1,30 @@
+package br.com.emendes.financesapi.model;
+
+import lombok.Getter;
+
+/**
+ * Categorias criadas para todo usuário no cadastro.<br>
+ * <br>
+ * OBS: Os ids são persistidos em tb_category (e referenciados por category_id), não devem ser alterados.
+ */
+@Getter
+public enum DefaultCategory {
+  ALIMENTACAO(1), SAUDE(2), MORADIA(3), TRANSPORTE(4), EDUCACAO(5), LAZER(6), IMPREVISTOS(7), OUTRAS(8);
+
+  private final short id;
+
+  DefaultCategory(int id) {
+    this.id = (short) id;
+  }
+
+  /**
+   * Verifica se o id pertence a uma categoria padrão.
+   *
+   * @param id id da categoria.
+   * @return true caso id seja de uma categoria padrão, false caso contrário.
+   */
+  public static boolean isDefault(short id) {
+    return id >= ALIMENTACAO.id && id <= OUTRAS.id;
+  }
+
+}
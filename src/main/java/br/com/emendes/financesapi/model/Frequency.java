@@ -0,0 +1,9 @@
+package br.com.emendes.financesapi.model;
+
+/**
+ * Frequência com que uma regra de recorrência gera despesas ou receitas, sempre relativa à data inicial da regra,
+ * por exemplo, uma regra mensal iniciada no dia 31 gera ocorrências no último dia dos meses mais curtos.
+ */
+public enum Frequency {
+  WEEKLY, MONTHLY, YEARLY
+}
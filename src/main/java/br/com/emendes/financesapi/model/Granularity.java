@@ -0,0 +1,26 @@
+package br.com.emendes.financesapi.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Tamanho dos períodos de uma série temporal. Semanas começam na segunda-feira, como no date_trunc do PostgreSQL.
+ */
+public enum Granularity {
+  DAY, WEEK, MONTH;
+
+  /**
+   * Quantidade de períodos entre from e to, inclusive os períodos que contêm from e to.
+   */
+  public long countPeriods(LocalDate from, LocalDate to) {
+    return switch (this) {
+      case DAY -> ChronoUnit.DAYS.between(from, to) + 1;
+      case WEEK -> ChronoUnit.WEEKS.between(from.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)), to) + 1;
+      case MONTH -> ChronoUnit.MONTHS.between(YearMonth.from(from), YearMonth.from(to)) + 1;
+    };
+  }
+
+}
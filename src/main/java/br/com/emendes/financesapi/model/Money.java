@@ -0,0 +1,84 @@
+package br.com.emendes.financesapi.model;
+
+import br.com.emendes.financesapi.util.deserializer.MoneyDeserializer;
+import br.com.emendes.financesapi.util.serializer.MoneySerializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * Valor monetário representado em centavos.<br>
+ * <br>
+ * Somas e subtrações são operações em {@code long}, sem criar um {@code BigDecimal} por operação.
+ * Operações que excedem o intervalo de {@code long} lançam {@link ArithmeticException}.
+ * No JSON o valor é um número com duas casas decimais (ex.: 1500.00), o mesmo formato de um {@code BigDecimal}
+ * com escala 2, e no banco de dados é mapeado para colunas numeric por
+ * {@link br.com.emendes.financesapi.model.type.MoneyType}.
+ *
+ * @param cents valor em centavos.
+ */
+@Schema(type = "number", format = "decimal", example = "271.94")
+@JsonSerialize(using = MoneySerializer.class)
+@JsonDeserialize(using = MoneyDeserializer.class)
+public record Money(long cents) implements Comparable<Money>, Serializable {
+
+  public static final Money ZERO = new Money(0);
+
+  private static final int SCALE = 2;
+
+  public static Money ofCents(long cents) {
+    return cents == 0 ? ZERO : new Money(cents);
+  }
+
+  /**
+   * Converte um {@code BigDecimal} em Money.
+   *
+   * @throws ArithmeticException caso value tenha mais de duas casas decimais ou não caiba em um {@code long}.
+   */
+  public static Money of(BigDecimal value) {
+    return ofCents(value.movePointRight(SCALE).longValueExact());
+  }
+
+  public Money plus(Money other) {
+    return ofCents(Math.addExact(cents, other.cents));
+  }
+
+  public Money minus(Money other) {
+    return ofCents(Math.subtractExact(cents, other.cents));
+  }
+
+  public boolean isZero() {
+    return cents == 0;
+  }
+
+  public BigDecimal toBigDecimal() {
+    return BigDecimal.valueOf(cents, SCALE);
+  }
+
+  @Override
+  public int compareTo(Money other) {
+    return Long.compare(cents, other.cents);
+  }
+
+  /**
+   * Valor com duas casas decimais, ex.: 1500.00, -0.05.
+   */
+  @Override
+  public String toString() {
+    long abs = Math.abs(cents);
+    long units = abs / 100;
+    int fraction = (int) (abs % 100);
+
+    StringBuilder builder = new StringBuilder(24);
+    if (cents < 0) builder.append('-');
+    return builder.append(units)
+        .append('.')
+        .append((char) ('0' + fraction / 10))
+        .append((char) ('0' + fraction % 10))
+        .toString();
+  }
+
+}
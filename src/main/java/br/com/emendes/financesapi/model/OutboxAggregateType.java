@@ -0,0 +1,8 @@
+package br.com.emendes.financesapi.model;
+
+/**
+ * Tipos de recurso que originam eventos no outbox.
+ */
+public enum OutboxAggregateType {
+  EXPENSE, INCOME, BUDGET
+}
@@ -0,0 +1,10 @@
+package br.com.emendes.financesapi.model;
+
+/**
+ * Tipos de alteração registradas no outbox.<br>
+ * LIMIT_EXCEEDED e LIMIT_RESTORED são emitidos para orçamentos quando uma escrita em despesas faz o total do mês
+ * ultrapassar o limite ou voltar para dentro dele.
+ */
+public enum OutboxEventType {
+  CREATED, UPDATED, DELETED, LIMIT_EXCEEDED, LIMIT_RESTORED
+}
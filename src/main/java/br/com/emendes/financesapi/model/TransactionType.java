@@ -0,0 +1,8 @@
+package br.com.emendes.financesapi.model;
+
+/**
+ * Tipos de transação financeira do sistema, receita (income) ou despesa (expense).
+ */
+public enum TransactionType {
+  EXPENSE, INCOME;
+}
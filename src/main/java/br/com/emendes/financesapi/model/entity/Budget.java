@@ -0,0 +1,40 @@
+package br.com.emendes.financesapi.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Limite de gastos do usuário em uma categoria durante um mês.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+@Entity
+@Table(name = "tb_budget")
+public class Budget {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+  @Column(name = "category_id", nullable = false)
+  private Short categoryId;
+  /**
+   * Primeiro dia do mês do orçamento.
+   */
+  @Column(nullable = false)
+  private LocalDate month;
+  @Column(nullable = false, precision = 14, scale = 2)
+  private BigDecimal limitValue;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @OnDelete(action = OnDeleteAction.CASCADE)
+  private User user;
+
+}
@@ -0,0 +1,29 @@
+package br.com.emendes.financesapi.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Categoria de despesa de um usuário.<br>
+ * O id é sequencial por usuário e cabe em um smallint, as despesas, regras recorrentes e orçamentos
+ * guardam apenas esse id (category_id) junto ao user_id.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+@Entity
+@IdClass(CategoryId.class)
+@Table(name = "tb_category")
+public class Category {
+
+  @Id
+  @Column(name = "user_id")
+  private Long userId;
+  @Id
+  private Short id;
+  @Column(nullable = false, length = 25)
+  private String name;
+
+}
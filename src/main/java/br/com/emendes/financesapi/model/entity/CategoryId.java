@@ -0,0 +1,20 @@
+package br.com.emendes.financesapi.model.entity;
+
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * Chave composta de {@link Category}.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+public class CategoryId implements Serializable {
+
+  private Long userId;
+  private Short id;
+
+}
@@ -1,12 +1,14 @@
 package br.com.emendes.financesapi.model.entity;
 
-import br.com.emendes.financesapi.model.Category;
+import br.com.emendes.financesapi.model.Money;
+import br.com.emendes.financesapi.model.type.MoneyType;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.SoftDelete;
+import org.hibernate.annotations.Type;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @AllArgsConstructor
@@ -15,6 +17,7 @@ import java.time.LocalDate;
 @Setter
 @Builder
 @Entity
+@SoftDelete
 @Table(name = "tb_expense")
 public class Expense {
 
@@ -23,14 +26,22 @@ public class Expense {
   private Long id;
   @Column(nullable = false)
   private String description;
-  @Column(nullable = false, precision = 8, scale = 2)
-  private BigDecimal value;
+  @Type(MoneyType.class)
+  @Column(nullable = false, precision = 14, scale = 2)
+  private Money value;
+  /**
+   * Código ISO 4217 da moeda de value.
+   */
+  @Column(nullable = false, length = 3)
+  private String currency;
   @Column(nullable = false)
   private LocalDate date;
 
-  @Column(nullable = false, length = 25)
-  @Enumerated(EnumType.STRING)
-  private Category category;
+  /**
+   * Id da categoria (tb_category), convertido de/para o nome pelo CategoryDictionary.
+   */
+  @Column(name = "category_id", nullable = false)
+  private Short categoryId;
 
   @ManyToOne(fetch = FetchType.LAZY)
   @OnDelete(action = OnDeleteAction.CASCADE)
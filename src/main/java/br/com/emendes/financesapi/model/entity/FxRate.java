@@ -0,0 +1,34 @@
+package br.com.emendes.financesapi.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Cotação diária de uma moeda, {@code rate} é o valor de uma unidade de {@code currency} na moeda de cotação
+ * (financesapi.fx.quote-currency).<br>
+ * Mapeada apenas para ser usada em joins nas consultas de resumo, as linhas são escritas por
+ * {@link br.com.emendes.financesapi.repository.FxRateRepository#upsertAll}.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+@Entity
+@IdClass(FxRateId.class)
+@Table(name = "tb_fx_rate")
+public class FxRate {
+
+  @Id
+  @Column(length = 3)
+  private String currency;
+  @Id
+  @Column(name = "rate_date")
+  private LocalDate date;
+  @Column(nullable = false, precision = 20, scale = 10)
+  private BigDecimal rate;
+
+}
@@ -0,0 +1,21 @@
+package br.com.emendes.financesapi.model.entity;
+
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Chave composta de {@link FxRate}.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+public class FxRateId implements Serializable {
+
+  private String currency;
+  private LocalDate date;
+
+}
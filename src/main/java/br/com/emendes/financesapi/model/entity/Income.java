@@ -1,11 +1,14 @@
 package br.com.emendes.financesapi.model.entity;
 
+import br.com.emendes.financesapi.model.Money;
+import br.com.emendes.financesapi.model.type.MoneyType;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.SoftDelete;
+import org.hibernate.annotations.Type;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @AllArgsConstructor
@@ -14,6 +17,7 @@ import java.time.LocalDate;
 @Setter
 @Builder
 @Entity
+@SoftDelete
 @Table(name = "tb_income")
 public class Income {
 
@@ -22,8 +26,14 @@ public class Income {
   private Long id;
   @Column(nullable = false)
   private String description;
-  @Column(nullable = false, precision = 8, scale = 2)
-  private BigDecimal value;
+  @Type(MoneyType.class)
+  @Column(nullable = false, precision = 14, scale = 2)
+  private Money value;
+  /**
+   * Código ISO 4217 da moeda de value.
+   */
+  @Column(nullable = false, length = 3)
+  private String currency;
   @Column(nullable = false)
   private LocalDate date;
 
@@ -0,0 +1,45 @@
+package br.com.emendes.financesapi.model.entity;
+
+import br.com.emendes.financesapi.model.OutboxAggregateType;
+import br.com.emendes.financesapi.model.OutboxEventType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de alteração de uma receita ou despesa, gravado na mesma transação da alteração
+ * e publicado posteriormente pelo relay do outbox.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+@Entity
+@Table(name = "tb_outbox_event")
+public class OutboxEvent {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+  @Column(nullable = false, length = 20)
+  @Enumerated(EnumType.STRING)
+  private OutboxAggregateType aggregateType;
+  @Column(nullable = false)
+  private Long aggregateId;
+  @Column(nullable = false)
+  private Long userId;
+  @Column(nullable = false, length = 20)
+  @Enumerated(EnumType.STRING)
+  private OutboxEventType eventType;
+  /**
+   * Representação JSON do recurso após a alteração.
+   */
+  @Column(nullable = false)
+  private String payload;
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+  private LocalDateTime publishedAt;
+
+}
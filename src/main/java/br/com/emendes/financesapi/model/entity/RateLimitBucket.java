@@ -0,0 +1,31 @@
+package br.com.emendes.financesapi.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+
+/**
+ * Token bucket do rate limit compartilhado entre as instâncias, atualizado apenas por
+ * {@link br.com.emendes.financesapi.repository.RateLimitBucketRepository}.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+@Entity
+@Table(name = "tb_rate_limit_bucket")
+public class RateLimitBucket {
+
+  @Id
+  @Column(name = "bucket_key")
+  private String key;
+  /**
+   * Instante teórico de chegada da próxima requisição, em microssegundos desde a época.
+   */
+  @Column(nullable = false)
+  private long arrival;
+
+}
@@ -0,0 +1,67 @@
+package br.com.emendes.financesapi.model.entity;
+
+import br.com.emendes.financesapi.model.Frequency;
+import br.com.emendes.financesapi.model.TransactionType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Regra que gera periodicamente uma despesa ou receita para o usuário.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+@Entity
+@Table(name = "tb_recurring_rule")
+public class RecurringRule {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+  @Column(nullable = false, length = 20)
+  @Enumerated(EnumType.STRING)
+  private TransactionType type;
+  @Column(nullable = false)
+  private String description;
+  @Column(nullable = false, precision = 14, scale = 2)
+  private BigDecimal value;
+  /**
+   * Código ISO 4217 da moeda de value, usada nas despesas e receitas geradas.
+   */
+  @Column(nullable = false, length = 3)
+  private String currency;
+  /**
+   * Categoria das despesas geradas, null para regras de receita.
+   */
+  @Column(name = "category_id")
+  private Short categoryId;
+  @Column(nullable = false, length = 20)
+  @Enumerated(EnumType.STRING)
+  private Frequency frequency;
+  @Column(nullable = false)
+  private LocalDate startDate;
+  private LocalDate endDate;
+  /**
+   * Data da próxima ocorrência a ser gerada, mantida pelo job de materialização.
+   */
+  @Column(nullable = false)
+  private LocalDate nextOccurrence;
+  /**
+   * Quantidade de ocorrências já geradas, a próxima ocorrência é calculada a partir de startDate e occurrences
+   * para que o dia do mês não se desloque após meses mais curtos.
+   */
+  @Column(nullable = false)
+  private int occurrences;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @OnDelete(action = OnDeleteAction.CASCADE)
+  private User user;
+
+}
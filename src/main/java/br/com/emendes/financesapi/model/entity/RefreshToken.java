@@ -0,0 +1,41 @@
+package br.com.emendes.financesapi.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Refresh token de um usuário, apenas o hash SHA-256 do valor entregue ao cliente é guardado. Tokens gerados a partir
+ * do mesmo sign in compartilham o familyId.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+@Entity
+@Table(name = "tb_refresh_token")
+public class RefreshToken {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+  @Column(nullable = false)
+  private Long userId;
+  @Column(nullable = false)
+  private UUID familyId;
+  @Column(nullable = false, unique = true, length = 64)
+  private String tokenHash;
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+  @Column(nullable = false)
+  private LocalDateTime expiresAt;
+  private LocalDateTime revokedAt;
+  /**
+   * Id do token gerado na rotação deste token.
+   */
+  private Long replacedById;
+
+}
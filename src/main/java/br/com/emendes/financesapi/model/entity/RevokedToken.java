@@ -0,0 +1,29 @@
+package br.com.emendes.financesapi.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Access token revogado antes da expiração, identificado pelo jti.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+@Entity
+@Table(name = "tb_revoked_token")
+public class RevokedToken {
+
+  @Id
+  @Column(length = 36)
+  private String id;
+  @Column(nullable = false)
+  private LocalDateTime expiresAt;
+
+}
@@ -26,10 +26,20 @@ public class User implements UserDetails {
   private Long id;
   @Column(nullable = false, length = 100)
   private String name;
-  @Column(unique = true, nullable = false, length = 150)
+  @Column(nullable = false, length = 150)
   private String email;
   @Column(nullable = false)
   private String password;
+  /**
+   * Indica que o usuário foi deletado e aguarda a remoção de seus dados relacionados (incomes e expenses).
+   */
+  @Column(nullable = false)
+  private boolean deleted;
+  /**
+   * Código ISO 4217 da moeda padrão das transações e dos resumos do usuário.
+   */
+  @Column(name = "base_currency", nullable = false, length = 3)
+  private String baseCurrency;
 
   @ManyToMany(fetch = FetchType.EAGER)
   @OnDelete(action = OnDeleteAction.CASCADE)
@@ -50,6 +60,11 @@ public class User implements UserDetails {
     return this.email;
   }
 
+  @Override
+  public boolean isEnabled() {
+    return !this.deleted;
+  }
+
   public List<Role> getRoles() {
     return Collections.unmodifiableList(roles);
   }
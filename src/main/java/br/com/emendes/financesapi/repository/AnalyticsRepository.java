@@ -0,0 +1,228 @@
+package br.com.emendes.financesapi.repository;
+
+import br.com.emendes.financesapi.model.entity.Expense;
+import br.com.emendes.financesapi.repository.projection.BalancePoint;
+import br.com.emendes.financesapi.repository.projection.CategoryMonthTotal;
+import br.com.emendes.financesapi.repository.projection.MonthlyNet;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Interface repository com as abstrações para as consultas de análise sobre despesas e receitas.<br>
+ * <br>
+ * OBS: Os valores são convertidos para currency com a cotação do dia da transação, como no resumo mensal, e
+ * arredondados para centavos antes da soma.
+ * Uma cotação ausente interrompe a consulta com o erro FX001 de fn_missing_fx_rate.
+ */
+public interface AnalyticsRepository extends Repository<Expense, Long> {
+
+  /**
+   * Receitas e despesas não deletadas do usuário com date em [start, end), convertidas para currency. Cada lado do
+   * UNION ALL percorre o índice (user_id, date, id).
+   */
+  String AMOUNTS = """
+      SELECT i.date AS date,
+             CASE WHEN i.currency = :currency THEN i.value
+             ELSE COALESCE(ROUND(i.value * fr.rate / tr.rate, 2),
+                           fn_missing_fx_rate(i.currency, i.date)) END AS income,
+             0 AS expense
+        FROM tb_income i
+        LEFT JOIN tb_fx_rate fr ON fr.currency = i.currency
+          AND fr.rate_date = LEAST(GREATEST(i.date, :firstRateDate), :lastRateDate)
+        LEFT JOIN tb_fx_rate tr ON tr.currency = :currency AND tr.rate_date = fr.rate_date
+        WHERE i.user_id = :userId AND i.deleted = false AND i.date >= :start AND i.date < :end
+      UNION ALL
+      SELECT e.date AS date,
+             0 AS income,
+             CASE WHEN e.currency = :currency THEN e.value
+             ELSE COALESCE(ROUND(e.value * fr.rate / tr.rate, 2),
+                           fn_missing_fx_rate(e.currency, e.date)) END AS expense
+        FROM tb_expense e
+        LEFT JOIN tb_fx_rate fr ON fr.currency = e.currency
+          AND fr.rate_date = LEAST(GREATEST(e.date, :firstRateDate), :lastRateDate)
+        LEFT JOIN tb_fx_rate tr ON tr.currency = :currency AND tr.rate_date = fr.rate_date
+        WHERE e.user_id = :userId AND e.deleted = false AND e.date >= :start AND e.date < :end
+      """;
+
+  /**
+   * Busca o saldo líquido de cada mês com transações do usuário entre start e end.
+   *
+   * @param userId        identificador do usuário.
+   * @param currency      moeda dos valores.
+   * @param firstRateDate primeiro dia com cotação carregada.
+   * @param lastRateDate  último dia com cotação carregada.
+   * @param start         primeiro dia do período (inclusivo).
+   * @param end           último dia do período (exclusivo).
+   * @return {@code List<MonthlyNet>} ordenada por mês, meses sem transações não são retornados.
+   */
+  @Query(value = """
+      SELECT CAST(date_trunc('month', CAST(t.date AS timestamp)) AS date) AS month, SUM(t.income - t.expense) AS net
+        FROM (""" + AMOUNTS + """
+      ) t
+       GROUP BY 1
+       ORDER BY 1
+      """, nativeQuery = true)
+  List<MonthlyNet> findNetByMonth(
+      @Param("userId") Long userId,
+      @Param("currency") String currency,
+      @Param("firstRateDate") LocalDate firstRateDate,
+      @Param("lastRateDate") LocalDate lastRateDate,
+      @Param("start") LocalDate start,
+      @Param("end") LocalDate end);
+
+  /**
+   * Busca o saldo líquido (receitas menos despesas) do usuário entre start e end.
+   *
+   * @param userId        identificador do usuário.
+   * @param currency      moeda dos valores.
+   * @param firstRateDate primeiro dia com cotação carregada.
+   * @param lastRateDate  último dia com cotação carregada.
+   * @param start         primeiro dia do período (inclusivo).
+   * @param end           último dia do período (exclusivo).
+   * @return o saldo líquido do período, zero quando não há transações.
+   */
+  @Query(value = "SELECT COALESCE(SUM(t.income - t.expense), 0) FROM (" + AMOUNTS + ") t", nativeQuery = true)
+  BigDecimal getNetBetween(
+      @Param("userId") Long userId,
+      @Param("currency") String currency,
+      @Param("firstRateDate") LocalDate firstRateDate,
+      @Param("lastRateDate") LocalDate lastRateDate,
+      @Param("start") LocalDate start,
+      @Param("end") LocalDate end);
+
+  /**
+   * Busca a série de saldo do usuário entre start e end, com um ponto por período de granularity, inclusive os
+   * períodos sem transações. O saldo de cada ponto é opening mais a soma acumulada (window function) dos saldos
+   * líquidos dos períodos até ele.<br>
+   * <br>
+   * OBS: O primeiro período pode começar antes de start (ex.: semana ou mês de start), mas contém apenas as
+   * transações a partir de start.
+   *
+   * @param userId        identificador do usuário.
+   * @param currency      moeda dos valores.
+   * @param firstRateDate primeiro dia com cotação carregada.
+   * @param lastRateDate  último dia com cotação carregada.
+   * @param granularity   unidade do date_trunc do período: day, week ou month.
+   * @param start         primeiro dia da série (inclusivo).
+   * @param end           último dia da série (exclusivo).
+   * @param opening       saldo do usuário antes de start.
+   * @return {@code List<BalancePoint>} ordenada por período.
+   */
+  @Query(value = """
+      SELECT CAST(p.period AS date) AS period,
+             COALESCE(n.income, 0) AS income,
+             COALESCE(n.expense, 0) AS expense,
+             :opening + SUM(COALESCE(n.income, 0) - COALESCE(n.expense, 0))
+                 OVER (ORDER BY p.period ROWS UNBOUNDED PRECEDING) AS balance
+        FROM generate_series(date_trunc(:granularity, CAST(:start AS timestamp)),
+                             CAST(:end AS timestamp) - INTERVAL '1 day',
+                             CAST('1 ' || :granularity AS interval)) AS p(period)
+        LEFT JOIN (SELECT date_trunc(:granularity, CAST(t.date AS timestamp)) AS period,
+                          SUM(t.income) AS income, SUM(t.expense) AS expense
+                     FROM (""" + AMOUNTS + """
+      ) t
+                    GROUP BY 1) n ON n.period = p.period
+       ORDER BY p.period
+      """, nativeQuery = true)
+  List<BalancePoint> findBalanceSeries(
+      @Param("userId") Long userId,
+      @Param("currency") String currency,
+      @Param("firstRateDate") LocalDate firstRateDate,
+      @Param("lastRateDate") LocalDate lastRateDate,
+      @Param("granularity") String granularity,
+      @Param("start") LocalDate start,
+      @Param("end") LocalDate end,
+      @Param("opening") BigDecimal opening);
+
+  /**
+   * Busca o total gasto pelo usuário em cada categoria e mês entre start e end, na moeda base do usuário, lido de
+   * tb_expense_category_rollup (mantida por trigger a cada escrita em tb_expense, com cada despesa já convertida com a
+   * cotação do dia dela) ao invés de agregar tb_expense.
+   *
+   * @param userId identificador do usuário.
+   * @param start  primeiro dia do primeiro mês (inclusivo).
+   * @param end    primeiro dia do mês após o período (exclusivo).
+   * @return {@code List<CategoryMonthTotal>} ordenada por categoria e mês, meses sem despesas não são retornados.
+   */
+  @Query(value = """
+      SELECT c.name AS category, t.month AS month, t.total AS total
+        FROM tb_expense_category_rollup t
+        JOIN tb_category c ON c.user_id = t.user_id AND c.id = t.category_id
+       WHERE t.user_id = :userId AND t.month >= :start AND t.month < :end
+       ORDER BY c.name, t.month
+      """, nativeQuery = true)
+  List<CategoryMonthTotal> findBaseCurrencyCategoryTotalsByMonth(
+      @Param("userId") Long userId,
+      @Param("start") LocalDate start,
+      @Param("end") LocalDate end);
+
+  /**
+   * Busca o total gasto pelo usuário em cada categoria e mês entre start e end. Cada despesa é convertida com a
+   * cotação do dia dela antes da soma, então o total de uma categoria no mês é o mesmo do resumo mensal e, na moeda
+   * base, o mesmo de {@link #findBaseCurrencyCategoryTotalsByMonth(Long, LocalDate, LocalDate)}.
+   *
+   * @param userId        identificador do usuário.
+   * @param currency      moeda dos valores.
+   * @param firstRateDate primeiro dia com cotação carregada.
+   * @param lastRateDate  último dia com cotação carregada.
+   * @param start         primeiro dia do primeiro mês (inclusivo).
+   * @param end           primeiro dia do mês após o período (exclusivo).
+   * @return {@code List<CategoryMonthTotal>} ordenada por categoria e mês, meses sem despesas não são retornados.
+   */
+  @Query(value = """
+      SELECT c.name AS category, CAST(date_trunc('month', e.date) AS date) AS month,
+             SUM(CASE WHEN e.currency = :currency THEN e.value
+                 ELSE COALESCE(ROUND(e.value * fr.rate / tr.rate, 2),
+                               fn_missing_fx_rate(e.currency, e.date)) END) AS total
+        FROM tb_expense e
+        JOIN tb_category c ON c.user_id = e.user_id AND c.id = e.category_id
+        LEFT JOIN tb_fx_rate fr ON fr.currency = e.currency
+          AND fr.rate_date = LEAST(GREATEST(e.date, :firstRateDate), :lastRateDate)
+        LEFT JOIN tb_fx_rate tr ON tr.currency = :currency AND tr.rate_date = fr.rate_date
+       WHERE e.user_id = :userId AND e.deleted = false AND e.date >= :start AND e.date < :end
+       GROUP BY 1, 2
+       ORDER BY 1, 2
+      """, nativeQuery = true)
+  List<CategoryMonthTotal> findCategoryTotalsByMonth(
+      @Param("userId") Long userId,
+      @Param("currency") String currency,
+      @Param("firstRateDate") LocalDate firstRateDate,
+      @Param("lastRateDate") LocalDate lastRateDate,
+      @Param("start") LocalDate start,
+      @Param("end") LocalDate end);
+
+  /**
+   * Busca a versão das transações do usuário, o maior change_seq entre as despesas e receitas dele. Toda inserção,
+   * atualização ou soft delete recebe um novo change_seq, então a versão muda sempre que o saldo de algum mês pode
+   * ter mudado.
+   *
+   * @param userId identificador do usuário.
+   * @return a versão das transações do usuário, 0 caso ele não possua transações.
+   */
+  @Query(value = """
+      SELECT COALESCE(GREATEST(
+               (SELECT max(e.change_seq) FROM tb_expense e WHERE e.user_id = :userId),
+               (SELECT max(i.change_seq) FROM tb_income i WHERE i.user_id = :userId)), 0)
+      """, nativeQuery = true)
+  long getVersionByUser(@Param("userId") Long userId);
+
+  /**
+   * Busca o primeiro mês do usuário alterado após a versão informada, lido de tb_transaction_month_change (mantida
+   * por trigger a cada escrita em tb_expense e tb_income, inclusive para o mês de onde uma transação foi movida).
+   *
+   * @param userId  identificador do usuário.
+   * @param version versão das transações do usuário, como retornada por {@link #getVersionByUser(Long)}.
+   * @return primeiro dia do primeiro mês alterado, null caso nenhum mês tenha sido alterado.
+   */
+  @Query(value = """
+      SELECT min(m.month) FROM tb_transaction_month_change m
+      WHERE m.user_id = :userId AND m.change_seq > :version
+      """, nativeQuery = true)
+  LocalDate getFirstMonthChangedAfter(@Param("userId") Long userId, @Param("version") long version);
+
+}
@@ -0,0 +1,58 @@
+package br.com.emendes.financesapi.repository;
+
+import br.com.emendes.financesapi.model.entity.Budget;
+import br.com.emendes.financesapi.model.entity.User;
+import br.com.emendes.financesapi.repository.projection.BudgetStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Interface repository com as abstrações para manipular o recurso Budget.<br>
+ * O total gasto vem de tb_expense_category_rollup, mantida por trigger a cada escrita em tb_expense já na moeda base
+ * do usuário (cada despesa convertida com a cotação do dia dela, como no resumo mensal), então nenhuma consulta
+ * precisa agregar tb_expense.
+ */
+public interface BudgetRepository extends JpaRepository<Budget, Long> {
+
+  Optional<Budget> findByUserAndMonthAndCategoryId(User user, LocalDate month, Short categoryId);
+
+  /**
+   * Busca os orçamentos do usuário no mês junto ao total gasto em cada categoria.
+   *
+   * @param userId identificador do usuário.
+   * @param month  primeiro dia do mês.
+   * @return {@code List<BudgetStatus>} ordenada por categoria.
+   */
+  @Query(value = """
+      SELECT c.name AS category, b.limit_value AS "limitValue", COALESCE(t.total, 0) AS spent
+      FROM tb_budget b
+      JOIN tb_category c ON c.user_id = b.user_id AND c.id = b.category_id
+      LEFT JOIN tb_expense_category_rollup t
+        ON t.user_id = b.user_id AND t.month = b.month AND t.category_id = b.category_id
+      WHERE b.user_id = :userId AND b.month = :month
+      ORDER BY c.name
+      """, nativeQuery = true)
+  List<BudgetStatus> findStatusByUserAndMonth(@Param("userId") Long userId, @Param("month") LocalDate month);
+
+  /**
+   * Busca o total gasto pelo usuário na categoria durante o mês, na moeda base do usuário.
+   *
+   * @param userId     identificador do usuário.
+   * @param month      primeiro dia do mês.
+   * @param categoryId id da categoria.
+   * @return o total gasto, zero caso não haja despesas.
+   */
+  @Query(value = """
+      SELECT COALESCE((SELECT t.total FROM tb_expense_category_rollup t
+                        WHERE t.user_id = :userId AND t.month = :month AND t.category_id = :categoryId), 0)
+      """, nativeQuery = true)
+  BigDecimal getSpent(
+      @Param("userId") Long userId, @Param("month") LocalDate month, @Param("categoryId") short categoryId);
+
+}
@@ -0,0 +1,32 @@
+package br.com.emendes.financesapi.repository;
+
+import br.com.emendes.financesapi.model.entity.Category;
+import br.com.emendes.financesapi.model.entity.CategoryId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Interface repository com as abstrações para manipular o recurso Category.
+ */
+public interface CategoryRepository extends JpaRepository<Category, CategoryId> {
+
+  List<Category> findAllByUserIdOrderById(Long userId);
+
+  Optional<Category> findByUserIdAndName(Long userId, String name);
+
+  boolean existsByUserIdAndName(Long userId, String name);
+
+  /**
+   * Busca o maior id de categoria do usuário, usado para gerar o id da próxima categoria.
+   *
+   * @param userId identificador do usuário.
+   * @return maior id encontrado, ou null caso o usuário não tenha categorias.
+   */
+  @Query("SELECT MAX(c.id) FROM Category c WHERE c.userId = :userId")
+  Short findMaxIdByUserId(@Param("userId") Long userId);
+
+}
@@ -1,31 +1,47 @@
 package br.com.emendes.financesapi.repository;
 
+import br.com.emendes.financesapi.dto.response.ExpenseResponse;
 import br.com.emendes.financesapi.dto.response.ValueByCategoryResponse;
 import br.com.emendes.financesapi.model.entity.Expense;
 import br.com.emendes.financesapi.model.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Interface repository com as abstrações para interação com o recurso Expense no banco de dados.
  */
-public interface ExpenseRepository extends JpaRepository<Expense, Long> {
+public interface ExpenseRepository extends JpaRepository<Expense, Long>, ExpenseRepositoryCustom {
+
+  /**
+   * Projeção usada pelas buscas de leitura, as despesas são lidas direto para {@link ExpenseResponse} (com o nome da
+   * categoria) sem passar por entidades gerenciadas no contexto de persistência.
+   */
+  String EXPENSE_RESPONSE_PROJECTION = """
+      SELECT new br.com.emendes.financesapi.dto.response.ExpenseResponse(
+             e.id, e.description, e.date, e.value, e.currency, c.name)
+        FROM Expense e
+        JOIN Category c ON c.userId = e.user.id AND c.id = e.categoryId
+      """;
 
   /**
    * Busca paginada de despesas (expenses) para um dado usuário (user).
    *
    * @param user     usuário relacionado com as despesas a serem buscadas.
    * @param pageable objeto que define como será a paginação (page, size e sort).
-   * @return Objeto {@code Page<Expense>} com as despesas encontradas para o dado user e pageable.
+   * @return Objeto {@code Page<ExpenseResponse>} com as despesas encontradas para o dado user e pageable.
    */
-  @Query("SELECT e FROM Expense e WHERE e.user = :user")
-  Page<Expense> findAllByUser(@Param("user") User user, Pageable pageable);
+  @Query(value = EXPENSE_RESPONSE_PROJECTION + "WHERE e.user = :user",
+      countQuery = "SELECT count(e) FROM Expense e WHERE e.user = :user")
+  Page<ExpenseResponse> findAllByUser(@Param("user") User user, Pageable pageable);
 
   /**
    * Busca paginada de despesas (expenses) para um dado usuário (user) e descrição (description).<br>
@@ -36,14 +52,18 @@ public interface ExpenseRepository extends JpaRepository<Expense, Long> {
    * @param description descrição que as despesas devem conter para serem buscadas.
    * @param pageable    objeto que define como será feito a paginação (page, size e sort).
    * @param user        usuário relacionado com as despesas a serem buscadas.
-   * @return Objeto {@code Page<Expense>} com as despesas encontradas para o dado user, description e pageable.
+   * @return Objeto {@code Page<ExpenseResponse>} com as despesas encontradas para o dado user, description e pageable.
    */
-  @Query("""
-      SELECT e FROM Expense e
+  @Query(value = EXPENSE_RESPONSE_PROJECTION + """
         WHERE lower(unaccent(e.description)) LIKE lower(unaccent('%' || :description || '%'))
         AND e.user = :user
-      """)
-  Page<Expense> findByDescriptionAndUser(
+      """,
+      countQuery = """
+          SELECT count(e) FROM Expense e
+            WHERE lower(unaccent(e.description)) LIKE lower(unaccent('%' || :description || '%'))
+            AND e.user = :user
+          """)
+  Page<ExpenseResponse> findByDescriptionAndUser(
       @Param("description") String description,
       @Param("user") User user,
       Pageable pageable);
@@ -55,15 +75,20 @@ public interface ExpenseRepository extends JpaRepository<Expense, Long> {
    * @param month    mês em que foi feito a despesa.
    * @param user     usuário relacionado com as despesas a serem buscadas.
    * @param pageable objeto que define como será feito a paginação (page, size e sort).
-   * @return Objeto {@code Page<Expense>} com as despesas que satisfaçam as restrições acima.
+   * @return Objeto {@code Page<ExpenseResponse>} com as despesas que satisfaçam as restrições acima.
    */
-  @Query("""
-      SELECT e FROM Expense e
+  @Query(value = EXPENSE_RESPONSE_PROJECTION + """
         WHERE YEAR(e.date) = :year
         AND MONTH(e.date) = :month
         AND e.user = :user
-      """)
-  Page<Expense> findByYearAndMonthAndUser(
+      """,
+      countQuery = """
+          SELECT count(e) FROM Expense e
+            WHERE YEAR(e.date) = :year
+            AND MONTH(e.date) = :month
+            AND e.user = :user
+          """)
+  Page<ExpenseResponse> findByYearAndMonthAndUser(
       @Param("year") int year,
       @Param("month") int month,
       @Param("user") User user,
@@ -79,24 +104,87 @@ public interface ExpenseRepository extends JpaRepository<Expense, Long> {
   @Query("SELECT e FROM Expense e WHERE e.id = :id AND e.user = :user")
   Optional<Expense> findByIdAndUser(@Param("id") Long id, @Param("user") User user);
 
+  /**
+   * Busca despesa (expense) por id e user, projetada direto em {@link ExpenseResponse}.
+   *
+   * @param id   identificador da despesa.
+   * @param user usuário relacionado com a despesa a ser buscada.
+   * @return Objeto {@code Optional<ExpenseResponse>} com a despesa encontrada, ou empty caso contrário.
+   */
+  @Query(EXPENSE_RESPONSE_PROJECTION + "WHERE e.id = :id AND e.user = :user")
+  Optional<ExpenseResponse> findResponseByIdAndUser(@Param("id") Long id, @Param("user") User user);
+
   /**
    * Busca uma lista de {@link ValueByCategoryResponse}, agrupando todas as despesas por categoria em dado mês (month)
-   * e ano (year)e por usuário.
+   * e ano (year)e por usuário, com os valores convertidos para a moeda currency.<br>
+   * <br>
+   * OBS: A conversão usa a cotação do dia da despesa em tb_fx_rate (a data é limitada ao período carregado), cada
+   * despesa convertida é arredondada para centavos antes da soma. Despesas na própria moeda currency não dependem
+   * de cotação, uma cotação ausente interrompe a consulta com o erro FX001 de fn_missing_fx_rate.
    *
-   * @param year  ano ao qual as despesas devem pertencer.
-   * @param month mês ao qual as despesas devem pertencer.
-   * @param user  usuário relacionado com as despesas a serem agrupadas.
+   * @param year          ano ao qual as despesas devem pertencer.
+   * @param month         mês ao qual as despesas devem pertencer.
+   * @param user          usuário relacionado com as despesas a serem agrupadas.
+   * @param currency      moeda para a qual os valores são convertidos.
+   * @param firstRateDate primeiro dia com cotação carregada.
+   * @param lastRateDate  último dia com cotação carregada.
    * @return {@code List<ValueByCategoryResponse>} contendo os gastos agrupados por categoria.
    */
   @Query("""
-      SELECT new br.com.emendes.financesapi.dto.response.ValueByCategoryResponse(e.category, SUM(e.value))
+      SELECT new br.com.emendes.financesapi.dto.response.ValueByCategoryResponse(c.name,
+             SUM(CASE WHEN e.currency = :currency THEN CAST(e.value AS BigDecimal)
+                 ELSE COALESCE(ROUND(CAST(e.value AS BigDecimal) * fr.rate / tr.rate, 2),
+                               fn_missing_fx_rate(e.currency, e.date)) END))
          FROM Expense e
+         JOIN Category c ON c.userId = e.user.id AND c.id = e.categoryId
+         LEFT JOIN FxRate fr ON fr.currency = e.currency
+           AND fr.date = LEAST(GREATEST(e.date, :firstRateDate), :lastRateDate)
+         LEFT JOIN FxRate tr ON tr.currency = :currency AND tr.date = fr.date
          WHERE YEAR(e.date) = :year AND MONTH(e.date) = :month
          AND e.user = :user
-         GROUP BY e.category
+         GROUP BY c.name
       """)
   List<ValueByCategoryResponse> getValueByCategoryAndMonthAndYearAndUser(
       @Param("year") int year,
       @Param("month") int month,
-      @Param("user") User user);
+      @Param("user") User user,
+      @Param("currency") String currency,
+      @Param("firstRateDate") LocalDate firstRateDate,
+      @Param("lastRateDate") LocalDate lastRateDate);
+
+  /**
+   * Deleta no máximo {@code chunkSize} despesas (expenses) de um dado usuário, cada chamada é executada em sua própria
+   * transação para que os locks sejam mantidos por pouco tempo.
+   *
+   * @param userId    identificador do usuário dono das despesas.
+   * @param chunkSize quantidade máxima de linhas deletadas.
+   * @return quantidade de linhas deletadas.
+   */
+  @Transactional
+  @Modifying
+  @Query(value = """
+      DELETE FROM tb_expense WHERE id IN (
+        SELECT id FROM tb_expense WHERE user_id = :userId LIMIT :chunkSize)
+      """, nativeQuery = true)
+  int deleteChunkByUserId(@Param("userId") Long userId, @Param("chunkSize") int chunkSize);
+
+  /**
+   * Move as despesas deletadas (deleted = true) do usuário da categoria categoryId para targetCategoryId. Despesas
+   * deletadas são mantidas apenas para a sincronização, então não devem impedir a remoção da categoria.
+   *
+   * @param userId           identificador do usuário dono das despesas.
+   * @param categoryId       id da categoria atual das despesas.
+   * @param targetCategoryId id da nova categoria das despesas.
+   * @return quantidade de despesas movidas.
+   */
+  @Modifying
+  @Query(value = """
+      UPDATE tb_expense SET category_id = :targetCategoryId
+      WHERE user_id = :userId AND category_id = :categoryId AND deleted = true
+      """, nativeQuery = true)
+  int moveDeletedToCategory(
+      @Param("userId") Long userId,
+      @Param("categoryId") short categoryId,
+      @Param("targetCategoryId") short targetCategoryId);
+
 }
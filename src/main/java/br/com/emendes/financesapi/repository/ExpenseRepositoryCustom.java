@@ -0,0 +1,39 @@
+package br.com.emendes.financesapi.repository;
+
+import br.com.emendes.financesapi.dto.response.ExpenseResponse;
+import br.com.emendes.financesapi.model.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Set;
+
+/**
+ * Fragment de {@link ExpenseRepository} com a busca paginada de despesas por campos (sparse fieldsets).
+ */
+public interface ExpenseRepositoryCustom {
+
+  /**
+   * Campos de {@link ExpenseResponse} que podem ser pedidos no parâmetro fields.
+   */
+  Set<String> EXPENSE_FIELDS = Set.of("id", "description", "date", "value", "currency", "category");
+
+  /**
+   * Busca paginada de despesas (expenses) de um dado usuário (user) lendo do banco de dados apenas os campos pedidos,
+   * os demais campos de {@link ExpenseResponse} ficam null. O id é sempre buscado e tb_category só entra no join
+   * quando category é pedido.<br>
+   * <br>
+   * OBS: Os filtros description e year/month são opcionais e seguem as regras de
+   * {@link ExpenseRepository#findByDescriptionAndUser} e {@link ExpenseRepository#findByYearAndMonthAndUser}.
+   *
+   * @param fields      campos a serem buscados, contidos em {@link #EXPENSE_FIELDS}.
+   * @param user        usuário relacionado com as despesas a serem buscadas.
+   * @param description descrição que as despesas devem conter, null para não filtrar.
+   * @param year        ano das despesas, null para não filtrar (informado junto com month).
+   * @param month       mês das despesas, null para não filtrar (informado junto com year).
+   * @param pageable    objeto que define como será a paginação (page, size e sort).
+   * @return Objeto {@code Page<ExpenseResponse>} com as despesas encontradas.
+   */
+  Page<ExpenseResponse> findFieldsByUser(
+      Set<String> fields, User user, String description, Integer year, Integer month, Pageable pageable);
+
+}
@@ -0,0 +1,77 @@
+package br.com.emendes.financesapi.repository;
+
+import br.com.emendes.financesapi.dto.response.ExpenseResponse;
+import br.com.emendes.financesapi.model.Money;
+import br.com.emendes.financesapi.model.entity.User;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Implementação de {@link ExpenseRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class ExpenseRepositoryCustomImpl implements ExpenseRepositoryCustom {
+
+  private static final Map<String, String> PATHS = new LinkedHashMap<>();
+
+  static {
+    PATHS.put("id", "e.id");
+    PATHS.put("description", "e.description");
+    PATHS.put("date", "e.date");
+    PATHS.put("value", "e.value");
+    PATHS.put("currency", "e.currency");
+    PATHS.put("category", "c.name");
+  }
+
+  private final EntityManager entityManager;
+
+  @Override
+  public Page<ExpenseResponse> findFieldsByUser(
+      Set<String> fields, User user, String description, Integer year, Integer month, Pageable pageable) {
+    List<String> selected = PATHS.keySet().stream()
+        .filter(field -> field.equals("id") || fields.contains(field))
+        .toList();
+
+    StringBuilder where = new StringBuilder("e.user = :user");
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("user", user);
+    if (description != null) {
+      where.append(" AND lower(unaccent(e.description)) LIKE lower(unaccent('%' || :description || '%'))");
+      parameters.put("description", description);
+    }
+    if (year != null && month != null) {
+      LocalDate start = LocalDate.of(year, month, 1);
+      where.append(" AND e.date >= :start AND e.date < :end");
+      parameters.put("start", start);
+      parameters.put("end", start.plusMonths(1));
+    }
+    String joins = selected.contains("category")
+        ? " JOIN Category c ON c.userId = e.user.id AND c.id = e.categoryId" : "";
+
+    return SparseFieldsQuery.execute(entityManager, PATHS, selected, "FROM Expense e", joins, where.toString(),
+            parameters, "e", pageable)
+        .map(row -> toExpenseResponse(selected, row));
+  }
+
+  private static ExpenseResponse toExpenseResponse(List<String> fields, Object[] row) {
+    ExpenseResponse expenseResponse = new ExpenseResponse();
+    for (int i = 0; i < fields.size(); i++) {
+      switch (fields.get(i)) {
+        case "id" -> expenseResponse.setId((Long) row[i]);
+        case "description" -> expenseResponse.setDescription((String) row[i]);
+        case "date" -> expenseResponse.setDate((LocalDate) row[i]);
+        case "value" -> expenseResponse.setValue((Money) row[i]);
+        case "currency" -> expenseResponse.setCurrency((String) row[i]);
+        case "category" -> expenseResponse.setCategory((String) row[i]);
+        default -> throw new IllegalStateException("Unexpected field: " + fields.get(i));
+      }
+    }
+    return expenseResponse;
+  }
+
+}
@@ -0,0 +1,53 @@
+package br.com.emendes.financesapi.repository;
+
+import br.com.emendes.financesapi.model.entity.FxRate;
+import br.com.emendes.financesapi.model.entity.FxRateId;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Interface repository com as abstrações para escrita das cotações em tb_fx_rate.<br>
+ * <br>
+ * OBS: tb_expense_category_rollup guarda as despesas já convertidas com a cotação do dia delas, então uma carga que
+ * altera cotações precisa recalcular o rollup ({@link #rebuildExpenseCategoryRollup()}).
+ */
+public interface FxRateRepository extends Repository<FxRate, FxRateId> {
+
+  /**
+   * Insere ou atualiza, em um único comando, as cotações dos arrays (a posição i de cada array forma uma linha).
+   * Cotações já gravadas com o mesmo valor não são reescritas.
+   *
+   * @param currencies códigos das moedas.
+   * @param dates      dias das cotações.
+   * @param rates      valor de uma unidade da moeda na moeda de cotação.
+   * @return quantidade de linhas inseridas ou com o valor alterado.
+   */
+  @Transactional
+  @Modifying
+  @Query(value = """
+      INSERT INTO tb_fx_rate (currency, rate_date, rate)
+      SELECT * FROM unnest(CAST(:currencies AS varchar[]), CAST(:dates AS date[]), CAST(:rates AS numeric[]))
+      ON CONFLICT (currency, rate_date) DO UPDATE SET rate = EXCLUDED.rate
+      WHERE tb_fx_rate.rate <> EXCLUDED.rate
+      """, nativeQuery = true)
+  int upsertAll(
+      @Param("currencies") String[] currencies,
+      @Param("dates") LocalDate[] dates,
+      @Param("rates") BigDecimal[] rates);
+
+  /**
+   * Recalcula tb_expense_category_rollup de todos os usuários com as cotações atuais.
+   *
+   * @return quantidade de totais (usuário, mês e categoria) gravados.
+   */
+  @Transactional
+  @Query(value = "SELECT fn_rebuild_expense_category_rollup(NULL)", nativeQuery = true)
+  int rebuildExpenseCategoryRollup();
+
+}
@@ -1,30 +1,45 @@
 package br.com.emendes.financesapi.repository;
 
+import br.com.emendes.financesapi.dto.response.IncomeResponse;
 import br.com.emendes.financesapi.model.entity.Income;
 import br.com.emendes.financesapi.model.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.Optional;
 
 /**
  * Interface repository com as abstrações para interação com o recurso Income no banco de dados.
  */
-public interface IncomeRepository extends JpaRepository<Income, Long> {
+public interface IncomeRepository extends JpaRepository<Income, Long>, IncomeRepositoryCustom {
+
+  /**
+   * Projeção usada pelas buscas de leitura, as receitas são lidas direto para {@link IncomeResponse} sem passar por
+   * entidades gerenciadas no contexto de persistência.
+   */
+  String INCOME_RESPONSE_PROJECTION = """
+      SELECT new br.com.emendes.financesapi.dto.response.IncomeResponse(
+             i.id, i.description, i.date, i.value, i.currency)
+        FROM Income i
+      """;
 
   /**
    * Busca paginada de receitas (incomes) para um dado usuário (user).
    *
    * @param user     usuário relacionado com as receitas a serem buscadas.
    * @param pageable objeto que define como será a paginação (page, size e sort).
-   * @return Objeto {@code Page<Income>} com as receitas encontradas para o dado user e pageable.
+   * @return Objeto {@code Page<IncomeResponse>} com as receitas encontradas para o dado user e pageable.
    */
-  @Query("SELECT i FROM Income i WHERE i.user = :user")
-  Page<Income> findAllByUser(@Param("user") User user, Pageable pageable);
+  @Query(value = INCOME_RESPONSE_PROJECTION + "WHERE i.user = :user",
+      countQuery = "SELECT count(i) FROM Income i WHERE i.user = :user")
+  Page<IncomeResponse> findAllByUser(@Param("user") User user, Pageable pageable);
 
   /**
    * Busca paginada de receitas (incomes) para um dado usuário (user) e descrição (description).<br>
@@ -35,14 +50,18 @@ public interface IncomeRepository extends JpaRepository<Income, Long> {
    * @param description descrição que as receitas devem conter para serem buscadas.
    * @param pageable    objeto que define como será feito a paginação (page, size e sort).
    * @param user        usuário relacionado com as receitas a serem buscadas.
-   * @return Objeto {@code Page<Income>} com as receitas encontradas para o dado user, description e pageable.
+   * @return Objeto {@code Page<IncomeResponse>} com as receitas encontradas para o dado user, description e pageable.
    */
-  @Query("""
-      SELECT i FROM Income i
+  @Query(value = INCOME_RESPONSE_PROJECTION + """
         WHERE lower(unaccent(i.description)) LIKE lower(unaccent('%' || :description || '%'))
         AND i.user = :user
-      """)
-  Page<Income> findByDescriptionAndUser(
+      """,
+      countQuery = """
+          SELECT count(i) FROM Income i
+            WHERE lower(unaccent(i.description)) LIKE lower(unaccent('%' || :description || '%'))
+            AND i.user = :user
+          """)
+  Page<IncomeResponse> findByDescriptionAndUser(
       @Param("description") String description,
       @Param("user") User user,
       Pageable pageable);
@@ -54,36 +73,54 @@ public interface IncomeRepository extends JpaRepository<Income, Long> {
    * @param month    mês em que foi feito a receita.
    * @param user     usuário relacionado com as receitas a serem buscadas.
    * @param pageable objeto que define como será feito a paginação (page, size e sort).
-   * @return Objeto {@code Page<Income>} com as receitas que satisfaçam as restrições acima.
+   * @return Objeto {@code Page<IncomeResponse>} com as receitas que satisfaçam as restrições acima.
    */
-  @Query("""
-      SELECT i FROM Income i
+  @Query(value = INCOME_RESPONSE_PROJECTION + """
         WHERE YEAR(i.date) = :year
         AND MONTH(i.date) = :month AND i.user = :user
-      """)
-  Page<Income> findByYearAndMonthAndUser(
+      """,
+      countQuery = """
+          SELECT count(i) FROM Income i
+            WHERE YEAR(i.date) = :year
+            AND MONTH(i.date) = :month AND i.user = :user
+          """)
+  Page<IncomeResponse> findByYearAndMonthAndUser(
       @Param("year") int year,
       @Param("month") int month,
       @Param("user") User user,
       Pageable pageable);
 
   /**
-   * Retorna a soma de todas as receitas (incomes) com o mesmo ano (year), mês (month) e usuário (user).
+   * Retorna a soma de todas as receitas (incomes) com o mesmo ano (year), mês (month) e usuário (user), com os
+   * valores convertidos para a moeda currency da mesma forma que
+   * {@link ExpenseRepository#getValueByCategoryAndMonthAndYearAndUser}.
    *
-   * @param year  ano em que foi feito a receita.
-   * @param month mês em que foi feito a receita
-   * @param user  usuário relacionado com as receitas a serem buscadas.
+   * @param year          ano em que foi feito a receita.
+   * @param month         mês em que foi feito a receita
+   * @param user          usuário relacionado com as receitas a serem buscadas.
+   * @param currency      moeda para a qual os valores são convertidos.
+   * @param firstRateDate primeiro dia com cotação carregada.
+   * @param lastRateDate  último dia com cotação carregada.
    * @return {@code Optional<BigDecimal>} contendo a soma total, ou empty caso não encontre nenhuma receita que
    * satisfaça as condições acima.
    */
   @Query("""
-      SELECT SUM(i.value) FROM Income i WHERE YEAR(i.date) = :year
-        AND MONTH(i.date) = :month AND i.user = :user
+      SELECT SUM(CASE WHEN i.currency = :currency THEN CAST(i.value AS BigDecimal)
+                 ELSE COALESCE(ROUND(CAST(i.value AS BigDecimal) * fr.rate / tr.rate, 2),
+                               fn_missing_fx_rate(i.currency, i.date)) END)
+        FROM Income i
+        LEFT JOIN FxRate fr ON fr.currency = i.currency
+          AND fr.date = LEAST(GREATEST(i.date, :firstRateDate), :lastRateDate)
+        LEFT JOIN FxRate tr ON tr.currency = :currency AND tr.date = fr.date
+        WHERE YEAR(i.date) = :year AND MONTH(i.date) = :month AND i.user = :user
       """)
   Optional<BigDecimal> getTotalValueByMonthAndYearAndUser(
       @Param("year") int year,
       @Param("month") int month,
-      @Param("user") User user);
+      @Param("user") User user,
+      @Param("currency") String currency,
+      @Param("firstRateDate") LocalDate firstRateDate,
+      @Param("lastRateDate") LocalDate lastRateDate);
 
   /**
    * Busca receita (income) por id e user.
@@ -95,4 +132,30 @@ public interface IncomeRepository extends JpaRepository<Income, Long> {
   @Query("SELECT i FROM Income i WHERE i.id = :id AND i.user = :user")
   Optional<Income> findByIdAndUser(@Param("id") Long id, @Param("user") User user);
 
+  /**
+   * Busca receita (income) por id e user, projetada direto em {@link IncomeResponse}.
+   *
+   * @param id   identificador da receita.
+   * @param user usuário relacionado com a receita a ser buscada.
+   * @return Objeto {@code Optional<IncomeResponse>} com a receita encontrada, ou empty caso contrário.
+   */
+  @Query(INCOME_RESPONSE_PROJECTION + "WHERE i.id = :id AND i.user = :user")
+  Optional<IncomeResponse> findResponseByIdAndUser(@Param("id") Long id, @Param("user") User user);
+
+  /**
+   * Deleta no máximo {@code chunkSize} receitas (incomes) de um dado usuário, cada chamada é executada em sua própria
+   * transação para que os locks sejam mantidos por pouco tempo.
+   *
+   * @param userId    identificador do usuário dono das receitas.
+   * @param chunkSize quantidade máxima de linhas deletadas.
+   * @return quantidade de linhas deletadas.
+   */
+  @Transactional
+  @Modifying
+  @Query(value = """
+      DELETE FROM tb_income WHERE id IN (
+        SELECT id FROM tb_income WHERE user_id = :userId LIMIT :chunkSize)
+      """, nativeQuery = true)
+  int deleteChunkByUserId(@Param("userId") Long userId, @Param("chunkSize") int chunkSize);
+
 }
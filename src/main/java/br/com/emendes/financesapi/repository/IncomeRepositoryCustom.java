@@ -0,0 +1,38 @@
+package br.com.emendes.financesapi.repository;
+
+import br.com.emendes.financesapi.dto.response.IncomeResponse;
+import br.com.emendes.financesapi.model.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Set;
+
+/**
+ * Fragment de {@link IncomeRepository} com a busca paginada de receitas por campos (sparse fieldsets).
+ */
+public interface IncomeRepositoryCustom {
+
+  /**
+   * Campos de {@link IncomeResponse} que podem ser pedidos no parâmetro fields.
+   */
+  Set<String> INCOME_FIELDS = Set.of("id", "description", "date", "value", "currency");
+
+  /**
+   * Busca paginada de receitas (incomes) de um dado usuário (user) lendo do banco de dados apenas os campos pedidos,
+   * os demais campos de {@link IncomeResponse} ficam null. O id é sempre buscado.<br>
+   * <br>
+   * OBS: Os filtros description e year/month são opcionais e seguem as regras de
+   * {@link IncomeRepository#findByDescriptionAndUser} e {@link IncomeRepository#findByYearAndMonthAndUser}.
+   *
+   * @param fields      campos a serem buscados, contidos em {@link #INCOME_FIELDS}.
+   * @param user        usuário relacionado com as receitas a serem buscadas.
+   * @param description descrição que as receitas devem conter, null para não filtrar.
+   * @param year        ano das receitas, null para não filtrar (informado junto com month).
+   * @param month       mês das receitas, null para não filtrar (informado junto com year).
+   * @param pageable    objeto que define como será a paginação (page, size e sort).
+   * @return Objeto {@code Page<IncomeResponse>} com as receitas encontradas.
+   */
+  Page<IncomeResponse> findFieldsByUser(
+      Set<String> fields, User user, String description, Integer year, Integer month, Pageable pageable);
+
+}
@@ -0,0 +1,73 @@
+package br.com.emendes.financesapi.repository;
+
+import br.com.emendes.financesapi.dto.response.IncomeResponse;
+import br.com.emendes.financesapi.model.Money;
+import br.com.emendes.financesapi.model.entity.User;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Implementação de {@link IncomeRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class IncomeRepositoryCustomImpl implements IncomeRepositoryCustom {
+
+  private static final Map<String, String> PATHS = new LinkedHashMap<>();
+
+  static {
+    PATHS.put("id", "i.id");
+    PATHS.put("description", "i.description");
+    PATHS.put("date", "i.date");
+    PATHS.put("value", "i.value");
+    PATHS.put("currency", "i.currency");
+  }
+
+  private final EntityManager entityManager;
+
+  @Override
+  public Page<IncomeResponse> findFieldsByUser(
+      Set<String> fields, User user, String description, Integer year, Integer month, Pageable pageable) {
+    List<String> selected = PATHS.keySet().stream()
+        .filter(field -> field.equals("id") || fields.contains(field))
+        .toList();
+
+    StringBuilder where = new StringBuilder("i.user = :user");
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("user", user);
+    if (description != null) {
+      where.append(" AND lower(unaccent(i.description)) LIKE lower(unaccent('%' || :description || '%'))");
+      parameters.put("description", description);
+    }
+    if (year != null && month != null) {
+      LocalDate start = LocalDate.of(year, month, 1);
+      where.append(" AND i.date >= :start AND i.date < :end");
+      parameters.put("start", start);
+      parameters.put("end", start.plusMonths(1));
+    }
+
+    return SparseFieldsQuery.execute(entityManager, PATHS, selected, "FROM Income i", "", where.toString(),
+            parameters, "i", pageable)
+        .map(row -> toIncomeResponse(selected, row));
+  }
+
+  private static IncomeResponse toIncomeResponse(List<String> fields, Object[] row) {
+    IncomeResponse incomeResponse = new IncomeResponse();
+    for (int i = 0; i < fields.size(); i++) {
+      switch (fields.get(i)) {
+        case "id" -> incomeResponse.setId((Long) row[i]);
+        case "description" -> incomeResponse.setDescription((String) row[i]);
+        case "date" -> incomeResponse.setDate((LocalDate) row[i]);
+        case "value" -> incomeResponse.setValue((Money) row[i]);
+        case "currency" -> incomeResponse.setCurrency((String) row[i]);
+        default -> throw new IllegalStateException("Unexpected field: " + fields.get(i));
+      }
+    }
+    return incomeResponse;
+  }
+
+}
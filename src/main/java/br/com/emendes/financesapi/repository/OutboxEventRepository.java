@@ -0,0 +1,90 @@
+package br.com.emendes.financesapi.repository;
+
+import br.com.emendes.financesapi.model.entity.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Interface repository com as abstrações para manipular o recurso OutboxEvent.
+ */
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+  /**
+   * Tenta adquirir o advisory lock transacional do Postgres com a dada chave, o lock é liberado
+   * ao final da transação atual.
+   *
+   * @param key chave do lock.
+   * @return true caso o lock tenha sido adquirido, false caso outra transação já o possua.
+   */
+  @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+  boolean tryAdvisoryXactLock(@Param("key") long key);
+
+  /**
+   * Busca os eventos ainda não publicados em ordem de criação (id).<br>
+   * OBS: O id é atribuído pela trigger de tb_outbox_event com as escritas de cada usuário serializadas (V21), então
+   * os ids de um usuário seguem a ordem de commit e um evento ainda sem commit nunca tem id menor que um evento já
+   * visível do mesmo usuário.
+   *
+   * @param limit quantidade máxima de eventos retornados.
+   * @return {@code List<OutboxEvent>} com os eventos encontrados.
+   */
+  @Query("SELECT o FROM OutboxEvent o WHERE o.publishedAt IS NULL ORDER BY o.id")
+  List<OutboxEvent> findUnpublished(Limit limit);
+
+  /**
+   * Marca os eventos com os dados ids como publicados.
+   *
+   * @param ids         ids dos eventos publicados.
+   * @param publishedAt momento da publicação.
+   * @return quantidade de eventos atualizados.
+   */
+  @Modifying
+  @Query("UPDATE OutboxEvent o SET o.publishedAt = :publishedAt WHERE o.id IN :ids")
+  int markAsPublished(@Param("ids") List<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+  /**
+   * Busca o momento de criação do evento não publicado mais antigo.
+   */
+  @Query("SELECT MIN(o.createdAt) FROM OutboxEvent o WHERE o.publishedAt IS NULL")
+  Optional<LocalDateTime> findOldestUnpublishedCreatedAt();
+
+  /**
+   * Conta os eventos ainda não publicados.
+   */
+  long countByPublishedAtIsNull();
+
+  /**
+   * Remove os eventos publicados antes do dado momento.
+   *
+   * @param before eventos publicados antes deste momento serão removidos.
+   * @return quantidade de eventos removidos.
+   */
+  @Modifying
+  @Query("DELETE FROM OutboxEvent o WHERE o.publishedAt < :before")
+  int deletePublishedBefore(@Param("before") LocalDateTime before);
+
+  /**
+   * Deleta no máximo {@code chunkSize} eventos de um dado usuário, cada chamada é executada em sua própria transação
+   * para que os locks sejam mantidos por pouco tempo.
+   *
+   * @param userId    identificador do usuário dono dos eventos.
+   * @param chunkSize quantidade máxima de linhas deletadas.
+   * @return quantidade de linhas deletadas.
+   */
+  @Transactional
+  @Modifying
+  @Query(value = """
+      DELETE FROM tb_outbox_event WHERE id IN (
+        SELECT id FROM tb_outbox_event WHERE user_id = :userId LIMIT :chunkSize)
+      """, nativeQuery = true)
+  int deleteChunkByUserId(@Param("userId") Long userId, @Param("chunkSize") int chunkSize);
+
+}
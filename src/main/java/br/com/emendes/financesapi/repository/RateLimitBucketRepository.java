@@ -0,0 +1,61 @@
+package br.com.emendes.financesapi.repository;
+
+import br.com.emendes.financesapi.model.entity.RateLimitBucket;
+import br.com.emendes.financesapi.repository.projection.RateLimitConsumption;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Interface repository com as abstrações para manipular os token buckets compartilhados do rate limit.
+ */
+public interface RateLimitBucketRepository extends Repository<RateLimitBucket, String> {
+
+  /**
+   * Consome uma requisição do bucket em um único comando (GCRA): o instante de chegada avança {@code interval}
+   * a partir do maior entre ele e agora, e o UPDATE só é aplicado se o novo instante não passar de agora +
+   * {@code period}. O relógio é o do banco de dados, o mesmo para todas as instâncias, e a linha fica bloqueada
+   * apenas durante o comando.
+   *
+   * @param key      chave do bucket.
+   * @param interval intervalo entre requisições com o bucket vazio, em microssegundos.
+   * @param period   tempo para reabastecer o bucket vazio, em microssegundos.
+   */
+  @Transactional
+  @Query(value = """
+      WITH clock AS (
+        SELECT CAST(extract(epoch FROM clock_timestamp()) * 1000000 AS bigint) AS now
+      ), consumed AS (
+        INSERT INTO tb_rate_limit_bucket AS b (bucket_key, arrival)
+        SELECT :key, clock.now + :interval FROM clock
+        ON CONFLICT (bucket_key) DO UPDATE
+        SET arrival = GREATEST(b.arrival + :interval, EXCLUDED.arrival)
+        WHERE GREATEST(b.arrival + :interval, EXCLUDED.arrival) - EXCLUDED.arrival + :interval <= :period
+        RETURNING b.arrival
+      )
+      SELECT clock.now AS now,
+             (SELECT arrival FROM consumed) AS arrival,
+             (SELECT arrival FROM tb_rate_limit_bucket WHERE bucket_key = :key) AS "previousArrival"
+      FROM clock
+      """, nativeQuery = true)
+  RateLimitConsumption consume(
+      @Param("key") String key,
+      @Param("interval") long interval,
+      @Param("period") long period);
+
+  /**
+   * Remove os buckets cheios, cujo instante de chegada já passou.
+   *
+   * @return quantidade de buckets removidos.
+   */
+  @Transactional
+  @Modifying
+  @Query(value = """
+      DELETE FROM tb_rate_limit_bucket
+      WHERE arrival <= CAST(extract(epoch FROM clock_timestamp()) * 1000000 AS bigint)
+      """, nativeQuery = true)
+  int deleteIdle();
+
+}
@@ -0,0 +1,124 @@
+package br.com.emendes.financesapi.repository;
+
+import br.com.emendes.financesapi.model.entity.RecurringRule;
+import br.com.emendes.financesapi.model.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Interface repository com as abstrações para manipular o recurso RecurringRule.
+ */
+public interface RecurringRuleRepository extends JpaRepository<RecurringRule, Long> {
+
+  Page<RecurringRule> findAllByUser(User user, Pageable pageable);
+
+  Optional<RecurringRule> findByIdAndUser(Long id, User user);
+
+  /**
+   * Gera, em um único INSERT ... SELECT, a próxima ocorrência de até {@code batchSize} regras de despesa vencidas
+   * (de qualquer usuário), na moeda da regra, avança a próxima ocorrência dessas regras e registra os eventos no
+   * outbox.<br>
+   * As regras são bloqueadas com FOR UPDATE SKIP LOCKED, então várias instâncias podem executar em paralelo sem
+   * processar a mesma regra, e o índice único (recurring_rule_id, date) descarta ocorrências já geradas.
+   * As ocorrências e os eventos são inseridos em ordem de usuário, a mesma ordem em que as instâncias adquirem os
+   * locks de escrita por usuário das triggers de change_seq e do outbox, evitando deadlocks entre elas.
+   *
+   * @param today     data de referência, ocorrências até esta data (inclusive) são geradas.
+   * @param batchSize quantidade máxima de regras processadas.
+   * @return quantidade de regras processadas, 0 quando não há mais ocorrências vencidas.
+   */
+  @Transactional
+  @Query(value = """
+      WITH due AS (
+        SELECT r.id, r.next_occurrence
+        FROM tb_recurring_rule r
+        JOIN tb_user u ON u.id = r.user_id AND u.deleted = false
+        WHERE r.type = 'EXPENSE' AND r.next_occurrence <= :today
+          AND (r.end_date IS NULL OR r.next_occurrence <= r.end_date)
+        ORDER BY r.id
+        LIMIT :batchSize
+        FOR UPDATE OF r SKIP LOCKED
+      ), advanced AS (
+        UPDATE tb_recurring_rule r
+        SET occurrences = r.occurrences + 1,
+            next_occurrence = CAST(r.start_date + (r.occurrences + 1) * CASE r.frequency
+                WHEN 'WEEKLY' THEN INTERVAL '1 week'
+                WHEN 'MONTHLY' THEN INTERVAL '1 month'
+                ELSE INTERVAL '1 year' END AS date)
+        FROM due
+        WHERE r.id = due.id
+        RETURNING r.id, r.user_id, r.description, r.value, r.currency, r.category_id, due.next_occurrence AS date
+      ), inserted AS (
+        INSERT INTO tb_expense (description, value, currency, date, category_id, user_id, recurring_rule_id)
+        SELECT description, value, currency, date, category_id, user_id, id FROM advanced
+        ORDER BY user_id, id
+        ON CONFLICT (recurring_rule_id, date) WHERE recurring_rule_id IS NOT NULL DO NOTHING
+        RETURNING id, description, value, currency, date, category_id, user_id
+      ), published AS (
+        INSERT INTO tb_outbox_event (aggregate_type, aggregate_id, user_id, event_type, payload, created_at)
+        SELECT 'EXPENSE', i.id, i.user_id, 'CREATED', CAST(json_build_object(
+            'id', i.id, 'description', i.description, 'value', i.value, 'currency', i.currency, 'date', i.date,
+            'category', c.name) AS text),
+            now()
+        FROM inserted i
+        JOIN tb_category c ON c.user_id = i.user_id AND c.id = i.category_id
+        ORDER BY i.user_id, i.id
+      )
+      SELECT count(*) FROM advanced
+      """, nativeQuery = true)
+  long materializeDueExpenses(@Param("today") LocalDate today, @Param("batchSize") int batchSize);
+
+  /**
+   * Equivalente a {@link #materializeDueExpenses(LocalDate, int)} para as regras de receita.
+   *
+   * @param today     data de referência, ocorrências até esta data (inclusive) são geradas.
+   * @param batchSize quantidade máxima de regras processadas.
+   * @return quantidade de regras processadas, 0 quando não há mais ocorrências vencidas.
+   */
+  @Transactional
+  @Query(value = """
+      WITH due AS (
+        SELECT r.id, r.next_occurrence
+        FROM tb_recurring_rule r
+        JOIN tb_user u ON u.id = r.user_id AND u.deleted = false
+        WHERE r.type = 'INCOME' AND r.next_occurrence <= :today
+          AND (r.end_date IS NULL OR r.next_occurrence <= r.end_date)
+        ORDER BY r.id
+        LIMIT :batchSize
+        FOR UPDATE OF r SKIP LOCKED
+      ), advanced AS (
+        UPDATE tb_recurring_rule r
+        SET occurrences = r.occurrences + 1,
+            next_occurrence = CAST(r.start_date + (r.occurrences + 1) * CASE r.frequency
+                WHEN 'WEEKLY' THEN INTERVAL '1 week'
+                WHEN 'MONTHLY' THEN INTERVAL '1 month'
+                ELSE INTERVAL '1 year' END AS date)
+        FROM due
+        WHERE r.id = due.id
+        RETURNING r.id, r.user_id, r.description, r.value, r.currency, due.next_occurrence AS date
+      ), inserted AS (
+        INSERT INTO tb_income (description, value, currency, date, user_id, recurring_rule_id)
+        SELECT description, value, currency, date, user_id, id FROM advanced
+        ORDER BY user_id, id
+        ON CONFLICT (recurring_rule_id, date) WHERE recurring_rule_id IS NOT NULL DO NOTHING
+        RETURNING id, description, value, currency, date, user_id
+      ), published AS (
+        INSERT INTO tb_outbox_event (aggregate_type, aggregate_id, user_id, event_type, payload, created_at)
+        SELECT 'INCOME', id, user_id, 'CREATED', CAST(json_build_object(
+            'id', id, 'description', description, 'value', value, 'currency', currency, 'date', date) AS text),
+            now()
+        FROM inserted
+        ORDER BY user_id, id
+      )
+      SELECT count(*) FROM advanced
+      """, nativeQuery = true)
+  long materializeDueIncomes(@Param("today") LocalDate today, @Param("batchSize") int batchSize);
+
+}
@@ -0,0 +1,47 @@
+package br.com.emendes.financesapi.repository;
+
+import br.com.emendes.financesapi.model.entity.RefreshToken;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Interface repository com as abstrações para manipular o recurso RefreshToken.
+ */
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+  /**
+   * Busca o refresh token com o dado hash, bloqueando a linha até o fim da transação para que duas rotações
+   * simultâneas do mesmo token não gerem dois tokens válidos.
+   *
+   * @param tokenHash hash SHA-256 (hex) do token.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+  /**
+   * Revoga os tokens ainda não revogados da dada família.
+   *
+   * @return quantidade de tokens revogados.
+   */
+  @Modifying
+  @Query("UPDATE RefreshToken r SET r.revokedAt = :revokedAt WHERE r.familyId = :familyId AND r.revokedAt IS NULL")
+  int revokeFamily(@Param("familyId") UUID familyId, @Param("revokedAt") LocalDateTime revokedAt);
+
+  /**
+   * Remove os tokens expirados antes do dado momento.
+   *
+   * @return quantidade de tokens removidos.
+   */
+  @Modifying
+  @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :before")
+  int deleteExpiredBefore(@Param("before") LocalDateTime before);
+
+}
@@ -0,0 +1,42 @@
+package br.com.emendes.financesapi.repository;
+
+import br.com.emendes.financesapi.model.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Interface repository com as abstrações para manipular o recurso RevokedToken.
+ */
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+  /**
+   * Grava o jti revogado, revogar o mesmo jti novamente não tem efeito.
+   */
+  @Modifying
+  @Query(value = """
+      INSERT INTO tb_revoked_token (id, expires_at) VALUES (:id, :expiresAt)
+      ON CONFLICT (id) DO NOTHING
+      """, nativeQuery = true)
+  void insert(@Param("id") String id, @Param("expiresAt") LocalDateTime expiresAt);
+
+  /**
+   * Busca os jti revogados que ainda não expiraram.
+   */
+  @Query("SELECT r.id FROM RevokedToken r WHERE r.expiresAt > :now")
+  List<String> findIdsNotExpiredAt(@Param("now") LocalDateTime now);
+
+  /**
+   * Remove os jti expirados antes do dado momento.
+   *
+   * @return quantidade de jti removidos.
+   */
+  @Modifying
+  @Query("DELETE FROM RevokedToken r WHERE r.expiresAt < :before")
+  int deleteExpiredBefore(@Param("before") LocalDateTime before);
+
+}
@@ -0,0 +1,59 @@
+package br.com.emendes.financesapi.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Busca paginada com a lista do select montada a partir dos campos pedidos pelo cliente (parâmetro fields), usada
+ * pelos fragments de {@link ExpenseRepository} e {@link IncomeRepository}. Cada linha é um {@code Object[]} com os
+ * valores na ordem de {@code fields}.<br>
+ * <br>
+ * A ordenação do Pageable é aplicada como nas buscas com {@code @Query} e a contagem só é executada quando não é
+ * possível deduzir o total pela página.
+ */
+final class SparseFieldsQuery {
+
+  private SparseFieldsQuery() {
+  }
+
+  /**
+   * @param entityManager EntityManager da transação atual.
+   * @param paths         caminho JPQL de cada campo suportado.
+   * @param fields        campos a serem buscados, em ordem.
+   * @param from          cláusula FROM da entidade principal, com o alias {@code alias}.
+   * @param joins         joins necessários apenas para os campos do select, não entram na contagem.
+   * @param where         cláusula WHERE, sem a palavra WHERE.
+   * @param parameters    parâmetros nomeados de {@code where}.
+   * @param alias         alias da entidade principal, usado na ordenação e na contagem.
+   * @param pageable      objeto que define como será a paginação (page, size e sort).
+   */
+  static Page<Object[]> execute(
+      EntityManager entityManager, Map<String, String> paths, List<String> fields, String from, String joins,
+      String where, Map<String, Object> parameters, String alias, Pageable pageable) {
+    String select = fields.stream().map(paths::get).collect(Collectors.joining(", ", "SELECT ", " "));
+    String query = QueryUtils.applySorting(select + from + joins + " WHERE " + where, pageable.getSort(), alias);
+
+    TypedQuery<Object[]> contentQuery = entityManager.createQuery(query, Object[].class);
+    parameters.forEach(contentQuery::setParameter);
+    if (pageable.isPaged()) {
+      contentQuery.setFirstResult((int) pageable.getOffset());
+      contentQuery.setMaxResults(pageable.getPageSize());
+    }
+
+    return PageableExecutionUtils.getPage(contentQuery.getResultList(), pageable, () -> {
+      TypedQuery<Long> countQuery = entityManager.createQuery(
+          "SELECT count(" + alias + ") " + from + " WHERE " + where, Long.class);
+      parameters.forEach(countQuery::setParameter);
+      return countQuery.getSingleResult();
+    });
+  }
+
+}
@@ -0,0 +1,55 @@
+package br.com.emendes.financesapi.repository;
+
+import br.com.emendes.financesapi.model.entity.Expense;
+import br.com.emendes.financesapi.repository.projection.SyncChange;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Interface repository com as abstrações para buscar as alterações em tb_expense e tb_income
+ * usadas na sincronização incremental.
+ */
+public interface SyncRepository extends Repository<Expense, Long> {
+
+  /**
+   * Busca as despesas e receitas do usuário criadas, atualizadas ou deletadas após {@code since}, ordenadas por
+   * change_seq. Cada lado do UNION ALL usa o índice (user_id, change_seq) e lê no máximo {@code limit} linhas.<br>
+   * <br>
+   * OBS: Linhas deletadas (soft delete) também são retornadas, para que o cliente possa removê-las.<br>
+   * OBS: A trigger que atribui change_seq serializa as escritas de cada usuário (V20), então uma linha que ainda não
+   * fez commit sempre recebe um change_seq maior que o das linhas já visíveis do usuário.
+   *
+   * @param userId identificador do usuário.
+   * @param since  change_seq a partir do qual as alterações devem ser buscadas (exclusivo).
+   * @param limit  quantidade máxima de alterações retornadas.
+   * @return {@code List<SyncChange>} com as alterações encontradas.
+   */
+  @Query(value = """
+      (SELECT 'EXPENSE' AS type, e.id AS id, e.description AS description, e.value AS value,
+              e.currency AS currency, e.date AS date, c.name AS category, e.deleted AS deleted,
+              e.change_seq AS "changeSeq"
+         FROM tb_expense e
+         JOIN tb_category c ON c.user_id = e.user_id AND c.id = e.category_id
+         WHERE e.user_id = :userId AND e.change_seq > :since
+         ORDER BY e.change_seq
+         LIMIT :limit)
+      UNION ALL
+      (SELECT 'INCOME' AS type, i.id AS id, i.description AS description, i.value AS value,
+              i.currency AS currency, i.date AS date, NULL AS category, i.deleted AS deleted,
+              i.change_seq AS "changeSeq"
+         FROM tb_income i
+         WHERE i.user_id = :userId AND i.change_seq > :since
+         ORDER BY i.change_seq
+         LIMIT :limit)
+      ORDER BY "changeSeq"
+      LIMIT :limit
+      """, nativeQuery = true)
+  List<SyncChange> findChangesByUserSince(
+      @Param("userId") Long userId,
+      @Param("since") long since,
+      @Param("limit") int limit);
+
+}
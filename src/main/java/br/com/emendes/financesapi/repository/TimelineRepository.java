@@ -0,0 +1,126 @@
+package br.com.emendes.financesapi.repository;
+
+import br.com.emendes.financesapi.model.entity.Expense;
+import br.com.emendes.financesapi.repository.projection.TimelineEntry;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Interface repository com as abstrações para buscar a linha do tempo de despesas e receitas do usuário.
+ */
+public interface TimelineRepository extends Repository<Expense, Long> {
+
+  /**
+   * Busca as despesas e receitas não deletadas do usuário anteriores ao cursor, ordenadas por (date, type, id) da
+   * mais recente para a menos recente, cada uma com o saldo acumulado (receitas menos despesas) desde a transação
+   * mais antiga da página, inclusive.<br>
+   * <br>
+   * OBS: Cada tabela busca no índice (user_id, date, id) apenas as limit transações anteriores ao cursor, e a window
+   * function SUM percorre só a página, então o custo não cresce com o histórico do usuário. O saldo anterior à
+   * página vem de {@link #getBalanceBefore}. Os valores são convertidos para currency com a cotação do dia da
+   * transação, como no resumo mensal, e arredondados para centavos antes da soma.
+   *
+   * @param userId        identificador do usuário.
+   * @param currency      moeda do saldo.
+   * @param firstRateDate primeiro dia com cotação carregada.
+   * @param lastRateDate  último dia com cotação carregada.
+   * @param cursorDate    date da última transação da página anterior.
+   * @param cursorType    type da última transação da página anterior.
+   * @param cursorId      id da última transação da página anterior.
+   * @param limit         quantidade máxima de transações retornadas.
+   * @return {@code List<TimelineEntry>} com as transações encontradas.
+   */
+  @Query(value = """
+      SELECT p.type AS type, p.id AS id, p.description AS description, p.value AS value, p.currency AS currency,
+             p.date AS date, c.name AS category,
+             SUM(CASE WHEN p.type = 'EXPENSE' THEN -p.amount ELSE p.amount END)
+                 OVER (ORDER BY p.date, p.type, p.id ROWS UNBOUNDED PRECEDING) AS balance
+        FROM (SELECT t.type, t.id, t.description, t.value, t.currency, t.date, t.category_id,
+                     CASE WHEN t.currency = :currency THEN t.value
+                     ELSE COALESCE(ROUND(t.value * fr.rate / tr.rate, 2),
+                                   fn_missing_fx_rate(t.currency, t.date)) END AS amount
+                FROM ((SELECT 'EXPENSE' AS type, e.id, e.description, e.value, e.currency, e.date, e.category_id
+                         FROM tb_expense e
+                        WHERE e.user_id = :userId AND e.deleted = false AND e.date <= :cursorDate
+                          AND (e.date, 'EXPENSE', e.id) < (:cursorDate, :cursorType, :cursorId)
+                        ORDER BY e.date DESC, e.id DESC
+                        LIMIT :limit)
+                      UNION ALL
+                      (SELECT 'INCOME' AS type, i.id, i.description, i.value, i.currency, i.date,
+                              CAST(NULL AS smallint) AS category_id
+                         FROM tb_income i
+                        WHERE i.user_id = :userId AND i.deleted = false AND i.date <= :cursorDate
+                          AND (i.date, 'INCOME', i.id) < (:cursorDate, :cursorType, :cursorId)
+                        ORDER BY i.date DESC, i.id DESC
+                        LIMIT :limit)
+                      ORDER BY date DESC, type DESC, id DESC
+                      LIMIT :limit) t
+                LEFT JOIN tb_fx_rate fr ON fr.currency = t.currency
+                  AND fr.rate_date = LEAST(GREATEST(t.date, :firstRateDate), :lastRateDate)
+                LEFT JOIN tb_fx_rate tr ON tr.currency = :currency AND tr.rate_date = fr.rate_date) p
+        LEFT JOIN tb_category c ON c.user_id = :userId AND c.id = p.category_id
+       ORDER BY p.date DESC, p.type DESC, p.id DESC
+      """, nativeQuery = true)
+  List<TimelineEntry> findTimelineByUser(
+      @Param("userId") Long userId,
+      @Param("currency") String currency,
+      @Param("firstRateDate") LocalDate firstRateDate,
+      @Param("lastRateDate") LocalDate lastRateDate,
+      @Param("cursorDate") LocalDate cursorDate,
+      @Param("cursorType") String cursorType,
+      @Param("cursorId") long cursorId,
+      @Param("limit") int limit);
+
+  /**
+   * Busca o saldo líquido (receitas menos despesas) das transações não deletadas do usuário a partir de start e
+   * anteriores à posição (date, type, id) na linha do tempo, convertido para currency como em
+   * {@link #findTimelineByUser}.
+   *
+   * @param userId        identificador do usuário.
+   * @param currency      moeda do saldo.
+   * @param firstRateDate primeiro dia com cotação carregada.
+   * @param lastRateDate  último dia com cotação carregada.
+   * @param start         primeiro dia do período (inclusivo).
+   * @param date          date da transação.
+   * @param type          type da transação.
+   * @param id            id da transação.
+   * @return o saldo líquido do período, zero quando não há transações.
+   */
+  @Query(value = """
+      SELECT COALESCE(SUM(t.amount), 0)
+        FROM (SELECT -(CASE WHEN e.currency = :currency THEN e.value
+                       ELSE COALESCE(ROUND(e.value * fr.rate / tr.rate, 2),
+                                     fn_missing_fx_rate(e.currency, e.date)) END) AS amount
+                FROM tb_expense e
+                LEFT JOIN tb_fx_rate fr ON fr.currency = e.currency
+                  AND fr.rate_date = LEAST(GREATEST(e.date, :firstRateDate), :lastRateDate)
+                LEFT JOIN tb_fx_rate tr ON tr.currency = :currency AND tr.rate_date = fr.rate_date
+               WHERE e.user_id = :userId AND e.deleted = false AND e.date >= :start AND e.date <= :date
+                 AND (e.date, 'EXPENSE', e.id) < (:date, :type, :id)
+              UNION ALL
+              SELECT CASE WHEN i.currency = :currency THEN i.value
+                     ELSE COALESCE(ROUND(i.value * fr.rate / tr.rate, 2),
+                                   fn_missing_fx_rate(i.currency, i.date)) END AS amount
+                FROM tb_income i
+                LEFT JOIN tb_fx_rate fr ON fr.currency = i.currency
+                  AND fr.rate_date = LEAST(GREATEST(i.date, :firstRateDate), :lastRateDate)
+                LEFT JOIN tb_fx_rate tr ON tr.currency = :currency AND tr.rate_date = fr.rate_date
+               WHERE i.user_id = :userId AND i.deleted = false AND i.date >= :start AND i.date <= :date
+                 AND (i.date, 'INCOME', i.id) < (:date, :type, :id)) t
+      """, nativeQuery = true)
+  BigDecimal getBalanceBefore(
+      @Param("userId") Long userId,
+      @Param("currency") String currency,
+      @Param("firstRateDate") LocalDate firstRateDate,
+      @Param("lastRateDate") LocalDate lastRateDate,
+      @Param("start") LocalDate start,
+      @Param("date") LocalDate date,
+      @Param("type") String type,
+      @Param("id") long id);
+
+}
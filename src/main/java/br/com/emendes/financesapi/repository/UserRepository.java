@@ -1,7 +1,10 @@
 package br.com.emendes.financesapi.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,7 +13,14 @@ import br.com.emendes.financesapi.model.entity.User;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
-  Optional<User> findByEmail(String email);
+  /**
+   * Busca o usuário não deletado com o dado email. O email é único apenas entre os usuários não deletados, um usuário
+   * deletado aguardando a remoção dos dados pode ter o mesmo email de uma nova conta.
+   *
+   * @param email email do usuário.
+   * @return {@code Optional<User>} com o usuário encontrado.
+   */
+  Optional<User> findByEmailAndDeletedFalse(String email);
 
   @Query("SELECT u FROM User u WHERE u.id = :id AND u.password = :password")
   Optional<User> findByIdAndPassword(@Param("id") Long id, @Param("password") String password);
@@ -18,4 +28,31 @@ public interface UserRepository extends JpaRepository<User, Long> {
   @Query("SELECT u FROM User u WHERE u.id = ?#{ principal?.id }")
   Optional<User> findCurrentUser();
 
+  /**
+   * Busca paginada de usuários que não foram marcados como deletados.
+   *
+   * @param pageable objeto que define como será a paginação (page, size e sort).
+   * @return Objeto {@code Page<User>} com os usuários encontrados.
+   */
+  Page<User> findAllByDeletedFalse(Pageable pageable);
+
+  /**
+   * Busca os ids dos usuários marcados como deletados, ou seja, que aguardam a remoção dos seus dados.
+   *
+   * @return {@code List<Long>} com os ids encontrados.
+   */
+  @Query("SELECT u.id FROM User u WHERE u.deleted = true ORDER BY u.id")
+  List<Long> findIdsOfDeletedUsers();
+
+  /**
+   * Bloqueia a linha do usuário até o fim da transação (FOR NO KEY UPDATE), serializando operações do usuário que
+   * leem e depois gravam um valor derivado de outras linhas, como o id da próxima categoria. O lock não bloqueia as
+   * verificações de chave estrangeira das escritas em outras tabelas.
+   *
+   * @param id identificador do usuário.
+   * @return o id do usuário, null caso ele não exista.
+   */
+  @Query(value = "SELECT u.id FROM tb_user u WHERE u.id = :id FOR NO KEY UPDATE", nativeQuery = true)
+  Long lockById(@Param("id") Long id);
+
 }
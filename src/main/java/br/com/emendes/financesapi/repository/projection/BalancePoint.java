@@ -0,0 +1,22 @@
+package br.com.emendes.financesapi.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Projeção de um período da série de saldo, com as receitas e despesas do período e o saldo ao final dele.
+ */
+public interface BalancePoint {
+
+  /**
+   * Primeiro dia do período.
+   */
+  LocalDate getPeriod();
+
+  BigDecimal getIncome();
+
+  BigDecimal getExpense();
+
+  BigDecimal getBalance();
+
+}
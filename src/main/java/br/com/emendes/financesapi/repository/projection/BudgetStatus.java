@@ -0,0 +1,16 @@
+package br.com.emendes.financesapi.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Projeção de um orçamento junto ao total gasto na categoria no mês do orçamento.
+ */
+public interface BudgetStatus {
+
+  String getCategory();
+
+  BigDecimal getLimitValue();
+
+  BigDecimal getSpent();
+
+}
@@ -0,0 +1,20 @@
+package br.com.emendes.financesapi.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Projeção do total gasto em uma categoria durante um mês.
+ */
+public interface CategoryMonthTotal {
+
+  String getCategory();
+
+  /**
+   * Primeiro dia do mês.
+   */
+  LocalDate getMonth();
+
+  BigDecimal getTotal();
+
+}
@@ -0,0 +1,18 @@
+package br.com.emendes.financesapi.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Projeção do saldo líquido (receitas menos despesas) de um mês.
+ */
+public interface MonthlyNet {
+
+  /**
+   * Primeiro dia do mês.
+   */
+  LocalDate getMonth();
+
+  BigDecimal getNet();
+
+}
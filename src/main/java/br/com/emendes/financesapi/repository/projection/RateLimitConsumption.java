@@ -0,0 +1,23 @@
+package br.com.emendes.financesapi.repository.projection;
+
+/**
+ * Resultado do consumo de um token bucket compartilhado, instantes em microssegundos desde a época.
+ */
+public interface RateLimitConsumption {
+
+  /**
+   * @return instante do consumo, pelo relógio do banco de dados.
+   */
+  long getNow();
+
+  /**
+   * @return novo instante de chegada do bucket, null caso a requisição tenha sido rejeitada.
+   */
+  Long getArrival();
+
+  /**
+   * @return instante de chegada do bucket antes do consumo, null caso o bucket não existisse.
+   */
+  Long getPreviousArrival();
+
+}
@@ -0,0 +1,29 @@
+package br.com.emendes.financesapi.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Projeção de uma linha de tb_expense ou tb_income alterada, usada na sincronização incremental.
+ */
+public interface SyncChange {
+
+  String getType();
+
+  Long getId();
+
+  String getDescription();
+
+  BigDecimal getValue();
+
+  String getCurrency();
+
+  LocalDate getDate();
+
+  String getCategory();
+
+  boolean getDeleted();
+
+  long getChangeSeq();
+
+}
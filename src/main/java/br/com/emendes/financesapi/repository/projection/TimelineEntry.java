@@ -0,0 +1,27 @@
+package br.com.emendes.financesapi.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Projeção de uma despesa ou receita da linha do tempo, com o saldo acumulado até ela.
+ */
+public interface TimelineEntry {
+
+  String getType();
+
+  Long getId();
+
+  String getDescription();
+
+  BigDecimal getValue();
+
+  String getCurrency();
+
+  LocalDate getDate();
+
+  String getCategory();
+
+  BigDecimal getBalance();
+
+}
@@ -0,0 +1,39 @@
+package br.com.emendes.financesapi.service;
+
+import br.com.emendes.financesapi.dto.response.BalanceSeriesResponse;
+import br.com.emendes.financesapi.dto.response.CategoryTrendsResponse;
+
+/**
+ * Interface service com as abstrações das análises sobre despesas e receitas do usuário logado.
+ */
+public interface AnalyticsService {
+
+  /**
+   * Série do saldo acumulado do usuário logado entre from e to, com um ponto por período de granularity.
+   *
+   * @param from        primeiro dia da série, no formato yyyy-MM-dd.
+   * @param to          último dia da série, no formato yyyy-MM-dd.
+   * @param granularity tamanho dos períodos: day, week ou month.
+   * @param currency    moeda dos valores, quando null é usada a moeda base do usuário.
+   * @return {@code BalanceSeriesResponse} com o saldo antes de from e os pontos da série.
+   * @throws br.com.emendes.financesapi.exception.InvalidPeriodException   caso from, to ou granularity sejam
+   *                                                                       inválidos ou a série tenha pontos demais.
+   * @throws br.com.emendes.financesapi.exception.InvalidCurrencyException caso a moeda não possua cotação.
+   */
+  BalanceSeriesResponse balance(String from, String to, String granularity, String currency);
+
+  /**
+   * Total gasto pelo usuário logado em cada categoria e mês entre from e to, com a variação em relação ao mês
+   * anterior e a média mensal de cada categoria.
+   *
+   * @param from     primeiro mês, no formato yyyy-MM.
+   * @param to       último mês, no formato yyyy-MM.
+   * @param currency moeda dos valores, quando null é usada a moeda base do usuário.
+   * @return {@code CategoryTrendsResponse} com as categorias que possuem despesas no período.
+   * @throws br.com.emendes.financesapi.exception.InvalidPeriodException   caso from ou to sejam inválidos ou o
+   *                                                                       período tenha meses demais.
+   * @throws br.com.emendes.financesapi.exception.InvalidCurrencyException caso a moeda não possua cotação.
+   */
+  CategoryTrendsResponse categories(String from, String to, String currency);
+
+}
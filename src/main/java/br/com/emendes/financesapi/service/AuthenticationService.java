@@ -1,5 +1,6 @@
 package br.com.emendes.financesapi.service;
 
+import br.com.emendes.financesapi.dto.request.RefreshTokenRequest;
 import br.com.emendes.financesapi.dto.response.TokenResponse;
 import br.com.emendes.financesapi.dto.response.UserResponse;
 import br.com.emendes.financesapi.dto.request.SignInRequest;
@@ -11,4 +12,17 @@ public interface AuthenticationService {
 
   UserResponse register(SignupRequest request);
 
+  /**
+   * Troca o refresh token por um novo access token e um novo refresh token.
+   */
+  TokenResponse refresh(RefreshTokenRequest request);
+
+  /**
+   * Revoga o refresh token (e os gerados a partir do mesmo sign in) e o access token enviado na requisição.
+   *
+   * @param request     objeto contendo o refresh token.
+   * @param accessToken JWT enviado no header Authorization, ou null caso não tenha sido enviado.
+   */
+  void signOut(RefreshTokenRequest request, String accessToken);
+
 }
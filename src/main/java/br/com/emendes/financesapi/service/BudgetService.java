@@ -0,0 +1,66 @@
+package br.com.emendes.financesapi.service;
+
+import br.com.emendes.financesapi.dto.request.BudgetRequest;
+import br.com.emendes.financesapi.dto.response.BudgetResponse;
+import br.com.emendes.financesapi.exception.EntityNotFoundException;
+import br.com.emendes.financesapi.exception.InvalidCategoryException;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.List;
+
+/**
+ * Interface service com as abstrações para manipulação do recurso Budget.
+ */
+@Validated
+public interface BudgetService {
+
+  /**
+   * Busca os orçamentos do usuário logado no ano e mês informados, com o total gasto em cada categoria.
+   *
+   * @param year  ano dos orçamentos.
+   * @param month mês dos orçamentos.
+   * @return {@code List<BudgetResponse>} com os orçamentos ordenados por categoria.
+   * @throws EntityNotFoundException caso o usuário não tenha orçamentos no ano e mês informados.
+   */
+  List<BudgetResponse> readByYearAndMonth(
+      @Min(value = 1970, message = "year must be equals or greater than {value}")
+      @Max(value = 2099, message = "year must be equals or less than {value}") int year,
+      @Min(value = 1, message = "month must be equals or greater than {value}")
+      @Max(value = 12, message = "month must be equals or less than {value}") int month);
+
+  /**
+   * Cria ou atualiza o orçamento do usuário logado para a categoria no ano e mês informados.
+   *
+   * @param year          ano do orçamento.
+   * @param month         mês do orçamento.
+   * @param category      categoria do orçamento.
+   * @param budgetRequest objeto com o limite do orçamento.
+   * @return {@code BudgetResponse} com o orçamento salvo e o total gasto na categoria.
+   * @throws InvalidCategoryException caso o usuário não tenha a categoria informada.
+   */
+  BudgetResponse save(
+      @Min(value = 1970, message = "year must be equals or greater than {value}")
+      @Max(value = 2099, message = "year must be equals or less than {value}") int year,
+      @Min(value = 1, message = "month must be equals or greater than {value}")
+      @Max(value = 12, message = "month must be equals or less than {value}") int month,
+      String category, BudgetRequest budgetRequest);
+
+  /**
+   * Deleta o orçamento do usuário logado para a categoria no ano e mês informados.
+   *
+   * @param year     ano do orçamento.
+   * @param month    mês do orçamento.
+   * @param category categoria do orçamento.
+   * @throws EntityNotFoundException caso o orçamento não exista.
+   * @throws InvalidCategoryException caso o usuário não tenha a categoria informada.
+   */
+  void delete(
+      @Min(value = 1970, message = "year must be equals or greater than {value}")
+      @Max(value = 2099, message = "year must be equals or less than {value}") int year,
+      @Min(value = 1, message = "month must be equals or greater than {value}")
+      @Max(value = 12, message = "month must be equals or less than {value}") int month,
+      String category);
+
+}
@@ -1,11 +1,41 @@
 package br.com.emendes.financesapi.service;
 
+import br.com.emendes.financesapi.dto.request.CategoryRequest;
 import br.com.emendes.financesapi.dto.response.CategoryResponse;
+import br.com.emendes.financesapi.exception.DataConflictException;
+import br.com.emendes.financesapi.exception.EntityNotFoundException;
 
 import java.util.List;
 
+/**
+ * Interface service com as abstrações para manipulação do recurso Category.
+ */
 public interface CategoryService {
 
+  /**
+   * Busca as categorias do usuário logado, as categorias padrão seguidas das criadas pelo usuário.
+   *
+   * @return {@code List<CategoryResponse>} com as categorias do usuário.
+   */
   List<CategoryResponse> fetchAllCategories();
 
+  /**
+   * Cria uma categoria para o usuário logado.
+   *
+   * @param categoryRequest objeto com o nome da categoria.
+   * @return {@code CategoryResponse} com a categoria criada.
+   * @throws DataConflictException caso o usuário já tenha uma categoria com o mesmo nome.
+   */
+  CategoryResponse create(CategoryRequest categoryRequest);
+
+  /**
+   * Deleta uma categoria criada pelo usuário logado.
+   *
+   * @param category nome da categoria.
+   * @throws EntityNotFoundException caso o usuário não tenha a categoria.
+   * @throws DataConflictException   caso a categoria seja padrão ou esteja em uso por despesas, orçamentos ou
+   *                                 regras recorrentes.
+   */
+  void delete(String category);
+
 }
@@ -4,6 +4,7 @@ import br.com.emendes.financesapi.dto.request.ExpenseRequest;
 import br.com.emendes.financesapi.dto.response.ExpenseResponse;
 import br.com.emendes.financesapi.dto.response.ValueByCategoryResponse;
 import br.com.emendes.financesapi.exception.EntityNotFoundException;
+import br.com.emendes.financesapi.exception.InvalidFieldsParameterException;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import org.springframework.data.domain.Page;
@@ -11,6 +12,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.validation.annotation.Validated;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Interface service com as abstrações para manipulação do recurso Expense.
@@ -35,6 +37,17 @@ public interface ExpenseService {
    */
   Page<ExpenseResponse> readAllByUser(Pageable pageable);
 
+  /**
+   * Busca paginada de expenses por usuário logado, com apenas os campos {@code fields} (e o id) preenchidos.
+   *
+   * @param fields   campos de ExpenseResponse a serem buscados.
+   * @param pageable objeto que define como a paginação será feita.
+   * @return {@code Page<ExpenseResponse>} objeto com a paginação de ExpenseResponse.
+   * @throws InvalidFieldsParameterException caso algum campo não exista em ExpenseResponse.
+   * @throws EntityNotFoundException         caso o usuário não tenha expenses.
+   */
+  Page<ExpenseResponse> readAllByUser(Set<String> fields, Pageable pageable);
+
   /**
    * Busca paginada de expenses por descrição similiar a {@code description} e usuário logado.
    *
@@ -45,6 +58,19 @@ public interface ExpenseService {
    */
   Page<ExpenseResponse> readByDescriptionAndUser(String description, Pageable pageable);
 
+  /**
+   * Busca paginada de expenses por descrição similiar a {@code description} e usuário logado, com apenas os campos
+   * {@code fields} (e o id) preenchidos.
+   *
+   * @param description descrição similar das expenses.
+   * @param fields      campos de ExpenseResponse a serem buscados.
+   * @param pageable    objeto que define como a paginação será feita.
+   * @return {@code Page<ExpenseResponse>} objeto com a paginação de ExpenseResponse.
+   * @throws InvalidFieldsParameterException caso algum campo não exista em ExpenseResponse.
+   * @throws EntityNotFoundException         caso o usuário não tenha expenses.
+   */
+  Page<ExpenseResponse> readByDescriptionAndUser(String description, Set<String> fields, Pageable pageable);
+
   /**
    * Busca expense por id e usuário logado.
    *
@@ -70,6 +96,26 @@ public interface ExpenseService {
       @Max(value = 12, message = "month must be equals or less than {value}") int month,
       Pageable pageable);
 
+  /**
+   * Busca paginada de expenses por ano (year), mês (month) e usuário logado, com apenas os campos {@code fields} (e o
+   * id) preenchidos.
+   *
+   * @param year     ano da expense.
+   * @param month    mês da expense.
+   * @param fields   campos de ExpenseResponse a serem buscados.
+   * @param pageable objeto que define como a paginação será feita.
+   * @return {@code Page<ExpenseResponse>} objeto com a paginação de ExpenseResponse.
+   * @throws InvalidFieldsParameterException caso algum campo não exista em ExpenseResponse.
+   * @throws EntityNotFoundException         caso o usuário não tenha expenses no ano e mês informados.
+   */
+  Page<ExpenseResponse> readByYearAndMonthAndUser(
+      @Min(value = 1970, message = "year must be equals or greater than {value}")
+      @Max(value = 2099, message = "year must be equals or less than {value}") int year,
+      @Min(value = 1, message = "month must be equals or greater than {value}")
+      @Max(value = 12, message = "month must be equals or less than {value}") int month,
+      Set<String> fields,
+      Pageable pageable);
+
   /**
    * Atualiza os dados de uma expense por id. A expense deve pertencer ao usuário logado.
    *
@@ -90,12 +136,14 @@ public interface ExpenseService {
 
   /**
    * Busca uma lista de valores por categoria de dado ano (year), mês (month) e usuário logado.
-   * Cada {@link ValueByCategoryResponse} corresponde a soma de despesas para cada categoria em dado ano e mês.
+   * Cada {@link ValueByCategoryResponse} corresponde a soma de despesas para cada categoria em dado ano e mês,
+   * convertida para a moeda currency.
    *
-   * @param year  ano das expenses.
-   * @param month mês das expenses.
+   * @param year     ano das expenses.
+   * @param month    mês das expenses.
+   * @param currency moeda para a qual os valores são convertidos.
    * @return {@code List<ValueByCategoryResponse>}.
    */
-  List<ValueByCategoryResponse> getValuesByCategoryOnMonthAndYearByUser(Integer year, Integer month);
+  List<ValueByCategoryResponse> getValuesByCategoryOnMonthAndYearByUser(Integer year, Integer month, String currency);
 
 }
@@ -3,13 +3,15 @@ package br.com.emendes.financesapi.service;
 import br.com.emendes.financesapi.dto.request.IncomeRequest;
 import br.com.emendes.financesapi.dto.response.IncomeResponse;
 import br.com.emendes.financesapi.exception.EntityNotFoundException;
+import br.com.emendes.financesapi.exception.InvalidFieldsParameterException;
+import br.com.emendes.financesapi.model.Money;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.validation.annotation.Validated;
 
-import java.math.BigDecimal;
+import java.util.Set;
 
 /**
  * Interface service com as abstrações para manipulação do recurso Income.
@@ -34,6 +36,17 @@ public interface IncomeService {
    */
   Page<IncomeResponse> readAllByUser(Pageable pageable);
 
+  /**
+   * Busca paginada de incomes por usuário logado, com apenas os campos {@code fields} (e o id) preenchidos.
+   *
+   * @param fields   campos de IncomeResponse a serem buscados.
+   * @param pageable objeto que define como a paginação será feita.
+   * @return {@code Page<IncomeResponse>} objeto com a paginação de IncomeResponse.
+   * @throws InvalidFieldsParameterException caso algum campo não exista em IncomeResponse.
+   * @throws EntityNotFoundException         caso o usuário não tenha incomes.
+   */
+  Page<IncomeResponse> readAllByUser(Set<String> fields, Pageable pageable);
+
   /**
    * Busca paginada de incomes por descrição similiar a {@code description} e usuário logado.
    *
@@ -44,6 +57,19 @@ public interface IncomeService {
    */
   Page<IncomeResponse> readByDescriptionAndUser(String description, Pageable pageable);
 
+  /**
+   * Busca paginada de incomes por descrição similiar a {@code description} e usuário logado, com apenas os campos
+   * {@code fields} (e o id) preenchidos.
+   *
+   * @param description descrição similar das incomes.
+   * @param fields      campos de IncomeResponse a serem buscados.
+   * @param pageable    objeto que define como a paginação será feita.
+   * @return {@code Page<IncomeResponse>} objeto com a paginação de IncomeResponse.
+   * @throws InvalidFieldsParameterException caso algum campo não exista em IncomeResponse.
+   * @throws EntityNotFoundException         caso o usuário não tenha incomes.
+   */
+  Page<IncomeResponse> readByDescriptionAndUser(String description, Set<String> fields, Pageable pageable);
+
   /**
    * Busca income por id e usuário logado.
    *
@@ -69,6 +95,26 @@ public interface IncomeService {
       @Max(value = 12, message = "month must be equals or less than {value}") int month,
       Pageable pageable);
 
+  /**
+   * Busca paginada de incomes por ano (year), mês (month) e usuário logado, com apenas os campos {@code fields} (e o
+   * id) preenchidos.
+   *
+   * @param year     ano da income.
+   * @param month    mês da income.
+   * @param fields   campos de IncomeResponse a serem buscados.
+   * @param pageable objeto que define como a paginação será feita.
+   * @return {@code Page<IncomeResponse>} objeto com a paginação de IncomeResponse.
+   * @throws InvalidFieldsParameterException caso algum campo não exista em IncomeResponse.
+   * @throws EntityNotFoundException         caso o usuário não tenha incomes no ano e mês informados.
+   */
+  Page<IncomeResponse> readByYearAndMonthAndUser(
+      @Min(value = 1970, message = "year must be equals or greater than {value}")
+      @Max(value = 2099, message = "year must be equals or less than {value}") int year,
+      @Min(value = 1, message = "month must be equals or greater than {value}")
+      @Max(value = 12, message = "month must be equals or less than {value}") int month,
+      Set<String> fields,
+      Pageable pageable);
+
   /**
    * Atualiza os dados de uma income por id. A income deve pertencer ao usuário logado.
    *
@@ -90,11 +136,12 @@ public interface IncomeService {
   /**
    * Busca a soma de incomes para um dado ano (year) e mês (month) e que pertençam ao usuário logado.
    *
-   * @param year  ano que as incomes devem ter.
-   * @param month mês que as incomes devem ter.
-   * @return soma dos valores da incomes encontradas para os dados year e month, {@code BigDecimal.ZERO} caso
+   * @param year     ano que as incomes devem ter.
+   * @param month    mês que as incomes devem ter.
+   * @param currency moeda para a qual os valores são convertidos.
+   * @return soma dos valores da incomes encontradas para os dados year e month, {@code Money.ZERO} caso
    * não sejam encontradas incomes.
    */
-  BigDecimal getTotalValueByMonthAndYearAndUserId(int year, int month);
+  Money getTotalValueByMonthAndYearAndUserId(int year, int month, String currency);
 
 }
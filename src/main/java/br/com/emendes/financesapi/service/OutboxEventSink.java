@@ -0,0 +1,21 @@
+package br.com.emendes.financesapi.service;
+
+import br.com.emendes.financesapi.model.entity.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Destino para onde o relay do outbox publica os eventos de alteração.<br>
+ * A implementação é escolhida através da propriedade {@code financesapi.outbox.sink}.
+ */
+public interface OutboxEventSink {
+
+  /**
+   * Publica os eventos na ordem recebida, qualquer exceção lançada faz com que o lote seja republicado.<br>
+   * Como a entrega é at-least-once, os consumidores devem usar o id do evento para descartar duplicados.
+   *
+   * @param events eventos a serem publicados.
+   */
+  void publish(List<OutboxEvent> events);
+
+}
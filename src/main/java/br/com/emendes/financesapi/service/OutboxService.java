@@ -0,0 +1,48 @@
+package br.com.emendes.financesapi.service;
+
+import br.com.emendes.financesapi.model.OutboxAggregateType;
+import br.com.emendes.financesapi.model.OutboxEventType;
+import br.com.emendes.financesapi.model.entity.OutboxEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Interface service com as abstrações para registrar e publicar eventos de alteração de despesas e receitas
+ * (transactional outbox).
+ */
+public interface OutboxService {
+
+  /**
+   * Registra um evento no outbox, deve ser invocado dentro da transação que realiza a alteração,
+   * assim o evento só existe se a alteração for efetivada.
+   *
+   * @param aggregateType tipo do recurso alterado.
+   * @param eventType     tipo da alteração.
+   * @param aggregateId   identificador do recurso alterado.
+   * @param userId        identificador do usuário dono do recurso.
+   * @param payload       objeto que será serializado como JSON no corpo do evento.
+   */
+  void append(OutboxAggregateType aggregateType, OutboxEventType eventType, Long aggregateId, Long userId, Object payload);
+
+  /**
+   * Publica um lote de eventos pendentes, em ordem de criação, no {@link OutboxEventSink} configurado e os marca
+   * como publicados. Caso a publicação falhe, nenhum evento do lote é marcado e o lote inteiro será
+   * republicado na próxima execução (entrega at-least-once).<br>
+   * Apenas uma instância da aplicação publica por vez, garantindo a ordem dos eventos de cada usuário.
+   *
+   * @param batchSize quantidade máxima de eventos publicados.
+   * @return {@code List<OutboxEvent>} com os eventos publicados, vazia caso não haja eventos pendentes ou outra
+   * instância esteja publicando.
+   */
+  List<OutboxEvent> relay(int batchSize);
+
+  /**
+   * Remove os eventos publicados antes do dado momento.
+   *
+   * @param before eventos publicados antes deste momento serão removidos.
+   * @return quantidade de eventos removidos.
+   */
+  int deletePublishedBefore(LocalDateTime before);
+
+}
@@ -0,0 +1,49 @@
+package br.com.emendes.financesapi.service;
+
+import br.com.emendes.financesapi.dto.request.RecurringRuleRequest;
+import br.com.emendes.financesapi.dto.response.RecurringRuleResponse;
+import br.com.emendes.financesapi.exception.EntityNotFoundException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Interface service com as abstrações para manipulação do recurso RecurringRule.
+ */
+public interface RecurringRuleService {
+
+  /**
+   * Registra uma {@code RecurringRule} para o usuário logado, as ocorrências são geradas pelo job de materialização
+   * a partir da data inicial da regra.
+   *
+   * @param recurringRuleRequest objeto com as informações da RecurringRule a ser registrada.
+   * @return {@code RecurringRuleResponse} objeto com os dados da RecurringRule registrada.
+   */
+  RecurringRuleResponse create(RecurringRuleRequest recurringRuleRequest);
+
+  /**
+   * Busca paginada de RecurringRule por usuário logado.
+   *
+   * @param pageable objeto que define como a paginação será feita.
+   * @return {@code Page<RecurringRuleResponse>} objeto com a paginação de RecurringRuleResponse.
+   * @throws EntityNotFoundException caso o usuário não tenha regras de recorrência.
+   */
+  Page<RecurringRuleResponse> readAllByUser(Pageable pageable);
+
+  /**
+   * Busca RecurringRule por id e usuário logado.
+   *
+   * @param id identificador da RecurringRule a ser buscada.
+   * @return objeto RecurringRuleResponse com os dados da RecurringRule encontrada.
+   * @throws EntityNotFoundException caso não seja encontrada RecurringRule com o dado id para o usuário logado.
+   */
+  RecurringRuleResponse readByIdAndUser(Long id);
+
+  /**
+   * Deleta RecurringRule por id e usuário logado, as despesas e receitas já geradas pela regra são mantidas.
+   *
+   * @param id identificador da RecurringRule a ser deletada.
+   * @throws EntityNotFoundException caso não seja encontrada RecurringRule com o dado id para o usuário logado.
+   */
+  void deleteById(Long id);
+
+}
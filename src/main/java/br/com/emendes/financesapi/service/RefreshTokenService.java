@@ -0,0 +1,55 @@
+package br.com.emendes.financesapi.service;
+
+import br.com.emendes.financesapi.exception.InvalidRefreshTokenException;
+import br.com.emendes.financesapi.model.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * Interface service com as abstrações para emitir, rotacionar e revogar refresh tokens.
+ */
+public interface RefreshTokenService {
+
+  /**
+   * Emite o primeiro refresh token de uma nova família para o usuário (sign in).
+   *
+   * @param user usuário dono do token.
+   * @return valor do refresh token, que não é guardado e só pode ser obtido aqui.
+   */
+  String create(User user);
+
+  /**
+   * Troca o refresh token por um novo da mesma família, o token informado é revogado. O uso de um token já
+   * revogado indica que ele vazou, então toda a família é revogada.
+   *
+   * @param refreshToken valor do refresh token.
+   * @return usuário dono do token e o novo refresh token.
+   * @throws InvalidRefreshTokenException caso o token não exista, esteja expirado ou revogado, ou o usuário não
+   *                                      esteja mais habilitado.
+   */
+  Rotation rotate(String refreshToken);
+
+  /**
+   * Revoga a família do refresh token (sign out), tokens inexistentes são ignorados.
+   *
+   * @param refreshToken valor do refresh token.
+   */
+  void revoke(String refreshToken);
+
+  /**
+   * Remove os refresh tokens expirados antes do dado momento.
+   *
+   * @return quantidade de tokens removidos.
+   */
+  int deleteExpiredBefore(LocalDateTime before);
+
+  /**
+   * Resultado da rotação de um refresh token.
+   *
+   * @param user         usuário dono do token.
+   * @param refreshToken valor do novo refresh token.
+   */
+  record Rotation(User user, String refreshToken) {
+  }
+
+}
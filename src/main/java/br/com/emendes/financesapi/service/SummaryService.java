@@ -8,10 +8,22 @@ import org.springframework.validation.annotation.Validated;
 @Validated
 public interface SummaryService {
 
+  /**
+   * Resumo do mês do usuário logado, com receitas e despesas convertidas para a moeda currency.
+   *
+   * @param year     ano do resumo.
+   * @param month    mês do resumo.
+   * @param currency moeda do resumo, quando null é usada a moeda base do usuário.
+   * @return SummaryResponse com os totais do mês.
+   * @throws br.com.emendes.financesapi.exception.InvalidCurrencyException caso a moeda não possua cotação.
+   * @throws br.com.emendes.financesapi.exception.EntityNotFoundException caso o usuário não possua receitas ou
+   *                                                                      despesas no mês.
+   */
   SummaryResponse monthSummary(
       @Min(value = 1970, message = "year must be equals or greater than {value}")
       @Max(value = 2099, message = "year must be equals or less than {value}") int year,
       @Min(value = 1, message = "month must be equals or greater than {value}")
-      @Max(value = 12, message = "month must be equals or less than {value}") int month);
+      @Max(value = 12, message = "month must be equals or less than {value}") int month,
+      String currency);
 
 }
@@ -0,0 +1,26 @@
+package br.com.emendes.financesapi.service;
+
+import br.com.emendes.financesapi.dto.response.SyncResponse;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Interface service com as abstrações para a sincronização incremental de despesas e receitas.
+ */
+@Validated
+public interface SyncService {
+
+  /**
+   * Busca as despesas e receitas do usuário logado criadas, atualizadas ou deletadas após o token {@code since}.
+   *
+   * @param since token retornado pela sincronização anterior (nextToken), 0 para sincronização completa.
+   * @param size  quantidade máxima de alterações retornadas.
+   * @return {@code SyncResponse} com as alterações e o token para a próxima sincronização.
+   */
+  SyncResponse sync(
+      @Min(value = 0, message = "since must be equals or greater than {value}") long since,
+      @Min(value = 1, message = "size must be equals or greater than {value}")
+      @Max(value = 1000, message = "size must be equals or less than {value}") int size);
+
+}
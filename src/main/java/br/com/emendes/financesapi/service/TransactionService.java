@@ -0,0 +1,31 @@
+package br.com.emendes.financesapi.service;
+
+import br.com.emendes.financesapi.dto.response.TimelineResponse;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Interface service com as abstrações para a linha do tempo de despesas e receitas.
+ */
+@Validated
+public interface TransactionService {
+
+  /**
+   * Busca as despesas e receitas do usuário logado, da mais recente para a menos recente, com o saldo acumulado até
+   * cada uma.
+   *
+   * @param cursor   cursor retornado pela página anterior (nextCursor), null para a primeira página.
+   * @param size     quantidade máxima de transações retornadas.
+   * @param currency moeda dos saldos, quando null é usada a moeda base do usuário.
+   * @return {@code TimelineResponse} com as transações e o cursor da próxima página.
+   * @throws br.com.emendes.financesapi.exception.InvalidCursorException   caso cursor seja inválido.
+   * @throws br.com.emendes.financesapi.exception.InvalidCurrencyException caso a moeda não possua cotação.
+   */
+  TimelineResponse timeline(
+      String cursor,
+      @Min(value = 1, message = "size must be equals or greater than {value}")
+      @Max(value = 100, message = "size must be equals or less than {value}") int size,
+      String currency);
+
+}
@@ -38,7 +38,10 @@ public interface UserService {
   User readById(Long userId);
 
   /**
-   * Deleta usuário por id.
+   * Deleta usuário por id.<br>
+   * <br>
+   * O usuário é apenas marcado como deletado, perdendo o acesso imediatamente, enquanto suas receitas e despesas
+   * são removidas em segundo plano por {@link br.com.emendes.financesapi.job.UserDeletionJob}.
    *
    * @param id identificador do usuário a ser deletado.
    * @throws EntityNotFoundException caso o usuário não seja encontrado.
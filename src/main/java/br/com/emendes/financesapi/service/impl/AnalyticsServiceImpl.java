@@ -0,0 +1,220 @@
+package br.com.emendes.financesapi.service.impl;
+
+import br.com.emendes.financesapi.dto.response.BalancePointResponse;
+import br.com.emendes.financesapi.dto.response.BalanceSeriesResponse;
+import br.com.emendes.financesapi.dto.response.CategoryMonthResponse;
+import br.com.emendes.financesapi.dto.response.CategoryTrendResponse;
+import br.com.emendes.financesapi.dto.response.CategoryTrendsResponse;
+import br.com.emendes.financesapi.exception.InvalidPeriodException;
+import br.com.emendes.financesapi.model.Granularity;
+import br.com.emendes.financesapi.model.Money;
+import br.com.emendes.financesapi.model.entity.User;
+import br.com.emendes.financesapi.repository.AnalyticsRepository;
+import br.com.emendes.financesapi.repository.projection.BalancePoint;
+import br.com.emendes.financesapi.repository.projection.CategoryMonthTotal;
+import br.com.emendes.financesapi.service.AnalyticsService;
+import br.com.emendes.financesapi.util.component.CurrentAuthenticationComponent;
+import br.com.emendes.financesapi.util.component.FxRateTable;
+import br.com.emendes.financesapi.util.component.MonthlyBalanceCache;
+import br.com.emendes.financesapi.util.parser.DateParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Implementação de {@link AnalyticsService}.<br>
+ * <br>
+ * O saldo antes de from é o saldo de fechamento do mês anterior, vindo de {@link MonthlyBalanceCache}, mais as
+ * transações do mês de from anteriores a ele. Então uma série sobre um período longo agrega apenas o próprio período
+ * e, no máximo, um mês antes dele.<br>
+ * <br>
+ * Os totais por categoria na moeda base vêm de tb_expense_category_rollup, um período de vários meses é uma única
+ * busca no índice do rollup. Em outra moeda, as despesas são somadas convertidas com a cotação do dia de cada uma,
+ * como no rollup e no resumo mensal. O mês anterior a from também é lido para calcular a variação do primeiro mês.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+  /**
+   * Quantidade máxima de pontos de uma série.
+   */
+  private static final int MAX_POINTS = 1000;
+
+  /**
+   * Quantidade máxima de meses das análises por categoria.
+   */
+  private static final int MAX_MONTHS = 24;
+
+  private final AnalyticsRepository analyticsRepository;
+  private final CurrentAuthenticationComponent currentAuthenticationComponent;
+  private final MonthlyBalanceCache monthlyBalanceCache;
+  private final FxRateTable fxRateTable;
+
+  @Override
+  @Transactional(readOnly = true)
+  public BalanceSeriesResponse balance(String from, String to, String granularity, String currency) {
+    LocalDate fromDate = parseDate("from", from);
+    LocalDate toDate = parseDate("to", to);
+    if (toDate.isBefore(fromDate)) {
+      throw new InvalidPeriodException(String.format("to %s must be equals or after from %s", to, from));
+    }
+    Granularity seriesGranularity = parseGranularity(granularity);
+    if (seriesGranularity.countPeriods(fromDate, toDate) > MAX_POINTS) {
+      throw new InvalidPeriodException(String.format("Period from %s to %s has more than %d %s periods",
+          from, to, MAX_POINTS, granularity));
+    }
+
+    User currentUser = currentAuthenticationComponent.getCurrentUser();
+    String seriesCurrency = currency == null ? currentUser.getBaseCurrency() : fxRateTable.requireSupported(currency);
+    log.info("attempt to read balance series for user with id: {} from: {} to: {}", currentUser.getId(), from, to);
+
+    BigDecimal opening = monthlyBalanceCache.getClosingBalance(
+        currentUser.getId(), seriesCurrency, YearMonth.from(fromDate).minusMonths(1));
+    if (fromDate.getDayOfMonth() > 1) {
+      opening = opening.add(analyticsRepository.getNetBetween(currentUser.getId(), seriesCurrency,
+          fxRateTable.getFirstDate(), fxRateTable.getLastDate(), fromDate.withDayOfMonth(1), fromDate));
+    }
+    List<BalancePoint> points = analyticsRepository.findBalanceSeries(currentUser.getId(), seriesCurrency,
+        fxRateTable.getFirstDate(), fxRateTable.getLastDate(), seriesGranularity.name().toLowerCase(Locale.ROOT),
+        fromDate, toDate.plusDays(1), opening);
+
+    return BalanceSeriesResponse.builder()
+        .currency(seriesCurrency)
+        .from(fromDate)
+        .to(toDate)
+        .granularity(seriesGranularity)
+        .openingBalance(Money.of(opening))
+        .points(points.stream().map(AnalyticsServiceImpl::toBalancePointResponse).toList())
+        .build();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public CategoryTrendsResponse categories(String from, String to, String currency) {
+    YearMonth fromMonth = parseMonth("from", from);
+    YearMonth toMonth = parseMonth("to", to);
+    if (toMonth.isBefore(fromMonth)) {
+      throw new InvalidPeriodException(String.format("to %s must be equals or after from %s", to, from));
+    }
+    if (ChronoUnit.MONTHS.between(fromMonth, toMonth) >= MAX_MONTHS) {
+      throw new InvalidPeriodException(String.format("Period from %s to %s has more than %d months",
+          from, to, MAX_MONTHS));
+    }
+
+    User currentUser = currentAuthenticationComponent.getCurrentUser();
+    String trendsCurrency = currency == null ? currentUser.getBaseCurrency() : fxRateTable.requireSupported(currency);
+    log.info("attempt to read category trends for user with id: {} from: {} to: {}", currentUser.getId(), from, to);
+
+    LocalDate start = fromMonth.minusMonths(1).atDay(1);
+    LocalDate end = toMonth.plusMonths(1).atDay(1);
+    List<CategoryMonthTotal> totals = trendsCurrency.equals(currentUser.getBaseCurrency())
+        ? analyticsRepository.findBaseCurrencyCategoryTotalsByMonth(currentUser.getId(), start, end)
+        : analyticsRepository.findCategoryTotalsByMonth(currentUser.getId(), trendsCurrency,
+            fxRateTable.getFirstDate(), fxRateTable.getLastDate(), start, end);
+
+    Map<String, Map<YearMonth, Money>> totalsByCategory = new LinkedHashMap<>();
+    for (CategoryMonthTotal total : totals) {
+      totalsByCategory.computeIfAbsent(total.getCategory(), key -> new HashMap<>())
+          .put(YearMonth.from(total.getMonth()), Money.of(total.getTotal()));
+    }
+
+    List<CategoryTrendResponse> categories = new ArrayList<>(totalsByCategory.size());
+    totalsByCategory.forEach((category, monthTotals) -> {
+      CategoryTrendResponse trend = toCategoryTrendResponse(category, monthTotals, fromMonth, toMonth);
+      if (!trend.getTotal().isZero()) {
+        categories.add(trend);
+      }
+    });
+
+    return CategoryTrendsResponse.builder()
+        .currency(trendsCurrency)
+        .from(fromMonth)
+        .to(toMonth)
+        .categories(categories)
+        .build();
+  }
+
+  /**
+   * Monta a tendência da categoria com um item para cada mês entre from e to, meses sem despesas têm total zero.
+   *
+   * @param monthTotals totais da categoria por mês, inclusive o mês anterior a from.
+   */
+  private static CategoryTrendResponse toCategoryTrendResponse(
+      String category, Map<YearMonth, Money> monthTotals, YearMonth from, YearMonth to) {
+    List<CategoryMonthResponse> months = new ArrayList<>();
+    Money previous = monthTotals.getOrDefault(from.minusMonths(1), Money.ZERO);
+    Money sum = Money.ZERO;
+    for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+      Money total = monthTotals.getOrDefault(month, Money.ZERO);
+      months.add(CategoryMonthResponse.builder()
+          .month(month)
+          .total(total)
+          .delta(total.minus(previous))
+          .build());
+      sum = sum.plus(total);
+      previous = total;
+    }
+
+    return CategoryTrendResponse.builder()
+        .category(category)
+        .total(sum)
+        .average(Money.of(sum.toBigDecimal().divide(BigDecimal.valueOf(months.size()), 2, RoundingMode.HALF_EVEN)))
+        .months(months)
+        .build();
+  }
+
+  private static BalancePointResponse toBalancePointResponse(BalancePoint point) {
+    return BalancePointResponse.builder()
+        .period(point.getPeriod())
+        .income(Money.of(point.getIncome()))
+        .expense(Money.of(point.getExpense()))
+        .balance(Money.of(point.getBalance()))
+        .build();
+  }
+
+  /**
+   * @throws InvalidPeriodException caso value não seja uma data no formato yyyy-MM-dd.
+   */
+  private static LocalDate parseDate(String name, String value) {
+    LocalDate date = DateParser.parse(value);
+    if (date == null) {
+      throw new InvalidPeriodException(String.format("%s must be a date in the format yyyy-MM-dd", name));
+    }
+    return date;
+  }
+
+  /**
+   * @throws InvalidPeriodException caso value não seja um mês no formato yyyy-MM.
+   */
+  private static YearMonth parseMonth(String name, String value) {
+    LocalDate date = value == null ? null : DateParser.parse(value + "-01");
+    if (date == null) {
+      throw new InvalidPeriodException(String.format("%s must be a month in the format yyyy-MM", name));
+    }
+    return YearMonth.from(date);
+  }
+
+  /**
+   * @throws InvalidPeriodException caso value não seja day, week ou month.
+   */
+  private static Granularity parseGranularity(String value) {
+    for (Granularity granularity : Granularity.values()) {
+      if (granularity.name().equalsIgnoreCase(value)) {
+        return granularity;
+      }
+    }
+    throw new InvalidPeriodException(
+        String.format("Granularity %s is not supported, supported granularities are day, week, month", value));
+  }
+
+}
@@ -1,12 +1,16 @@
 package br.com.emendes.financesapi.service.impl;
 
 import br.com.emendes.financesapi.config.security.service.TokenService;
+import br.com.emendes.financesapi.dto.request.RefreshTokenRequest;
 import br.com.emendes.financesapi.dto.request.SignInRequest;
 import br.com.emendes.financesapi.dto.request.SignupRequest;
 import br.com.emendes.financesapi.dto.response.TokenResponse;
 import br.com.emendes.financesapi.dto.response.UserResponse;
+import br.com.emendes.financesapi.model.entity.User;
 import br.com.emendes.financesapi.service.AuthenticationService;
+import br.com.emendes.financesapi.service.RefreshTokenService;
 import br.com.emendes.financesapi.service.UserService;
+import br.com.emendes.financesapi.util.component.RevokedTokenRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -20,6 +24,8 @@ public class AuthenticationServiceImpl implements AuthenticationService {
   private final AuthenticationManager authManager;
   private final TokenService tokenService;
   private final UserService userService;
+  private final RefreshTokenService refreshTokenService;
+  private final RevokedTokenRegistry revokedTokenRegistry;
 
   @Override
   public TokenResponse signIn(SignInRequest request) {
@@ -27,8 +33,8 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword());
 
     Authentication authentication = authManager.authenticate(loginData);
-    String token = tokenService.generateToken(authentication);
-    return new TokenResponse(token, "Bearer");
+    User user = (User) authentication.getPrincipal();
+    return toTokenResponse(user, refreshTokenService.create(user));
   }
 
   @Override
@@ -36,4 +42,28 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     return userService.createAccount(signupRequest);
   }
 
+  @Override
+  public TokenResponse refresh(RefreshTokenRequest request) {
+    RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+    return toTokenResponse(rotation.user(), rotation.refreshToken());
+  }
+
+  @Override
+  public void signOut(RefreshTokenRequest request, String accessToken) {
+    refreshTokenService.revoke(request.getRefreshToken());
+
+    tokenService.decode(accessToken)
+        .filter(token -> token.id() != null)
+        .ifPresent(token -> revokedTokenRegistry.revoke(token.id(), token.expiration()));
+  }
+
+  private TokenResponse toTokenResponse(User user, String refreshToken) {
+    return TokenResponse.builder()
+        .token(tokenService.generateToken(user))
+        .type("Bearer")
+        .refreshToken(refreshToken)
+        .expiresIn(tokenService.getExpiresInSeconds())
+        .build();
+  }
+
 }
@@ -0,0 +1,79 @@
+package br.com.emendes.financesapi.service.impl;
+
+import br.com.emendes.financesapi.dto.request.BudgetRequest;
+import br.com.emendes.financesapi.dto.response.BudgetResponse;
+import br.com.emendes.financesapi.exception.EntityNotFoundException;
+import br.com.emendes.financesapi.mapper.BudgetMapper;
+import br.com.emendes.financesapi.model.entity.Budget;
+import br.com.emendes.financesapi.model.entity.User;
+import br.com.emendes.financesapi.repository.BudgetRepository;
+import br.com.emendes.financesapi.repository.projection.BudgetStatus;
+import br.com.emendes.financesapi.service.BudgetService;
+import br.com.emendes.financesapi.util.component.CategoryDictionary;
+import br.com.emendes.financesapi.util.component.CurrentAuthenticationComponent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class BudgetServiceImpl implements BudgetService {
+
+  private final BudgetRepository budgetRepository;
+  private final CurrentAuthenticationComponent currentAuthenticationComponent;
+  private final BudgetMapper budgetMapper;
+  private final CategoryDictionary categoryDictionary;
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<BudgetResponse> readByYearAndMonth(int year, int month) {
+    log.info("attempt to read budgets for year: {} and month: {}", year, month);
+    User currentUser = currentAuthenticationComponent.getCurrentUser();
+
+    List<BudgetStatus> budgets = budgetRepository
+        .findStatusByUserAndMonth(currentUser.getId(), LocalDate.of(year, month, 1));
+    if (budgets.isEmpty()) {
+      throw new EntityNotFoundException(String.format("Has no budgets for year %d and month %s", year, Month.of(month)));
+    }
+    return budgets.stream().map(budgetMapper::toBudgetResponse).toList();
+  }
+
+  @Override
+  @Transactional
+  public BudgetResponse save(int year, int month, String category, BudgetRequest budgetRequest) {
+    log.info("attempt to save budget for category: {} at year: {} and month: {}", category, year, month);
+    User currentUser = currentAuthenticationComponent.getCurrentUser();
+    short categoryId = categoryDictionary.getId(currentUser.getId(), category);
+    LocalDate firstDayOfMonth = LocalDate.of(year, month, 1);
+
+    Budget budget = budgetRepository.findByUserAndMonthAndCategoryId(currentUser, firstDayOfMonth, categoryId)
+        .orElseGet(() -> Budget.builder().user(currentUser).month(firstDayOfMonth).categoryId(categoryId).build());
+    budget.setLimitValue(budgetRequest.getLimit());
+    budgetRepository.save(budget);
+
+    BigDecimal spent = budgetRepository.getSpent(currentUser.getId(), firstDayOfMonth, categoryId);
+    return budgetMapper.toBudgetResponse(budget, spent);
+  }
+
+  @Override
+  @Transactional
+  public void delete(int year, int month, String category) {
+    log.info("attempt to delete budget for category: {} at year: {} and month: {}", category, year, month);
+    User currentUser = currentAuthenticationComponent.getCurrentUser();
+    short categoryId = categoryDictionary.getId(currentUser.getId(), category);
+
+    Budget budget = budgetRepository
+        .findByUserAndMonthAndCategoryId(currentUser, LocalDate.of(year, month, 1), categoryId)
+        .orElseThrow(() -> new EntityNotFoundException(
+            String.format("Budget not found for category %s, year %d and month %s", category, year, Month.of(month))));
+    budgetRepository.delete(budget);
+  }
+
+}
@@ -1,20 +1,111 @@
 package br.com.emendes.financesapi.service.impl;
 
+import br.com.emendes.financesapi.dto.request.CategoryRequest;
 import br.com.emendes.financesapi.dto.response.CategoryResponse;
-import br.com.emendes.financesapi.model.Category;
+import br.com.emendes.financesapi.exception.DataConflictException;
+import br.com.emendes.financesapi.exception.EntityNotFoundException;
+import br.com.emendes.financesapi.model.DefaultCategory;
+import br.com.emendes.financesapi.model.entity.Category;
+import br.com.emendes.financesapi.repository.CategoryRepository;
+import br.com.emendes.financesapi.repository.ExpenseRepository;
+import br.com.emendes.financesapi.repository.UserRepository;
 import br.com.emendes.financesapi.service.CategoryService;
+import br.com.emendes.financesapi.util.component.CategoryDictionary;
+import br.com.emendes.financesapi.util.component.CurrentAuthenticationComponent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
+/**
+ * Implementação de {@link CategoryService}.<br>
+ * <br>
+ * O id de uma nova categoria é o maior id do usuário mais 1, lido com a linha do usuário bloqueada
+ * ({@link UserRepository#lockById(Long)}), então criações concorrentes do mesmo usuário não geram o mesmo id.
+ */
+@Slf4j
+@RequiredArgsConstructor
 @Service
 public class CategoryServiceImpl implements CategoryService {
 
+  private static final String NAME_UNIQUE_CONSTRAINT = "tb_category_user_id_name_unique";
+
+  private final CategoryRepository categoryRepository;
+  private final ExpenseRepository expenseRepository;
+  private final UserRepository userRepository;
+  private final CategoryDictionary categoryDictionary;
+  private final CurrentAuthenticationComponent currentAuthenticationComponent;
+
   @Override
+  @Transactional(readOnly = true)
   public List<CategoryResponse> fetchAllCategories() {
-    return Arrays.stream(Category.values()).map(c -> new CategoryResponse(c.name())).collect(Collectors.toList());
+    Long userId = currentAuthenticationComponent.getCurrentUser().getId();
+    log.info("attempt to fetch categories for user with id: {}", userId);
+
+    return categoryDictionary.getNames(userId).stream().map(CategoryResponse::new).toList();
+  }
+
+  @Override
+  @Transactional
+  public CategoryResponse create(CategoryRequest categoryRequest) {
+    log.info("attempt to create new category.");
+    Long userId = currentAuthenticationComponent.getCurrentUser().getId();
+    String name = categoryRequest.getCategory();
+
+    userRepository.lockById(userId);
+    if (categoryRepository.existsByUserIdAndName(userId, name)) {
+      throw new DataConflictException(String.format("Category %s already exists", name));
+    }
+    Short maxId = categoryRepository.findMaxIdByUserId(userId);
+    if (maxId != null && maxId == Short.MAX_VALUE) {
+      throw new DataConflictException("The user has reached the maximum number of categories");
+    }
+
+    try {
+      short id = maxId == null ? 1 : (short) (maxId + 1);
+      categoryRepository.saveAndFlush(Category.builder().userId(userId).id(id).name(name).build());
+    } catch (DataIntegrityViolationException e) {
+      if (isViolationOf(e, NAME_UNIQUE_CONSTRAINT)) {
+        throw new DataConflictException(String.format("Category %s already exists", name));
+      }
+      log.error("could not allocate id for category {} of user with id: {}", name, userId, e);
+      throw new DataConflictException(String.format("Could not create category %s, try again", name));
+    }
+    categoryDictionary.invalidate(userId);
+
+    return new CategoryResponse(name);
+  }
+
+  @Override
+  @Transactional
+  public void delete(String category) {
+    log.info("attempt to delete category: {}", category);
+    Long userId = currentAuthenticationComponent.getCurrentUser().getId();
+
+    Category categoryToBeDeleted = categoryRepository.findByUserIdAndName(userId, category)
+        .orElseThrow(() -> new EntityNotFoundException(String.format("Category not found: %s", category)));
+    if (DefaultCategory.isDefault(categoryToBeDeleted.getId())) {
+      throw new DataConflictException(String.format("Default category %s can not be deleted", category));
+    }
+
+    // Despesas deletadas continuam referenciando a categoria (tb_expense possui FK para tb_category).
+    expenseRepository.moveDeletedToCategory(userId, categoryToBeDeleted.getId(), DefaultCategory.OUTRAS.getId());
+    try {
+      categoryRepository.delete(categoryToBeDeleted);
+      categoryRepository.flush();
+    } catch (DataIntegrityViolationException e) {
+      throw new DataConflictException(String.format("Category %s is in use", category));
+    }
+    categoryDictionary.invalidate(userId);
+  }
+
+  private static boolean isViolationOf(DataIntegrityViolationException exception, String constraintName) {
+    return exception.getCause() instanceof ConstraintViolationException violation
+        && constraintName.equalsIgnoreCase(violation.getConstraintName());
   }
 
 }
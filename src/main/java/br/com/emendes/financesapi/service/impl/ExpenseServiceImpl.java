@@ -4,22 +4,29 @@ import br.com.emendes.financesapi.dto.request.ExpenseRequest;
 import br.com.emendes.financesapi.dto.response.ExpenseResponse;
 import br.com.emendes.financesapi.dto.response.ValueByCategoryResponse;
 import br.com.emendes.financesapi.exception.EntityNotFoundException;
+import br.com.emendes.financesapi.exception.InvalidFieldsParameterException;
 import br.com.emendes.financesapi.mapper.ExpenseMapper;
+import br.com.emendes.financesapi.model.OutboxAggregateType;
+import br.com.emendes.financesapi.model.OutboxEventType;
 import br.com.emendes.financesapi.model.entity.Expense;
 import br.com.emendes.financesapi.model.entity.User;
 import br.com.emendes.financesapi.repository.ExpenseRepository;
 import br.com.emendes.financesapi.service.ExpenseService;
+import br.com.emendes.financesapi.service.OutboxService;
 import br.com.emendes.financesapi.util.component.CurrentAuthenticationComponent;
-import jakarta.transaction.Transactional;
+import br.com.emendes.financesapi.util.component.FxRateTable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Month;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -29,60 +36,115 @@ public class ExpenseServiceImpl implements ExpenseService {
   private final ExpenseRepository expenseRepository;
   private final CurrentAuthenticationComponent currentAuthenticationComponent;
   private final ExpenseMapper expenseMapper;
+  private final OutboxService outboxService;
+  private final FxRateTable fxRateTable;
 
   @Override
+  @Transactional
   public ExpenseResponse create(ExpenseRequest expenseRequest) {
     log.info("attempt to create new expense.");
     User currentUser = currentAuthenticationComponent.getCurrentUser();
 
-    Expense expense = expenseMapper.toExpense(expenseRequest);
-    expense.setUser(currentUser);
+    Expense expense = expenseMapper.toExpense(expenseRequest, currentUser);
     expenseRepository.save(expense);
 
-    return expenseMapper.toExpenseResponse(expense);
+    ExpenseResponse expenseResponse = expenseMapper.toExpenseResponse(expense);
+    outboxService.append(
+        OutboxAggregateType.EXPENSE, OutboxEventType.CREATED, expense.getId(), currentUser.getId(), expenseResponse);
+    return expenseResponse;
   }
 
   @Override
+  @Transactional(readOnly = true)
   public Page<ExpenseResponse> readAllByUser(Pageable pageable) {
     User currentUser = currentAuthenticationComponent.getCurrentUser();
     log.info("attempt to read expenses for user with id: {}.", currentUser.getId());
 
-    Page<Expense> expensePage = expenseRepository.findAllByUser(currentUser, pageable);
+    Page<ExpenseResponse> expensePage = expenseRepository.findAllByUser(currentUser, pageable);
+    if (expensePage.getTotalElements() == 0) {
+      throw new EntityNotFoundException("The user has no expenses");
+    }
+
+    return expensePage;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Page<ExpenseResponse> readAllByUser(Set<String> fields, Pageable pageable) {
+    User currentUser = currentAuthenticationComponent.getCurrentUser();
+    log.info("attempt to read expenses with fields {} for user with id: {}.", fields, currentUser.getId());
+
+    Page<ExpenseResponse> expensePage = expenseRepository.findFieldsByUser(
+        requireSupported(fields), currentUser, null, null, null, pageable);
     if (expensePage.getTotalElements() == 0) {
       throw new EntityNotFoundException("The user has no expenses");
     }
 
-    return expensePage.map(expenseMapper::toExpenseResponse);
+    return expensePage;
   }
 
   @Override
+  @Transactional(readOnly = true)
   public Page<ExpenseResponse> readByDescriptionAndUser(String description, Pageable pageable) {
     log.info("attempt to read expense by description");
 
     User currentUser = currentAuthenticationComponent.getCurrentUser();
-    Page<Expense> expensePage = expenseRepository.findByDescriptionAndUser(description, currentUser, pageable);
+    Page<ExpenseResponse> expensePage = expenseRepository.findByDescriptionAndUser(description, currentUser, pageable);
+    if (expensePage.getTotalElements() == 0) {
+      throw new EntityNotFoundException("The user has no expenses with a description similar to " + description);
+    }
+    return expensePage;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Page<ExpenseResponse> readByDescriptionAndUser(String description, Set<String> fields, Pageable pageable) {
+    log.info("attempt to read expense by description with fields {}", fields);
+
+    User currentUser = currentAuthenticationComponent.getCurrentUser();
+    Page<ExpenseResponse> expensePage = expenseRepository.findFieldsByUser(
+        requireSupported(fields), currentUser, description, null, null, pageable);
     if (expensePage.getTotalElements() == 0) {
       throw new EntityNotFoundException("The user has no expenses with a description similar to " + description);
     }
-    return expensePage.map(expenseMapper::toExpenseResponse);
+    return expensePage;
   }
 
   @Override
+  @Transactional(readOnly = true)
   public ExpenseResponse readByIdAndUser(Long expenseId) {
     log.info("attempt to read expense by id.");
-    return expenseMapper.toExpenseResponse(findByIdAndUser(expenseId));
+    User currentUser = currentAuthenticationComponent.getCurrentUser();
+
+    return expenseRepository.findResponseByIdAndUser(expenseId, currentUser).orElseThrow(
+        () -> new EntityNotFoundException(String.format("Expense not found with id: %d", expenseId)));
   }
 
   @Override
+  @Transactional(readOnly = true)
   public Page<ExpenseResponse> readByYearAndMonthAndUser(int year, int month, Pageable pageable) {
     log.info("attempt to read expense by year and month.");
     User currentUser = currentAuthenticationComponent.getCurrentUser();
-    Page<Expense> expensePage = expenseRepository.findByYearAndMonthAndUser(year, month, currentUser, pageable);
+    Page<ExpenseResponse> expensePage = expenseRepository.findByYearAndMonthAndUser(year, month, currentUser, pageable);
 
     if (expensePage.getTotalElements() == 0) {
       throw new EntityNotFoundException(String.format("Has no expenses for year %d and month %s", year, Month.of(month)));
     }
-    return expensePage.map(expenseMapper::toExpenseResponse);
+    return expensePage;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Page<ExpenseResponse> readByYearAndMonthAndUser(int year, int month, Set<String> fields, Pageable pageable) {
+    log.info("attempt to read expense by year and month with fields {}.", fields);
+    User currentUser = currentAuthenticationComponent.getCurrentUser();
+    Page<ExpenseResponse> expensePage = expenseRepository.findFieldsByUser(
+        requireSupported(fields), currentUser, null, year, month, pageable);
+
+    if (expensePage.getTotalElements() == 0) {
+      throw new EntityNotFoundException(String.format("Has no expenses for year %d and month %s", year, Month.of(month)));
+    }
+    return expensePage;
   }
 
   @Override
@@ -92,22 +154,32 @@ public class ExpenseServiceImpl implements ExpenseService {
     Expense expenseToBeUpdated = findByIdAndUser(expenseId);
 
     expenseMapper.merge(expenseToBeUpdated, expenseRequest);
-    return expenseMapper.toExpenseResponse(expenseToBeUpdated);
+    ExpenseResponse expenseResponse = expenseMapper.toExpenseResponse(expenseToBeUpdated);
+    outboxService.append(OutboxAggregateType.EXPENSE, OutboxEventType.UPDATED,
+        expenseToBeUpdated.getId(), expenseToBeUpdated.getUser().getId(), expenseResponse);
+    return expenseResponse;
   }
 
   @Override
+  @Transactional
   public void deleteById(Long expenseId) {
     log.info("attempt to delete expense with id: {}", expenseId);
 
-    expenseRepository.delete(findByIdAndUser(expenseId));
+    Expense expense = findByIdAndUser(expenseId);
+    expenseRepository.delete(expense);
+    outboxService.append(OutboxAggregateType.EXPENSE, OutboxEventType.DELETED,
+        expense.getId(), expense.getUser().getId(), Map.of("id", expense.getId()));
   }
 
   @Override
-  public List<ValueByCategoryResponse> getValuesByCategoryOnMonthAndYearByUser(Integer year, Integer month) {
+  @Transactional(readOnly = true)
+  public List<ValueByCategoryResponse> getValuesByCategoryOnMonthAndYearByUser(
+      Integer year, Integer month, String currency) {
     log.info("attempt to get values by category at year: {} and month: {}", year, month);
 
     User currentUser = currentAuthenticationComponent.getCurrentUser();
-    return expenseRepository.getValueByCategoryAndMonthAndYearAndUser(year, month, currentUser);
+    return expenseRepository.getValueByCategoryAndMonthAndYearAndUser(
+        year, month, currentUser, currency, fxRateTable.getFirstDate(), fxRateTable.getLastDate());
   }
 
   /**
@@ -126,4 +198,21 @@ public class ExpenseServiceImpl implements ExpenseService {
         () -> new EntityNotFoundException(String.format("Expense not found with id: %d", id)));
   }
 
+  /**
+   * Verifica se todos os campos pedidos existem em ExpenseResponse.
+   *
+   * @throws InvalidFieldsParameterException caso algum campo não exista.
+   */
+  private static Set<String> requireSupported(Set<String> fields) {
+    List<String> unsupported = fields.stream()
+        .filter(field -> !ExpenseRepository.EXPENSE_FIELDS.contains(field))
+        .sorted()
+        .toList();
+    if (!unsupported.isEmpty()) {
+      throw new InvalidFieldsParameterException(String.format("Unsupported field(s) %s, supported fields are %s",
+          String.join(", ", unsupported), String.join(", ", ExpenseRepository.EXPENSE_FIELDS.stream().sorted().toList())));
+    }
+    return fields;
+  }
+
 }
@@ -0,0 +1,66 @@
+package br.com.emendes.financesapi.service.impl;
+
+import br.com.emendes.financesapi.model.entity.OutboxEvent;
+import br.com.emendes.financesapi.service.OutboxEventSink;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * {@link OutboxEventSink} que acrescenta os eventos, um JSON por linha, ao arquivo definido em
+ * {@code financesapi.outbox.file.path}.
+ */
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "financesapi.outbox.sink", havingValue = "file")
+public class FileOutboxEventSink implements OutboxEventSink {
+
+  private final ObjectMapper objectMapper;
+
+  @Value("${financesapi.outbox.file.path}")
+  private Path path;
+
+  @Override
+  public void publish(List<OutboxEvent> events) {
+    StringBuilder lines = new StringBuilder();
+    for (OutboxEvent event : events) {
+      lines.append(toJsonLine(event)).append('\n');
+    }
+
+    try {
+      Files.writeString(path, lines, StandardCharsets.UTF_8,
+          StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Could not write outbox events to " + path, exception);
+    }
+  }
+
+  private String toJsonLine(OutboxEvent event) {
+    try {
+      ObjectNode node = objectMapper.createObjectNode()
+          .put("id", event.getId())
+          .put("aggregateType", event.getAggregateType().name())
+          .put("aggregateId", event.getAggregateId())
+          .put("userId", event.getUserId())
+          .put("eventType", event.getEventType().name())
+          .put("createdAt", event.getCreatedAt().toString());
+      node.set("payload", objectMapper.readTree(event.getPayload()));
+      return objectMapper.writeValueAsString(node);
+    } catch (JsonProcessingException exception) {
+      throw new IllegalStateException("Could not serialize outbox event with id " + event.getId(), exception);
+    }
+  }
+
+}
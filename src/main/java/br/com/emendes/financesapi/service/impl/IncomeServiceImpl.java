@@ -3,22 +3,30 @@ package br.com.emendes.financesapi.service.impl;
 import br.com.emendes.financesapi.dto.request.IncomeRequest;
 import br.com.emendes.financesapi.dto.response.IncomeResponse;
 import br.com.emendes.financesapi.exception.EntityNotFoundException;
+import br.com.emendes.financesapi.exception.InvalidFieldsParameterException;
 import br.com.emendes.financesapi.mapper.IncomeMapper;
+import br.com.emendes.financesapi.model.Money;
+import br.com.emendes.financesapi.model.OutboxAggregateType;
+import br.com.emendes.financesapi.model.OutboxEventType;
 import br.com.emendes.financesapi.model.entity.Income;
 import br.com.emendes.financesapi.model.entity.User;
 import br.com.emendes.financesapi.repository.IncomeRepository;
 import br.com.emendes.financesapi.service.IncomeService;
+import br.com.emendes.financesapi.service.OutboxService;
 import br.com.emendes.financesapi.util.component.CurrentAuthenticationComponent;
-import jakarta.transaction.Transactional;
+import br.com.emendes.financesapi.util.component.FxRateTable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.Month;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -28,60 +36,115 @@ public class IncomeServiceImpl implements IncomeService {
   private final IncomeRepository incomeRepository;
   private final CurrentAuthenticationComponent currentAuthenticationComponent;
   private final IncomeMapper incomeMapper;
+  private final OutboxService outboxService;
+  private final FxRateTable fxRateTable;
 
   @Override
+  @Transactional
   public IncomeResponse create(IncomeRequest incomeRequest) {
     log.info("attempt to create new income.");
     User currentUser = currentAuthenticationComponent.getCurrentUser();
 
-    Income income = incomeMapper.toIncome(incomeRequest);
-    income.setUser(currentUser);
+    Income income = incomeMapper.toIncome(incomeRequest, currentUser);
 
     incomeRepository.save(income);
-    return incomeMapper.toIncomeResponse(income);
+    IncomeResponse incomeResponse = incomeMapper.toIncomeResponse(income);
+    outboxService.append(
+        OutboxAggregateType.INCOME, OutboxEventType.CREATED, income.getId(), currentUser.getId(), incomeResponse);
+    return incomeResponse;
   }
 
   @Override
+  @Transactional(readOnly = true)
   public Page<IncomeResponse> readAllByUser(Pageable pageable) {
     User currentUser = currentAuthenticationComponent.getCurrentUser();
     log.info("attempt to read incomes for user with id: {}.", currentUser.getId());
 
-    Page<Income> incomePage = incomeRepository.findAllByUser(currentUser, pageable);
+    Page<IncomeResponse> incomePage = incomeRepository.findAllByUser(currentUser, pageable);
+    if (incomePage.getTotalElements() == 0) {
+      throw new EntityNotFoundException("The user has no incomes");
+    }
+
+    return incomePage;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Page<IncomeResponse> readAllByUser(Set<String> fields, Pageable pageable) {
+    User currentUser = currentAuthenticationComponent.getCurrentUser();
+    log.info("attempt to read incomes with fields {} for user with id: {}.", fields, currentUser.getId());
+
+    Page<IncomeResponse> incomePage = incomeRepository.findFieldsByUser(
+        requireSupported(fields), currentUser, null, null, null, pageable);
     if (incomePage.getTotalElements() == 0) {
       throw new EntityNotFoundException("The user has no incomes");
     }
 
-    return incomePage.map(incomeMapper::toIncomeResponse);
+    return incomePage;
   }
 
   @Override
+  @Transactional(readOnly = true)
   public Page<IncomeResponse> readByDescriptionAndUser(String description, Pageable pageable) {
     log.info("attempt to read income by description");
 
     User currentUser = currentAuthenticationComponent.getCurrentUser();
-    Page<Income> incomePage = incomeRepository.findByDescriptionAndUser(description, currentUser, pageable);
+    Page<IncomeResponse> incomePage = incomeRepository.findByDescriptionAndUser(description, currentUser, pageable);
+    if (incomePage.getTotalElements() == 0) {
+      throw new EntityNotFoundException("The user has no incomes with a description similar to " + description);
+    }
+    return incomePage;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Page<IncomeResponse> readByDescriptionAndUser(String description, Set<String> fields, Pageable pageable) {
+    log.info("attempt to read income by description with fields {}", fields);
+
+    User currentUser = currentAuthenticationComponent.getCurrentUser();
+    Page<IncomeResponse> incomePage = incomeRepository.findFieldsByUser(
+        requireSupported(fields), currentUser, description, null, null, pageable);
     if (incomePage.getTotalElements() == 0) {
       throw new EntityNotFoundException("The user has no incomes with a description similar to " + description);
     }
-    return incomePage.map(incomeMapper::toIncomeResponse);
+    return incomePage;
   }
 
   @Override
+  @Transactional(readOnly = true)
   public IncomeResponse readByIdAndUser(Long incomeId) {
     log.info("attempt to read income by id.");
-    return incomeMapper.toIncomeResponse(findByIdAndUser(incomeId));
+    User currentUser = currentAuthenticationComponent.getCurrentUser();
+
+    return incomeRepository.findResponseByIdAndUser(incomeId, currentUser).orElseThrow(
+        () -> new EntityNotFoundException(String.format("Income not found with id: %d", incomeId)));
   }
 
   @Override
+  @Transactional(readOnly = true)
   public Page<IncomeResponse> readByYearAndMonthAndUser(int year, int month, Pageable pageable) {
     log.info("attempt to read income by year and month.");
     User currentUser = currentAuthenticationComponent.getCurrentUser();
-    Page<Income> incomePage = incomeRepository.findByYearAndMonthAndUser(year, month, currentUser, pageable);
+    Page<IncomeResponse> incomePage = incomeRepository.findByYearAndMonthAndUser(year, month, currentUser, pageable);
 
     if (incomePage.getTotalElements() == 0) {
       throw new EntityNotFoundException(String.format("Has no incomes for year %d and month %s", year, Month.of(month)));
     }
-    return incomePage.map(incomeMapper::toIncomeResponse);
+    return incomePage;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Page<IncomeResponse> readByYearAndMonthAndUser(int year, int month, Set<String> fields, Pageable pageable) {
+    log.info("attempt to read income by year and month with fields {}.", fields);
+    User currentUser = currentAuthenticationComponent.getCurrentUser();
+    Page<IncomeResponse> incomePage = incomeRepository.findFieldsByUser(
+        requireSupported(fields), currentUser, null, year, month, pageable);
+
+    if (incomePage.getTotalElements() == 0) {
+      throw new EntityNotFoundException(String.format("Has no incomes for year %d and month %s", year, Month.of(month)));
+    }
+    return incomePage;
   }
 
   @Override
@@ -91,22 +154,33 @@ public class IncomeServiceImpl implements IncomeService {
     Income incomeToBeUpdated = findByIdAndUser(id);
 
     incomeMapper.merge(incomeToBeUpdated, incomeRequest);
-    return incomeMapper.toIncomeResponse(incomeToBeUpdated);
+    IncomeResponse incomeResponse = incomeMapper.toIncomeResponse(incomeToBeUpdated);
+    outboxService.append(OutboxAggregateType.INCOME, OutboxEventType.UPDATED,
+        incomeToBeUpdated.getId(), incomeToBeUpdated.getUser().getId(), incomeResponse);
+    return incomeResponse;
   }
 
   @Override
+  @Transactional
   public void deleteById(Long id) {
     log.info("attempt to delete income with id: {}", id);
 
-    incomeRepository.delete(findByIdAndUser(id));
+    Income income = findByIdAndUser(id);
+    incomeRepository.delete(income);
+    outboxService.append(OutboxAggregateType.INCOME, OutboxEventType.DELETED,
+        income.getId(), income.getUser().getId(), Map.of("id", income.getId()));
   }
 
   @Override
-  public BigDecimal getTotalValueByMonthAndYearAndUserId(int year, int month) {
+  @Transactional(readOnly = true)
+  public Money getTotalValueByMonthAndYearAndUserId(int year, int month, String currency) {
     log.info("attempt to get total value of incomes for year: {} and month: {}", year, month);
 
     User currentUser = currentAuthenticationComponent.getCurrentUser();
-    return incomeRepository.getTotalValueByMonthAndYearAndUser(year, month, currentUser).orElse(BigDecimal.ZERO);
+    return incomeRepository.getTotalValueByMonthAndYearAndUser(
+            year, month, currentUser, currency, fxRateTable.getFirstDate(), fxRateTable.getLastDate())
+        .map(Money::of)
+        .orElse(Money.ZERO);
   }
 
   /**
@@ -125,4 +199,21 @@ public class IncomeServiceImpl implements IncomeService {
         () -> new EntityNotFoundException(String.format("Income not found with id: %d", id)));
   }
 
+  /**
+   * Verifica se todos os campos pedidos existem em IncomeResponse.
+   *
+   * @throws InvalidFieldsParameterException caso algum campo não exista.
+   */
+  private static Set<String> requireSupported(Set<String> fields) {
+    List<String> unsupported = fields.stream()
+        .filter(field -> !IncomeRepository.INCOME_FIELDS.contains(field))
+        .sorted()
+        .toList();
+    if (!unsupported.isEmpty()) {
+      throw new InvalidFieldsParameterException(String.format("Unsupported field(s) %s, supported fields are %s",
+          String.join(", ", unsupported), String.join(", ", IncomeRepository.INCOME_FIELDS.stream().sorted().toList())));
+    }
+    return fields;
+  }
+
 }
@@ -0,0 +1,27 @@
+package br.com.emendes.financesapi.service.impl;
+
+import br.com.emendes.financesapi.model.entity.OutboxEvent;
+import br.com.emendes.financesapi.service.OutboxEventSink;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * {@link OutboxEventSink} que apenas registra os eventos no log, usado por padrão.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "financesapi.outbox.sink", havingValue = "log", matchIfMissing = true)
+public class LoggingOutboxEventSink implements OutboxEventSink {
+
+  @Override
+  public void publish(List<OutboxEvent> events) {
+    for (OutboxEvent event : events) {
+      log.info("outbox event id: {}, user id: {}, {} {} with id: {}",
+          event.getId(), event.getUserId(), event.getAggregateType(), event.getEventType(), event.getAggregateId());
+    }
+  }
+
+}
@@ -0,0 +1,90 @@
+package br.com.emendes.financesapi.service.impl;
+
+import br.com.emendes.financesapi.model.OutboxAggregateType;
+import br.com.emendes.financesapi.model.OutboxEventType;
+import br.com.emendes.financesapi.model.entity.OutboxEvent;
+import br.com.emendes.financesapi.repository.OutboxEventRepository;
+import br.com.emendes.financesapi.service.OutboxEventSink;
+import br.com.emendes.financesapi.service.OutboxService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Implementação de {@link OutboxService}.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class OutboxServiceImpl implements OutboxService {
+
+  /**
+   * Chave do advisory lock que garante um único relay ativo.
+   */
+  private static final long RELAY_LOCK_KEY = 0x6F7574626F78L;
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final OutboxEventSink outboxEventSink;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void append(
+      OutboxAggregateType aggregateType, OutboxEventType eventType, Long aggregateId, Long userId, Object payload) {
+    OutboxEvent outboxEvent = OutboxEvent.builder()
+        .aggregateType(aggregateType)
+        .eventType(eventType)
+        .aggregateId(aggregateId)
+        .userId(userId)
+        .payload(toJson(payload))
+        .createdAt(LocalDateTime.now())
+        .build();
+
+    outboxEventRepository.save(outboxEvent);
+  }
+
+  @Override
+  @Transactional
+  public List<OutboxEvent> relay(int batchSize) {
+    if (!outboxEventRepository.tryAdvisoryXactLock(RELAY_LOCK_KEY)) {
+      log.debug("outbox relay is running on another instance");
+      return Collections.emptyList();
+    }
+
+    List<OutboxEvent> events = outboxEventRepository.findUnpublished(Limit.of(batchSize));
+    if (events.isEmpty()) return events;
+
+    outboxEventSink.publish(events);
+
+    LocalDateTime publishedAt = LocalDateTime.now();
+    outboxEventRepository.markAsPublished(events.stream().map(OutboxEvent::getId).toList(), publishedAt);
+    events.forEach(event -> event.setPublishedAt(publishedAt));
+
+    log.info("{} outbox event(s) published", events.size());
+    return events;
+  }
+
+  @Override
+  @Transactional
+  public int deletePublishedBefore(LocalDateTime before) {
+    return outboxEventRepository.deletePublishedBefore(before);
+  }
+
+  private String toJson(Object payload) {
+    try {
+      return objectMapper.writeValueAsString(payload);
+    } catch (JsonProcessingException exception) {
+      throw new IllegalStateException("Could not serialize outbox event payload", exception);
+    }
+  }
+
+}
@@ -0,0 +1,84 @@
+package br.com.emendes.financesapi.service.impl;
+
+import br.com.emendes.financesapi.dto.request.RecurringRuleRequest;
+import br.com.emendes.financesapi.dto.response.RecurringRuleResponse;
+import br.com.emendes.financesapi.exception.EntityNotFoundException;
+import br.com.emendes.financesapi.mapper.RecurringRuleMapper;
+import br.com.emendes.financesapi.model.entity.RecurringRule;
+import br.com.emendes.financesapi.model.entity.User;
+import br.com.emendes.financesapi.repository.RecurringRuleRepository;
+import br.com.emendes.financesapi.service.RecurringRuleService;
+import br.com.emendes.financesapi.util.component.CurrentAuthenticationComponent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class RecurringRuleServiceImpl implements RecurringRuleService {
+
+  private final RecurringRuleRepository recurringRuleRepository;
+  private final CurrentAuthenticationComponent currentAuthenticationComponent;
+  private final RecurringRuleMapper recurringRuleMapper;
+
+  @Override
+  @Transactional
+  public RecurringRuleResponse create(RecurringRuleRequest recurringRuleRequest) {
+    log.info("attempt to create new recurring rule.");
+    User currentUser = currentAuthenticationComponent.getCurrentUser();
+
+    RecurringRule recurringRule = recurringRuleMapper.toRecurringRule(recurringRuleRequest, currentUser);
+    recurringRuleRepository.save(recurringRule);
+
+    return recurringRuleMapper.toRecurringRuleResponse(recurringRule);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Page<RecurringRuleResponse> readAllByUser(Pageable pageable) {
+    User currentUser = currentAuthenticationComponent.getCurrentUser();
+    log.info("attempt to read recurring rules for user with id: {}.", currentUser.getId());
+
+    Page<RecurringRule> recurringRulePage = recurringRuleRepository.findAllByUser(currentUser, pageable);
+    if (recurringRulePage.getTotalElements() == 0) {
+      throw new EntityNotFoundException("The user has no recurring rules");
+    }
+
+    return recurringRulePage.map(recurringRuleMapper::toRecurringRuleResponse);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public RecurringRuleResponse readByIdAndUser(Long id) {
+    log.info("attempt to read recurring rule by id.");
+    return recurringRuleMapper.toRecurringRuleResponse(findByIdAndUser(id));
+  }
+
+  @Override
+  @Transactional
+  public void deleteById(Long id) {
+    log.info("attempt to delete recurring rule with id: {}", id);
+
+    recurringRuleRepository.delete(findByIdAndUser(id));
+  }
+
+  /**
+   * Busca RecurringRule por id e user, sendo que o user usado na busca é o usuário logado na requisição atual.
+   *
+   * @param id identificador da RecurringRule a ser buscada.
+   * @return RecurringRule encontrada para o dado id e user autenticado.
+   * @throws EntityNotFoundException caso não seja encontrada nenhuma RecurringRule para o dado id e user autenticado.
+   */
+  private RecurringRule findByIdAndUser(Long id) {
+    log.info("attempt to find recurring rule with id: {}", id);
+    User currentUser = currentAuthenticationComponent.getCurrentUser();
+
+    return recurringRuleRepository.findByIdAndUser(id, currentUser).orElseThrow(
+        () -> new EntityNotFoundException(String.format("Recurring rule not found with id: %d", id)));
+  }
+
+}
@@ -0,0 +1,118 @@
+package br.com.emendes.financesapi.service.impl;
+
+import br.com.emendes.financesapi.exception.InvalidRefreshTokenException;
+import br.com.emendes.financesapi.model.entity.RefreshToken;
+import br.com.emendes.financesapi.model.entity.User;
+import br.com.emendes.financesapi.repository.RefreshTokenRepository;
+import br.com.emendes.financesapi.repository.UserRepository;
+import br.com.emendes.financesapi.service.RefreshTokenService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Implementação de {@link RefreshTokenService}.<br>
+ * <br>
+ * O token entregue ao cliente tem 256 bits aleatórios, então o hash guardado é um SHA-256 simples: não há o que
+ * adivinhar por força bruta e a busca pelo hash é uma consulta por igualdade, sem o custo do BCrypt do sign in.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+  private static final int TOKEN_BYTES = 32;
+  private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+  private final RefreshTokenRepository refreshTokenRepository;
+  private final UserRepository userRepository;
+
+  @Value("${financesapi.jwt.refresh-expiration}")
+  private Duration refreshExpiration;
+
+  @Override
+  @Transactional
+  public String create(User user) {
+    return issue(user.getId(), UUID.randomUUID()).value();
+  }
+
+  @Override
+  @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+  public Rotation rotate(String refreshToken) {
+    RefreshToken current = refreshTokenRepository.findByTokenHash(hash(refreshToken))
+        .orElseThrow(() -> new InvalidRefreshTokenException("Refresh token not found"));
+
+    LocalDateTime now = LocalDateTime.now();
+    if (current.getRevokedAt() != null) {
+      int revoked = refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+      log.warn("revoked refresh token reused for user with id: {}, {} token(s) of the family revoked",
+          current.getUserId(), revoked);
+      throw new InvalidRefreshTokenException("Refresh token was revoked");
+    }
+    if (!current.getExpiresAt().isAfter(now)) {
+      throw new InvalidRefreshTokenException("Refresh token expired");
+    }
+    User user = userRepository.findById(current.getUserId())
+        .filter(User::isEnabled)
+        .orElseThrow(() -> new InvalidRefreshTokenException("User is not enabled"));
+
+    IssuedToken next = issue(current.getUserId(), current.getFamilyId());
+    current.setRevokedAt(now);
+    current.setReplacedById(next.refreshToken().getId());
+    return new Rotation(user, next.value());
+  }
+
+  @Override
+  @Transactional
+  public void revoke(String refreshToken) {
+    refreshTokenRepository.findByTokenHash(hash(refreshToken))
+        .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now()));
+  }
+
+  @Override
+  @Transactional
+  public int deleteExpiredBefore(LocalDateTime before) {
+    return refreshTokenRepository.deleteExpiredBefore(before);
+  }
+
+  private IssuedToken issue(Long userId, UUID familyId) {
+    byte[] bytes = new byte[TOKEN_BYTES];
+    SECURE_RANDOM.nextBytes(bytes);
+    String value = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+    LocalDateTime now = LocalDateTime.now();
+    RefreshToken refreshToken = refreshTokenRepository.save(RefreshToken.builder()
+        .userId(userId)
+        .familyId(familyId)
+        .tokenHash(hash(value))
+        .createdAt(now)
+        .expiresAt(now.plus(refreshExpiration))
+        .build());
+    return new IssuedToken(refreshToken, value);
+  }
+
+  private static String hash(String value) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException exception) {
+      throw new IllegalStateException("SHA-256 is not available", exception);
+    }
+  }
+
+  private record IssuedToken(RefreshToken refreshToken, String value) {
+  }
+
+}
@@ -3,13 +3,16 @@ package br.com.emendes.financesapi.service.impl;
 import br.com.emendes.financesapi.dto.response.SummaryResponse;
 import br.com.emendes.financesapi.dto.response.ValueByCategoryResponse;
 import br.com.emendes.financesapi.exception.EntityNotFoundException;
+import br.com.emendes.financesapi.model.Money;
 import br.com.emendes.financesapi.service.ExpenseService;
 import br.com.emendes.financesapi.service.IncomeService;
 import br.com.emendes.financesapi.service.SummaryService;
+import br.com.emendes.financesapi.util.component.CurrentAuthenticationComponent;
+import br.com.emendes.financesapi.util.component.FxRateTable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.Month;
 import java.util.List;
 
@@ -19,19 +22,28 @@ public class SummaryServiceImpl implements SummaryService {
 
   private final ExpenseService expenseService;
   private final IncomeService incomeService;
+  private final CurrentAuthenticationComponent currentAuthenticationComponent;
+  private final FxRateTable fxRateTable;
 
   @Override
-  public SummaryResponse monthSummary(int year, int month) {
-    BigDecimal incomeTotalValue = incomeService.getTotalValueByMonthAndYearAndUserId(year, month);
-    List<ValueByCategoryResponse> valuesByCategory = expenseService.getValuesByCategoryOnMonthAndYearByUser(year, month);
+  @Transactional(readOnly = true)
+  public SummaryResponse monthSummary(int year, int month, String currency) {
+    String summaryCurrency = currency == null ?
+        currentAuthenticationComponent.getCurrentUser().getBaseCurrency() : fxRateTable.requireSupported(currency);
 
-    if (incomeTotalValue.equals(BigDecimal.ZERO) && valuesByCategory.isEmpty()) {
+    Money incomeTotalValue = incomeService.getTotalValueByMonthAndYearAndUserId(year, month, summaryCurrency);
+    List<ValueByCategoryResponse> valuesByCategory =
+        expenseService.getValuesByCategoryOnMonthAndYearByUser(year, month, summaryCurrency);
+
+    if (incomeTotalValue.isZero() && valuesByCategory.isEmpty()) {
       throw new EntityNotFoundException(String.format("Has no expenses or incomes for %s %d", Month.of(month), year));
     }
-    BigDecimal expenseTotalValue = valuesByCategory
-        .stream().map(ValueByCategoryResponse::getValue).reduce(BigDecimal.ZERO, BigDecimal::add);
+    long expenseTotalCents = 0;
+    for (ValueByCategoryResponse valueByCategory : valuesByCategory) {
+      expenseTotalCents = Math.addExact(expenseTotalCents, valueByCategory.getValue().cents());
+    }
 
-    return new SummaryResponse(incomeTotalValue, expenseTotalValue, valuesByCategory);
+    return new SummaryResponse(summaryCurrency, incomeTotalValue, Money.ofCents(expenseTotalCents), valuesByCategory);
   }
 
 }
@@ -0,0 +1,50 @@
+package br.com.emendes.financesapi.service.impl;
+
+import br.com.emendes.financesapi.dto.response.SyncResponse;
+import br.com.emendes.financesapi.mapper.SyncMapper;
+import br.com.emendes.financesapi.model.entity.User;
+import br.com.emendes.financesapi.repository.SyncRepository;
+import br.com.emendes.financesapi.repository.projection.SyncChange;
+import br.com.emendes.financesapi.service.SyncService;
+import br.com.emendes.financesapi.util.component.CurrentAuthenticationComponent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Implementação de {@link SyncService}.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class SyncServiceImpl implements SyncService {
+
+  private final SyncRepository syncRepository;
+  private final CurrentAuthenticationComponent currentAuthenticationComponent;
+  private final SyncMapper syncMapper;
+
+  @Override
+  @Transactional(readOnly = true)
+  public SyncResponse sync(long since, int size) {
+    User currentUser = currentAuthenticationComponent.getCurrentUser();
+    log.info("attempt to sync changes for user with id: {} since: {}", currentUser.getId(), since);
+
+    // Busca um elemento a mais para saber se ainda há alterações após a página atual.
+    List<SyncChange> changes = syncRepository.findChangesByUserSince(currentUser.getId(), since, size + 1);
+    boolean hasMore = changes.size() > size;
+    if (hasMore) {
+      changes = changes.subList(0, size);
+    }
+    long nextToken = changes.isEmpty() ? since : changes.get(changes.size() - 1).getChangeSeq();
+
+    return SyncResponse.builder()
+        .changes(changes.stream().map(syncMapper::toSyncChangeResponse).toList())
+        .nextToken(nextToken)
+        .hasMore(hasMore)
+        .build();
+  }
+
+}
@@ -0,0 +1,138 @@
+package br.com.emendes.financesapi.service.impl;
+
+import br.com.emendes.financesapi.dto.response.TimelineResponse;
+import br.com.emendes.financesapi.exception.InvalidCursorException;
+import br.com.emendes.financesapi.mapper.TimelineMapper;
+import br.com.emendes.financesapi.model.TransactionType;
+import br.com.emendes.financesapi.model.entity.User;
+import br.com.emendes.financesapi.repository.TimelineRepository;
+import br.com.emendes.financesapi.repository.projection.TimelineEntry;
+import br.com.emendes.financesapi.service.TransactionService;
+import br.com.emendes.financesapi.util.component.CurrentAuthenticationComponent;
+import br.com.emendes.financesapi.util.component.FxRateTable;
+import br.com.emendes.financesapi.util.component.MonthlyBalanceCache;
+import br.com.emendes.financesapi.util.parser.DateParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Implementação de {@link TransactionService}.<br>
+ * <br>
+ * A paginação é por cursor (keyset): o cursor codifica (date, type, id) da última transação da página, em Base64
+ * URL-safe, e a próxima página começa logo após ela. Diferente de page/size, inserções e remoções entre as
+ * requisições não fazem o cliente pular ou repetir transações.<br>
+ * <br>
+ * O saldo anterior à página é o saldo de fechamento do mês anterior à transação mais antiga da página
+ * ({@link MonthlyBalanceCache}) mais as transações do próprio mês anteriores a ela, então nenhuma consulta agrega
+ * o histórico inteiro do usuário.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class TransactionServiceImpl implements TransactionService {
+
+  /**
+   * Cursor da primeira página, posterior a qualquer transação.
+   */
+  private static final Cursor FIRST_PAGE =
+      new Cursor(LocalDate.of(9999, 12, 31), TransactionType.INCOME.name(), Long.MAX_VALUE);
+
+  private final TimelineRepository timelineRepository;
+  private final CurrentAuthenticationComponent currentAuthenticationComponent;
+  private final TimelineMapper timelineMapper;
+  private final FxRateTable fxRateTable;
+  private final MonthlyBalanceCache monthlyBalanceCache;
+
+  @Override
+  @Transactional(readOnly = true)
+  public TimelineResponse timeline(String cursor, int size, String currency) {
+    User currentUser = currentAuthenticationComponent.getCurrentUser();
+    String timelineCurrency = currency == null ? currentUser.getBaseCurrency() : fxRateTable.requireSupported(currency);
+    Cursor after = cursor == null ? FIRST_PAGE : decode(cursor);
+    log.info("attempt to read timeline for user with id: {} after: {}", currentUser.getId(), after);
+
+    // Busca um elemento a mais para saber se ainda há transações após a página atual.
+    List<TimelineEntry> entries = timelineRepository.findTimelineByUser(
+        currentUser.getId(), timelineCurrency, fxRateTable.getFirstDate(), fxRateTable.getLastDate(),
+        after.date(), after.type(), after.id(), size + 1);
+    BigDecimal openingBalance = entries.isEmpty() ? BigDecimal.ZERO
+        : getBalanceBefore(currentUser.getId(), timelineCurrency, entries.get(entries.size() - 1));
+    boolean hasMore = entries.size() > size;
+    if (hasMore) {
+      entries = entries.subList(0, size);
+    }
+    String nextCursor = hasMore ? encode(entries.get(entries.size() - 1)) : null;
+
+    return TimelineResponse.builder()
+        .currency(timelineCurrency)
+        .transactions(entries.stream()
+            .map(entry -> timelineMapper.toTimelineEntryResponse(entry, openingBalance))
+            .toList())
+        .nextCursor(nextCursor)
+        .hasMore(hasMore)
+        .build();
+  }
+
+  /**
+   * Saldo do usuário anterior a entry na linha do tempo.
+   */
+  private BigDecimal getBalanceBefore(Long userId, String currency, TimelineEntry entry) {
+    YearMonth month = YearMonth.from(entry.getDate());
+    BigDecimal previousClosing = monthlyBalanceCache.getClosingBalance(userId, currency, month.minusMonths(1));
+    return previousClosing.add(timelineRepository.getBalanceBefore(userId, currency,
+        fxRateTable.getFirstDate(), fxRateTable.getLastDate(), month.atDay(1),
+        entry.getDate(), entry.getType(), entry.getId()));
+  }
+
+  private static String encode(TimelineEntry entry) {
+    String value = entry.getDate() + ":" + entry.getType() + ":" + entry.getId();
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @throws InvalidCursorException caso cursor não tenha sido gerado por {@link #encode(TimelineEntry)}.
+   */
+  private static Cursor decode(String cursor) {
+    String[] parts;
+    try {
+      parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", -1);
+    } catch (IllegalArgumentException exception) {
+      throw new InvalidCursorException("Cursor " + cursor + " is invalid");
+    }
+
+    LocalDate date = parts.length == 3 ? DateParser.parse(parts[0]) : null;
+    if (date == null || !isTransactionType(parts[1]) || !isId(parts[2])) {
+      throw new InvalidCursorException("Cursor " + cursor + " is invalid");
+    }
+    return new Cursor(date, parts[1], Long.parseLong(parts[2]));
+  }
+
+  private static boolean isTransactionType(String value) {
+    return TransactionType.EXPENSE.name().equals(value) || TransactionType.INCOME.name().equals(value);
+  }
+
+  private static boolean isId(String value) {
+    if (value.isEmpty() || value.length() > 18) return false;
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c < '0' || c > '9') return false;
+    }
+    return true;
+  }
+
+  /**
+   * Posição (date, type, id) na linha do tempo.
+   */
+  private record Cursor(LocalDate date, String type, long id) {
+  }
+
+}
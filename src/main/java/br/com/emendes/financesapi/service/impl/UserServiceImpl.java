@@ -8,11 +8,13 @@ import br.com.emendes.financesapi.exception.EntityNotFoundException;
 import br.com.emendes.financesapi.exception.PasswordsDoNotMatchException;
 import br.com.emendes.financesapi.exception.WrongPasswordException;
 import br.com.emendes.financesapi.mapper.UserMapper;
+import br.com.emendes.financesapi.model.DefaultCategory;
+import br.com.emendes.financesapi.model.entity.Category;
 import br.com.emendes.financesapi.model.entity.User;
+import br.com.emendes.financesapi.repository.CategoryRepository;
 import br.com.emendes.financesapi.repository.UserRepository;
 import br.com.emendes.financesapi.service.UserService;
 import br.com.emendes.financesapi.util.component.CurrentAuthenticationComponent;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -20,6 +22,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
 
 import static br.com.emendes.financesapi.util.constant.RoleConstant.USER_ROLE;
 
@@ -35,47 +40,54 @@ public class UserServiceImpl implements UserService {
   private final PasswordEncoder passwordEncoder;
   private final CurrentAuthenticationComponent currentAuthenticationComponent;
   private final UserMapper userMapper;
+  private final CategoryRepository categoryRepository;
 
   @Override
+  @Transactional
   public UserResponse createAccount(SignupRequest signupRequest) {
     log.info("attempt to create account");
     if (passwordsNotMatch(signupRequest.getPassword(), signupRequest.getConfirm())) {
       throw new PasswordsDoNotMatchException("Password and confirm does not match");
     }
+    User user = userMapper.toUser(signupRequest);
+    user.setPassword(passwordEncoder.encode(signupRequest.getPassword()));
+    user.addRole(USER_ROLE);
     try {
-      User user = userMapper.toUser(signupRequest);
-      user.setPassword(passwordEncoder.encode(signupRequest.getPassword()));
-      user.addRole(USER_ROLE);
       user = userRepository.save(user);
-      return userMapper.toUserResponse(user);
     } catch (DataIntegrityViolationException e) {
       throw new DataConflictException("Email is already in use");
     }
+    createDefaultCategories(user.getId());
+    return userMapper.toUserResponse(user);
   }
 
   @Override
+  @Transactional(readOnly = true)
   public Page<UserResponse> read(Pageable pageable) {
     log.info("attempt to read users");
-    Page<User> userPage = userRepository.findAll(pageable);
+    Page<User> userPage = userRepository.findAllByDeletedFalse(pageable);
     return userPage.map(userMapper::toUserResponse);
   }
 
   @Override
+  @Transactional(readOnly = true)
   public User readById(Long userId) {
     log.info("attempt to read user with id: {}", userId);
     return userRepository.findById(userId).orElse(null);
   }
 
   @Override
+  @Transactional
   public void delete(Long id) {
     log.info("attempt to delete user with id: {}", id);
-    User user = userRepository.findById(id).orElseThrow(() -> {
+    User user = userRepository.findById(id).filter(u -> !u.isDeleted()).orElseThrow(() -> {
       log.info("user not found with id: {}", id);
       return new EntityNotFoundException("User not found with id " + id);
     });
 
-    userRepository.delete(user);
-    log.info("user deleted successfully with id: {}", id);
+    user.setDeleted(true);
+    userRepository.save(user);
+    log.info("user with id: {} marked as deleted, related data will be removed in background", id);
   }
 
   @Override
@@ -109,4 +121,15 @@ public class UserServiceImpl implements UserService {
     return !password.equals(confirmPassword);
   }
 
+  /**
+   * Cria as categorias padrão ({@link DefaultCategory}) do usuário.
+   *
+   * @param userId identificador do usuário.
+   */
+  private void createDefaultCategories(Long userId) {
+    categoryRepository.saveAll(Arrays.stream(DefaultCategory.values())
+        .map(defaultCategory -> new Category(userId, defaultCategory.getId(), defaultCategory.name()))
+        .toList());
+  }
+
 }
@@ -0,0 +1,93 @@
+package br.com.emendes.financesapi.util.collection;
+
+/**
+ * Bloom filter de strings, sem falsos negativos e com taxa de falsos positivos próxima da informada na criação para a
+ * quantidade de elementos esperada.<br>
+ * <br>
+ * Usa um hash FNV-1a de 64 bits do valor (com o finalizador do MurmurHash3), dividido em dois hashes de 32 bits combinados para gerar as k posições
+ * (double hashing). Não é thread-safe para escrita, deve ser preenchido antes de ser compartilhado.
+ */
+public final class BloomFilter {
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final long[] bits;
+  private final int numBits;
+  private final int numHashes;
+
+  private BloomFilter(int numBits, int numHashes) {
+    this.bits = new long[(numBits + 63) >>> 6];
+    this.numBits = bits.length << 6;
+    this.numHashes = numHashes;
+  }
+
+  /**
+   * Cria um filtro dimensionado para a quantidade de elementos e taxa de falsos positivos informadas.
+   *
+   * @param expectedInsertions quantidade esperada de elementos.
+   * @param falsePositiveRate  taxa de falsos positivos desejada, entre 0 e 1 (exclusivo).
+   * @throws IllegalArgumentException caso a taxa não esteja entre 0 e 1.
+   */
+  public static BloomFilter create(int expectedInsertions, double falsePositiveRate) {
+    if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+    }
+    int insertions = Math.max(1, expectedInsertions);
+    long numBits = (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    int numHashes = Math.max(1, (int) Math.round((double) numBits / insertions * Math.log(2)));
+    return new BloomFilter((int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, numBits)), numHashes);
+  }
+
+  public void put(String value) {
+    long hash = hash(value);
+    int hash1 = (int) hash;
+    int hash2 = (int) (hash >>> 32);
+    for (int i = 0; i < numHashes; i++) {
+      int index = index(hash1 + i * hash2);
+      bits[index >>> 6] |= 1L << index;
+    }
+  }
+
+  /**
+   * @return false caso o valor certamente não esteja no filtro, true caso possa estar.
+   */
+  public boolean mightContain(String value) {
+    long hash = hash(value);
+    int hash1 = (int) hash;
+    int hash2 = (int) (hash >>> 32);
+    for (int i = 0; i < numHashes; i++) {
+      int index = index(hash1 + i * hash2);
+      if ((bits[index >>> 6] & (1L << index)) == 0) return false;
+    }
+    return true;
+  }
+
+  public int getNumBits() {
+    return numBits;
+  }
+
+  public int getNumHashes() {
+    return numHashes;
+  }
+
+  private int index(int combinedHash) {
+    return (combinedHash & Integer.MAX_VALUE) % numBits;
+  }
+
+  private static long hash(String value) {
+    long hash = FNV_OFFSET_BASIS;
+    for (int i = 0; i < value.length(); i++) {
+      hash ^= value.charAt(i);
+      hash *= FNV_PRIME;
+    }
+    // Finalizador do MurmurHash3, espalha os bits para que as duas metades sejam independentes.
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+
+}
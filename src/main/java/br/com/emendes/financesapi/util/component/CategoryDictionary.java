@@ -0,0 +1,51 @@
+package br.com.emendes.financesapi.util.component;
+
+import br.com.emendes.financesapi.exception.InvalidCategoryException;
+
+import java.util.List;
+
+/**
+ * Interface com as abstrações do dicionário em memória das categorias de cada usuário.<br>
+ * Converte o nome da categoria no id guardado em category_id (e vice-versa) sem consultar o banco
+ * a cada requisição.
+ */
+public interface CategoryDictionary {
+
+  /**
+   * Busca o id da categoria do usuário com o dado nome.
+   *
+   * @param userId identificador do usuário.
+   * @param name   nome da categoria.
+   * @return id da categoria.
+   * @throws InvalidCategoryException caso o usuário não tenha categoria com o dado nome.
+   */
+  short getId(Long userId, String name);
+
+  /**
+   * Busca o nome da categoria do usuário com o dado id.
+   *
+   * @param userId identificador do usuário.
+   * @param id     id da categoria.
+   * @return nome da categoria.
+   * @throws InvalidCategoryException caso o usuário não tenha categoria com o dado id.
+   */
+  String getName(Long userId, short id);
+
+  /**
+   * Busca os nomes das categorias do usuário, ordenados por id.
+   *
+   * @param userId identificador do usuário.
+   * @return {@code List<String>} com os nomes das categorias.
+   */
+  List<String> getNames(Long userId);
+
+  /**
+   * Descarta as categorias do usuário mantidas em memória, a próxima busca as recarrega do banco.<br>
+   * Quando chamado dentro de uma transação o descarte acontece ao término dela, evitando que uma leitura
+   * concorrente recarregue os dados antigos antes da escrita ser confirmada.
+   *
+   * @param userId identificador do usuário.
+   */
+  void invalidate(Long userId);
+
+}
@@ -0,0 +1,44 @@
+package br.com.emendes.financesapi.util.component;
+
+import br.com.emendes.financesapi.exception.InvalidCurrencyException;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Interface com as abstrações da tabela de cotações (tb_fx_rate) usada para converter valores entre moedas.<br>
+ * As cotações ficam no banco, para que a conversão aconteça dentro das consultas de resumo, em memória ficam apenas
+ * as moedas suportadas e o período carregado.
+ */
+public interface FxRateTable {
+
+  /**
+   * @return código da moeda de cotação, moeda em que as cotações são expressas e moeda base padrão dos usuários.
+   */
+  String getQuoteCurrency();
+
+  /**
+   * @return moedas com cotação carregada, incluindo a moeda de cotação.
+   */
+  Set<String> getCurrencies();
+
+  /**
+   * Verifica se a moeda possui cotação.
+   *
+   * @param currency código ISO 4217 da moeda.
+   * @return a própria currency.
+   * @throws InvalidCurrencyException caso a moeda não possua cotação.
+   */
+  String requireSupported(String currency);
+
+  /**
+   * Primeiro dia com cotação, datas anteriores usam a cotação deste dia.
+   */
+  LocalDate getFirstDate();
+
+  /**
+   * Último dia com cotação, datas posteriores usam a cotação deste dia.
+   */
+  LocalDate getLastDate();
+
+}
@@ -0,0 +1,22 @@
+package br.com.emendes.financesapi.util.component;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * Interface com as abstrações do cache em memória dos saldos de fechamento mensais de cada usuário.<br>
+ * Com o saldo de fechamento do mês anterior, o saldo em qualquer data agrega apenas as transações do próprio mês.
+ */
+public interface MonthlyBalanceCache {
+
+  /**
+   * Busca o saldo do usuário ao final do mês, todas as receitas menos todas as despesas até o último dia de month.
+   *
+   * @param userId   identificador do usuário.
+   * @param currency moeda do saldo.
+   * @param month    mês do saldo de fechamento.
+   * @return saldo de fechamento de month.
+   */
+  BigDecimal getClosingBalance(Long userId, String currency, YearMonth month);
+
+}
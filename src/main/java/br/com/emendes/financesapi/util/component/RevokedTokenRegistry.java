@@ -0,0 +1,40 @@
+package br.com.emendes.financesapi.util.component;
+
+import java.time.Instant;
+
+/**
+ * Interface com as abstrações da lista de access tokens revogados (tb_revoked_token), mantida em memória para que a
+ * verificação a cada requisição não consulte o banco.
+ */
+public interface RevokedTokenRegistry {
+
+  /**
+   * Verifica se o access token com o dado jti foi revogado.
+   *
+   * @param tokenId jti do access token, tokens sem jti nunca estão revogados.
+   * @return true caso o token tenha sido revogado.
+   */
+  boolean isRevoked(String tokenId);
+
+  /**
+   * Revoga o access token com o dado jti até a expiração dele, nesta instância imediatamente e nas demais na próxima
+   * atualização.
+   *
+   * @param tokenId   jti do access token.
+   * @param expiresAt expiração do access token.
+   */
+  void revoke(String tokenId, Instant expiresAt);
+
+  /**
+   * Recarrega do banco os tokens revogados que ainda não expiraram.
+   */
+  void refresh();
+
+  /**
+   * Remove do banco os tokens revogados já expirados.
+   *
+   * @return quantidade de tokens removidos.
+   */
+  int deleteExpired();
+
+}
@@ -0,0 +1,127 @@
+package br.com.emendes.financesapi.util.component.impl;
+
+import br.com.emendes.financesapi.exception.InvalidCategoryException;
+import br.com.emendes.financesapi.model.entity.Category;
+import br.com.emendes.financesapi.repository.CategoryRepository;
+import br.com.emendes.financesapi.util.component.CategoryDictionary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementação de {@link CategoryDictionary}.<br>
+ * <br>
+ * As categorias de cada usuário são carregadas com uma única consulta e mantidas em um {@code Map} nome -> id e
+ * em um array indexado pelo id, então cada conversão é uma busca em hash ou um acesso a array.
+ * As entradas expiram após {@code financesapi.category.cache.ttl}, o que limita o tempo em que uma instância
+ * enxerga categorias desatualizadas quando a escrita aconteceu em outra instância.
+ */
+@RequiredArgsConstructor
+@Component
+public class CategoryDictionaryImpl implements CategoryDictionary {
+
+  private final CategoryRepository categoryRepository;
+  private final Map<Long, UserCategories> cache = new ConcurrentHashMap<>();
+
+  @Value("${financesapi.category.cache.ttl}")
+  private Duration ttl;
+
+  @Value("${financesapi.category.cache.max-users}")
+  private int maxUsers;
+
+  @Override
+  public short getId(Long userId, String name) {
+    Short id = userCategories(userId).idsByName().get(name);
+    if (id == null) {
+      throw new InvalidCategoryException(String.format("Category %s not found", name));
+    }
+    return id;
+  }
+
+  @Override
+  public String getName(Long userId, short id) {
+    String[] namesById = userCategories(userId).namesById();
+    String name = id >= 0 && id < namesById.length ? namesById[id] : null;
+    if (name == null) {
+      throw new InvalidCategoryException(String.format("Category with id %d not found", id));
+    }
+    return name;
+  }
+
+  @Override
+  public List<String> getNames(Long userId) {
+    return userCategories(userId).names();
+  }
+
+  @Override
+  public void invalidate(Long userId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      cache.remove(userId);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        cache.remove(userId);
+      }
+    });
+  }
+
+  /**
+   * Busca as categorias do usuário em memória, carregando-as do banco caso não existam ou tenham expirado.
+   */
+  private UserCategories userCategories(Long userId) {
+    UserCategories userCategories = cache.get(userId);
+    long now = System.nanoTime();
+    if (userCategories != null && now - userCategories.loadedAt() < ttl.toNanos()) {
+      return userCategories;
+    }
+
+    userCategories = load(now, categoryRepository.findAllByUserIdOrderById(userId));
+    if (cache.size() >= maxUsers) {
+      evictOne();
+    }
+    cache.put(userId, userCategories);
+    return userCategories;
+  }
+
+  /**
+   * Remove uma entrada qualquer, mantendo o cache limitado a {@code financesapi.category.cache.max-users} usuários.
+   */
+  private void evictOne() {
+    Iterator<Long> iterator = cache.keySet().iterator();
+    if (iterator.hasNext()) {
+      iterator.next();
+      iterator.remove();
+    }
+  }
+
+  private static UserCategories load(long loadedAt, List<Category> categories) {
+    Map<String, Short> idsByName = new HashMap<>(categories.size() * 2);
+    int maxId = categories.isEmpty() ? 0 : categories.get(categories.size() - 1).getId();
+    String[] namesById = new String[maxId + 1];
+    for (Category category : categories) {
+      idsByName.put(category.getName(), category.getId());
+      namesById[category.getId()] = category.getName();
+    }
+    List<String> names = categories.stream().map(Category::getName).toList();
+
+    return new UserCategories(Map.copyOf(idsByName), namesById, names, loadedAt);
+  }
+
+  /**
+   * Categorias de um usuário em memória.
+   */
+  private record UserCategories(Map<String, Short> idsByName, String[] namesById, List<String> names, long loadedAt) {
+  }
+
+}
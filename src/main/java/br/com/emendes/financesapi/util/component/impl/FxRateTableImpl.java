@@ -0,0 +1,212 @@
+package br.com.emendes.financesapi.util.component.impl;
+
+import br.com.emendes.financesapi.exception.InvalidCurrencyException;
+import br.com.emendes.financesapi.repository.FxRateRepository;
+import br.com.emendes.financesapi.util.component.FxRateTable;
+import br.com.emendes.financesapi.util.parser.DateParser;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Implementação de {@link FxRateTable}.<br>
+ * <br>
+ * Na inicialização lê o arquivo {@code financesapi.fx.rates-file}, um CSV com linhas {@code date,currency,rate}
+ * (linhas vazias, iniciadas por # e o cabeçalho são ignorados), e grava em tb_fx_rate uma cotação por moeda para
+ * cada dia entre a primeira e a última data do arquivo: dias sem cotação repetem a cotação anterior (ou a primeira,
+ * antes dela). Com a tabela densa e as datas limitadas ao período carregado, a consulta de resumo encontra a cotação
+ * de qualquer transação com um join por igualdade. A gravação é idempotente, então várias instâncias podem carregar
+ * o mesmo arquivo.<br>
+ * <br>
+ * Quando a carga insere ou altera cotações, tb_expense_category_rollup (despesas convertidas para a moeda base com a
+ * cotação do dia delas) é recalculada, uma carga sem mudanças não recalcula nada.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class FxRateTableImpl implements FxRateTable {
+
+  private static final String HEADER = "date,currency,rate";
+
+  private final FxRateRepository fxRateRepository;
+
+  @Value("${financesapi.fx.rates-file}")
+  private String ratesFile;
+
+  @Value("${financesapi.fx.quote-currency}")
+  private String quoteCurrency;
+
+  @Value("${financesapi.fx.batch-size}")
+  private int batchSize;
+
+  private volatile Snapshot snapshot;
+
+  /**
+   * Carrega as cotações do arquivo, sem arquivo apenas a moeda de cotação é suportada.
+   *
+   * @throws IllegalStateException caso o arquivo possua uma linha inválida.
+   */
+  @PostConstruct
+  public void load() {
+    Map<String, TreeMap<LocalDate, BigDecimal>> ratesByCurrency =
+        ratesFile == null || ratesFile.isBlank() ? Map.of() : read(new DefaultResourceLoader().getResource(ratesFile));
+
+    if (ratesByCurrency.isEmpty()) {
+      log.info("no FX rates loaded, only {} is supported", quoteCurrency);
+      snapshot = new Snapshot(Set.of(quoteCurrency), LocalDate.EPOCH, LocalDate.EPOCH);
+      return;
+    }
+
+    LocalDate firstDate = LocalDate.MAX;
+    LocalDate lastDate = LocalDate.MIN;
+    for (TreeMap<LocalDate, BigDecimal> rates : ratesByCurrency.values()) {
+      if (rates.firstKey().isBefore(firstDate)) firstDate = rates.firstKey();
+      if (rates.lastKey().isAfter(lastDate)) lastDate = rates.lastKey();
+    }
+    ratesByCurrency.put(quoteCurrency, new TreeMap<>(Map.of(firstDate, BigDecimal.ONE)));
+
+    long changed = write(ratesByCurrency, firstDate, lastDate);
+    snapshot = new Snapshot(Set.copyOf(ratesByCurrency.keySet()), firstDate, lastDate);
+    log.info("FX rates loaded for {} from {} to {}, {} rate(s) inserted or changed",
+        snapshot.currencies(), firstDate, lastDate, changed);
+
+    if (changed > 0) {
+      int totals = fxRateRepository.rebuildExpenseCategoryRollup();
+      log.info("expense category rollup rebuilt with {} total(s)", totals);
+    }
+  }
+
+  @Override
+  public String getQuoteCurrency() {
+    return quoteCurrency;
+  }
+
+  @Override
+  public Set<String> getCurrencies() {
+    return snapshot.currencies();
+  }
+
+  @Override
+  public String requireSupported(String currency) {
+    if (!snapshot.currencies().contains(currency)) {
+      throw new InvalidCurrencyException(String.format("Currency %s is not supported", currency));
+    }
+    return currency;
+  }
+
+  @Override
+  public LocalDate getFirstDate() {
+    return snapshot.firstDate();
+  }
+
+  @Override
+  public LocalDate getLastDate() {
+    return snapshot.lastDate();
+  }
+
+  /**
+   * Lê as cotações do arquivo, agrupadas por moeda e ordenadas por data. Linhas da moeda de cotação são ignoradas,
+   * a cotação dela é sempre 1.
+   */
+  private Map<String, TreeMap<LocalDate, BigDecimal>> read(Resource resource) {
+    Map<String, TreeMap<LocalDate, BigDecimal>> ratesByCurrency = new HashMap<>();
+
+    try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+      int lineNumber = 0;
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        line = line.strip();
+        if (line.isEmpty() || line.startsWith("#") || line.equalsIgnoreCase(HEADER)) continue;
+
+        String[] columns = line.split(",", -1);
+        LocalDate date = columns.length == 3 ? DateParser.parse(columns[0].strip()) : null;
+        String currency = columns.length == 3 ? columns[1].strip() : "";
+        BigDecimal rate = columns.length == 3 ? toRate(columns[2].strip()) : null;
+        if (date == null || !isCurrencyCode(currency) || rate == null) {
+          throw new IllegalStateException(String.format("Invalid FX rate at line %d of %s: %s",
+              lineNumber, ratesFile, line));
+        }
+        if (!currency.equals(quoteCurrency)) {
+          ratesByCurrency.computeIfAbsent(currency, key -> new TreeMap<>()).put(date, rate);
+        }
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Could not read FX rates from " + ratesFile, exception);
+    }
+    return ratesByCurrency;
+  }
+
+  /**
+   * Grava uma cotação por moeda e dia entre firstDate e lastDate, em lotes de {@code financesapi.fx.batch-size}.
+   *
+   * @return quantidade de linhas inseridas ou com o valor alterado.
+   */
+  private long write(Map<String, TreeMap<LocalDate, BigDecimal>> ratesByCurrency,
+                     LocalDate firstDate, LocalDate lastDate) {
+    String[] currencies = new String[batchSize];
+    LocalDate[] dates = new LocalDate[batchSize];
+    BigDecimal[] rates = new BigDecimal[batchSize];
+    int size = 0;
+    long total = 0;
+
+    for (Map.Entry<String, TreeMap<LocalDate, BigDecimal>> entry : ratesByCurrency.entrySet()) {
+      TreeMap<LocalDate, BigDecimal> currencyRates = entry.getValue();
+      BigDecimal rate = currencyRates.firstEntry().getValue();
+      for (LocalDate date = firstDate; !date.isAfter(lastDate); date = date.plusDays(1)) {
+        rate = currencyRates.getOrDefault(date, rate);
+        currencies[size] = entry.getKey();
+        dates[size] = date;
+        rates[size] = rate;
+        if (++size == batchSize) {
+          total += fxRateRepository.upsertAll(currencies, dates, rates);
+          size = 0;
+        }
+      }
+    }
+    if (size > 0) {
+      total += fxRateRepository.upsertAll(
+          Arrays.copyOf(currencies, size), Arrays.copyOf(dates, size), Arrays.copyOf(rates, size));
+    }
+    return total;
+  }
+
+  private static BigDecimal toRate(String value) {
+    try {
+      BigDecimal rate = new BigDecimal(value);
+      return rate.signum() > 0 ? rate : null;
+    } catch (NumberFormatException exception) {
+      return null;
+    }
+  }
+
+  private static boolean isCurrencyCode(String value) {
+    if (value.length() != 3) return false;
+    for (int i = 0; i < 3; i++) {
+      char c = value.charAt(i);
+      if (c < 'A' || c > 'Z') return false;
+    }
+    return true;
+  }
+
+  /**
+   * Moedas suportadas e período carregado.
+   */
+  private record Snapshot(Set<String> currencies, LocalDate firstDate, LocalDate lastDate) {
+  }
+
+}
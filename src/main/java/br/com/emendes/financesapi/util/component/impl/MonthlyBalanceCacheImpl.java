@@ -0,0 +1,117 @@
+package br.com.emendes.financesapi.util.component.impl;
+
+import br.com.emendes.financesapi.repository.AnalyticsRepository;
+import br.com.emendes.financesapi.repository.projection.MonthlyNet;
+import br.com.emendes.financesapi.util.component.FxRateTable;
+import br.com.emendes.financesapi.util.component.MonthlyBalanceCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementação de {@link MonthlyBalanceCache}.<br>
+ * <br>
+ * Cada entrada guarda os saldos de fechamento já calculados de um usuário em uma moeda, junto com a versão das
+ * transações do usuário (o maior change_seq) no momento do cálculo. A versão é consultada a cada chamada, uma busca
+ * no índice (user_id, change_seq) de cada tabela, então qualquer escrita, nesta ou em outra instância, é percebida.
+ * Quando a versão muda, apenas os saldos a partir do primeiro mês alterado desde a versão guardada são descartados,
+ * os anteriores continuam válidos. Um mês ainda não calculado agrega apenas os meses após o último mês calculado
+ * anterior a ele.
+ */
+@RequiredArgsConstructor
+@Component
+public class MonthlyBalanceCacheImpl implements MonthlyBalanceCache {
+
+  /**
+   * Data anterior a qualquer transação, início da agregação quando o usuário não possui meses calculados.
+   */
+  private static final LocalDate BEGINNING = LocalDate.of(1, 1, 1);
+
+  private final AnalyticsRepository analyticsRepository;
+  private final FxRateTable fxRateTable;
+  private final Map<Key, UserClosings> cache = new ConcurrentHashMap<>();
+
+  @Value("${financesapi.analytics.balance-cache.max-entries}")
+  private int maxEntries;
+
+  @Override
+  public BigDecimal getClosingBalance(Long userId, String currency, YearMonth month) {
+    Key key = new Key(userId, currency);
+    long version = analyticsRepository.getVersionByUser(userId);
+    UserClosings userClosings = cache.get(key);
+    if (userClosings == null) {
+      userClosings = new UserClosings(version, Collections.emptyNavigableMap());
+    } else if (userClosings.version() != version) {
+      userClosings = new UserClosings(version, validClosings(userId, userClosings));
+    }
+
+    BigDecimal closing = userClosings.closings().get(month);
+    if (closing != null) {
+      return closing;
+    }
+
+    Map.Entry<YearMonth, BigDecimal> floor = userClosings.closings().floorEntry(month);
+    LocalDate start = floor == null ? BEGINNING : floor.getKey().plusMonths(1).atDay(1);
+    BigDecimal balance = floor == null ? BigDecimal.ZERO : floor.getValue();
+    List<MonthlyNet> nets = analyticsRepository.findNetByMonth(userId, currency,
+        fxRateTable.getFirstDate(), fxRateTable.getLastDate(), start, month.plusMonths(1).atDay(1));
+
+    // Guarda o fechamento de todos os meses agregados, inclusive os sem transações, a partir do primeiro mês com
+    // transações quando não há meses calculados.
+    NavigableMap<YearMonth, BigDecimal> closings = new TreeMap<>(userClosings.closings());
+    YearMonth first = floor != null ? floor.getKey().plusMonths(1)
+        : nets.isEmpty() ? month : YearMonth.from(nets.get(0).getMonth());
+    int index = 0;
+    for (YearMonth current = first; !current.isAfter(month); current = current.plusMonths(1)) {
+      if (index < nets.size() && YearMonth.from(nets.get(index).getMonth()).equals(current)) {
+        balance = balance.add(nets.get(index++).getNet());
+      }
+      closings.put(current, balance);
+    }
+
+    if (!cache.containsKey(key) && cache.size() >= maxEntries) {
+      evictOne();
+    }
+    cache.put(key, new UserClosings(version, Collections.unmodifiableNavigableMap(closings)));
+    return balance;
+  }
+
+  /**
+   * Saldos de userClosings anteriores ao primeiro mês alterado desde a versão deles.
+   */
+  private NavigableMap<YearMonth, BigDecimal> validClosings(Long userId, UserClosings userClosings) {
+    LocalDate firstChanged = analyticsRepository.getFirstMonthChangedAfter(userId, userClosings.version());
+    if (firstChanged == null) {
+      return userClosings.closings();
+    }
+    return userClosings.closings().headMap(YearMonth.from(firstChanged), false);
+  }
+
+  /**
+   * Remove uma entrada qualquer, mantendo o cache limitado a {@code financesapi.analytics.balance-cache.max-entries}
+   * entradas.
+   */
+  private void evictOne() {
+    Iterator<Key> iterator = cache.keySet().iterator();
+    if (iterator.hasNext()) {
+      iterator.next();
+      iterator.remove();
+    }
+  }
+
+  private record Key(Long userId, String currency) {
+  }
+
+  /**
+   * Saldos de fechamento de um usuário, por mês, calculados na versão version das transações dele.
+   */
+  private record UserClosings(long version, NavigableMap<YearMonth, BigDecimal> closings) {
+  }
+
+}
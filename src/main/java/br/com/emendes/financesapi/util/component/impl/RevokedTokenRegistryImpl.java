@@ -0,0 +1,102 @@
+package br.com.emendes.financesapi.util.component.impl;
+
+import br.com.emendes.financesapi.repository.RevokedTokenRepository;
+import br.com.emendes.financesapi.util.collection.BloomFilter;
+import br.com.emendes.financesapi.util.component.RevokedTokenRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementação de {@link RevokedTokenRegistry}.<br>
+ * <br>
+ * Os jti revogados ficam em um snapshot imutável com um {@link BloomFilter} e um conjunto exato: a maioria das
+ * verificações é de tokens não revogados e termina no filtro, sem acessar o conjunto, o conjunto elimina os falsos
+ * positivos. Sem tokens revogados a verificação não calcula nenhum hash. O snapshot é trocado a cada atualização e a
+ * cada revogação local, revogações são raras (sign out e reuso de refresh token).<br>
+ * <br>
+ * Revogações feitas nesta instância também ficam em um mapa local até expirarem, para não se perderem caso uma
+ * atualização leia o banco antes do commit da revogação.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RevokedTokenRegistryImpl implements RevokedTokenRegistry {
+
+  private final RevokedTokenRepository revokedTokenRepository;
+
+  @Value("${financesapi.jwt.revocation.false-positive-rate}")
+  private double falsePositiveRate;
+
+  private final Map<String, Instant> localRevocations = new ConcurrentHashMap<>();
+  private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+  @Override
+  public boolean isRevoked(String tokenId) {
+    return tokenId != null && snapshot.contains(tokenId);
+  }
+
+  @Override
+  @Transactional
+  public void revoke(String tokenId, Instant expiresAt) {
+    revokedTokenRepository.insert(tokenId, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()));
+    localRevocations.put(tokenId, expiresAt);
+    synchronized (this) {
+      Set<String> tokenIds = new HashSet<>(snapshot.tokenIds());
+      tokenIds.add(tokenId);
+      snapshot = Snapshot.of(tokenIds, falsePositiveRate);
+    }
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void refresh() {
+    List<String> persisted = revokedTokenRepository.findIdsNotExpiredAt(LocalDateTime.now());
+
+    Instant now = Instant.now();
+    localRevocations.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+    Set<String> tokenIds = new HashSet<>(persisted);
+    tokenIds.addAll(localRevocations.keySet());
+
+    synchronized (this) {
+      snapshot = Snapshot.of(tokenIds, falsePositiveRate);
+    }
+    log.debug("{} revoked token(s) loaded", tokenIds.size());
+  }
+
+  @Override
+  @Transactional
+  public int deleteExpired() {
+    return revokedTokenRepository.deleteExpiredBefore(LocalDateTime.now());
+  }
+
+  /**
+   * Jti revogados e o filtro construído a partir deles.
+   */
+  private record Snapshot(BloomFilter filter, Set<String> tokenIds) {
+
+    private static final Snapshot EMPTY = new Snapshot(null, Set.of());
+
+    static Snapshot of(Collection<String> tokenIds, double falsePositiveRate) {
+      if (tokenIds.isEmpty()) return EMPTY;
+
+      BloomFilter filter = BloomFilter.create(tokenIds.size(), falsePositiveRate);
+      tokenIds.forEach(filter::put);
+      return new Snapshot(filter, Set.copyOf(tokenIds));
+    }
+
+    boolean contains(String tokenId) {
+      return filter != null && filter.mightContain(tokenId) && tokenIds.contains(tokenId);
+    }
+
+  }
+
+}
@@ -0,0 +1,80 @@
+package br.com.emendes.financesapi.util.deserializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Deserializa valores monetários (por exemplo 1500 ou 271.94) lendo diretamente o buffer do {@link JsonParser}.<br>
+ * <br>
+ * Valores com até 18 dígitos e sem expoente são montados com {@code BigDecimal.valueOf(unscaled, scale)}, sem copiar
+ * o texto para uma {@code String}. Números fora desse formato usam o parser padrão do Jackson, e valores que não são
+ * números lançam {@link InvalidFormatException} com a mensagem "Invalid number", tratada por
+ * {@link br.com.emendes.financesapi.handler.GlobalExceptionHandler} como erro de validação do campo.
+ */
+public class DecimalDeserializer extends StdScalarDeserializer<BigDecimal> {
+
+  /**
+   * Quantidade de dígitos que sempre cabe em um {@code long}.
+   */
+  private static final int MAX_FAST_DIGITS = 18;
+
+  public DecimalDeserializer() {
+    super(BigDecimal.class);
+  }
+
+  @Override
+  public BigDecimal deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+    JsonToken token = parser.currentToken();
+    if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT
+        || token == JsonToken.VALUE_STRING) {
+      BigDecimal value = parse(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+      if (value != null) {
+        return value;
+      }
+      if (token != JsonToken.VALUE_STRING) {
+        return parser.getDecimalValue();
+      }
+    }
+    throw InvalidFormatException.from(parser, "Invalid number", parser.getText(), BigDecimal.class);
+  }
+
+  /**
+   * Converte números no formato [-]digitos[.digitos].
+   *
+   * @return o número lido, ou null caso o texto não esteja nesse formato ou tenha mais de 18 dígitos.
+   */
+  private static BigDecimal parse(char[] chars, int offset, int length) {
+    int end = offset + length;
+    int i = offset;
+    boolean negative = i < end && chars[i] == '-';
+    if (negative) i++;
+
+    long unscaled = 0;
+    int digits = 0;
+    int scale = 0;
+    boolean fraction = false;
+    for (; i < end; i++) {
+      char c = chars[i];
+      if (c == '.' && !fraction) {
+        fraction = true;
+        continue;
+      }
+      if (c < '0' || c > '9' || ++digits > MAX_FAST_DIGITS) {
+        return null;
+      }
+      unscaled = unscaled * 10 + (c - '0');
+      if (fraction) scale++;
+    }
+    if (digits == 0 || (fraction && scale == 0)) {
+      return null;
+    }
+    return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+  }
+
+}
@@ -0,0 +1,37 @@
+package br.com.emendes.financesapi.util.deserializer;
+
+import br.com.emendes.financesapi.util.parser.DateParser;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Deserializa datas no formato yyyy-MM-dd lendo diretamente o buffer do {@link JsonParser} com {@link DateParser},
+ * sem criar uma {@code String} nem passar pelo {@code DateTimeFormatter}.<br>
+ * <br>
+ * Datas inválidas lançam {@link InvalidFormatException} com a mensagem "Invalid date", tratada por
+ * {@link br.com.emendes.financesapi.handler.GlobalExceptionHandler} como erro de validação do campo.
+ */
+public class IsoLocalDateDeserializer extends StdScalarDeserializer<LocalDate> {
+
+  public IsoLocalDateDeserializer() {
+    super(LocalDate.class);
+  }
+
+  @Override
+  public LocalDate deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+    if (parser.hasToken(JsonToken.VALUE_STRING)) {
+      int date = DateParser.parseToInt(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+      if (date != DateParser.INVALID) {
+        return DateParser.toLocalDate(date);
+      }
+    }
+    throw InvalidFormatException.from(parser, "Invalid date", parser.getText(), LocalDate.class);
+  }
+
+}
@@ -0,0 +1,33 @@
+package br.com.emendes.financesapi.util.deserializer;
+
+import br.com.emendes.financesapi.model.Money;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Deserializa {@link Money} a partir de um número com no máximo duas casas decimais.
+ */
+public class MoneyDeserializer extends StdScalarDeserializer<Money> {
+
+  private final DecimalDeserializer decimalDeserializer = new DecimalDeserializer();
+
+  public MoneyDeserializer() {
+    super(Money.class);
+  }
+
+  @Override
+  public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+    BigDecimal value = decimalDeserializer.deserialize(parser, context);
+    try {
+      return Money.of(value);
+    } catch (ArithmeticException exception) {
+      throw InvalidFormatException.from(parser, "Invalid money", value, Money.class);
+    }
+  }
+
+}
@@ -0,0 +1,132 @@
+package br.com.emendes.financesapi.util.parser;
+
+import java.time.LocalDate;
+
+/**
+ * Conversor de datas no formato yyyy-MM-dd (ISO-8601 sem fuso horário) que não lança exceções.<br>
+ * <br>
+ * {@code LocalDate.parse} passa pelo {@code DateTimeFormatter} e sinaliza entradas inválidas com
+ * {@code DateTimeParseException}, o que preenche uma stack trace a cada payload malformado. Aqui a data é lida
+ * caractere a caractere e o resultado é um {@code int} no formato yyyyMMdd, então a validação não aloca memória
+ * e datas podem ser comparadas sem criar um {@link LocalDate}.
+ */
+public final class DateParser {
+
+  /**
+   * Valor retornado por {@link #parseToInt(CharSequence)} quando a data é inválida.
+   */
+  public static final int INVALID = -1;
+
+  private static final int LENGTH = 10;
+
+  private DateParser() {
+  }
+
+  /**
+   * Converte uma data no formato yyyy-MM-dd em um {@code int} yyyyMMdd, por exemplo "2023-02-05" -> 20230205.
+   * A ordem dos valores retornados é a mesma ordem cronológica das datas.
+   *
+   * @param text data no formato yyyy-MM-dd.
+   * @return a data no formato yyyyMMdd, ou {@link #INVALID} caso text seja null ou não seja uma data válida.
+   */
+  public static int parseToInt(CharSequence text) {
+    if (text == null || text.length() != LENGTH || text.charAt(4) != '-' || text.charAt(7) != '-') {
+      return INVALID;
+    }
+
+    return toInt(digits(text, 0, 4), digits(text, 5, 7), digits(text, 8, 10));
+  }
+
+  /**
+   * Mesmo que {@link #parseToInt(CharSequence)}, lendo diretamente de um buffer de caracteres, por exemplo o buffer
+   * do {@code JsonParser}, sem criar uma {@code String}.
+   *
+   * @param chars  buffer que contém a data.
+   * @param offset posição do primeiro caractere da data em chars.
+   * @param length quantidade de caracteres da data.
+   * @return a data no formato yyyyMMdd, ou {@link #INVALID} caso não seja uma data válida.
+   */
+  public static int parseToInt(char[] chars, int offset, int length) {
+    if (length != LENGTH || chars[offset + 4] != '-' || chars[offset + 7] != '-') {
+      return INVALID;
+    }
+    return toInt(digits(chars, offset, 4), digits(chars, offset + 5, 2), digits(chars, offset + 8, 2));
+  }
+
+  /**
+   * Verifica se text é uma data válida no formato yyyy-MM-dd.
+   */
+  public static boolean isValid(CharSequence text) {
+    return parseToInt(text) != INVALID;
+  }
+
+  /**
+   * Converte uma data no formato yyyy-MM-dd em {@link LocalDate}.
+   *
+   * @param text data no formato yyyy-MM-dd.
+   * @return a data correspondente a text, ou null caso text seja null ou não seja uma data válida.
+   */
+  public static LocalDate parse(CharSequence text) {
+    return toLocalDate(parseToInt(text));
+  }
+
+  /**
+   * Converte um valor retornado por {@link #parseToInt(CharSequence)} em {@link LocalDate}.
+   *
+   * @return a data correspondente a value, ou null caso value seja {@link #INVALID}.
+   */
+  public static LocalDate toLocalDate(int value) {
+    if (value == INVALID) return null;
+    return LocalDate.of(value / 10_000, value / 100 % 100, value % 100);
+  }
+
+  private static int toInt(int year, int month, int day) {
+    if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+      return INVALID;
+    }
+    return year * 10_000 + month * 100 + day;
+  }
+
+  /**
+   * Lê os dígitos entre begin (inclusivo) e end (exclusivo).
+   *
+   * @return o número lido, ou -1 caso algum caractere não seja um dígito.
+   */
+  private static int digits(CharSequence text, int begin, int end) {
+    int value = 0;
+    for (int i = begin; i < end; i++) {
+      int digit = text.charAt(i) - '0';
+      if (digit < 0 || digit > 9) return -1;
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+
+  /**
+   * Lê count dígitos a partir de offset.
+   *
+   * @return o número lido, ou -1 caso algum caractere não seja um dígito.
+   */
+  private static int digits(char[] chars, int offset, int count) {
+    int value = 0;
+    for (int i = offset; i < offset + count; i++) {
+      int digit = chars[i] - '0';
+      if (digit < 0 || digit > 9) return -1;
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+
+  private static int lengthOfMonth(int year, int month) {
+    return switch (month) {
+      case 2 -> isLeapYear(year) ? 29 : 28;
+      case 4, 6, 9, 11 -> 30;
+      default -> 31;
+    };
+  }
+
+  private static boolean isLeapYear(int year) {
+    return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+  }
+
+}
@@ -0,0 +1,25 @@
+package br.com.emendes.financesapi.util.serializer;
+
+import br.com.emendes.financesapi.model.Money;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Serializa {@link Money} como um número com duas casas decimais, o mesmo JSON gerado para um {@code BigDecimal}
+ * com escala 2 (ex.: 1500.00).
+ */
+public class MoneySerializer extends StdSerializer<Money> {
+
+  public MoneySerializer() {
+    super(Money.class);
+  }
+
+  @Override
+  public void serialize(Money value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+    generator.writeNumber(value.toString());
+  }
+
+}
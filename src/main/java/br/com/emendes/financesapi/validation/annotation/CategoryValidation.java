@@ -10,12 +10,13 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * The {@code String} must be a valid {@code Category}.
+ * The {@code String} must be a valid category name: up to 25 characters, starting with an uppercase letter
+ * and containing only uppercase letters, digits and underscores.
  * Accepts only {@code String}.
  * <p>
  * {@code null} elements are considered valid.
  */
-@Target(ElementType.FIELD)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
 @Retention(RetentionPolicy.RUNTIME)
 @Constraint(validatedBy = CategoryValidator.class)
 public @interface CategoryValidation {
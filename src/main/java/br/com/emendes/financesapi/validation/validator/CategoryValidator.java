@@ -1,23 +1,36 @@
 package br.com.emendes.financesapi.validation.validator;
 
-import br.com.emendes.financesapi.model.Category;
 import br.com.emendes.financesapi.validation.annotation.CategoryValidation;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
+/**
+ * Valida apenas o formato do nome da categoria, a existência da categoria depende do usuário e é verificada
+ * pelo {@link br.com.emendes.financesapi.util.component.CategoryDictionary}.
+ */
 public class CategoryValidator implements ConstraintValidator<CategoryValidation, String> {
 
+  private static final int MAX_LENGTH = 25;
+
   @Override
   public boolean isValid(String value, ConstraintValidatorContext context) {
     if (value == null)
       return true;
 
-    try {
-      Category.valueOf(value);
-      return true;
-    } catch (IllegalArgumentException ex) {
+    int length = value.length();
+    if (length == 0 || length > MAX_LENGTH || !isUpperCaseLetter(value.charAt(0)))
       return false;
+
+    for (int i = 1; i < length; i++) {
+      char c = value.charAt(i);
+      if (!isUpperCaseLetter(c) && !(c >= '0' && c <= '9') && c != '_')
+        return false;
     }
+    return true;
+  }
+
+  private static boolean isUpperCaseLetter(char c) {
+    return c >= 'A' && c <= 'Z';
   }
 
 }
@@ -0,0 +1,27 @@
+package br.com.emendes.financesapi.validation.validator;
+
+import br.com.emendes.financesapi.validation.annotation.EnumValidation;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class EnumValidator implements ConstraintValidator<EnumValidation, String> {
+
+  private Set<String> names;
+
+  @Override
+  public void initialize(EnumValidation constraintAnnotation) {
+    names = Arrays.stream(constraintAnnotation.enumClass().getEnumConstants())
+        .map(Enum::name)
+        .collect(Collectors.toUnmodifiableSet());
+  }
+
+  @Override
+  public boolean isValid(String value, ConstraintValidatorContext context) {
+    return value == null || names.contains(value);
+  }
+
+}
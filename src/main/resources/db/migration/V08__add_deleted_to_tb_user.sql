@@ -0,0 +1,4 @@
+ALTER TABLE tb_user ADD COLUMN deleted boolean NOT NULL DEFAULT false;
+
+CREATE INDEX ix_tb_expense_user_id ON tb_expense(user_id);
+CREATE INDEX ix_tb_income_user_id ON tb_income(user_id);
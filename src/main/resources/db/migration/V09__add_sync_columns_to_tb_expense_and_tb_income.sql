@@ -0,0 +1,31 @@
+CREATE SEQUENCE seq_change;
+
+ALTER TABLE tb_expense
+    ADD COLUMN deleted boolean NOT NULL DEFAULT false,
+    ADD COLUMN updated_at timestamp NOT NULL DEFAULT now(),
+    ADD COLUMN change_seq bigint NOT NULL DEFAULT nextval('seq_change');
+
+ALTER TABLE tb_income
+    ADD COLUMN deleted boolean NOT NULL DEFAULT false,
+    ADD COLUMN updated_at timestamp NOT NULL DEFAULT now(),
+    ADD COLUMN change_seq bigint NOT NULL DEFAULT nextval('seq_change');
+
+CREATE INDEX ix_tb_expense_user_id_change_seq ON tb_expense(user_id, change_seq);
+CREATE INDEX ix_tb_income_user_id_change_seq ON tb_income(user_id, change_seq);
+
+-- Toda linha inserida ou atualizada (inclusive soft delete) recebe um novo valor de change_seq.
+CREATE FUNCTION fn_touch_change_seq() RETURNS trigger AS $$
+BEGIN
+    NEW.change_seq := nextval('seq_change');
+    NEW.updated_at := now();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER tg_tb_expense_touch_change_seq
+    BEFORE INSERT OR UPDATE ON tb_expense
+    FOR EACH ROW EXECUTE FUNCTION fn_touch_change_seq();
+
+CREATE TRIGGER tg_tb_income_touch_change_seq
+    BEFORE INSERT OR UPDATE ON tb_income
+    FOR EACH ROW EXECUTE FUNCTION fn_touch_change_seq();
@@ -0,0 +1,15 @@
+CREATE TABLE tb_outbox_event (
+    id bigserial NOT NULL,
+    aggregate_type varchar(20) NOT NULL,
+    aggregate_id bigint NOT NULL,
+    user_id bigint NOT NULL,
+    event_type varchar(20) NOT NULL,
+    payload text NOT NULL,
+    created_at timestamp NOT NULL DEFAULT now(),
+    published_at timestamp,
+    CONSTRAINT tb_outbox_event_pk PRIMARY KEY (id)
+);
+
+-- O relay busca apenas eventos ainda não publicados, em ordem de id.
+CREATE INDEX ix_tb_outbox_event_unpublished ON tb_outbox_event(id) WHERE published_at IS NULL;
+CREATE INDEX ix_tb_outbox_event_published_at ON tb_outbox_event(published_at) WHERE published_at IS NOT NULL;
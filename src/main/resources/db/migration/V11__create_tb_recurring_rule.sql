@@ -0,0 +1,30 @@
+CREATE TABLE tb_recurring_rule (
+    id bigserial NOT NULL,
+    user_id bigint NOT NULL,
+    type varchar(20) NOT NULL,
+    description varchar(255) NOT NULL,
+    value numeric(8, 2) NOT NULL,
+    category varchar(25),
+    frequency varchar(20) NOT NULL,
+    start_date date NOT NULL,
+    end_date date,
+    next_occurrence date NOT NULL,
+    occurrences integer NOT NULL DEFAULT 0,
+    CONSTRAINT tb_recurring_rule_pk PRIMARY KEY (id),
+    CONSTRAINT f_user_id_fk_tb_recurring_rule FOREIGN KEY (user_id) REFERENCES tb_user(id) ON DELETE CASCADE
+);
+
+-- Usado pelo job de materialização para encontrar as regras com ocorrências vencidas.
+CREATE INDEX ix_tb_recurring_rule_type_next_occurrence ON tb_recurring_rule(type, next_occurrence);
+CREATE INDEX ix_tb_recurring_rule_user_id ON tb_recurring_rule(user_id);
+
+ALTER TABLE tb_expense ADD COLUMN recurring_rule_id bigint
+    CONSTRAINT f_recurring_rule_id_fk_tb_expense REFERENCES tb_recurring_rule(id) ON DELETE SET NULL;
+ALTER TABLE tb_income ADD COLUMN recurring_rule_id bigint
+    CONSTRAINT f_recurring_rule_id_fk_tb_income REFERENCES tb_recurring_rule(id) ON DELETE SET NULL;
+
+-- Garante no máximo uma despesa/receita por regra e data, tornando a materialização idempotente.
+CREATE UNIQUE INDEX ux_tb_expense_recurring_rule_id_date ON tb_expense(recurring_rule_id, date)
+    WHERE recurring_rule_id IS NOT NULL;
+CREATE UNIQUE INDEX ux_tb_income_recurring_rule_id_date ON tb_income(recurring_rule_id, date)
+    WHERE recurring_rule_id IS NOT NULL;
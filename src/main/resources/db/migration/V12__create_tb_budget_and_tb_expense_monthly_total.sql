@@ -0,0 +1,84 @@
+CREATE TABLE tb_budget (
+    id bigserial NOT NULL,
+    user_id bigint NOT NULL,
+    category varchar(25) NOT NULL,
+    month date NOT NULL,
+    limit_value numeric(8, 2) NOT NULL,
+    CONSTRAINT tb_budget_pk PRIMARY KEY (id),
+    CONSTRAINT tb_budget_user_id_category_month_unique UNIQUE (user_id, month, category),
+    CONSTRAINT f_user_id_fk_tb_budget FOREIGN KEY (user_id) REFERENCES tb_user(id) ON DELETE CASCADE
+);
+
+-- Total gasto por usuário, mês (primeiro dia) e categoria, mantido pelo trigger de tb_expense.
+CREATE TABLE tb_expense_monthly_total (
+    user_id bigint NOT NULL,
+    month date NOT NULL,
+    category varchar(25) NOT NULL,
+    total numeric(12, 2) NOT NULL DEFAULT 0,
+    CONSTRAINT tb_expense_monthly_total_pk PRIMARY KEY (user_id, month, category),
+    CONSTRAINT f_user_id_fk_tb_expense_monthly_total FOREIGN KEY (user_id) REFERENCES tb_user(id) ON DELETE CASCADE
+);
+
+INSERT INTO tb_expense_monthly_total (user_id, month, category, total)
+SELECT user_id, CAST(date_trunc('month', date) AS date), category, sum(value)
+FROM tb_expense
+WHERE deleted = false
+GROUP BY 1, 2, 3;
+
+-- Soma p_delta ao total do mês/categoria e, caso exista orçamento e a soma cruze o limite,
+-- registra no outbox um evento LIMIT_EXCEEDED ou LIMIT_RESTORED.
+CREATE FUNCTION fn_add_to_expense_monthly_total(p_user_id bigint, p_category varchar, p_date date, p_delta numeric)
+RETURNS void AS $$
+DECLARE
+    v_month date := CAST(date_trunc('month', p_date) AS date);
+    v_total numeric;
+    v_budget_id bigint;
+    v_limit numeric;
+BEGIN
+    IF p_delta = 0 THEN
+        RETURN;
+    END IF;
+
+    INSERT INTO tb_expense_monthly_total AS t (user_id, month, category, total)
+    VALUES (p_user_id, v_month, p_category, p_delta)
+    ON CONFLICT (user_id, month, category) DO UPDATE SET total = t.total + EXCLUDED.total
+    RETURNING t.total INTO v_total;
+
+    SELECT b.id, b.limit_value INTO v_budget_id, v_limit
+    FROM tb_budget b
+    WHERE b.user_id = p_user_id AND b.month = v_month AND b.category = p_category;
+
+    IF v_budget_id IS NOT NULL AND ((v_total - p_delta) > v_limit) <> (v_total > v_limit) THEN
+        INSERT INTO tb_outbox_event (aggregate_type, aggregate_id, user_id, event_type, payload, created_at)
+        VALUES ('BUDGET', v_budget_id, p_user_id,
+                CASE WHEN v_total > v_limit THEN 'LIMIT_EXCEEDED' ELSE 'LIMIT_RESTORED' END,
+                CAST(json_build_object('id', v_budget_id, 'category', p_category, 'month', v_month,
+                    'limit', v_limit, 'previousTotal', v_total - p_delta, 'total', v_total) AS text),
+                now());
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Soft delete (deleted = true) remove o valor do total, exclusões físicas acontecem apenas na remoção do usuário,
+-- quando tb_expense_monthly_total é removida em cascata.
+CREATE FUNCTION fn_apply_expense_to_monthly_total() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' AND NOT OLD.deleted AND NOT NEW.deleted AND OLD.category = NEW.category
+        AND date_trunc('month', OLD.date) = date_trunc('month', NEW.date) THEN
+        PERFORM fn_add_to_expense_monthly_total(NEW.user_id, NEW.category, NEW.date, NEW.value - OLD.value);
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP = 'UPDATE' AND NOT OLD.deleted THEN
+        PERFORM fn_add_to_expense_monthly_total(OLD.user_id, OLD.category, OLD.date, -OLD.value);
+    END IF;
+    IF NOT NEW.deleted THEN
+        PERFORM fn_add_to_expense_monthly_total(NEW.user_id, NEW.category, NEW.date, NEW.value);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER tg_tb_expense_apply_to_monthly_total
+    AFTER INSERT OR UPDATE OF value, date, category, deleted ON tb_expense
+    FOR EACH ROW EXECUTE FUNCTION fn_apply_expense_to_monthly_total();
@@ -0,0 +1,125 @@
+-- Categorias de cada usuário, o id é sequencial por usuário (1 a 8 são as categorias padrão) e cabe em um smallint,
+-- então as tabelas que referenciam uma categoria guardam 2 bytes ao invés de um varchar(25).
+CREATE TABLE tb_category (
+    user_id bigint NOT NULL,
+    id smallint NOT NULL,
+    name varchar(25) NOT NULL,
+    CONSTRAINT tb_category_pk PRIMARY KEY (user_id, id),
+    CONSTRAINT tb_category_user_id_name_unique UNIQUE (user_id, name),
+    CONSTRAINT f_user_id_fk_tb_category FOREIGN KEY (user_id) REFERENCES tb_user(id) ON DELETE CASCADE
+);
+
+INSERT INTO tb_category (user_id, id, name)
+SELECT u.id, c.id, c.name
+FROM tb_user u
+CROSS JOIN (VALUES (1, 'ALIMENTACAO'), (2, 'SAUDE'), (3, 'MORADIA'), (4, 'TRANSPORTE'),
+                   (5, 'EDUCACAO'), (6, 'LAZER'), (7, 'IMPREVISTOS'), (8, 'OUTRAS')) AS c(id, name);
+
+-- As funções passam a receber o id da categoria, são recriadas ao final.
+DROP TRIGGER tg_tb_expense_apply_to_monthly_total ON tb_expense;
+DROP FUNCTION fn_apply_expense_to_monthly_total();
+DROP FUNCTION fn_add_to_expense_monthly_total(bigint, varchar, date, numeric);
+
+-- Trocar a representação da categoria não é uma alteração da despesa, então change_seq não deve avançar.
+ALTER TABLE tb_expense DISABLE TRIGGER tg_tb_expense_touch_change_seq;
+
+ALTER TABLE tb_expense ADD COLUMN category_id smallint;
+UPDATE tb_expense e SET category_id = c.id
+FROM tb_category c
+WHERE c.user_id = e.user_id AND c.name = e.category;
+ALTER TABLE tb_expense
+    ALTER COLUMN category_id SET NOT NULL,
+    DROP COLUMN category,
+    ADD CONSTRAINT f_category_id_fk_tb_expense FOREIGN KEY (user_id, category_id) REFERENCES tb_category(user_id, id);
+
+ALTER TABLE tb_expense ENABLE TRIGGER tg_tb_expense_touch_change_seq;
+
+ALTER TABLE tb_recurring_rule ADD COLUMN category_id smallint;
+UPDATE tb_recurring_rule r SET category_id = c.id
+FROM tb_category c
+WHERE c.user_id = r.user_id AND c.name = r.category;
+ALTER TABLE tb_recurring_rule
+    DROP COLUMN category,
+    ADD CONSTRAINT f_category_id_fk_tb_recurring_rule
+        FOREIGN KEY (user_id, category_id) REFERENCES tb_category(user_id, id);
+
+ALTER TABLE tb_budget ADD COLUMN category_id smallint;
+UPDATE tb_budget b SET category_id = c.id
+FROM tb_category c
+WHERE c.user_id = b.user_id AND c.name = b.category;
+ALTER TABLE tb_budget
+    ALTER COLUMN category_id SET NOT NULL,
+    DROP CONSTRAINT tb_budget_user_id_category_month_unique,
+    DROP COLUMN category,
+    ADD CONSTRAINT tb_budget_user_id_category_month_unique UNIQUE (user_id, month, category_id),
+    ADD CONSTRAINT f_category_id_fk_tb_budget FOREIGN KEY (user_id, category_id) REFERENCES tb_category(user_id, id);
+
+ALTER TABLE tb_expense_monthly_total ADD COLUMN category_id smallint;
+UPDATE tb_expense_monthly_total t SET category_id = c.id
+FROM tb_category c
+WHERE c.user_id = t.user_id AND c.name = t.category;
+ALTER TABLE tb_expense_monthly_total
+    ALTER COLUMN category_id SET NOT NULL,
+    DROP CONSTRAINT tb_expense_monthly_total_pk,
+    DROP COLUMN category,
+    ADD CONSTRAINT tb_expense_monthly_total_pk PRIMARY KEY (user_id, month, category_id);
+
+-- Soma p_delta ao total do mês/categoria e, caso exista orçamento e a soma cruze o limite,
+-- registra no outbox um evento LIMIT_EXCEEDED ou LIMIT_RESTORED.
+CREATE FUNCTION fn_add_to_expense_monthly_total(p_user_id bigint, p_category_id smallint, p_date date, p_delta numeric)
+RETURNS void AS $$
+DECLARE
+    v_month date := CAST(date_trunc('month', p_date) AS date);
+    v_total numeric;
+    v_budget_id bigint;
+    v_limit numeric;
+BEGIN
+    IF p_delta = 0 THEN
+        RETURN;
+    END IF;
+
+    INSERT INTO tb_expense_monthly_total AS t (user_id, month, category_id, total)
+    VALUES (p_user_id, v_month, p_category_id, p_delta)
+    ON CONFLICT (user_id, month, category_id) DO UPDATE SET total = t.total + EXCLUDED.total
+    RETURNING t.total INTO v_total;
+
+    SELECT b.id, b.limit_value INTO v_budget_id, v_limit
+    FROM tb_budget b
+    WHERE b.user_id = p_user_id AND b.month = v_month AND b.category_id = p_category_id;
+
+    IF v_budget_id IS NOT NULL AND ((v_total - p_delta) > v_limit) <> (v_total > v_limit) THEN
+        INSERT INTO tb_outbox_event (aggregate_type, aggregate_id, user_id, event_type, payload, created_at)
+        SELECT 'BUDGET', v_budget_id, p_user_id,
+               CASE WHEN v_total > v_limit THEN 'LIMIT_EXCEEDED' ELSE 'LIMIT_RESTORED' END,
+               CAST(json_build_object('id', v_budget_id, 'category', c.name, 'month', v_month,
+                   'limit', v_limit, 'previousTotal', v_total - p_delta, 'total', v_total) AS text),
+               now()
+        FROM tb_category c
+        WHERE c.user_id = p_user_id AND c.id = p_category_id;
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Soft delete (deleted = true) remove o valor do total, exclusões físicas acontecem apenas na remoção do usuário,
+-- quando tb_expense_monthly_total é removida em cascata.
+CREATE FUNCTION fn_apply_expense_to_monthly_total() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' AND NOT OLD.deleted AND NOT NEW.deleted AND OLD.category_id = NEW.category_id
+        AND date_trunc('month', OLD.date) = date_trunc('month', NEW.date) THEN
+        PERFORM fn_add_to_expense_monthly_total(NEW.user_id, NEW.category_id, NEW.date, NEW.value - OLD.value);
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP = 'UPDATE' AND NOT OLD.deleted THEN
+        PERFORM fn_add_to_expense_monthly_total(OLD.user_id, OLD.category_id, OLD.date, -OLD.value);
+    END IF;
+    IF NOT NEW.deleted THEN
+        PERFORM fn_add_to_expense_monthly_total(NEW.user_id, NEW.category_id, NEW.date, NEW.value);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER tg_tb_expense_apply_to_monthly_total
+    AFTER INSERT OR UPDATE OF value, date, category_id, deleted ON tb_expense
+    FOR EACH ROW EXECUTE FUNCTION fn_apply_expense_to_monthly_total();
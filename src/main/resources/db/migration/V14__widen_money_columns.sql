@@ -0,0 +1,15 @@
+-- numeric(8, 2) limitava os valores a 999999.99, as colunas passam a aceitar até 999999999999.99.
+-- Aumentar a precisão mantendo a escala não reescreve as tabelas.
+
+-- Triggers com lista de colunas (UPDATE OF value) impedem a alteração do tipo da coluna.
+DROP TRIGGER tg_tb_expense_apply_to_monthly_total ON tb_expense;
+
+ALTER TABLE tb_expense ALTER COLUMN value TYPE numeric(14, 2);
+ALTER TABLE tb_income ALTER COLUMN value TYPE numeric(14, 2);
+ALTER TABLE tb_recurring_rule ALTER COLUMN value TYPE numeric(14, 2);
+ALTER TABLE tb_budget ALTER COLUMN limit_value TYPE numeric(14, 2);
+ALTER TABLE tb_expense_monthly_total ALTER COLUMN total TYPE numeric(18, 2);
+
+CREATE TRIGGER tg_tb_expense_apply_to_monthly_total
+    AFTER INSERT OR UPDATE OF value, date, category_id, deleted ON tb_expense
+    FOR EACH ROW EXECUTE FUNCTION fn_apply_expense_to_monthly_total();
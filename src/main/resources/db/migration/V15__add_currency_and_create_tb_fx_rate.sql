@@ -0,0 +1,15 @@
+-- Moeda (código ISO 4217) de cada despesa e receita e a moeda base do usuário, os dados existentes são BRL.
+ALTER TABLE tb_user ADD COLUMN base_currency varchar(3) NOT NULL DEFAULT 'BRL';
+ALTER TABLE tb_expense ADD COLUMN currency varchar(3) NOT NULL DEFAULT 'BRL';
+ALTER TABLE tb_income ADD COLUMN currency varchar(3) NOT NULL DEFAULT 'BRL';
+
+-- Cotação diária de cada moeda na moeda de cotação (financesapi.fx.quote-currency), carregada de um arquivo.
+-- A tabela é densa, há uma linha por moeda para cada dia do período carregado, então a conversão no resumo é um
+-- join por igualdade na chave primária.
+CREATE TABLE tb_fx_rate (
+    currency varchar(3) NOT NULL,
+    rate_date date NOT NULL,
+    rate numeric(20, 10) NOT NULL,
+    CONSTRAINT tb_fx_rate_pk PRIMARY KEY (currency, rate_date),
+    CONSTRAINT tb_fx_rate_rate_positive CHECK (rate > 0)
+);
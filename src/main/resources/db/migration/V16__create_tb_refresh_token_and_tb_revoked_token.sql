@@ -0,0 +1,27 @@
+-- Refresh tokens guardados como hash SHA-256 do valor entregue ao cliente. Cada uso gera um novo token da mesma
+-- família e revoga o anterior, o reuso de um token revogado revoga a família inteira.
+CREATE TABLE tb_refresh_token (
+    id bigserial NOT NULL,
+    user_id bigint NOT NULL,
+    family_id uuid NOT NULL,
+    token_hash varchar(64) NOT NULL,
+    created_at timestamp NOT NULL,
+    expires_at timestamp NOT NULL,
+    revoked_at timestamp,
+    replaced_by_id bigint,
+    CONSTRAINT tb_refresh_token_pk PRIMARY KEY (id),
+    CONSTRAINT tb_refresh_token_user_fk FOREIGN KEY (user_id) REFERENCES tb_user(id) ON DELETE CASCADE,
+    CONSTRAINT tb_refresh_token_token_hash_uk UNIQUE (token_hash)
+);
+
+CREATE INDEX ix_tb_refresh_token_family_id ON tb_refresh_token(family_id);
+CREATE INDEX ix_tb_refresh_token_expires_at ON tb_refresh_token(expires_at);
+
+-- Access tokens (jti) revogados antes de expirar, mantidos em memória pela aplicação até a expiração.
+CREATE TABLE tb_revoked_token (
+    id varchar(36) NOT NULL,
+    expires_at timestamp NOT NULL,
+    CONSTRAINT tb_revoked_token_pk PRIMARY KEY (id)
+);
+
+CREATE INDEX ix_tb_revoked_token_expires_at ON tb_revoked_token(expires_at);
@@ -0,0 +1,9 @@
+-- Token buckets do rate limit compartilhados entre as instâncias (financesapi.rate-limit.store=jdbc). arrival é o
+-- instante teórico de chegada (GCRA) em microssegundos desde a época. A tabela é UNLOGGED: os buckets são
+-- descartáveis e a escrita a cada requisição não passa pelo WAL.
+CREATE UNLOGGED TABLE tb_rate_limit_bucket (
+    bucket_key varchar(255) PRIMARY KEY,
+    arrival bigint NOT NULL
+);
+
+CREATE INDEX ix_tb_rate_limit_bucket_arrival ON tb_rate_limit_bucket(arrival);
@@ -0,0 +1,4 @@
+-- Índices para as buscas por período e para a linha do tempo (/api/transactions), que percorrem as transações não
+-- deletadas do usuário em ordem de (date, id).
+CREATE INDEX ix_tb_expense_user_id_date_id ON tb_expense(user_id, date, id) WHERE deleted = false;
+CREATE INDEX ix_tb_income_user_id_date_id ON tb_income(user_id, date, id) WHERE deleted = false;
@@ -0,0 +1,69 @@
+-- Total gasto por usuário, mês (primeiro dia), categoria e moeda, lido pelas análises por categoria
+-- (/api/analytics/categories). Diferente de tb_expense_monthly_total, que soma os valores sem considerar a moeda
+-- para os orçamentos, aqui cada moeda tem o próprio total e a conversão acontece na leitura.
+-- A chave primária começa por (user_id, month), então os meses de um período são lidos em uma única busca no índice.
+CREATE TABLE tb_expense_category_rollup (
+    user_id bigint NOT NULL,
+    month date NOT NULL,
+    category_id smallint NOT NULL,
+    currency varchar(3) NOT NULL,
+    total numeric(18, 2) NOT NULL,
+    CONSTRAINT tb_expense_category_rollup_pk PRIMARY KEY (user_id, month, category_id, currency),
+    CONSTRAINT f_user_id_fk_tb_expense_category_rollup FOREIGN KEY (user_id) REFERENCES tb_user(id) ON DELETE CASCADE
+);
+
+INSERT INTO tb_expense_category_rollup (user_id, month, category_id, currency, total)
+SELECT user_id, CAST(date_trunc('month', date) AS date), category_id, currency, sum(value)
+FROM tb_expense
+WHERE deleted = false
+GROUP BY 1, 2, 3, 4
+HAVING sum(value) <> 0;
+
+-- Soma p_delta ao total do mês/categoria/moeda, linhas que chegam a zero são removidas.
+CREATE FUNCTION fn_add_to_expense_category_rollup(
+    p_user_id bigint, p_category_id smallint, p_currency varchar, p_date date, p_delta numeric)
+RETURNS void AS $$
+DECLARE
+    v_month date := CAST(date_trunc('month', p_date) AS date);
+    v_total numeric;
+BEGIN
+    IF p_delta = 0 THEN
+        RETURN;
+    END IF;
+
+    INSERT INTO tb_expense_category_rollup AS t (user_id, month, category_id, currency, total)
+    VALUES (p_user_id, v_month, p_category_id, p_currency, p_delta)
+    ON CONFLICT (user_id, month, category_id, currency) DO UPDATE SET total = t.total + EXCLUDED.total
+    RETURNING t.total INTO v_total;
+
+    IF v_total = 0 THEN
+        DELETE FROM tb_expense_category_rollup
+        WHERE user_id = p_user_id AND month = v_month AND category_id = p_category_id AND currency = p_currency;
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Soft delete (deleted = true) remove o valor do total, exclusões físicas acontecem apenas na remoção do usuário,
+-- quando tb_expense_category_rollup é removida em cascata.
+CREATE FUNCTION fn_apply_expense_to_category_rollup() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' AND NOT OLD.deleted AND NOT NEW.deleted AND OLD.category_id = NEW.category_id
+        AND OLD.currency = NEW.currency AND date_trunc('month', OLD.date) = date_trunc('month', NEW.date) THEN
+        PERFORM fn_add_to_expense_category_rollup(
+            NEW.user_id, NEW.category_id, NEW.currency, NEW.date, NEW.value - OLD.value);
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP = 'UPDATE' AND NOT OLD.deleted THEN
+        PERFORM fn_add_to_expense_category_rollup(OLD.user_id, OLD.category_id, OLD.currency, OLD.date, -OLD.value);
+    END IF;
+    IF NOT NEW.deleted THEN
+        PERFORM fn_add_to_expense_category_rollup(NEW.user_id, NEW.category_id, NEW.currency, NEW.date, NEW.value);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER tg_tb_expense_apply_to_category_rollup
+    AFTER INSERT OR UPDATE OF value, date, category_id, currency, deleted ON tb_expense
+    FOR EACH ROW EXECUTE FUNCTION fn_apply_expense_to_category_rollup();
@@ -0,0 +1,15 @@
+-- change_seq é atribuído na escrita, mas a linha só fica visível no commit. Sem coordenação, uma transação A pode
+-- receber change_seq N, uma transação B (do mesmo usuário) receber N + 1 e fazer commit antes de A, então um cliente
+-- que sincroniza entre os dois commits recebe o token N + 1 e nunca recebe a linha N.
+-- Antes de atribuir change_seq, a trigger adquire um advisory lock transacional do usuário (chave (1, hash do
+-- user_id)), liberado apenas após o commit. Escritas concorrentes de um mesmo usuário aguardam a anterior terminar,
+-- então a ordem de change_seq de cada usuário é a ordem de commit e nenhuma linha visível fica atrás de um token já
+-- entregue. Escritas de usuários diferentes não se bloqueiam.
+CREATE OR REPLACE FUNCTION fn_touch_change_seq() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock(1, hashint8(NEW.user_id));
+    NEW.change_seq := nextval('seq_change');
+    NEW.updated_at := now();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
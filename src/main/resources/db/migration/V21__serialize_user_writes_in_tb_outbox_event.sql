@@ -0,0 +1,17 @@
+-- O relay publica os eventos em ordem de id, mas o id (bigserial) é atribuído na escrita e o evento só fica visível
+-- no commit. Sem coordenação, um evento de id maior pode fazer commit, e ser publicado, antes de um evento de id
+-- menor do mesmo usuário de uma transação concorrente.
+-- Como em fn_touch_change_seq (V20), a trigger adquire o advisory lock transacional do usuário antes de atribuir o
+-- id, então a ordem dos ids de cada usuário é a ordem de commit e o relay publica os eventos de cada usuário na
+-- ordem em que aconteceram. Dentro de uma transação que já escreveu uma despesa ou receita o lock já é dela.
+CREATE FUNCTION fn_assign_outbox_event_id() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock(1, hashint8(NEW.user_id));
+    NEW.id := nextval(pg_get_serial_sequence('tb_outbox_event', 'id'));
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER tg_tb_outbox_event_assign_id
+    BEFORE INSERT ON tb_outbox_event
+    FOR EACH ROW EXECUTE FUNCTION fn_assign_outbox_event_id();
@@ -0,0 +1,9 @@
+-- As consultas convertem valores com LEFT JOIN em tb_fx_rate, uma cotação ausente (moeda removida do arquivo de
+-- cotações, por exemplo) gera um valor NULL que o SUM descarta sem erro. As conversões passam a usar
+-- COALESCE(valor convertido, fn_missing_fx_rate(moeda, data)), então uma cotação ausente interrompe a consulta com
+-- um erro explícito (SQLSTATE FX001) ao invés de subestimar totais e saldos.
+CREATE FUNCTION fn_missing_fx_rate(p_currency varchar, p_date date) RETURNS numeric AS $$
+BEGIN
+    RAISE EXCEPTION 'FX rate of % on % is missing', p_currency, p_date USING ERRCODE = 'FX001';
+END;
+$$ LANGUAGE plpgsql;
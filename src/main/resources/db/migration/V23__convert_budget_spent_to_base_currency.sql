@@ -0,0 +1,109 @@
+-- tb_expense_monthly_total somava os valores das despesas sem considerar a moeda e o trigger dela não disparava na
+-- troca de moeda (UPDATE OF currency). O total gasto dos orçamentos passa a ser lido de tb_expense_category_rollup,
+-- que já guarda um total por moeda e cujo trigger inclui currency, convertido para a moeda base do usuário.
+DROP TRIGGER tg_tb_expense_apply_to_monthly_total ON tb_expense;
+DROP FUNCTION fn_apply_expense_to_monthly_total();
+DROP FUNCTION fn_add_to_expense_monthly_total(bigint, smallint, date, numeric);
+DROP TABLE tb_expense_monthly_total;
+
+-- Total gasto pelo usuário na categoria durante o mês, na moeda base dele. Como em /api/analytics/categories, o
+-- total de cada moeda é convertido com a cotação do último dia do mês (limitado ao período carregado).
+CREATE FUNCTION fn_expense_spent(p_user_id bigint, p_month date, p_category_id smallint) RETURNS numeric AS $$
+    SELECT COALESCE(SUM(CASE WHEN t.currency = u.base_currency THEN t.total
+                        ELSE COALESCE(ROUND(t.total * fr.rate / tr.rate, 2),
+                                      fn_missing_fx_rate(t.currency, r.rate_date)) END), 0)
+      FROM tb_expense_category_rollup t
+      JOIN tb_user u ON u.id = t.user_id
+      CROSS JOIN LATERAL (
+          SELECT LEAST(GREATEST(CAST(t.month + INTERVAL '1 month - 1 day' AS date), min(f.rate_date)),
+                       max(f.rate_date))
+            FROM tb_fx_rate f
+           WHERE f.currency = t.currency) AS r(rate_date)
+      LEFT JOIN tb_fx_rate fr ON fr.currency = t.currency AND fr.rate_date = r.rate_date
+      LEFT JOIN tb_fx_rate tr ON tr.currency = u.base_currency AND tr.rate_date = r.rate_date
+     WHERE t.user_id = p_user_id AND t.month = p_month AND t.category_id = p_category_id;
+$$ LANGUAGE sql;
+
+-- Total gasto na categoria durante o mês caso exista orçamento, NULL caso contrário.
+CREATE FUNCTION fn_budgeted_expense_spent(p_user_id bigint, p_month date, p_category_id smallint)
+RETURNS numeric AS $$
+    SELECT fn_expense_spent(p_user_id, p_month, p_category_id)
+     WHERE EXISTS (SELECT 1 FROM tb_budget b
+                    WHERE b.user_id = p_user_id AND b.month = p_month AND b.category_id = p_category_id);
+$$ LANGUAGE sql;
+
+-- Caso o total gasto tenha cruzado o limite do orçamento desde p_previous, registra no outbox um evento
+-- LIMIT_EXCEEDED ou LIMIT_RESTORED.
+CREATE FUNCTION fn_check_budget_limit(p_user_id bigint, p_month date, p_category_id smallint, p_previous numeric)
+RETURNS void AS $$
+DECLARE
+    v_budget_id bigint;
+    v_limit numeric;
+    v_total numeric;
+BEGIN
+    SELECT b.id, b.limit_value INTO v_budget_id, v_limit
+    FROM tb_budget b
+    WHERE b.user_id = p_user_id AND b.month = p_month AND b.category_id = p_category_id;
+
+    IF v_budget_id IS NULL THEN
+        RETURN;
+    END IF;
+
+    v_total := fn_expense_spent(p_user_id, p_month, p_category_id);
+    IF (p_previous > v_limit) <> (v_total > v_limit) THEN
+        INSERT INTO tb_outbox_event (aggregate_type, aggregate_id, user_id, event_type, payload, created_at)
+        SELECT 'BUDGET', v_budget_id, p_user_id,
+               CASE WHEN v_total > v_limit THEN 'LIMIT_EXCEEDED' ELSE 'LIMIT_RESTORED' END,
+               CAST(json_build_object('id', v_budget_id, 'category', c.name, 'month', p_month,
+                   'limit', v_limit, 'previousTotal', p_previous, 'total', v_total) AS text),
+               now()
+        FROM tb_category c
+        WHERE c.user_id = p_user_id AND c.id = p_category_id;
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+-- O total gasto de cada mês/categoria afetado é lido antes e depois de atualizar o rollup, então uma troca de moeda
+-- (remoção de um total e soma em outro) gera no máximo um evento por orçamento.
+CREATE OR REPLACE FUNCTION fn_apply_expense_to_category_rollup() RETURNS trigger AS $$
+DECLARE
+    v_old_month date;
+    v_new_month date;
+    v_old_spent numeric;
+    v_new_spent numeric;
+BEGIN
+    IF TG_OP = 'UPDATE' AND NOT OLD.deleted THEN
+        v_old_month := CAST(date_trunc('month', OLD.date) AS date);
+        v_old_spent := fn_budgeted_expense_spent(OLD.user_id, v_old_month, OLD.category_id);
+    END IF;
+    IF NOT NEW.deleted THEN
+        v_new_month := CAST(date_trunc('month', NEW.date) AS date);
+        IF v_old_month IS NULL OR v_old_month <> v_new_month OR OLD.category_id <> NEW.category_id THEN
+            v_new_spent := fn_budgeted_expense_spent(NEW.user_id, v_new_month, NEW.category_id);
+        END IF;
+    END IF;
+
+    IF TG_OP = 'UPDATE' AND NOT OLD.deleted AND NOT NEW.deleted AND OLD.category_id = NEW.category_id
+        AND OLD.currency = NEW.currency AND v_old_month = v_new_month THEN
+        PERFORM fn_add_to_expense_category_rollup(
+            NEW.user_id, NEW.category_id, NEW.currency, NEW.date, NEW.value - OLD.value);
+    ELSE
+        IF TG_OP = 'UPDATE' AND NOT OLD.deleted THEN
+            PERFORM fn_add_to_expense_category_rollup(
+                OLD.user_id, OLD.category_id, OLD.currency, OLD.date, -OLD.value);
+        END IF;
+        IF NOT NEW.deleted THEN
+            PERFORM fn_add_to_expense_category_rollup(
+                NEW.user_id, NEW.category_id, NEW.currency, NEW.date, NEW.value);
+        END IF;
+    END IF;
+
+    IF v_old_spent IS NOT NULL THEN
+        PERFORM fn_check_budget_limit(OLD.user_id, v_old_month, OLD.category_id, v_old_spent);
+    END IF;
+    IF v_new_spent IS NOT NULL THEN
+        PERFORM fn_check_budget_limit(NEW.user_id, v_new_month, NEW.category_id, v_new_spent);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
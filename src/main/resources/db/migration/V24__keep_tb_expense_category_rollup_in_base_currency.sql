@@ -0,0 +1,172 @@
+-- tb_expense_category_rollup guardava um total por moeda, convertido na leitura com a cotação do último dia do mês,
+-- enquanto o resumo mensal (/api/summaries) converte cada despesa com a cotação do dia dela. O rollup passa a
+-- guardar um único total por mês/categoria, na moeda base do usuário, com cada despesa convertida pelo trigger na
+-- cotação do dia dela (limitada ao período carregado), então orçamentos, análises e resumo mostram o mesmo
+-- número.
+DROP TRIGGER tg_tb_expense_apply_to_category_rollup ON tb_expense;
+DROP FUNCTION fn_apply_expense_to_category_rollup();
+DROP FUNCTION fn_check_budget_limit(bigint, date, smallint, numeric);
+DROP FUNCTION fn_budgeted_expense_spent(bigint, date, smallint);
+DROP FUNCTION fn_expense_spent(bigint, date, smallint);
+DROP FUNCTION fn_add_to_expense_category_rollup(bigint, smallint, varchar, date, numeric);
+DROP TABLE tb_expense_category_rollup;
+
+CREATE TABLE tb_expense_category_rollup (
+    user_id bigint NOT NULL,
+    month date NOT NULL,
+    category_id smallint NOT NULL,
+    total numeric(18, 2) NOT NULL,
+    CONSTRAINT tb_expense_category_rollup_pk PRIMARY KEY (user_id, month, category_id),
+    CONSTRAINT f_user_id_fk_tb_expense_category_rollup FOREIGN KEY (user_id) REFERENCES tb_user(id) ON DELETE CASCADE
+);
+
+-- Converte p_value de p_currency para p_to com a cotação de p_date, limitada ao período carregado de p_currency, e
+-- arredonda para 2 casas decimais como o resumo mensal. Cotação ausente lança FX001 (fn_missing_fx_rate).
+CREATE FUNCTION fn_convert_amount(p_value numeric, p_currency varchar, p_date date, p_to varchar)
+RETURNS numeric AS $$
+DECLARE
+    v_rate_date date;
+    v_amount numeric;
+BEGIN
+    IF p_currency = p_to THEN
+        RETURN p_value;
+    END IF;
+
+    SELECT LEAST(GREATEST(p_date, min(f.rate_date)), max(f.rate_date)) INTO v_rate_date
+    FROM tb_fx_rate f
+    WHERE f.currency = p_currency;
+
+    SELECT ROUND(p_value * fr.rate / tr.rate, 2) INTO v_amount
+    FROM tb_fx_rate fr
+    JOIN tb_fx_rate tr ON tr.currency = p_to AND tr.rate_date = fr.rate_date
+    WHERE fr.currency = p_currency AND fr.rate_date = v_rate_date;
+
+    RETURN COALESCE(v_amount, fn_missing_fx_rate(p_currency, p_date));
+END;
+$$ LANGUAGE plpgsql;
+
+-- Recalcula o rollup do usuário a partir de tb_expense, ou de todos os usuários quando p_user_id é NULL (após uma
+-- carga que alterou cotações). O lock do usuário (o mesmo de fn_touch_change_seq) ou o lock da tabela impede que
+-- escritas concorrentes em tb_expense somem deltas sobre um total que ainda está sendo recalculado.
+CREATE FUNCTION fn_rebuild_expense_category_rollup(p_user_id bigint) RETURNS integer AS $$
+DECLARE
+    v_rows integer;
+BEGIN
+    IF p_user_id IS NULL THEN
+        LOCK TABLE tb_expense_category_rollup IN EXCLUSIVE MODE;
+        DELETE FROM tb_expense_category_rollup;
+    ELSE
+        PERFORM pg_advisory_xact_lock(1, hashint8(p_user_id));
+        DELETE FROM tb_expense_category_rollup WHERE user_id = p_user_id;
+    END IF;
+
+    INSERT INTO tb_expense_category_rollup (user_id, month, category_id, total)
+    SELECT e.user_id, CAST(date_trunc('month', e.date) AS date), e.category_id,
+           sum(fn_convert_amount(e.value, e.currency, e.date, u.base_currency))
+    FROM tb_expense e
+    JOIN tb_user u ON u.id = e.user_id
+    WHERE e.deleted = false AND (p_user_id IS NULL OR e.user_id = p_user_id)
+    GROUP BY 1, 2, 3
+    HAVING sum(fn_convert_amount(e.value, e.currency, e.date, u.base_currency)) <> 0;
+
+    GET DIAGNOSTICS v_rows = ROW_COUNT;
+    RETURN v_rows;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT fn_rebuild_expense_category_rollup(NULL);
+
+-- Soma p_delta (na moeda base) ao total do mês/categoria, linhas que chegam a zero são removidas. Caso o total tenha
+-- cruzado o limite do orçamento da categoria no mês, registra no outbox um evento LIMIT_EXCEEDED ou LIMIT_RESTORED.
+CREATE FUNCTION fn_add_to_expense_category_rollup(
+    p_user_id bigint, p_category_id smallint, p_month date, p_delta numeric)
+RETURNS void AS $$
+DECLARE
+    v_total numeric;
+    v_budget_id bigint;
+    v_limit numeric;
+BEGIN
+    IF p_delta = 0 THEN
+        RETURN;
+    END IF;
+
+    INSERT INTO tb_expense_category_rollup AS t (user_id, month, category_id, total)
+    VALUES (p_user_id, p_month, p_category_id, p_delta)
+    ON CONFLICT (user_id, month, category_id) DO UPDATE SET total = t.total + EXCLUDED.total
+    RETURNING t.total INTO v_total;
+
+    IF v_total = 0 THEN
+        DELETE FROM tb_expense_category_rollup
+        WHERE user_id = p_user_id AND month = p_month AND category_id = p_category_id;
+    END IF;
+
+    SELECT b.id, b.limit_value INTO v_budget_id, v_limit
+    FROM tb_budget b
+    WHERE b.user_id = p_user_id AND b.month = p_month AND b.category_id = p_category_id;
+
+    IF v_budget_id IS NOT NULL AND ((v_total - p_delta) > v_limit) <> (v_total > v_limit) THEN
+        INSERT INTO tb_outbox_event (aggregate_type, aggregate_id, user_id, event_type, payload, created_at)
+        SELECT 'BUDGET', v_budget_id, p_user_id,
+               CASE WHEN v_total > v_limit THEN 'LIMIT_EXCEEDED' ELSE 'LIMIT_RESTORED' END,
+               CAST(json_build_object('id', v_budget_id, 'category', c.name, 'month', p_month,
+                   'limit', v_limit, 'previousTotal', v_total - p_delta, 'total', v_total) AS text),
+               now()
+        FROM tb_category c
+        WHERE c.user_id = p_user_id AND c.id = p_category_id;
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Cada versão da despesa é convertida para a moeda base com a cotação do próprio dia. Quando mês e categoria não
+-- mudam, a diferença é aplicada de uma vez, então uma troca de moeda gera no máximo um evento por orçamento.
+CREATE FUNCTION fn_apply_expense_to_category_rollup() RETURNS trigger AS $$
+DECLARE
+    v_base_currency varchar;
+    v_old_month date;
+    v_new_month date;
+    v_old_amount numeric;
+    v_new_amount numeric;
+BEGIN
+    SELECT u.base_currency INTO v_base_currency FROM tb_user u WHERE u.id = NEW.user_id;
+
+    IF TG_OP = 'UPDATE' AND NOT OLD.deleted THEN
+        v_old_month := CAST(date_trunc('month', OLD.date) AS date);
+        v_old_amount := fn_convert_amount(OLD.value, OLD.currency, OLD.date, v_base_currency);
+    END IF;
+    IF NOT NEW.deleted THEN
+        v_new_month := CAST(date_trunc('month', NEW.date) AS date);
+        v_new_amount := fn_convert_amount(NEW.value, NEW.currency, NEW.date, v_base_currency);
+    END IF;
+
+    IF v_old_month = v_new_month AND OLD.category_id = NEW.category_id THEN
+        PERFORM fn_add_to_expense_category_rollup(
+            NEW.user_id, NEW.category_id, v_new_month, v_new_amount - v_old_amount);
+    ELSE
+        IF v_old_month IS NOT NULL THEN
+            PERFORM fn_add_to_expense_category_rollup(OLD.user_id, OLD.category_id, v_old_month, -v_old_amount);
+        END IF;
+        IF v_new_month IS NOT NULL THEN
+            PERFORM fn_add_to_expense_category_rollup(NEW.user_id, NEW.category_id, v_new_month, v_new_amount);
+        END IF;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER tg_tb_expense_apply_to_category_rollup
+    AFTER INSERT OR UPDATE OF value, date, category_id, currency, deleted ON tb_expense
+    FOR EACH ROW EXECUTE FUNCTION fn_apply_expense_to_category_rollup();
+
+-- Trocar a moeda base muda a moeda de todos os totais do usuário.
+CREATE FUNCTION fn_rebuild_expense_category_rollup_of_user() RETURNS trigger AS $$
+BEGIN
+    IF NEW.base_currency <> OLD.base_currency THEN
+        PERFORM fn_rebuild_expense_category_rollup(NEW.id);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER tg_tb_user_rebuild_expense_category_rollup
+    AFTER UPDATE OF base_currency ON tb_user
+    FOR EACH ROW EXECUTE FUNCTION fn_rebuild_expense_category_rollup_of_user();
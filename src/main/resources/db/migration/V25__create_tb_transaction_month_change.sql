@@ -0,0 +1,43 @@
+-- Último change_seq de cada mês com transações do usuário, inclusive o mês de onde uma transação foi movida (troca de
+-- date). O cache de saldos de fechamento guarda a versão (maior change_seq) em que calculou os saldos, e quando a
+-- versão muda descarta apenas os saldos a partir do primeiro mês com change_seq maior que ela.
+-- Escritas do mesmo usuário já são serializadas pelo advisory lock de fn_touch_change_seq, então o change_seq de um
+-- mês nunca fica atrás de uma escrita já visível.
+CREATE TABLE tb_transaction_month_change (
+    user_id bigint NOT NULL,
+    month date NOT NULL,
+    change_seq bigint NOT NULL,
+    CONSTRAINT tb_transaction_month_change_pk PRIMARY KEY (user_id, month),
+    CONSTRAINT f_user_id_fk_tb_transaction_month_change FOREIGN KEY (user_id) REFERENCES tb_user(id) ON DELETE CASCADE
+);
+
+INSERT INTO tb_transaction_month_change (user_id, month, change_seq)
+SELECT t.user_id, CAST(date_trunc('month', t.date) AS date), max(t.change_seq)
+FROM (SELECT user_id, date, change_seq FROM tb_expense
+      UNION ALL
+      SELECT user_id, date, change_seq FROM tb_income) AS t
+GROUP BY 1, 2;
+
+CREATE FUNCTION fn_touch_transaction_month(p_user_id bigint, p_date date, p_change_seq bigint) RETURNS void AS $$
+    INSERT INTO tb_transaction_month_change AS m (user_id, month, change_seq)
+    VALUES (p_user_id, CAST(date_trunc('month', p_date) AS date), p_change_seq)
+    ON CONFLICT (user_id, month) DO UPDATE SET change_seq = GREATEST(m.change_seq, EXCLUDED.change_seq);
+$$ LANGUAGE sql;
+
+CREATE FUNCTION fn_apply_transaction_to_month_change() RETURNS trigger AS $$
+BEGIN
+    PERFORM fn_touch_transaction_month(NEW.user_id, NEW.date, NEW.change_seq);
+    IF TG_OP = 'UPDATE' AND date_trunc('month', OLD.date) <> date_trunc('month', NEW.date) THEN
+        PERFORM fn_touch_transaction_month(OLD.user_id, OLD.date, NEW.change_seq);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER tg_tb_expense_apply_to_month_change
+    AFTER INSERT OR UPDATE ON tb_expense
+    FOR EACH ROW EXECUTE FUNCTION fn_apply_transaction_to_month_change();
+
+CREATE TRIGGER tg_tb_income_apply_to_month_change
+    AFTER INSERT OR UPDATE ON tb_income
+    FOR EACH ROW EXECUTE FUNCTION fn_apply_transaction_to_month_change();
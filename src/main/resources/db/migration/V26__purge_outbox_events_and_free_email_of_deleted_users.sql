@@ -0,0 +1,8 @@
+-- O job de remoção de usuários apaga os eventos do outbox do usuário em lotes, como as despesas e receitas, então
+-- tb_outbox_event precisa de um índice por user_id.
+CREATE INDEX ix_tb_outbox_event_user_id ON tb_outbox_event(user_id);
+
+-- Um usuário deletado aguarda a remoção dos dados em segundo plano. Durante esse período o email dele fica livre para
+-- um novo cadastro, a unicidade vale apenas entre os usuários não deletados.
+ALTER TABLE tb_user DROP CONSTRAINT tb_user__f_email_unique;
+CREATE UNIQUE INDEX ux_tb_user_email_not_deleted ON tb_user(email) WHERE deleted = false;
@@ -0,0 +1,11 @@
+-- As despesas e receitas geradas por uma regra eram criadas na moeda base atual do usuário, então trocar a moeda base
+-- mudava a moeda (e o valor real) das próximas ocorrências. A regra passa a guardar a própria moeda, as regras
+-- existentes ficam com a moeda base do usuário no momento da migração.
+ALTER TABLE tb_recurring_rule ADD COLUMN currency varchar(3);
+
+UPDATE tb_recurring_rule r
+SET currency = u.base_currency
+FROM tb_user u
+WHERE u.id = r.user_id;
+
+ALTER TABLE tb_recurring_rule ALTER COLUMN currency SET NOT NULL;
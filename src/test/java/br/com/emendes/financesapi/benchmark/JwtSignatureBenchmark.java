@@ -0,0 +1,94 @@
+package br.com.emendes.financesapi.benchmark;
+
+import br.com.emendes.financesapi.config.security.key.JwtKeyring;
+import br.com.emendes.financesapi.config.security.service.TokenService;
+import br.com.emendes.financesapi.config.security.service.TokenServiceImpl;
+import br.com.emendes.financesapi.model.entity.User;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o custo de assinar e verificar um access token com HS256 (implementação anterior, ainda aceita para os
+ * tokens legados) e com as chaves assimétricas ES256 e EdDSA de {@link JwtKeyring}. A verificação usa o parser de
+ * {@link TokenServiceImpl}, criado uma vez, como em {@code JWTAuthenticationFilter}.<br>
+ * <br>
+ * Usa as chaves de teste em classpath:jwt/keys, não sobe a aplicação nem requer Docker. Executar pelo método
+ * {@code main} ou com:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -Dmdep.includeScope=test
+ * java -cp "target/test-classes:target/classes:$(cat target/cp.txt)" org.openjdk.jmh.Main JwtSignatureBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtSignatureBenchmark {
+
+  private static final String SECRET = "12341234123412341234123412341234";
+
+  @Param({"HS256", "ES256", "EdDSA"})
+  private String algorithm;
+
+  private TokenServiceImpl tokenService;
+  private SecretKey legacyKey;
+  private User user;
+  private String token;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    JwtKeyring jwtKeyring = new JwtKeyring();
+    ReflectionTestUtils.setField(jwtKeyring, "location", "classpath:jwt/keys");
+    ReflectionTestUtils.setField(jwtKeyring, "signingKid", algorithm.equals("EdDSA") ? "ed-2025" : "es-2024");
+    ReflectionTestUtils.setField(jwtKeyring, "legacySecret", SECRET);
+    jwtKeyring.load();
+    legacyKey = (SecretKey) jwtKeyring.getVerificationKey(null);
+
+    tokenService = new TokenServiceImpl(jwtKeyring);
+    ReflectionTestUtils.setField(tokenService, "expiration", "900000");
+    ReflectionTestUtils.invokeMethod(tokenService, "buildParser");
+
+    user = User.builder().id(100L).name("Bench").email("bench@email.com").build();
+    token = sign();
+  }
+
+  @Benchmark
+  public String sign() {
+    if (!algorithm.equals("HS256")) {
+      return tokenService.generateToken(user);
+    }
+    Date now = new Date();
+    return Jwts.builder()
+        .id(UUID.randomUUID().toString())
+        .subject(user.getId().toString())
+        .issuedAt(now)
+        .expiration(new Date(now.getTime() + 900_000))
+        .issuer("Finances API")
+        .signWith(legacyKey, Jwts.SIG.HS256)
+        .compact();
+  }
+
+  @Benchmark
+  public Optional<TokenService.AccessToken> verify() {
+    return tokenService.decode(token);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(JwtSignatureBenchmark.class.getSimpleName())
+        .build()).run();
+  }
+
+}
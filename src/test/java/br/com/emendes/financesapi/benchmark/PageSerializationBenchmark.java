@@ -0,0 +1,96 @@
+package br.com.emendes.financesapi.benchmark;
+
+import br.com.emendes.financesapi.dto.response.ExpenseResponse;
+import br.com.emendes.financesapi.dto.response.PageResponse;
+import br.com.emendes.financesapi.model.Money;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compara a serialização de uma página de despesas como {@code PageImpl} (resposta anterior dos endpoints de
+ * listagem) e como {@link PageResponse}, com e sem o {@link BlackbirdModule}. O ObjectMapper é configurado como o do
+ * Spring Boot.<br>
+ * <br>
+ * Não sobe a aplicação nem requer Docker. Executar pelo método {@code main} ou com:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -Dmdep.includeScope=test
+ * java -cp "target/test-classes:target/classes:$(cat target/cp.txt)" org.openjdk.jmh.Main \
+ *   PageSerializationBenchmark -prof gc
+ * </pre>
+ * O profiler gc mostra a alocação por página (gc.alloc.rate.norm).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageSerializationBenchmark {
+
+  @Param({"10", "100"})
+  private int pageSize;
+
+  @Param({"false", "true"})
+  private boolean blackbird;
+
+  private ObjectMapper objectMapper;
+  private PageImpl<ExpenseResponse> page;
+  private PageResponse<ExpenseResponse> pageResponse;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    if (blackbird) {
+      builder.modulesToInstall(modules -> modules.add(new BlackbirdModule()));
+    }
+    objectMapper = builder.build();
+
+    List<ExpenseResponse> expenses = IntStream.range(0, pageSize)
+        .mapToObj(i -> ExpenseResponse.builder()
+            .id(10_000L + i)
+            .description("Despesa " + i)
+            .date(LocalDate.of(2023, 1, 1).plusDays(i))
+            .value(Money.of(new BigDecimal("150.00").add(BigDecimal.valueOf(i))))
+            .currency("BRL")
+            .category("ALIMENTACAO")
+            .build())
+        .toList();
+    page = new PageImpl<>(expenses, PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "date")), 1_000);
+    pageResponse = PageResponse.of(page);
+  }
+
+  @Benchmark
+  public byte[] pageImpl() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(page);
+  }
+
+  @Benchmark
+  public byte[] pageResponse() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(pageResponse);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(PageSerializationBenchmark.class.getSimpleName())
+        .addProfiler("gc")
+        .build()).run();
+  }
+
+}
@@ -0,0 +1,116 @@
+package br.com.emendes.financesapi.benchmark;
+
+import br.com.emendes.financesapi.FinancesApiApplication;
+import br.com.emendes.financesapi.dto.response.ExpenseResponse;
+import br.com.emendes.financesapi.mapper.ExpenseMapper;
+import br.com.emendes.financesapi.model.entity.Expense;
+import br.com.emendes.financesapi.repository.ExpenseRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a leitura de uma página de despesas carregando entidades gerenciadas e convertendo com
+ * {@link ExpenseMapper} (implementação anterior das buscas de leitura) com a projeção direta em
+ * {@link ExpenseResponse} usada por {@link ExpenseRepository}.<br>
+ * <br>
+ * As duas leituras rodam em uma transação, como acontece com o EntityManager aberto durante a requisição, então o
+ * custo do snapshot para dirty checking e do flush no commit entra na medição.<br>
+ * <br>
+ * Sobe a aplicação com o profile integration (PostgreSQL via Testcontainers, requer Docker). Executar pelo método
+ * {@code main} ou com:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -Dmdep.includeScope=test
+ * java -cp "target/test-classes:target/classes:$(cat target/cp.txt)" org.openjdk.jmh.Main \
+ *   ReadProjectionBenchmark -prof gc
+ * </pre>
+ * O profiler gc mostra a alocação por página (gc.alloc.rate.norm).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReadProjectionBenchmark {
+
+  private static final int EXPENSES = 10_000;
+
+  @Param({"10", "100"})
+  private int pageSize;
+
+  private ConfigurableApplicationContext context;
+  private EntityManager entityManager;
+  private TransactionTemplate transactionTemplate;
+  private ExpenseMapper expenseMapper;
+  private long userId;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new SpringApplicationBuilder(FinancesApiApplication.class)
+        .profiles("integration")
+        .properties("server.port=0", "spring.jpa.show-sql=false", "logging.level.root=WARN")
+        .run();
+    entityManager = context.getBean(EntityManager.class);
+    transactionTemplate = context.getBean(TransactionTemplate.class);
+    expenseMapper = context.getBean(ExpenseMapper.class);
+
+    JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+    userId = jdbcTemplate.queryForObject("""
+        INSERT INTO tb_user (name, email, password) VALUES ('Bench', 'bench@email.com', 'x') RETURNING id
+        """, Long.class);
+    jdbcTemplate.update("""
+        INSERT INTO tb_category (user_id, id, name)
+        SELECT ?, c.id, c.name
+          FROM (VALUES (1, 'ALIMENTACAO'), (3, 'MORADIA'), (8, 'OUTRAS')) AS c(id, name)
+        """, userId);
+    jdbcTemplate.update("""
+        INSERT INTO tb_expense (description, value, date, category_id, user_id)
+        SELECT 'Despesa ' || n, 10 + n % 500, DATE '2023-01-01' + n % 365, (ARRAY[1, 3, 8])[1 + n % 3], ?
+          FROM generate_series(1, ?) AS n
+        """, userId, EXPENSES);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public List<ExpenseResponse> entityAndMapper() {
+    return transactionTemplate.execute(status -> entityManager
+        .createQuery("SELECT e FROM Expense e WHERE e.user.id = :userId ORDER BY e.date DESC", Expense.class)
+        .setParameter("userId", userId)
+        .setMaxResults(pageSize)
+        .getResultList().stream()
+        .map(expenseMapper::toExpenseResponse)
+        .toList());
+  }
+
+  @Benchmark
+  public List<ExpenseResponse> projection() {
+    return transactionTemplate.execute(status -> entityManager
+        .createQuery(ExpenseRepository.EXPENSE_RESPONSE_PROJECTION + "WHERE e.user.id = :userId ORDER BY e.date DESC",
+            ExpenseResponse.class)
+        .setParameter("userId", userId)
+        .setMaxResults(pageSize)
+        .getResultList());
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(ReadProjectionBenchmark.class.getSimpleName())
+        .addProfiler("gc")
+        .build()).run();
+  }
+
+}
@@ -0,0 +1,84 @@
+package br.com.emendes.financesapi.benchmark;
+
+import br.com.emendes.financesapi.util.parser.DateParser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a validação de datas com {@code LocalDate.parse} + exceção (implementação anterior do
+ * {@code DateValidator}) com {@link DateParser}, em um fluxo de payloads majoritariamente malformados.<br>
+ * <br>
+ * Executar pelo método {@code main} ou com:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -Dmdep.includeScope=test
+ * java -cp "target/test-classes:target/classes:$(cat target/cp.txt)" org.openjdk.jmh.Main \
+ *   RequestValidationBenchmark -prof gc
+ * </pre>
+ * O profiler gc mostra a alocação por operação (gc.alloc.rate.norm).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RequestValidationBenchmark {
+
+  /**
+   * 7 em cada 8 datas são inválidas, simulando um cliente (ou ataque) enviando payloads malformados.
+   */
+  private static final String[] DATES = {
+      "2023-02-05", "2023-02-30", "05/02/2023", "2023-13-01", "abcd-ef-gh", "2023-2-5", "", "2023-02-05T10:00"
+  };
+
+  private int index;
+
+  private String nextDate() {
+    index = (index + 1) & (DATES.length - 1);
+    return DATES[index];
+  }
+
+  @Benchmark
+  public boolean localDateParse() {
+    try {
+      LocalDate.parse(nextDate());
+      return true;
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  @Benchmark
+  public boolean dateParser() {
+    return DateParser.isValid(nextDate());
+  }
+
+  /**
+   * Validação seguida da conversão no mapper, como acontece em um POST válido.
+   */
+  @Benchmark
+  public void localDateParseTwiceValidPayload(Blackhole blackhole) {
+    LocalDate.parse("2023-02-05");
+    blackhole.consume(LocalDate.parse("2023-02-05"));
+  }
+
+  @Benchmark
+  public void dateParserValidPayload(Blackhole blackhole) {
+    blackhole.consume(DateParser.isValid("2023-02-05"));
+    blackhole.consume(DateParser.parse("2023-02-05"));
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(RequestValidationBenchmark.class.getSimpleName())
+        .addProfiler("gc")
+        .build()).run();
+  }
+
+}
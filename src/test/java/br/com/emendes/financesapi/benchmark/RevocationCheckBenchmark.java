@@ -0,0 +1,76 @@
+package br.com.emendes.financesapi.benchmark;
+
+import br.com.emendes.financesapi.repository.RevokedTokenRepository;
+import br.com.emendes.financesapi.util.component.impl.RevokedTokenRegistryImpl;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+
+/**
+ * Mede o custo da verificação de revogação feita por {@code JWTAuthenticationFilter} a cada requisição, com a lista de
+ * tokens revogados já carregada em memória: {@code valid} é o caso comum (jti não revogado, resolvido no filtro de
+ * Bloom) e {@code revoked} passa também pelo conjunto exato.<br>
+ * <br>
+ * Não sobe a aplicação nem requer Docker. Executar pelo método {@code main} ou com:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -Dmdep.includeScope=test
+ * java -cp "target/test-classes:target/classes:$(cat target/cp.txt)" org.openjdk.jmh.Main RevocationCheckBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RevocationCheckBenchmark {
+
+  @Param({"0", "1000", "100000"})
+  private int revokedTokens;
+
+  private RevokedTokenRegistryImpl revokedTokenRegistry;
+  private String validTokenId;
+  private String revokedTokenId;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    List<String> tokenIds = IntStream.range(0, revokedTokens).mapToObj(i -> UUID.randomUUID().toString()).toList();
+    RevokedTokenRepository repository = Mockito.mock(RevokedTokenRepository.class);
+    Mockito.when(repository.findIdsNotExpiredAt(any(LocalDateTime.class))).thenReturn(tokenIds);
+
+    revokedTokenRegistry = new RevokedTokenRegistryImpl(repository);
+    ReflectionTestUtils.setField(revokedTokenRegistry, "falsePositiveRate", 0.01);
+    revokedTokenRegistry.refresh();
+
+    validTokenId = UUID.randomUUID().toString();
+    revokedTokenId = tokenIds.isEmpty() ? validTokenId : tokenIds.get(tokenIds.size() / 2);
+  }
+
+  @Benchmark
+  public boolean valid() {
+    return revokedTokenRegistry.isRevoked(validTokenId);
+  }
+
+  @Benchmark
+  public boolean revoked() {
+    return revokedTokenRegistry.isRevoked(revokedTokenId);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(RevocationCheckBenchmark.class.getSimpleName())
+        .build()).run();
+  }
+
+}
@@ -0,0 +1,163 @@
+package br.com.emendes.financesapi.benchmark;
+
+import br.com.emendes.financesapi.FinancesApiApplication;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Mede o tempo até a primeira requisição respondida ({@code GET /actuator/health}) em uma JVM nova, sem e com o
+ * arquivo AppCDS gerado como no {@code Dockerfile} e sem e com {@code spring.main.lazy-initialization}. A aplicação
+ * sobe com os profiles prod e cds, sem banco de dados (o health check do banco é desabilitado).<br>
+ * <br>
+ * O CDS só arquiva classes de jars, então target/classes é empacotado em um jar temporário e o classpath usa apenas os
+ * jars das dependências. O arquivo AppCDS é gerado com {@code -Dspring.context.exit=onRefresh}, como no Dockerfile.
+ * Executar pelo método {@code main} ou com:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -Dmdep.includeScope=test
+ * java -cp "target/test-classes:target/classes:$(cat target/cp.txt)" org.openjdk.jmh.Main StartupBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+  private static final long FIRST_REQUEST_TIMEOUT_MILLIS = 120_000;
+
+  @Param({"false", "true"})
+  private boolean appCds;
+
+  @Param({"false", "true"})
+  private boolean lazyInitialization;
+
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+  private Path workDirectory;
+  private String classpath;
+  private Process process;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    workDirectory = Files.createTempDirectory("startup-benchmark");
+    Path appJar = workDirectory.resolve("app.jar");
+    jar(Paths.get("target", "classes"), appJar);
+    classpath = Stream.concat(Stream.of(appJar.toString()),
+            Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator))
+                .filter(entry -> entry.endsWith(".jar")))
+        .collect(Collectors.joining(File.pathSeparator));
+
+    if (appCds) {
+      Process training = start(List.of(
+          "-XX:ArchiveClassesAtExit=" + workDirectory.resolve("app.jsa"), "-Dspring.context.exit=onRefresh"));
+      if (training.waitFor() != 0) {
+        throw new IllegalStateException("AppCDS training run exited with code " + training.exitValue());
+      }
+    }
+  }
+
+  @TearDown(Level.Invocation)
+  public void stop() throws InterruptedException {
+    if (process != null) {
+      process.destroy();
+      process.waitFor();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    try (Stream<Path> paths = Files.walk(workDirectory)) {
+      paths.sorted((first, second) -> second.compareTo(first)).map(Path::toFile).forEach(File::delete);
+    }
+  }
+
+  @Benchmark
+  public int timeToFirstRequest() throws Exception {
+    int port;
+    try (ServerSocket serverSocket = new ServerSocket(0)) {
+      port = serverSocket.getLocalPort();
+    }
+    List<String> options = new ArrayList<>(List.of(
+        "-Dserver.port=" + port,
+        "-Dmanagement.health.db.enabled=false",
+        "-Dspring.main.lazy-initialization=" + lazyInitialization));
+    if (appCds) {
+      options.add("-XX:SharedArchiveFile=" + workDirectory.resolve("app.jsa"));
+    }
+    process = start(options);
+
+    HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health")).build();
+    long deadline = System.currentTimeMillis() + FIRST_REQUEST_TIMEOUT_MILLIS;
+    while (System.currentTimeMillis() < deadline) {
+      if (!process.isAlive()) {
+        throw new IllegalStateException("Application exited with code " + process.exitValue());
+      }
+      try {
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+      } catch (ConnectException exception) {
+        Thread.sleep(10);
+      }
+    }
+    throw new IllegalStateException("Application did not answer within " + FIRST_REQUEST_TIMEOUT_MILLIS + " ms");
+  }
+
+  private Process start(List<String> options) throws IOException {
+    List<String> command = new ArrayList<>();
+    command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+    command.addAll(options);
+    command.addAll(List.of(
+        "-XX:MaxRAMPercentage=75.0",
+        "-Dspring.profiles.active=prod,cds",
+        "-Dlogging.level.root=WARN",
+        "-cp", classpath,
+        FinancesApiApplication.class.getName()));
+
+    return new ProcessBuilder(command)
+        .redirectErrorStream(true)
+        .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+        .start();
+  }
+
+  private static void jar(Path directory, Path jarFile) throws IOException {
+    try (OutputStream outputStream = Files.newOutputStream(jarFile);
+         JarOutputStream jarOutputStream = new JarOutputStream(outputStream);
+         Stream<Path> paths = Files.walk(directory)) {
+      for (Path path : paths.filter(Files::isRegularFile).toList()) {
+        jarOutputStream.putNextEntry(new JarEntry(directory.relativize(path).toString().replace(File.separatorChar, '/')));
+        Files.copy(path, jarOutputStream);
+        jarOutputStream.closeEntry();
+      }
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(StartupBenchmark.class.getSimpleName())
+        .build()).run();
+  }
+
+}
@@ -0,0 +1,67 @@
+package br.com.emendes.financesapi.integration.authentication;
+
+import br.com.emendes.financesapi.util.component.SignIn;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.security.PublicKey;
+
+import static br.com.emendes.financesapi.util.constant.AuthenticationConstant.USER_EMAIL;
+import static br.com.emendes.financesapi.util.constant.AuthenticationConstant.USER_PASSWORD;
+import static br.com.emendes.financesapi.util.constant.SqlPath.INSERT_USER_SQL_PATH;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@ActiveProfiles("integration")
+@DisplayName("Integration tests for GET /.well-known/jwks.json")
+class JwksIT {
+
+  @Autowired
+  private TestRestTemplate testRestTemplate;
+
+  @Autowired
+  private SignIn signIn;
+
+  private final String URI = "/.well-known/jwks.json";
+
+  @Test
+  @DisplayName("jwks must return status 200 and public key that verifies access token without authentication")
+  @Sql(scripts = {INSERT_USER_SQL_PATH})
+  void jwks_MustReturnStatus200AndPublicKeyThatVerifiesAccessToken_WithoutAuthentication() {
+    String token = signIn.signIn(USER_EMAIL, USER_PASSWORD);
+
+    ResponseEntity<String> actualResponse = testRestTemplate.getForEntity(URI, String.class);
+
+    Assertions.assertThat(actualResponse.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
+    Assertions.assertThat(actualResponse.getHeaders().getCacheControl()).contains("public");
+    Assertions.assertThat(actualResponse.getHeaders().getETag()).isNotNull();
+
+    JwkSet jwkSet = Jwks.setParser().build().parse(actualResponse.getBody());
+    String subject = Jwts.parser()
+        .keyLocator(header -> jwkSet.getKeys().stream()
+            .filter(jwk -> jwk.getId().equals(((JwsHeader) header).getKeyId()))
+            .map(jwk -> (PublicKey) ((PublicJwk<?>) jwk).toKey())
+            .findFirst().orElseThrow())
+        .build()
+        .parseSignedClaims(token).getPayload().getSubject();
+    Assertions.assertThat(subject).isNotBlank();
+    Assertions.assertThat(actualResponse.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE))
+        .startsWith("application/jwk-set+json");
+  }
+
+}
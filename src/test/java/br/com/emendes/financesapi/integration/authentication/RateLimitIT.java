@@ -0,0 +1,58 @@
+package br.com.emendes.financesapi.integration.authentication;
+
+import br.com.emendes.financesapi.dto.problem.ProblemDetail;
+import br.com.emendes.financesapi.dto.request.SignInRequest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import static br.com.emendes.financesapi.util.constant.SqlPath.INSERT_USER_SQL_PATH;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {"financesapi.rate-limit.sign-in.capacity=2", "financesapi.rate-limit.sign-in.period=1h"})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@ActiveProfiles("integration")
+@DisplayName("Integration tests for rate limit of POST /api/auth/signin")
+class RateLimitIT {
+
+  @Autowired
+  private TestRestTemplate testRestTemplate;
+
+  private final String URI = "/api/auth/signin";
+
+  @Test
+  @DisplayName("sign in must returns status 429 and ProblemDetail when sign-in limit is exceeded")
+  @Sql(scripts = {INSERT_USER_SQL_PATH})
+  void signIn_MustReturnStatus429AndProblemDetail_WhenSignInLimitIsExceeded() {
+    HttpEntity<SignInRequest> bodyAndHeaders = new HttpEntity<>(SignInRequest.builder()
+        .email("john.doe@email.com")
+        .password("wrongpassword")
+        .build());
+
+    for (int i = 0; i < 2; i++) {
+      ResponseEntity<ProblemDetail> response =
+          testRestTemplate.exchange(URI, HttpMethod.POST, bodyAndHeaders, ProblemDetail.class);
+      Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(400));
+    }
+
+    ResponseEntity<ProblemDetail> actualResponse =
+        testRestTemplate.exchange(URI, HttpMethod.POST, bodyAndHeaders, ProblemDetail.class);
+
+    Assertions.assertThat(actualResponse.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(429));
+    Assertions.assertThat(actualResponse.getHeaders().getFirst("Retry-After")).isNotBlank();
+    Assertions.assertThat(actualResponse.getBody()).isNotNull();
+    Assertions.assertThat(actualResponse.getBody().getTitle()).isEqualTo("Too many requests");
+  }
+
+}
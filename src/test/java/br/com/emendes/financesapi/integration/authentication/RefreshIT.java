@@ -0,0 +1,94 @@
+package br.com.emendes.financesapi.integration.authentication;
+
+import br.com.emendes.financesapi.dto.problem.ProblemDetail;
+import br.com.emendes.financesapi.dto.request.RefreshTokenRequest;
+import br.com.emendes.financesapi.dto.response.TokenResponse;
+import br.com.emendes.financesapi.util.component.SignIn;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import static br.com.emendes.financesapi.util.constant.AuthenticationConstant.USER_EMAIL;
+import static br.com.emendes.financesapi.util.constant.AuthenticationConstant.USER_PASSWORD;
+import static br.com.emendes.financesapi.util.constant.SqlPath.INSERT_USER_SQL_PATH;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@ActiveProfiles("integration")
+@DisplayName("Integration tests for POST /api/auth/refresh")
+class RefreshIT {
+
+  @Autowired
+  private TestRestTemplate testRestTemplate;
+
+  @Autowired
+  private SignIn signIn;
+
+  private final String URI = "/api/auth/refresh";
+
+  @Test
+  @DisplayName("refresh must returns status 200 and a new TokenResponse when refresh token is valid")
+  @Sql(scripts = {INSERT_USER_SQL_PATH})
+  void refresh_MustReturnStatus200AndANewTokenResponse_WhenRefreshTokenIsValid() {
+    TokenResponse signInResponse = signIn.signInForTokens(USER_EMAIL, USER_PASSWORD);
+
+    ResponseEntity<TokenResponse> actualResponse = refresh(signInResponse.getRefreshToken(), TokenResponse.class);
+
+    TokenResponse actualResponseBody = actualResponse.getBody();
+
+    Assertions.assertThat(actualResponse.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
+    Assertions.assertThat(actualResponseBody).isNotNull();
+    Assertions.assertThat(actualResponseBody.getToken()).isNotBlank().isNotEqualTo(signInResponse.getToken());
+    Assertions.assertThat(actualResponseBody.getRefreshToken()).isNotBlank()
+        .isNotEqualTo(signInResponse.getRefreshToken());
+    Assertions.assertThat(actualResponseBody.getExpiresIn()).isEqualTo(86400L);
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setBearerAuth(actualResponseBody.getToken());
+    ResponseEntity<Void> categoriesResponse = testRestTemplate.exchange(
+        "/api/categories", HttpMethod.GET, new HttpEntity<>(headers), Void.class);
+    Assertions.assertThat(categoriesResponse.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
+  }
+
+  @Test
+  @DisplayName("refresh must returns status 401 and revoke the family when a rotated refresh token is reused")
+  @Sql(scripts = {INSERT_USER_SQL_PATH})
+  void refresh_MustReturnStatus401AndRevokeTheFamily_WhenARotatedRefreshTokenIsReused() {
+    String firstRefreshToken = signIn.signInForTokens(USER_EMAIL, USER_PASSWORD).getRefreshToken();
+    String secondRefreshToken = refresh(firstRefreshToken, TokenResponse.class).getBody().getRefreshToken();
+
+    ResponseEntity<ProblemDetail> reuseResponse = refresh(firstRefreshToken, ProblemDetail.class);
+
+    Assertions.assertThat(reuseResponse.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(401));
+    Assertions.assertThat(reuseResponse.getBody()).isNotNull();
+    Assertions.assertThat(reuseResponse.getBody().getTitle()).isEqualTo("Invalid refresh token");
+    Assertions.assertThat(reuseResponse.getBody().getDetail()).isEqualTo("Refresh token was revoked");
+
+    ResponseEntity<ProblemDetail> familyResponse = refresh(secondRefreshToken, ProblemDetail.class);
+    Assertions.assertThat(familyResponse.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(401));
+  }
+
+  @Test
+  @DisplayName("refresh must returns status 401 and ProblemDetail when refresh token does not exist")
+  void refresh_MustReturnStatus401AndProblemDetail_WhenRefreshTokenDoesNotExist() {
+    ResponseEntity<ProblemDetail> actualResponse = refresh("n0n3x1573n7", ProblemDetail.class);
+
+    Assertions.assertThat(actualResponse.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(401));
+    Assertions.assertThat(actualResponse.getBody()).isNotNull();
+    Assertions.assertThat(actualResponse.getBody().getTitle()).isEqualTo("Invalid refresh token");
+    Assertions.assertThat(actualResponse.getBody().getDetail()).isEqualTo("Refresh token not found");
+  }
+
+  private <T> ResponseEntity<T> refresh(String refreshToken, Class<T> responseType) {
+    HttpEntity<RefreshTokenRequest> bodyAndHeaders = new HttpEntity<>(new RefreshTokenRequest(refreshToken));
+    return testRestTemplate.exchange(URI, HttpMethod.POST, bodyAndHeaders, responseType);
+  }
+
+}
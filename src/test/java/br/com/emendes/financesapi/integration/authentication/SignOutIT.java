@@ -0,0 +1,57 @@
+package br.com.emendes.financesapi.integration.authentication;
+
+import br.com.emendes.financesapi.dto.request.RefreshTokenRequest;
+import br.com.emendes.financesapi.dto.response.TokenResponse;
+import br.com.emendes.financesapi.util.component.SignIn;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import static br.com.emendes.financesapi.util.constant.AuthenticationConstant.USER_EMAIL;
+import static br.com.emendes.financesapi.util.constant.AuthenticationConstant.USER_PASSWORD;
+import static br.com.emendes.financesapi.util.constant.SqlPath.INSERT_USER_SQL_PATH;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@ActiveProfiles("integration")
+@DisplayName("Integration tests for POST /api/auth/signout")
+class SignOutIT {
+
+  @Autowired
+  private TestRestTemplate testRestTemplate;
+
+  @Autowired
+  private SignIn signIn;
+
+  private final String URI = "/api/auth/signout";
+
+  @Test
+  @DisplayName("signOut must returns status 204 and revoke access token and refresh token when sign out successfully")
+  @Sql(scripts = {INSERT_USER_SQL_PATH})
+  void signOut_MustReturnStatus204AndRevokeAccessTokenAndRefreshToken_WhenSignOutSuccessfully() {
+    TokenResponse tokenResponse = signIn.signInForTokens(USER_EMAIL, USER_PASSWORD);
+    HttpHeaders headers = new HttpHeaders();
+    headers.setBearerAuth(tokenResponse.getToken());
+
+    ResponseEntity<Void> actualResponse = testRestTemplate.exchange(URI, HttpMethod.POST,
+        new HttpEntity<>(new RefreshTokenRequest(tokenResponse.getRefreshToken()), headers), Void.class);
+
+    Assertions.assertThat(actualResponse.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(204));
+
+    ResponseEntity<Void> categoriesResponse = testRestTemplate.exchange(
+        "/api/categories", HttpMethod.GET, new HttpEntity<>(headers), Void.class);
+    Assertions.assertThat(categoriesResponse.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(401));
+
+    ResponseEntity<Void> refreshResponse = testRestTemplate.exchange("/api/auth/refresh", HttpMethod.POST,
+        new HttpEntity<>(new RefreshTokenRequest(tokenResponse.getRefreshToken())), Void.class);
+    Assertions.assertThat(refreshResponse.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(401));
+  }
+
+}
@@ -3,6 +3,7 @@ package br.com.emendes.financesapi.integration.expense;
 import br.com.emendes.financesapi.dto.problem.ValidationProblemDetail;
 import br.com.emendes.financesapi.dto.request.ExpenseRequest;
 import br.com.emendes.financesapi.dto.response.ExpenseResponse;
+import br.com.emendes.financesapi.model.Money;
 import br.com.emendes.financesapi.util.component.SignIn;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +21,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 import static br.com.emendes.financesapi.util.constant.AuthenticationConstant.USER_EMAIL;
 import static br.com.emendes.financesapi.util.constant.AuthenticationConstant.USER_PASSWORD;
@@ -45,7 +47,7 @@ class CreateIT {
     ExpenseRequest expenseRequest = ExpenseRequest.builder()
         .description("Aluguel")
         .value(new BigDecimal("1500.00"))
-        .date("2023-02-05")
+        .date(LocalDate.parse("2023-02-05"))
         .category("MORADIA")
         .build();
 
@@ -64,8 +66,8 @@ class CreateIT {
     Assertions.assertThat(actualResponseBody.getId()).isNotNull();
     Assertions.assertThat(actualResponseBody.getDescription()).isEqualTo("Aluguel");
     Assertions.assertThat(actualResponseBody.getDate()).isEqualTo("2023-02-05");
-    Assertions.assertThat(actualResponseBody.getValue()).isEqualTo("1500.00");
-    Assertions.assertThat(actualResponseBody.getCategory().name()).isEqualTo("MORADIA");
+    Assertions.assertThat(actualResponseBody.getValue()).isEqualTo(Money.of(new BigDecimal("1500.00")));
+    Assertions.assertThat(actualResponseBody.getCategory()).isEqualTo("MORADIA");
   }
 
   @Test
@@ -84,8 +86,8 @@ class CreateIT {
   void create_MustReturnStatus400AndValidationProblemDetail_WhenRequestBodyIsInvalid() {
     ExpenseRequest expenseRequest = ExpenseRequest.builder()
         .description("")
-        .value(new BigDecimal("150000000.00"))
-        .date("05/02/2023")
+        .value(new BigDecimal("1500000000000.00"))
+        .date(null)
         .category("  ")
         .build();
 
@@ -106,8 +108,8 @@ class CreateIT {
     Assertions.assertThat(actualResponseBody.getFields()).contains("description", "value", "date", "category");
     Assertions.assertThat(actualResponseBody.getMessages()).contains(
         "description must not be null or blank",
-        "Integer part must be max 6 digits and fraction part must be max 2 digits",
-        "Invalid date", "category must not be null or blank");
+        "Integer part must be max 12 digits and fraction part must be max 2 digits",
+        "date must not be null", "category must not be null or blank");
   }
 
 }
@@ -4,6 +4,7 @@ import br.com.emendes.financesapi.dto.problem.ProblemDetail;
 import br.com.emendes.financesapi.dto.problem.ValidationProblemDetail;
 import br.com.emendes.financesapi.dto.request.ExpenseRequest;
 import br.com.emendes.financesapi.dto.response.ExpenseResponse;
+import br.com.emendes.financesapi.model.Money;
 import br.com.emendes.financesapi.util.component.SignIn;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +22,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 import static br.com.emendes.financesapi.util.constant.AuthenticationConstant.USER_EMAIL;
 import static br.com.emendes.financesapi.util.constant.AuthenticationConstant.USER_PASSWORD;
@@ -46,7 +48,7 @@ class UpdateIT {
     ExpenseRequest expenseRequest = ExpenseRequest.builder()
         .description("Aluguel")
         .value(new BigDecimal("1800.00"))
-        .date("2023-02-05")
+        .date(LocalDate.parse("2023-02-05"))
         .category("MORADIA")
         .build();
 
@@ -64,7 +66,7 @@ class UpdateIT {
     Assertions.assertThat(actualResponseBody).isNotNull();
     Assertions.assertThat(actualResponseBody.getId()).isEqualTo(1L);
     Assertions.assertThat(actualResponseBody.getDescription()).isEqualTo("Aluguel");
-    Assertions.assertThat(actualResponseBody.getValue()).isEqualTo("1800.00");
+    Assertions.assertThat(actualResponseBody.getValue()).isEqualTo(Money.of(new BigDecimal("1800.00")));
   }
 
   @Test
@@ -74,7 +76,7 @@ class UpdateIT {
     ExpenseRequest expenseRequest = ExpenseRequest.builder()
         .description("")
         .value(new BigDecimal("-1800.00"))
-        .date("2023/02/05")
+        .date(null)
         .category("  ")
         .build();
 
@@ -94,7 +96,7 @@ class UpdateIT {
     Assertions.assertThat(actualResponseBody.getDetail()).isEqualTo("Some fields are invalid");
     Assertions.assertThat(actualResponseBody.getFields()).contains("description", "value", "date", "category");
     Assertions.assertThat(actualResponseBody.getMessages())
-        .contains("description must not be null or blank", "Invalid date",
+        .contains("description must not be null or blank", "date must not be null",
             "value must be positive", "category must not be null or blank");
   }
 
@@ -105,7 +107,7 @@ class UpdateIT {
     ExpenseRequest expenseRequest = ExpenseRequest.builder()
         .description("Aluguel")
         .value(new BigDecimal("1800.00"))
-        .date("2023-02-05")
+        .date(LocalDate.parse("2023-02-05"))
         .category("MORADIA")
         .build();
 
@@ -145,7 +147,7 @@ class UpdateIT {
     ExpenseRequest expenseRequest = ExpenseRequest.builder()
         .description("Aluguel")
         .value(new BigDecimal("1800.00"))
-        .date("2023-02-05")
+        .date(LocalDate.parse("2023-02-05"))
         .category("MORADIA")
         .build();
 
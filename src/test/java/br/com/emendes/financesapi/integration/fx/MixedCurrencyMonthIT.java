@@ -0,0 +1,79 @@
+package br.com.emendes.financesapi.integration.fx;
+
+import br.com.emendes.financesapi.dto.response.BudgetResponse;
+import br.com.emendes.financesapi.dto.response.CategoryTrendResponse;
+import br.com.emendes.financesapi.dto.response.CategoryTrendsResponse;
+import br.com.emendes.financesapi.dto.response.SummaryResponse;
+import br.com.emendes.financesapi.dto.response.ValueByCategoryResponse;
+import br.com.emendes.financesapi.model.Money;
+import br.com.emendes.financesapi.util.component.SignIn;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static br.com.emendes.financesapi.util.constant.AuthenticationConstant.USER_EMAIL;
+import static br.com.emendes.financesapi.util.constant.AuthenticationConstant.USER_PASSWORD;
+import static br.com.emendes.financesapi.util.constant.SqlPath.INSERT_MIXED_CURRENCY_MONTH;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@ActiveProfiles("integration")
+@DisplayName("Integration tests for totals of a month with expenses in multiple currencies")
+class MixedCurrencyMonthIT {
+
+  @Autowired
+  private TestRestTemplate testRestTemplate;
+  @Autowired
+  private SignIn signIn;
+
+  @Test
+  @DisplayName("budget, summary and category trends must return same category total when rates differ across month")
+  @Sql(scripts = {INSERT_MIXED_CURRENCY_MONTH})
+  void budgetSummaryAndCategoryTrends_MustReturnSameCategoryTotal_WhenRatesDifferAcrossMonth() {
+    HttpEntity<Void> requestEntity = new HttpEntity<>(signIn.generateAuthorizationHeader(USER_EMAIL, USER_PASSWORD));
+
+    ResponseEntity<List<BudgetResponse>> budgetResponse = testRestTemplate.exchange(
+        "/api/budgets/2023/02", HttpMethod.GET, requestEntity, new ParameterizedTypeReference<>() {
+        });
+    ResponseEntity<SummaryResponse> summaryResponse = testRestTemplate.exchange(
+        "/api/summaries/2023/02", HttpMethod.GET, requestEntity, new ParameterizedTypeReference<>() {
+        });
+    ResponseEntity<CategoryTrendsResponse> trendsResponse = testRestTemplate.exchange(
+        "/api/analytics/categories?from=2023-02&to=2023-02", HttpMethod.GET, requestEntity,
+        new ParameterizedTypeReference<>() {
+        });
+
+    Assertions.assertThat(budgetResponse.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
+    Assertions.assertThat(summaryResponse.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
+    Assertions.assertThat(trendsResponse.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
+    Assertions.assertThat(budgetResponse.getBody()).isNotNull();
+    Assertions.assertThat(summaryResponse.getBody()).isNotNull();
+    Assertions.assertThat(trendsResponse.getBody()).isNotNull();
+
+    Assertions.assertThat(budgetResponse.getBody())
+        .extracting(BudgetResponse::getCategory, BudgetResponse::getSpent, BudgetResponse::isExceeded)
+        .containsExactly(Assertions.tuple("ALIMENTACAO", new BigDecimal("1410.00"), true));
+    Assertions.assertThat(summaryResponse.getBody().getValuesByCategory())
+        .filteredOn(value -> value.getCategory().equals("ALIMENTACAO"))
+        .extracting(ValueByCategoryResponse::getValue)
+        .containsExactly(Money.of(new BigDecimal("1410.00")));
+    Assertions.assertThat(trendsResponse.getBody().getCategories())
+        .extracting(CategoryTrendResponse::getCategory, CategoryTrendResponse::getTotal)
+        .containsExactly(Assertions.tuple("ALIMENTACAO", Money.of(new BigDecimal("1410.00"))));
+  }
+
+}
@@ -3,6 +3,7 @@ package br.com.emendes.financesapi.integration.income;
 import br.com.emendes.financesapi.dto.problem.ValidationProblemDetail;
 import br.com.emendes.financesapi.dto.request.IncomeRequest;
 import br.com.emendes.financesapi.dto.response.IncomeResponse;
+import br.com.emendes.financesapi.model.Money;
 import br.com.emendes.financesapi.util.component.SignIn;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +21,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 import static br.com.emendes.financesapi.util.constant.AuthenticationConstant.USER_EMAIL;
 import static br.com.emendes.financesapi.util.constant.AuthenticationConstant.USER_PASSWORD;
@@ -45,7 +47,7 @@ class CreateIT {
     IncomeRequest incomeRequest = IncomeRequest.builder()
         .description("Salário")
         .value(new BigDecimal("2500.00"))
-        .date("2023-02-05")
+        .date(LocalDate.parse("2023-02-05"))
         .build();
 
     HttpEntity<IncomeRequest> requestEntity = new HttpEntity<>(
@@ -63,7 +65,7 @@ class CreateIT {
     Assertions.assertThat(actualResponseBody.getId()).isNotNull();
     Assertions.assertThat(actualResponseBody.getDescription()).isEqualTo("Salário");
     Assertions.assertThat(actualResponseBody.getDate()).isEqualTo("2023-02-05");
-    Assertions.assertThat(actualResponseBody.getValue()).isEqualTo("2500.00");
+    Assertions.assertThat(actualResponseBody.getValue()).isEqualTo(Money.of(new BigDecimal("2500.00")));
   }
 
   @Test
@@ -72,7 +74,7 @@ class CreateIT {
     IncomeRequest incomeRequest = IncomeRequest.builder()
         .description("Salário")
         .value(new BigDecimal("2500.00"))
-        .date("2023-02-05")
+        .date(LocalDate.parse("2023-02-05"))
         .build();
 
     HttpEntity<IncomeRequest> requestEntity = new HttpEntity<>(incomeRequest);
@@ -90,8 +92,8 @@ class CreateIT {
   void create_MustReturnStatus400AndValidationProblemDetail_WhenRequestBodyIsInvalid() {
     IncomeRequest incomeRequest = IncomeRequest.builder()
         .description("")
-        .value(new BigDecimal("150000000.00"))
-        .date("05/02/2023")
+        .value(new BigDecimal("1500000000000.00"))
+        .date(null)
         .build();
 
     HttpEntity<IncomeRequest> requestEntity = new HttpEntity<>(
@@ -111,8 +113,8 @@ class CreateIT {
     Assertions.assertThat(actualResponseBody.getFields()).contains("description", "value", "date");
     Assertions.assertThat(actualResponseBody.getMessages()).contains(
         "description must not be null or blank",
-        "Integer part must be max 6 digits and fraction part must be max 2 digits",
-        "Invalid date");
+        "Integer part must be max 12 digits and fraction part must be max 2 digits",
+        "date must not be null");
   }
 
 }
@@ -4,6 +4,7 @@ import br.com.emendes.financesapi.dto.problem.ProblemDetail;
 import br.com.emendes.financesapi.dto.problem.ValidationProblemDetail;
 import br.com.emendes.financesapi.dto.request.IncomeRequest;
 import br.com.emendes.financesapi.dto.response.IncomeResponse;
+import br.com.emendes.financesapi.model.Money;
 import br.com.emendes.financesapi.util.component.SignIn;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +22,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 import static br.com.emendes.financesapi.util.constant.AuthenticationConstant.USER_EMAIL;
 import static br.com.emendes.financesapi.util.constant.AuthenticationConstant.USER_PASSWORD;
@@ -46,7 +48,7 @@ class UpdateIT {
     IncomeRequest incomeRequest = IncomeRequest.builder()
         .description("Salário")
         .value(new BigDecimal("3000.00"))
-        .date("2023-02-05")
+        .date(LocalDate.parse("2023-02-05"))
         .build();
 
     HttpEntity<IncomeRequest> requestEntity =
@@ -63,7 +65,7 @@ class UpdateIT {
     Assertions.assertThat(actualResponseBody).isNotNull();
     Assertions.assertThat(actualResponseBody.getId()).isEqualTo(1L);
     Assertions.assertThat(actualResponseBody.getDescription()).isEqualTo("Salário");
-    Assertions.assertThat(actualResponseBody.getValue()).isEqualTo("3000.00");
+    Assertions.assertThat(actualResponseBody.getValue()).isEqualTo(Money.of(new BigDecimal("3000.00")));
   }
 
   @Test
@@ -73,7 +75,7 @@ class UpdateIT {
     IncomeRequest incomeRequest = IncomeRequest.builder()
         .description("")
         .value(new BigDecimal("-2500.00"))
-        .date("2023/02/05")
+        .date(null)
         .build();
 
     HttpEntity<IncomeRequest> requestEntity =
@@ -92,7 +94,7 @@ class UpdateIT {
     Assertions.assertThat(actualResponseBody.getDetail()).isEqualTo("Some fields are invalid");
     Assertions.assertThat(actualResponseBody.getFields()).contains("description", "value", "date");
     Assertions.assertThat(actualResponseBody.getMessages())
-        .contains("description must not be null or blank", "Invalid date", "value must be positive");
+        .contains("description must not be null or blank", "date must not be null", "value must be positive");
   }
 
   @Test
@@ -102,7 +104,7 @@ class UpdateIT {
     IncomeRequest incomeRequest = IncomeRequest.builder()
         .description("Salário")
         .value(new BigDecimal("3000.00"))
-        .date("2023-02-05")
+        .date(LocalDate.parse("2023-02-05"))
         .build();
 
     HttpEntity<IncomeRequest> requestEntity =
@@ -141,7 +143,7 @@ class UpdateIT {
     IncomeRequest incomeRequest = IncomeRequest.builder()
         .description("Salário")
         .value(new BigDecimal("1800.00"))
-        .date("2023-02-05")
+        .date(LocalDate.parse("2023-02-05"))
         .build();
 
     HttpEntity<IncomeRequest> requestEntity =
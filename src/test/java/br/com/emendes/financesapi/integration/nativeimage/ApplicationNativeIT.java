@@ -0,0 +1,88 @@
+package br.com.emendes.financesapi.integration.nativeimage;
+
+import br.com.emendes.financesapi.dto.request.IncomeRequest;
+import br.com.emendes.financesapi.dto.response.IncomeResponse;
+import br.com.emendes.financesapi.model.Money;
+import br.com.emendes.financesapi.util.component.SignIn;
+import br.com.emendes.financesapi.util.wrapper.PageableResponse;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.*;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static br.com.emendes.financesapi.util.constant.AuthenticationConstant.USER_EMAIL;
+import static br.com.emendes.financesapi.util.constant.AuthenticationConstant.USER_PASSWORD;
+import static br.com.emendes.financesapi.util.constant.SqlPath.INSERT_USER_SQL_PATH;
+
+/**
+ * Exercita na imagem nativa o que depende dos hints de FinancesApiRuntimeHints: JJWT no sign in, Hibernate com
+ * MoneyType e a função unaccent de SQLFunctionContributor, e o springdoc. Executar com
+ * {@code mvn -PnativeTest,native-integration-tests test} (requer GraalVM e Docker), também roda na JVM com o profile
+ * integration-tests.
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "springdoc.api-docs.path=/api-docs")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@ActiveProfiles("integration")
+@DisplayName("Native image integration tests")
+class ApplicationNativeIT {
+
+  @Autowired
+  private TestRestTemplate testRestTemplate;
+  @Autowired
+  private SignIn signIn;
+
+  @Test
+  @DisplayName("application must create and search incomes when user is authenticated")
+  @Sql(scripts = {INSERT_USER_SQL_PATH})
+  void application_MustCreateAndSearchIncomes_WhenUserIsAuthenticated() {
+    HttpHeaders headers = signIn.generateAuthorizationHeader(USER_EMAIL, USER_PASSWORD);
+    IncomeRequest incomeRequest = IncomeRequest.builder()
+        .description("Salário")
+        .value(new BigDecimal("2500.00"))
+        .date(LocalDate.parse("2023-02-05"))
+        .build();
+
+    ResponseEntity<IncomeResponse> createResponse = testRestTemplate.exchange(
+        "/api/incomes", HttpMethod.POST, new HttpEntity<>(incomeRequest, headers),
+        new ParameterizedTypeReference<>() {
+        });
+    ResponseEntity<PageableResponse<IncomeResponse>> searchResponse = testRestTemplate.exchange(
+        "/api/incomes?description=salario", HttpMethod.GET, new HttpEntity<>(headers),
+        new ParameterizedTypeReference<>() {
+        });
+
+    Assertions.assertThat(createResponse.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(201));
+    Assertions.assertThat(searchResponse.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
+    Assertions.assertThat(searchResponse.getBody()).isNotNull();
+    Assertions.assertThat(searchResponse.getBody().getContent())
+        .singleElement()
+        .satisfies(income -> {
+          Assertions.assertThat(income.getDescription()).isEqualTo("Salário");
+          Assertions.assertThat(income.getValue()).isEqualTo(Money.of(new BigDecimal("2500.00")));
+        });
+  }
+
+  @Test
+  @DisplayName("api-docs must return OpenAPI document with annotated operations")
+  void apiDocs_MustReturnOpenAPIDocumentWithAnnotatedOperations() {
+    ResponseEntity<String> actualResponse = testRestTemplate.getForEntity("/api-docs", String.class);
+
+    Assertions.assertThat(actualResponse.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
+    Assertions.assertThat(actualResponse.getBody())
+        .contains("\"/api/incomes\"")
+        .contains("\"Finances API\"");
+  }
+
+}
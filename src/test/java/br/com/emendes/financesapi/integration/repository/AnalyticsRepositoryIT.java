@@ -0,0 +1,249 @@
+package br.com.emendes.financesapi.integration.repository;
+
+import br.com.emendes.financesapi.repository.AnalyticsRepository;
+import br.com.emendes.financesapi.repository.projection.BalancePoint;
+import br.com.emendes.financesapi.repository.projection.CategoryMonthTotal;
+import br.com.emendes.financesapi.repository.projection.MonthlyNet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+import org.springframework.test.context.jdbc.SqlMergeMode;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static br.com.emendes.financesapi.util.constant.SqlPath.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Integration tests da camada analytics repository interagindo com o banco de dados.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("repository-it")
+@DisplayName("Integration tests for AnalyticsRepository")
+@SqlGroup({
+    @Sql(scripts = {DROP_DATABASE_TABLES_SQL_PATH, CREATE_DATABASE_TABLES_SQL_PATH})
+})
+class AnalyticsRepositoryIT {
+
+  private static final LocalDate FIRST_RATE_DATE = LocalDate.parse("2023-02-05");
+  private static final LocalDate LAST_RATE_DATE = LocalDate.parse("2023-02-07");
+
+  @Autowired
+  private AnalyticsRepository analyticsRepository;
+
+  @Nested
+  @DisplayName("FindNetByMonth method")
+  class FindNetByMonthMethod {
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_TRANSACTIONS_IN_MULTIPLE_CURRENCIES)
+    @Test
+    @DisplayName("findNetByMonth must return converted net of each month with transactions when user has transactions")
+    void findNetByMonth_MustReturnConvertedNetOfEachMonthWithTransactions_WhenUserHasTransactions() {
+      List<MonthlyNet> actualNets = analyticsRepository.findNetByMonth(1L, "BRL", FIRST_RATE_DATE, LAST_RATE_DATE,
+          LocalDate.parse("0001-01-01"), LocalDate.parse("2023-04-01"));
+
+      assertThat(actualNets).hasSize(1);
+      assertThat(actualNets.get(0).getMonth()).isEqualTo("2023-02-01");
+      assertThat(actualNets.get(0).getNet()).isEqualByComparingTo("1469.00");
+    }
+
+  }
+
+  @Nested
+  @DisplayName("GetNetBetween method")
+  class GetNetBetweenMethod {
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_TRANSACTIONS_IN_MULTIPLE_CURRENCIES)
+    @Test
+    @DisplayName("getNetBetween must return net of transactions before end when period has transactions")
+    void getNetBetween_MustReturnNetOfTransactionsBeforeEnd_WhenPeriodHasTransactions() {
+      BigDecimal actualNet = analyticsRepository.getNetBetween(1L, "BRL", FIRST_RATE_DATE, LAST_RATE_DATE,
+          LocalDate.parse("2023-02-01"), LocalDate.parse("2023-02-06"));
+
+      assertThat(actualNet).isEqualByComparingTo("1000.00");
+    }
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_TRANSACTIONS_IN_MULTIPLE_CURRENCIES)
+    @Test
+    @DisplayName("getNetBetween must return zero when user has no transactions")
+    void getNetBetween_MustReturnZero_WhenUserHasNoTransactions() {
+      BigDecimal actualNet = analyticsRepository.getNetBetween(2L, "BRL", FIRST_RATE_DATE, LAST_RATE_DATE,
+          LocalDate.parse("2023-02-01"), LocalDate.parse("2023-03-01"));
+
+      assertThat(actualNet).isEqualByComparingTo("0");
+    }
+
+  }
+
+  @Nested
+  @DisplayName("FindBalanceSeries method")
+  class FindBalanceSeriesMethod {
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_TRANSACTIONS_IN_MULTIPLE_CURRENCIES)
+    @Test
+    @DisplayName("findBalanceSeries must return one point per day with running balance when granularity is day")
+    void findBalanceSeries_MustReturnOnePointPerDayWithRunningBalance_WhenGranularityIsDay() {
+      List<BalancePoint> actualPoints = analyticsRepository.findBalanceSeries(1L, "BRL", FIRST_RATE_DATE,
+          LAST_RATE_DATE, "day", LocalDate.parse("2023-02-05"), LocalDate.parse("2023-02-08"),
+          new BigDecimal("100.00"));
+
+      assertThat(actualPoints).hasSize(3);
+      assertThat(actualPoints.get(0).getPeriod()).isEqualTo("2023-02-05");
+      assertThat(actualPoints.get(0).getIncome()).isEqualByComparingTo("2500.00");
+      assertThat(actualPoints.get(0).getExpense()).isEqualByComparingTo("1500.00");
+      assertThat(actualPoints.get(0).getBalance()).isEqualByComparingTo("1100.00");
+      assertThat(actualPoints.get(1).getIncome()).isEqualByComparingTo("1040.00");
+      assertThat(actualPoints.get(1).getExpense()).isEqualByComparingTo("520.00");
+      assertThat(actualPoints.get(1).getBalance()).isEqualByComparingTo("1620.00");
+      assertThat(actualPoints.get(2).getPeriod()).isEqualTo("2023-02-07");
+      assertThat(actualPoints.get(2).getIncome()).isEqualByComparingTo("0");
+      assertThat(actualPoints.get(2).getBalance()).isEqualByComparingTo("1620.00");
+    }
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_TRANSACTIONS_IN_MULTIPLE_CURRENCIES)
+    @Test
+    @DisplayName("findBalanceSeries must return points starting on monday when granularity is week")
+    void findBalanceSeries_MustReturnPointsStartingOnMonday_WhenGranularityIsWeek() {
+      List<BalancePoint> actualPoints = analyticsRepository.findBalanceSeries(1L, "BRL", FIRST_RATE_DATE,
+          LAST_RATE_DATE, "week", LocalDate.parse("2023-02-06"), LocalDate.parse("2023-02-21"),
+          new BigDecimal("1000.00"));
+
+      assertThat(actualPoints).extracting(BalancePoint::getPeriod)
+          .containsExactly(LocalDate.parse("2023-02-06"), LocalDate.parse("2023-02-13"),
+              LocalDate.parse("2023-02-20"));
+      assertThat(actualPoints.get(0).getBalance()).isEqualByComparingTo("1520.00");
+      assertThat(actualPoints.get(2).getExpense()).isEqualByComparingTo("51.00");
+      assertThat(actualPoints.get(2).getBalance()).isEqualByComparingTo("1469.00");
+    }
+
+  }
+
+  @Nested
+  @DisplayName("FindCategoryTotalsByMonth method")
+  class FindCategoryTotalsByMonthMethod {
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_EXPENSES_BY_CATEGORY)
+    @Test
+    @DisplayName("findCategoryTotalsByMonth must return converted totals by category and month when period has expenses")
+    void findCategoryTotalsByMonth_MustReturnConvertedTotalsByCategoryAndMonth_WhenPeriodHasExpenses() {
+      List<CategoryMonthTotal> actualTotals = analyticsRepository.findCategoryTotalsByMonth(1L, "BRL",
+          FIRST_RATE_DATE, LAST_RATE_DATE, LocalDate.parse("2023-02-01"), LocalDate.parse("2023-04-01"));
+
+      assertThat(actualTotals)
+          .extracting(CategoryMonthTotal::getCategory, CategoryMonthTotal::getMonth)
+          .containsExactly(
+              tuple("ALIMENTACAO", LocalDate.parse("2023-02-01")),
+              tuple("ALIMENTACAO", LocalDate.parse("2023-03-01")),
+              tuple("MORADIA", LocalDate.parse("2023-02-01")));
+      assertThat(actualTotals.get(0).getTotal()).isEqualByComparingTo("805.00");
+      assertThat(actualTotals.get(1).getTotal()).isEqualByComparingTo("200.00");
+      assertThat(actualTotals.get(2).getTotal()).isEqualByComparingTo("1500.00");
+    }
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_EXPENSES_BY_CATEGORY)
+    @Test
+    @DisplayName("findCategoryTotalsByMonth must convert each expense with rate of its date when currency is USD")
+    void findCategoryTotalsByMonth_MustConvertEachExpenseWithRateOfItsDate_WhenCurrencyIsUSD() {
+      List<CategoryMonthTotal> actualTotals = analyticsRepository.findCategoryTotalsByMonth(1L, "USD",
+          FIRST_RATE_DATE, LAST_RATE_DATE, LocalDate.parse("2023-02-01"), LocalDate.parse("2023-03-01"));
+
+      assertThat(actualTotals).extracting(CategoryMonthTotal::getCategory)
+          .containsExactly("ALIMENTACAO", "MORADIA");
+      assertThat(actualTotals.get(0).getTotal()).isEqualByComparingTo("160.00");
+      assertThat(actualTotals.get(1).getTotal()).isEqualByComparingTo("300.00");
+    }
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_EXPENSES_BY_CATEGORY)
+    @Test
+    @DisplayName("findCategoryTotalsByMonth must return empty list when user has no expenses")
+    void findCategoryTotalsByMonth_MustReturnEmptyList_WhenUserHasNoExpenses() {
+      List<CategoryMonthTotal> actualTotals = analyticsRepository.findCategoryTotalsByMonth(2L, "BRL",
+          FIRST_RATE_DATE, LAST_RATE_DATE, LocalDate.parse("2023-01-01"), LocalDate.parse("2024-01-01"));
+
+      assertThat(actualTotals).isEmpty();
+    }
+
+  }
+
+  @Nested
+  @DisplayName("FindBaseCurrencyCategoryTotalsByMonth method")
+  class FindBaseCurrencyCategoryTotalsByMonthMethod {
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_EXPENSES_BY_CATEGORY)
+    @Test
+    @DisplayName("findBaseCurrencyCategoryTotalsByMonth must return rollup totals by category and month")
+    void findBaseCurrencyCategoryTotalsByMonth_MustReturnRollupTotalsByCategoryAndMonth() {
+      List<CategoryMonthTotal> actualTotals = analyticsRepository.findBaseCurrencyCategoryTotalsByMonth(1L,
+          LocalDate.parse("2023-02-01"), LocalDate.parse("2023-04-01"));
+
+      // Os mesmos totais de findCategoryTotalsByMonth em BRL.
+      assertThat(actualTotals)
+          .extracting(CategoryMonthTotal::getCategory, CategoryMonthTotal::getMonth)
+          .containsExactly(
+              tuple("ALIMENTACAO", LocalDate.parse("2023-02-01")),
+              tuple("ALIMENTACAO", LocalDate.parse("2023-03-01")),
+              tuple("MORADIA", LocalDate.parse("2023-02-01")));
+      assertThat(actualTotals.get(0).getTotal()).isEqualByComparingTo("805.00");
+      assertThat(actualTotals.get(1).getTotal()).isEqualByComparingTo("200.00");
+      assertThat(actualTotals.get(2).getTotal()).isEqualByComparingTo("1500.00");
+    }
+
+  }
+
+  @Nested
+  @DisplayName("GetVersionByUser method")
+  class GetVersionByUserMethod {
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_TRANSACTIONS_IN_MULTIPLE_CURRENCIES)
+    @Test
+    @DisplayName("getVersionByUser must return zero when user has no transactions")
+    void getVersionByUser_MustReturnZero_WhenUserHasNoTransactions() {
+      assertThat(analyticsRepository.getVersionByUser(2L)).isZero();
+    }
+
+  }
+
+  @Nested
+  @DisplayName("GetFirstMonthChangedAfter method")
+  class GetFirstMonthChangedAfterMethod {
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_TRANSACTION_MONTH_CHANGES)
+    @Test
+    @DisplayName("getFirstMonthChangedAfter must return first month with change_seq greater than version")
+    void getFirstMonthChangedAfter_MustReturnFirstMonthWithChangeSeqGreaterThanVersion() {
+      assertThat(analyticsRepository.getFirstMonthChangedAfter(1L, 8L)).isEqualTo("2023-02-01");
+      assertThat(analyticsRepository.getFirstMonthChangedAfter(1L, 2L)).isEqualTo("2023-01-01");
+    }
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_TRANSACTION_MONTH_CHANGES)
+    @Test
+    @DisplayName("getFirstMonthChangedAfter must return null when no month changed after version")
+    void getFirstMonthChangedAfter_MustReturnNull_WhenNoMonthChangedAfterVersion() {
+      assertThat(analyticsRepository.getFirstMonthChangedAfter(1L, 12L)).isNull();
+    }
+
+  }
+
+}
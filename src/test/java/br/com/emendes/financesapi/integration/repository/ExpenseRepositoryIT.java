@@ -1,7 +1,8 @@
 package br.com.emendes.financesapi.integration.repository;
 
+import br.com.emendes.financesapi.dto.response.ExpenseResponse;
 import br.com.emendes.financesapi.dto.response.ValueByCategoryResponse;
-import br.com.emendes.financesapi.model.Category;
+import br.com.emendes.financesapi.model.Money;
 import br.com.emendes.financesapi.model.entity.Expense;
 import br.com.emendes.financesapi.model.entity.User;
 import br.com.emendes.financesapi.repository.ExpenseRepository;
@@ -11,19 +12,23 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlGroup;
 import org.springframework.test.context.jdbc.SqlMergeMode;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static br.com.emendes.financesapi.util.constant.ConstantForTesting.PAGEABLE;
 import static br.com.emendes.financesapi.util.constant.SqlPath.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 /**
  * Integration tests da camada expense repository interagindo com o banco de dados.
@@ -39,6 +44,8 @@ class ExpenseRepositoryIT {
 
   @Autowired
   private ExpenseRepository expenseRepository;
+  @Autowired
+  private TestEntityManager entityManager;
 
   @Nested
   @DisplayName("FindAllByUser method")
@@ -51,7 +58,7 @@ class ExpenseRepositoryIT {
     void findAllByUser_MustReturnPageWithTwoExpenses_WhenFoundExpensesForGivenUser() {
       User user = User.builder().id(1L).build();
 
-      Page<Expense> actualExpensePage = expenseRepository.findAllByUser(user, PAGEABLE);
+      Page<ExpenseResponse> actualExpensePage = expenseRepository.findAllByUser(user, PAGEABLE);
 
       assertThat(actualExpensePage).isNotNull().hasSize(2);
     }
@@ -63,7 +70,7 @@ class ExpenseRepositoryIT {
     void findAllByUser_MustReturnEmptyPage_WhenNotFoundExpensesForGivenUser() {
       User user = User.builder().id(1L).build();
 
-      Page<Expense> actualExpensePage = expenseRepository.findAllByUser(user, PAGEABLE);
+      Page<ExpenseResponse> actualExpensePage = expenseRepository.findAllByUser(user, PAGEABLE);
 
       assertThat(actualExpensePage).isNotNull().isEmpty();
     }
@@ -81,10 +88,10 @@ class ExpenseRepositoryIT {
     void findByDescriptionAndUser_MustReturnPageWithThreeExpenses_WhenFoundForGivenUserAndDescriptionMerc() {
       User user = User.builder().id(1L).build();
 
-      Page<Expense> actualExpensePage = expenseRepository.findByDescriptionAndUser("merc", user, PAGEABLE);
+      Page<ExpenseResponse> actualExpensePage = expenseRepository.findByDescriptionAndUser("merc", user, PAGEABLE);
       assertThat(actualExpensePage).isNotNull().hasSize(3);
 
-      Page<String> actualExpensesDescriptions = actualExpensePage.map(Expense::getDescription);
+      Page<String> actualExpensesDescriptions = actualExpensePage.map(ExpenseResponse::getDescription);
       assertThat(actualExpensesDescriptions)
           .isNotNull().hasSize(3)
           .allMatch(description -> description.toLowerCase().contains("merc"));
@@ -97,10 +104,10 @@ class ExpenseRepositoryIT {
     void findByDescriptionAndUser_MustReturnPageWithOneExpense_WhenExistsExpenseWithSameDescriptionForDifferentUsers() {
       User user = User.builder().id(1L).build();
 
-      Page<Expense> actualExpensePage = expenseRepository.findByDescriptionAndUser("aluguel", user, PAGEABLE);
+      Page<ExpenseResponse> actualExpensePage = expenseRepository.findByDescriptionAndUser("aluguel", user, PAGEABLE);
       assertThat(actualExpensePage).isNotNull().hasSize(1);
 
-      Page<String> actualExpensesDescriptions = actualExpensePage.map(Expense::getDescription);
+      Page<String> actualExpensesDescriptions = actualExpensePage.map(ExpenseResponse::getDescription);
       assertThat(actualExpensesDescriptions)
           .isNotNull().hasSize(1)
           .allMatch(description -> description.toLowerCase().contains("aluguel"));
@@ -113,7 +120,7 @@ class ExpenseRepositoryIT {
     void findByDescriptionAndUser_MustReturnEmptyPage_WhenNotFoundForGivenUserAndDescriptionMecanico() {
       User user = User.builder().id(1L).build();
 
-      Page<Expense> actualExpensePage = expenseRepository.findByDescriptionAndUser("mecanico", user, PAGEABLE);
+      Page<ExpenseResponse> actualExpensePage = expenseRepository.findByDescriptionAndUser("mecanico", user, PAGEABLE);
       assertThat(actualExpensePage).isNotNull().isEmpty();
     }
 
@@ -125,7 +132,7 @@ class ExpenseRepositoryIT {
     void findByDescriptionAndUser_MustReturnEmptyPage_WhenNotFoundForGivenUser() {
       User user = User.builder().id(1L).build();
 
-      Page<Expense> actualExpensePage = expenseRepository.findByDescriptionAndUser("super", user, PAGEABLE);
+      Page<ExpenseResponse> actualExpensePage = expenseRepository.findByDescriptionAndUser("super", user, PAGEABLE);
       assertThat(actualExpensePage).isNotNull().isEmpty();
     }
 
@@ -142,10 +149,10 @@ class ExpenseRepositoryIT {
     void findByYearAndMonthAndUser_MustReturnPageWithThreeExpenses_WhenFoundForGivenUserAndYearAndMonth() {
       User user = User.builder().id(1L).build();
 
-      Page<Expense> actualExpensePage = expenseRepository.findByYearAndMonthAndUser(2023, 2, user, PAGEABLE);
+      Page<ExpenseResponse> actualExpensePage = expenseRepository.findByYearAndMonthAndUser(2023, 2, user, PAGEABLE);
       assertThat(actualExpensePage).isNotNull().hasSize(3);
 
-      Page<LocalDate> actualExpensesDescriptions = actualExpensePage.map(Expense::getDate);
+      Page<LocalDate> actualExpensesDescriptions = actualExpensePage.map(ExpenseResponse::getDate);
       assertThat(actualExpensesDescriptions)
           .isNotNull().hasSize(3)
           .allMatch(date -> date.getYear() == 2023 && date.getMonthValue() == 2);
@@ -158,10 +165,10 @@ class ExpenseRepositoryIT {
     void findByYearAndMonthAndUser_MustReturnPageWithTwoExpenses_WhenExistsExpenseWithSameYearAndMonthAndDifferentUsers() {
       User user = User.builder().id(1L).build();
 
-      Page<Expense> actualExpensePage = expenseRepository.findByYearAndMonthAndUser(2023, 2, user, PAGEABLE);
+      Page<ExpenseResponse> actualExpensePage = expenseRepository.findByYearAndMonthAndUser(2023, 2, user, PAGEABLE);
       assertThat(actualExpensePage).isNotNull().hasSize(2);
 
-      Page<LocalDate> actualExpensesDescriptions = actualExpensePage.map(Expense::getDate);
+      Page<LocalDate> actualExpensesDescriptions = actualExpensePage.map(ExpenseResponse::getDate);
       assertThat(actualExpensesDescriptions)
           .isNotNull().hasSize(2)
           .allMatch(date -> date.getYear() == 2023 && date.getMonthValue() == 2);
@@ -174,7 +181,7 @@ class ExpenseRepositoryIT {
     void findByYearAndMonthAndUser_MustReturnEmptyPage_WhenNotFoundForGivenUserAndYearAndMonth() {
       User user = User.builder().id(2L).build();
 
-      Page<Expense> actualExpensePage = expenseRepository.findByYearAndMonthAndUser(2021, 11, user, PAGEABLE);
+      Page<ExpenseResponse> actualExpensePage = expenseRepository.findByYearAndMonthAndUser(2021, 11, user, PAGEABLE);
       assertThat(actualExpensePage).isNotNull().isEmpty();
     }
 
@@ -185,7 +192,7 @@ class ExpenseRepositoryIT {
     void findByYearAndMonthAndUser_MustReturnEmptyPage_WhenNotFoundForGivenUser() {
       User user = User.builder().id(2L).build();
 
-      Page<Expense> actualExpensePage = expenseRepository.findByYearAndMonthAndUser(2023, 3, user, PAGEABLE);
+      Page<ExpenseResponse> actualExpensePage = expenseRepository.findByYearAndMonthAndUser(2023, 3, user, PAGEABLE);
       assertThat(actualExpensePage).isNotNull().isEmpty();
     }
 
@@ -196,7 +203,7 @@ class ExpenseRepositoryIT {
     void findByYearAndMonthAndUser_MustReturnEmptyPage_WhenNotFoundForGivenYear() {
       User user = User.builder().id(1L).build();
 
-      Page<Expense> actualExpensePage = expenseRepository.findByYearAndMonthAndUser(2021, 3, user, PAGEABLE);
+      Page<ExpenseResponse> actualExpensePage = expenseRepository.findByYearAndMonthAndUser(2021, 3, user, PAGEABLE);
       assertThat(actualExpensePage).isNotNull().isEmpty();
     }
 
@@ -207,7 +214,74 @@ class ExpenseRepositoryIT {
     void findByYearAndMonthAndUser_MustReturnEmptyPage_WhenNotFoundForGivenMonth() {
       User user = User.builder().id(1L).build();
 
-      Page<Expense> actualExpensePage = expenseRepository.findByYearAndMonthAndUser(2023, 11, user, PAGEABLE);
+      Page<ExpenseResponse> actualExpensePage = expenseRepository.findByYearAndMonthAndUser(2023, 11, user, PAGEABLE);
+      assertThat(actualExpensePage).isNotNull().isEmpty();
+    }
+
+  }
+
+  @Nested
+  @DisplayName("FindFieldsByUser method")
+  class FindFieldsByUserMethod {
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_MULTIPLE_EXPENSES_FOR_ONE_USER)
+    @Test
+    @DisplayName("findFieldsByUser must return only id and given fields when found for given user")
+    void findFieldsByUser_MustReturnOnlyIdAndGivenFields_WhenFoundForGivenUser() {
+      User user = User.builder().id(1L).build();
+
+      Page<ExpenseResponse> actualExpensePage = expenseRepository
+          .findFieldsByUser(Set.of("description", "value"), user, null, null, null, PAGEABLE);
+
+      assertThat(actualExpensePage).isNotNull().hasSize(5);
+      assertThat(actualExpensePage.getTotalElements()).isEqualTo(5);
+      assertThat(actualExpensePage)
+          .allMatch(expense -> expense.getId() != null && expense.getDescription() != null && expense.getValue() != null)
+          .allMatch(expense -> expense.getDate() == null && expense.getCurrency() == null && expense.getCategory() == null);
+    }
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_MULTIPLE_EXPENSES_FOR_ONE_USER)
+    @Test
+    @DisplayName("findFieldsByUser must return category when category is given and filter by year and month")
+    void findFieldsByUser_MustReturnCategory_WhenCategoryIsGivenAndFilterByYearAndMonth() {
+      User user = User.builder().id(1L).build();
+
+      Page<ExpenseResponse> actualExpensePage = expenseRepository
+          .findFieldsByUser(Set.of("category", "date"), user, null, 2023, 2, PAGEABLE);
+
+      assertThat(actualExpensePage).isNotNull().hasSize(3);
+      assertThat(actualExpensePage.map(ExpenseResponse::getCategory))
+          .containsExactly("ALIMENTACAO", "ALIMENTACAO", "MORADIA");
+      assertThat(actualExpensePage)
+          .allMatch(expense -> expense.getDate().getYear() == 2023 && expense.getDate().getMonthValue() == 2);
+    }
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_MULTIPLE_EXPENSES_FOR_ONE_USER)
+    @Test
+    @DisplayName("findFieldsByUser must filter by description when description is given")
+    void findFieldsByUser_MustFilterByDescription_WhenDescriptionIsGiven() {
+      User user = User.builder().id(1L).build();
+
+      Page<ExpenseResponse> actualExpensePage = expenseRepository
+          .findFieldsByUser(Set.of("description"), user, "merc", null, null, PAGEABLE);
+
+      assertThat(actualExpensePage.map(ExpenseResponse::getDescription))
+          .containsExactlyInAnyOrder("Supermercado", "Mercado", "MERCEARIA");
+    }
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_MULTIPLE_EXPENSES_FOR_ONE_USER)
+    @Test
+    @DisplayName("findFieldsByUser must return empty page when not found for given user")
+    void findFieldsByUser_MustReturnEmptyPage_WhenNotFoundForGivenUser() {
+      User user = User.builder().id(2L).build();
+
+      Page<ExpenseResponse> actualExpensePage = expenseRepository
+          .findFieldsByUser(Set.of("description"), user, null, null, null, PAGEABLE);
+
       assertThat(actualExpensePage).isNotNull().isEmpty();
     }
 
@@ -263,6 +337,42 @@ class ExpenseRepositoryIT {
 
   }
 
+  @Nested
+  @DisplayName("FindResponseByIdAndUser method")
+  class FindResponseByIdAndUserMethod {
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_MULTIPLE_EXPENSES_FOR_ONE_USER)
+    @Test
+    @DisplayName("findResponseByIdAndUser must return Optional<ExpenseResponse> when found for given id and user")
+    void findResponseByIdAndUser_MustReturnOptionalExpenseResponse_WhenFoundForGivenIdAndUser() {
+      User user = User.builder().id(1L).build();
+
+      Optional<ExpenseResponse> actualExpenseResponseOptional = expenseRepository.findResponseByIdAndUser(2L, user);
+
+      assertThat(actualExpenseResponseOptional).isPresent();
+      ExpenseResponse actualExpenseResponse = actualExpenseResponseOptional.get();
+      assertThat(actualExpenseResponse.getId()).isEqualTo(2L);
+      assertThat(actualExpenseResponse.getDescription()).isEqualTo("Supermercado");
+      assertThat(actualExpenseResponse.getValue()).isEqualTo(Money.of(new BigDecimal("325.00")));
+      assertThat(actualExpenseResponse.getCurrency()).isEqualTo("BRL");
+      assertThat(actualExpenseResponse.getCategory()).isEqualTo("ALIMENTACAO");
+    }
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_MULTIPLE_EXPENSES_FOR_ONE_USER)
+    @Test
+    @DisplayName("findResponseByIdAndUser must return empty Optional when not found for given user")
+    void findResponseByIdAndUser_MustReturnEmptyOptional_WhenNotFoundForGivenUser() {
+      User user = User.builder().id(2L).build();
+
+      Optional<ExpenseResponse> actualExpenseResponseOptional = expenseRepository.findResponseByIdAndUser(2L, user);
+
+      assertThat(actualExpenseResponseOptional).isEmpty();
+    }
+
+  }
+
   @Nested
   @DisplayName("GetValueByCategoryAndMonthAndYearAndUser method")
   class GetValueByCategoryAndMonthAndYearAndUserMethod {
@@ -275,12 +385,12 @@ class ExpenseRepositoryIT {
       User user = User.builder().id(1L).build();
 
       List<ValueByCategoryResponse> actualValueByCategoryList = expenseRepository
-          .getValueByCategoryAndMonthAndYearAndUser(2023, 2, user);
+          .getValueByCategoryAndMonthAndYearAndUser(2023, 2, user, "BRL", LocalDate.EPOCH, LocalDate.EPOCH);
 
       assertThat(actualValueByCategoryList).isNotNull().hasSize(2)
           .allMatch(valueByCategoryResponse ->
-              valueByCategoryResponse.getCategory().equals(Category.MORADIA) ||
-              valueByCategoryResponse.getCategory().equals(Category.ALIMENTACAO));
+              valueByCategoryResponse.getCategory().equals("MORADIA") ||
+              valueByCategoryResponse.getCategory().equals("ALIMENTACAO"));
     }
 
     @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
@@ -291,7 +401,7 @@ class ExpenseRepositoryIT {
       User user = User.builder().id(2L).build();
 
       List<ValueByCategoryResponse> actualValueByCategoryList = expenseRepository
-          .getValueByCategoryAndMonthAndYearAndUser(2023, 2, user);
+          .getValueByCategoryAndMonthAndYearAndUser(2023, 2, user, "BRL", LocalDate.EPOCH, LocalDate.EPOCH);
 
       assertThat(actualValueByCategoryList).isNotNull().isEmpty();
     }
@@ -304,7 +414,7 @@ class ExpenseRepositoryIT {
       User user = User.builder().id(1L).build();
 
       List<ValueByCategoryResponse> actualValueByCategoryList = expenseRepository
-          .getValueByCategoryAndMonthAndYearAndUser(2021, 2, user);
+          .getValueByCategoryAndMonthAndYearAndUser(2021, 2, user, "BRL", LocalDate.EPOCH, LocalDate.EPOCH);
 
       assertThat(actualValueByCategoryList).isNotNull().isEmpty();
     }
@@ -317,11 +427,70 @@ class ExpenseRepositoryIT {
       User user = User.builder().id(1L).build();
 
       List<ValueByCategoryResponse> actualValueByCategoryList = expenseRepository
-          .getValueByCategoryAndMonthAndYearAndUser(2021, 11, user);
+          .getValueByCategoryAndMonthAndYearAndUser(2021, 11, user, "BRL", LocalDate.EPOCH, LocalDate.EPOCH);
 
       assertThat(actualValueByCategoryList).isNotNull().isEmpty();
     }
 
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_TRANSACTIONS_IN_MULTIPLE_CURRENCIES)
+    @Test
+    @DisplayName("getValueByCategoryAndMonthAndYearAndUser must convert expenses to given currency using rate of expense date")
+    void getValueByCategoryAndMonthAndYearAndUser_MustConvertExpensesToGivenCurrency_UsingRateOfExpenseDate() {
+      User user = User.builder().id(1L).build();
+
+      List<ValueByCategoryResponse> actualValueByCategoryList = expenseRepository
+          .getValueByCategoryAndMonthAndYearAndUser(2023, 2, user, "USD",
+              LocalDate.parse("2023-02-05"), LocalDate.parse("2023-02-07"));
+
+      assertThat(actualValueByCategoryList).isNotNull().containsExactlyInAnyOrder(
+          new ValueByCategoryResponse("MORADIA", new BigDecimal("300.00")),
+          new ValueByCategoryResponse("ALIMENTACAO", new BigDecimal("110.00")));
+    }
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_TRANSACTIONS_IN_MULTIPLE_CURRENCIES)
+    @Test
+    @DisplayName("getValueByCategoryAndMonthAndYearAndUser must use last loaded rate when expense date is after last rate date")
+    void getValueByCategoryAndMonthAndYearAndUser_MustUseLastLoadedRate_WhenExpenseDateIsAfterLastRateDate() {
+      User user = User.builder().id(1L).build();
+
+      List<ValueByCategoryResponse> actualValueByCategoryList = expenseRepository
+          .getValueByCategoryAndMonthAndYearAndUser(2023, 2, user, "BRL",
+              LocalDate.parse("2023-02-05"), LocalDate.parse("2023-02-07"));
+
+      assertThat(actualValueByCategoryList).isNotNull().containsExactlyInAnyOrder(
+          new ValueByCategoryResponse("MORADIA", new BigDecimal("1500.00")),
+          new ValueByCategoryResponse("ALIMENTACAO", new BigDecimal("571.00")));
+    }
+
+  }
+
+  @Nested
+  @DisplayName("MoveDeletedToCategory method")
+  class MoveDeletedToCategoryMethod {
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_MULTIPLE_EXPENSES_FOR_ONE_USER,
+        statements = "UPDATE tb_expense SET deleted = true WHERE description = 'Supermercado'")
+    @Test
+    @DisplayName("moveDeletedToCategory must move only deleted expenses of category")
+    void moveDeletedToCategory_MustMoveOnlyDeletedExpensesOfCategory() {
+      int actualMoved = expenseRepository.moveDeletedToCategory(1L, (short) 1, (short) 8);
+
+      assertThat(actualMoved).isOne();
+      assertThat(entityManager.getEntityManager()
+          .createNativeQuery("SELECT category_id FROM tb_expense WHERE description = 'Supermercado'")
+          .getSingleResult()).isEqualTo((short) 8);
+      assertThat(expenseRepository.findAll())
+          .extracting(Expense::getDescription, Expense::getCategoryId)
+          .containsExactlyInAnyOrder(
+              tuple("Aluguel", (short) 3),
+              tuple("Mercado", (short) 1),
+              tuple("MERCEARIA", (short) 1),
+              tuple("Aluguel", (short) 3));
+    }
+
   }
 
 }
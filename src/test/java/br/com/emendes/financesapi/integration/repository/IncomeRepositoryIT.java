@@ -1,5 +1,7 @@
 package br.com.emendes.financesapi.integration.repository;
 
+import br.com.emendes.financesapi.dto.response.IncomeResponse;
+import br.com.emendes.financesapi.model.Money;
 import br.com.emendes.financesapi.model.entity.Income;
 import br.com.emendes.financesapi.model.entity.User;
 import br.com.emendes.financesapi.repository.IncomeRepository;
@@ -18,6 +20,7 @@ import org.springframework.test.context.jdbc.SqlMergeMode;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Optional;
+import java.util.Set;
 
 import static br.com.emendes.financesapi.util.constant.ConstantForTesting.PAGEABLE;
 import static br.com.emendes.financesapi.util.constant.SqlPath.*;
@@ -49,7 +52,7 @@ class IncomeRepositoryIT {
     void findAllByUser_MustReturnPageWithTwoIncomes_WhenFoundIncomesForGivenUser() {
       User user = User.builder().id(1L).build();
 
-      Page<Income> actualIncomePage = incomeRepository.findAllByUser(user, PAGEABLE);
+      Page<IncomeResponse> actualIncomePage = incomeRepository.findAllByUser(user, PAGEABLE);
 
       assertThat(actualIncomePage).isNotNull().hasSize(2);
     }
@@ -61,7 +64,7 @@ class IncomeRepositoryIT {
     void findAllByUser_MustReturnEmptyPage_WhenNotFoundIncomesForGivenUser() {
       User user = User.builder().id(5L).build();
 
-      Page<Income> actualIncomePage = incomeRepository.findAllByUser(user, PAGEABLE);
+      Page<IncomeResponse> actualIncomePage = incomeRepository.findAllByUser(user, PAGEABLE);
 
       assertThat(actualIncomePage).isNotNull().isEmpty();
     }
@@ -79,10 +82,10 @@ class IncomeRepositoryIT {
     void findByDescriptionAndUser_MustReturnPageWithTwoIncomes_WhenFoundForGivenUserAndDescriptionSala() {
       User user = User.builder().id(1L).build();
 
-      Page<Income> actualIncomePage = incomeRepository.findByDescriptionAndUser("sala", user, PAGEABLE);
+      Page<IncomeResponse> actualIncomePage = incomeRepository.findByDescriptionAndUser("sala", user, PAGEABLE);
       assertThat(actualIncomePage).isNotNull().hasSize(2);
 
-      Page<String> actualIncomesDescriptions = actualIncomePage.map(Income::getDescription);
+      Page<String> actualIncomesDescriptions = actualIncomePage.map(IncomeResponse::getDescription);
       assertThat(actualIncomesDescriptions)
           .isNotNull().hasSize(2)
           .allMatch(description -> description.toLowerCase().contains("salá"));
@@ -95,10 +98,10 @@ class IncomeRepositoryIT {
     void findByDescriptionAndUser_MustReturnPageWithOneIncome_WhenExistsIncomeWithSameDescriptionForDifferentUsers() {
       User user = User.builder().id(1L).build();
 
-      Page<Income> actualIncomePage = incomeRepository.findByDescriptionAndUser("sala", user, PAGEABLE);
+      Page<IncomeResponse> actualIncomePage = incomeRepository.findByDescriptionAndUser("sala", user, PAGEABLE);
       assertThat(actualIncomePage).isNotNull().hasSize(1);
 
-      Page<String> actualIncomesDescriptions = actualIncomePage.map(Income::getDescription);
+      Page<String> actualIncomesDescriptions = actualIncomePage.map(IncomeResponse::getDescription);
       assertThat(actualIncomesDescriptions)
           .isNotNull().hasSize(1)
           .allMatch(description -> description.toLowerCase().contains("salá"));
@@ -111,7 +114,7 @@ class IncomeRepositoryIT {
     void findByDescriptionAndUser_MustReturnEmptyPage_WhenNotFoundForGivenUserAndDescriptionVendaBrecho() {
       User user = User.builder().id(1L).build();
 
-      Page<Income> actualIncomePage = incomeRepository.findByDescriptionAndUser("venda brechó", user, PAGEABLE);
+      Page<IncomeResponse> actualIncomePage = incomeRepository.findByDescriptionAndUser("venda brechó", user, PAGEABLE);
       assertThat(actualIncomePage).isNotNull().isEmpty();
     }
 
@@ -122,7 +125,7 @@ class IncomeRepositoryIT {
     void findByDescriptionAndUser_MustReturnEmptyPage_WhenNotFoundForGivenUser() {
       User user = User.builder().id(1L).build();
 
-      Page<Income> actualIncomePage = incomeRepository.findByDescriptionAndUser("venda", user, PAGEABLE);
+      Page<IncomeResponse> actualIncomePage = incomeRepository.findByDescriptionAndUser("venda", user, PAGEABLE);
       assertThat(actualIncomePage).isNotNull().isEmpty();
     }
 
@@ -139,10 +142,10 @@ class IncomeRepositoryIT {
     void findByYearAndMonthAndUser_MustReturnPageWithThreeIncomes_WhenFoundForGivenUserAndYearAndMonth() {
       User user = User.builder().id(1L).build();
 
-      Page<Income> actualIncomePage = incomeRepository.findByYearAndMonthAndUser(2023, 2, user, PAGEABLE);
+      Page<IncomeResponse> actualIncomePage = incomeRepository.findByYearAndMonthAndUser(2023, 2, user, PAGEABLE);
       assertThat(actualIncomePage).isNotNull().hasSize(3);
 
-      Page<LocalDate> actualIncomesDescriptions = actualIncomePage.map(Income::getDate);
+      Page<LocalDate> actualIncomesDescriptions = actualIncomePage.map(IncomeResponse::getDate);
       assertThat(actualIncomesDescriptions)
           .isNotNull().hasSize(3)
           .allMatch(date -> date.getYear() == 2023 && date.getMonthValue() == 2);
@@ -155,10 +158,10 @@ class IncomeRepositoryIT {
     void findByYearAndMonthAndUser_MustReturnPageWithTwoIncomes_WhenExistsIncomeWithSameYearAndMonthAndDifferentUsers() {
       User user = User.builder().id(1L).build();
 
-      Page<Income> actualIncomePage = incomeRepository.findByYearAndMonthAndUser(2023, 2, user, PAGEABLE);
+      Page<IncomeResponse> actualIncomePage = incomeRepository.findByYearAndMonthAndUser(2023, 2, user, PAGEABLE);
       assertThat(actualIncomePage).isNotNull().hasSize(2);
 
-      Page<LocalDate> actualIncomesDescriptions = actualIncomePage.map(Income::getDate);
+      Page<LocalDate> actualIncomesDescriptions = actualIncomePage.map(IncomeResponse::getDate);
       assertThat(actualIncomesDescriptions)
           .isNotNull().hasSize(2)
           .allMatch(date -> date.getYear() == 2023 && date.getMonthValue() == 2);
@@ -171,7 +174,7 @@ class IncomeRepositoryIT {
     void findByYearAndMonthAndUser_MustReturnEmptyPage_WhenNotFoundForGivenUserAndYearAndMonth() {
       User user = User.builder().id(2L).build();
 
-      Page<Income> actualIncomePage = incomeRepository.findByYearAndMonthAndUser(2021, 11, user, PAGEABLE);
+      Page<IncomeResponse> actualIncomePage = incomeRepository.findByYearAndMonthAndUser(2021, 11, user, PAGEABLE);
       assertThat(actualIncomePage).isNotNull().isEmpty();
     }
 
@@ -182,7 +185,7 @@ class IncomeRepositoryIT {
     void findByYearAndMonthAndUser_MustReturnEmptyPage_WhenNotFoundForGivenUser() {
       User user = User.builder().id(2L).build();
 
-      Page<Income> actualIncomePage = incomeRepository.findByYearAndMonthAndUser(2023, 3, user, PAGEABLE);
+      Page<IncomeResponse> actualIncomePage = incomeRepository.findByYearAndMonthAndUser(2023, 3, user, PAGEABLE);
       assertThat(actualIncomePage).isNotNull().isEmpty();
     }
 
@@ -193,7 +196,7 @@ class IncomeRepositoryIT {
     void findByYearAndMonthAndUser_MustReturnEmptyPage_WhenNotFoundForGivenYear() {
       User user = User.builder().id(1L).build();
 
-      Page<Income> actualIncomePage = incomeRepository.findByYearAndMonthAndUser(2021, 3, user, PAGEABLE);
+      Page<IncomeResponse> actualIncomePage = incomeRepository.findByYearAndMonthAndUser(2021, 3, user, PAGEABLE);
       assertThat(actualIncomePage).isNotNull().isEmpty();
     }
 
@@ -204,12 +207,48 @@ class IncomeRepositoryIT {
     void findByYearAndMonthAndUser_MustReturnEmptyPage_WhenNotFoundForGivenMonth() {
       User user = User.builder().id(1L).build();
 
-      Page<Income> actualIncomePage = incomeRepository.findByYearAndMonthAndUser(2023, 11, user, PAGEABLE);
+      Page<IncomeResponse> actualIncomePage = incomeRepository.findByYearAndMonthAndUser(2023, 11, user, PAGEABLE);
       assertThat(actualIncomePage).isNotNull().isEmpty();
     }
 
   }
 
+  @Nested
+  @DisplayName("FindFieldsByUser method")
+  class FindFieldsByUserMethod {
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_MULTIPLE_INCOMES_FOR_ONE_USER)
+    @Test
+    @DisplayName("findFieldsByUser must return only id and given fields when found for given user")
+    void findFieldsByUser_MustReturnOnlyIdAndGivenFields_WhenFoundForGivenUser() {
+      User user = User.builder().id(1L).build();
+
+      Page<IncomeResponse> actualIncomePage = incomeRepository
+          .findFieldsByUser(Set.of("description", "value"), user, null, null, null, PAGEABLE);
+
+      assertThat(actualIncomePage).isNotNull().hasSize(5);
+      assertThat(actualIncomePage)
+          .allMatch(income -> income.getId() != null && income.getDescription() != null && income.getValue() != null)
+          .allMatch(income -> income.getDate() == null && income.getCurrency() == null);
+    }
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_MULTIPLE_INCOMES_FOR_ONE_USER)
+    @Test
+    @DisplayName("findFieldsByUser must filter by year and month when year and month are given")
+    void findFieldsByUser_MustFilterByYearAndMonth_WhenYearAndMonthAreGiven() {
+      User user = User.builder().id(1L).build();
+
+      Page<IncomeResponse> actualIncomePage = incomeRepository
+          .findFieldsByUser(Set.of("date"), user, null, 2023, 3, PAGEABLE);
+
+      assertThat(actualIncomePage.map(IncomeResponse::getDate))
+          .containsExactly(LocalDate.parse("2023-03-05"), LocalDate.parse("2023-03-04"));
+    }
+
+  }
+
   @Nested
   @DisplayName("FindByIdAndUser method")
   class FindByIdAndUserMethod {
@@ -260,6 +299,41 @@ class IncomeRepositoryIT {
 
   }
 
+  @Nested
+  @DisplayName("FindResponseByIdAndUser method")
+  class FindResponseByIdAndUserMethod {
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_MULTIPLE_INCOMES_FOR_ONE_USER)
+    @Test
+    @DisplayName("findResponseByIdAndUser must return Optional<IncomeResponse> when found for given id and user")
+    void findResponseByIdAndUser_MustReturnOptionalIncomeResponse_WhenFoundForGivenIdAndUser() {
+      User user = User.builder().id(1L).build();
+
+      Optional<IncomeResponse> actualIncomeResponseOptional = incomeRepository.findResponseByIdAndUser(2L, user);
+
+      assertThat(actualIncomeResponseOptional).isPresent();
+      IncomeResponse actualIncomeResponse = actualIncomeResponseOptional.get();
+      assertThat(actualIncomeResponse.getId()).isEqualTo(2L);
+      assertThat(actualIncomeResponse.getDescription()).isEqualTo("Freela");
+      assertThat(actualIncomeResponse.getValue()).isEqualTo(Money.of(new BigDecimal("325.00")));
+      assertThat(actualIncomeResponse.getCurrency()).isEqualTo("BRL");
+    }
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_MULTIPLE_INCOMES_FOR_ONE_USER)
+    @Test
+    @DisplayName("findResponseByIdAndUser must return empty Optional when not found for given user")
+    void findResponseByIdAndUser_MustReturnEmptyOptional_WhenNotFoundForGivenUser() {
+      User user = User.builder().id(2L).build();
+
+      Optional<IncomeResponse> actualIncomeResponseOptional = incomeRepository.findResponseByIdAndUser(2L, user);
+
+      assertThat(actualIncomeResponseOptional).isEmpty();
+    }
+
+  }
+
   @Nested
   @DisplayName("GetTotalValueByMonthAndYearAndUser method")
   class GetTotalValueByMonthAndYearAndUserMethod {
@@ -272,7 +346,7 @@ class IncomeRepositoryIT {
       User user = User.builder().id(1L).build();
 
       Optional<BigDecimal> actualTotalValueByMonthAndYearAndUser = incomeRepository
-          .getTotalValueByMonthAndYearAndUser(2023, 2, user);
+          .getTotalValueByMonthAndYearAndUser(2023, 2, user, "BRL", LocalDate.EPOCH, LocalDate.EPOCH);
 
       assertThat(actualTotalValueByMonthAndYearAndUser).isNotNull().isNotEmpty().contains(new BigDecimal("4025.00"));
     }
@@ -285,7 +359,7 @@ class IncomeRepositoryIT {
       User user = User.builder().id(1L).build();
 
       Optional<BigDecimal> actualTotalValueByMonthAndYearAndUser = incomeRepository
-          .getTotalValueByMonthAndYearAndUser(2023, 2, user);
+          .getTotalValueByMonthAndYearAndUser(2023, 2, user, "BRL", LocalDate.EPOCH, LocalDate.EPOCH);
 
       assertThat(actualTotalValueByMonthAndYearAndUser).isNotNull().isNotEmpty().contains(new BigDecimal("3825.00"));
     }
@@ -298,7 +372,7 @@ class IncomeRepositoryIT {
       User user = User.builder().id(2L).build();
 
       Optional<BigDecimal> actualTotalValueByMonthAndYearAndUser = incomeRepository
-          .getTotalValueByMonthAndYearAndUser(2023, 2, user);
+          .getTotalValueByMonthAndYearAndUser(2023, 2, user, "BRL", LocalDate.EPOCH, LocalDate.EPOCH);
 
       assertThat(actualTotalValueByMonthAndYearAndUser).isNotNull().isEmpty();
     }
@@ -311,7 +385,7 @@ class IncomeRepositoryIT {
       User user = User.builder().id(1L).build();
 
       Optional<BigDecimal> actualTotalValueByMonthAndYearAndUser = incomeRepository
-          .getTotalValueByMonthAndYearAndUser(2021, 2, user);
+          .getTotalValueByMonthAndYearAndUser(2021, 2, user, "BRL", LocalDate.EPOCH, LocalDate.EPOCH);
 
       assertThat(actualTotalValueByMonthAndYearAndUser).isNotNull().isEmpty();
     }
@@ -324,11 +398,25 @@ class IncomeRepositoryIT {
       User user = User.builder().id(1L).build();
 
       Optional<BigDecimal> actualTotalValueByMonthAndYearAndUser = incomeRepository
-          .getTotalValueByMonthAndYearAndUser(2023, 11, user);
+          .getTotalValueByMonthAndYearAndUser(2023, 11, user, "BRL", LocalDate.EPOCH, LocalDate.EPOCH);
 
       assertThat(actualTotalValueByMonthAndYearAndUser).isNotNull().isEmpty();
     }
 
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_TRANSACTIONS_IN_MULTIPLE_CURRENCIES)
+    @Test
+    @DisplayName("getTotalValueByMonthAndYearAndUser must convert incomes to given currency using rate of income date")
+    void getTotalValueByMonthAndYearAndUser_MustConvertIncomesToGivenCurrency_UsingRateOfIncomeDate() {
+      User user = User.builder().id(1L).build();
+
+      Optional<BigDecimal> actualTotalValueByMonthAndYearAndUser = incomeRepository
+          .getTotalValueByMonthAndYearAndUser(2023, 2, user, "BRL",
+              LocalDate.parse("2023-02-05"), LocalDate.parse("2023-02-07"));
+
+      assertThat(actualTotalValueByMonthAndYearAndUser).isNotNull().isNotEmpty().contains(new BigDecimal("3540.00"));
+    }
+
   }
 
 }
@@ -0,0 +1,84 @@
+package br.com.emendes.financesapi.integration.repository;
+
+import br.com.emendes.financesapi.repository.RateLimitBucketRepository;
+import br.com.emendes.financesapi.repository.projection.RateLimitConsumption;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+
+import static br.com.emendes.financesapi.util.constant.SqlPath.CREATE_DATABASE_TABLES_SQL_PATH;
+import static br.com.emendes.financesapi.util.constant.SqlPath.DROP_DATABASE_TABLES_SQL_PATH;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests da camada rate limit bucket repository interagindo com o banco de dados.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("repository-it")
+@DisplayName("Integration tests for RateLimitBucketRepository")
+@SqlGroup({
+    @Sql(scripts = {DROP_DATABASE_TABLES_SQL_PATH, CREATE_DATABASE_TABLES_SQL_PATH})
+})
+class RateLimitBucketRepositoryIT {
+
+  private static final long INTERVAL = 1_000_000L;
+  private static final long PERIOD = 3_000_000L;
+
+  @Autowired
+  private RateLimitBucketRepository rateLimitBucketRepository;
+
+  @Nested
+  @DisplayName("Consume method")
+  class ConsumeMethod {
+
+    @Test
+    @DisplayName("consume must allow a burst of period / interval requests and reject the next one")
+    void consume_MustAllowABurstOfPeriodByIntervalRequestsAndRejectTheNextOne() {
+      for (int i = 0; i < 3; i++) {
+        RateLimitConsumption actualConsumption = rateLimitBucketRepository.consume("ip:10.0.0.1", INTERVAL, PERIOD);
+        assertThat(actualConsumption.getArrival()).isNotNull();
+        assertThat(actualConsumption.getArrival() - actualConsumption.getNow()).isLessThanOrEqualTo(PERIOD);
+      }
+
+      RateLimitConsumption actualConsumption = rateLimitBucketRepository.consume("ip:10.0.0.1", INTERVAL, PERIOD);
+
+      assertThat(actualConsumption.getArrival()).isNull();
+      assertThat(actualConsumption.getPreviousArrival()).isNotNull()
+          .isGreaterThan(actualConsumption.getNow() + PERIOD - INTERVAL);
+    }
+
+    @Test
+    @DisplayName("consume must keep buckets of different keys apart")
+    void consume_MustKeepBucketsOfDifferentKeysApart() {
+      for (int i = 0; i < 3; i++) rateLimitBucketRepository.consume("ip:10.0.0.1", INTERVAL, PERIOD);
+
+      RateLimitConsumption actualConsumption = rateLimitBucketRepository.consume("ip:10.0.0.2", INTERVAL, PERIOD);
+
+      assertThat(actualConsumption.getArrival()).isNotNull();
+      assertThat(actualConsumption.getPreviousArrival()).isNull();
+    }
+
+  }
+
+  @Nested
+  @DisplayName("DeleteIdle method")
+  class DeleteIdleMethod {
+
+    @Test
+    @DisplayName("deleteIdle must keep buckets that are not full")
+    void deleteIdle_MustKeepBucketsThatAreNotFull() {
+      rateLimitBucketRepository.consume("ip:10.0.0.1", INTERVAL, PERIOD);
+
+      assertThat(rateLimitBucketRepository.deleteIdle()).isZero();
+    }
+
+  }
+
+}
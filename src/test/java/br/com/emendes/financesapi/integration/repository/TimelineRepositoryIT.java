@@ -0,0 +1,122 @@
+package br.com.emendes.financesapi.integration.repository;
+
+import br.com.emendes.financesapi.repository.TimelineRepository;
+import br.com.emendes.financesapi.repository.projection.TimelineEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+import org.springframework.test.context.jdbc.SqlMergeMode;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static br.com.emendes.financesapi.util.constant.SqlPath.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Integration tests da camada timeline repository interagindo com o banco de dados.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("repository-it")
+@DisplayName("Integration tests for TimelineRepository")
+@SqlGroup({
+    @Sql(scripts = {DROP_DATABASE_TABLES_SQL_PATH, CREATE_DATABASE_TABLES_SQL_PATH})
+})
+class TimelineRepositoryIT {
+
+  private static final LocalDate FIRST_RATE_DATE = LocalDate.parse("2023-02-05");
+  private static final LocalDate LAST_RATE_DATE = LocalDate.parse("2023-02-07");
+  private static final LocalDate FIRST_PAGE_DATE = LocalDate.parse("9999-12-31");
+
+  @Autowired
+  private TimelineRepository timelineRepository;
+
+  @Nested
+  @DisplayName("FindTimelineByUser method")
+  class FindTimelineByUserMethod {
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_TRANSACTIONS_IN_MULTIPLE_CURRENCIES)
+    @Test
+    @DisplayName("findTimelineByUser must return most recent transactions with running balance of page when cursor is first page")
+    void findTimelineByUser_MustReturnMostRecentTransactionsWithRunningBalanceOfPage_WhenCursorIsFirstPage() {
+      List<TimelineEntry> actualEntries = timelineRepository.findTimelineByUser(
+          1L, "BRL", FIRST_RATE_DATE, LAST_RATE_DATE, FIRST_PAGE_DATE, "INCOME", Long.MAX_VALUE, 2);
+
+      assertThat(actualEntries)
+          .extracting(TimelineEntry::getType, TimelineEntry::getId, TimelineEntry::getBalance)
+          .containsExactly(
+              tuple("EXPENSE", 3L, new BigDecimal("989.00")),
+              tuple("INCOME", 2L, new BigDecimal("1040.00")));
+      assertThat(actualEntries.get(1).getValue()).isEqualByComparingTo("200.00");
+      assertThat(actualEntries.get(1).getCurrency()).isEqualTo("USD");
+    }
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_TRANSACTIONS_IN_MULTIPLE_CURRENCIES)
+    @Test
+    @DisplayName("findTimelineByUser must return transactions after cursor with running balance of page when cursor is given")
+    void findTimelineByUser_MustReturnTransactionsAfterCursorWithRunningBalanceOfPage_WhenCursorIsGiven() {
+      List<TimelineEntry> actualEntries = timelineRepository.findTimelineByUser(
+          1L, "BRL", FIRST_RATE_DATE, LAST_RATE_DATE, LocalDate.parse("2023-02-06"), "INCOME", 2L, 10);
+
+      assertThat(actualEntries)
+          .extracting(TimelineEntry::getType, TimelineEntry::getId, TimelineEntry::getCategory,
+              TimelineEntry::getBalance)
+          .containsExactly(
+              tuple("EXPENSE", 2L, "ALIMENTACAO", new BigDecimal("480.00")),
+              tuple("INCOME", 1L, null, new BigDecimal("1000.00")),
+              tuple("EXPENSE", 1L, "MORADIA", new BigDecimal("-1500.00")));
+    }
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_TRANSACTIONS_IN_MULTIPLE_CURRENCIES)
+    @Test
+    @DisplayName("findTimelineByUser must return empty list when user has no transactions")
+    void findTimelineByUser_MustReturnEmptyList_WhenUserHasNoTransactions() {
+      List<TimelineEntry> actualEntries = timelineRepository.findTimelineByUser(
+          2L, "BRL", FIRST_RATE_DATE, LAST_RATE_DATE, FIRST_PAGE_DATE, "INCOME", Long.MAX_VALUE, 10);
+
+      assertThat(actualEntries).isEmpty();
+    }
+
+  }
+
+  @Nested
+  @DisplayName("GetBalanceBefore method")
+  class GetBalanceBeforeMethod {
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_TRANSACTIONS_IN_MULTIPLE_CURRENCIES)
+    @Test
+    @DisplayName("getBalanceBefore must return net of transactions from start before position when position is given")
+    void getBalanceBefore_MustReturnNetOfTransactionsFromStartBeforePosition_WhenPositionIsGiven() {
+      BigDecimal actualBalance = timelineRepository.getBalanceBefore(1L, "BRL", FIRST_RATE_DATE, LAST_RATE_DATE,
+          LocalDate.parse("2023-02-01"), LocalDate.parse("2023-02-06"), "INCOME", 2L);
+
+      assertThat(actualBalance).isEqualByComparingTo("480.00");
+    }
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = INSERT_TRANSACTIONS_IN_MULTIPLE_CURRENCIES)
+    @Test
+    @DisplayName("getBalanceBefore must ignore transactions before start when start is after them")
+    void getBalanceBefore_MustIgnoreTransactionsBeforeStart_WhenStartIsAfterThem() {
+      BigDecimal actualBalance = timelineRepository.getBalanceBefore(1L, "BRL", FIRST_RATE_DATE, LAST_RATE_DATE,
+          LocalDate.parse("2023-02-06"), LocalDate.parse("2023-02-20"), "EXPENSE", 3L);
+
+      assertThat(actualBalance).isEqualByComparingTo("520.00");
+    }
+
+  }
+
+}
@@ -14,6 +14,8 @@ import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlGroup;
 import org.springframework.test.context.jdbc.SqlMergeMode;
 
+import java.util.Optional;
+
 import static br.com.emendes.financesapi.util.constant.SqlPath.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -72,6 +74,50 @@ class UserRepositoryIT {
           .isThrownBy(() -> userRepository.save(user));
     }
 
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = {INSERT_USER_SQL_PATH}, statements = "UPDATE tb_user SET deleted = true")
+    @Test
+    @DisplayName("save must save user entity when only a deleted user has same email")
+    void save_MustSaveUserEntity_WhenOnlyADeletedUserHasSameEmail() {
+      User user = User.builder()
+          .name("John D")
+          .email("john.doe@email.com")
+          .password("1234567890")
+          .build();
+
+      User actualSavedUser = userRepository.saveAndFlush(user);
+
+      assertThat(actualSavedUser.getId()).isNotNull();
+    }
+
+  }
+
+  @Nested
+  @DisplayName("FindByEmailAndDeletedFalse method")
+  class FindByEmailAndDeletedFalseMethod {
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = {INSERT_USER_SQL_PATH}, statements = {
+        "UPDATE tb_user SET deleted = true",
+        "INSERT INTO tb_user (name, email, password) VALUES ('John D', 'john.doe@email.com', '1234567890')"})
+    @Test
+    @DisplayName("findByEmailAndDeletedFalse must return not deleted user when a deleted user has same email")
+    void findByEmailAndDeletedFalse_MustReturnNotDeletedUser_WhenADeletedUserHasSameEmail() {
+      Optional<User> actualUser = userRepository.findByEmailAndDeletedFalse("john.doe@email.com");
+
+      assertThat(actualUser).isPresent();
+      assertThat(actualUser.get().getName()).isEqualTo("John D");
+      assertThat(actualUser.get().isDeleted()).isFalse();
+    }
+
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = {INSERT_USER_SQL_PATH}, statements = "UPDATE tb_user SET deleted = true")
+    @Test
+    @DisplayName("findByEmailAndDeletedFalse must return empty Optional when user with email is deleted")
+    void findByEmailAndDeletedFalse_MustReturnEmptyOptional_WhenUserWithEmailIsDeleted() {
+      assertThat(userRepository.findByEmailAndDeletedFalse("john.doe@email.com")).isEmpty();
+    }
+
   }
 
 }
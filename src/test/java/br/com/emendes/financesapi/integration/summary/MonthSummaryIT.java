@@ -2,6 +2,7 @@ package br.com.emendes.financesapi.integration.summary;
 
 import br.com.emendes.financesapi.dto.problem.ProblemDetail;
 import br.com.emendes.financesapi.dto.response.SummaryResponse;
+import br.com.emendes.financesapi.model.Money;
 import br.com.emendes.financesapi.util.component.SignIn;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +21,8 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 
+import java.math.BigDecimal;
+
 import static br.com.emendes.financesapi.util.constant.AuthenticationConstant.USER_EMAIL;
 import static br.com.emendes.financesapi.util.constant.AuthenticationConstant.USER_PASSWORD;
 import static br.com.emendes.financesapi.util.constant.SqlPath.INSERT_INCOMES_EXPENSES_SQL_PATH;
@@ -52,9 +55,9 @@ class MonthSummaryIT {
 
     Assertions.assertThat(actualStatusCode).isEqualTo(HttpStatusCode.valueOf(200));
     Assertions.assertThat(actualResponseBody).isNotNull();
-    Assertions.assertThat(actualResponseBody.getIncomeTotalValue()).isEqualTo("3500.00");
-    Assertions.assertThat(actualResponseBody.getExpenseTotalValue()).isEqualTo("3055.00");
-    Assertions.assertThat(actualResponseBody.getFinalBalance()).isEqualTo("445.00");
+    Assertions.assertThat(actualResponseBody.getIncomeTotalValue()).isEqualTo(Money.of(new BigDecimal("3500.00")));
+    Assertions.assertThat(actualResponseBody.getExpenseTotalValue()).isEqualTo(Money.of(new BigDecimal("3055.00")));
+    Assertions.assertThat(actualResponseBody.getFinalBalance()).isEqualTo(Money.of(new BigDecimal("445.00")));
     Assertions.assertThat(actualResponseBody.getValuesByCategory()).hasSize(5);
   }
 
@@ -0,0 +1,81 @@
+package br.com.emendes.financesapi.integration.transaction;
+
+import br.com.emendes.financesapi.dto.response.ExpenseResponse;
+import br.com.emendes.financesapi.model.entity.User;
+import br.com.emendes.financesapi.repository.UserRepository;
+import br.com.emendes.financesapi.util.component.SignIn;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static br.com.emendes.financesapi.util.constant.AuthenticationConstant.USER_EMAIL;
+import static br.com.emendes.financesapi.util.constant.AuthenticationConstant.USER_PASSWORD;
+import static br.com.emendes.financesapi.util.constant.SqlPath.INSERT_EXPENSE_SQL_PATH;
+import static br.com.emendes.financesapi.util.constant.SqlPath.INSERT_USER_SQL_PATH;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@ActiveProfiles("integration")
+@DisplayName("Integration tests for transaction and connection handling")
+class ConnectionHandlingIT {
+
+  @Autowired
+  private TestRestTemplate testRestTemplate;
+  @Autowired
+  private SignIn signIn;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Test
+  @DisplayName("TransactionalLoadGuard must fail when entity is loaded outside a transaction")
+  @Sql(scripts = {INSERT_USER_SQL_PATH})
+  void transactionalLoadGuard_MustFail_WhenEntityIsLoadedOutsideATransaction() {
+    Assertions.assertThatException()
+        .isThrownBy(() -> userRepository.findByEmailAndDeletedFalse(USER_EMAIL))
+        .withStackTraceContaining("loaded outside a transaction");
+
+    Optional<User> actualUser = transactionTemplate.execute(status -> userRepository.findByEmailAndDeletedFalse(USER_EMAIL));
+    Assertions.assertThat(actualUser).isPresent();
+  }
+
+  @Test
+  @DisplayName("connection hold time must be recorded by endpoint when request uses the database")
+  @Sql(scripts = {INSERT_EXPENSE_SQL_PATH})
+  void connectionHoldTime_MustBeRecordedByEndpoint_WhenRequestUsesTheDatabase() {
+    HttpEntity<Void> requestEntity = new HttpEntity<>(signIn.generateAuthorizationHeader(USER_EMAIL, USER_PASSWORD));
+
+    ResponseEntity<ExpenseResponse> actualResponse = testRestTemplate.exchange(
+        "/api/expenses/1", HttpMethod.GET, requestEntity, new ParameterizedTypeReference<>() {
+        });
+
+    Assertions.assertThat(actualResponse.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
+    Timer actualTimer = meterRegistry.get("financesapi.db.connection.hold")
+        .tag("method", "GET")
+        .tag("uri", "/api/expenses/{id}")
+        .timer();
+    Assertions.assertThat(actualTimer.count()).isEqualTo(1);
+    Assertions.assertThat(actualTimer.totalTime(TimeUnit.NANOSECONDS)).isPositive();
+  }
+
+}
@@ -0,0 +1,73 @@
+package br.com.emendes.financesapi.unit.aot;
+
+import br.com.emendes.financesapi.config.aot.FinancesApiRuntimeHints;
+import br.com.emendes.financesapi.config.psql.function.SQLFunctionContributor;
+import br.com.emendes.financesapi.controller.openapi.ExpenseControllerOpenAPI;
+import br.com.emendes.financesapi.dto.request.ExpenseRequest;
+import br.com.emendes.financesapi.dto.response.PoolDiagnosticsResponse;
+import br.com.emendes.financesapi.model.type.MoneyType;
+import br.com.emendes.financesapi.validation.validator.CategoryValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit tests for FinancesApiRuntimeHints")
+class FinancesApiRuntimeHintsTest {
+
+  private final RuntimeHints hints = new RuntimeHints();
+
+  @BeforeEach
+  void setUp() {
+    new FinancesApiRuntimeHints().registerHints(hints, getClass().getClassLoader());
+  }
+
+  @Test
+  @DisplayName("registerHints must register Hibernate function contributor service and custom type")
+  void registerHints_MustRegisterHibernateFunctionContributorServiceAndCustomType() {
+    assertThat(RuntimeHintsPredicates.resource()
+        .forResource("META-INF/services/org.hibernate.boot.model.FunctionContributor")).accepts(hints);
+    assertThat(RuntimeHintsPredicates.reflection().onType(SQLFunctionContributor.class)
+        .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+    assertThat(RuntimeHintsPredicates.reflection().onType(MoneyType.class)
+        .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+  }
+
+  @Test
+  @DisplayName("registerHints must register JJWT implementations and services")
+  void registerHints_MustRegisterJJWTImplementationsAndServices() {
+    assertThat(RuntimeHintsPredicates.reflection()
+        .onType(TypeReference.of("io.jsonwebtoken.impl.DefaultJwtBuilder"))
+        .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+    assertThat(RuntimeHintsPredicates.reflection()
+        .onType(TypeReference.of("io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms"))
+        .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+    assertThat(RuntimeHintsPredicates.resource().forResource("META-INF/services/io.jsonwebtoken.io.Serializer"))
+        .accepts(hints);
+  }
+
+  @Test
+  @DisplayName("registerHints must register request fields and custom validators for bean validation")
+  void registerHints_MustRegisterRequestFieldsAndCustomValidatorsForBeanValidation() {
+    assertThat(RuntimeHintsPredicates.reflection().onType(ExpenseRequest.class)
+        .withMemberCategory(MemberCategory.DECLARED_FIELDS)).accepts(hints);
+    assertThat(RuntimeHintsPredicates.reflection().onType(CategoryValidator.class)
+        .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+  }
+
+  @Test
+  @DisplayName("registerHints must register springdoc interfaces, actuator response and connection proxy")
+  void registerHints_MustRegisterSpringdocInterfacesActuatorResponseAndConnectionProxy() {
+    assertThat(RuntimeHintsPredicates.reflection().onType(ExpenseControllerOpenAPI.class)
+        .withMemberCategory(MemberCategory.INTROSPECT_PUBLIC_METHODS)).accepts(hints);
+    assertThat(RuntimeHintsPredicates.reflection().onType(PoolDiagnosticsResponse.class)).accepts(hints);
+    assertThat(RuntimeHintsPredicates.proxies().forInterfaces(ConnectionProxy.class)).accepts(hints);
+  }
+
+}
@@ -0,0 +1,44 @@
+package br.com.emendes.financesapi.unit.bean;
+
+import br.com.emendes.financesapi.config.bean.LazyInitializationBean;
+import br.com.emendes.financesapi.job.OutboxRelayJob;
+import br.com.emendes.financesapi.service.impl.ExpenseServiceImpl;
+import br.com.emendes.financesapi.util.component.impl.FxRateTableImpl;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit tests for LazyInitializationBean")
+class LazyInitializationBeanTest {
+
+  private final LazyInitializationExcludeFilter filter = LazyInitializationBean.eagerBeansExcludeFilter();
+
+  @Test
+  @DisplayName("eagerBeansExcludeFilter must keep DataSource and FxRateTable eager")
+  void eagerBeansExcludeFilter_MustKeepDataSourceAndFxRateTableEager() {
+    assertThat(isExcluded(HikariDataSource.class)).isTrue();
+    assertThat(isExcluded(FxRateTableImpl.class)).isTrue();
+  }
+
+  @Test
+  @DisplayName("eagerBeansExcludeFilter must keep beans with scheduled methods eager")
+  void eagerBeansExcludeFilter_MustKeepBeansWithScheduledMethodsEager() {
+    assertThat(isExcluded(OutboxRelayJob.class)).isTrue();
+  }
+
+  @Test
+  @DisplayName("eagerBeansExcludeFilter must allow lazy initialization of services")
+  void eagerBeansExcludeFilter_MustAllowLazyInitializationOfServices() {
+    assertThat(isExcluded(ExpenseServiceImpl.class)).isFalse();
+    assertThat(filter.isExcluded("unknown", new RootBeanDefinition(), null)).isFalse();
+  }
+
+  private boolean isExcluded(Class<?> beanType) {
+    return filter.isExcluded("bean", new RootBeanDefinition(beanType), beanType);
+  }
+
+}
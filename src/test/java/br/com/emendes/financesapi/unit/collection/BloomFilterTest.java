@@ -0,0 +1,58 @@
+package br.com.emendes.financesapi.unit.collection;
+
+import br.com.emendes.financesapi.util.collection.BloomFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@DisplayName("Unit tests for BloomFilter")
+class BloomFilterTest {
+
+  @Test
+  @DisplayName("mightContain must return true for every inserted value")
+  void mightContain_MustReturnTrueForEveryInsertedValue() {
+    BloomFilter filter = BloomFilter.create(1_000, 0.01);
+    String[] values = IntStream.range(0, 1_000).mapToObj(i -> UUID.randomUUID().toString()).toArray(String[]::new);
+
+    for (String value : values) filter.put(value);
+
+    assertThat(values).allMatch(filter::mightContain);
+  }
+
+  @Test
+  @DisplayName("mightContain must keep false positive rate near the configured rate")
+  void mightContain_MustKeepFalsePositiveRateNearTheConfiguredRate() {
+    BloomFilter filter = BloomFilter.create(10_000, 0.01);
+    for (int i = 0; i < 10_000; i++) filter.put("revoked-" + i);
+
+    long falsePositives = IntStream.range(0, 100_000)
+        .filter(i -> filter.mightContain("valid-" + i))
+        .count();
+
+    assertThat(falsePositives).isLessThan(2_000);
+  }
+
+  @Test
+  @DisplayName("create must size the filter for the expected insertions and rate")
+  void create_MustSizeTheFilterForTheExpectedInsertionsAndRate() {
+    BloomFilter filter = BloomFilter.create(1_000, 0.01);
+
+    // m = -n ln(p) / ln(2)^2 = 9586 bits, arredondado para múltiplo de 64, e k = m / n ln(2) = 7.
+    assertThat(filter.getNumBits()).isEqualTo(9600);
+    assertThat(filter.getNumHashes()).isEqualTo(7);
+  }
+
+  @Test
+  @DisplayName("create must throws IllegalArgumentException when false positive rate is not between 0 and 1")
+  void create_MustThrowsIllegalArgumentException_WhenFalsePositiveRateIsNotBetween0And1() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BloomFilter.create(10, 1.0))
+        .withMessage("falsePositiveRate must be between 0 and 1");
+  }
+
+}
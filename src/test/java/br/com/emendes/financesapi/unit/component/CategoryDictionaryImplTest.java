@@ -0,0 +1,139 @@
+package br.com.emendes.financesapi.unit.component;
+
+import br.com.emendes.financesapi.exception.InvalidCategoryException;
+import br.com.emendes.financesapi.model.entity.Category;
+import br.com.emendes.financesapi.repository.CategoryRepository;
+import br.com.emendes.financesapi.util.component.impl.CategoryDictionaryImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Unit tests for CategoryDictionaryImpl")
+class CategoryDictionaryImplTest {
+
+  @InjectMocks
+  private CategoryDictionaryImpl categoryDictionary;
+  @Mock
+  private CategoryRepository categoryRepositoryMock;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(categoryDictionary, "ttl", Duration.ofMinutes(5));
+    ReflectionTestUtils.setField(categoryDictionary, "maxUsers", 2);
+    when(categoryRepositoryMock.findAllByUserIdOrderById(anyLong())).thenAnswer(invocation -> List.of(
+        new Category(invocation.getArgument(0), (short) 1, "ALIMENTACAO"),
+        new Category(invocation.getArgument(0), (short) 8, "OUTRAS"),
+        new Category(invocation.getArgument(0), (short) 10, "PETS")));
+  }
+
+  @Nested
+  @DisplayName("Tests for getId and getName methods")
+  class GetIdAndGetNameMethods {
+
+    @Test
+    @DisplayName("getId and getName must load categories of user only once")
+    void getIdAndGetName_MustLoadCategoriesOfUserOnlyOnce() {
+      assertThat(categoryDictionary.getId(1_000L, "PETS")).isEqualTo((short) 10);
+      assertThat(categoryDictionary.getName(1_000L, (short) 8)).isEqualTo("OUTRAS");
+      assertThat(categoryDictionary.getNames(1_000L)).containsExactly("ALIMENTACAO", "OUTRAS", "PETS");
+
+      verify(categoryRepositoryMock, times(1)).findAllByUserIdOrderById(1_000L);
+    }
+
+    @Test
+    @DisplayName("getId must throw InvalidCategoryException when user has no category with given name")
+    void getId_MustThrowInvalidCategoryException_WhenUserHasNoCategoryWithGivenName() {
+      assertThatExceptionOfType(InvalidCategoryException.class)
+          .isThrownBy(() -> categoryDictionary.getId(1_000L, "MERCADO"))
+          .withMessage("Category MERCADO not found");
+    }
+
+    @Test
+    @DisplayName("getName must throw InvalidCategoryException when user has no category with given id")
+    void getName_MustThrowInvalidCategoryException_WhenUserHasNoCategoryWithGivenId() {
+      assertThatExceptionOfType(InvalidCategoryException.class)
+          .isThrownBy(() -> categoryDictionary.getName(1_000L, (short) 9))
+          .withMessage("Category with id 9 not found");
+      assertThatExceptionOfType(InvalidCategoryException.class)
+          .isThrownBy(() -> categoryDictionary.getName(1_000L, (short) 11));
+    }
+
+    @Test
+    @DisplayName("getId must reload categories when entry has expired")
+    void getId_MustReloadCategories_WhenEntryHasExpired() {
+      ReflectionTestUtils.setField(categoryDictionary, "ttl", Duration.ZERO);
+
+      categoryDictionary.getId(1_000L, "PETS");
+      categoryDictionary.getId(1_000L, "PETS");
+
+      verify(categoryRepositoryMock, times(2)).findAllByUserIdOrderById(1_000L);
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for invalidate method")
+  class InvalidateMethod {
+
+    @Test
+    @DisplayName("invalidate must discard categories immediately when there is no transaction")
+    void invalidate_MustDiscardCategoriesImmediately_WhenThereIsNoTransaction() {
+      categoryDictionary.getId(1_000L, "PETS");
+
+      categoryDictionary.invalidate(1_000L);
+      categoryDictionary.getId(1_000L, "PETS");
+
+      verify(categoryRepositoryMock, times(2)).findAllByUserIdOrderById(1_000L);
+    }
+
+    @Test
+    @DisplayName("invalidate must discard categories only after transaction completion")
+    void invalidate_MustDiscardCategoriesOnlyAfterTransactionCompletion() {
+      categoryDictionary.getId(1_000L, "PETS");
+
+      TransactionSynchronizationManager.initSynchronization();
+      try {
+        categoryDictionary.invalidate(1_000L);
+        categoryDictionary.getId(1_000L, "PETS");
+        verify(categoryRepositoryMock, times(1)).findAllByUserIdOrderById(1_000L);
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+      } finally {
+        TransactionSynchronizationManager.clearSynchronization();
+      }
+      categoryDictionary.getId(1_000L, "PETS");
+
+      verify(categoryRepositoryMock, times(2)).findAllByUserIdOrderById(1_000L);
+    }
+
+  }
+
+  @Test
+  @DisplayName("getId must keep at most max-users users in memory")
+  void getId_MustKeepAtMostMaxUsersUsersInMemory() {
+    categoryDictionary.getId(1_000L, "PETS");
+    categoryDictionary.getId(1_001L, "PETS");
+    categoryDictionary.getId(1_002L, "PETS");
+
+    assertThat((Map<?, ?>) ReflectionTestUtils.getField(categoryDictionary, "cache")).hasSize(2);
+  }
+
+}
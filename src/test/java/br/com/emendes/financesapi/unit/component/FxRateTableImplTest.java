@@ -0,0 +1,150 @@
+package br.com.emendes.financesapi.unit.component;
+
+import br.com.emendes.financesapi.exception.InvalidCurrencyException;
+import br.com.emendes.financesapi.repository.FxRateRepository;
+import br.com.emendes.financesapi.util.component.impl.FxRateTableImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Unit tests for FxRateTableImpl")
+class FxRateTableImplTest {
+
+  @InjectMocks
+  private FxRateTableImpl fxRateTable;
+  @Mock
+  private FxRateRepository fxRateRepositoryMock;
+
+  private final List<String> upsertedRows = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(fxRateTable, "ratesFile", "classpath:fx/fx-rates.csv");
+    ReflectionTestUtils.setField(fxRateTable, "quoteCurrency", "BRL");
+    ReflectionTestUtils.setField(fxRateTable, "batchSize", 10);
+    // Os arrays são reutilizados entre os lotes, então as linhas são copiadas no momento da chamada.
+    doAnswer(invocation -> {
+      String[] currencies = invocation.getArgument(0);
+      LocalDate[] dates = invocation.getArgument(1);
+      BigDecimal[] rates = invocation.getArgument(2);
+      for (int i = 0; i < currencies.length; i++) {
+        upsertedRows.add(currencies[i] + "," + dates[i] + "," + rates[i].toPlainString());
+      }
+      return currencies.length;
+    }).when(fxRateRepositoryMock).upsertAll(any(), any(), any());
+  }
+
+  @Nested
+  @DisplayName("Tests for load method")
+  class LoadMethod {
+
+    @Test
+    @DisplayName("load must write one rate per currency and day between first and last date of file")
+    void load_MustWriteOneRatePerCurrencyAndDayBetweenFirstAndLastDateOfFile() {
+      fxRateTable.load();
+
+      assertThat(fxRateTable.getFirstDate()).isEqualTo("2023-01-31");
+      assertThat(fxRateTable.getLastDate()).isEqualTo("2023-02-28");
+      assertThat(fxRateTable.getCurrencies()).containsExactlyInAnyOrder("BRL", "USD", "EUR");
+      assertThat(upsertedRows).hasSize(3 * 29).doesNotHaveDuplicates();
+      verify(fxRateRepositoryMock, times(9)).upsertAll(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("load must fill days without rate with previous rate and days before first rate with first rate")
+    void load_MustFillDaysWithoutRateWithPreviousRateAndDaysBeforeFirstRateWithFirstRate() {
+      fxRateTable.load();
+
+      assertThat(upsertedRows).contains(
+          "USD,2023-01-31,5.0000", "USD,2023-02-02,5.2000", "USD,2023-02-28,5.1000",
+          "EUR,2023-01-31,5.6000", "EUR,2023-02-27,5.6000", "EUR,2023-02-28,5.5000",
+          "BRL,2023-01-31,1", "BRL,2023-02-28,1");
+    }
+
+    @Test
+    @DisplayName("load must rebuild expense category rollup when rates are inserted or changed")
+    void load_MustRebuildExpenseCategoryRollup_WhenRatesAreInsertedOrChanged() {
+      fxRateTable.load();
+
+      verify(fxRateRepositoryMock).rebuildExpenseCategoryRollup();
+    }
+
+    @Test
+    @DisplayName("load must not rebuild expense category rollup when rates are unchanged")
+    void load_MustNotRebuildExpenseCategoryRollup_WhenRatesAreUnchanged() {
+      doReturn(0).when(fxRateRepositoryMock).upsertAll(any(), any(), any());
+
+      fxRateTable.load();
+
+      verify(fxRateRepositoryMock, times(9)).upsertAll(any(), any(), any());
+      verify(fxRateRepositoryMock, never()).rebuildExpenseCategoryRollup();
+    }
+
+    @Test
+    @DisplayName("load must support only quote currency when rates file is blank")
+    void load_MustSupportOnlyQuoteCurrency_WhenRatesFileIsBlank() {
+      ReflectionTestUtils.setField(fxRateTable, "ratesFile", "");
+
+      fxRateTable.load();
+
+      assertThat(fxRateTable.getCurrencies()).containsExactly("BRL");
+      assertThat(fxRateTable.getFirstDate()).isEqualTo(LocalDate.EPOCH);
+      verifyNoInteractions(fxRateRepositoryMock);
+    }
+
+    @Test
+    @DisplayName("load must throw IllegalStateException when rates file has invalid line")
+    void load_MustThrowIllegalStateException_WhenRatesFileHasInvalidLine() {
+      ReflectionTestUtils.setField(fxRateTable, "ratesFile", "classpath:fx/fx-rates-invalid.csv");
+
+      assertThatExceptionOfType(IllegalStateException.class)
+          .isThrownBy(() -> fxRateTable.load())
+          .withMessage("Invalid FX rate at line 3 of classpath:fx/fx-rates-invalid.csv: 2023-02-30,USD,5.1000");
+      verifyNoInteractions(fxRateRepositoryMock);
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for requireSupported method")
+  class RequireSupportedMethod {
+
+    @Test
+    @DisplayName("requireSupported must return currency when currency is loaded")
+    void requireSupported_MustReturnCurrency_WhenCurrencyIsLoaded() {
+      fxRateTable.load();
+
+      assertThat(fxRateTable.requireSupported("USD")).isEqualTo("USD");
+      assertThat(fxRateTable.requireSupported("BRL")).isEqualTo("BRL");
+    }
+
+    @Test
+    @DisplayName("requireSupported must throw InvalidCurrencyException when currency is not loaded")
+    void requireSupported_MustThrowInvalidCurrencyException_WhenCurrencyIsNotLoaded() {
+      fxRateTable.load();
+
+      assertThatExceptionOfType(InvalidCurrencyException.class)
+          .isThrownBy(() -> fxRateTable.requireSupported("JPY"))
+          .withMessage("Currency JPY is not supported");
+    }
+
+  }
+
+}
@@ -0,0 +1,142 @@
+package br.com.emendes.financesapi.unit.component;
+
+import br.com.emendes.financesapi.repository.AnalyticsRepository;
+import br.com.emendes.financesapi.util.component.FxRateTable;
+import br.com.emendes.financesapi.util.component.impl.MonthlyBalanceCacheImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.List;
+
+import static br.com.emendes.financesapi.util.faker.AnalyticsFaker.monthlyNet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Unit tests for MonthlyBalanceCacheImpl")
+class MonthlyBalanceCacheImplTest {
+
+  private static final LocalDate BEGINNING = LocalDate.of(1, 1, 1);
+
+  @InjectMocks
+  private MonthlyBalanceCacheImpl monthlyBalanceCache;
+  @Mock
+  private AnalyticsRepository analyticsRepositoryMock;
+  @Mock
+  private FxRateTable fxRateTableMock;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(monthlyBalanceCache, "maxEntries", 2);
+    when(analyticsRepositoryMock.getVersionByUser(1_000L)).thenReturn(10L);
+    when(analyticsRepositoryMock.findNetByMonth(
+        eq(1_000L), eq("BRL"), any(), any(), eq(BEGINNING), eq(LocalDate.parse("2023-04-01"))))
+        .thenReturn(List.of(monthlyNet("2023-01-01", "1000.00"), monthlyNet("2023-03-01", "-250.00")));
+  }
+
+  @Nested
+  @DisplayName("Tests for getClosingBalance method")
+  class GetClosingBalanceMethod {
+
+    @Test
+    @DisplayName("getClosingBalance must sum monthly nets from beginning when user has no cached months")
+    void getClosingBalance_MustSumMonthlyNetsFromBeginning_WhenUserHasNoCachedMonths() {
+      assertThat(monthlyBalanceCache.getClosingBalance(1_000L, "BRL", YearMonth.of(2023, 3)))
+          .isEqualByComparingTo("750.00");
+    }
+
+    @Test
+    @DisplayName("getClosingBalance must not query nets again when month was cached in same version")
+    void getClosingBalance_MustNotQueryNetsAgain_WhenMonthWasCachedInSameVersion() {
+      monthlyBalanceCache.getClosingBalance(1_000L, "BRL", YearMonth.of(2023, 3));
+
+      assertThat(monthlyBalanceCache.getClosingBalance(1_000L, "BRL", YearMonth.of(2023, 1)))
+          .isEqualByComparingTo("1000.00");
+      assertThat(monthlyBalanceCache.getClosingBalance(1_000L, "BRL", YearMonth.of(2023, 2)))
+          .isEqualByComparingTo("1000.00");
+      assertThat(monthlyBalanceCache.getClosingBalance(1_000L, "BRL", YearMonth.of(2023, 3)))
+          .isEqualByComparingTo("750.00");
+      verify(analyticsRepositoryMock, times(1)).findNetByMonth(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("getClosingBalance must aggregate only months after last cached month when month is not cached")
+    void getClosingBalance_MustAggregateOnlyMonthsAfterLastCachedMonth_WhenMonthIsNotCached() {
+      when(analyticsRepositoryMock.findNetByMonth(
+          eq(1_000L), eq("BRL"), any(), any(), eq(LocalDate.parse("2023-04-01")), eq(LocalDate.parse("2023-07-01"))))
+          .thenReturn(List.of(monthlyNet("2023-05-01", "100.00")));
+      monthlyBalanceCache.getClosingBalance(1_000L, "BRL", YearMonth.of(2023, 3));
+
+      assertThat(monthlyBalanceCache.getClosingBalance(1_000L, "BRL", YearMonth.of(2023, 6)))
+          .isEqualByComparingTo("850.00");
+    }
+
+    @Test
+    @DisplayName("getClosingBalance must discard all cached months when first cached month changes")
+    void getClosingBalance_MustDiscardAllCachedMonths_WhenFirstCachedMonthChanges() {
+      monthlyBalanceCache.getClosingBalance(1_000L, "BRL", YearMonth.of(2023, 3));
+      when(analyticsRepositoryMock.getVersionByUser(1_000L)).thenReturn(11L);
+      when(analyticsRepositoryMock.getFirstMonthChangedAfter(1_000L, 10L)).thenReturn(LocalDate.parse("2023-01-01"));
+      when(analyticsRepositoryMock.findNetByMonth(
+          eq(1_000L), eq("BRL"), any(), any(), eq(BEGINNING), eq(LocalDate.parse("2023-02-01"))))
+          .thenReturn(List.of(monthlyNet("2023-01-01", "900.00")));
+
+      assertThat(monthlyBalanceCache.getClosingBalance(1_000L, "BRL", YearMonth.of(2023, 1)))
+          .isEqualByComparingTo("900.00");
+    }
+
+    @Test
+    @DisplayName("getClosingBalance must keep cached months before changed month when version changes")
+    void getClosingBalance_MustKeepCachedMonthsBeforeChangedMonth_WhenVersionChanges() {
+      monthlyBalanceCache.getClosingBalance(1_000L, "BRL", YearMonth.of(2023, 3));
+      when(analyticsRepositoryMock.getVersionByUser(1_000L)).thenReturn(11L);
+      when(analyticsRepositoryMock.getFirstMonthChangedAfter(1_000L, 10L)).thenReturn(LocalDate.parse("2023-03-01"));
+      when(analyticsRepositoryMock.findNetByMonth(eq(1_000L), eq("BRL"), any(), any(),
+          eq(LocalDate.parse("2023-03-01")), eq(LocalDate.parse("2023-04-01"))))
+          .thenReturn(List.of(monthlyNet("2023-03-01", "-300.00")));
+
+      assertThat(monthlyBalanceCache.getClosingBalance(1_000L, "BRL", YearMonth.of(2023, 2)))
+          .isEqualByComparingTo("1000.00");
+      assertThat(monthlyBalanceCache.getClosingBalance(1_000L, "BRL", YearMonth.of(2023, 3)))
+          .isEqualByComparingTo("700.00");
+      verify(analyticsRepositoryMock, times(1)).findNetByMonth(any(), any(), any(), any(), eq(BEGINNING), any());
+      verify(analyticsRepositoryMock, times(2)).findNetByMonth(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("getClosingBalance must keep all cached months when no month changed after version")
+    void getClosingBalance_MustKeepAllCachedMonths_WhenNoMonthChangedAfterVersion() {
+      monthlyBalanceCache.getClosingBalance(1_000L, "BRL", YearMonth.of(2023, 3));
+      when(analyticsRepositoryMock.getVersionByUser(1_000L)).thenReturn(11L);
+
+      assertThat(monthlyBalanceCache.getClosingBalance(1_000L, "BRL", YearMonth.of(2023, 3)))
+          .isEqualByComparingTo("750.00");
+      verify(analyticsRepositoryMock, times(1)).findNetByMonth(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("getClosingBalance must return zero when user has no transactions until month")
+    void getClosingBalance_MustReturnZero_WhenUserHasNoTransactionsUntilMonth() {
+      when(analyticsRepositoryMock.getVersionByUser(2_000L)).thenReturn(0L);
+      when(analyticsRepositoryMock.findNetByMonth(eq(2_000L), any(), any(), any(), any(), any()))
+          .thenReturn(Collections.emptyList());
+
+      assertThat(monthlyBalanceCache.getClosingBalance(2_000L, "BRL", YearMonth.of(2023, 3)))
+          .isEqualByComparingTo("0");
+    }
+
+  }
+
+}
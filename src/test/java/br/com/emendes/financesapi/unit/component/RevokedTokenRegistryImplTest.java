@@ -0,0 +1,102 @@
+package br.com.emendes.financesapi.unit.component;
+
+import br.com.emendes.financesapi.repository.RevokedTokenRepository;
+import br.com.emendes.financesapi.util.component.impl.RevokedTokenRegistryImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Unit tests for RevokedTokenRegistryImpl")
+class RevokedTokenRegistryImplTest {
+
+  @InjectMocks
+  private RevokedTokenRegistryImpl revokedTokenRegistry;
+  @Mock
+  private RevokedTokenRepository revokedTokenRepositoryMock;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(revokedTokenRegistry, "falsePositiveRate", 0.01);
+  }
+
+  @Nested
+  @DisplayName("Tests for isRevoked method")
+  class IsRevokedMethod {
+
+    @Test
+    @DisplayName("isRevoked must return false when no token was revoked")
+    void isRevoked_MustReturnFalse_WhenNoTokenWasRevoked() {
+      assertThat(revokedTokenRegistry.isRevoked("jti")).isFalse();
+      assertThat(revokedTokenRegistry.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("isRevoked must return true only for persisted tokens after refresh")
+    void isRevoked_MustReturnTrueOnlyForPersistedTokens_AfterRefresh() {
+      when(revokedTokenRepositoryMock.findIdsNotExpiredAt(any(LocalDateTime.class)))
+          .thenReturn(List.of("jti-1", "jti-2"));
+
+      revokedTokenRegistry.refresh();
+
+      assertThat(revokedTokenRegistry.isRevoked("jti-1")).isTrue();
+      assertThat(revokedTokenRegistry.isRevoked("jti-2")).isTrue();
+      assertThat(revokedTokenRegistry.isRevoked("jti-3")).isFalse();
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for revoke method")
+  class RevokeMethod {
+
+    @Test
+    @DisplayName("revoke must persist token and revoke it immediately in this instance")
+    void revoke_MustPersistTokenAndRevokeItImmediatelyInThisInstance() {
+      revokedTokenRegistry.revoke("jti", Instant.now().plus(15, ChronoUnit.MINUTES));
+
+      verify(revokedTokenRepositoryMock).insert(eq("jti"), any(LocalDateTime.class));
+      assertThat(revokedTokenRegistry.isRevoked("jti")).isTrue();
+    }
+
+    @Test
+    @DisplayName("revoke must keep token revoked when refresh does not find it persisted yet")
+    void revoke_MustKeepTokenRevoked_WhenRefreshDoesNotFindItPersistedYet() {
+      when(revokedTokenRepositoryMock.findIdsNotExpiredAt(any(LocalDateTime.class))).thenReturn(List.of());
+
+      revokedTokenRegistry.revoke("jti", Instant.now().plus(15, ChronoUnit.MINUTES));
+      revokedTokenRegistry.refresh();
+
+      assertThat(revokedTokenRegistry.isRevoked("jti")).isTrue();
+    }
+
+    @Test
+    @DisplayName("refresh must drop local revocation when token is expired")
+    void refresh_MustDropLocalRevocation_WhenTokenIsExpired() {
+      when(revokedTokenRepositoryMock.findIdsNotExpiredAt(any(LocalDateTime.class))).thenReturn(List.of());
+
+      revokedTokenRegistry.revoke("jti", Instant.now().minusSeconds(1));
+      revokedTokenRegistry.refresh();
+
+      assertThat(revokedTokenRegistry.isRevoked("jti")).isFalse();
+    }
+
+  }
+
+}
@@ -0,0 +1,163 @@
+package br.com.emendes.financesapi.unit.controller;
+
+import br.com.emendes.financesapi.controller.AnalyticsController;
+import br.com.emendes.financesapi.dto.response.BalancePointResponse;
+import br.com.emendes.financesapi.dto.response.BalanceSeriesResponse;
+import br.com.emendes.financesapi.dto.response.CategoryMonthResponse;
+import br.com.emendes.financesapi.dto.response.CategoryTrendResponse;
+import br.com.emendes.financesapi.dto.response.CategoryTrendsResponse;
+import br.com.emendes.financesapi.exception.InvalidPeriodException;
+import br.com.emendes.financesapi.model.Granularity;
+import br.com.emendes.financesapi.model.Money;
+import br.com.emendes.financesapi.service.AnalyticsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@WebMvcTest(
+    includeFilters = {
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = AnalyticsController.class),
+        @ComponentScan.Filter(classes = RestControllerAdvice.class)
+    },
+    excludeAutoConfiguration = {SecurityAutoConfiguration.class},
+    useDefaultFilters = false
+)
+@DisplayName("Tests for AnalyticsController")
+class AnalyticsControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+  @MockBean
+  private AnalyticsService analyticsServiceMock;
+
+  private static final String ANALYTICS_BASE_URI = "/api/analytics";
+
+  @Nested
+  @DisplayName("Tests for balance endpoint")
+  class BalanceEndpoint {
+
+    @Test
+    @DisplayName("balance must return BalanceSeriesResponse when read successfully")
+    void balance_MustReturnBalanceSeriesResponse_WhenReadSuccessfully() throws Exception {
+      BalanceSeriesResponse balanceSeriesResponse = BalanceSeriesResponse.builder()
+          .currency("BRL")
+          .from(LocalDate.parse("2023-02-01"))
+          .to(LocalDate.parse("2023-02-28"))
+          .granularity(Granularity.MONTH)
+          .openingBalance(Money.of(new BigDecimal("1000.00")))
+          .points(List.of(BalancePointResponse.builder()
+              .period(LocalDate.parse("2023-02-01"))
+              .income(Money.of(new BigDecimal("2500.00")))
+              .expense(Money.of(new BigDecimal("1825.00")))
+              .balance(Money.of(new BigDecimal("1675.00")))
+              .build()))
+          .build();
+      BDDMockito.when(analyticsServiceMock.balance("2023-02-01", "2023-02-28", "month", null))
+          .thenReturn(balanceSeriesResponse);
+
+      mockMvc.perform(get(ANALYTICS_BASE_URI + "/balance").param("from", "2023-02-01").param("to", "2023-02-28"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.currency").value("BRL"))
+          .andExpect(jsonPath("$.granularity").value("MONTH"))
+          .andExpect(jsonPath("$.openingBalance").value(1000.00))
+          .andExpect(jsonPath("$.points[0].period").value("2023-02-01"))
+          .andExpect(jsonPath("$.points[0].income").value(2500.00))
+          .andExpect(jsonPath("$.points[0].expense").value(1825.00))
+          .andExpect(jsonPath("$.points[0].balance").value(1675.00));
+    }
+
+    @Test
+    @DisplayName("balance must return ProblemDetail when period is invalid")
+    void balance_MustReturnProblemDetail_WhenPeriodIsInvalid() throws Exception {
+      BDDMockito.given(analyticsServiceMock.balance("2023-03-01", "2023-02-28", "day", null))
+          .willThrow(new InvalidPeriodException("to 2023-02-28 must be equals or after from 2023-03-01"));
+
+      mockMvc.perform(get(ANALYTICS_BASE_URI + "/balance")
+              .param("from", "2023-03-01").param("to", "2023-02-28").param("granularity", "day"))
+          .andExpect(status().isBadRequest())
+          .andExpect(jsonPath("$.title").value("Invalid period"))
+          .andExpect(jsonPath("$.detail").value("to 2023-02-28 must be equals or after from 2023-03-01"));
+    }
+
+    @Test
+    @DisplayName("balance must return status 400 when from is missing")
+    void balance_MustReturnStatus400_WhenFromIsMissing() throws Exception {
+      mockMvc.perform(get(ANALYTICS_BASE_URI + "/balance").param("to", "2023-02-28"))
+          .andExpect(status().isBadRequest());
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for categories endpoint")
+  class CategoriesEndpoint {
+
+    @Test
+    @DisplayName("categories must return CategoryTrendsResponse when read successfully")
+    void categories_MustReturnCategoryTrendsResponse_WhenReadSuccessfully() throws Exception {
+      CategoryTrendsResponse categoryTrendsResponse = CategoryTrendsResponse.builder()
+          .currency("BRL")
+          .from(YearMonth.of(2023, 2))
+          .to(YearMonth.of(2023, 2))
+          .categories(List.of(CategoryTrendResponse.builder()
+              .category("MORADIA")
+              .total(Money.of(new BigDecimal("1500.00")))
+              .average(Money.of(new BigDecimal("1500.00")))
+              .months(List.of(CategoryMonthResponse.builder()
+                  .month(YearMonth.of(2023, 2))
+                  .total(Money.of(new BigDecimal("1500.00")))
+                  .delta(Money.of(new BigDecimal("-250.00")))
+                  .build()))
+              .build()))
+          .build();
+      BDDMockito.when(analyticsServiceMock.categories("2023-02", "2023-02", null))
+          .thenReturn(categoryTrendsResponse);
+
+      mockMvc.perform(get(ANALYTICS_BASE_URI + "/categories").param("from", "2023-02").param("to", "2023-02"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.currency").value("BRL"))
+          .andExpect(jsonPath("$.from").value("2023-02"))
+          .andExpect(jsonPath("$.to").value("2023-02"))
+          .andExpect(jsonPath("$.categories[0].category").value("MORADIA"))
+          .andExpect(jsonPath("$.categories[0].total").value(1500.00))
+          .andExpect(jsonPath("$.categories[0].average").value(1500.00))
+          .andExpect(jsonPath("$.categories[0].months[0].month").value("2023-02"))
+          .andExpect(jsonPath("$.categories[0].months[0].total").value(1500.00))
+          .andExpect(jsonPath("$.categories[0].months[0].delta").value(-250.00));
+    }
+
+    @Test
+    @DisplayName("categories must return ProblemDetail when period is invalid")
+    void categories_MustReturnProblemDetail_WhenPeriodIsInvalid() throws Exception {
+      BDDMockito.given(analyticsServiceMock.categories("2023-13", "2023-12", null))
+          .willThrow(new InvalidPeriodException("from must be a month in the format yyyy-MM"));
+
+      mockMvc.perform(get(ANALYTICS_BASE_URI + "/categories").param("from", "2023-13").param("to", "2023-12"))
+          .andExpect(status().isBadRequest())
+          .andExpect(jsonPath("$.title").value("Invalid period"))
+          .andExpect(jsonPath("$.detail").value("from must be a month in the format yyyy-MM"));
+    }
+
+  }
+
+}
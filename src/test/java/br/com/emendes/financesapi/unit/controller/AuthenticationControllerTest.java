@@ -1,12 +1,16 @@
 package br.com.emendes.financesapi.unit.controller;
 
+import br.com.emendes.financesapi.config.security.service.TokenService;
 import br.com.emendes.financesapi.controller.AuthenticationController;
+import br.com.emendes.financesapi.dto.request.RefreshTokenRequest;
 import br.com.emendes.financesapi.dto.request.SignInRequest;
 import br.com.emendes.financesapi.dto.request.SignupRequest;
 import br.com.emendes.financesapi.dto.response.TokenResponse;
 import br.com.emendes.financesapi.dto.response.UserResponse;
 import br.com.emendes.financesapi.exception.DataConflictException;
+import br.com.emendes.financesapi.exception.InvalidRefreshTokenException;
 import br.com.emendes.financesapi.service.AuthenticationService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -24,6 +28,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -44,6 +49,8 @@ class AuthenticationControllerTest {
   private MockMvc mockMvc;
   @MockBean
   private AuthenticationService authServiceMock;
+  @MockBean
+  private TokenService tokenServiceMock;
 
   private final String AUTH_BASE_URI = "/api/auth";
 
@@ -199,4 +206,101 @@ class AuthenticationControllerTest {
 
   }
 
+  @Nested
+  @DisplayName("Tests for refresh endpoint")
+  class refreshEndpoint {
+
+    private final String URI = AUTH_BASE_URI + "/refresh";
+
+    @Test
+    @DisplayName("refresh must return TokenResponse when refresh token is valid")
+    void refresh_MustReturnTokenResponse_WhenRefreshTokenIsValid() throws Exception {
+      TokenResponse tokenResponse = TokenResponse.builder()
+          .type("Bearer")
+          .token("dfuehf08743hf8374hf80he8f9ahsd9fasgdf976gsda7f9gsa7gfsa76dgf9asgfd97sagfs")
+          .refreshToken("n3w-r3fr35h-70k3n")
+          .expiresIn(900)
+          .build();
+
+      BDDMockito.when(authServiceMock.refresh(any(RefreshTokenRequest.class)))
+          .thenReturn(tokenResponse);
+
+      String requestBody = """
+          {
+            "refreshToken" : "r3fr35h-70k3n"
+          }
+          """;
+
+      mockMvc.perform(
+              post(URI).contentType(MediaType.APPLICATION_JSON).content(requestBody))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.token").isNotEmpty())
+          .andExpect(jsonPath("$.type").value("Bearer"))
+          .andExpect(jsonPath("$.refreshToken").value("n3w-r3fr35h-70k3n"))
+          .andExpect(jsonPath("$.expiresIn").value(900));
+    }
+
+    @Test
+    @DisplayName("refresh must return ProblemDetail when refresh token is invalid")
+    void refresh_MustReturnProblemDetail_WhenRefreshTokenIsInvalid() throws Exception {
+      BDDMockito.given(authServiceMock.refresh(any(RefreshTokenRequest.class)))
+          .willThrow(new InvalidRefreshTokenException("Refresh token was revoked"));
+
+      String requestBody = """
+          {
+            "refreshToken" : "r3fr35h-70k3n"
+          }
+          """;
+
+      mockMvc.perform(
+              post(URI).contentType(MediaType.APPLICATION_JSON).content(requestBody))
+          .andExpect(status().isUnauthorized())
+          .andExpect(jsonPath("$.title").value("Invalid refresh token"))
+          .andExpect(jsonPath("$.detail").value("Refresh token was revoked"));
+    }
+
+    @Test
+    @DisplayName("refresh must return ValidationProblemDetail when refresh token is blank")
+    void refresh_MustReturnValidationProblemDetail_WhenRefreshTokenIsBlank() throws Exception {
+      String requestBody = """
+          {
+            "refreshToken" : "   "
+          }
+          """;
+
+      mockMvc.perform(
+              post(URI).contentType(MediaType.APPLICATION_JSON).content(requestBody))
+          .andExpect(status().isBadRequest())
+          .andExpect(jsonPath("$.title").value("Invalid fields"))
+          .andExpect(jsonPath("$.fields").value("refreshToken"));
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for signOut endpoint")
+  class signOutEndpoint {
+
+    private final String URI = AUTH_BASE_URI + "/signout";
+
+    @Test
+    @DisplayName("signOut must return 204 and pass access token to service when sign out successfully")
+    void signOut_MustReturn204AndPassAccessTokenToService_WhenSignOutSuccessfully() throws Exception {
+      BDDMockito.when(tokenServiceMock.recoverToken(any(HttpServletRequest.class))).thenReturn("4cc355-70k3n");
+      String requestBody = """
+          {
+            "refreshToken" : "r3fr35h-70k3n"
+          }
+          """;
+
+      mockMvc.perform(
+              post(URI).contentType(MediaType.APPLICATION_JSON).content(requestBody)
+                  .header("Authorization", "Bearer 4cc355-70k3n"))
+          .andExpect(status().isNoContent());
+
+      BDDMockito.verify(authServiceMock).signOut(any(RefreshTokenRequest.class), eq("4cc355-70k3n"));
+    }
+
+  }
+
 }
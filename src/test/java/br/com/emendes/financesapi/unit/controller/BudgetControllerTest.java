@@ -0,0 +1,119 @@
+package br.com.emendes.financesapi.unit.controller;
+
+import br.com.emendes.financesapi.controller.BudgetController;
+import br.com.emendes.financesapi.exception.InvalidCategoryException;
+import br.com.emendes.financesapi.service.BudgetService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.List;
+
+import static br.com.emendes.financesapi.util.faker.BudgetFaker.budgetResponse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@WebMvcTest(
+    includeFilters = {
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {BudgetController.class}),
+        @ComponentScan.Filter(classes = RestControllerAdvice.class)
+    },
+    excludeAutoConfiguration = {SecurityAutoConfiguration.class},
+    useDefaultFilters = false
+)
+@DisplayName("Tests for BudgetController")
+class BudgetControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+  @MockBean
+  private BudgetService budgetServiceMock;
+
+  private final String BUDGET_BASE_URI = "/api/budgets";
+  private final String CONTENT_TYPE = "application/json;charset=UTF-8";
+
+  @Nested
+  @DisplayName("Tests for readByYearAndMonth endpoint")
+  class ReadByYearAndMonthEndpoint {
+
+    @Test
+    @DisplayName("readByYearAndMonth must return List<BudgetResponse> when found successfully")
+    void readByYearAndMonth_MustReturnListBudgetResponse_WhenFoundSuccessfully() throws Exception {
+      BDDMockito.when(budgetServiceMock.readByYearAndMonth(2023, 2)).thenReturn(List.of(budgetResponse()));
+
+      mockMvc.perform(get(BUDGET_BASE_URI + "/2023/2"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$[0].category").value("ALIMENTACAO"))
+          .andExpect(jsonPath("$[0].limit").value(800.00))
+          .andExpect(jsonPath("$[0].spent").value(271.94))
+          .andExpect(jsonPath("$[0].remaining").value(528.06))
+          .andExpect(jsonPath("$[0].exceeded").value(false));
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for save endpoint")
+  class SaveEndpoint {
+
+    @Test
+    @DisplayName("save must return BudgetResponse when save successfully")
+    void save_MustReturnBudgetResponse_WhenSaveSuccessfully() throws Exception {
+      BDDMockito.when(budgetServiceMock.save(eq(2023), eq(2), eq("ALIMENTACAO"), any()))
+          .thenReturn(budgetResponse());
+
+      mockMvc.perform(put(BUDGET_BASE_URI + "/2023/2/ALIMENTACAO").contentType(CONTENT_TYPE).content("{\"limit\":800.00}"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.category").value("ALIMENTACAO"));
+    }
+
+    @Test
+    @DisplayName("save must return status 400 when limit is not positive")
+    void save_MustReturnStatus400_WhenLimitIsNotPositive() throws Exception {
+      mockMvc.perform(put(BUDGET_BASE_URI + "/2023/2/ALIMENTACAO").contentType(CONTENT_TYPE).content("{\"limit\":0}"))
+          .andExpect(status().isBadRequest())
+          .andExpect(jsonPath("$.fields").value("limit"));
+    }
+
+    @Test
+    @DisplayName("save must return status 400 when category is invalid")
+    void save_MustReturnStatus400_WhenCategoryIsInvalid() throws Exception {
+      BDDMockito.when(budgetServiceMock.save(eq(2023), eq(2), eq("MERCADO"), any()))
+          .thenThrow(new InvalidCategoryException("Category MERCADO not found"));
+
+      mockMvc.perform(put(BUDGET_BASE_URI + "/2023/2/MERCADO").contentType(CONTENT_TYPE).content("{\"limit\":800.00}"))
+          .andExpect(status().isBadRequest())
+          .andExpect(jsonPath("$.title").value("Invalid category"))
+          .andExpect(jsonPath("$.detail").value("Category MERCADO not found"));
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for delete endpoint")
+  class DeleteEndpoint {
+
+    @Test
+    @DisplayName("delete must return status 204 when delete successfully")
+    void delete_MustReturnStatus204_WhenDeleteSuccessfully() throws Exception {
+      mockMvc.perform(delete(BUDGET_BASE_URI + "/2023/2/ALIMENTACAO"))
+          .andExpect(status().isNoContent());
+    }
+
+  }
+
+}
@@ -1,8 +1,11 @@
 package br.com.emendes.financesapi.unit.controller;
 
 import br.com.emendes.financesapi.controller.CategoryController;
+import br.com.emendes.financesapi.dto.request.CategoryRequest;
 import br.com.emendes.financesapi.dto.response.CategoryResponse;
-import br.com.emendes.financesapi.model.Category;
+import br.com.emendes.financesapi.exception.DataConflictException;
+import br.com.emendes.financesapi.exception.EntityNotFoundException;
+import br.com.emendes.financesapi.model.DefaultCategory;
 import br.com.emendes.financesapi.service.CategoryService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,17 +19,25 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ActiveProfiles("test")
 @WebMvcTest(
-    includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {CategoryController.class}),
+    includeFilters = {
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {CategoryController.class}),
+        @ComponentScan.Filter(classes = RestControllerAdvice.class)
+    },
     excludeAutoConfiguration = SecurityAutoConfiguration.class,
     useDefaultFilters = false
 )
@@ -40,6 +51,7 @@ class CategoryControllerTest {
   private CategoryService categoryServiceMock;
 
   private static final String CATEGORY_BASE_URI = "/api/categories";
+  private static final String CONTENT_TYPE = "application/json;charset=UTF-8";
 
   @Nested
   @DisplayName("Tests for fetchAllCategories endpoint")
@@ -48,7 +60,7 @@ class CategoryControllerTest {
     @Test
     @DisplayName("fetchAllCategories must return List<CategoryResponse> when fetch successfully")
     void fetchAllCategories_MustReturnListCategoryResponse_WhenFetchSuccessfully() throws Exception {
-      List<CategoryResponse> categoryResponseList = Arrays.stream(Category.values())
+      List<CategoryResponse> categoryResponseList = Arrays.stream(DefaultCategory.values())
           .map(c -> new CategoryResponse(c.name())).collect(Collectors.toList());
 
       BDDMockito.when(categoryServiceMock.fetchAllCategories()).thenReturn(categoryResponseList);
@@ -58,4 +70,62 @@ class CategoryControllerTest {
 
   }
 
-}
\ No newline at end of file
+  @Nested
+  @DisplayName("Tests for create endpoint")
+  class CreateEndpoint {
+
+    @Test
+    @DisplayName("create must return status 201 and CategoryResponse when create successfully")
+    void create_MustReturnStatus201AndCategoryResponse_WhenCreateSuccessfully() throws Exception {
+      BDDMockito.when(categoryServiceMock.create(any(CategoryRequest.class))).thenReturn(new CategoryResponse("PETS"));
+
+      mockMvc.perform(post(CATEGORY_BASE_URI).contentType(CONTENT_TYPE).content("{\"category\":\"PETS\"}"))
+          .andExpect(status().isCreated())
+          .andExpect(jsonPath("$.category").value("PETS"));
+    }
+
+    @Test
+    @DisplayName("create must return status 400 when category has invalid format")
+    void create_MustReturnStatus400_WhenCategoryHasInvalidFormat() throws Exception {
+      mockMvc.perform(post(CATEGORY_BASE_URI).contentType(CONTENT_TYPE).content("{\"category\":\"pets\"}"))
+          .andExpect(status().isBadRequest())
+          .andExpect(jsonPath("$.fields").value("category"));
+    }
+
+    @Test
+    @DisplayName("create must return status 409 when category already exists")
+    void create_MustReturnStatus409_WhenCategoryAlreadyExists() throws Exception {
+      BDDMockito.when(categoryServiceMock.create(any(CategoryRequest.class)))
+          .thenThrow(new DataConflictException("Category LAZER already exists"));
+
+      mockMvc.perform(post(CATEGORY_BASE_URI).contentType(CONTENT_TYPE).content("{\"category\":\"LAZER\"}"))
+          .andExpect(status().isConflict())
+          .andExpect(jsonPath("$.detail").value("Category LAZER already exists"));
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for delete endpoint")
+  class DeleteEndpoint {
+
+    @Test
+    @DisplayName("delete must return status 204 when delete successfully")
+    void delete_MustReturnStatus204_WhenDeleteSuccessfully() throws Exception {
+      mockMvc.perform(delete(CATEGORY_BASE_URI + "/PETS"))
+          .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @DisplayName("delete must return status 404 when category not found")
+    void delete_MustReturnStatus404_WhenCategoryNotFound() throws Exception {
+      BDDMockito.doThrow(new EntityNotFoundException("Category not found: PETS"))
+          .when(categoryServiceMock).delete("PETS");
+
+      mockMvc.perform(delete(CATEGORY_BASE_URI + "/PETS"))
+          .andExpect(status().isNotFound());
+    }
+
+  }
+
+}
@@ -3,7 +3,8 @@ package br.com.emendes.financesapi.unit.controller;
 import br.com.emendes.financesapi.controller.ExpenseController;
 import br.com.emendes.financesapi.dto.response.ExpenseResponse;
 import br.com.emendes.financesapi.exception.EntityNotFoundException;
-import br.com.emendes.financesapi.model.Category;
+import br.com.emendes.financesapi.exception.InvalidFieldsParameterException;
+import br.com.emendes.financesapi.model.Money;
 import br.com.emendes.financesapi.service.ExpenseService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -23,6 +24,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -53,8 +55,8 @@ class ExpenseControllerTest {
       .id(50000L)
       .description("expense xpto")
       .date(LocalDate.parse("2023-02-05"))
-      .category(Category.ALIMENTACAO)
-      .value(new BigDecimal("100.99"))
+      .category("ALIMENTACAO")
+      .value(Money.of(new BigDecimal("100.99")))
       .build();
 
   @Nested
@@ -104,6 +106,44 @@ class ExpenseControllerTest {
           .andExpect(jsonPath("$.messages").isString());
     }
 
+    @Test
+    @DisplayName("create must return ValidationProblemDetail when date is malformed")
+    void create_MustReturnValidationProblemDetail_WhenDateIsMalformed() throws Exception {
+      String requestBody = """
+          {
+            "description" : "Mercado",
+            "date" : "05/02/2023",
+            "value" : 271.94,
+            "category" : "ALIMENTACAO"
+          }
+          """;
+
+      mockMvc.perform(post(EXPENSE_BASE_URI).contentType(CONTENT_TYPE).content(requestBody))
+          .andExpect(status().isBadRequest())
+          .andExpect(jsonPath("$.title").value("Invalid fields"))
+          .andExpect(jsonPath("$.fields").value("date"))
+          .andExpect(jsonPath("$.messages").value("Invalid date"));
+    }
+
+    @Test
+    @DisplayName("create must return ValidationProblemDetail when value is not a number")
+    void create_MustReturnValidationProblemDetail_WhenValueIsNotANumber() throws Exception {
+      String requestBody = """
+          {
+            "description" : "Mercado",
+            "date" : "2023-02-05",
+            "value" : "271,94",
+            "category" : "ALIMENTACAO"
+          }
+          """;
+
+      mockMvc.perform(post(EXPENSE_BASE_URI).contentType(CONTENT_TYPE).content(requestBody))
+          .andExpect(status().isBadRequest())
+          .andExpect(jsonPath("$.title").value("Invalid fields"))
+          .andExpect(jsonPath("$.fields").value("value"))
+          .andExpect(jsonPath("$.messages").value("Invalid number"));
+    }
+
   }
 
   @Nested
@@ -120,6 +160,13 @@ class ExpenseControllerTest {
       mockMvc.perform(get(EXPENSE_BASE_URI))
           .andExpect(status().isOk())
           .andExpect(jsonPath("$.totalElements").value(1))
+          .andExpect(jsonPath("$.totalPages").value(1))
+          .andExpect(jsonPath("$.numberOfElements").value(1))
+          .andExpect(jsonPath("$.first").value(true))
+          .andExpect(jsonPath("$.last").value(true))
+          .andExpect(jsonPath("$.empty").value(false))
+          .andExpect(jsonPath("$.pageable").doesNotExist())
+          .andExpect(jsonPath("$.sort").doesNotExist())
           .andExpect(jsonPath("$.content[0].id").value(50000L))
           .andExpect(jsonPath("$.content[0].description").value("expense xpto"))
           .andExpect(jsonPath("$.content[0].date").value("2023-02-05"))
@@ -167,6 +214,40 @@ class ExpenseControllerTest {
           .andExpect(jsonPath("$.detail").value("The user has no expenses with a description similar to xxxx"));
     }
 
+    @Test
+    @DisplayName("read with fields must return only given fields when read successfully")
+    void readWithFields_MustReturnOnlyGivenFields_WhenReadSuccessfully() throws Exception {
+      ExpenseResponse partialExpenseResponse = ExpenseResponse.builder()
+          .id(50000L)
+          .description("expense xpto")
+          .value(Money.of(new BigDecimal("100.99")))
+          .build();
+      BDDMockito.when(expenseServiceMock.readAllByUser(eq(Set.of("description", "value")), any()))
+          .thenReturn(new PageImpl<>(List.of(partialExpenseResponse)));
+
+      mockMvc.perform(get(EXPENSE_BASE_URI).param("fields", "description,value"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.content[0].id").value(50000L))
+          .andExpect(jsonPath("$.content[0].description").value("expense xpto"))
+          .andExpect(jsonPath("$.content[0].value").value("100.99"))
+          .andExpect(jsonPath("$.content[0].date").doesNotExist())
+          .andExpect(jsonPath("$.content[0].category").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("read with fields must return ProblemDetail when fields has unsupported field")
+    void readWithFields_MustReturnProblemDetail_WhenFieldsHasUnsupportedField() throws Exception {
+      BDDMockito.given(expenseServiceMock.readAllByUser(eq(Set.of("user")), any()))
+          .willThrow(new InvalidFieldsParameterException("Unsupported field(s) user, supported fields are " +
+              "category, currency, date, description, id, value"));
+
+      mockMvc.perform(get(EXPENSE_BASE_URI).param("fields", "user"))
+          .andExpect(status().isBadRequest())
+          .andExpect(jsonPath("$.title").value("Invalid fields parameter"))
+          .andExpect(jsonPath("$.detail").value("Unsupported field(s) user, supported fields are " +
+              "category, currency, date, description, id, value"));
+    }
+
   }
 
   @Nested
@@ -275,8 +356,8 @@ class ExpenseControllerTest {
           .id(50000L)
           .description("expense xpto updated")
           .date(LocalDate.parse("2023-02-05"))
-          .category(Category.ALIMENTACAO)
-          .value(new BigDecimal("149.99"))
+          .category("ALIMENTACAO")
+          .value(Money.of(new BigDecimal("149.99")))
           .build();
 
       BDDMockito.when(expenseServiceMock.update(eq(50000L), any()))
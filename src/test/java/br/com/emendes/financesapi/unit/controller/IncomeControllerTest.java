@@ -3,6 +3,7 @@ package br.com.emendes.financesapi.unit.controller;
 import br.com.emendes.financesapi.controller.IncomeController;
 import br.com.emendes.financesapi.dto.response.IncomeResponse;
 import br.com.emendes.financesapi.exception.EntityNotFoundException;
+import br.com.emendes.financesapi.model.Money;
 import br.com.emendes.financesapi.service.IncomeService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -52,7 +53,7 @@ class IncomeControllerTest {
       .id(50000L)
       .description("income xpto")
       .date(LocalDate.parse("2023-02-05"))
-      .value(new BigDecimal("2492.83"))
+      .value(Money.of(new BigDecimal("2492.83")))
       .build();
 
   @Nested
@@ -266,7 +267,7 @@ class IncomeControllerTest {
           .id(50000L)
           .description("income xpto updated")
           .date(LocalDate.parse("2023-02-05"))
-          .value(new BigDecimal("2149.99"))
+          .value(Money.of(new BigDecimal("2149.99")))
           .build();
 
       BDDMockito.when(incomeServiceMock.update(eq(50000L), any()))
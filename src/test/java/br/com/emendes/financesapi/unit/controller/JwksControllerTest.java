@@ -0,0 +1,82 @@
+package br.com.emendes.financesapi.unit.controller;
+
+import br.com.emendes.financesapi.config.security.key.JwtKeyring;
+import br.com.emendes.financesapi.controller.JwksController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ActiveProfiles("test")
+@WebMvcTest(
+    includeFilters = {
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = JwksController.class),
+        @ComponentScan.Filter(classes = RestControllerAdvice.class)
+    },
+    excludeAutoConfiguration = {SecurityAutoConfiguration.class},
+    useDefaultFilters = false
+)
+@DisplayName("Tests for JwksController")
+class JwksControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+  @MockBean
+  private JwtKeyring jwtKeyringMock;
+
+  private final String JWKS_URI = "/.well-known/jwks.json";
+
+  @BeforeEach
+  void setUp() {
+    BDDMockito.when(jwtKeyringMock.getJwkSet()).thenReturn(Map.of("keys", List.of(
+        Map.of("kty", "OKP", "crv", "Ed25519", "x", "11qYAYKxCrfVS_7TyWQHOg7hcvPapiMlrwIaaPcHURo",
+            "kid", "ed-2025", "alg", "EdDSA", "use", "sig"))));
+  }
+
+  @Nested
+  @DisplayName("Tests for jwks endpoint")
+  class JwksEndpoint {
+
+    @Test
+    @DisplayName("jwks must return JWK set with cache headers")
+    void jwks_MustReturnJwkSetWithCacheHeaders() throws Exception {
+      mockMvc.perform(get(JWKS_URI))
+          .andExpect(status().isOk())
+          .andExpect(content().contentTypeCompatibleWith("application/jwk-set+json"))
+          .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=900, public"))
+          .andExpect(header().exists(HttpHeaders.ETAG))
+          .andExpect(jsonPath("$.keys[0].kid").value("ed-2025"))
+          .andExpect(jsonPath("$.keys[0].alg").value("EdDSA"));
+    }
+
+    @Test
+    @DisplayName("jwks must return 304 when If-None-Match matches ETag")
+    void jwks_MustReturn304_WhenIfNoneMatchMatchesETag() throws Exception {
+      String eTag = mockMvc.perform(get(JWKS_URI))
+          .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+      mockMvc.perform(get(JWKS_URI).header(HttpHeaders.IF_NONE_MATCH, eTag))
+          .andExpect(status().isNotModified())
+          .andExpect(content().string(""));
+    }
+
+  }
+
+}
@@ -0,0 +1,124 @@
+package br.com.emendes.financesapi.unit.controller;
+
+import br.com.emendes.financesapi.controller.RecurringRuleController;
+import br.com.emendes.financesapi.exception.EntityNotFoundException;
+import br.com.emendes.financesapi.service.RecurringRuleService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import static br.com.emendes.financesapi.util.faker.RecurringRuleFaker.recurringRuleResponse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ActiveProfiles("test")
+@WebMvcTest(
+    includeFilters = {
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {RecurringRuleController.class}),
+        @ComponentScan.Filter(classes = RestControllerAdvice.class)
+    },
+    excludeAutoConfiguration = {SecurityAutoConfiguration.class},
+    useDefaultFilters = false
+)
+@DisplayName("Tests for RecurringRuleController")
+class RecurringRuleControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+  @MockBean
+  private RecurringRuleService recurringRuleServiceMock;
+
+  private final String RECURRING_RULE_BASE_URI = "/api/recurring-rules";
+  private final String CONTENT_TYPE = "application/json;charset=UTF-8";
+
+  @Nested
+  @DisplayName("Tests for Create endpoint")
+  class CreateEndpoint {
+
+    @Test
+    @DisplayName("create must return RecurringRuleResponse and status 201 when create successfully")
+    void create_MustReturnRecurringRuleResponseAndStatus201_WhenCreateSuccessfully() throws Exception {
+      BDDMockito.when(recurringRuleServiceMock.create(any())).thenReturn(recurringRuleResponse());
+
+      String requestBody = """
+          {
+            "type" : "EXPENSE",
+            "description" : "Aluguel",
+            "value" : 1500.00,
+            "category" : "MORADIA",
+            "frequency" : "MONTHLY",
+            "startDate" : "2024-01-31"
+          }
+          """;
+
+      mockMvc.perform(post(RECURRING_RULE_BASE_URI).contentType(CONTENT_TYPE).content(requestBody))
+          .andExpect(status().isCreated())
+          .andExpect(header().string("Location", "http://localhost/api/recurring-rules/200000"))
+          .andExpect(jsonPath("$.id").value(200_000L))
+          .andExpect(jsonPath("$.frequency").value("MONTHLY"))
+          .andExpect(jsonPath("$.nextOccurrence").value("2024-01-31"))
+          .andExpect(jsonPath("$.endDate").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("create must return status 400 when request body has invalid fields")
+    void create_MustReturnStatus400_WhenRequestBodyHasInvalidFields() throws Exception {
+      String requestBody = """
+          {
+            "type" : "TRANSFER",
+            "description" : "Aluguel",
+            "value" : 1500.00,
+            "frequency" : "DAILY",
+            "startDate" : "2024-01-31"
+          }
+          """;
+
+      mockMvc.perform(post(RECURRING_RULE_BASE_URI).contentType(CONTENT_TYPE).content(requestBody))
+          .andExpect(status().isBadRequest())
+          .andExpect(jsonPath("$.title").value("Invalid fields"));
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for ReadById endpoint")
+  class ReadByIdEndpoint {
+
+    @Test
+    @DisplayName("readById must return status 404 when recurring rule not found")
+    void readById_MustReturnStatus404_WhenRecurringRuleNotFound() throws Exception {
+      BDDMockito.when(recurringRuleServiceMock.readByIdAndUser(999_999L))
+          .thenThrow(new EntityNotFoundException("Recurring rule not found with id: 999999"));
+
+      mockMvc.perform(get(RECURRING_RULE_BASE_URI + "/999999"))
+          .andExpect(status().isNotFound())
+          .andExpect(jsonPath("$.detail").value("Recurring rule not found with id: 999999"));
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for Delete endpoint")
+  class DeleteEndpoint {
+
+    @Test
+    @DisplayName("delete must return status 204 when delete successfully")
+    void delete_MustReturnStatus204_WhenDeleteSuccessfully() throws Exception {
+      mockMvc.perform(delete(RECURRING_RULE_BASE_URI + "/200000"))
+          .andExpect(status().isNoContent());
+    }
+
+  }
+
+}
@@ -4,7 +4,8 @@ import br.com.emendes.financesapi.controller.SummaryController;
 import br.com.emendes.financesapi.dto.response.SummaryResponse;
 import br.com.emendes.financesapi.dto.response.ValueByCategoryResponse;
 import br.com.emendes.financesapi.exception.EntityNotFoundException;
-import br.com.emendes.financesapi.model.Category;
+import br.com.emendes.financesapi.exception.InvalidCurrencyException;
+import br.com.emendes.financesapi.model.Money;
 import br.com.emendes.financesapi.service.SummaryService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,11 +17,13 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.util.List;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -54,20 +57,22 @@ class SummaryControllerTest {
     @DisplayName("monthSummary must return SummaryResponse when year 2023 and month is 2 successfully")
     void monthSummary_MustReturnSummaryResponse_WhenYearIs2023AndMonthIs2Successfully() throws Exception {
       List<ValueByCategoryResponse> valueByCategoryResponseList =
-          List.of(ValueByCategoryResponse.builder().category(Category.MORADIA).value(new BigDecimal("1500.00")).build());
+          List.of(ValueByCategoryResponse.builder().category("MORADIA").value(Money.of(new BigDecimal("1500.00"))).build());
 
       SummaryResponse summaryResponse = SummaryResponse.builder()
-          .incomeTotalValue(new BigDecimal("2500.00"))
-          .expenseTotalValue(new BigDecimal("1500.00"))
-          .finalBalance(new BigDecimal("1000.00"))
+          .currency("BRL")
+          .incomeTotalValue(Money.of(new BigDecimal("2500.00")))
+          .expenseTotalValue(Money.of(new BigDecimal("1500.00")))
+          .finalBalance(Money.of(new BigDecimal("1000.00")))
           .valuesByCategory(valueByCategoryResponseList)
           .build();
 
-      BDDMockito.when(summaryServiceMock.monthSummary(2023, 2))
+      BDDMockito.when(summaryServiceMock.monthSummary(2023, 2, null))
           .thenReturn(summaryResponse);
 
       mockMvc.perform(get(SUMMARY_BASE_URI + "/2023/2"))
           .andExpect(status().isOk())
+          .andExpect(jsonPath("$.currency").value("BRL"))
           .andExpect(jsonPath("$.incomeTotalValue").value(2500.00))
           .andExpect(jsonPath("$.expenseTotalValue").value(1500.00))
           .andExpect(jsonPath("$.finalBalance").value(1000.00))
@@ -79,7 +84,7 @@ class SummaryControllerTest {
     @Test
     @DisplayName("monthSummary must return ProblemDetail when user has no expenses or incomes for year 2023 and month 3")
     void monthSummary_MustReturnProblemDetail_WhenUserHasNoExpensesOrIncomesForYear2023AndMonth3() throws Exception {
-      BDDMockito.given(summaryServiceMock.monthSummary(2023, 3))
+      BDDMockito.given(summaryServiceMock.monthSummary(2023, 3, null))
           .willThrow(new EntityNotFoundException("Has no expenses or incomes for MARCH 2023"));
 
       mockMvc.perform(get(SUMMARY_BASE_URI + "/2023/3"))
@@ -88,6 +93,32 @@ class SummaryControllerTest {
           .andExpect(jsonPath("$.detail").value("Has no expenses or incomes for MARCH 2023"));
     }
 
+    @Test
+    @DisplayName("monthSummary must return ProblemDetail when currency is not supported")
+    void monthSummary_MustReturnProblemDetail_WhenCurrencyIsNotSupported() throws Exception {
+      BDDMockito.given(summaryServiceMock.monthSummary(2023, 2, "XYZ"))
+          .willThrow(new InvalidCurrencyException("Currency XYZ is not supported"));
+
+      mockMvc.perform(get(SUMMARY_BASE_URI + "/2023/2").param("currency", "XYZ"))
+          .andExpect(status().isBadRequest())
+          .andExpect(jsonPath("$.title").value("Invalid currency"))
+          .andExpect(jsonPath("$.detail").value("Currency XYZ is not supported"));
+    }
+
+    @Test
+    @DisplayName("monthSummary must return ProblemDetail when FX rate is missing")
+    void monthSummary_MustReturnProblemDetail_WhenFxRateIsMissing() throws Exception {
+      BDDMockito.given(summaryServiceMock.monthSummary(2023, 2, null))
+          .willThrow(new InvalidDataAccessResourceUsageException("could not execute query", new SQLException(
+              "ERROR: FX rate of USD on 2023-02-06 is missing\n  Where: PL/pgSQL function fn_missing_fx_rate",
+              "FX001")));
+
+      mockMvc.perform(get(SUMMARY_BASE_URI + "/2023/2"))
+          .andExpect(status().isInternalServerError())
+          .andExpect(jsonPath("$.title").value("Missing FX rate"))
+          .andExpect(jsonPath("$.detail").value("FX rate of USD on 2023-02-06 is missing"));
+    }
+
     @Test
     @DisplayName("monthSummary must return ProblemDetail when year is invalid")
     void monthSummary_MustReturnProblemDetail_WhenYearIsInvalid() throws Exception {
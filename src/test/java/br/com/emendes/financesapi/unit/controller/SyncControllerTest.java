@@ -0,0 +1,80 @@
+package br.com.emendes.financesapi.unit.controller;
+
+import br.com.emendes.financesapi.controller.SyncController;
+import br.com.emendes.financesapi.dto.response.SyncChangeResponse;
+import br.com.emendes.financesapi.dto.response.SyncResponse;
+import br.com.emendes.financesapi.model.TransactionType;
+import br.com.emendes.financesapi.service.SyncService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@WebMvcTest(
+    includeFilters = {
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = SyncController.class),
+        @ComponentScan.Filter(classes = RestControllerAdvice.class)
+    },
+    excludeAutoConfiguration = {SecurityAutoConfiguration.class},
+    useDefaultFilters = false
+)
+@DisplayName("Tests for SyncController")
+class SyncControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+  @MockBean
+  private SyncService syncServiceMock;
+
+  private static final String SYNC_BASE_URI = "/api/sync";
+
+  @Nested
+  @DisplayName("Tests for sync endpoint")
+  class SyncEndpoint {
+
+    @Test
+    @DisplayName("sync must return SyncResponse with tombstone when sync successfully")
+    void sync_MustReturnSyncResponseWithTombstone_WhenSyncSuccessfully() throws Exception {
+      SyncResponse syncResponse = SyncResponse.builder()
+          .changes(List.of(SyncChangeResponse.builder().type(TransactionType.INCOME).id(2L).deleted(true).build()))
+          .nextToken(15L)
+          .hasMore(false)
+          .build();
+      BDDMockito.when(syncServiceMock.sync(10L, 500)).thenReturn(syncResponse);
+
+      mockMvc.perform(get(SYNC_BASE_URI).param("since", "10"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.nextToken").value(15L))
+          .andExpect(jsonPath("$.hasMore").value(false))
+          .andExpect(jsonPath("$.changes[0].type").value("INCOME"))
+          .andExpect(jsonPath("$.changes[0].deleted").value(true))
+          .andExpect(jsonPath("$.changes[0].description").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("sync must return status 400 when since is not a number")
+    void sync_MustReturnStatus400_WhenSinceIsNotANumber() throws Exception {
+      mockMvc.perform(get(SYNC_BASE_URI).param("since", "abc"))
+          .andExpect(status().isBadRequest())
+          .andExpect(jsonPath("$.title").value("Type mismatch"));
+    }
+
+  }
+
+}
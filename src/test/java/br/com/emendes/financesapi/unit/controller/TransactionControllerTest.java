@@ -0,0 +1,109 @@
+package br.com.emendes.financesapi.unit.controller;
+
+import br.com.emendes.financesapi.controller.TransactionController;
+import br.com.emendes.financesapi.dto.response.TimelineEntryResponse;
+import br.com.emendes.financesapi.dto.response.TimelineResponse;
+import br.com.emendes.financesapi.exception.InvalidCursorException;
+import br.com.emendes.financesapi.model.Money;
+import br.com.emendes.financesapi.model.TransactionType;
+import br.com.emendes.financesapi.service.TransactionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@WebMvcTest(
+    includeFilters = {
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = TransactionController.class),
+        @ComponentScan.Filter(classes = RestControllerAdvice.class)
+    },
+    excludeAutoConfiguration = {SecurityAutoConfiguration.class},
+    useDefaultFilters = false
+)
+@DisplayName("Tests for TransactionController")
+class TransactionControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+  @MockBean
+  private TransactionService transactionServiceMock;
+
+  private static final String TRANSACTION_BASE_URI = "/api/transactions";
+
+  @Nested
+  @DisplayName("Tests for timeline endpoint")
+  class TimelineEndpoint {
+
+    @Test
+    @DisplayName("timeline must return TimelineResponse when read successfully")
+    void timeline_MustReturnTimelineResponse_WhenReadSuccessfully() throws Exception {
+      TimelineEntryResponse expense = TimelineEntryResponse.builder()
+          .type(TransactionType.EXPENSE)
+          .id(8L)
+          .description("Aluguel")
+          .date(LocalDate.parse("2023-02-05"))
+          .value(Money.of(new BigDecimal("1500.00")))
+          .currency("BRL")
+          .category("MORADIA")
+          .balance(Money.of(new BigDecimal("1000.00")))
+          .build();
+      TimelineResponse timelineResponse = TimelineResponse.builder()
+          .currency("BRL")
+          .transactions(List.of(expense))
+          .nextCursor("MjAyMy0wMi0wNTpFWFBFTlNFOjg")
+          .hasMore(true)
+          .build();
+      BDDMockito.when(transactionServiceMock.timeline(null, 1, null)).thenReturn(timelineResponse);
+
+      mockMvc.perform(get(TRANSACTION_BASE_URI).param("size", "1"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.currency").value("BRL"))
+          .andExpect(jsonPath("$.nextCursor").value("MjAyMy0wMi0wNTpFWFBFTlNFOjg"))
+          .andExpect(jsonPath("$.hasMore").value(true))
+          .andExpect(jsonPath("$.transactions[0].type").value("EXPENSE"))
+          .andExpect(jsonPath("$.transactions[0].category").value("MORADIA"))
+          .andExpect(jsonPath("$.transactions[0].value").value(1500.00))
+          .andExpect(jsonPath("$.transactions[0].balance").value(1000.00));
+    }
+
+    @Test
+    @DisplayName("timeline must return ProblemDetail when cursor is invalid")
+    void timeline_MustReturnProblemDetail_WhenCursorIsInvalid() throws Exception {
+      BDDMockito.given(transactionServiceMock.timeline("xpto", 20, null))
+          .willThrow(new InvalidCursorException("Cursor xpto is invalid"));
+
+      mockMvc.perform(get(TRANSACTION_BASE_URI).param("cursor", "xpto"))
+          .andExpect(status().isBadRequest())
+          .andExpect(jsonPath("$.title").value("Invalid cursor"))
+          .andExpect(jsonPath("$.detail").value("Cursor xpto is invalid"));
+    }
+
+    @Test
+    @DisplayName("timeline must return status 400 when size is not a number")
+    void timeline_MustReturnStatus400_WhenSizeIsNotANumber() throws Exception {
+      mockMvc.perform(get(TRANSACTION_BASE_URI).param("size", "abc"))
+          .andExpect(status().isBadRequest())
+          .andExpect(jsonPath("$.title").value("Type mismatch"));
+    }
+
+  }
+
+}
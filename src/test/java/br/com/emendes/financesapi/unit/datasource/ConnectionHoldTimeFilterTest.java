@@ -0,0 +1,115 @@
+package br.com.emendes.financesapi.unit.datasource;
+
+import br.com.emendes.financesapi.config.datasource.ConnectionHoldTimeDataSource;
+import br.com.emendes.financesapi.config.datasource.ConnectionHoldTimeFilter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Unit tests for ConnectionHoldTimeFilter and ConnectionHoldTimeDataSource")
+class ConnectionHoldTimeFilterTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final ConnectionHoldTimeFilter connectionHoldTimeFilter = new ConnectionHoldTimeFilter(meterRegistry);
+
+  private Connection targetConnectionMock;
+  private ConnectionHoldTimeDataSource connectionHoldTimeDataSource;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    targetConnectionMock = mock(Connection.class);
+    DataSource dataSourceMock = mock(DataSource.class);
+    when(dataSourceMock.getConnection()).thenReturn(targetConnectionMock);
+    connectionHoldTimeDataSource = new ConnectionHoldTimeDataSource(dataSourceMock);
+  }
+
+  @Nested
+  @DisplayName("Tests for doFilter method")
+  class DoFilterMethod {
+
+    @Test
+    @DisplayName("doFilter must record connection hold time by method and uri pattern")
+    void doFilter_MustRecordConnectionHoldTimeByMethodAndUriPattern() throws Exception {
+      MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/expenses/1");
+
+      connectionHoldTimeFilter.doFilter(request, new MockHttpServletResponse(), (servletRequest, servletResponse) -> {
+        try (Connection connection = connectionHoldTimeDataSource.getConnection()) {
+          connection.isValid(1);
+          Thread.sleep(5);
+        } catch (Exception exception) {
+          throw new IllegalStateException(exception);
+        }
+        servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/expenses/{id}");
+      });
+
+      Timer actualTimer = meterRegistry.get("financesapi.db.connection.hold")
+          .tag("method", "GET")
+          .tag("uri", "/api/expenses/{id}")
+          .timer();
+      assertThat(actualTimer.count()).isEqualTo(1);
+      assertThat(actualTimer.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(5);
+      verify(targetConnectionMock).isValid(1);
+      verify(targetConnectionMock).close();
+    }
+
+    @Test
+    @DisplayName("doFilter must record zero with uri UNKNOWN when request has no handler and uses no connection")
+    void doFilter_MustRecordZeroWithUriUNKNOWN_WhenRequestHasNoHandlerAndUsesNoConnection() throws Exception {
+      connectionHoldTimeFilter.doFilter(
+          new MockHttpServletRequest("GET", "/none"), new MockHttpServletResponse(), (request, response) -> {
+          });
+
+      Timer actualTimer = meterRegistry.get("financesapi.db.connection.hold").tag("uri", "UNKNOWN").timer();
+      assertThat(actualTimer.count()).isEqualTo(1);
+      assertThat(actualTimer.totalTime(TimeUnit.NANOSECONDS)).isZero();
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for ConnectionHoldTimeDataSource")
+  class ConnectionHoldTimeDataSourceTests {
+
+    @Test
+    @DisplayName("getConnection must return target connection when there is no measurement in progress")
+    void getConnection_MustReturnTargetConnection_WhenThereIsNoMeasurementInProgress() throws Exception {
+      assertThat(connectionHoldTimeDataSource.getConnection()).isSameAs(targetConnectionMock);
+    }
+
+    @Test
+    @DisplayName("getConnection must count hold time once when connection is closed twice")
+    void getConnection_MustCountHoldTimeOnce_WhenConnectionIsClosedTwice() throws Exception {
+      ConnectionHoldTimeDataSource.begin();
+      long start = System.nanoTime();
+      Connection connection = connectionHoldTimeDataSource.getConnection();
+      Thread.sleep(5);
+      connection.close();
+      long firstCloseElapsedNanos = System.nanoTime() - start;
+      Thread.sleep(20);
+      connection.close();
+
+      long actualHoldNanos = ConnectionHoldTimeDataSource.end();
+
+      assertThat(connection).isInstanceOf(ConnectionProxy.class);
+      assertThat(((ConnectionProxy) connection).getTargetConnection()).isSameAs(targetConnectionMock);
+      assertThat(actualHoldNanos).isBetween(TimeUnit.MILLISECONDS.toNanos(5), firstCloseElapsedNanos);
+      verify(targetConnectionMock, times(2)).close();
+    }
+
+  }
+
+}
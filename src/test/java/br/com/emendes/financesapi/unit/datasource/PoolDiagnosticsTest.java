@@ -0,0 +1,215 @@
+package br.com.emendes.financesapi.unit.datasource;
+
+import br.com.emendes.financesapi.config.datasource.HikariPoolPostProcessor;
+import br.com.emendes.financesapi.config.datasource.PoolDiagnostics;
+import br.com.emendes.financesapi.dto.response.PoolDiagnosticsResponse;
+import br.com.emendes.financesapi.dto.response.PoolDiagnosticsResponse.Recommendation;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Unit tests for PoolDiagnostics and HikariPoolPostProcessor")
+class PoolDiagnosticsTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private HikariPoolMXBean poolMock;
+  private PoolDiagnostics poolDiagnostics;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    poolMock = mock(HikariPoolMXBean.class);
+    HikariDataSource hikariDataSourceMock = mock(HikariDataSource.class);
+    when(hikariDataSourceMock.isRunning()).thenReturn(true);
+    when(hikariDataSourceMock.getHikariPoolMXBean()).thenReturn(poolMock);
+    when(hikariDataSourceMock.getPoolName()).thenReturn("HikariPool-1");
+    when(hikariDataSourceMock.getMaximumPoolSize()).thenReturn(10);
+    DataSource dataSourceMock = mock(DataSource.class);
+    when(dataSourceMock.unwrap(HikariDataSource.class)).thenReturn(hikariDataSourceMock);
+
+    poolDiagnostics = new PoolDiagnostics(dataSourceMock, meterRegistry);
+    ReflectionTestUtils.setField(poolDiagnostics, "windowSamples", 300);
+  }
+
+  @Nested
+  @DisplayName("Tests for diagnose method")
+  class DiagnoseMethod {
+
+    @Test
+    @DisplayName("diagnose must suggest increase to peak demand when threads waited for a connection")
+    void diagnose_MustSuggestIncreaseToPeakDemand_WhenThreadsWaitedForAConnection() {
+      sample(10, 4);
+      sample(6, 0);
+      Timer.builder("hikaricp.connections.acquire").tag("pool", "HikariPool-1").register(meterRegistry)
+          .record(Duration.ofMillis(40));
+
+      PoolDiagnosticsResponse actualResponse = poolDiagnostics.diagnose();
+
+      assertThat(actualResponse.getRecommendation()).isEqualTo(Recommendation.INCREASE);
+      assertThat(actualResponse.getSuggestedMaximumPoolSize()).isEqualTo(14);
+      assertThat(actualResponse.getSamples()).isEqualTo(2);
+      assertThat(actualResponse.getPeakActiveConnections()).isEqualTo(10);
+      assertThat(actualResponse.getPeakPendingThreads()).isEqualTo(4);
+      assertThat(actualResponse.getAverageDemand()).isEqualTo(10.0);
+      assertThat(actualResponse.getAcquireCount()).isEqualTo(1);
+      assertThat(actualResponse.getAcquireMaxMillis()).isEqualTo(40.0);
+    }
+
+    @Test
+    @DisplayName("diagnose must suggest decrease when peak active connections is under half of the pool")
+    void diagnose_MustSuggestDecrease_WhenPeakActiveConnectionsIsUnderHalfOfThePool() {
+      sample(3, 0);
+      sample(1, 0);
+
+      PoolDiagnosticsResponse actualResponse = poolDiagnostics.diagnose();
+
+      assertThat(actualResponse.getRecommendation()).isEqualTo(Recommendation.DECREASE);
+      assertThat(actualResponse.getSuggestedMaximumPoolSize()).isEqualTo(4);
+      assertThat(actualResponse.getReason()).isEqualTo("At most 3 of 10 connection(s) were active at once");
+    }
+
+    @Test
+    @DisplayName("diagnose must ignore samples out of the window when window is full")
+    void diagnose_MustIgnoreSamplesOutOfTheWindow_WhenWindowIsFull() {
+      ReflectionTestUtils.setField(poolDiagnostics, "windowSamples", 2);
+      sample(10, 4);
+      sample(3, 0);
+      sample(1, 0);
+
+      PoolDiagnosticsResponse actualResponse = poolDiagnostics.diagnose();
+
+      assertThat(actualResponse.getRecommendation()).isEqualTo(Recommendation.DECREASE);
+      assertThat(actualResponse.getSamples()).isEqualTo(2);
+      assertThat(actualResponse.getPeakActiveConnections()).isEqualTo(3);
+      assertThat(actualResponse.getPeakPendingThreads()).isZero();
+      assertThat(actualResponse.getAverageDemand()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("diagnose must count only timeouts after the oldest sample of the window")
+    void diagnose_MustCountOnlyTimeoutsAfterTheOldestSampleOfTheWindow() {
+      Counter timeoutCounter = Counter.builder("hikaricp.connections.timeout").tag("pool", "HikariPool-1")
+          .register(meterRegistry);
+      timeoutCounter.increment(3);
+      sample(5, 0);
+      timeoutCounter.increment();
+
+      PoolDiagnosticsResponse actualResponse = poolDiagnostics.diagnose();
+
+      assertThat(actualResponse.getTimeouts()).isEqualTo(1);
+      assertThat(actualResponse.getRecommendation()).isEqualTo(Recommendation.INCREASE);
+    }
+
+    @Test
+    @DisplayName("diagnose must keep pool size when there are no samples")
+    void diagnose_MustKeepPoolSize_WhenThereAreNoSamples() {
+      PoolDiagnosticsResponse actualResponse = poolDiagnostics.diagnose();
+
+      assertThat(actualResponse.getRecommendation()).isEqualTo(Recommendation.KEEP);
+      assertThat(actualResponse.getSuggestedMaximumPoolSize()).isEqualTo(10);
+      assertThat(actualResponse.getReason()).isEqualTo("No samples yet");
+    }
+
+    private void sample(int active, int pending) {
+      when(poolMock.getActiveConnections()).thenReturn(active);
+      when(poolMock.getThreadsAwaitingConnection()).thenReturn(pending);
+      poolDiagnostics.sample();
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for HikariPoolPostProcessor")
+  class HikariPoolPostProcessorTests {
+
+    private final MockEnvironment environment = new MockEnvironment();
+    private final HikariPoolPostProcessor hikariPoolPostProcessor = new HikariPoolPostProcessor(environment);
+
+    @BeforeEach
+    void setUp() {
+      ReflectionTestUtils.setField(hikariPoolPostProcessor, "databaseCores", 4);
+      ReflectionTestUtils.setField(hikariPoolPostProcessor, "maximumPoolSize", 0);
+      ReflectionTestUtils.setField(hikariPoolPostProcessor, "minimumIdle", -1);
+      ReflectionTestUtils.setField(hikariPoolPostProcessor, "connectionTimeout", Duration.ofSeconds(5));
+      ReflectionTestUtils.setField(hikariPoolPostProcessor, "idleTimeout", Duration.ofMinutes(10));
+      ReflectionTestUtils.setField(hikariPoolPostProcessor, "maxLifetime", Duration.ofMinutes(30));
+      ReflectionTestUtils.setField(hikariPoolPostProcessor, "leakDetectionThreshold", Duration.ZERO);
+      ReflectionTestUtils.setField(hikariPoolPostProcessor, "prepareThreshold", 3);
+      ReflectionTestUtils.setField(hikariPoolPostProcessor, "preparedStatementCacheQueries", 256);
+      ReflectionTestUtils.setField(hikariPoolPostProcessor, "preparedStatementCacheSizeMib", 5);
+      ReflectionTestUtils.setField(hikariPoolPostProcessor, "rewriteBatchedInserts", true);
+    }
+
+    @Test
+    @DisplayName("postProcessBeforeInitialization must size fixed pool from database cores and set pgjdbc properties")
+    void postProcessBeforeInitialization_MustSizeFixedPoolFromDatabaseCoresAndSetPgjdbcProperties() {
+      HikariDataSource hikariDataSource = new HikariDataSource();
+      hikariDataSource.setJdbcUrl("jdbc:postgresql://localhost:5432/finances-api-db");
+
+      hikariPoolPostProcessor.postProcessBeforeInitialization(hikariDataSource, "dataSource");
+
+      assertThat(hikariDataSource.getMaximumPoolSize()).isEqualTo(9);
+      assertThat(hikariDataSource.getMinimumIdle()).isEqualTo(9);
+      assertThat(hikariDataSource.getConnectionTimeout()).isEqualTo(5_000L);
+      assertThat(hikariDataSource.getDataSourceProperties())
+          .containsEntry("prepareThreshold", "3")
+          .containsEntry("preparedStatementCacheQueries", "256")
+          .containsEntry("preparedStatementCacheSizeMiB", "5")
+          .containsEntry("reWriteBatchedInserts", "true");
+    }
+
+    @Test
+    @DisplayName("postProcessBeforeInitialization must not set pgjdbc properties when url is not PostgreSQL")
+    void postProcessBeforeInitialization_MustNotSetPgjdbcProperties_WhenUrlIsNotPostgreSQL() {
+      ReflectionTestUtils.setField(hikariPoolPostProcessor, "maximumPoolSize", 4);
+      ReflectionTestUtils.setField(hikariPoolPostProcessor, "minimumIdle", 2);
+      HikariDataSource hikariDataSource = new HikariDataSource();
+      hikariDataSource.setJdbcUrl("jdbc:h2:mem:test");
+
+      hikariPoolPostProcessor.postProcessBeforeInitialization(hikariDataSource, "dataSource");
+
+      assertThat(hikariDataSource.getMaximumPoolSize()).isEqualTo(4);
+      assertThat(hikariDataSource.getMinimumIdle()).isEqualTo(2);
+      assertThat(hikariDataSource.getDataSourceProperties()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("postProcessBeforeInitialization must keep hikari values when spring.datasource.hikari properties are set")
+    void postProcessBeforeInitialization_MustKeepHikariValues_WhenSpringDatasourceHikariPropertiesAreSet() {
+      environment.setProperty("spring.datasource.hikari.maximum-pool-size", "20");
+      environment.setProperty("spring.datasource.hikari.connection-timeout", "1000");
+      HikariDataSource hikariDataSource = new HikariDataSource();
+      hikariDataSource.setJdbcUrl("jdbc:postgresql://localhost:5432/finances-api-db");
+      hikariDataSource.setMaximumPoolSize(20);
+      hikariDataSource.setConnectionTimeout(1_000L);
+      hikariDataSource.addDataSourceProperty("prepareThreshold", "0");
+
+      hikariPoolPostProcessor.postProcessBeforeInitialization(hikariDataSource, "dataSource");
+
+      assertThat(hikariDataSource.getMaximumPoolSize()).isEqualTo(20);
+      assertThat(hikariDataSource.getMinimumIdle()).isEqualTo(20);
+      assertThat(hikariDataSource.getConnectionTimeout()).isEqualTo(1_000L);
+      assertThat(hikariDataSource.getIdleTimeout()).isEqualTo(600_000L);
+      assertThat(hikariDataSource.getDataSourceProperties())
+          .containsEntry("prepareThreshold", "0")
+          .containsEntry("reWriteBatchedInserts", "true");
+    }
+
+  }
+
+}
@@ -0,0 +1,50 @@
+package br.com.emendes.financesapi.unit.deserializer;
+
+import br.com.emendes.financesapi.util.deserializer.DecimalDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("Unit tests for DecimalDeserializer")
+class DecimalDeserializerTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @ParameterizedTest
+  @CsvSource(delimiter = ';', value = {
+      "271.94;271.94", "1500;1500", "1500.00;1500.00", "-0.5;-0.5", "\"271.94\";271.94",
+      "123456789012345678901.5;123456789012345678901.5", "1.5e3;1.5E+3"})
+  @DisplayName("deserialize must return BigDecimal with same scale when value is a number")
+  void deserialize_MustReturnBigDecimalWithSameScale_WhenValueIsANumber(String json, String expected)
+      throws Exception {
+    Payload actualPayload = objectMapper.readValue("{\"value\":" + json + "}", Payload.class);
+
+    assertThat(actualPayload.value).isEqualTo(new BigDecimal(expected));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"\"271,94\"", "\"R$ 10\"", "\"\"", "\"1.\"", "\"-\"", "true"})
+  @DisplayName("deserialize must throw InvalidFormatException when value is not a number")
+  void deserialize_MustThrowInvalidFormatException_WhenValueIsNotANumber(String invalidValue) {
+    assertThatExceptionOfType(InvalidFormatException.class)
+        .isThrownBy(() -> objectMapper.readValue("{\"value\":" + invalidValue + "}", Payload.class))
+        .satisfies(exception -> assertThat(exception.getOriginalMessage()).isEqualTo("Invalid number"));
+  }
+
+  private static class Payload {
+
+    @JsonDeserialize(using = DecimalDeserializer.class)
+    public BigDecimal value;
+
+  }
+
+}
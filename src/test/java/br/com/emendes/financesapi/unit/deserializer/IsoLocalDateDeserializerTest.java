@@ -0,0 +1,57 @@
+package br.com.emendes.financesapi.unit.deserializer;
+
+import br.com.emendes.financesapi.util.deserializer.IsoLocalDateDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("Unit tests for IsoLocalDateDeserializer")
+class IsoLocalDateDeserializerTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  @DisplayName("deserialize must return LocalDate when date is valid")
+  void deserialize_MustReturnLocalDate_WhenDateIsValid() throws Exception {
+    Payload actualPayload = objectMapper.readValue("{\"date\":\"2023-02-05\"}", Payload.class);
+
+    assertThat(actualPayload.date).isEqualTo(LocalDate.of(2023, 2, 5));
+  }
+
+  @Test
+  @DisplayName("deserialize must return null when date is null")
+  void deserialize_MustReturnNull_WhenDateIsNull() throws Exception {
+    Payload actualPayload = objectMapper.readValue("{\"date\":null}", Payload.class);
+
+    assertThat(actualPayload.date).isNull();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"\"05/02/2023\"", "\"2023-02-30\"", "\"20230205\"", "\"2023-02\"", "\"\"", "20230205", "true"})
+  @DisplayName("deserialize must throw InvalidFormatException when date is invalid")
+  void deserialize_MustThrowInvalidFormatException_WhenDateIsInvalid(String invalidDate) {
+    assertThatExceptionOfType(InvalidFormatException.class)
+        .isThrownBy(() -> objectMapper.readValue("{\"date\":" + invalidDate + "}", Payload.class))
+        .satisfies(exception -> {
+          assertThat(exception.getOriginalMessage()).isEqualTo("Invalid date");
+          assertThat(exception.getPath().get(0).getFieldName()).isEqualTo("date");
+        });
+  }
+
+  private static class Payload {
+
+    @JsonDeserialize(using = IsoLocalDateDeserializer.class)
+    public LocalDate date;
+
+  }
+
+}
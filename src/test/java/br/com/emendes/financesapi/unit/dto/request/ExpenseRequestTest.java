@@ -13,6 +13,7 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
 
@@ -22,7 +23,7 @@ class ExpenseRequestTest {
   private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
 
   private final String VALID_DESCRIPTION = "Aluguel";
-  private final String VALID_DATE = "2023-02-05";
+  private final LocalDate VALID_DATE = LocalDate.parse("2023-02-05");
   private final BigDecimal VALID_VALUE = new BigDecimal("1500.00");
   private final String VALID_CATEGORY = "MORADIA";
 
@@ -105,7 +106,7 @@ class ExpenseRequestTest {
     @DisplayName("Validate date must not return violations when date is valid")
     void validateDate_MustNotReturnViolations_WhenDateIsValid() {
       ExpenseRequest expenseRequest = expenseRequestBuilder
-          .date("2023-02-05")
+          .date(VALID_DATE)
           .build();
 
       Set<ConstraintViolation<ExpenseRequest>> actualViolations = validator
@@ -129,22 +130,6 @@ class ExpenseRequestTest {
       Assertions.assertThat(actualMessages).contains("date must not be null");
     }
 
-    @ParameterizedTest
-    @ValueSource(strings = {"05/02/2023", "05-02-2023", "20230205", "2023-02", "2023-02-"})
-    @DisplayName("Validate date must return violations when date is invalid")
-    void validateDate_MustReturnViolations_WhenDateIsInvalid(String invalidDate) {
-      ExpenseRequest expenseRequest = expenseRequestBuilder
-          .date(invalidDate)
-          .build();
-
-      Set<ConstraintViolation<ExpenseRequest>> actualViolations = validator
-          .validateProperty(expenseRequest, DATE_PROPERTY_NAME);
-      List<String> actualMessages = actualViolations.stream().map(ConstraintViolation::getMessage).toList();
-
-      Assertions.assertThat(actualViolations).isNotEmpty();
-      Assertions.assertThat(actualMessages).contains("Invalid date");
-    }
-
   }
 
   @Nested
@@ -203,10 +188,10 @@ class ExpenseRequestTest {
     }
 
     @Test
-    @DisplayName("Validate value must return Violations when value's integer part has more than 6 digits")
-    void validateValue_MustReturnViolations_WhenValuesIntegerPartHasMoreThan6Digits() {
+    @DisplayName("Validate value must return Violations when value's integer part has more than 12 digits")
+    void validateValue_MustReturnViolations_WhenValuesIntegerPartHasMoreThan12Digits() {
       ExpenseRequest expenseRequest = expenseRequestBuilder
-          .value(new BigDecimal("1500000.00"))
+          .value(new BigDecimal("1500000000000.00"))
           .build();
 
       Set<ConstraintViolation<ExpenseRequest>> actualViolations = validator
@@ -215,7 +200,7 @@ class ExpenseRequestTest {
 
       Assertions.assertThat(actualViolations).isNotEmpty();
       Assertions.assertThat(actualMessages)
-          .contains("Integer part must be max 6 digits and fraction part must be max 2 digits");
+          .contains("Integer part must be max 12 digits and fraction part must be max 2 digits");
     }
 
     @Test
@@ -231,7 +216,7 @@ class ExpenseRequestTest {
 
       Assertions.assertThat(actualViolations).isNotEmpty();
       Assertions.assertThat(actualMessages)
-          .contains("Integer part must be max 6 digits and fraction part must be max 2 digits");
+          .contains("Integer part must be max 12 digits and fraction part must be max 2 digits");
     }
 
   }
@@ -278,7 +263,7 @@ class ExpenseRequestTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"alimentacao", "xalala", "OTHER"})
+    @ValueSource(strings = {"alimentacao", "xalala", "OUTRAS!", "1LAZER", "CATEGORIA_COM_MAIS_DE_25_CHARS"})
     @DisplayName("Validate category must return violations when category is invalid")
     void validateCategory_MustReturnViolations_WhenCategoryIsInvalid(String invalidCategory) {
       ExpenseRequest expenseRequest = expenseRequestBuilder
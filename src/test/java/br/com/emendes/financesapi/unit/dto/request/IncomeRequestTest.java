@@ -13,6 +13,7 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
 
@@ -22,7 +23,7 @@ class IncomeRequestTest {
   private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
 
   private final String VALID_DESCRIPTION = "Salário";
-  private final String VALID_DATE = "2023-02-05";
+  private final LocalDate VALID_DATE = LocalDate.parse("2023-02-05");
   private final BigDecimal VALID_VALUE = new BigDecimal("2500.00");
 
   @Nested
@@ -102,7 +103,7 @@ class IncomeRequestTest {
     @DisplayName("Validate date must not return violations when date is valid")
     void validateDate_MustNotReturnViolations_WhenDateIsValid() {
       IncomeRequest incomeRequest = incomeRequestBuilder
-          .date("2023-02-05")
+          .date(VALID_DATE)
           .build();
 
       Set<ConstraintViolation<IncomeRequest>> actualViolations = validator
@@ -126,22 +127,6 @@ class IncomeRequestTest {
       Assertions.assertThat(actualMessages).contains("date must not be null");
     }
 
-    @ParameterizedTest
-    @ValueSource(strings = {"05/02/2023", "05-02-2023", "20230205", "2023-02", "2023-02-"})
-    @DisplayName("Validate date must return violations when date is invalid")
-    void validateDate_MustReturnViolations_WhenDateIsInvalid(String invalidDate) {
-      IncomeRequest incomeRequest = incomeRequestBuilder
-          .date(invalidDate)
-          .build();
-
-      Set<ConstraintViolation<IncomeRequest>> actualViolations = validator
-          .validateProperty(incomeRequest, DATE_PROPERTY_NAME);
-      List<String> actualMessages = actualViolations.stream().map(ConstraintViolation::getMessage).toList();
-
-      Assertions.assertThat(actualViolations).isNotEmpty();
-      Assertions.assertThat(actualMessages).contains("Invalid date");
-    }
-
   }
 
   @Nested
@@ -199,10 +184,10 @@ class IncomeRequestTest {
     }
 
     @Test
-    @DisplayName("Validate value must return Violations when value's integer part has more than 6 digits")
-    void validateValue_MustReturnViolations_WhenValuesIntegerPartHasMoreThan6Digits() {
+    @DisplayName("Validate value must return Violations when value's integer part has more than 12 digits")
+    void validateValue_MustReturnViolations_WhenValuesIntegerPartHasMoreThan12Digits() {
       IncomeRequest incomeRequest = incomeRequestBuilder
-          .value(new BigDecimal("1500000.00"))
+          .value(new BigDecimal("1500000000000.00"))
           .build();
 
       Set<ConstraintViolation<IncomeRequest>> actualViolations = validator
@@ -211,7 +196,7 @@ class IncomeRequestTest {
 
       Assertions.assertThat(actualViolations).isNotEmpty();
       Assertions.assertThat(actualMessages)
-          .contains("Integer part must be max 6 digits and fraction part must be max 2 digits");
+          .contains("Integer part must be max 12 digits and fraction part must be max 2 digits");
     }
 
     @Test
@@ -227,7 +212,7 @@ class IncomeRequestTest {
 
       Assertions.assertThat(actualViolations).isNotEmpty();
       Assertions.assertThat(actualMessages)
-          .contains("Integer part must be max 6 digits and fraction part must be max 2 digits");
+          .contains("Integer part must be max 12 digits and fraction part must be max 2 digits");
     }
 
   }
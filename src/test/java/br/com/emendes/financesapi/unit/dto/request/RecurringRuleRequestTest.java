@@ -0,0 +1,133 @@
+package br.com.emendes.financesapi.unit.dto.request;
+
+import br.com.emendes.financesapi.dto.request.RecurringRuleRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static br.com.emendes.financesapi.util.faker.RecurringRuleFaker.recurringRuleRequest;
+
+@DisplayName("Tests for RecurringRuleRequest")
+class RecurringRuleRequestTest {
+
+  private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+  @Test
+  @DisplayName("Validate must not return violations when all fields are valid")
+  void validate_MustNotReturnViolations_WhenAllFieldsAreValid() {
+    Set<ConstraintViolation<RecurringRuleRequest>> actualViolations = validator.validate(recurringRuleRequest());
+
+    Assertions.assertThat(actualViolations).isEmpty();
+  }
+
+  @Nested
+  @DisplayName("Tests for type validation")
+  class TypeValidation {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"expense", "TRANSFER", "EXPENSES"})
+    @DisplayName("Validate type must return violations when type is invalid")
+    void validateType_MustReturnViolations_WhenTypeIsInvalid(String invalidType) {
+      RecurringRuleRequest recurringRuleRequest = recurringRuleRequest();
+      recurringRuleRequest.setType(invalidType);
+
+      List<String> actualMessages = validator.validateProperty(recurringRuleRequest, "type")
+          .stream().map(ConstraintViolation::getMessage).toList();
+
+      Assertions.assertThat(actualMessages).contains("invalid type");
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for currency validation")
+  class CurrencyValidation {
+
+    @Test
+    @DisplayName("Validate currency must not return violations when currency is null")
+    void validateCurrency_MustNotReturnViolations_WhenCurrencyIsNull() {
+      RecurringRuleRequest recurringRuleRequest = recurringRuleRequest();
+      recurringRuleRequest.setCurrency(null);
+
+      Assertions.assertThat(validator.validateProperty(recurringRuleRequest, "currency")).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"usd", "US", "USDT", ""})
+    @DisplayName("Validate currency must return violations when currency is not an ISO 4217 code")
+    void validateCurrency_MustReturnViolations_WhenCurrencyIsNotAnIso4217Code(String invalidCurrency) {
+      RecurringRuleRequest recurringRuleRequest = recurringRuleRequest();
+      recurringRuleRequest.setCurrency(invalidCurrency);
+
+      List<String> actualMessages = validator.validateProperty(recurringRuleRequest, "currency")
+          .stream().map(ConstraintViolation::getMessage).toList();
+
+      Assertions.assertThat(actualMessages).contains("currency must be an ISO 4217 code");
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for frequency validation")
+  class FrequencyValidation {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"WEEKLY", "MONTHLY", "YEARLY"})
+    @DisplayName("Validate frequency must not return violations when frequency is valid")
+    void validateFrequency_MustNotReturnViolations_WhenFrequencyIsValid(String validFrequency) {
+      RecurringRuleRequest recurringRuleRequest = recurringRuleRequest();
+      recurringRuleRequest.setFrequency(validFrequency);
+
+      Assertions.assertThat(validator.validateProperty(recurringRuleRequest, "frequency")).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"DAILY", "monthly", ""})
+    @DisplayName("Validate frequency must return violations when frequency is invalid")
+    void validateFrequency_MustReturnViolations_WhenFrequencyIsInvalid(String invalidFrequency) {
+      RecurringRuleRequest recurringRuleRequest = recurringRuleRequest();
+      recurringRuleRequest.setFrequency(invalidFrequency);
+
+      Assertions.assertThat(validator.validateProperty(recurringRuleRequest, "frequency")).isNotEmpty();
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for period validation")
+  class PeriodValidation {
+
+    @Test
+    @DisplayName("Validate must not return violations when endDate is null")
+    void validate_MustNotReturnViolations_WhenEndDateIsNull() {
+      RecurringRuleRequest recurringRuleRequest = recurringRuleRequest();
+      recurringRuleRequest.setEndDate(null);
+
+      Assertions.assertThat(validator.validate(recurringRuleRequest)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Validate must return violations when endDate is before startDate")
+    void validate_MustReturnViolations_WhenEndDateIsBeforeStartDate() {
+      RecurringRuleRequest recurringRuleRequest = recurringRuleRequest();
+      recurringRuleRequest.setEndDate(LocalDate.parse("2024-01-30"));
+
+      List<String> actualMessages = validator.validate(recurringRuleRequest)
+          .stream().map(ConstraintViolation::getMessage).toList();
+
+      Assertions.assertThat(actualMessages).containsExactly("endDate must be equals or after startDate");
+    }
+
+  }
+
+}
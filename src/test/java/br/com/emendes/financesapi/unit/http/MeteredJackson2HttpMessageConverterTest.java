@@ -0,0 +1,65 @@
+package br.com.emendes.financesapi.unit.http;
+
+import br.com.emendes.financesapi.config.http.MeteredJackson2HttpMessageConverter;
+import br.com.emendes.financesapi.dto.response.CategoryResponse;
+import br.com.emendes.financesapi.dto.response.PageResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit tests for MeteredJackson2HttpMessageConverter")
+class MeteredJackson2HttpMessageConverterTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private MeteredJackson2HttpMessageConverter converter;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    converter = new MeteredJackson2HttpMessageConverter(new ObjectMapper(), meterRegistry);
+  }
+
+  @Nested
+  @DisplayName("Tests for write method")
+  class WriteMethod {
+
+    @Test
+    @DisplayName("write must record serialization time and payload size by body type")
+    void write_MustRecordSerializationTimeAndPayloadSizeByBodyType() throws IOException {
+      PageResponse<CategoryResponse> body =
+          PageResponse.of(new PageImpl<>(List.of(new CategoryResponse("MORADIA"))));
+      MockHttpOutputMessage firstMessage = new MockHttpOutputMessage();
+      MockHttpOutputMessage secondMessage = new MockHttpOutputMessage();
+
+      converter.write(body, MediaType.APPLICATION_JSON, firstMessage);
+      converter.write(body, MediaType.APPLICATION_JSON, secondMessage);
+
+      Timer timer = meterRegistry.get("financesapi.json.serialization").tag("type", "PageResponse").timer();
+      DistributionSummary payload = meterRegistry.get("financesapi.json.payload").tag("type", "PageResponse")
+          .summary();
+      int bodySize = firstMessage.getBodyAsBytes().length;
+      assertThat(bodySize).isPositive();
+      assertThat(timer.count()).isEqualTo(2);
+      assertThat(payload.count()).isEqualTo(2);
+      assertThat(payload.totalAmount()).isEqualTo(2.0 * bodySize);
+      assertThat(firstMessage.getBodyAsString())
+          .isEqualTo("{\"content\":[{\"category\":\"MORADIA\"}],\"number\":0,\"size\":1,\"totalElements\":1,"
+              + "\"totalPages\":1,\"numberOfElements\":1,\"first\":true,\"last\":true,\"empty\":false}");
+    }
+
+  }
+
+}
@@ -0,0 +1,85 @@
+package br.com.emendes.financesapi.unit.job;
+
+import br.com.emendes.financesapi.job.OutboxRelayJob;
+import br.com.emendes.financesapi.model.entity.OutboxEvent;
+import br.com.emendes.financesapi.repository.OutboxEventRepository;
+import br.com.emendes.financesapi.service.OutboxService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static br.com.emendes.financesapi.util.faker.OutboxEventFaker.outboxEvent;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Tests for OutboxRelayJob")
+class OutboxRelayJobTest {
+
+  private OutboxRelayJob outboxRelayJob;
+  private SimpleMeterRegistry meterRegistry;
+  @Mock
+  private OutboxService outboxServiceMock;
+  @Mock
+  private OutboxEventRepository outboxEventRepositoryMock;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    outboxRelayJob = new OutboxRelayJob(outboxServiceMock, outboxEventRepositoryMock, meterRegistry);
+    ReflectionTestUtils.setField(outboxRelayJob, "batchSize", 2);
+    ReflectionTestUtils.invokeMethod(outboxRelayJob, "registerMetrics");
+  }
+
+  @Nested
+  @DisplayName("Tests for relay method")
+  class RelayMethod {
+
+    @Test
+    @DisplayName("relay must relay batches until a batch is smaller than batch size")
+    void relay_MustRelayBatchesUntilABatchIsSmallerThanBatchSize() {
+      when(outboxServiceMock.relay(2))
+          .thenReturn(List.of(published(1L), published(2L)), List.of(published(3L)));
+      when(outboxEventRepositoryMock.findOldestUnpublishedCreatedAt()).thenReturn(Optional.empty());
+
+      outboxRelayJob.relay();
+
+      verify(outboxServiceMock, times(2)).relay(2);
+      assertThat(meterRegistry.get("financesapi.outbox.delivery").timer().count()).isEqualTo(3);
+      assertThat(meterRegistry.get("financesapi.outbox.lag").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("relay must update pending and lag gauges when there are unpublished events")
+    void relay_MustUpdatePendingAndLagGauges_WhenThereAreUnpublishedEvents() {
+      when(outboxServiceMock.relay(2)).thenReturn(Collections.emptyList());
+      when(outboxEventRepositoryMock.countByPublishedAtIsNull()).thenReturn(5L);
+      when(outboxEventRepositoryMock.findOldestUnpublishedCreatedAt())
+          .thenReturn(Optional.of(LocalDateTime.now().minusMinutes(2)));
+
+      outboxRelayJob.relay();
+
+      assertThat(meterRegistry.get("financesapi.outbox.pending").gauge().value()).isEqualTo(5);
+      assertThat(meterRegistry.get("financesapi.outbox.lag").gauge().value()).isGreaterThanOrEqualTo(120);
+    }
+
+  }
+
+  private static OutboxEvent published(Long id) {
+    OutboxEvent outboxEvent = outboxEvent(id);
+    outboxEvent.setPublishedAt(outboxEvent.getCreatedAt().plusSeconds(1));
+    return outboxEvent;
+  }
+
+}
@@ -0,0 +1,51 @@
+package br.com.emendes.financesapi.unit.job;
+
+import br.com.emendes.financesapi.job.RecurringRuleJob;
+import br.com.emendes.financesapi.repository.RecurringRuleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Tests for RecurringRuleJob")
+class RecurringRuleJobTest {
+
+  @InjectMocks
+  private RecurringRuleJob recurringRuleJob;
+  @Mock
+  private RecurringRuleRepository recurringRuleRepositoryMock;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(recurringRuleJob, "batchSize", 100);
+  }
+
+  @Nested
+  @DisplayName("Tests for materializeDueOccurrences method")
+  class MaterializeDueOccurrencesMethod {
+
+    @Test
+    @DisplayName("materializeDueOccurrences must run batches until no rule is processed")
+    void materializeDueOccurrences_MustRunBatchesUntilNoRuleIsProcessed() {
+      when(recurringRuleRepositoryMock.materializeDueExpenses(any(), eq(100))).thenReturn(100L, 3L, 0L);
+      when(recurringRuleRepositoryMock.materializeDueIncomes(any(), eq(100))).thenReturn(0L);
+
+      recurringRuleJob.materializeDueOccurrences();
+
+      verify(recurringRuleRepositoryMock, times(3)).materializeDueExpenses(any(), eq(100));
+      verify(recurringRuleRepositoryMock, times(1)).materializeDueIncomes(any(), eq(100));
+    }
+
+  }
+
+}
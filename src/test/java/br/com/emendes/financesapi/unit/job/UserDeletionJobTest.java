@@ -0,0 +1,92 @@
+package br.com.emendes.financesapi.unit.job;
+
+import br.com.emendes.financesapi.job.UserDeletionJob;
+import br.com.emendes.financesapi.repository.ExpenseRepository;
+import br.com.emendes.financesapi.repository.IncomeRepository;
+import br.com.emendes.financesapi.repository.OutboxEventRepository;
+import br.com.emendes.financesapi.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Tests for UserDeletionJob")
+class UserDeletionJobTest {
+
+  @InjectMocks
+  private UserDeletionJob userDeletionJob;
+  @Mock
+  private UserRepository userRepositoryMock;
+  @Mock
+  private ExpenseRepository expenseRepositoryMock;
+  @Mock
+  private IncomeRepository incomeRepositoryMock;
+  @Mock
+  private OutboxEventRepository outboxEventRepositoryMock;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(userDeletionJob, "chunkSize", 100);
+    ReflectionTestUtils.setField(userDeletionJob, "throttle", 0L);
+  }
+
+  @Nested
+  @DisplayName("Tests for purgeDeletedUsers method")
+  class PurgeDeletedUsersMethod {
+
+    @Test
+    @DisplayName("purgeDeletedUsers must delete chunks until fewer than chunk size rows are deleted")
+    void purgeDeletedUsers_MustDeleteChunksUntilFewerThanChunkSizeRowsAreDeleted() {
+      when(userRepositoryMock.findIdsOfDeletedUsers()).thenReturn(List.of(1_000L));
+      when(expenseRepositoryMock.deleteChunkByUserId(1_000L, 100)).thenReturn(100, 100, 37);
+      when(incomeRepositoryMock.deleteChunkByUserId(1_000L, 100)).thenReturn(12);
+      when(outboxEventRepositoryMock.deleteChunkByUserId(1_000L, 100)).thenReturn(100, 5);
+
+      userDeletionJob.purgeDeletedUsers();
+
+      verify(expenseRepositoryMock, times(3)).deleteChunkByUserId(1_000L, 100);
+      verify(incomeRepositoryMock, times(1)).deleteChunkByUserId(1_000L, 100);
+      verify(outboxEventRepositoryMock, times(2)).deleteChunkByUserId(1_000L, 100);
+      verify(userRepositoryMock).deleteById(1_000L);
+    }
+
+    @Test
+    @DisplayName("purgeDeletedUsers must delete user when user has no expenses and incomes")
+    void purgeDeletedUsers_MustDeleteUser_WhenUserHasNoExpensesAndIncomes() {
+      when(userRepositoryMock.findIdsOfDeletedUsers()).thenReturn(List.of(1_000L, 1_001L));
+
+      userDeletionJob.purgeDeletedUsers();
+
+      verify(userRepositoryMock).deleteById(1_000L);
+      verify(userRepositoryMock).deleteById(1_001L);
+    }
+
+    @Test
+    @DisplayName("purgeDeletedUsers must not delete anything when there are no deleted users")
+    void purgeDeletedUsers_MustNotDeleteAnything_WhenThereAreNoDeletedUsers() {
+      when(userRepositoryMock.findIdsOfDeletedUsers()).thenReturn(Collections.emptyList());
+
+      userDeletionJob.purgeDeletedUsers();
+
+      verify(expenseRepositoryMock, never()).deleteChunkByUserId(anyLong(), anyInt());
+      verify(incomeRepositoryMock, never()).deleteChunkByUserId(anyLong(), anyInt());
+      verify(outboxEventRepositoryMock, never()).deleteChunkByUserId(anyLong(), anyInt());
+      verify(userRepositoryMock, never()).deleteById(anyLong());
+    }
+
+  }
+
+}
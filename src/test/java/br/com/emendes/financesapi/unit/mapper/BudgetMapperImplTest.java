@@ -0,0 +1,70 @@
+package br.com.emendes.financesapi.unit.mapper;
+
+import br.com.emendes.financesapi.dto.response.BudgetResponse;
+import br.com.emendes.financesapi.mapper.impl.BudgetMapperImpl;
+import br.com.emendes.financesapi.model.DefaultCategory;
+import br.com.emendes.financesapi.util.component.CategoryDictionary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.math.BigDecimal;
+
+import static br.com.emendes.financesapi.util.faker.BudgetFaker.budget;
+import static br.com.emendes.financesapi.util.faker.BudgetFaker.budgetStatus;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Unit tests for BudgetMapperImpl")
+class BudgetMapperImplTest {
+
+  @InjectMocks
+  private BudgetMapperImpl budgetMapper;
+  @Mock
+  private CategoryDictionary categoryDictionaryMock;
+
+  @Nested
+  @DisplayName("Tests for toBudgetResponse method")
+  class ToBudgetResponseMethod {
+
+    @Test
+    @DisplayName("toBudgetResponse must return not exceeded BudgetResponse when spent is within limit")
+    void toBudgetResponse_MustReturnNotExceededBudgetResponse_WhenSpentIsWithinLimit() {
+      BudgetResponse actualResponse = budgetMapper.toBudgetResponse(budgetStatus("ALIMENTACAO", "800.00", "800.00"));
+
+      assertThat(actualResponse.getCategory()).isEqualTo("ALIMENTACAO");
+      assertThat(actualResponse.getRemaining()).isEqualByComparingTo("0");
+      assertThat(actualResponse.isExceeded()).isFalse();
+    }
+
+    @Test
+    @DisplayName("toBudgetResponse must return exceeded BudgetResponse when spent is over limit")
+    void toBudgetResponse_MustReturnExceededBudgetResponse_WhenSpentIsOverLimit() {
+      when(categoryDictionaryMock.getName(1_000L, DefaultCategory.ALIMENTACAO.getId())).thenReturn("ALIMENTACAO");
+
+      BudgetResponse actualResponse = budgetMapper.toBudgetResponse(budget(), new BigDecimal("850.50"));
+
+      assertThat(actualResponse.getCategory()).isEqualTo("ALIMENTACAO");
+      assertThat(actualResponse.getLimit()).isEqualTo("800.00");
+      assertThat(actualResponse.getSpent()).isEqualTo("850.50");
+      assertThat(actualResponse.getRemaining()).isEqualTo("-50.50");
+      assertThat(actualResponse.isExceeded()).isTrue();
+    }
+
+    @Test
+    @DisplayName("toBudgetResponse must throw IllegalArgumentException when budgetStatus is null")
+    void toBudgetResponse_MustThrowIllegalArgumentException_WhenBudgetStatusIsNull() {
+      assertThatExceptionOfType(IllegalArgumentException.class)
+          .isThrownBy(() -> budgetMapper.toBudgetResponse(null))
+          .withMessage("budgetStatus must not be null.");
+    }
+
+  }
+
+}
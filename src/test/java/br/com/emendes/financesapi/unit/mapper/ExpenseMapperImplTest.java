@@ -2,14 +2,20 @@ package br.com.emendes.financesapi.unit.mapper;
 
 import br.com.emendes.financesapi.dto.request.ExpenseRequest;
 import br.com.emendes.financesapi.dto.response.ExpenseResponse;
+import br.com.emendes.financesapi.exception.InvalidCategoryException;
+import br.com.emendes.financesapi.exception.InvalidCurrencyException;
 import br.com.emendes.financesapi.mapper.impl.ExpenseMapperImpl;
-import br.com.emendes.financesapi.model.Category;
+import br.com.emendes.financesapi.model.DefaultCategory;
+import br.com.emendes.financesapi.model.Money;
 import br.com.emendes.financesapi.model.entity.Expense;
+import br.com.emendes.financesapi.util.component.CategoryDictionary;
+import br.com.emendes.financesapi.util.component.FxRateTable;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.math.BigDecimal;
@@ -18,6 +24,10 @@ import java.time.LocalDate;
 import static br.com.emendes.financesapi.util.faker.UserFaker.user;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Unit tests for ExpenseMapperImpl.
@@ -28,6 +38,10 @@ class ExpenseMapperImplTest {
 
   @InjectMocks
   private ExpenseMapperImpl expenseMapper;
+  @Mock
+  private CategoryDictionary categoryDictionaryMock;
+  @Mock
+  private FxRateTable fxRateTableMock;
 
   @Nested
   @DisplayName("Tests for toExpense method")
@@ -39,19 +53,21 @@ class ExpenseMapperImplTest {
       ExpenseRequest expenseRequest = ExpenseRequest.builder()
           .description("Aluguel")
           .value(new BigDecimal("1500.00"))
-          .date("2023-02-05")
+          .date(LocalDate.parse("2023-02-05"))
           .category("MORADIA")
           .build();
+      when(categoryDictionaryMock.getId(1_000L, "MORADIA")).thenReturn(DefaultCategory.MORADIA.getId());
 
-      Expense actualExpense = expenseMapper.toExpense(expenseRequest);
+      Expense actualExpense = expenseMapper.toExpense(expenseRequest, user());
 
       assertThat(actualExpense).isNotNull();
       assertThat(actualExpense.getDescription()).isNotNull().isEqualTo("Aluguel");
-      assertThat(actualExpense.getValue()).isNotNull().isEqualTo("1500.00");
+      assertThat(actualExpense.getValue()).isNotNull().isEqualTo(Money.of(new BigDecimal("1500.00")));
+      assertThat(actualExpense.getCurrency()).isNotNull().isEqualTo("BRL");
       assertThat(actualExpense.getDate()).isNotNull().isEqualTo("2023-02-05");
-      assertThat(actualExpense.getCategory()).isNotNull().isEqualTo(Category.MORADIA);
+      assertThat(actualExpense.getCategoryId()).isNotNull().isEqualTo(DefaultCategory.MORADIA.getId());
       assertThat(actualExpense.getId()).isNull();
-      assertThat(actualExpense.getUser()).isNull();
+      assertThat(actualExpense.getUser()).isNotNull();
     }
 
     @Test
@@ -60,25 +76,79 @@ class ExpenseMapperImplTest {
       ExpenseRequest expenseRequest = ExpenseRequest.builder()
           .description("Aluguel")
           .value(new BigDecimal("1500.00"))
-          .date("2023-02-05")
+          .date(LocalDate.parse("2023-02-05"))
           .build();
 
-      Expense actualExpense = expenseMapper.toExpense(expenseRequest);
+      Expense actualExpense = expenseMapper.toExpense(expenseRequest, user());
 
       assertThat(actualExpense).isNotNull();
       assertThat(actualExpense.getDescription()).isNotNull().isEqualTo("Aluguel");
-      assertThat(actualExpense.getValue()).isNotNull().isEqualTo("1500.00");
+      assertThat(actualExpense.getValue()).isNotNull().isEqualTo(Money.of(new BigDecimal("1500.00")));
       assertThat(actualExpense.getDate()).isNotNull().isEqualTo("2023-02-05");
-      assertThat(actualExpense.getCategory()).isNotNull().isEqualTo(Category.OUTRAS);
+      assertThat(actualExpense.getCategoryId()).isNotNull().isEqualTo(DefaultCategory.OUTRAS.getId());
       assertThat(actualExpense.getId()).isNull();
-      assertThat(actualExpense.getUser()).isNull();
+      verify(categoryDictionaryMock, never()).getId(any(), any());
+    }
+
+    @Test
+    @DisplayName("toExpense must throw InvalidCategoryException when user has no category with given name")
+    void toExpense_MustThrowInvalidCategoryException_WhenUserHasNoCategoryWithGivenName() {
+      ExpenseRequest expenseRequest = ExpenseRequest.builder()
+          .description("Aluguel")
+          .value(new BigDecimal("1500.00"))
+          .date(LocalDate.parse("2023-02-05"))
+          .category("PETS")
+          .build();
+      when(categoryDictionaryMock.getId(1_000L, "PETS"))
+          .thenThrow(new InvalidCategoryException("Category PETS not found"));
+
+      assertThatExceptionOfType(InvalidCategoryException.class)
+          .isThrownBy(() -> expenseMapper.toExpense(expenseRequest, user()))
+          .withMessage("Category PETS not found");
+    }
+
+    @Test
+    @DisplayName("toExpense must return Expense with given currency when currency is supported")
+    void toExpense_MustReturnExpenseWithGivenCurrency_WhenCurrencyIsSupported() {
+      ExpenseRequest expenseRequest = ExpenseRequest.builder()
+          .description("Hotel")
+          .value(new BigDecimal("120.00"))
+          .currency("USD")
+          .date(LocalDate.parse("2023-02-05"))
+          .category("LAZER")
+          .build();
+      when(categoryDictionaryMock.getId(1_000L, "LAZER")).thenReturn(DefaultCategory.LAZER.getId());
+      when(fxRateTableMock.requireSupported("USD")).thenReturn("USD");
+
+      Expense actualExpense = expenseMapper.toExpense(expenseRequest, user());
+
+      assertThat(actualExpense.getCurrency()).isEqualTo("USD");
+    }
+
+    @Test
+    @DisplayName("toExpense must throw InvalidCurrencyException when currency is not supported")
+    void toExpense_MustThrowInvalidCurrencyException_WhenCurrencyIsNotSupported() {
+      ExpenseRequest expenseRequest = ExpenseRequest.builder()
+          .description("Hotel")
+          .value(new BigDecimal("120.00"))
+          .currency("XYZ")
+          .date(LocalDate.parse("2023-02-05"))
+          .category("LAZER")
+          .build();
+      when(categoryDictionaryMock.getId(1_000L, "LAZER")).thenReturn(DefaultCategory.LAZER.getId());
+      when(fxRateTableMock.requireSupported("XYZ"))
+          .thenThrow(new InvalidCurrencyException("Currency XYZ is not supported"));
+
+      assertThatExceptionOfType(InvalidCurrencyException.class)
+          .isThrownBy(() -> expenseMapper.toExpense(expenseRequest, user()))
+          .withMessage("Currency XYZ is not supported");
     }
 
     @Test
     @DisplayName("toExpense must throw IllegalArgumentException when expenseRequest is null")
     void toExpense_MustThrowIllegalArgumentException_WhenExpenseRequestIsNull() {
       assertThatExceptionOfType(IllegalArgumentException.class)
-          .isThrownBy(() -> expenseMapper.toExpense(null))
+          .isThrownBy(() -> expenseMapper.toExpense(null, user()))
           .withMessage("expenseRequest must not be null.");
     }
 
@@ -94,20 +164,23 @@ class ExpenseMapperImplTest {
       Expense expense = Expense.builder()
           .id(100_000L)
           .description("Aluguel")
-          .value(new BigDecimal("1500.00"))
+          .value(Money.of(new BigDecimal("1500.00")))
+          .currency("USD")
           .date(LocalDate.parse("2023-02-05"))
-          .category(Category.MORADIA)
+          .categoryId(DefaultCategory.MORADIA.getId())
           .user(user())
           .build();
+      when(categoryDictionaryMock.getName(1_000L, DefaultCategory.MORADIA.getId())).thenReturn("MORADIA");
 
       ExpenseResponse actualExpenseResponse = expenseMapper.toExpenseResponse(expense);
 
       assertThat(actualExpenseResponse).isNotNull();
       assertThat(actualExpenseResponse.getId()).isNotNull().isEqualTo(100_000L);
       assertThat(actualExpenseResponse.getDescription()).isNotNull().isEqualTo("Aluguel");
-      assertThat(actualExpenseResponse.getValue()).isNotNull().isEqualTo("1500.00");
+      assertThat(actualExpenseResponse.getValue()).isNotNull().isEqualTo(Money.of(new BigDecimal("1500.00")));
+      assertThat(actualExpenseResponse.getCurrency()).isNotNull().isEqualTo("USD");
       assertThat(actualExpenseResponse.getDate()).isNotNull().isEqualTo("2023-02-05");
-      assertThat(actualExpenseResponse.getCategory()).isNotNull().isEqualTo(Category.MORADIA);
+      assertThat(actualExpenseResponse.getCategory()).isNotNull().isEqualTo("MORADIA");
     }
 
     @Test
@@ -130,26 +203,32 @@ class ExpenseMapperImplTest {
       Expense expense = Expense.builder()
           .id(100_000L)
           .description("Aluguel")
-          .value(new BigDecimal("1500.00"))
+          .value(Money.of(new BigDecimal("1500.00")))
+          .currency("BRL")
           .date(LocalDate.parse("2023-02-05"))
-          .category(Category.MORADIA)
+          .categoryId(DefaultCategory.MORADIA.getId())
           .user(user())
           .build();
 
       ExpenseRequest expenseRequest = ExpenseRequest.builder()
           .description("Aluguel updated")
           .value(new BigDecimal("2750.00"))
-          .date("2023-02-05")
-          .category("MORADIA")
+          .currency("USD")
+          .date(LocalDate.parse("2023-02-05"))
+          .category("LAZER")
           .build();
+      when(categoryDictionaryMock.getId(1_000L, "LAZER")).thenReturn(DefaultCategory.LAZER.getId());
+      when(fxRateTableMock.requireSupported("USD")).thenReturn("USD");
 
       expenseMapper.merge(expense, expenseRequest);
 
       assertThat(expense).isNotNull();
       assertThat(expense.getId()).isNotNull().isEqualTo(100_000L);
       assertThat(expense.getDescription()).isNotNull().isEqualTo("Aluguel updated");
-      assertThat(expense.getValue()).isNotNull().isEqualTo("2750.00");
+      assertThat(expense.getValue()).isNotNull().isEqualTo(Money.of(new BigDecimal("2750.00")));
+      assertThat(expense.getCurrency()).isNotNull().isEqualTo("USD");
       assertThat(expense.getDate()).isNotNull().isEqualTo("2023-02-05");
+      assertThat(expense.getCategoryId()).isNotNull().isEqualTo(DefaultCategory.LAZER.getId());
       assertThat(expense.getUser()).isNotNull();
     }
 
@@ -159,7 +238,7 @@ class ExpenseMapperImplTest {
       ExpenseRequest expenseRequest = ExpenseRequest.builder()
           .description("Aluguel updated")
           .value(new BigDecimal("2750.00"))
-          .date("2023-02-05")
+          .date(LocalDate.parse("2023-02-05"))
           .category("MORADIA")
           .build();
 
@@ -174,9 +253,9 @@ class ExpenseMapperImplTest {
       Expense expense = Expense.builder()
           .id(100_000L)
           .description("Aluguel")
-          .value(new BigDecimal("1500.00"))
+          .value(Money.of(new BigDecimal("1500.00")))
           .date(LocalDate.parse("2023-02-05"))
-          .category(Category.MORADIA)
+          .categoryId(DefaultCategory.MORADIA.getId())
           .user(user())
           .build();
 
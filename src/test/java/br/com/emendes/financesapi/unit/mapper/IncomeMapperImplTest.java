@@ -2,13 +2,17 @@ package br.com.emendes.financesapi.unit.mapper;
 
 import br.com.emendes.financesapi.dto.request.IncomeRequest;
 import br.com.emendes.financesapi.dto.response.IncomeResponse;
+import br.com.emendes.financesapi.exception.InvalidCurrencyException;
 import br.com.emendes.financesapi.mapper.impl.IncomeMapperImpl;
+import br.com.emendes.financesapi.model.Money;
 import br.com.emendes.financesapi.model.entity.Income;
+import br.com.emendes.financesapi.util.component.FxRateTable;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.math.BigDecimal;
@@ -17,6 +21,7 @@ import java.time.LocalDate;
 import static br.com.emendes.financesapi.util.faker.UserFaker.user;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.when;
 
 /**
  * Unit tests for IncomeMapperImpl.
@@ -27,6 +32,8 @@ class IncomeMapperImplTest {
 
   @InjectMocks
   private IncomeMapperImpl incomeMapper;
+  @Mock
+  private FxRateTable fxRateTableMock;
 
   @Nested
   @DisplayName("Tests for toIncome method")
@@ -38,24 +45,59 @@ class IncomeMapperImplTest {
       IncomeRequest incomeRequest = IncomeRequest.builder()
           .description("Salário")
           .value(new BigDecimal("2500.00"))
-          .date("2023-02-08")
+          .date(LocalDate.parse("2023-02-08"))
           .build();
 
-      Income actualIncome = incomeMapper.toIncome(incomeRequest);
+      Income actualIncome = incomeMapper.toIncome(incomeRequest, user());
 
       assertThat(actualIncome).isNotNull();
       assertThat(actualIncome.getDescription()).isNotNull().isEqualTo("Salário");
-      assertThat(actualIncome.getValue()).isNotNull().isEqualTo("2500.00");
+      assertThat(actualIncome.getValue()).isNotNull().isEqualTo(Money.of(new BigDecimal("2500.00")));
+      assertThat(actualIncome.getCurrency()).isNotNull().isEqualTo("BRL");
       assertThat(actualIncome.getDate()).isNotNull().isEqualTo("2023-02-08");
       assertThat(actualIncome.getId()).isNull();
-      assertThat(actualIncome.getUser()).isNull();
+      assertThat(actualIncome.getUser()).isNotNull();
+      assertThat(actualIncome.getUser().getId()).isEqualTo(1_000L);
+    }
+
+    @Test
+    @DisplayName("toIncome must return Income with given currency when currency is supported")
+    void toIncome_MustReturnIncomeWithGivenCurrency_WhenCurrencyIsSupported() {
+      IncomeRequest incomeRequest = IncomeRequest.builder()
+          .description("Freelance")
+          .value(new BigDecimal("400.00"))
+          .currency("EUR")
+          .date(LocalDate.parse("2023-02-08"))
+          .build();
+      when(fxRateTableMock.requireSupported("EUR")).thenReturn("EUR");
+
+      Income actualIncome = incomeMapper.toIncome(incomeRequest, user());
+
+      assertThat(actualIncome.getCurrency()).isEqualTo("EUR");
+    }
+
+    @Test
+    @DisplayName("toIncome must throw InvalidCurrencyException when currency is not supported")
+    void toIncome_MustThrowInvalidCurrencyException_WhenCurrencyIsNotSupported() {
+      IncomeRequest incomeRequest = IncomeRequest.builder()
+          .description("Freelance")
+          .value(new BigDecimal("400.00"))
+          .currency("XYZ")
+          .date(LocalDate.parse("2023-02-08"))
+          .build();
+      when(fxRateTableMock.requireSupported("XYZ"))
+          .thenThrow(new InvalidCurrencyException("Currency XYZ is not supported"));
+
+      assertThatExceptionOfType(InvalidCurrencyException.class)
+          .isThrownBy(() -> incomeMapper.toIncome(incomeRequest, user()))
+          .withMessage("Currency XYZ is not supported");
     }
 
     @Test
     @DisplayName("toIncome must throw IllegalArgumentException when incomeRequest is null")
     void toIncome_MustThrowIllegalArgumentException_WhenIncomeRequestIsNull() {
       assertThatExceptionOfType(IllegalArgumentException.class)
-          .isThrownBy(() -> incomeMapper.toIncome(null))
+          .isThrownBy(() -> incomeMapper.toIncome(null, user()))
           .withMessage("incomeRequest must not be null.");
     }
 
@@ -71,7 +113,8 @@ class IncomeMapperImplTest {
       Income income = Income.builder()
           .id(100_000L)
           .description("Salário")
-          .value(new BigDecimal("2500.00"))
+          .value(Money.of(new BigDecimal("2500.00")))
+          .currency("USD")
           .date(LocalDate.parse("2023-02-08"))
           .user(user())
           .build();
@@ -81,7 +124,8 @@ class IncomeMapperImplTest {
       assertThat(actualIncomeResponse).isNotNull();
       assertThat(actualIncomeResponse.getId()).isNotNull().isEqualTo(100_000L);
       assertThat(actualIncomeResponse.getDescription()).isNotNull().isEqualTo("Salário");
-      assertThat(actualIncomeResponse.getValue()).isNotNull().isEqualTo("2500.00");
+      assertThat(actualIncomeResponse.getValue()).isNotNull().isEqualTo(Money.of(new BigDecimal("2500.00")));
+      assertThat(actualIncomeResponse.getCurrency()).isNotNull().isEqualTo("USD");
       assertThat(actualIncomeResponse.getDate()).isNotNull().isEqualTo("2023-02-08");
     }
 
@@ -105,7 +149,7 @@ class IncomeMapperImplTest {
       Income income = Income.builder()
           .id(100_000L)
           .description("Salário")
-          .value(new BigDecimal("2500.00"))
+          .value(Money.of(new BigDecimal("2500.00")))
           .date(LocalDate.parse("2023-02-08"))
           .user(user())
           .build();
@@ -113,7 +157,7 @@ class IncomeMapperImplTest {
       IncomeRequest incomeRequest = IncomeRequest.builder()
           .description("Salário updated")
           .value(new BigDecimal("2750.00"))
-          .date("2023-02-05")
+          .date(LocalDate.parse("2023-02-05"))
           .build();
 
       incomeMapper.merge(income, incomeRequest);
@@ -121,7 +165,7 @@ class IncomeMapperImplTest {
       assertThat(income).isNotNull();
       assertThat(income.getId()).isNotNull().isEqualTo(100_000L);
       assertThat(income.getDescription()).isNotNull().isEqualTo("Salário updated");
-      assertThat(income.getValue()).isNotNull().isEqualTo("2750.00");
+      assertThat(income.getValue()).isNotNull().isEqualTo(Money.of(new BigDecimal("2750.00")));
       assertThat(income.getDate()).isNotNull().isEqualTo("2023-02-05");
       assertThat(income.getUser()).isNotNull();
     }
@@ -132,7 +176,7 @@ class IncomeMapperImplTest {
       IncomeRequest incomeRequest = IncomeRequest.builder()
           .description("Salário updated")
           .value(new BigDecimal("2750.00"))
-          .date("2023-02-05")
+          .date(LocalDate.parse("2023-02-05"))
           .build();
 
       assertThatExceptionOfType(IllegalArgumentException.class)
@@ -146,7 +190,7 @@ class IncomeMapperImplTest {
       Income income = Income.builder()
           .id(100_000L)
           .description("Salário")
-          .value(new BigDecimal("2500.00"))
+          .value(Money.of(new BigDecimal("2500.00")))
           .date(LocalDate.parse("2023-02-08"))
           .user(user())
           .build();
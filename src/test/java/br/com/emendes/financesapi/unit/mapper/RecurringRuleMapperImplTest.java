@@ -0,0 +1,150 @@
+package br.com.emendes.financesapi.unit.mapper;
+
+import br.com.emendes.financesapi.dto.request.RecurringRuleRequest;
+import br.com.emendes.financesapi.dto.response.RecurringRuleResponse;
+import br.com.emendes.financesapi.exception.InvalidCurrencyException;
+import br.com.emendes.financesapi.mapper.impl.RecurringRuleMapperImpl;
+import br.com.emendes.financesapi.model.DefaultCategory;
+import br.com.emendes.financesapi.model.Frequency;
+import br.com.emendes.financesapi.model.TransactionType;
+import br.com.emendes.financesapi.model.entity.RecurringRule;
+import br.com.emendes.financesapi.util.component.CategoryDictionary;
+import br.com.emendes.financesapi.util.component.FxRateTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static br.com.emendes.financesapi.util.faker.RecurringRuleFaker.recurringRule;
+import static br.com.emendes.financesapi.util.faker.RecurringRuleFaker.recurringRuleRequest;
+import static br.com.emendes.financesapi.util.faker.UserFaker.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Unit tests for RecurringRuleMapperImpl")
+class RecurringRuleMapperImplTest {
+
+  @InjectMocks
+  private RecurringRuleMapperImpl recurringRuleMapper;
+  @Mock
+  private CategoryDictionary categoryDictionaryMock;
+  @Mock
+  private FxRateTable fxRateTableMock;
+
+  @Nested
+  @DisplayName("Tests for toRecurringRule method")
+  class ToRecurringRuleMethod {
+
+    @Test
+    @DisplayName("toRecurringRule must return RecurringRule with nextOccurrence equals startDate when map successfully")
+    void toRecurringRule_MustReturnRecurringRuleWithNextOccurrenceEqualsStartDate_WhenMapSuccessfully() {
+      when(categoryDictionaryMock.getId(1_000L, "MORADIA")).thenReturn(DefaultCategory.MORADIA.getId());
+
+      RecurringRule actualRecurringRule = recurringRuleMapper.toRecurringRule(recurringRuleRequest(), user());
+
+      assertThat(actualRecurringRule.getId()).isNull();
+      assertThat(actualRecurringRule.getType()).isEqualTo(TransactionType.EXPENSE);
+      assertThat(actualRecurringRule.getCurrency()).isEqualTo("BRL");
+      assertThat(actualRecurringRule.getCategoryId()).isEqualTo(DefaultCategory.MORADIA.getId());
+      assertThat(actualRecurringRule.getFrequency()).isEqualTo(Frequency.MONTHLY);
+      assertThat(actualRecurringRule.getStartDate()).isEqualTo("2024-01-31");
+      assertThat(actualRecurringRule.getEndDate()).isNull();
+      assertThat(actualRecurringRule.getNextOccurrence()).isEqualTo("2024-01-31");
+      assertThat(actualRecurringRule.getOccurrences()).isZero();
+    }
+
+    @Test
+    @DisplayName("toRecurringRule must return RecurringRule without category when type is INCOME")
+    void toRecurringRule_MustReturnRecurringRuleWithoutCategory_WhenTypeIsIncome() {
+      RecurringRuleRequest recurringRuleRequest = recurringRuleRequest();
+      recurringRuleRequest.setType("INCOME");
+
+      RecurringRule actualRecurringRule = recurringRuleMapper.toRecurringRule(recurringRuleRequest, user());
+
+      assertThat(actualRecurringRule.getType()).isEqualTo(TransactionType.INCOME);
+      assertThat(actualRecurringRule.getCategoryId()).isNull();
+    }
+
+    @Test
+    @DisplayName("toRecurringRule must return RecurringRule with category OUTRAS when expense category is null")
+    void toRecurringRule_MustReturnRecurringRuleWithCategoryOutras_WhenExpenseCategoryIsNull() {
+      RecurringRuleRequest recurringRuleRequest = recurringRuleRequest();
+      recurringRuleRequest.setCategory(null);
+
+      RecurringRule actualRecurringRule = recurringRuleMapper.toRecurringRule(recurringRuleRequest, user());
+
+      assertThat(actualRecurringRule.getCategoryId()).isEqualTo(DefaultCategory.OUTRAS.getId());
+    }
+
+    @Test
+    @DisplayName("toRecurringRule must return RecurringRule with given currency when currency is supported")
+    void toRecurringRule_MustReturnRecurringRuleWithGivenCurrency_WhenCurrencyIsSupported() {
+      RecurringRuleRequest recurringRuleRequest = recurringRuleRequest();
+      recurringRuleRequest.setCurrency("USD");
+      when(categoryDictionaryMock.getId(1_000L, "MORADIA")).thenReturn(DefaultCategory.MORADIA.getId());
+      when(fxRateTableMock.requireSupported("USD")).thenReturn("USD");
+
+      RecurringRule actualRecurringRule = recurringRuleMapper.toRecurringRule(recurringRuleRequest, user());
+
+      assertThat(actualRecurringRule.getCurrency()).isEqualTo("USD");
+    }
+
+    @Test
+    @DisplayName("toRecurringRule must throw InvalidCurrencyException when currency is not supported")
+    void toRecurringRule_MustThrowInvalidCurrencyException_WhenCurrencyIsNotSupported() {
+      RecurringRuleRequest recurringRuleRequest = recurringRuleRequest();
+      recurringRuleRequest.setCurrency("XYZ");
+      when(categoryDictionaryMock.getId(1_000L, "MORADIA")).thenReturn(DefaultCategory.MORADIA.getId());
+      when(fxRateTableMock.requireSupported("XYZ"))
+          .thenThrow(new InvalidCurrencyException("Currency XYZ is not supported"));
+
+      assertThatExceptionOfType(InvalidCurrencyException.class)
+          .isThrownBy(() -> recurringRuleMapper.toRecurringRule(recurringRuleRequest, user()))
+          .withMessage("Currency XYZ is not supported");
+    }
+
+    @Test
+    @DisplayName("toRecurringRule must throw IllegalArgumentException when recurringRuleRequest is null")
+    void toRecurringRule_MustThrowIllegalArgumentException_WhenRecurringRuleRequestIsNull() {
+      assertThatExceptionOfType(IllegalArgumentException.class)
+          .isThrownBy(() -> recurringRuleMapper.toRecurringRule(null, user()))
+          .withMessage("recurringRuleRequest must not be null.");
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for toRecurringRuleResponse method")
+  class ToRecurringRuleResponseMethod {
+
+    @Test
+    @DisplayName("toRecurringRuleResponse must return RecurringRuleResponse when map successfully")
+    void toRecurringRuleResponse_MustReturnRecurringRuleResponse_WhenMapSuccessfully() {
+      when(categoryDictionaryMock.getName(1_000L, DefaultCategory.MORADIA.getId())).thenReturn("MORADIA");
+
+      RecurringRuleResponse actualResponse = recurringRuleMapper.toRecurringRuleResponse(recurringRule());
+
+      assertThat(actualResponse.getId()).isEqualTo(200_000L);
+      assertThat(actualResponse.getDescription()).isEqualTo("Aluguel");
+      assertThat(actualResponse.getCategory()).isEqualTo("MORADIA");
+      assertThat(actualResponse.getValue()).isEqualTo("1500.00");
+      assertThat(actualResponse.getCurrency()).isEqualTo("BRL");
+      assertThat(actualResponse.getNextOccurrence()).isEqualTo("2024-01-31");
+    }
+
+    @Test
+    @DisplayName("toRecurringRuleResponse must throw IllegalArgumentException when recurringRule is null")
+    void toRecurringRuleResponse_MustThrowIllegalArgumentException_WhenRecurringRuleIsNull() {
+      assertThatExceptionOfType(IllegalArgumentException.class)
+          .isThrownBy(() -> recurringRuleMapper.toRecurringRuleResponse(null))
+          .withMessage("recurringRule must not be null.");
+    }
+
+  }
+
+}
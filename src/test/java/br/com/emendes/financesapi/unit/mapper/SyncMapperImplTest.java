@@ -0,0 +1,67 @@
+package br.com.emendes.financesapi.unit.mapper;
+
+import br.com.emendes.financesapi.dto.response.SyncChangeResponse;
+import br.com.emendes.financesapi.mapper.impl.SyncMapperImpl;
+import br.com.emendes.financesapi.model.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static br.com.emendes.financesapi.util.faker.SyncFaker.deletedIncomeChange;
+import static br.com.emendes.financesapi.util.faker.SyncFaker.expenseChange;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Unit tests for SyncMapperImpl")
+class SyncMapperImplTest {
+
+  @InjectMocks
+  private SyncMapperImpl syncMapper;
+
+  @Nested
+  @DisplayName("Tests for toSyncChangeResponse method")
+  class ToSyncChangeResponseMethod {
+
+    @Test
+    @DisplayName("toSyncChangeResponse must return SyncChangeResponse with all fields when change is not deleted")
+    void toSyncChangeResponse_MustReturnSyncChangeResponseWithAllFields_WhenChangeIsNotDeleted() {
+      SyncChangeResponse actualResponse = syncMapper.toSyncChangeResponse(expenseChange(1L, 10L));
+
+      assertThat(actualResponse.getType()).isEqualTo(TransactionType.EXPENSE);
+      assertThat(actualResponse.getId()).isEqualTo(1L);
+      assertThat(actualResponse.isDeleted()).isFalse();
+      assertThat(actualResponse.getDescription()).isEqualTo("Lorem ipsum");
+      assertThat(actualResponse.getValue()).isEqualTo("150.00");
+      assertThat(actualResponse.getCurrency()).isEqualTo("BRL");
+      assertThat(actualResponse.getDate()).isEqualTo("2023-02-05");
+      assertThat(actualResponse.getCategory()).isEqualTo("MORADIA");
+    }
+
+    @Test
+    @DisplayName("toSyncChangeResponse must return tombstone when change is deleted")
+    void toSyncChangeResponse_MustReturnTombstone_WhenChangeIsDeleted() {
+      SyncChangeResponse actualResponse = syncMapper.toSyncChangeResponse(deletedIncomeChange(2L, 10L));
+
+      assertThat(actualResponse.getType()).isEqualTo(TransactionType.INCOME);
+      assertThat(actualResponse.getId()).isEqualTo(2L);
+      assertThat(actualResponse.isDeleted()).isTrue();
+      assertThat(actualResponse.getDescription()).isNull();
+      assertThat(actualResponse.getValue()).isNull();
+      assertThat(actualResponse.getDate()).isNull();
+    }
+
+    @Test
+    @DisplayName("toSyncChangeResponse must throw IllegalArgumentException when syncChange is null")
+    void toSyncChangeResponse_MustThrowIllegalArgumentException_WhenSyncChangeIsNull() {
+      assertThatExceptionOfType(IllegalArgumentException.class)
+          .isThrownBy(() -> syncMapper.toSyncChangeResponse(null))
+          .withMessage("syncChange must not be null.");
+    }
+
+  }
+
+}
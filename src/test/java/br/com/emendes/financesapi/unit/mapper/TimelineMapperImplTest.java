@@ -0,0 +1,78 @@
+package br.com.emendes.financesapi.unit.mapper;
+
+import br.com.emendes.financesapi.dto.response.TimelineEntryResponse;
+import br.com.emendes.financesapi.mapper.impl.TimelineMapperImpl;
+import br.com.emendes.financesapi.model.Money;
+import br.com.emendes.financesapi.model.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.math.BigDecimal;
+
+import static br.com.emendes.financesapi.util.faker.TimelineFaker.expenseEntry;
+import static br.com.emendes.financesapi.util.faker.TimelineFaker.incomeEntry;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Unit tests for TimelineMapperImpl")
+class TimelineMapperImplTest {
+
+  @InjectMocks
+  private TimelineMapperImpl timelineMapper;
+
+  @Nested
+  @DisplayName("Tests for toTimelineEntryResponse method")
+  class ToTimelineEntryResponseMethod {
+
+    @Test
+    @DisplayName("toTimelineEntryResponse must return TimelineEntryResponse with all fields when entry is an expense")
+    void toTimelineEntryResponse_MustReturnTimelineEntryResponseWithAllFields_WhenEntryIsAnExpense() {
+      TimelineEntryResponse actualResponse = timelineMapper
+          .toTimelineEntryResponse(expenseEntry("2023-02-05", 1L, "-500.00"), BigDecimal.ZERO);
+
+      assertThat(actualResponse.getType()).isEqualTo(TransactionType.EXPENSE);
+      assertThat(actualResponse.getId()).isEqualTo(1L);
+      assertThat(actualResponse.getDescription()).isEqualTo("Aluguel");
+      assertThat(actualResponse.getDate()).isEqualTo("2023-02-05");
+      assertThat(actualResponse.getValue()).isEqualTo(Money.of(new BigDecimal("1500.00")));
+      assertThat(actualResponse.getCurrency()).isEqualTo("BRL");
+      assertThat(actualResponse.getCategory()).isEqualTo("MORADIA");
+      assertThat(actualResponse.getBalance()).isEqualTo(Money.of(new BigDecimal("-500.00")));
+    }
+
+    @Test
+    @DisplayName("toTimelineEntryResponse must return TimelineEntryResponse without category when entry is an income")
+    void toTimelineEntryResponse_MustReturnTimelineEntryResponseWithoutCategory_WhenEntryIsAnIncome() {
+      TimelineEntryResponse actualResponse = timelineMapper
+          .toTimelineEntryResponse(incomeEntry("2023-02-04", 2L, "2500.00"), BigDecimal.ZERO);
+
+      assertThat(actualResponse.getType()).isEqualTo(TransactionType.INCOME);
+      assertThat(actualResponse.getCategory()).isNull();
+      assertThat(actualResponse.getBalance()).isEqualTo(Money.of(new BigDecimal("2500.00")));
+    }
+
+    @Test
+    @DisplayName("toTimelineEntryResponse must add openingBalance to balance when openingBalance is given")
+    void toTimelineEntryResponse_MustAddOpeningBalanceToBalance_WhenOpeningBalanceIsGiven() {
+      TimelineEntryResponse actualResponse = timelineMapper
+          .toTimelineEntryResponse(expenseEntry("2023-02-05", 1L, "-500.00"), new BigDecimal("1200.00"));
+
+      assertThat(actualResponse.getBalance()).isEqualTo(Money.of(new BigDecimal("700.00")));
+    }
+
+    @Test
+    @DisplayName("toTimelineEntryResponse must throw IllegalArgumentException when timelineEntry is null")
+    void toTimelineEntryResponse_MustThrowIllegalArgumentException_WhenTimelineEntryIsNull() {
+      assertThatExceptionOfType(IllegalArgumentException.class)
+          .isThrownBy(() -> timelineMapper.toTimelineEntryResponse(null, BigDecimal.ZERO))
+          .withMessage("timelineEntry must not be null.");
+    }
+
+  }
+
+}
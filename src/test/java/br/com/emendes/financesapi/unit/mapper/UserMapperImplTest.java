@@ -2,20 +2,24 @@ package br.com.emendes.financesapi.unit.mapper;
 
 import br.com.emendes.financesapi.dto.request.SignupRequest;
 import br.com.emendes.financesapi.dto.response.UserResponse;
+import br.com.emendes.financesapi.exception.InvalidCurrencyException;
 import br.com.emendes.financesapi.mapper.impl.UserMapperImpl;
 import br.com.emendes.financesapi.model.entity.User;
+import br.com.emendes.financesapi.util.component.FxRateTable;
 import br.com.emendes.financesapi.util.faker.RoleFaker;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.when;
 
 /**
  * Unit tests for UserMapperImpl.
@@ -26,6 +30,8 @@ class UserMapperImplTest {
 
   @InjectMocks
   private UserMapperImpl userMapper;
+  @Mock
+  private FxRateTable fxRateTableMock;
 
   @Nested
   @DisplayName("Tests for toUser method")
@@ -40,6 +46,7 @@ class UserMapperImplTest {
           .password("1234567890")
           .confirm("1234567890")
           .build();
+      when(fxRateTableMock.getQuoteCurrency()).thenReturn("BRL");
 
       User actualUser = userMapper.toUser(signupRequest);
 
@@ -48,6 +55,25 @@ class UserMapperImplTest {
       assertThat(actualUser.getName()).isNotNull().isEqualTo("John Doe");
       assertThat(actualUser.getEmail()).isNotNull().isEqualTo("john.doe@email.com");
       assertThat(actualUser.getPassword()).isNotNull().isEqualTo("1234567890");
+      assertThat(actualUser.getBaseCurrency()).isNotNull().isEqualTo("BRL");
+    }
+
+    @Test
+    @DisplayName("toUser must throw InvalidCurrencyException when baseCurrency is not supported")
+    void toUser_MustThrowInvalidCurrencyException_WhenBaseCurrencyIsNotSupported() {
+      SignupRequest signupRequest = SignupRequest.builder()
+          .name("John Doe")
+          .email("john.doe@email.com")
+          .password("1234567890")
+          .confirm("1234567890")
+          .baseCurrency("XYZ")
+          .build();
+      when(fxRateTableMock.requireSupported("XYZ"))
+          .thenThrow(new InvalidCurrencyException("Currency XYZ is not supported"));
+
+      assertThatExceptionOfType(InvalidCurrencyException.class)
+          .isThrownBy(() -> userMapper.toUser(signupRequest))
+          .withMessage("Currency XYZ is not supported");
     }
 
     @Test
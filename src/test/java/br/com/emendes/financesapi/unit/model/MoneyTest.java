@@ -0,0 +1,99 @@
+package br.com.emendes.financesapi.unit.model;
+
+import br.com.emendes.financesapi.model.Money;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("Unit tests for Money")
+class MoneyTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Nested
+  @DisplayName("Tests for of method")
+  class OfMethod {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {"1500.00;150000", "1500;150000", "0.05;5", "-271.9;-27190", "0;0"})
+    @DisplayName("of must return Money with value in cents when value has at most 2 fraction digits")
+    void of_MustReturnMoneyWithValueInCents_WhenValueHasAtMost2FractionDigits(String value, long expectedCents) {
+      assertThat(Money.of(new BigDecimal(value)).cents()).isEqualTo(expectedCents);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1500.999", "92233720368547758.08"})
+    @DisplayName("of must throw ArithmeticException when value can not be represented in cents")
+    void of_MustThrowArithmeticException_WhenValueCanNotBeRepresentedInCents(String value) {
+      assertThatExceptionOfType(ArithmeticException.class)
+          .isThrownBy(() -> Money.of(new BigDecimal(value)));
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for arithmetic methods")
+  class ArithmeticMethods {
+
+    @Test
+    @DisplayName("plus and minus must return exact result in cents")
+    void plusAndMinus_MustReturnExactResultInCents() {
+      Money income = Money.of(new BigDecimal("2500.00"));
+      Money expense = Money.of(new BigDecimal("0.10")).plus(Money.of(new BigDecimal("0.20")));
+
+      assertThat(expense).isEqualTo(Money.of(new BigDecimal("0.30")));
+      assertThat(income.minus(expense)).isEqualTo(Money.ofCents(249_970));
+    }
+
+    @Test
+    @DisplayName("plus must throw ArithmeticException when result overflows")
+    void plus_MustThrowArithmeticException_WhenResultOverflows() {
+      assertThatExceptionOfType(ArithmeticException.class)
+          .isThrownBy(() -> Money.ofCents(Long.MAX_VALUE).plus(Money.ofCents(1)));
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for text representation")
+  class TextRepresentation {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {"150000;1500.00", "5;0.05", "-5;-0.05", "-150010;-1500.10", "0;0.00"})
+    @DisplayName("toString must return value with 2 fraction digits")
+    void toString_MustReturnValueWith2FractionDigits(long cents, String expected) {
+      Money money = Money.ofCents(cents);
+
+      assertThat(money).hasToString(expected);
+      assertThat(money.toBigDecimal()).isEqualTo(new BigDecimal(expected));
+    }
+
+    @Test
+    @DisplayName("Money must be written and read as JSON number with 2 fraction digits")
+    void money_MustBeWrittenAndReadAsJsonNumberWith2FractionDigits() throws Exception {
+      assertThat(objectMapper.writeValueAsString(Money.ofCents(27194))).isEqualTo("271.94");
+      assertThat(objectMapper.readValue("271.94", Money.class)).isEqualTo(Money.ofCents(27194));
+      assertThat(objectMapper.readValue("\"1500\"", Money.class)).isEqualTo(Money.ofCents(150000));
+    }
+
+    @Test
+    @DisplayName("Money must not be read from JSON when value has more than 2 fraction digits")
+    void money_MustNotBeReadFromJson_WhenValueHasMoreThan2FractionDigits() {
+      assertThatExceptionOfType(InvalidFormatException.class)
+          .isThrownBy(() -> objectMapper.readValue("1500.999", Money.class))
+          .satisfies(exception -> assertThat(exception.getOriginalMessage()).isEqualTo("Invalid money"));
+    }
+
+  }
+
+}
@@ -0,0 +1,76 @@
+package br.com.emendes.financesapi.unit.parser;
+
+import br.com.emendes.financesapi.util.parser.DateParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit tests for DateParser")
+class DateParserTest {
+
+  @Nested
+  @DisplayName("Tests for parseToInt method")
+  class ParseToIntMethod {
+
+    @Test
+    @DisplayName("parseToInt must return date as yyyyMMdd int when date is valid")
+    void parseToInt_MustReturnDateAsYyyyMMddInt_WhenDateIsValid() {
+      assertThat(DateParser.parseToInt("2023-02-05")).isEqualTo(20230205);
+      assertThat(DateParser.parseToInt("0000-01-01")).isEqualTo(101);
+    }
+
+    @Test
+    @DisplayName("parseToInt must keep chronological order")
+    void parseToInt_MustKeepChronologicalOrder() {
+      assertThat(DateParser.parseToInt("2023-12-31")).isLessThan(DateParser.parseToInt("2024-01-01"));
+      assertThat(DateParser.parseToInt("2024-01-09")).isLessThan(DateParser.parseToInt("2024-01-10"));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"2023-13-01", "2023-00-10", "2023-02-29", "2100-02-29", "2023-04-31", "2023-01-00",
+        "2023-01-32", "23-01-01", "2023/01/01", "2023-1-01", "2023-01-1", "2023-01-011", "2O23-01-01", "+023-01-01",
+        "2023-0a-01", "01/01/2023", "  2023-01-01"})
+    @DisplayName("parseToInt must return INVALID when date is invalid")
+    void parseToInt_MustReturnINVALID_WhenDateIsInvalid(String invalidDate) {
+      assertThat(DateParser.parseToInt(invalidDate)).isEqualTo(DateParser.INVALID);
+      assertThat(DateParser.isValid(invalidDate)).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2024-02-29", "2000-02-29", "2023-02-28", "2023-04-30", "2023-12-31", "9999-12-31"})
+    @DisplayName("parseToInt must accept same dates as LocalDate#parse when date is valid")
+    void parseToInt_MustAcceptSameDatesAsLocalDateParse_WhenDateIsValid(String validDate) {
+      assertThat(DateParser.isValid(validDate)).isTrue();
+      assertThat(DateParser.parse(validDate)).isEqualTo(LocalDate.parse(validDate));
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for parse method")
+  class ParseMethod {
+
+    @Test
+    @DisplayName("parse must return LocalDate when date is valid")
+    void parse_MustReturnLocalDate_WhenDateIsValid() {
+      assertThat(DateParser.parse("2023-02-05")).isEqualTo(LocalDate.of(2023, 2, 5));
+    }
+
+    @Test
+    @DisplayName("parse must return null when date is invalid")
+    void parse_MustReturnNull_WhenDateIsInvalid() {
+      assertThat(DateParser.parse("2023-02-30")).isNull();
+      assertThat(DateParser.parse(null)).isNull();
+    }
+
+  }
+
+}
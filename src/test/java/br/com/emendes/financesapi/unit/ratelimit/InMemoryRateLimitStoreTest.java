@@ -0,0 +1,139 @@
+package br.com.emendes.financesapi.unit.ratelimit;
+
+import br.com.emendes.financesapi.config.security.ratelimit.InMemoryRateLimitStore;
+import br.com.emendes.financesapi.config.security.ratelimit.RateLimit;
+import br.com.emendes.financesapi.config.security.ratelimit.RateLimitStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit tests for InMemoryRateLimitStore")
+class InMemoryRateLimitStoreTest {
+
+  private static final RateLimit LIMIT = new RateLimit("ip", 3, Duration.ofSeconds(3));
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicLong now = new AtomicLong(1_000_000_000L);
+  private InMemoryRateLimitStore rateLimitStore;
+
+  @BeforeEach
+  void setUp() {
+    rateLimitStore = new InMemoryRateLimitStore(meterRegistry);
+    ReflectionTestUtils.setField(rateLimitStore, "maxKeys", 2);
+    ReflectionTestUtils.setField(rateLimitStore, "nanoTime", (LongSupplier) now::get);
+    ReflectionTestUtils.invokeMethod(rateLimitStore, "registerMetrics");
+  }
+
+  @Nested
+  @DisplayName("Tests for tryConsume method")
+  class TryConsumeMethod {
+
+    @Test
+    @DisplayName("tryConsume must allow a burst of capacity requests and reject the next one")
+    void tryConsume_MustAllowABurstOfCapacityRequestsAndRejectTheNextOne() {
+      assertThat(rateLimitStore.tryConsume("10.0.0.1", LIMIT).remaining()).isEqualTo(2);
+      assertThat(rateLimitStore.tryConsume("10.0.0.1", LIMIT).remaining()).isEqualTo(1);
+      assertThat(rateLimitStore.tryConsume("10.0.0.1", LIMIT).remaining()).isZero();
+
+      RateLimitStore.Decision actualDecision = rateLimitStore.tryConsume("10.0.0.1", LIMIT);
+
+      assertThat(actualDecision.allowed()).isFalse();
+      assertThat(actualDecision.retryAfter()).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("tryConsume must allow one request per emission interval after the burst")
+    void tryConsume_MustAllowOneRequestPerEmissionIntervalAfterTheBurst() {
+      for (int i = 0; i < 3; i++) rateLimitStore.tryConsume("10.0.0.1", LIMIT);
+
+      now.addAndGet(Duration.ofMillis(999).toNanos());
+      assertThat(rateLimitStore.tryConsume("10.0.0.1", LIMIT).allowed()).isFalse();
+      now.addAndGet(Duration.ofMillis(1).toNanos());
+      assertThat(rateLimitStore.tryConsume("10.0.0.1", LIMIT).allowed()).isTrue();
+      assertThat(rateLimitStore.tryConsume("10.0.0.1", LIMIT).allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("tryConsume must keep buckets of different keys and limits apart")
+    void tryConsume_MustKeepBucketsOfDifferentKeysAndLimitsApart() {
+      for (int i = 0; i < 3; i++) rateLimitStore.tryConsume("10.0.0.1", LIMIT);
+
+      assertThat(rateLimitStore.tryConsume("10.0.0.2", LIMIT).allowed()).isTrue();
+      assertThat(rateLimitStore.tryConsume("10.0.0.1", new RateLimit("sign-in", 1, Duration.ofMinutes(1))).allowed())
+          .isTrue();
+    }
+
+    @Test
+    @DisplayName("tryConsume must evict idle buckets and allow untracked requests when map is full")
+    void tryConsume_MustEvictIdleBucketsAndAllowUntrackedRequests_WhenMapIsFull() {
+      rateLimitStore.tryConsume("10.0.0.1", LIMIT);
+      rateLimitStore.tryConsume("10.0.0.2", LIMIT);
+
+      assertThat(rateLimitStore.tryConsume("10.0.0.3", LIMIT).allowed()).isTrue();
+      assertThat(meterRegistry.get("financesapi.rate-limit.untracked").counter().count()).isEqualTo(1);
+
+      now.addAndGet(Duration.ofSeconds(1).toNanos());
+      rateLimitStore.tryConsume("10.0.0.3", LIMIT);
+
+      assertThat(meterRegistry.get("financesapi.rate-limit.buckets").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("tryConsume must never allow more than capacity requests when called concurrently")
+    void tryConsume_MustNeverAllowMoreThanCapacityRequests_WhenCalledConcurrently() throws Exception {
+      RateLimit limit = new RateLimit("user", 100, Duration.ofHours(1));
+      AtomicInteger allowed = new AtomicInteger();
+      CountDownLatch start = new CountDownLatch(1);
+      ExecutorService executor = Executors.newFixedThreadPool(8);
+      for (int i = 0; i < 8; i++) {
+        executor.submit(() -> {
+          start.await();
+          for (int j = 0; j < 100; j++) {
+            if (rateLimitStore.tryConsume("token", limit).allowed()) allowed.incrementAndGet();
+          }
+          return null;
+        });
+      }
+      start.countDown();
+      executor.shutdown();
+
+      assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+      assertThat(allowed.get()).isEqualTo(100);
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for evictIdle method")
+  class EvictIdleMethod {
+
+    @Test
+    @DisplayName("evictIdle must remove only full buckets")
+    void evictIdle_MustRemoveOnlyFullBuckets() {
+      rateLimitStore.tryConsume("10.0.0.1", LIMIT);
+      for (int i = 0; i < 3; i++) rateLimitStore.tryConsume("10.0.0.2", LIMIT);
+
+      now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+      assertThat(rateLimitStore.evictIdle()).isEqualTo(1);
+      assertThat(rateLimitStore.tryConsume("10.0.0.2", LIMIT).allowed()).isTrue();
+      assertThat(rateLimitStore.tryConsume("10.0.0.2", LIMIT).allowed()).isFalse();
+    }
+
+  }
+
+}
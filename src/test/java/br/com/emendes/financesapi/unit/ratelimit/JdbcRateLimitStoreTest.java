@@ -0,0 +1,74 @@
+package br.com.emendes.financesapi.unit.ratelimit;
+
+import br.com.emendes.financesapi.config.security.ratelimit.JdbcRateLimitStore;
+import br.com.emendes.financesapi.config.security.ratelimit.RateLimit;
+import br.com.emendes.financesapi.config.security.ratelimit.RateLimitStore;
+import br.com.emendes.financesapi.repository.RateLimitBucketRepository;
+import br.com.emendes.financesapi.repository.projection.RateLimitConsumption;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Unit tests for JdbcRateLimitStore")
+class JdbcRateLimitStoreTest {
+
+  private static final RateLimit LIMIT = new RateLimit("ip", 3, Duration.ofSeconds(3));
+
+  @InjectMocks
+  private JdbcRateLimitStore rateLimitStore;
+  @Mock
+  private RateLimitBucketRepository rateLimitBucketRepositoryMock;
+
+  @Test
+  @DisplayName("tryConsume must convert limit to microseconds and return remaining requests when allowed")
+  void tryConsume_MustConvertLimitToMicrosecondsAndReturnRemainingRequests_WhenAllowed() {
+    when(rateLimitBucketRepositoryMock.consume("ip:10.0.0.1", 1_000_000L, 3_000_000L))
+        .thenReturn(consumption(10_000_000L, 12_000_000L, 11_000_000L));
+
+    RateLimitStore.Decision actualDecision = rateLimitStore.tryConsume("10.0.0.1", LIMIT);
+
+    assertThat(actualDecision.allowed()).isTrue();
+    assertThat(actualDecision.remaining()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("tryConsume must return retry after from previous arrival when rejected")
+  void tryConsume_MustReturnRetryAfterFromPreviousArrival_WhenRejected() {
+    when(rateLimitBucketRepositoryMock.consume("ip:10.0.0.1", 1_000_000L, 3_000_000L))
+        .thenReturn(consumption(10_000_000L, null, 12_500_000L));
+
+    RateLimitStore.Decision actualDecision = rateLimitStore.tryConsume("10.0.0.1", LIMIT);
+
+    assertThat(actualDecision.allowed()).isFalse();
+    assertThat(actualDecision.retryAfter()).isEqualTo(Duration.ofMillis(500));
+  }
+
+  private static RateLimitConsumption consumption(long now, Long arrival, Long previousArrival) {
+    return new RateLimitConsumption() {
+      @Override
+      public long getNow() {
+        return now;
+      }
+
+      @Override
+      public Long getArrival() {
+        return arrival;
+      }
+
+      @Override
+      public Long getPreviousArrival() {
+        return previousArrival;
+      }
+    };
+  }
+
+}
@@ -0,0 +1,178 @@
+package br.com.emendes.financesapi.unit.ratelimit;
+
+import br.com.emendes.financesapi.config.security.filter.RateLimitFilter;
+import br.com.emendes.financesapi.config.security.ratelimit.InMemoryRateLimitStore;
+import br.com.emendes.financesapi.config.security.ratelimit.JdbcRateLimitStore;
+import br.com.emendes.financesapi.config.security.ratelimit.RateLimitStore;
+import br.com.emendes.financesapi.config.security.service.TokenService;
+import br.com.emendes.financesapi.repository.RateLimitBucketRepository;
+import br.com.emendes.financesapi.repository.projection.RateLimitConsumption;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Unit tests for RateLimitFilter")
+class RateLimitFilterTest {
+
+  /**
+   * Bearer forjado com uma assinatura de 64KB, maior que tb_rate_limit_bucket.bucket_key.
+   */
+  private static final String OVERSIZED_TOKEN = "header.payload." + "x".repeat(65_536);
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final TokenService tokenServiceMock = mock(TokenService.class);
+  private final FilterChain filterChainMock = mock(FilterChain.class);
+  private InMemoryRateLimitStore rateLimitStore;
+  private RateLimitFilter rateLimitFilter;
+
+  @BeforeEach
+  void setUp() {
+    rateLimitStore = new InMemoryRateLimitStore(meterRegistry);
+    ReflectionTestUtils.setField(rateLimitStore, "maxKeys", 100);
+    ReflectionTestUtils.invokeMethod(rateLimitStore, "registerMetrics");
+    rateLimitFilter = rateLimitFilter(rateLimitStore);
+  }
+
+  private RateLimitFilter rateLimitFilter(RateLimitStore rateLimitStore) {
+    RateLimitFilter rateLimitFilter = new RateLimitFilter(
+        rateLimitStore, tokenServiceMock, new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry);
+    ReflectionTestUtils.setField(rateLimitFilter, "enabled", true);
+    ReflectionTestUtils.setField(rateLimitFilter, "ipCapacity", 5);
+    ReflectionTestUtils.setField(rateLimitFilter, "ipPeriod", Duration.ofMinutes(1));
+    ReflectionTestUtils.setField(rateLimitFilter, "signInCapacity", 2);
+    ReflectionTestUtils.setField(rateLimitFilter, "signInPeriod", Duration.ofMinutes(1));
+    ReflectionTestUtils.setField(rateLimitFilter, "userCapacity", 3);
+    ReflectionTestUtils.setField(rateLimitFilter, "userPeriod", Duration.ofMinutes(1));
+    ReflectionTestUtils.invokeMethod(rateLimitFilter, "init");
+    return rateLimitFilter;
+  }
+
+  @Nested
+  @DisplayName("Tests for doFilter method")
+  class DoFilterMethod {
+
+    @Test
+    @DisplayName("doFilter must return 429 with Retry-After when ip limit is exceeded")
+    void doFilter_MustReturn429WithRetryAfter_WhenIpLimitIsExceeded() throws Exception {
+      for (int i = 0; i < 5; i++) {
+        assertThat(filter(new MockHttpServletRequest("GET", "/api/expenses")).getStatus()).isEqualTo(200);
+      }
+
+      MockHttpServletResponse actualResponse = filter(new MockHttpServletRequest("GET", "/api/expenses"));
+
+      assertThat(actualResponse.getStatus()).isEqualTo(429);
+      assertThat(actualResponse.getHeader("Retry-After")).isEqualTo("12");
+      assertThat(actualResponse.getContentAsString()).contains("\"title\":\"Too many requests\"");
+      verify(filterChainMock, times(5)).doFilter(any(), any());
+      assertThat(meterRegistry.get("financesapi.rate-limit.rejected").tag("limit", "ip").counter().count())
+          .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("doFilter must apply stricter sign-in limit to sign in and sign up requests")
+    void doFilter_MustApplyStricterSignInLimitToSignInAndSignUpRequests() throws Exception {
+      assertThat(filter(new MockHttpServletRequest("POST", "/api/auth/signin")).getStatus()).isEqualTo(200);
+      assertThat(filter(new MockHttpServletRequest("POST", "/api/auth/signup")).getStatus()).isEqualTo(200);
+
+      assertThat(filter(new MockHttpServletRequest("POST", "/api/auth/signin")).getStatus()).isEqualTo(429);
+      assertThat(filter(new MockHttpServletRequest("POST", "/api/auth/refresh")).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("doFilter must limit requests by access token")
+    void doFilter_MustLimitRequestsByAccessToken() throws Exception {
+      when(tokenServiceMock.recoverToken(any(HttpServletRequest.class))).thenReturn("header.payload.signature");
+      for (int i = 0; i < 3; i++) {
+        assertThat(filter(new MockHttpServletRequest("GET", "/api/expenses")).getStatus()).isEqualTo(200);
+      }
+
+      assertThat(filter(new MockHttpServletRequest("GET", "/api/expenses")).getStatus()).isEqualTo(429);
+
+      when(tokenServiceMock.recoverToken(any(HttpServletRequest.class))).thenReturn("header.payload.other");
+      assertThat(filter(new MockHttpServletRequest("GET", "/api/expenses")).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("doFilter must keep fixed size bucket key in memory store when access token is oversized")
+    @SuppressWarnings("unchecked")
+    void doFilter_MustKeepFixedSizeBucketKeyInMemoryStore_WhenAccessTokenIsOversized() throws Exception {
+      when(tokenServiceMock.recoverToken(any(HttpServletRequest.class))).thenReturn(OVERSIZED_TOKEN);
+      for (int i = 0; i < 3; i++) {
+        assertThat(filter(new MockHttpServletRequest("GET", "/api/expenses")).getStatus()).isEqualTo(200);
+      }
+
+      assertThat(filter(new MockHttpServletRequest("GET", "/api/expenses")).getStatus()).isEqualTo(429);
+      Map<String, ?> buckets = (Map<String, ?>) ReflectionTestUtils.getField(rateLimitStore, "buckets");
+      assertThat(buckets.keySet()).filteredOn(key -> key.startsWith("user:"))
+          .singleElement().asString().hasSize("user:".length() + 43);
+    }
+
+    @Test
+    @DisplayName("doFilter must send fixed size bucket key to jdbc store when access token is oversized")
+    void doFilter_MustSendFixedSizeBucketKeyToJdbcStore_WhenAccessTokenIsOversized() throws Exception {
+      RateLimitBucketRepository rateLimitBucketRepositoryMock = mock(RateLimitBucketRepository.class);
+      when(rateLimitBucketRepositoryMock.consume(anyString(), anyLong(), anyLong())).thenReturn(allowed());
+      rateLimitFilter = rateLimitFilter(new JdbcRateLimitStore(rateLimitBucketRepositoryMock));
+      when(tokenServiceMock.recoverToken(any(HttpServletRequest.class))).thenReturn(OVERSIZED_TOKEN);
+
+      assertThat(filter(new MockHttpServletRequest("GET", "/api/expenses")).getStatus()).isEqualTo(200);
+
+      ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+      verify(rateLimitBucketRepositoryMock, times(2)).consume(keyCaptor.capture(), anyLong(), anyLong());
+      assertThat(keyCaptor.getAllValues().get(1)).startsWith("user:").hasSize("user:".length() + 43);
+    }
+
+    @Test
+    @DisplayName("doFilter must not limit requests outside /api")
+    void doFilter_MustNotLimitRequestsOutsideApi() throws Exception {
+      for (int i = 0; i < 10; i++) {
+        assertThat(filter(new MockHttpServletRequest("GET", "/actuator/health")).getStatus()).isEqualTo(200);
+      }
+      verify(filterChainMock, times(10)).doFilter(any(), any());
+    }
+
+  }
+
+  private static RateLimitConsumption allowed() {
+    return new RateLimitConsumption() {
+      @Override
+      public long getNow() {
+        return 0;
+      }
+
+      @Override
+      public Long getArrival() {
+        return 1L;
+      }
+
+      @Override
+      public Long getPreviousArrival() {
+        return null;
+      }
+    };
+  }
+
+  private MockHttpServletResponse filter(MockHttpServletRequest request) throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    rateLimitFilter.doFilter(request, response, filterChainMock);
+    return response;
+  }
+
+}
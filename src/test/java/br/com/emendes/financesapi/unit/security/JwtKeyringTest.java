@@ -0,0 +1,110 @@
+package br.com.emendes.financesapi.unit.security;
+
+import br.com.emendes.financesapi.config.security.key.JwtKeyring;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.security.PublicKey;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+@DisplayName("Unit tests for JwtKeyring")
+class JwtKeyringTest {
+
+  private JwtKeyring jwtKeyring;
+
+  @BeforeEach
+  void setUp() {
+    jwtKeyring = new JwtKeyring();
+    ReflectionTestUtils.setField(jwtKeyring, "location", "classpath:jwt/keys");
+    ReflectionTestUtils.setField(jwtKeyring, "signingKid", "ed-2025");
+    ReflectionTestUtils.setField(jwtKeyring, "legacySecret", "");
+  }
+
+  @Nested
+  @DisplayName("Tests for load method")
+  class LoadMethod {
+
+    @Test
+    @DisplayName("load must sign with signing kid and verify with every public key when location has keys")
+    void load_MustSignWithSigningKidAndVerifyWithEveryPublicKey_WhenLocationHasKeys() {
+      jwtKeyring.load();
+
+      assertThat(jwtKeyring.getSigningKey().kid()).isEqualTo("ed-2025");
+      assertThat(jwtKeyring.getSigningKey().algorithm()).isEqualTo(Jwts.SIG.EdDSA);
+      assertThat(jwtKeyring.getVerificationKey("ed-2025")).isInstanceOf(PublicKey.class);
+      assertThat(jwtKeyring.getVerificationKey("es-2024")).isInstanceOf(PublicKey.class);
+      assertThat(jwtKeyring.getVerificationKey("es-2023")).isInstanceOf(PublicKey.class);
+      assertThat(jwtKeyring.getVerificationKey("unknown")).isNull();
+      assertThat(jwtKeyring.getVerificationKey(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("load must publish public keys only in JWK set when location has keys")
+    @SuppressWarnings("unchecked")
+    void load_MustPublishPublicKeysOnlyInJwkSet_WhenLocationHasKeys() {
+      jwtKeyring.load();
+
+      List<Map<String, ?>> keys = (List<Map<String, ?>>) jwtKeyring.getJwkSet().get("keys");
+      assertThat(keys).extracting(jwk -> (Object) jwk.get("kid")).containsExactly("ed-2025", "es-2023", "es-2024");
+      assertThat(keys).extracting(jwk -> (Object) jwk.get("alg")).containsExactly("EdDSA", "ES256", "ES256");
+      assertThat(keys).allSatisfy(jwk -> {
+        assertThat(jwk.get("use")).isEqualTo("sig");
+        assertThat(jwk).doesNotContainKey("d");
+      });
+    }
+
+    @Test
+    @DisplayName("load must throw IllegalStateException when signing kid has no private key")
+    void load_MustThrowIllegalStateException_WhenSigningKidHasNoPrivateKey() {
+      ReflectionTestUtils.setField(jwtKeyring, "signingKid", "es-2023");
+
+      assertThatIllegalStateException().isThrownBy(() -> jwtKeyring.load())
+          .withMessageContaining("No private key found for signing kid es-2023");
+    }
+
+    @Test
+    @DisplayName("load must throw IllegalStateException when key is not P-256 or Ed25519")
+    void load_MustThrowIllegalStateException_WhenKeyIsNotP256OrEd25519() {
+      ReflectionTestUtils.setField(jwtKeyring, "location", "classpath:jwt/invalid");
+      ReflectionTestUtils.setField(jwtKeyring, "signingKid", "es384");
+
+      assertThatIllegalStateException().isThrownBy(() -> jwtKeyring.load())
+          .withMessageContaining("Unsupported JWT key");
+    }
+
+    @Test
+    @DisplayName("load must generate ephemeral ES256 key when location is blank")
+    void load_MustGenerateEphemeralES256Key_WhenLocationIsBlank() {
+      ReflectionTestUtils.setField(jwtKeyring, "location", "");
+      ReflectionTestUtils.setField(jwtKeyring, "signingKid", "");
+
+      jwtKeyring.load();
+
+      String kid = jwtKeyring.getSigningKey().kid();
+      assertThat(kid).startsWith("ephemeral-");
+      assertThat(jwtKeyring.getSigningKey().algorithm()).isEqualTo(Jwts.SIG.ES256);
+      assertThat(jwtKeyring.getVerificationKey(kid)).isInstanceOf(PublicKey.class);
+    }
+
+    @Test
+    @DisplayName("load must keep legacy HMAC key for tokens without kid when secret is set")
+    void load_MustKeepLegacyHmacKeyForTokensWithoutKid_WhenSecretIsSet() {
+      ReflectionTestUtils.setField(jwtKeyring, "legacySecret", "12341234123412341234123412341234");
+
+      jwtKeyring.load();
+
+      assertThat(jwtKeyring.getVerificationKey(null)).isInstanceOf(SecretKey.class);
+    }
+
+  }
+
+}
@@ -0,0 +1,127 @@
+package br.com.emendes.financesapi.unit.security;
+
+import br.com.emendes.financesapi.config.security.key.JwtKeyring;
+import br.com.emendes.financesapi.config.security.service.TokenService;
+import br.com.emendes.financesapi.config.security.service.TokenServiceImpl;
+import br.com.emendes.financesapi.model.entity.User;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit tests for TokenServiceImpl")
+class TokenServiceImplTest {
+
+  private static final String LEGACY_SECRET = "12341234123412341234123412341234";
+
+  private JwtKeyring jwtKeyring;
+  private TokenServiceImpl tokenService;
+
+  @BeforeEach
+  void setUp() {
+    jwtKeyring = keyring("ed-2025");
+    tokenService = tokenService(jwtKeyring);
+  }
+
+  @Nested
+  @DisplayName("Tests for generateToken and decode methods")
+  class GenerateTokenAndDecodeMethods {
+
+    @Test
+    @DisplayName("generateToken must sign token with kid header of signing key")
+    void generateToken_MustSignTokenWithKidHeaderOfSigningKey() {
+      String token = tokenService.generateToken(user());
+
+      Optional<TokenService.AccessToken> actualAccessToken = tokenService.decode(token);
+
+      assertThat(actualAccessToken).isPresent();
+      assertThat(actualAccessToken.get().userId()).isEqualTo(100L);
+      assertThat(actualAccessToken.get().id()).isNotNull();
+      assertThat(actualAccessToken.get().expiration()).isAfter(Instant.now());
+      assertThat(Jwts.parser().keyLocator(header -> jwtKeyring.getVerificationKey("ed-2025")).build()
+          .parseSignedClaims(token).getHeader().getKeyId()).isEqualTo("ed-2025");
+    }
+
+    @Test
+    @DisplayName("decode must accept token signed with previous key after rotation")
+    void decode_MustAcceptTokenSignedWithPreviousKey_AfterRotation() {
+      String token = tokenService(keyring("es-2024")).generateToken(user());
+
+      assertThat(tokenService.decode(token)).isPresent();
+    }
+
+    @Test
+    @DisplayName("decode must return empty Optional when kid is unknown")
+    void decode_MustReturnEmptyOptional_WhenKidIsUnknown() {
+      TokenServiceImpl otherTokenService = tokenService(keyring(null));
+      String token = otherTokenService.generateToken(user());
+
+      assertThat(tokenService.decode(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("decode must return empty Optional when token is tampered")
+    void decode_MustReturnEmptyOptional_WhenTokenIsTampered() {
+      String token = tokenService.generateToken(user());
+      String tampered = token.substring(0, token.length() - 4) + "AAAA";
+
+      assertThat(tokenService.decode(tampered)).isEmpty();
+      assertThat(tokenService.decode(null)).isEmpty();
+      assertThat(tokenService.isTokenValid(tampered)).isFalse();
+    }
+
+    @Test
+    @DisplayName("decode must accept legacy HS256 token without kid when secret is set")
+    void decode_MustAcceptLegacyHS256TokenWithoutKid_WhenSecretIsSet() {
+      String legacyToken = Jwts.builder()
+          .id("jti").subject("100")
+          .expiration(new Date(System.currentTimeMillis() + 60_000))
+          .signWith(Keys.hmacShaKeyFor(LEGACY_SECRET.getBytes(StandardCharsets.UTF_8)))
+          .compact();
+
+      assertThat(tokenService.decode(legacyToken)).isEmpty();
+
+      JwtKeyring legacyKeyring = keyring("ed-2025");
+      ReflectionTestUtils.setField(legacyKeyring, "legacySecret", LEGACY_SECRET);
+      legacyKeyring.load();
+
+      assertThat(tokenService(legacyKeyring).decode(legacyToken))
+          .map(TokenService.AccessToken::userId).contains(100L);
+    }
+
+  }
+
+  /**
+   * @param signingKid kid de classpath:jwt/keys que assina, null para uma chave efêmera.
+   */
+  private static JwtKeyring keyring(String signingKid) {
+    JwtKeyring keyring = new JwtKeyring();
+    ReflectionTestUtils.setField(keyring, "location", signingKid == null ? "" : "classpath:jwt/keys");
+    ReflectionTestUtils.setField(keyring, "signingKid", signingKid == null ? "" : signingKid);
+    ReflectionTestUtils.setField(keyring, "legacySecret", "");
+    keyring.load();
+    return keyring;
+  }
+
+  private static TokenServiceImpl tokenService(JwtKeyring keyring) {
+    TokenServiceImpl tokenService = new TokenServiceImpl(keyring);
+    ReflectionTestUtils.setField(tokenService, "expiration", "900000");
+    ReflectionTestUtils.invokeMethod(tokenService, "buildParser");
+    return tokenService;
+  }
+
+  private static User user() {
+    return User.builder().id(100L).name("Lorem Ipsum").email("lorem@email.com").build();
+  }
+
+}
@@ -0,0 +1,232 @@
+package br.com.emendes.financesapi.unit.service;
+
+import br.com.emendes.financesapi.dto.response.BalanceSeriesResponse;
+import br.com.emendes.financesapi.dto.response.CategoryMonthResponse;
+import br.com.emendes.financesapi.dto.response.CategoryTrendResponse;
+import br.com.emendes.financesapi.dto.response.CategoryTrendsResponse;
+import br.com.emendes.financesapi.exception.InvalidPeriodException;
+import br.com.emendes.financesapi.model.Granularity;
+import br.com.emendes.financesapi.model.Money;
+import br.com.emendes.financesapi.repository.AnalyticsRepository;
+import br.com.emendes.financesapi.service.impl.AnalyticsServiceImpl;
+import br.com.emendes.financesapi.util.component.CurrentAuthenticationComponent;
+import br.com.emendes.financesapi.util.component.FxRateTable;
+import br.com.emendes.financesapi.util.component.MonthlyBalanceCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.List;
+
+import static br.com.emendes.financesapi.util.faker.AnalyticsFaker.balancePoint;
+import static br.com.emendes.financesapi.util.faker.AnalyticsFaker.categoryMonthTotal;
+import static br.com.emendes.financesapi.util.faker.UserFaker.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Tests for AnalyticsServiceImpl")
+class AnalyticsServiceImplTest {
+
+  @InjectMocks
+  private AnalyticsServiceImpl analyticsServiceImpl;
+  @Mock
+  private AnalyticsRepository analyticsRepositoryMock;
+  @Mock
+  private CurrentAuthenticationComponent currentAuthenticationComponentMock;
+  @Mock
+  private MonthlyBalanceCache monthlyBalanceCacheMock;
+  @Mock
+  private FxRateTable fxRateTableMock;
+
+  @BeforeEach
+  void setUp() {
+    when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
+    when(monthlyBalanceCacheMock.getClosingBalance(eq(1_000L), eq("BRL"), any()))
+        .thenReturn(new BigDecimal("1000.00"));
+  }
+
+  @Nested
+  @DisplayName("Tests for balance method")
+  class BalanceMethod {
+
+    @Test
+    @DisplayName("balance must return series starting at closing balance of previous month when from is first day of month")
+    void balance_MustReturnSeriesStartingAtClosingBalanceOfPreviousMonth_WhenFromIsFirstDayOfMonth() {
+      when(analyticsRepositoryMock.findBalanceSeries(eq(1_000L), eq("BRL"), any(), any(), eq("month"),
+          eq(LocalDate.parse("2023-02-01")), eq(LocalDate.parse("2023-04-01")), eq(new BigDecimal("1000.00"))))
+          .thenReturn(List.of(
+              balancePoint("2023-02-01", "2500.00", "1825.00", "1675.00"),
+              balancePoint("2023-03-01", "0", "75.00", "1600.00")));
+
+      BalanceSeriesResponse actualResponse =
+          analyticsServiceImpl.balance("2023-02-01", "2023-03-31", "month", null);
+
+      assertThat(actualResponse.getCurrency()).isEqualTo("BRL");
+      assertThat(actualResponse.getGranularity()).isEqualTo(Granularity.MONTH);
+      assertThat(actualResponse.getOpeningBalance()).isEqualTo(Money.of(new BigDecimal("1000.00")));
+      assertThat(actualResponse.getPoints()).hasSize(2);
+      assertThat(actualResponse.getPoints().get(1).getBalance()).isEqualTo(Money.of(new BigDecimal("1600.00")));
+      verify(monthlyBalanceCacheMock).getClosingBalance(1_000L, "BRL", YearMonth.of(2023, 1));
+      verify(analyticsRepositoryMock, never()).getNetBetween(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("balance must add transactions of month before from to opening balance when from is not first day of month")
+    void balance_MustAddTransactionsOfMonthBeforeFromToOpeningBalance_WhenFromIsNotFirstDayOfMonth() {
+      when(analyticsRepositoryMock.getNetBetween(eq(1_000L), eq("BRL"), any(), any(),
+          eq(LocalDate.parse("2023-02-01")), eq(LocalDate.parse("2023-02-10"))))
+          .thenReturn(new BigDecimal("-200.00"));
+
+      BalanceSeriesResponse actualResponse =
+          analyticsServiceImpl.balance("2023-02-10", "2023-02-12", "DAY", null);
+
+      assertThat(actualResponse.getOpeningBalance()).isEqualTo(Money.of(new BigDecimal("800.00")));
+      verify(analyticsRepositoryMock).findBalanceSeries(eq(1_000L), eq("BRL"), any(), any(), eq("day"),
+          eq(LocalDate.parse("2023-02-10")), eq(LocalDate.parse("2023-02-13")), eq(new BigDecimal("800.00")));
+    }
+
+    @Test
+    @DisplayName("balance must throw InvalidPeriodException when from is not a date")
+    void balance_MustThrowInvalidPeriodException_WhenFromIsNotADate() {
+      assertThatExceptionOfType(InvalidPeriodException.class)
+          .isThrownBy(() -> analyticsServiceImpl.balance("2023-02-30", "2023-03-31", "month", null))
+          .withMessage("from must be a date in the format yyyy-MM-dd");
+    }
+
+    @Test
+    @DisplayName("balance must throw InvalidPeriodException when to is before from")
+    void balance_MustThrowInvalidPeriodException_WhenToIsBeforeFrom() {
+      assertThatExceptionOfType(InvalidPeriodException.class)
+          .isThrownBy(() -> analyticsServiceImpl.balance("2023-03-01", "2023-02-28", "month", null))
+          .withMessage("to 2023-02-28 must be equals or after from 2023-03-01");
+    }
+
+    @Test
+    @DisplayName("balance must throw InvalidPeriodException when granularity is not supported")
+    void balance_MustThrowInvalidPeriodException_WhenGranularityIsNotSupported() {
+      assertThatExceptionOfType(InvalidPeriodException.class)
+          .isThrownBy(() -> analyticsServiceImpl.balance("2023-02-01", "2023-02-28", "year", null))
+          .withMessage("Granularity year is not supported, supported granularities are day, week, month");
+    }
+
+    @Test
+    @DisplayName("balance must throw InvalidPeriodException when series has more than 1000 points")
+    void balance_MustThrowInvalidPeriodException_WhenSeriesHasMoreThan1000Points() {
+      assertThatExceptionOfType(InvalidPeriodException.class)
+          .isThrownBy(() -> analyticsServiceImpl.balance("2020-01-01", "2023-12-31", "day", null))
+          .withMessage("Period from 2020-01-01 to 2023-12-31 has more than 1000 day periods");
+      verifyNoInteractions(analyticsRepositoryMock, monthlyBalanceCacheMock);
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for categories method")
+  class CategoriesMethod {
+
+    @Test
+    @DisplayName("categories must return totals, deltas and averages of each category when categories have expenses")
+    void categories_MustReturnTotalsDeltasAndAveragesOfEachCategory_WhenCategoriesHaveExpenses() {
+      when(analyticsRepositoryMock.findBaseCurrencyCategoryTotalsByMonth(1_000L,
+          LocalDate.parse("2023-01-01"), LocalDate.parse("2023-04-01")))
+          .thenReturn(List.of(
+              categoryMonthTotal("ALIMENTACAO", "2023-01-01", "100.00"),
+              categoryMonthTotal("ALIMENTACAO", "2023-02-01", "810.00"),
+              categoryMonthTotal("ALIMENTACAO", "2023-03-01", "200.00"),
+              categoryMonthTotal("MORADIA", "2023-01-01", "1500.00"),
+              categoryMonthTotal("MORADIA", "2023-02-01", "1500.00"),
+              categoryMonthTotal("OUTRAS", "2023-01-01", "50.00")));
+
+      CategoryTrendsResponse actualResponse = analyticsServiceImpl.categories("2023-02", "2023-03", null);
+
+      assertThat(actualResponse.getCurrency()).isEqualTo("BRL");
+      assertThat(actualResponse.getFrom()).isEqualTo(YearMonth.of(2023, 2));
+      assertThat(actualResponse.getTo()).isEqualTo(YearMonth.of(2023, 3));
+      assertThat(actualResponse.getCategories())
+          .extracting(CategoryTrendResponse::getCategory, CategoryTrendResponse::getTotal,
+              CategoryTrendResponse::getAverage)
+          .containsExactly(
+              tuple("ALIMENTACAO", Money.of(new BigDecimal("1010.00")), Money.of(new BigDecimal("505.00"))),
+              tuple("MORADIA", Money.of(new BigDecimal("1500.00")), Money.of(new BigDecimal("750.00"))));
+      assertThat(actualResponse.getCategories().get(0).getMonths())
+          .extracting(CategoryMonthResponse::getMonth, CategoryMonthResponse::getTotal, CategoryMonthResponse::getDelta)
+          .containsExactly(
+              tuple(YearMonth.of(2023, 2), Money.of(new BigDecimal("810.00")), Money.of(new BigDecimal("710.00"))),
+              tuple(YearMonth.of(2023, 3), Money.of(new BigDecimal("200.00")), Money.of(new BigDecimal("-610.00"))));
+      assertThat(actualResponse.getCategories().get(1).getMonths())
+          .extracting(CategoryMonthResponse::getTotal, CategoryMonthResponse::getDelta)
+          .containsExactly(
+              tuple(Money.of(new BigDecimal("1500.00")), Money.ZERO),
+              tuple(Money.ZERO, Money.of(new BigDecimal("-1500.00"))));
+    }
+
+    @Test
+    @DisplayName("categories must return empty categories when user has no expenses in period")
+    void categories_MustReturnEmptyCategories_WhenUserHasNoExpensesInPeriod() {
+      when(analyticsRepositoryMock.findBaseCurrencyCategoryTotalsByMonth(any(), any(), any()))
+          .thenReturn(Collections.emptyList());
+
+      CategoryTrendsResponse actualResponse = analyticsServiceImpl.categories("2023-01", "2023-12", null);
+
+      assertThat(actualResponse.getCategories()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("categories must aggregate expenses instead of rollup when currency is not base currency")
+    void categories_MustAggregateExpensesInsteadOfRollup_WhenCurrencyIsNotBaseCurrency() {
+      when(fxRateTableMock.requireSupported("USD")).thenReturn("USD");
+      when(analyticsRepositoryMock.findCategoryTotalsByMonth(eq(1_000L), eq("USD"), any(), any(),
+          eq(LocalDate.parse("2023-01-01")), eq(LocalDate.parse("2023-03-01"))))
+          .thenReturn(List.of(categoryMonthTotal("ALIMENTACAO", "2023-02-01", "160.00")));
+
+      CategoryTrendsResponse actualResponse = analyticsServiceImpl.categories("2023-02", "2023-02", "USD");
+
+      assertThat(actualResponse.getCurrency()).isEqualTo("USD");
+      assertThat(actualResponse.getCategories())
+          .extracting(CategoryTrendResponse::getCategory, CategoryTrendResponse::getTotal)
+          .containsExactly(tuple("ALIMENTACAO", Money.of(new BigDecimal("160.00"))));
+      verify(analyticsRepositoryMock, never()).findBaseCurrencyCategoryTotalsByMonth(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("categories must throw InvalidPeriodException when from is not a month")
+    void categories_MustThrowInvalidPeriodException_WhenFromIsNotAMonth() {
+      assertThatExceptionOfType(InvalidPeriodException.class)
+          .isThrownBy(() -> analyticsServiceImpl.categories("2023-13", "2023-12", null))
+          .withMessage("from must be a month in the format yyyy-MM");
+    }
+
+    @Test
+    @DisplayName("categories must throw InvalidPeriodException when to is before from")
+    void categories_MustThrowInvalidPeriodException_WhenToIsBeforeFrom() {
+      assertThatExceptionOfType(InvalidPeriodException.class)
+          .isThrownBy(() -> analyticsServiceImpl.categories("2023-03", "2023-02", null))
+          .withMessage("to 2023-02 must be equals or after from 2023-03");
+    }
+
+    @Test
+    @DisplayName("categories must throw InvalidPeriodException when period has more than 24 months")
+    void categories_MustThrowInvalidPeriodException_WhenPeriodHasMoreThan24Months() {
+      assertThatExceptionOfType(InvalidPeriodException.class)
+          .isThrownBy(() -> analyticsServiceImpl.categories("2022-01", "2024-01", null))
+          .withMessage("Period from 2022-01 to 2024-01 has more than 24 months");
+      verifyNoInteractions(analyticsRepositoryMock);
+    }
+
+  }
+
+}
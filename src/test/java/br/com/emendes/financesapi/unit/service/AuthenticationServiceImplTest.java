@@ -1,14 +1,19 @@
 package br.com.emendes.financesapi.unit.service;
 
 import br.com.emendes.financesapi.config.security.service.TokenService;
+import br.com.emendes.financesapi.dto.request.RefreshTokenRequest;
 import br.com.emendes.financesapi.dto.request.SignInRequest;
 import br.com.emendes.financesapi.dto.request.SignupRequest;
 import br.com.emendes.financesapi.dto.response.TokenResponse;
 import br.com.emendes.financesapi.dto.response.UserResponse;
+import br.com.emendes.financesapi.model.entity.User;
+import br.com.emendes.financesapi.service.RefreshTokenService;
 import br.com.emendes.financesapi.service.UserService;
 import br.com.emendes.financesapi.service.impl.AuthenticationServiceImpl;
 import br.com.emendes.financesapi.exception.DataConflictException;
+import br.com.emendes.financesapi.exception.InvalidRefreshTokenException;
 import br.com.emendes.financesapi.exception.PasswordsDoNotMatchException;
+import br.com.emendes.financesapi.util.component.RevokedTokenRegistry;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -24,6 +29,9 @@ import org.springframework.security.authentication.TestingAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.time.Instant;
+import java.util.Optional;
+
 @ExtendWith(SpringExtension.class)
 @DisplayName("Unit tests for AuthenticationServiceImpl")
 class AuthenticationServiceImplTest {
@@ -37,6 +45,12 @@ class AuthenticationServiceImplTest {
   private TokenService tokenServiceMock;
   @Mock
   private UserService userServiceMock;
+  @Mock
+  private RefreshTokenService refreshTokenServiceMock;
+  @Mock
+  private RevokedTokenRegistry revokedTokenRegistryMock;
+
+  private final User user = User.builder().id(100L).email("lorem@email.com").build();
 
   @Nested
   class SignInMethod {
@@ -45,9 +59,11 @@ class AuthenticationServiceImplTest {
     @DisplayName("signIn must return TokenResponse when sign in successfully")
     void signIn_MustReturnTokenResponse_WhenSignInSuccessfully() {
       BDDMockito.when(authManagerMock.authenticate(ArgumentMatchers.any(Authentication.class)))
-          .thenReturn(new TestingAuthenticationToken("lorem@email.com", "1234567890"));
-      BDDMockito.when(tokenServiceMock.generateToken(ArgumentMatchers.any(Authentication.class)))
+          .thenReturn(new TestingAuthenticationToken(user, "1234567890"));
+      BDDMockito.when(tokenServiceMock.generateToken(user))
           .thenReturn("deiud2iued297d8h8gc67934ybf08df65a9dft9w67fe0qw7higtyd4vijmplad.s9076213");
+      BDDMockito.when(tokenServiceMock.getExpiresInSeconds()).thenReturn(900L);
+      BDDMockito.when(refreshTokenServiceMock.create(user)).thenReturn("r3fr35h-70k3n");
 
       SignInRequest requestBody = SignInRequest.builder()
           .email("lorem@email.com")
@@ -59,6 +75,8 @@ class AuthenticationServiceImplTest {
       Assertions.assertThat(actualTokenResponse).isNotNull();
       Assertions.assertThat(actualTokenResponse.getType()).isNotBlank().isEqualTo("Bearer");
       Assertions.assertThat(actualTokenResponse.getToken()).isNotBlank();
+      Assertions.assertThat(actualTokenResponse.getRefreshToken()).isEqualTo("r3fr35h-70k3n");
+      Assertions.assertThat(actualTokenResponse.getExpiresIn()).isEqualTo(900L);
     }
 
     @Test
@@ -147,4 +165,66 @@ class AuthenticationServiceImplTest {
 
   }
 
-}
\ No newline at end of file
+  @Nested
+  class RefreshMethod {
+
+    @Test
+    @DisplayName("refresh must return TokenResponse with the rotated refresh token when refresh token is valid")
+    void refresh_MustReturnTokenResponseWithTheRotatedRefreshToken_WhenRefreshTokenIsValid() {
+      BDDMockito.when(refreshTokenServiceMock.rotate("r3fr35h-70k3n"))
+          .thenReturn(new RefreshTokenService.Rotation(user, "n3w-r3fr35h-70k3n"));
+      BDDMockito.when(tokenServiceMock.generateToken(user)).thenReturn("4cc355-70k3n");
+      BDDMockito.when(tokenServiceMock.getExpiresInSeconds()).thenReturn(900L);
+
+      TokenResponse actualTokenResponse = authService.refresh(new RefreshTokenRequest("r3fr35h-70k3n"));
+
+      Assertions.assertThat(actualTokenResponse.getToken()).isEqualTo("4cc355-70k3n");
+      Assertions.assertThat(actualTokenResponse.getType()).isEqualTo("Bearer");
+      Assertions.assertThat(actualTokenResponse.getRefreshToken()).isEqualTo("n3w-r3fr35h-70k3n");
+      Assertions.assertThat(actualTokenResponse.getExpiresIn()).isEqualTo(900L);
+    }
+
+    @Test
+    @DisplayName("refresh must throws InvalidRefreshTokenException when refresh token is invalid")
+    void refresh_MustThrowsInvalidRefreshTokenException_WhenRefreshTokenIsInvalid() {
+      BDDMockito.given(refreshTokenServiceMock.rotate("r3fr35h-70k3n"))
+          .willThrow(new InvalidRefreshTokenException("Refresh token expired"));
+
+      Assertions.assertThatExceptionOfType(InvalidRefreshTokenException.class)
+          .isThrownBy(() -> authService.refresh(new RefreshTokenRequest("r3fr35h-70k3n")))
+          .withMessage("Refresh token expired");
+      BDDMockito.verify(tokenServiceMock, BDDMockito.never()).generateToken(ArgumentMatchers.any(User.class));
+    }
+
+  }
+
+  @Nested
+  class SignOutMethod {
+
+    @Test
+    @DisplayName("signOut must revoke refresh token and access token when access token is valid")
+    void signOut_MustRevokeRefreshTokenAndAccessToken_WhenAccessTokenIsValid() {
+      Instant expiration = Instant.parse("2030-01-01T00:00:00Z");
+      BDDMockito.when(tokenServiceMock.decode("4cc355-70k3n"))
+          .thenReturn(Optional.of(new TokenService.AccessToken("jti", 1L, expiration)));
+
+      authService.signOut(new RefreshTokenRequest("r3fr35h-70k3n"), "4cc355-70k3n");
+
+      BDDMockito.verify(refreshTokenServiceMock).revoke("r3fr35h-70k3n");
+      BDDMockito.verify(revokedTokenRegistryMock).revoke("jti", expiration);
+    }
+
+    @Test
+    @DisplayName("signOut must revoke only refresh token when access token is invalid")
+    void signOut_MustRevokeOnlyRefreshToken_WhenAccessTokenIsInvalid() {
+      BDDMockito.when(tokenServiceMock.decode(null)).thenReturn(Optional.empty());
+
+      authService.signOut(new RefreshTokenRequest("r3fr35h-70k3n"), null);
+
+      BDDMockito.verify(refreshTokenServiceMock).revoke("r3fr35h-70k3n");
+      BDDMockito.verifyNoInteractions(revokedTokenRegistryMock);
+    }
+
+  }
+
+}
@@ -0,0 +1,173 @@
+package br.com.emendes.financesapi.unit.service;
+
+import br.com.emendes.financesapi.dto.request.BudgetRequest;
+import br.com.emendes.financesapi.dto.response.BudgetResponse;
+import br.com.emendes.financesapi.exception.EntityNotFoundException;
+import br.com.emendes.financesapi.exception.InvalidCategoryException;
+import br.com.emendes.financesapi.mapper.BudgetMapper;
+import br.com.emendes.financesapi.model.DefaultCategory;
+import br.com.emendes.financesapi.model.entity.Budget;
+import br.com.emendes.financesapi.repository.BudgetRepository;
+import br.com.emendes.financesapi.repository.projection.BudgetStatus;
+import br.com.emendes.financesapi.service.impl.BudgetServiceImpl;
+import br.com.emendes.financesapi.util.component.CategoryDictionary;
+import br.com.emendes.financesapi.util.component.CurrentAuthenticationComponent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static br.com.emendes.financesapi.util.faker.BudgetFaker.*;
+import static br.com.emendes.financesapi.util.faker.UserFaker.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Unit tests for BudgetServiceImpl")
+class BudgetServiceImplTest {
+
+  @InjectMocks
+  private BudgetServiceImpl budgetServiceImpl;
+  @Mock
+  private BudgetRepository budgetRepositoryMock;
+  @Mock
+  private CurrentAuthenticationComponent currentAuthenticationComponentMock;
+  @Mock
+  private BudgetMapper budgetMapperMock;
+  @Mock
+  private CategoryDictionary categoryDictionaryMock;
+
+  private static final LocalDate FEBRUARY_2023 = LocalDate.parse("2023-02-01");
+  private static final short ALIMENTACAO_ID = DefaultCategory.ALIMENTACAO.getId();
+
+  @BeforeEach
+  void setUp() {
+    when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
+    when(categoryDictionaryMock.getId(1_000L, "ALIMENTACAO")).thenReturn(ALIMENTACAO_ID);
+    when(categoryDictionaryMock.getId(1_000L, "LAZER")).thenReturn(DefaultCategory.LAZER.getId());
+  }
+
+  @Nested
+  @DisplayName("Tests for readByYearAndMonth method")
+  class ReadByYearAndMonthMethod {
+
+    @Test
+    @DisplayName("readByYearAndMonth must return List<BudgetResponse> when user has budgets")
+    void readByYearAndMonth_MustReturnListBudgetResponse_WhenUserHasBudgets() {
+      when(budgetRepositoryMock.findStatusByUserAndMonth(1_000L, FEBRUARY_2023))
+          .thenReturn(List.of(budgetStatus("ALIMENTACAO", "800.00", "271.94")));
+      when(budgetMapperMock.toBudgetResponse(any(BudgetStatus.class)))
+          .thenReturn(budgetResponse());
+
+      List<BudgetResponse> actualBudgets = budgetServiceImpl.readByYearAndMonth(2023, 2);
+
+      assertThat(actualBudgets).hasSize(1).contains(budgetResponse());
+    }
+
+    @Test
+    @DisplayName("readByYearAndMonth must throw EntityNotFoundException when user has no budgets")
+    void readByYearAndMonth_MustThrowEntityNotFoundException_WhenUserHasNoBudgets() {
+      when(budgetRepositoryMock.findStatusByUserAndMonth(1_000L, FEBRUARY_2023)).thenReturn(Collections.emptyList());
+
+      assertThatExceptionOfType(EntityNotFoundException.class)
+          .isThrownBy(() -> budgetServiceImpl.readByYearAndMonth(2023, 2))
+          .withMessage("Has no budgets for year 2023 and month FEBRUARY");
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for save method")
+  class SaveMethod {
+
+    @Test
+    @DisplayName("save must create Budget when budget does not exist")
+    void save_MustCreateBudget_WhenBudgetDoesNotExist() {
+      when(budgetRepositoryMock.findByUserAndMonthAndCategoryId(any(), eq(FEBRUARY_2023), eq(ALIMENTACAO_ID)))
+          .thenReturn(Optional.empty());
+      when(budgetRepositoryMock.getSpent(1_000L, FEBRUARY_2023, ALIMENTACAO_ID)).thenReturn(new BigDecimal("271.94"));
+      when(budgetMapperMock.toBudgetResponse(any(Budget.class), any())).thenReturn(budgetResponse());
+
+      BudgetResponse actualResponse = budgetServiceImpl
+          .save(2023, 2, "ALIMENTACAO", new BudgetRequest(new BigDecimal("800.00")));
+
+      ArgumentCaptor<Budget> budgetCaptor = ArgumentCaptor.forClass(Budget.class);
+      verify(budgetRepositoryMock).save(budgetCaptor.capture());
+      assertThat(budgetCaptor.getValue().getMonth()).isEqualTo(FEBRUARY_2023);
+      assertThat(budgetCaptor.getValue().getCategoryId()).isEqualTo(ALIMENTACAO_ID);
+      assertThat(budgetCaptor.getValue().getLimitValue()).isEqualTo("800.00");
+      verify(budgetMapperMock).toBudgetResponse(any(Budget.class), eq(new BigDecimal("271.94")));
+      assertThat(actualResponse).isEqualTo(budgetResponse());
+    }
+
+    @Test
+    @DisplayName("save must update limit and use zero as spent when budget exists and there are no expenses")
+    void save_MustUpdateLimitAndUseZeroAsSpent_WhenBudgetExistsAndThereAreNoExpenses() {
+      Budget budget = budget();
+      when(budgetRepositoryMock.findByUserAndMonthAndCategoryId(any(), eq(FEBRUARY_2023), eq(ALIMENTACAO_ID)))
+          .thenReturn(Optional.of(budget));
+      when(budgetRepositoryMock.getSpent(1_000L, FEBRUARY_2023, ALIMENTACAO_ID)).thenReturn(BigDecimal.ZERO);
+
+      budgetServiceImpl.save(2023, 2, "ALIMENTACAO", new BudgetRequest(new BigDecimal("950.00")));
+
+      verify(budgetRepositoryMock).save(budget);
+      assertThat(budget.getLimitValue()).isEqualTo("950.00");
+      verify(budgetMapperMock).toBudgetResponse(budget, BigDecimal.ZERO);
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for delete method")
+  class DeleteMethod {
+
+    @Test
+    @DisplayName("delete must call BudgetRepository#delete when budget exists")
+    void delete_MustCallBudgetRepositoryDelete_WhenBudgetExists() {
+      when(budgetRepositoryMock.findByUserAndMonthAndCategoryId(any(), eq(FEBRUARY_2023), eq(ALIMENTACAO_ID)))
+          .thenReturn(budgetOptional());
+
+      budgetServiceImpl.delete(2023, 2, "ALIMENTACAO");
+
+      verify(budgetRepositoryMock).delete(any());
+    }
+
+    @Test
+    @DisplayName("delete must throw EntityNotFoundException when budget does not exist")
+    void delete_MustThrowEntityNotFoundException_WhenBudgetDoesNotExist() {
+      when(budgetRepositoryMock.findByUserAndMonthAndCategoryId(any(), any(), any())).thenReturn(Optional.empty());
+
+      assertThatExceptionOfType(EntityNotFoundException.class)
+          .isThrownBy(() -> budgetServiceImpl.delete(2023, 2, "LAZER"))
+          .withMessage("Budget not found for category LAZER, year 2023 and month FEBRUARY");
+    }
+
+    @Test
+    @DisplayName("delete must throw InvalidCategoryException when user has no category with given name")
+    void delete_MustThrowInvalidCategoryException_WhenUserHasNoCategoryWithGivenName() {
+      when(categoryDictionaryMock.getId(1_000L, "PETS"))
+          .thenThrow(new InvalidCategoryException("Category PETS not found"));
+
+      assertThatExceptionOfType(InvalidCategoryException.class)
+          .isThrownBy(() -> budgetServiceImpl.delete(2023, 2, "PETS"))
+          .withMessage("Category PETS not found");
+      verify(budgetRepositoryMock, never()).delete(any());
+    }
+
+  }
+
+}
@@ -1,16 +1,38 @@
 package br.com.emendes.financesapi.unit.service;
 
+import br.com.emendes.financesapi.dto.request.CategoryRequest;
 import br.com.emendes.financesapi.dto.response.CategoryResponse;
+import br.com.emendes.financesapi.exception.DataConflictException;
+import br.com.emendes.financesapi.exception.EntityNotFoundException;
+import br.com.emendes.financesapi.model.entity.Category;
+import br.com.emendes.financesapi.repository.CategoryRepository;
+import br.com.emendes.financesapi.repository.ExpenseRepository;
+import br.com.emendes.financesapi.repository.UserRepository;
 import br.com.emendes.financesapi.service.impl.CategoryServiceImpl;
+import br.com.emendes.financesapi.util.component.CategoryDictionary;
+import br.com.emendes.financesapi.util.component.CurrentAuthenticationComponent;
 import org.assertj.core.api.Assertions;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.sql.SQLException;
 import java.util.List;
+import java.util.Optional;
+
+import static br.com.emendes.financesapi.util.faker.UserFaker.user;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(SpringExtension.class)
 @DisplayName("Unit tests for CategoryServiceImpl")
@@ -18,6 +40,21 @@ class CategoryServiceImplTest {
 
   @InjectMocks
   private CategoryServiceImpl categoryService;
+  @Mock
+  private CategoryRepository categoryRepositoryMock;
+  @Mock
+  private ExpenseRepository expenseRepositoryMock;
+  @Mock
+  private UserRepository userRepositoryMock;
+  @Mock
+  private CategoryDictionary categoryDictionaryMock;
+  @Mock
+  private CurrentAuthenticationComponent currentAuthenticationComponentMock;
+
+  @BeforeEach
+  void setUp() {
+    when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
+  }
 
   @Nested
   @DisplayName("Tests for fetchAllCategories method")
@@ -26,12 +63,136 @@ class CategoryServiceImplTest {
     @Test
     @DisplayName("fetchAllCategories must return List<CategoryResponse> when fetch successfully")
     void fetchAllCategories_MustReturnListCategoryResponse_WhenFetchSuccessfully() {
+      when(categoryDictionaryMock.getNames(1_000L)).thenReturn(List.of("ALIMENTACAO", "OUTRAS", "PETS"));
 
       List<CategoryResponse> actualCategoryResponseList = categoryService.fetchAllCategories();
 
-      Assertions.assertThat(actualCategoryResponseList).isNotNull().isNotEmpty().hasSize(8);
+      Assertions.assertThat(actualCategoryResponseList).isNotNull().hasSize(3)
+          .extracting(CategoryResponse::getCategory).containsExactly("ALIMENTACAO", "OUTRAS", "PETS");
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for create method")
+  class CreateMethod {
+
+    @Test
+    @DisplayName("create must save category with next id and invalidate dictionary when create successfully")
+    void create_MustSaveCategoryWithNextIdAndInvalidateDictionary_WhenCreateSuccessfully() {
+      when(categoryRepositoryMock.findMaxIdByUserId(1_000L)).thenReturn((short) 8);
+
+      CategoryResponse actualCategoryResponse = categoryService.create(new CategoryRequest("PETS"));
+
+      InOrder inOrder = inOrder(userRepositoryMock, categoryRepositoryMock);
+      inOrder.verify(userRepositoryMock).lockById(1_000L);
+      inOrder.verify(categoryRepositoryMock).findMaxIdByUserId(1_000L);
+
+      ArgumentCaptor<Category> categoryCaptor = ArgumentCaptor.forClass(Category.class);
+      verify(categoryRepositoryMock).saveAndFlush(categoryCaptor.capture());
+      Assertions.assertThat(categoryCaptor.getValue().getUserId()).isEqualTo(1_000L);
+      Assertions.assertThat(categoryCaptor.getValue().getId()).isEqualTo((short) 9);
+      Assertions.assertThat(categoryCaptor.getValue().getName()).isEqualTo("PETS");
+      Assertions.assertThat(actualCategoryResponse.getCategory()).isEqualTo("PETS");
+      verify(categoryDictionaryMock).invalidate(1_000L);
+    }
+
+    @Test
+    @DisplayName("create must throw DataConflictException when user already has category with given name")
+    void create_MustThrowDataConflictException_WhenUserAlreadyHasCategoryWithGivenName() {
+      when(categoryRepositoryMock.existsByUserIdAndName(1_000L, "LAZER")).thenReturn(true);
+
+      Assertions.assertThatExceptionOfType(DataConflictException.class)
+          .isThrownBy(() -> categoryService.create(new CategoryRequest("LAZER")))
+          .withMessage("Category LAZER already exists");
+      verify(categoryRepositoryMock, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("create must throw DataConflictException when a concurrent insert violates unique name")
+    void create_MustThrowDataConflictException_WhenAConcurrentInsertViolatesUniqueName() {
+      when(categoryRepositoryMock.findMaxIdByUserId(1_000L)).thenReturn((short) 8);
+      when(categoryRepositoryMock.saveAndFlush(any()))
+          .thenThrow(constraintViolation("tb_category_user_id_name_unique"));
+
+      Assertions.assertThatExceptionOfType(DataConflictException.class)
+          .isThrownBy(() -> categoryService.create(new CategoryRequest("PETS")))
+          .withMessage("Category PETS already exists");
+      verify(categoryDictionaryMock, never()).invalidate(anyLong());
+    }
+
+    @Test
+    @DisplayName("create must throw DataConflictException with retry message when insert violates primary key")
+    void create_MustThrowDataConflictExceptionWithRetryMessage_WhenInsertViolatesPrimaryKey() {
+      when(categoryRepositoryMock.findMaxIdByUserId(1_000L)).thenReturn((short) 8);
+      when(categoryRepositoryMock.saveAndFlush(any())).thenThrow(constraintViolation("tb_category_pk"));
+
+      Assertions.assertThatExceptionOfType(DataConflictException.class)
+          .isThrownBy(() -> categoryService.create(new CategoryRequest("PETS")))
+          .withMessage("Could not create category PETS, try again");
+      verify(categoryDictionaryMock, never()).invalidate(anyLong());
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for delete method")
+  class DeleteMethod {
+
+    @Test
+    @DisplayName("delete must delete category and invalidate dictionary when category is not default")
+    void delete_MustDeleteCategoryAndInvalidateDictionary_WhenCategoryIsNotDefault() {
+      Category category = new Category(1_000L, (short) 9, "PETS");
+      when(categoryRepositoryMock.findByUserIdAndName(1_000L, "PETS")).thenReturn(Optional.of(category));
+
+      categoryService.delete("PETS");
+
+      InOrder inOrder = inOrder(expenseRepositoryMock, categoryRepositoryMock);
+      inOrder.verify(expenseRepositoryMock).moveDeletedToCategory(1_000L, (short) 9, (short) 8);
+      inOrder.verify(categoryRepositoryMock).delete(category);
+      verify(categoryDictionaryMock).invalidate(1_000L);
+    }
+
+    @Test
+    @DisplayName("delete must throw DataConflictException when category is default")
+    void delete_MustThrowDataConflictException_WhenCategoryIsDefault() {
+      when(categoryRepositoryMock.findByUserIdAndName(1_000L, "OUTRAS"))
+          .thenReturn(Optional.of(new Category(1_000L, (short) 8, "OUTRAS")));
+
+      Assertions.assertThatExceptionOfType(DataConflictException.class)
+          .isThrownBy(() -> categoryService.delete("OUTRAS"))
+          .withMessage("Default category OUTRAS can not be deleted");
+      verify(categoryRepositoryMock, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("delete must throw DataConflictException when category is in use")
+    void delete_MustThrowDataConflictException_WhenCategoryIsInUse() {
+      when(categoryRepositoryMock.findByUserIdAndName(1_000L, "PETS"))
+          .thenReturn(Optional.of(new Category(1_000L, (short) 9, "PETS")));
+      doThrow(new DataIntegrityViolationException("fk violation")).when(categoryRepositoryMock).flush();
+
+      Assertions.assertThatExceptionOfType(DataConflictException.class)
+          .isThrownBy(() -> categoryService.delete("PETS"))
+          .withMessage("Category PETS is in use");
+      verify(categoryDictionaryMock, never()).invalidate(anyLong());
     }
 
+    @Test
+    @DisplayName("delete must throw EntityNotFoundException when user has no category with given name")
+    void delete_MustThrowEntityNotFoundException_WhenUserHasNoCategoryWithGivenName() {
+      when(categoryRepositoryMock.findByUserIdAndName(1_000L, "PETS")).thenReturn(Optional.empty());
+
+      Assertions.assertThatExceptionOfType(EntityNotFoundException.class)
+          .isThrownBy(() -> categoryService.delete("PETS"))
+          .withMessage("Category not found: PETS");
+    }
+
+  }
+
+  private static DataIntegrityViolationException constraintViolation(String constraintName) {
+    return new DataIntegrityViolationException("duplicate key",
+        new ConstraintViolationException("duplicate key", new SQLException(), constraintName));
   }
 
-}
\ No newline at end of file
+}
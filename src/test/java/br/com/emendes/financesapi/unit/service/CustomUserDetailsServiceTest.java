@@ -39,7 +39,7 @@ class CustomUserDetailsServiceTest {
   @Test
   @DisplayName("loadUserByUsername must returns UserDetails when successful")
   void loadUserByUsername_ReturnsUserDetails_WhenSuccessful() {
-    BDDMockito.when(userRepositoryMock.findByEmail("lorem@email.com"))
+    BDDMockito.when(userRepositoryMock.findByEmailAndDeletedFalse("lorem@email.com"))
         .thenReturn(Optional.of(USER));
 
     UserDetails userDetails = customUserDetailsService.loadUserByUsername("lorem@email.com");
@@ -51,7 +51,7 @@ class CustomUserDetailsServiceTest {
   @Test
   @DisplayName("loadUserByUsername must throw UsernameNotFoundException when is not successful")
   void loadUserByUsername_ThrowsUsernameNotFoundException_WhenIsNotSuccessful() {
-    BDDMockito.when(userRepositoryMock.findByEmail("notexists@email.com"))
+    BDDMockito.when(userRepositoryMock.findByEmailAndDeletedFalse("notexists@email.com"))
         .thenReturn(Optional.empty());
 
     Assertions.assertThatExceptionOfType(UsernameNotFoundException.class)
@@ -4,13 +4,18 @@ import br.com.emendes.financesapi.dto.request.ExpenseRequest;
 import br.com.emendes.financesapi.dto.response.ExpenseResponse;
 import br.com.emendes.financesapi.dto.response.ValueByCategoryResponse;
 import br.com.emendes.financesapi.exception.EntityNotFoundException;
+import br.com.emendes.financesapi.exception.InvalidFieldsParameterException;
 import br.com.emendes.financesapi.exception.UserIsNotAuthenticatedException;
 import br.com.emendes.financesapi.mapper.ExpenseMapper;
-import br.com.emendes.financesapi.model.Category;
+import br.com.emendes.financesapi.model.Money;
+import br.com.emendes.financesapi.model.OutboxAggregateType;
+import br.com.emendes.financesapi.model.OutboxEventType;
 import br.com.emendes.financesapi.model.entity.Expense;
 import br.com.emendes.financesapi.repository.ExpenseRepository;
+import br.com.emendes.financesapi.service.OutboxService;
 import br.com.emendes.financesapi.service.impl.ExpenseServiceImpl;
 import br.com.emendes.financesapi.util.component.CurrentAuthenticationComponent;
+import br.com.emendes.financesapi.util.component.FxRateTable;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -25,6 +30,8 @@ import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.time.LocalDate;
 
 import static br.com.emendes.financesapi.util.constant.ConstantForTesting.PAGEABLE;
 import static br.com.emendes.financesapi.util.constant.ConstantForTesting.PAGEABLE_WITH_PAGE_ONE;
@@ -34,6 +41,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -53,6 +61,10 @@ class ExpenseServiceImplTest {
   private CurrentAuthenticationComponent currentAuthenticationComponentMock;
   @Mock
   private ExpenseMapper expenseMapperMock;
+  @Mock
+  private OutboxService outboxServiceMock;
+  @Mock
+  private FxRateTable fxRateTableMock;
 
   @Nested
   @DisplayName("Tests for create method")
@@ -62,22 +74,23 @@ class ExpenseServiceImplTest {
     @DisplayName("create must returns ExpenseResponse when create successfully")
     void create_MustReturnsExpenseResponse_WhenCreateSuccessfully() {
       when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
-      when(expenseMapperMock.toExpense(any())).thenReturn(expense());
+      when(expenseMapperMock.toExpense(any(), any())).thenReturn(expense());
       when(expenseRepositoryMock.save(any(Expense.class))).thenReturn(expense());
       when(expenseMapperMock.toExpenseResponse(any())).thenReturn(expenseResponse());
 
       ExpenseRequest expenseRequest = ExpenseRequest.builder()
           .description("Aluguel xpto")
           .value(new BigDecimal("1500.00"))
-          .date("2023-02-05")
+          .date(LocalDate.parse("2023-02-05"))
           .category("MORADIA")
           .build();
 
       ExpenseResponse actualExpenseResponse = expenseServiceImpl.create(expenseRequest);
 
+      verify(outboxServiceMock).append(eq(OutboxAggregateType.EXPENSE), eq(OutboxEventType.CREATED), any(), any(), any());
       assertThat(actualExpenseResponse).isNotNull();
       assertThat(actualExpenseResponse.getDescription()).isEqualTo("Aluguel xpto");
-      assertThat(actualExpenseResponse.getValue()).isEqualTo(new BigDecimal("1500.00"));
+      assertThat(actualExpenseResponse.getValue()).isEqualTo(Money.of(new BigDecimal("1500.00")));
       assertThat(actualExpenseResponse.getDate()).isEqualTo("2023-02-05");
     }
 
@@ -90,7 +103,7 @@ class ExpenseServiceImplTest {
       ExpenseRequest expenseRequest = ExpenseRequest.builder()
           .description("Aluguel xpto")
           .value(new BigDecimal("1500.00"))
-          .date("2023-02-05")
+          .date(LocalDate.parse("2023-02-05"))
           .category("MORADIA")
           .build();
 
@@ -110,8 +123,7 @@ class ExpenseServiceImplTest {
     void readAllByUser_MustReturnsPageExpenseResponse_WhenReadAllByUserSuccessfully() {
       when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
       when(expenseRepositoryMock.findAllByUser(any(), any()))
-          .thenReturn(new PageImpl<>(expenseList()));
-      when(expenseMapperMock.toExpenseResponse(any())).thenReturn(expenseResponse());
+          .thenReturn(new PageImpl<>(List.of(expenseResponse())));
 
       Page<ExpenseResponse> actualExpenseResponsePage = expenseServiceImpl.readAllByUser(PAGEABLE);
       List<ExpenseResponse> actualContent = actualExpenseResponsePage.getContent();
@@ -119,7 +131,7 @@ class ExpenseServiceImplTest {
       assertThat(actualExpenseResponsePage).isNotEmpty();
       assertThat(actualExpenseResponsePage.getNumberOfElements()).isEqualTo(1);
       assertThat(actualContent.get(0).getDescription()).isEqualTo("Aluguel xpto");
-      assertThat(actualContent.get(0).getValue()).isEqualTo("1500.00");
+      assertThat(actualContent.get(0).getValue()).isEqualTo(Money.of(new BigDecimal("1500.00")));
     }
 
     @Test
@@ -160,6 +172,49 @@ class ExpenseServiceImplTest {
 
   }
 
+  @Nested
+  @DisplayName("Tests for read methods with fields")
+  class ReadWithFieldsMethods {
+
+    @Test
+    @DisplayName("readAllByUser must read only given fields when fields is given")
+    void readAllByUser_MustReadOnlyGivenFields_WhenFieldsIsGiven() {
+      ExpenseResponse partialExpenseResponse = ExpenseResponse.builder().id(1L).description("Aluguel xpto").build();
+      when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
+      when(expenseRepositoryMock.findFieldsByUser(any(), any(), any(), any(), any(), any()))
+          .thenReturn(new PageImpl<>(List.of(partialExpenseResponse)));
+
+      Page<ExpenseResponse> actualExpenseResponsePage = expenseServiceImpl.readAllByUser(Set.of("description"), PAGEABLE);
+
+      assertThat(actualExpenseResponsePage.getContent()).containsExactly(partialExpenseResponse);
+      verify(expenseRepositoryMock).findFieldsByUser(eq(Set.of("description")), any(), eq(null), eq(null), eq(null), eq(PAGEABLE));
+    }
+
+    @Test
+    @DisplayName("readAllByUser must throws InvalidFieldsParameterException when fields has unsupported field")
+    void readAllByUser_ThrowsInvalidFieldsParameterException_WhenFieldsHasUnsupportedField() {
+      when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
+
+      assertThatExceptionOfType(InvalidFieldsParameterException.class)
+          .isThrownBy(() -> expenseServiceImpl.readAllByUser(Set.of("description", "user", "password"), PAGEABLE))
+          .withMessage("Unsupported field(s) password, user, supported fields are category, currency, date, description, id, value");
+      verify(expenseRepositoryMock, never()).findFieldsByUser(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("readByYearAndMonthAndUser must filter by year and month when fields is given")
+    void readByYearAndMonthAndUser_MustFilterByYearAndMonth_WhenFieldsIsGiven() {
+      when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
+      when(expenseRepositoryMock.findFieldsByUser(any(), any(), any(), any(), any(), any()))
+          .thenReturn(new PageImpl<>(List.of(new ExpenseResponse())));
+
+      expenseServiceImpl.readByYearAndMonthAndUser(2023, 2, Set.of("value"), PAGEABLE);
+
+      verify(expenseRepositoryMock).findFieldsByUser(eq(Set.of("value")), any(), eq(null), eq(2023), eq(2), eq(PAGEABLE));
+    }
+
+  }
+
   @Nested
   @DisplayName("Tests for readByDescriptionAndUser method")
   class ReadByDescriptionAndUserMethod {
@@ -169,8 +224,7 @@ class ExpenseServiceImplTest {
     void readByDescriptionAndUser_MustReturnsPageExpenseResponse_WhenReadSuccessfully() {
       when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
       when(expenseRepositoryMock.findByDescriptionAndUser(eq("Aluguel"), any(), any()))
-          .thenReturn(new PageImpl<>(expenseList(), PAGEABLE, 1));
-      when(expenseMapperMock.toExpenseResponse(any())).thenReturn(expenseResponse());
+          .thenReturn(new PageImpl<>(List.of(expenseResponse()), PAGEABLE, 1));
 
       Page<ExpenseResponse> actualExpenseResponsePage = expenseServiceImpl
           .readByDescriptionAndUser("Aluguel", PAGEABLE);
@@ -179,7 +233,7 @@ class ExpenseServiceImplTest {
       assertThat(actualExpenseResponsePage).isNotEmpty();
       assertThat(actualExpenseResponsePage.getNumberOfElements()).isEqualTo(1);
       assertThat(actualContent.get(0).getDescription()).isEqualTo("Aluguel xpto");
-      assertThat(actualContent.get(0).getValue()).isEqualTo("1500.00");
+      assertThat(actualContent.get(0).getValue()).isEqualTo(Money.of(new BigDecimal("1500.00")));
     }
 
     @Test
@@ -229,8 +283,7 @@ class ExpenseServiceImplTest {
     @DisplayName("readByIdAndUser must returns expenseResponse when read by id and user successfully")
     void readByIdAndUser_MustReturnsExpenseResponse_WhenReadByIdAndUserSuccessfully() {
       when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
-      when(expenseRepositoryMock.findByIdAndUser(eq(100_000L), any())).thenReturn(expenseOptional());
-      when(expenseMapperMock.toExpenseResponse(any())).thenReturn(expenseResponse());
+      when(expenseRepositoryMock.findResponseByIdAndUser(eq(100_000L), any())).thenReturn(Optional.of(expenseResponse()));
 
       ExpenseResponse actualExpenseResponse = expenseServiceImpl.readByIdAndUser(100_000L);
 
@@ -243,7 +296,7 @@ class ExpenseServiceImplTest {
     @DisplayName("readByIdAndUser must throws EntityNotFoundException when expense with id 999_999 no exists")
     void readByIdAndUser_MustThrowsEntityNotFoundException_WhenExpenseWithId999999NoExists() {
       when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
-      when(expenseRepositoryMock.findByIdAndUser(eq(999_999L), any()))
+      when(expenseRepositoryMock.findResponseByIdAndUser(eq(999_999L), any()))
           .thenReturn(Optional.empty());
 
       assertThatExceptionOfType(EntityNotFoundException.class)
@@ -273,8 +326,7 @@ class ExpenseServiceImplTest {
     void readByYearAndMonthAndUser_MustReturnsPageExpenseResponse_WhenFoundSuccessfully() {
       when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
       when(expenseRepositoryMock.findByYearAndMonthAndUser(eq(2023), eq(2), any(), eq(PAGEABLE)))
-          .thenReturn(new PageImpl<>(expenseList(), PAGEABLE, 1));
-      when(expenseMapperMock.toExpenseResponse(any())).thenReturn(expenseResponse());
+          .thenReturn(new PageImpl<>(List.of(expenseResponse()), PAGEABLE, 1));
 
       Page<ExpenseResponse> actualExpenseResponsePage = expenseServiceImpl
           .readByYearAndMonthAndUser(2023, 2, PAGEABLE);
@@ -340,17 +392,18 @@ class ExpenseServiceImplTest {
       ExpenseRequest expenseRequest = ExpenseRequest.builder()
           .description("Aluguel xpto updated")
           .value(new BigDecimal("1750.00"))
-          .date("2023-02-08")
+          .date(LocalDate.parse("2023-02-08"))
           .category("MORADIA")
           .build();
 
       ExpenseResponse actualExpenseResponse = expenseServiceImpl.update(100_000L, expenseRequest);
 
+      verify(outboxServiceMock).append(eq(OutboxAggregateType.EXPENSE), eq(OutboxEventType.UPDATED), any(), any(), any());
       verify(expenseMapperMock).merge(any(), any());
       assertThat(actualExpenseResponse).isNotNull();
       assertThat(actualExpenseResponse.getId()).isEqualTo(100_000L);
       assertThat(actualExpenseResponse.getDescription()).isEqualTo("Aluguel xpto updated");
-      assertThat(actualExpenseResponse.getValue()).isEqualTo("1750.00");
+      assertThat(actualExpenseResponse.getValue()).isEqualTo(Money.of(new BigDecimal("1750.00")));
     }
 
     @Test
@@ -363,7 +416,7 @@ class ExpenseServiceImplTest {
       ExpenseRequest expenseRequest = ExpenseRequest.builder()
           .description("Aluguel xpto updated")
           .value(new BigDecimal("1750.00"))
-          .date("2023-02-05")
+          .date(LocalDate.parse("2023-02-05"))
           .category("MORADIA")
           .build();
 
@@ -381,7 +434,7 @@ class ExpenseServiceImplTest {
       ExpenseRequest expenseRequest = ExpenseRequest.builder()
           .description("Aluguel xpto updated")
           .value(new BigDecimal("1750.00"))
-          .date("2023-02-05")
+          .date(LocalDate.parse("2023-02-05"))
           .category("MORADIA")
           .build();
 
@@ -406,6 +459,7 @@ class ExpenseServiceImplTest {
       expenseServiceImpl.deleteById(100_000L);
 
       verify(expenseRepositoryMock).delete(any());
+      verify(outboxServiceMock).append(eq(OutboxAggregateType.EXPENSE), eq(OutboxEventType.DELETED), any(), any(), any());
     }
 
     @Test
@@ -442,26 +496,26 @@ class ExpenseServiceImplTest {
     void getValuesByCategoryOnMonthAndYearByUser_MustReturnListValueByCategoryResponse_WhenGetSuccessfully() {
       when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
 
-      when(expenseRepositoryMock.getValueByCategoryAndMonthAndYearAndUser(eq(2023), eq(2), any()))
-          .thenReturn(List.of(valueByCategory(Category.MORADIA, "1500.00")));
+      when(expenseRepositoryMock.getValueByCategoryAndMonthAndYearAndUser(eq(2023), eq(2), any(), eq("BRL"), any(), any()))
+          .thenReturn(List.of(valueByCategory("MORADIA", "1500.00")));
 
       List<ValueByCategoryResponse> actualValueByCategoryResponseList = expenseServiceImpl
-          .getValuesByCategoryOnMonthAndYearByUser(2023, 2);
+          .getValuesByCategoryOnMonthAndYearByUser(2023, 2, "BRL");
 
       assertThat(actualValueByCategoryResponseList).isNotNull().isNotEmpty().hasSize(1);
-      assertThat(actualValueByCategoryResponseList.get(0).getCategory().name()).isEqualTo("MORADIA");
-      assertThat(actualValueByCategoryResponseList.get(0).getValue()).isEqualTo("1500.00");
+      assertThat(actualValueByCategoryResponseList.get(0).getCategory()).isEqualTo("MORADIA");
+      assertThat(actualValueByCategoryResponseList.get(0).getValue()).isEqualTo(Money.of(new BigDecimal("1500.00")));
     }
 
     @Test
     @DisplayName("getValuesByCategoryOnMonthAndYearByUser must return empty List when has no expenses for year 2023 and month 3")
     void getValuesByCategoryOnMonthAndYearByUser_MustReturnEmptyList_WhenHasNoExpensesForYear2023AndMonth3() {
       when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
-      when(expenseRepositoryMock.getValueByCategoryAndMonthAndYearAndUser(eq(2023), eq(3), any()))
+      when(expenseRepositoryMock.getValueByCategoryAndMonthAndYearAndUser(eq(2023), eq(3), any(), eq("BRL"), any(), any()))
           .thenReturn(Collections.emptyList());
 
       List<ValueByCategoryResponse> actualValueByCategoryResponseList = expenseServiceImpl
-          .getValuesByCategoryOnMonthAndYearByUser(2023, 3);
+          .getValuesByCategoryOnMonthAndYearByUser(2023, 3, "BRL");
 
       assertThat(actualValueByCategoryResponseList).isNotNull().isEmpty();
     }
@@ -473,7 +527,7 @@ class ExpenseServiceImplTest {
           .thenThrow(new UserIsNotAuthenticatedException("User is not authenticate"));
 
       assertThatExceptionOfType(UserIsNotAuthenticatedException.class)
-          .isThrownBy(() -> expenseServiceImpl.getValuesByCategoryOnMonthAndYearByUser(2023, 2))
+          .isThrownBy(() -> expenseServiceImpl.getValuesByCategoryOnMonthAndYearByUser(2023, 2, "BRL"))
           .withMessage("User is not authenticate");
     }
 
@@ -0,0 +1,55 @@
+package br.com.emendes.financesapi.unit.service;
+
+import br.com.emendes.financesapi.service.impl.FileOutboxEventSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static br.com.emendes.financesapi.util.faker.OutboxEventFaker.outboxEvent;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit tests for FileOutboxEventSink")
+class FileOutboxEventSinkTest {
+
+  @TempDir
+  private Path tempDir;
+  private Path path;
+  private FileOutboxEventSink fileOutboxEventSink;
+
+  @BeforeEach
+  void setUp() {
+    path = tempDir.resolve("outbox-events.jsonl");
+    fileOutboxEventSink = new FileOutboxEventSink(new ObjectMapper());
+    ReflectionTestUtils.setField(fileOutboxEventSink, "path", path);
+  }
+
+  @Nested
+  @DisplayName("Tests for publish method")
+  class PublishMethod {
+
+    @Test
+    @DisplayName("publish must append one JSON line per event in order when publish successfully")
+    void publish_MustAppendOneJsonLinePerEventInOrder_WhenPublishSuccessfully() throws IOException {
+      fileOutboxEventSink.publish(List.of(outboxEvent(1L)));
+      fileOutboxEventSink.publish(List.of(outboxEvent(2L), outboxEvent(3L)));
+
+      List<String> actualLines = Files.readAllLines(path);
+
+      assertThat(actualLines).hasSize(3);
+      assertThat(actualLines.get(0)).startsWith("{\"id\":1,").contains("\"payload\":{\"id\":100000}");
+      assertThat(actualLines.get(1)).startsWith("{\"id\":2,");
+      assertThat(actualLines.get(2)).startsWith("{\"id\":3,");
+    }
+
+  }
+
+}
@@ -3,11 +3,17 @@ package br.com.emendes.financesapi.unit.service;
 import br.com.emendes.financesapi.dto.request.IncomeRequest;
 import br.com.emendes.financesapi.dto.response.IncomeResponse;
 import br.com.emendes.financesapi.exception.EntityNotFoundException;
+import br.com.emendes.financesapi.exception.InvalidFieldsParameterException;
 import br.com.emendes.financesapi.exception.UserIsNotAuthenticatedException;
 import br.com.emendes.financesapi.mapper.IncomeMapper;
+import br.com.emendes.financesapi.model.Money;
+import br.com.emendes.financesapi.model.OutboxAggregateType;
+import br.com.emendes.financesapi.model.OutboxEventType;
 import br.com.emendes.financesapi.repository.IncomeRepository;
+import br.com.emendes.financesapi.service.OutboxService;
 import br.com.emendes.financesapi.service.impl.IncomeServiceImpl;
 import br.com.emendes.financesapi.util.component.CurrentAuthenticationComponent;
+import br.com.emendes.financesapi.util.component.FxRateTable;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -23,6 +29,8 @@ import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.time.LocalDate;
 
 import static br.com.emendes.financesapi.util.constant.ConstantForTesting.PAGEABLE;
 import static br.com.emendes.financesapi.util.constant.ConstantForTesting.PAGEABLE_WITH_PAGE_ONE;
@@ -31,6 +39,8 @@ import static br.com.emendes.financesapi.util.faker.UserFaker.user;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -49,6 +59,10 @@ class IncomeServiceImplTest {
   private CurrentAuthenticationComponent currentAuthenticationComponentMock;
   @Mock
   private IncomeMapper incomeMapperMock;
+  @Mock
+  private OutboxService outboxServiceMock;
+  @Mock
+  private FxRateTable fxRateTableMock;
 
   @Nested
   @DisplayName("Tests for create method")
@@ -58,21 +72,23 @@ class IncomeServiceImplTest {
     @DisplayName("create must returns IncomeResponse when create successfully")
     void create_MustReturnsIncomeResponse_WhenCreateSuccessfully() {
       when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
-      when(incomeMapperMock.toIncome(any())).thenReturn(incomeToBeSaved());
+      when(incomeMapperMock.toIncome(any(), any())).thenReturn(incomeToBeSaved());
       when(incomeRepositoryMock.save(any())).thenReturn(income());
       when(incomeMapperMock.toIncomeResponse(any())).thenReturn(incomeResponse());
 
       IncomeRequest incomeRequest = IncomeRequest.builder()
           .description("Salário")
           .value(new BigDecimal("2500.00"))
-          .date("2023-02-08")
+          .date(LocalDate.parse("2023-02-08"))
           .build();
 
       IncomeResponse actualIncomeResponse = incomeServiceImpl.create(incomeRequest);
 
+      BDDMockito.verify(outboxServiceMock).append(
+          eq(OutboxAggregateType.INCOME), eq(OutboxEventType.CREATED), any(), any(), any());
       assertThat(actualIncomeResponse).isNotNull();
       assertThat(actualIncomeResponse.getDescription()).isEqualTo("Salário");
-      assertThat(actualIncomeResponse.getValue()).isEqualTo(new BigDecimal("2500.00"));
+      assertThat(actualIncomeResponse.getValue()).isEqualTo(Money.of(new BigDecimal("2500.00")));
       assertThat(actualIncomeResponse.getDate()).isEqualTo("2023-02-08");
     }
 
@@ -85,7 +101,7 @@ class IncomeServiceImplTest {
       IncomeRequest incomeRequest = IncomeRequest.builder()
           .description("Salário")
           .value(new BigDecimal("2500.00"))
-          .date("2023-02-08")
+          .date(LocalDate.parse("2023-02-08"))
           .build();
 
       assertThatExceptionOfType(UserIsNotAuthenticatedException.class)
@@ -104,8 +120,7 @@ class IncomeServiceImplTest {
     void readAllByUser_MustReturnsPageIncomeResponse_WhenReadAllByUserSuccessfully() {
       when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
       when(incomeRepositoryMock.findAllByUser(any(), any()))
-          .thenReturn(new PageImpl<>(incomeList()));
-      when(incomeMapperMock.toIncomeResponse(any())).thenReturn(incomeResponse());
+          .thenReturn(new PageImpl<>(List.of(incomeResponse())));
 
       Page<IncomeResponse> actualIncomeResponsePage = incomeServiceImpl.readAllByUser(PAGEABLE);
       List<IncomeResponse> actualContent = actualIncomeResponsePage.getContent();
@@ -113,7 +128,7 @@ class IncomeServiceImplTest {
       assertThat(actualIncomeResponsePage).isNotEmpty();
       assertThat(actualIncomeResponsePage.getNumberOfElements()).isEqualTo(1);
       assertThat(actualContent.get(0).getDescription()).isEqualTo("Salário");
-      assertThat(actualContent.get(0).getValue()).isEqualTo("2500.00");
+      assertThat(actualContent.get(0).getValue()).isEqualTo(Money.of(new BigDecimal("2500.00")));
     }
 
     @Test
@@ -154,6 +169,37 @@ class IncomeServiceImplTest {
 
   }
 
+  @Nested
+  @DisplayName("Tests for read methods with fields")
+  class ReadWithFieldsMethods {
+
+    @Test
+    @DisplayName("readAllByUser must read only given fields when fields is given")
+    void readAllByUser_MustReadOnlyGivenFields_WhenFieldsIsGiven() {
+      IncomeResponse partialIncomeResponse = IncomeResponse.builder().id(1L).description("Salário").build();
+      when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
+      when(incomeRepositoryMock.findFieldsByUser(any(), any(), any(), any(), any(), any()))
+          .thenReturn(new PageImpl<>(List.of(partialIncomeResponse)));
+
+      Page<IncomeResponse> actualIncomeResponsePage = incomeServiceImpl.readAllByUser(Set.of("description"), PAGEABLE);
+
+      assertThat(actualIncomeResponsePage.getContent()).containsExactly(partialIncomeResponse);
+      verify(incomeRepositoryMock).findFieldsByUser(eq(Set.of("description")), any(), eq(null), eq(null), eq(null), eq(PAGEABLE));
+    }
+
+    @Test
+    @DisplayName("readAllByUser must throws InvalidFieldsParameterException when fields has unsupported field")
+    void readAllByUser_ThrowsInvalidFieldsParameterException_WhenFieldsHasUnsupportedField() {
+      when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
+
+      assertThatExceptionOfType(InvalidFieldsParameterException.class)
+          .isThrownBy(() -> incomeServiceImpl.readAllByUser(Set.of("description", "user", "password"), PAGEABLE))
+          .withMessage("Unsupported field(s) password, user, supported fields are currency, date, description, id, value");
+      verify(incomeRepositoryMock, never()).findFieldsByUser(any(), any(), any(), any(), any(), any());
+    }
+
+  }
+
   @Nested
   @DisplayName("Tests for readByDescriptionAndUser method")
   class ReadByDescriptionAndUserMethod {
@@ -163,8 +209,7 @@ class IncomeServiceImplTest {
     void readByDescriptionAndUser_MustReturnsPageIncomeResponse_WhenReadSuccessfully() {
       when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
       when(incomeRepositoryMock.findByDescriptionAndUser(eq("Salário"), any(), any()))
-          .thenReturn(new PageImpl<>(incomeList(), PAGEABLE, 1));
-      when(incomeMapperMock.toIncomeResponse(any())).thenReturn(incomeResponse());
+          .thenReturn(new PageImpl<>(List.of(incomeResponse()), PAGEABLE, 1));
 
       Page<IncomeResponse> actualIncomeResponsePage = incomeServiceImpl
           .readByDescriptionAndUser("Salário", PAGEABLE);
@@ -173,7 +218,7 @@ class IncomeServiceImplTest {
       assertThat(actualIncomeResponsePage).isNotEmpty();
       assertThat(actualIncomeResponsePage.getNumberOfElements()).isEqualTo(1);
       assertThat(actualContent.get(0).getDescription()).isEqualTo("Salário");
-      assertThat(actualContent.get(0).getValue()).isEqualTo("2500.00");
+      assertThat(actualContent.get(0).getValue()).isEqualTo(Money.of(new BigDecimal("2500.00")));
     }
 
     @Test
@@ -223,9 +268,8 @@ class IncomeServiceImplTest {
     @DisplayName("readByIdAndUser must returns incomeResponse when read by id and user successfully")
     void readByIdAndUser_MustReturnsIncomeResponse_WhenReadByIdAndUserSuccessfully() {
       when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
-      when(incomeRepositoryMock.findByIdAndUser(eq(100_000L), any()))
-          .thenReturn(incomeOptional());
-      when(incomeMapperMock.toIncomeResponse(any())).thenReturn(incomeResponse());
+      when(incomeRepositoryMock.findResponseByIdAndUser(eq(100_000L), any()))
+          .thenReturn(Optional.of(incomeResponse()));
 
       IncomeResponse actualIncomeResponse = incomeServiceImpl.readByIdAndUser(100_000L);
 
@@ -238,7 +282,7 @@ class IncomeServiceImplTest {
     @DisplayName("readByIdAndUser must throws EntityNotFoundException when income with id 999_999 no exists")
     void readByIdAndUser_MustThrowsEntityNotFoundException_WhenIncomeWithId999999NoExists() {
       when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
-      when(incomeRepositoryMock.findByIdAndUser(eq(999_999L), any()))
+      when(incomeRepositoryMock.findResponseByIdAndUser(eq(999_999L), any()))
           .thenReturn(Optional.empty());
 
       assertThatExceptionOfType(EntityNotFoundException.class)
@@ -268,8 +312,7 @@ class IncomeServiceImplTest {
     void readByYearAndMonthAndUser_MustReturnsPageIncomeResponse_WhenFoundSuccessfully() {
       when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
       when(incomeRepositoryMock.findByYearAndMonthAndUser(eq(2023), eq(2), any(), eq(PAGEABLE)))
-          .thenReturn(new PageImpl<>(incomeList(), PAGEABLE, 1));
-      when(incomeMapperMock.toIncomeResponse(any())).thenReturn(incomeResponse());
+          .thenReturn(new PageImpl<>(List.of(incomeResponse()), PAGEABLE, 1));
 
       Page<IncomeResponse> actualIncomeResponsePage = incomeServiceImpl
           .readByYearAndMonthAndUser(2023, 2, PAGEABLE);
@@ -335,15 +378,17 @@ class IncomeServiceImplTest {
       IncomeRequest incomeRequest = IncomeRequest.builder()
           .description("Salário updated")
           .value(new BigDecimal("2750.00"))
-          .date("2023-02-05")
+          .date(LocalDate.parse("2023-02-05"))
           .build();
 
       IncomeResponse actualIncomeResponse = incomeServiceImpl.update(100_000L, incomeRequest);
 
+      BDDMockito.verify(outboxServiceMock).append(
+          eq(OutboxAggregateType.INCOME), eq(OutboxEventType.UPDATED), any(), any(), any());
       assertThat(actualIncomeResponse).isNotNull();
       assertThat(actualIncomeResponse.getId()).isEqualTo(100_000L);
       assertThat(actualIncomeResponse.getDescription()).isEqualTo("Salário updated");
-      assertThat(actualIncomeResponse.getValue()).isEqualTo("2750.00");
+      assertThat(actualIncomeResponse.getValue()).isEqualTo(Money.of(new BigDecimal("2750.00")));
     }
 
     @Test
@@ -357,7 +402,7 @@ class IncomeServiceImplTest {
       IncomeRequest incomeRequest = IncomeRequest.builder()
           .description("Salário updated")
           .value(new BigDecimal("2750.00"))
-          .date("2023-02-05")
+          .date(LocalDate.parse("2023-02-05"))
           .build();
 
       assertThatExceptionOfType(EntityNotFoundException.class)
@@ -374,7 +419,7 @@ class IncomeServiceImplTest {
       IncomeRequest incomeRequest = IncomeRequest.builder()
           .description("Salário updated")
           .value(new BigDecimal("2750.00"))
-          .date("2023-02-05")
+          .date(LocalDate.parse("2023-02-05"))
           .build();
 
       assertThatExceptionOfType(UserIsNotAuthenticatedException.class)
@@ -398,6 +443,8 @@ class IncomeServiceImplTest {
       incomeServiceImpl.deleteById(100_000L);
 
       BDDMockito.verify(incomeRepositoryMock).delete(any());
+      BDDMockito.verify(outboxServiceMock).append(
+          eq(OutboxAggregateType.INCOME), eq(OutboxEventType.DELETED), any(), any(), any());
     }
 
     @Test
@@ -433,24 +480,24 @@ class IncomeServiceImplTest {
     @DisplayName("getTotalValueByMonthAndYearAndUser must return total value when get successfully")
     void getTotalValueByMonthAndYearAndUser_MustReturnTotalValue_WhenGetSuccessfully() {
       when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
-      when(incomeRepositoryMock.getTotalValueByMonthAndYearAndUser(anyInt(), anyInt(), any()))
+      when(incomeRepositoryMock.getTotalValueByMonthAndYearAndUser(anyInt(), anyInt(), any(), eq("BRL"), any(), any()))
           .thenReturn(Optional.of(new BigDecimal("2500.00")));
 
-      BigDecimal actualTotalValue = incomeServiceImpl.getTotalValueByMonthAndYearAndUserId(2023, 2);
+      Money actualTotalValue = incomeServiceImpl.getTotalValueByMonthAndYearAndUserId(2023, 2, "BRL");
 
-      assertThat(actualTotalValue).isNotNull().isEqualTo("2500.00");
+      assertThat(actualTotalValue).isEqualTo(Money.of(new BigDecimal("2500.00")));
     }
 
     @Test
     @DisplayName("getTotalValueByMonthAndYearAndUser must return zero when user has not incomes for given year and month")
     void getTotalValueByMonthAndYearAndUser_MustReturnTotalValue_WhenUserHasNotIncomesForGivenYearAndMonth() {
       when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
-      when(incomeRepositoryMock.getTotalValueByMonthAndYearAndUser(anyInt(), anyInt(), any()))
+      when(incomeRepositoryMock.getTotalValueByMonthAndYearAndUser(anyInt(), anyInt(), any(), eq("BRL"), any(), any()))
           .thenReturn(Optional.empty());
 
-      BigDecimal actualTotalValue = incomeServiceImpl.getTotalValueByMonthAndYearAndUserId(2023, 2);
+      Money actualTotalValue = incomeServiceImpl.getTotalValueByMonthAndYearAndUserId(2023, 2, "BRL");
 
-      assertThat(actualTotalValue).isNotNull().isZero();
+      assertThat(actualTotalValue).isEqualTo(Money.ZERO);
     }
 
     @Test
@@ -460,7 +507,7 @@ class IncomeServiceImplTest {
           .thenThrow(new UserIsNotAuthenticatedException("User is not authenticate"));
 
       assertThatExceptionOfType(UserIsNotAuthenticatedException.class)
-          .isThrownBy(() -> incomeServiceImpl.getTotalValueByMonthAndYearAndUserId(2023, 2))
+          .isThrownBy(() -> incomeServiceImpl.getTotalValueByMonthAndYearAndUserId(2023, 2, "BRL"))
           .withMessage("User is not authenticate");
     }
 
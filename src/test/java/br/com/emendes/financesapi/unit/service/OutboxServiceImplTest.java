@@ -0,0 +1,130 @@
+package br.com.emendes.financesapi.unit.service;
+
+import br.com.emendes.financesapi.model.OutboxAggregateType;
+import br.com.emendes.financesapi.model.OutboxEventType;
+import br.com.emendes.financesapi.model.entity.OutboxEvent;
+import br.com.emendes.financesapi.repository.OutboxEventRepository;
+import br.com.emendes.financesapi.service.OutboxEventSink;
+import br.com.emendes.financesapi.service.impl.OutboxServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static br.com.emendes.financesapi.util.faker.OutboxEventFaker.outboxEvent;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Unit tests for OutboxServiceImpl")
+class OutboxServiceImplTest {
+
+  @InjectMocks
+  private OutboxServiceImpl outboxServiceImpl;
+  @Mock
+  private OutboxEventRepository outboxEventRepositoryMock;
+  @Mock
+  private OutboxEventSink outboxEventSinkMock;
+  @Spy
+  private ObjectMapper objectMapper = new ObjectMapper();
+
+  @Nested
+  @DisplayName("Tests for append method")
+  class AppendMethod {
+
+    @Test
+    @DisplayName("append must save OutboxEvent with payload as JSON when append successfully")
+    void append_MustSaveOutboxEventWithPayloadAsJson_WhenAppendSuccessfully() {
+      outboxServiceImpl.append(OutboxAggregateType.EXPENSE, OutboxEventType.DELETED, 100_000L, 1_000L,
+          Map.of("id", 100_000L));
+
+      ArgumentCaptor<OutboxEvent> outboxEventCaptor = ArgumentCaptor.forClass(OutboxEvent.class);
+      verify(outboxEventRepositoryMock).save(outboxEventCaptor.capture());
+
+      OutboxEvent actualOutboxEvent = outboxEventCaptor.getValue();
+      assertThat(actualOutboxEvent.getAggregateType()).isEqualTo(OutboxAggregateType.EXPENSE);
+      assertThat(actualOutboxEvent.getEventType()).isEqualTo(OutboxEventType.DELETED);
+      assertThat(actualOutboxEvent.getAggregateId()).isEqualTo(100_000L);
+      assertThat(actualOutboxEvent.getUserId()).isEqualTo(1_000L);
+      assertThat(actualOutboxEvent.getPayload()).isEqualTo("{\"id\":100000}");
+      assertThat(actualOutboxEvent.getCreatedAt()).isNotNull();
+      assertThat(actualOutboxEvent.getPublishedAt()).isNull();
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for relay method")
+  class RelayMethod {
+
+    @BeforeEach
+    void setUp() {
+      when(outboxEventRepositoryMock.tryAdvisoryXactLock(anyLong())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("relay must publish and mark events as published when there are pending events")
+    void relay_MustPublishAndMarkEventsAsPublished_WhenThereArePendingEvents() {
+      List<OutboxEvent> events = List.of(outboxEvent(1L), outboxEvent(2L));
+      when(outboxEventRepositoryMock.findUnpublished(Limit.of(10))).thenReturn(events);
+
+      List<OutboxEvent> actualPublished = outboxServiceImpl.relay(10);
+
+      verify(outboxEventSinkMock).publish(events);
+      verify(outboxEventRepositoryMock).markAsPublished(eq(List.of(1L, 2L)), any());
+      assertThat(actualPublished).hasSize(2).allMatch(event -> event.getPublishedAt() != null);
+    }
+
+    @Test
+    @DisplayName("relay must not mark events as published when sink fails")
+    void relay_MustNotMarkEventsAsPublished_WhenSinkFails() {
+      List<OutboxEvent> events = List.of(outboxEvent(1L));
+      when(outboxEventRepositoryMock.findUnpublished(Limit.of(10))).thenReturn(events);
+      doThrow(new IllegalStateException("sink unavailable")).when(outboxEventSinkMock).publish(events);
+
+      assertThatExceptionOfType(IllegalStateException.class)
+          .isThrownBy(() -> outboxServiceImpl.relay(10))
+          .withMessage("sink unavailable");
+
+      verify(outboxEventRepositoryMock, never()).markAsPublished(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("relay must return empty list and not publish when lock is held by another instance")
+    void relay_MustReturnEmptyListAndNotPublish_WhenLockIsHeldByAnotherInstance() {
+      when(outboxEventRepositoryMock.tryAdvisoryXactLock(anyLong())).thenReturn(false);
+
+      List<OutboxEvent> actualPublished = outboxServiceImpl.relay(10);
+
+      assertThat(actualPublished).isEmpty();
+      verify(outboxEventRepositoryMock, never()).findUnpublished(any());
+      verifyNoInteractions(outboxEventSinkMock);
+    }
+
+    @Test
+    @DisplayName("relay must not call sink when there are no pending events")
+    void relay_MustNotCallSink_WhenThereAreNoPendingEvents() {
+      when(outboxEventRepositoryMock.findUnpublished(Limit.of(10))).thenReturn(List.of());
+
+      List<OutboxEvent> actualPublished = outboxServiceImpl.relay(10);
+
+      assertThat(actualPublished).isEmpty();
+      verifyNoInteractions(outboxEventSinkMock);
+    }
+
+  }
+
+}
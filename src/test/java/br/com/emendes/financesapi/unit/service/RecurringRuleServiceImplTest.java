@@ -0,0 +1,153 @@
+package br.com.emendes.financesapi.unit.service;
+
+import br.com.emendes.financesapi.dto.response.RecurringRuleResponse;
+import br.com.emendes.financesapi.exception.EntityNotFoundException;
+import br.com.emendes.financesapi.mapper.RecurringRuleMapper;
+import br.com.emendes.financesapi.model.entity.RecurringRule;
+import br.com.emendes.financesapi.repository.RecurringRuleRepository;
+import br.com.emendes.financesapi.service.impl.RecurringRuleServiceImpl;
+import br.com.emendes.financesapi.util.component.CurrentAuthenticationComponent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static br.com.emendes.financesapi.util.constant.ConstantForTesting.PAGEABLE;
+import static br.com.emendes.financesapi.util.faker.RecurringRuleFaker.*;
+import static br.com.emendes.financesapi.util.faker.UserFaker.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Unit tests for RecurringRuleServiceImpl")
+class RecurringRuleServiceImplTest {
+
+  @InjectMocks
+  private RecurringRuleServiceImpl recurringRuleServiceImpl;
+  @Mock
+  private RecurringRuleRepository recurringRuleRepositoryMock;
+  @Mock
+  private CurrentAuthenticationComponent currentAuthenticationComponentMock;
+  @Mock
+  private RecurringRuleMapper recurringRuleMapperMock;
+
+  @BeforeEach
+  void setUp() {
+    when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
+    when(recurringRuleMapperMock.toRecurringRuleResponse(any())).thenReturn(recurringRuleResponse());
+  }
+
+  @Nested
+  @DisplayName("Tests for create method")
+  class CreateMethod {
+
+    @Test
+    @DisplayName("create must save RecurringRule for current user when create successfully")
+    void create_MustSaveRecurringRuleForCurrentUser_WhenCreateSuccessfully() {
+      RecurringRule recurringRule = recurringRule();
+      when(recurringRuleMapperMock.toRecurringRule(any(), any())).thenReturn(recurringRule);
+
+      RecurringRuleResponse actualResponse = recurringRuleServiceImpl.create(recurringRuleRequest());
+
+      verify(recurringRuleMapperMock).toRecurringRule(any(), argThat(user -> user.getId() == 1_000L));
+      verify(recurringRuleRepositoryMock).save(recurringRule);
+      assertThat(actualResponse).isNotNull().isEqualTo(recurringRuleResponse());
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for readAllByUser method")
+  class ReadAllByUserMethod {
+
+    @Test
+    @DisplayName("readAllByUser must return Page<RecurringRuleResponse> when user has recurring rules")
+    void readAllByUser_MustReturnPageRecurringRuleResponse_WhenUserHasRecurringRules() {
+      when(recurringRuleRepositoryMock.findAllByUser(any(), eq(PAGEABLE)))
+          .thenReturn(new PageImpl<>(List.of(recurringRule()), PAGEABLE, 1));
+
+      Page<RecurringRuleResponse> actualPage = recurringRuleServiceImpl.readAllByUser(PAGEABLE);
+
+      assertThat(actualPage).isNotEmpty().hasSize(1);
+    }
+
+    @Test
+    @DisplayName("readAllByUser must throw EntityNotFoundException when user has no recurring rules")
+    void readAllByUser_MustThrowEntityNotFoundException_WhenUserHasNoRecurringRules() {
+      when(recurringRuleRepositoryMock.findAllByUser(any(), eq(PAGEABLE)))
+          .thenReturn(new PageImpl<>(Collections.emptyList(), PAGEABLE, 0));
+
+      assertThatExceptionOfType(EntityNotFoundException.class)
+          .isThrownBy(() -> recurringRuleServiceImpl.readAllByUser(PAGEABLE))
+          .withMessage("The user has no recurring rules");
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for readByIdAndUser method")
+  class ReadByIdAndUserMethod {
+
+    @Test
+    @DisplayName("readByIdAndUser must return RecurringRuleResponse when found successfully")
+    void readByIdAndUser_MustReturnRecurringRuleResponse_WhenFoundSuccessfully() {
+      when(recurringRuleRepositoryMock.findByIdAndUser(eq(200_000L), any())).thenReturn(recurringRuleOptional());
+
+      RecurringRuleResponse actualResponse = recurringRuleServiceImpl.readByIdAndUser(200_000L);
+
+      assertThat(actualResponse.getId()).isEqualTo(200_000L);
+    }
+
+    @Test
+    @DisplayName("readByIdAndUser must throw EntityNotFoundException when recurring rule not found")
+    void readByIdAndUser_MustThrowEntityNotFoundException_WhenRecurringRuleNotFound() {
+      when(recurringRuleRepositoryMock.findByIdAndUser(eq(999_999L), any())).thenReturn(Optional.empty());
+
+      assertThatExceptionOfType(EntityNotFoundException.class)
+          .isThrownBy(() -> recurringRuleServiceImpl.readByIdAndUser(999_999L))
+          .withMessage("Recurring rule not found with id: 999999");
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for deleteById method")
+  class DeleteByIdMethod {
+
+    @Test
+    @DisplayName("deleteById must call RecurringRuleRepository#delete when delete successfully")
+    void deleteById_MustCallRecurringRuleRepositoryDelete_WhenDeleteSuccessfully() {
+      when(recurringRuleRepositoryMock.findByIdAndUser(eq(200_000L), any())).thenReturn(recurringRuleOptional());
+
+      recurringRuleServiceImpl.deleteById(200_000L);
+
+      verify(recurringRuleRepositoryMock).delete(any());
+    }
+
+    @Test
+    @DisplayName("deleteById must throw EntityNotFoundException when recurring rule not found")
+    void deleteById_MustThrowEntityNotFoundException_WhenRecurringRuleNotFound() {
+      when(recurringRuleRepositoryMock.findByIdAndUser(eq(999_999L), any())).thenReturn(Optional.empty());
+
+      assertThatExceptionOfType(EntityNotFoundException.class)
+          .isThrownBy(() -> recurringRuleServiceImpl.deleteById(999_999L))
+          .withMessage("Recurring rule not found with id: 999999");
+      verify(recurringRuleRepositoryMock, never()).delete(any());
+    }
+
+  }
+
+}
@@ -0,0 +1,207 @@
+package br.com.emendes.financesapi.unit.service;
+
+import br.com.emendes.financesapi.exception.InvalidRefreshTokenException;
+import br.com.emendes.financesapi.model.entity.RefreshToken;
+import br.com.emendes.financesapi.model.entity.User;
+import br.com.emendes.financesapi.repository.RefreshTokenRepository;
+import br.com.emendes.financesapi.repository.UserRepository;
+import br.com.emendes.financesapi.service.RefreshTokenService;
+import br.com.emendes.financesapi.service.impl.RefreshTokenServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Unit tests for RefreshTokenServiceImpl")
+class RefreshTokenServiceImplTest {
+
+  private static final UUID FAMILY_ID = UUID.fromString("5d1c6a8e-6a1f-4c4c-9f3e-0b7f3f7b2f10");
+
+  @InjectMocks
+  private RefreshTokenServiceImpl refreshTokenService;
+  @Mock
+  private RefreshTokenRepository refreshTokenRepositoryMock;
+  @Mock
+  private UserRepository userRepositoryMock;
+
+  private final User user = User.builder().id(100L).email("lorem@email.com").deleted(false).build();
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(refreshTokenService, "refreshExpiration", Duration.ofDays(30));
+    when(refreshTokenRepositoryMock.save(any(RefreshToken.class))).thenAnswer(invocation -> {
+      RefreshToken refreshToken = invocation.getArgument(0);
+      refreshToken.setId(2000L);
+      return refreshToken;
+    });
+  }
+
+  @Nested
+  @DisplayName("Tests for create method")
+  class CreateMethod {
+
+    @Test
+    @DisplayName("create must store only the hash of the token when create successfully")
+    void create_MustStoreOnlyTheHashOfTheToken_WhenCreateSuccessfully() {
+      String actualToken = refreshTokenService.create(user);
+
+      ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+      verify(refreshTokenRepositoryMock).save(captor.capture());
+      RefreshToken stored = captor.getValue();
+
+      assertThat(actualToken).hasSize(43);
+      assertThat(stored.getTokenHash()).isEqualTo(sha256(actualToken)).isNotEqualTo(actualToken);
+      assertThat(stored.getUserId()).isEqualTo(100L);
+      assertThat(stored.getFamilyId()).isNotNull();
+      assertThat(Duration.between(stored.getCreatedAt(), stored.getExpiresAt())).isEqualTo(Duration.ofDays(30));
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for rotate method")
+  class RotateMethod {
+
+    @Test
+    @DisplayName("rotate must revoke current token and return new token of same family when token is valid")
+    void rotate_MustRevokeCurrentTokenAndReturnNewTokenOfSameFamily_WhenTokenIsValid() {
+      RefreshToken current = refreshToken(LocalDateTime.now().plusDays(1), null);
+      when(refreshTokenRepositoryMock.findByTokenHash(sha256("r3fr35h"))).thenReturn(Optional.of(current));
+      when(userRepositoryMock.findById(100L)).thenReturn(Optional.of(user));
+
+      RefreshTokenService.Rotation actualRotation = refreshTokenService.rotate("r3fr35h");
+
+      ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+      verify(refreshTokenRepositoryMock).save(captor.capture());
+
+      assertThat(actualRotation.user()).isSameAs(user);
+      assertThat(actualRotation.refreshToken()).isNotEqualTo("r3fr35h");
+      assertThat(captor.getValue().getFamilyId()).isEqualTo(FAMILY_ID);
+      assertThat(captor.getValue().getTokenHash()).isEqualTo(sha256(actualRotation.refreshToken()));
+      assertThat(current.getRevokedAt()).isNotNull();
+      assertThat(current.getReplacedById()).isEqualTo(2000L);
+    }
+
+    @Test
+    @DisplayName("rotate must revoke the whole family when token was already revoked")
+    void rotate_MustRevokeTheWholeFamily_WhenTokenWasAlreadyRevoked() {
+      RefreshToken current = refreshToken(LocalDateTime.now().plusDays(1), LocalDateTime.now().minusMinutes(1));
+      when(refreshTokenRepositoryMock.findByTokenHash(sha256("r3fr35h"))).thenReturn(Optional.of(current));
+
+      assertThatExceptionOfType(InvalidRefreshTokenException.class)
+          .isThrownBy(() -> refreshTokenService.rotate("r3fr35h"))
+          .withMessage("Refresh token was revoked");
+      verify(refreshTokenRepositoryMock).revokeFamily(eq(FAMILY_ID), any(LocalDateTime.class));
+      verify(refreshTokenRepositoryMock, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("rotate must throws InvalidRefreshTokenException when token is expired")
+    void rotate_MustThrowsInvalidRefreshTokenException_WhenTokenIsExpired() {
+      RefreshToken current = refreshToken(LocalDateTime.now().minusMinutes(1), null);
+      when(refreshTokenRepositoryMock.findByTokenHash(sha256("r3fr35h"))).thenReturn(Optional.of(current));
+
+      assertThatExceptionOfType(InvalidRefreshTokenException.class)
+          .isThrownBy(() -> refreshTokenService.rotate("r3fr35h"))
+          .withMessage("Refresh token expired");
+      verify(refreshTokenRepositoryMock, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("rotate must throws InvalidRefreshTokenException when token does not exist")
+    void rotate_MustThrowsInvalidRefreshTokenException_WhenTokenDoesNotExist() {
+      when(refreshTokenRepositoryMock.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+      assertThatExceptionOfType(InvalidRefreshTokenException.class)
+          .isThrownBy(() -> refreshTokenService.rotate("r3fr35h"))
+          .withMessage("Refresh token not found");
+    }
+
+    @Test
+    @DisplayName("rotate must throws InvalidRefreshTokenException when user is deleted")
+    void rotate_MustThrowsInvalidRefreshTokenException_WhenUserIsDeleted() {
+      RefreshToken current = refreshToken(LocalDateTime.now().plusDays(1), null);
+      when(refreshTokenRepositoryMock.findByTokenHash(sha256("r3fr35h"))).thenReturn(Optional.of(current));
+      when(userRepositoryMock.findById(100L))
+          .thenReturn(Optional.of(User.builder().id(100L).deleted(true).build()));
+
+      assertThatExceptionOfType(InvalidRefreshTokenException.class)
+          .isThrownBy(() -> refreshTokenService.rotate("r3fr35h"))
+          .withMessage("User is not enabled");
+      verify(refreshTokenRepositoryMock, never()).save(any());
+    }
+
+  }
+
+  @Nested
+  @DisplayName("Tests for revoke method")
+  class RevokeMethod {
+
+    @Test
+    @DisplayName("revoke must revoke the family of the token when token exists")
+    void revoke_MustRevokeTheFamilyOfTheToken_WhenTokenExists() {
+      RefreshToken current = refreshToken(LocalDateTime.now().plusDays(1), null);
+      when(refreshTokenRepositoryMock.findByTokenHash(sha256("r3fr35h"))).thenReturn(Optional.of(current));
+
+      refreshTokenService.revoke("r3fr35h");
+
+      verify(refreshTokenRepositoryMock).revokeFamily(eq(FAMILY_ID), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("revoke must do nothing when token does not exist")
+    void revoke_MustDoNothing_WhenTokenDoesNotExist() {
+      when(refreshTokenRepositoryMock.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+      refreshTokenService.revoke("r3fr35h");
+
+      verify(refreshTokenRepositoryMock, never()).revokeFamily(any(), any());
+    }
+
+  }
+
+  private static RefreshToken refreshToken(LocalDateTime expiresAt, LocalDateTime revokedAt) {
+    return RefreshToken.builder()
+        .id(1000L)
+        .userId(100L)
+        .familyId(FAMILY_ID)
+        .tokenHash(sha256("r3fr35h"))
+        .createdAt(LocalDateTime.now().minusDays(1))
+        .expiresAt(expiresAt)
+        .revokedAt(revokedAt)
+        .build();
+  }
+
+  private static String sha256(String value) {
+    try {
+      return HexFormat.of().formatHex(
+          MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException exception) {
+      throw new IllegalStateException(exception);
+    }
+  }
+
+}
@@ -3,11 +3,15 @@ package br.com.emendes.financesapi.unit.service;
 import br.com.emendes.financesapi.dto.response.SummaryResponse;
 import br.com.emendes.financesapi.dto.response.ValueByCategoryResponse;
 import br.com.emendes.financesapi.exception.EntityNotFoundException;
-import br.com.emendes.financesapi.model.Category;
+import br.com.emendes.financesapi.exception.InvalidCurrencyException;
+import br.com.emendes.financesapi.model.Money;
 import br.com.emendes.financesapi.service.impl.ExpenseServiceImpl;
 import br.com.emendes.financesapi.service.impl.IncomeServiceImpl;
 import br.com.emendes.financesapi.service.impl.SummaryServiceImpl;
+import br.com.emendes.financesapi.util.component.CurrentAuthenticationComponent;
+import br.com.emendes.financesapi.util.component.FxRateTable;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -21,6 +25,8 @@ import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
 
+import static br.com.emendes.financesapi.util.faker.UserFaker.user;
+
 @ExtendWith(SpringExtension.class)
 @DisplayName("Tests for SummaryServiceImpl")
 class SummaryServiceImplTest {
@@ -31,6 +37,15 @@ class SummaryServiceImplTest {
   private ExpenseServiceImpl expenseServiceImplMock;
   @Mock
   private IncomeServiceImpl incomeServiceImplMock;
+  @Mock
+  private CurrentAuthenticationComponent currentAuthenticationComponentMock;
+  @Mock
+  private FxRateTable fxRateTableMock;
+
+  @BeforeEach
+  void setUp() {
+    BDDMockito.when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
+  }
 
   @Nested
   @DisplayName("Tests for monthSummary method")
@@ -40,38 +55,39 @@ class SummaryServiceImplTest {
     @DisplayName("monthSummary must returns SummaryResponse when calculate month summary successfully")
     void monthSummary_MustReturnsSummaryResponse_WhenCalculateMonthSummarySuccessfully() {
       ValueByCategoryResponse valueByCategoryResponse = ValueByCategoryResponse.builder()
-          .category(Category.MORADIA)
-          .value(new BigDecimal("1500.00"))
+          .category("MORADIA")
+          .value(Money.of(new BigDecimal("1500.00")))
           .build();
 
-      BDDMockito.when(incomeServiceImplMock.getTotalValueByMonthAndYearAndUserId(2023, 2))
-          .thenReturn(new BigDecimal("2500.00"));
-      BDDMockito.when(expenseServiceImplMock.getValuesByCategoryOnMonthAndYearByUser(2023, 2))
+      BDDMockito.when(incomeServiceImplMock.getTotalValueByMonthAndYearAndUserId(2023, 2, "BRL"))
+          .thenReturn(Money.of(new BigDecimal("2500.00")));
+      BDDMockito.when(expenseServiceImplMock.getValuesByCategoryOnMonthAndYearByUser(2023, 2, "BRL"))
           .thenReturn(List.of(valueByCategoryResponse));
 
-      SummaryResponse actualSummaryResponse = summaryServiceImpl.monthSummary(2023, 2);
+      SummaryResponse actualSummaryResponse = summaryServiceImpl.monthSummary(2023, 2, null);
 
       Assertions.assertThat(actualSummaryResponse).isNotNull();
-      Assertions.assertThat(actualSummaryResponse.getIncomeTotalValue()).isEqualTo(new BigDecimal("2500.00"));
-      Assertions.assertThat(actualSummaryResponse.getExpenseTotalValue()).isEqualTo(new BigDecimal("1500.00"));
-      Assertions.assertThat(actualSummaryResponse.getFinalBalance()).isEqualTo(new BigDecimal("1000.00"));
+      Assertions.assertThat(actualSummaryResponse.getCurrency()).isEqualTo("BRL");
+      Assertions.assertThat(actualSummaryResponse.getIncomeTotalValue()).isEqualTo(Money.of(new BigDecimal("2500.00")));
+      Assertions.assertThat(actualSummaryResponse.getExpenseTotalValue()).isEqualTo(Money.of(new BigDecimal("1500.00")));
+      Assertions.assertThat(actualSummaryResponse.getFinalBalance()).isEqualTo(Money.of(new BigDecimal("1000.00")));
       Assertions.assertThat(actualSummaryResponse.getValuesByCategory()).hasSize(1);
     }
 
     @Test
     @DisplayName("monthSummary must returns SummaryResponse with total expenses ZERO when user has no expenses")
     void monthSummary_ReturnsSummaryResponseWithTotalExpenseZero_WhenUserHasNoExpenses() {
-      BDDMockito.when(incomeServiceImplMock.getTotalValueByMonthAndYearAndUserId(2023, 2))
-          .thenReturn(new BigDecimal("2500.00"));
-      BDDMockito.when(expenseServiceImplMock.getValuesByCategoryOnMonthAndYearByUser(2023, 2))
+      BDDMockito.when(incomeServiceImplMock.getTotalValueByMonthAndYearAndUserId(2023, 2, "BRL"))
+          .thenReturn(Money.of(new BigDecimal("2500.00")));
+      BDDMockito.when(expenseServiceImplMock.getValuesByCategoryOnMonthAndYearByUser(2023, 2, "BRL"))
           .thenReturn(Collections.emptyList());
 
-      SummaryResponse actualSummaryResponse = summaryServiceImpl.monthSummary(2023, 2);
+      SummaryResponse actualSummaryResponse = summaryServiceImpl.monthSummary(2023, 2, null);
 
       Assertions.assertThat(actualSummaryResponse).isNotNull();
-      Assertions.assertThat(actualSummaryResponse.getIncomeTotalValue()).isEqualTo(new BigDecimal("2500.00"));
-      Assertions.assertThat(actualSummaryResponse.getExpenseTotalValue()).isEqualTo(BigDecimal.ZERO);
-      Assertions.assertThat(actualSummaryResponse.getFinalBalance()).isEqualTo(new BigDecimal("2500.00"));
+      Assertions.assertThat(actualSummaryResponse.getIncomeTotalValue()).isEqualTo(Money.of(new BigDecimal("2500.00")));
+      Assertions.assertThat(actualSummaryResponse.getExpenseTotalValue()).isEqualTo(Money.ZERO);
+      Assertions.assertThat(actualSummaryResponse.getFinalBalance()).isEqualTo(Money.of(new BigDecimal("2500.00")));
       Assertions.assertThat(actualSummaryResponse.getValuesByCategory()).isEmpty();
     }
 
@@ -79,37 +95,64 @@ class SummaryServiceImplTest {
     @DisplayName("monthSummary must returns SummaryResponse with total incomes ZERO when successful")
     void monthSummary_ReturnsSummaryResponseWithTotalIncomeZero_WhenUserHasNoIncomes() {
       ValueByCategoryResponse valueByCategoryResponse = ValueByCategoryResponse.builder()
-          .category(Category.MORADIA)
-          .value(new BigDecimal("1500.00"))
+          .category("MORADIA")
+          .value(Money.of(new BigDecimal("1500.00")))
           .build();
 
-      BDDMockito.when(incomeServiceImplMock.getTotalValueByMonthAndYearAndUserId(2023, 2))
-          .thenReturn(BigDecimal.ZERO);
-      BDDMockito.when(expenseServiceImplMock.getValuesByCategoryOnMonthAndYearByUser(2023, 2))
+      BDDMockito.when(incomeServiceImplMock.getTotalValueByMonthAndYearAndUserId(2023, 2, "BRL"))
+          .thenReturn(Money.ZERO);
+      BDDMockito.when(expenseServiceImplMock.getValuesByCategoryOnMonthAndYearByUser(2023, 2, "BRL"))
           .thenReturn(List.of(valueByCategoryResponse));
 
-      SummaryResponse summaryResponse = summaryServiceImpl.monthSummary(2023, 2);
+      SummaryResponse summaryResponse = summaryServiceImpl.monthSummary(2023, 2, null);
 
       Assertions.assertThat(summaryResponse).isNotNull();
-      Assertions.assertThat(summaryResponse.getIncomeTotalValue()).isEqualTo(BigDecimal.ZERO);
-      Assertions.assertThat(summaryResponse.getExpenseTotalValue()).isEqualTo(new BigDecimal("1500.00"));
-      Assertions.assertThat(summaryResponse.getFinalBalance()).isEqualTo(new BigDecimal("-1500.00"));
+      Assertions.assertThat(summaryResponse.getIncomeTotalValue()).isEqualTo(Money.ZERO);
+      Assertions.assertThat(summaryResponse.getExpenseTotalValue()).isEqualTo(Money.of(new BigDecimal("1500.00")));
+      Assertions.assertThat(summaryResponse.getFinalBalance()).isEqualTo(Money.of(new BigDecimal("-1500.00")));
       Assertions.assertThat(summaryResponse.getValuesByCategory()).hasSize(1);
     }
 
     @Test
     @DisplayName("monthSummary throws EntityNotFoundException when user has no incomes and expenses")
     void monthSummary_ThrowsEntityNotFoundException_WhenUserHasNoIncomesAndExpenses() {
-      BDDMockito.when(incomeServiceImplMock.getTotalValueByMonthAndYearAndUserId(2023, 3))
-          .thenReturn(BigDecimal.ZERO);
-      BDDMockito.when(expenseServiceImplMock.getValuesByCategoryOnMonthAndYearByUser(2023, 3))
+      BDDMockito.when(incomeServiceImplMock.getTotalValueByMonthAndYearAndUserId(2023, 3, "BRL"))
+          .thenReturn(Money.ZERO);
+      BDDMockito.when(expenseServiceImplMock.getValuesByCategoryOnMonthAndYearByUser(2023, 3, "BRL"))
           .thenReturn(Collections.emptyList());
 
       Assertions.assertThatExceptionOfType(EntityNotFoundException.class)
-          .isThrownBy(() -> summaryServiceImpl.monthSummary(2023, 3))
+          .isThrownBy(() -> summaryServiceImpl.monthSummary(2023, 3, null))
           .withMessage("Has no expenses or incomes for MARCH 2023");
     }
 
+    @Test
+    @DisplayName("monthSummary must returns SummaryResponse in given currency when currency is supported")
+    void monthSummary_MustReturnsSummaryResponseInGivenCurrency_WhenCurrencyIsSupported() {
+      BDDMockito.when(fxRateTableMock.requireSupported("USD")).thenReturn("USD");
+      BDDMockito.when(incomeServiceImplMock.getTotalValueByMonthAndYearAndUserId(2023, 2, "USD"))
+          .thenReturn(Money.of(new BigDecimal("500.00")));
+      BDDMockito.when(expenseServiceImplMock.getValuesByCategoryOnMonthAndYearByUser(2023, 2, "USD"))
+          .thenReturn(List.of(new ValueByCategoryResponse("MORADIA", Money.of(new BigDecimal("300.00")))));
+
+      SummaryResponse actualSummaryResponse = summaryServiceImpl.monthSummary(2023, 2, "USD");
+
+      Assertions.assertThat(actualSummaryResponse.getCurrency()).isEqualTo("USD");
+      Assertions.assertThat(actualSummaryResponse.getFinalBalance()).isEqualTo(Money.of(new BigDecimal("200.00")));
+    }
+
+    @Test
+    @DisplayName("monthSummary throws InvalidCurrencyException when currency is not supported")
+    void monthSummary_ThrowsInvalidCurrencyException_WhenCurrencyIsNotSupported() {
+      BDDMockito.when(fxRateTableMock.requireSupported("XYZ"))
+          .thenThrow(new InvalidCurrencyException("Currency XYZ is not supported"));
+
+      Assertions.assertThatExceptionOfType(InvalidCurrencyException.class)
+          .isThrownBy(() -> summaryServiceImpl.monthSummary(2023, 2, "XYZ"))
+          .withMessage("Currency XYZ is not supported");
+      BDDMockito.verifyNoInteractions(incomeServiceImplMock, expenseServiceImplMock);
+    }
+
   }
 
 }
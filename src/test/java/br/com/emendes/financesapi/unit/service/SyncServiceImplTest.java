@@ -0,0 +1,93 @@
+package br.com.emendes.financesapi.unit.service;
+
+import br.com.emendes.financesapi.dto.response.SyncChangeResponse;
+import br.com.emendes.financesapi.dto.response.SyncResponse;
+import br.com.emendes.financesapi.mapper.SyncMapper;
+import br.com.emendes.financesapi.repository.SyncRepository;
+import br.com.emendes.financesapi.service.impl.SyncServiceImpl;
+import br.com.emendes.financesapi.util.component.CurrentAuthenticationComponent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Collections;
+import java.util.List;
+
+import static br.com.emendes.financesapi.util.faker.SyncFaker.deletedIncomeChange;
+import static br.com.emendes.financesapi.util.faker.SyncFaker.expenseChange;
+import static br.com.emendes.financesapi.util.faker.UserFaker.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Tests for SyncServiceImpl")
+class SyncServiceImplTest {
+
+  @InjectMocks
+  private SyncServiceImpl syncServiceImpl;
+  @Mock
+  private SyncRepository syncRepositoryMock;
+  @Mock
+  private CurrentAuthenticationComponent currentAuthenticationComponentMock;
+  @Mock
+  private SyncMapper syncMapperMock;
+
+  @BeforeEach
+  void setUp() {
+    when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
+    when(syncMapperMock.toSyncChangeResponse(any())).thenReturn(SyncChangeResponse.builder().build());
+  }
+
+  @Nested
+  @DisplayName("Tests for sync method")
+  class SyncMethod {
+
+    @Test
+    @DisplayName("sync must return last changeSeq as nextToken and hasMore false when found fewer changes than size")
+    void sync_MustReturnLastChangeSeqAsNextTokenAndHasMoreFalse_WhenFoundFewerChangesThanSize() {
+      when(syncRepositoryMock.findChangesByUserSince(1_000L, 10L, 3))
+          .thenReturn(List.of(expenseChange(1L, 11L), deletedIncomeChange(2L, 15L)));
+
+      SyncResponse actualSyncResponse = syncServiceImpl.sync(10L, 2);
+
+      assertThat(actualSyncResponse).isNotNull();
+      assertThat(actualSyncResponse.getChanges()).hasSize(2);
+      assertThat(actualSyncResponse.getNextToken()).isEqualTo(15L);
+      assertThat(actualSyncResponse.isHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("sync must return hasMore true and size changes when found more changes than size")
+    void sync_MustReturnHasMoreTrueAndSizeChanges_WhenFoundMoreChangesThanSize() {
+      when(syncRepositoryMock.findChangesByUserSince(1_000L, 0L, 2))
+          .thenReturn(List.of(expenseChange(1L, 4L), deletedIncomeChange(2L, 7L)));
+
+      SyncResponse actualSyncResponse = syncServiceImpl.sync(0L, 1);
+
+      assertThat(actualSyncResponse.getChanges()).hasSize(1);
+      assertThat(actualSyncResponse.getNextToken()).isEqualTo(4L);
+      assertThat(actualSyncResponse.isHasMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("sync must return since as nextToken when there are no changes")
+    void sync_MustReturnSinceAsNextToken_WhenThereAreNoChanges() {
+      when(syncRepositoryMock.findChangesByUserSince(1_000L, 42L, 501))
+          .thenReturn(Collections.emptyList());
+
+      SyncResponse actualSyncResponse = syncServiceImpl.sync(42L, 500);
+
+      assertThat(actualSyncResponse.getChanges()).isEmpty();
+      assertThat(actualSyncResponse.getNextToken()).isEqualTo(42L);
+      assertThat(actualSyncResponse.isHasMore()).isFalse();
+    }
+
+  }
+
+}
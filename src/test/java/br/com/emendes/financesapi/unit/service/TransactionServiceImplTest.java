@@ -0,0 +1,194 @@
+package br.com.emendes.financesapi.unit.service;
+
+import br.com.emendes.financesapi.dto.response.TimelineEntryResponse;
+import br.com.emendes.financesapi.dto.response.TimelineResponse;
+import br.com.emendes.financesapi.exception.InvalidCurrencyException;
+import br.com.emendes.financesapi.exception.InvalidCursorException;
+import br.com.emendes.financesapi.mapper.TimelineMapper;
+import br.com.emendes.financesapi.repository.TimelineRepository;
+import br.com.emendes.financesapi.service.impl.TransactionServiceImpl;
+import br.com.emendes.financesapi.util.component.CurrentAuthenticationComponent;
+import br.com.emendes.financesapi.util.component.FxRateTable;
+import br.com.emendes.financesapi.util.component.MonthlyBalanceCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+import static br.com.emendes.financesapi.util.faker.TimelineFaker.expenseEntry;
+import static br.com.emendes.financesapi.util.faker.TimelineFaker.incomeEntry;
+import static br.com.emendes.financesapi.util.faker.UserFaker.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("Tests for TransactionServiceImpl")
+class TransactionServiceImplTest {
+
+  private static final LocalDate FIRST_RATE_DATE = LocalDate.parse("2023-01-01");
+  private static final LocalDate LAST_RATE_DATE = LocalDate.parse("2023-12-31");
+
+  @InjectMocks
+  private TransactionServiceImpl transactionServiceImpl;
+  @Mock
+  private TimelineRepository timelineRepositoryMock;
+  @Mock
+  private CurrentAuthenticationComponent currentAuthenticationComponentMock;
+  @Mock
+  private TimelineMapper timelineMapperMock;
+  @Mock
+  private FxRateTable fxRateTableMock;
+  @Mock
+  private MonthlyBalanceCache monthlyBalanceCacheMock;
+
+  @BeforeEach
+  void setUp() {
+    when(currentAuthenticationComponentMock.getCurrentUser()).thenReturn(user());
+    when(timelineMapperMock.toTimelineEntryResponse(any(), any())).thenReturn(TimelineEntryResponse.builder().build());
+    when(fxRateTableMock.getFirstDate()).thenReturn(FIRST_RATE_DATE);
+    when(fxRateTableMock.getLastDate()).thenReturn(LAST_RATE_DATE);
+    when(monthlyBalanceCacheMock.getClosingBalance(any(), any(), any())).thenReturn(BigDecimal.ZERO);
+    when(timelineRepositoryMock.getBalanceBefore(any(), any(), any(), any(), any(), any(), any(), anyLong()))
+        .thenReturn(BigDecimal.ZERO);
+  }
+
+  @Nested
+  @DisplayName("Tests for timeline method")
+  class TimelineMethod {
+
+    @Test
+    @DisplayName("timeline must return transactions without nextCursor when found fewer transactions than size")
+    void timeline_MustReturnTransactionsWithoutNextCursor_WhenFoundFewerTransactionsThanSize() {
+      when(timelineRepositoryMock.findTimelineByUser(
+          eq(1_000L), eq("BRL"), eq(FIRST_RATE_DATE), eq(LAST_RATE_DATE), eq(LocalDate.parse("9999-12-31")),
+          eq("INCOME"), eq(Long.MAX_VALUE), eq(3)))
+          .thenReturn(List.of(incomeEntry("2023-02-05", 2L, "1000.00"), expenseEntry("2023-02-05", 1L, "-1500.00")));
+
+      TimelineResponse actualTimelineResponse = transactionServiceImpl.timeline(null, 2, null);
+
+      assertThat(actualTimelineResponse.getCurrency()).isEqualTo("BRL");
+      assertThat(actualTimelineResponse.getTransactions()).hasSize(2);
+      assertThat(actualTimelineResponse.getNextCursor()).isNull();
+      assertThat(actualTimelineResponse.isHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("timeline must map transactions with balance before oldest transaction of page")
+    void timeline_MustMapTransactionsWithBalanceBeforeOldestTransactionOfPage() {
+      when(timelineRepositoryMock.findTimelineByUser(
+          anyLong(), anyString(), any(), any(), any(), anyString(), anyLong(), eq(2)))
+          .thenReturn(List.of(expenseEntry("2023-02-06", 7L, "500.00"), incomeEntry("2023-02-05", 2L, "2000.00")));
+      when(monthlyBalanceCacheMock.getClosingBalance(1_000L, "BRL", YearMonth.of(2023, 1)))
+          .thenReturn(new BigDecimal("300.00"));
+      when(timelineRepositoryMock.getBalanceBefore(1_000L, "BRL", FIRST_RATE_DATE, LAST_RATE_DATE,
+          LocalDate.parse("2023-02-01"), LocalDate.parse("2023-02-05"), "INCOME", 2L))
+          .thenReturn(new BigDecimal("-100.00"));
+
+      transactionServiceImpl.timeline(null, 1, null);
+
+      verify(timelineMapperMock).toTimelineEntryResponse(any(), eq(new BigDecimal("200.00")));
+    }
+
+    @Test
+    @DisplayName("timeline must not read balance when found no transactions")
+    void timeline_MustNotReadBalance_WhenFoundNoTransactions() {
+      TimelineResponse actualTimelineResponse = transactionServiceImpl.timeline(null, 20, null);
+
+      assertThat(actualTimelineResponse.getTransactions()).isEmpty();
+      verify(monthlyBalanceCacheMock, never()).getClosingBalance(any(), any(), any());
+      verify(timelineRepositoryMock, never())
+          .getBalanceBefore(any(), any(), any(), any(), any(), any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("timeline must return nextCursor of last transaction when found more transactions than size")
+    void timeline_MustReturnNextCursorOfLastTransaction_WhenFoundMoreTransactionsThanSize() {
+      when(timelineRepositoryMock.findTimelineByUser(
+          anyLong(), anyString(), any(), any(), any(), anyString(), anyLong(), eq(2)))
+          .thenReturn(List.of(expenseEntry("2023-02-06", 7L, "500.00"), incomeEntry("2023-02-05", 2L, "2000.00")));
+
+      TimelineResponse actualTimelineResponse = transactionServiceImpl.timeline(null, 1, null);
+
+      assertThat(actualTimelineResponse.getTransactions()).hasSize(1);
+      assertThat(actualTimelineResponse.isHasMore()).isTrue();
+      assertThat(Base64.getUrlDecoder().decode(actualTimelineResponse.getNextCursor()))
+          .asString().isEqualTo("2023-02-06:EXPENSE:7");
+    }
+
+    @Test
+    @DisplayName("timeline must read after cursor when cursor is given")
+    void timeline_MustReadAfterCursor_WhenCursorIsGiven() {
+      when(timelineRepositoryMock.findTimelineByUser(
+          anyLong(), anyString(), any(), any(), any(), anyString(), anyLong(), anyInt()))
+          .thenReturn(Collections.emptyList());
+      String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString("2023-02-06:EXPENSE:7".getBytes());
+
+      TimelineResponse actualTimelineResponse = transactionServiceImpl.timeline(cursor, 20, null);
+
+      assertThat(actualTimelineResponse.getTransactions()).isEmpty();
+      assertThat(actualTimelineResponse.isHasMore()).isFalse();
+      verify(timelineRepositoryMock).findTimelineByUser(
+          1_000L, "BRL", FIRST_RATE_DATE, LAST_RATE_DATE, LocalDate.parse("2023-02-06"), "EXPENSE", 7L, 21);
+    }
+
+    @Test
+    @DisplayName("timeline must use given currency when currency is supported")
+    void timeline_MustUseGivenCurrency_WhenCurrencyIsSupported() {
+      when(fxRateTableMock.requireSupported("USD")).thenReturn("USD");
+
+      TimelineResponse actualTimelineResponse = transactionServiceImpl.timeline(null, 20, "USD");
+
+      assertThat(actualTimelineResponse.getCurrency()).isEqualTo("USD");
+      verify(timelineRepositoryMock).findTimelineByUser(
+          eq(1_000L), eq("USD"), any(), any(), any(), anyString(), anyLong(), eq(21));
+    }
+
+    @Test
+    @DisplayName("timeline must throw InvalidCurrencyException when currency is not supported")
+    void timeline_MustThrowInvalidCurrencyException_WhenCurrencyIsNotSupported() {
+      when(fxRateTableMock.requireSupported("XYZ"))
+          .thenThrow(new InvalidCurrencyException("Currency XYZ is not supported"));
+
+      assertThatExceptionOfType(InvalidCurrencyException.class)
+          .isThrownBy(() -> transactionServiceImpl.timeline(null, 20, "XYZ"));
+      verify(timelineRepositoryMock, never())
+          .findTimelineByUser(anyLong(), anyString(), any(), any(), any(), anyString(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("timeline must throw InvalidCursorException when cursor is not Base64")
+    void timeline_MustThrowInvalidCursorException_WhenCursorIsNotBase64() {
+      assertThatExceptionOfType(InvalidCursorException.class)
+          .isThrownBy(() -> transactionServiceImpl.timeline("not*base64", 20, null))
+          .withMessage("Cursor not*base64 is invalid");
+    }
+
+    @Test
+    @DisplayName("timeline must throw InvalidCursorException when cursor has invalid type")
+    void timeline_MustThrowInvalidCursorException_WhenCursorHasInvalidType() {
+      String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString("2023-02-06:BUDGET:7".getBytes());
+
+      assertThatExceptionOfType(InvalidCursorException.class)
+          .isThrownBy(() -> transactionServiceImpl.timeline(cursor, 20, null));
+      verify(timelineRepositoryMock, never())
+          .findTimelineByUser(anyLong(), anyString(), any(), any(), any(), anyString(), anyLong(), anyInt());
+    }
+
+  }
+
+}
@@ -5,7 +5,9 @@ import br.com.emendes.financesapi.dto.request.SignupRequest;
 import br.com.emendes.financesapi.dto.response.UserResponse;
 import br.com.emendes.financesapi.exception.*;
 import br.com.emendes.financesapi.mapper.UserMapper;
+import br.com.emendes.financesapi.model.entity.Category;
 import br.com.emendes.financesapi.model.entity.User;
+import br.com.emendes.financesapi.repository.CategoryRepository;
 import br.com.emendes.financesapi.repository.UserRepository;
 import br.com.emendes.financesapi.service.impl.UserServiceImpl;
 import br.com.emendes.financesapi.util.component.CurrentAuthenticationComponent;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -22,6 +25,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.util.List;
 import java.util.Optional;
 
 import static br.com.emendes.financesapi.util.constant.ConstantForTesting.USER_PAGEABLE;
@@ -29,6 +33,7 @@ import static br.com.emendes.financesapi.util.faker.UserFaker.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -49,6 +54,8 @@ class UserServiceImplTest {
   private CurrentAuthenticationComponent currentAuthenticationComponentMock;
   @Mock
   private UserMapper userMapper;
+  @Mock
+  private CategoryRepository categoryRepositoryMock;
 
   @Nested
   @DisplayName("Tests for createAccount method")
@@ -81,6 +88,29 @@ class UserServiceImplTest {
       assertThat(actualUserResponse.getName()).isEqualTo("John Doe");
     }
 
+    @Test
+    @DisplayName("createAccount must save default categories for new user when create successfully")
+    @SuppressWarnings("unchecked")
+    void createAccount_MustSaveDefaultCategoriesForNewUser_WhenCreateSuccessfully() {
+      when(userRepositoryMock.save(any(User.class))).thenReturn(user());
+      when(userMapper.toUser(any())).thenReturn(nonSavedUser());
+
+      SignupRequest signupRequest = SignupRequest.builder()
+          .name("John Doe")
+          .email("john.doe@email.com")
+          .password("1234567890")
+          .confirm("1234567890")
+          .build();
+
+      userServiceImpl.createAccount(signupRequest);
+
+      ArgumentCaptor<List<Category>> categoriesCaptor = ArgumentCaptor.forClass(List.class);
+      verify(categoryRepositoryMock).saveAll(categoriesCaptor.capture());
+      assertThat(categoriesCaptor.getValue()).hasSize(8)
+          .allMatch(category -> category.getUserId() == 1_000L)
+          .extracting(Category::getName).startsWith("ALIMENTACAO").endsWith("OUTRAS");
+    }
+
     @Test
     @DisplayName("createAccount must throws DataConflictException when email already used")
     void createAccount_MustThrowsDataConflictException_WhenEmailAlreadyUsed() {
@@ -124,7 +154,7 @@ class UserServiceImplTest {
     @Test
     @DisplayName("read must return Page<UserResponse> when read successfully")
     void read_ReturnsPageUserResponse_WhenReadSuccessfully() {
-      when(userRepositoryMock.findAll(USER_PAGEABLE))
+      when(userRepositoryMock.findAllByDeletedFalse(USER_PAGEABLE))
           .thenReturn(new PageImpl<>(userList()));
       when(userMapper.toUserResponse(any())).thenReturn(userResponse());
 
@@ -173,13 +203,29 @@ class UserServiceImplTest {
   class DeleteMethod {
 
     @Test
-    @DisplayName("delete must call 1 time UserRepository#deleteById when delete successfully")
-    void delete_MustCall1TimeUserRepositoryDeleteById_WhenDeleteSuccessfully() {
-      when(userRepositoryMock.findById(1_000L)).thenReturn(userOptional());
+    @DisplayName("delete must mark user as deleted when delete successfully")
+    void delete_MustMarkUserAsDeleted_WhenDeleteSuccessfully() {
+      User userToBeDeleted = user();
+      when(userRepositoryMock.findById(1_000L)).thenReturn(Optional.of(userToBeDeleted));
 
       userServiceImpl.delete(1_000L);
 
-      verify(userRepositoryMock).delete(any());
+      verify(userRepositoryMock).save(userToBeDeleted);
+      verify(userRepositoryMock, never()).delete(any());
+      assertThat(userToBeDeleted.isDeleted()).isTrue();
+      assertThat(userToBeDeleted.isEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("delete must throws EntityNotFoundException when user is already deleted")
+    void delete_MustThrowsEntityNotFoundException_WhenUserIsAlreadyDeleted() {
+      User deletedUser = user();
+      deletedUser.setDeleted(true);
+      when(userRepositoryMock.findById(1_000L)).thenReturn(Optional.of(deletedUser));
+
+      assertThatExceptionOfType(EntityNotFoundException.class)
+          .isThrownBy(() -> userServiceImpl.delete(1_000L))
+          .withMessageContaining("User not found with id " + 1_000L);
     }
 
     @Test
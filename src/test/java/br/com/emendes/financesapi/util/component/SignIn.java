@@ -40,6 +40,16 @@ public class SignIn {
    * @return bearer token que deve ser adicinodo ao header authorization.
    */
   public String signIn(String email, String password) {
+    return signInForTokens(email, password).getToken();
+  }
+
+  /**
+   * Realiza Sign In e devolve o access token e o refresh token.
+   * @param email do usuário
+   * @param password do usuário
+   * @return TokenResponse do Sign In.
+   */
+  public TokenResponse signInForTokens(String email, String password) {
     HttpEntity<SignInRequest> requestBody = new HttpEntity<>(new SignInRequest(email, password));
 
     ResponseEntity<TokenResponse> actualResponse = testRestTemplate.exchange(
@@ -52,7 +62,7 @@ public class SignIn {
       throw new IllegalArgumentException("Invalid email or password");
     }
 
-    return body.getToken();
+    return body;
   }
 
 }
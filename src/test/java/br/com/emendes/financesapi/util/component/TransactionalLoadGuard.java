@@ -0,0 +1,65 @@
+package br.com.emendes.financesapi.util.component;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Faz os testes de integração falharem quando uma entidade (ou coleção lazy) é carregada fora de uma transação.<br>
+ * <br>
+ * Com open-in-view desabilitado, uma entidade carregada fora da transação de um service volta detached e qualquer
+ * associação lazy acessada depois lança LazyInitializationException apenas no caminho que a acessa. O guard antecipa
+ * o erro para o ponto do carregamento, em qualquer endpoint exercitado pelos testes.
+ */
+@Component
+@Profile("integration")
+public class TransactionalLoadGuard implements HibernatePropertiesCustomizer, Integrator {
+
+  @Override
+  public void customize(Map<String, Object> hibernateProperties) {
+    hibernateProperties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(this));
+  }
+
+  @Override
+  public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+    EventListenerRegistry eventListenerRegistry = sessionFactory.getServiceRegistry()
+        .requireService(EventListenerRegistry.class);
+    eventListenerRegistry.appendListeners(EventType.POST_LOAD, this::onPostLoad);
+    eventListenerRegistry.appendListeners(EventType.INIT_COLLECTION, this::onInitializeCollection);
+  }
+
+  @Override
+  public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    // Nada a liberar.
+  }
+
+  private void onPostLoad(PostLoadEvent event) {
+    requireTransaction("Entity " + event.getPersister().getEntityName() + "#" + event.getId());
+  }
+
+  private void onInitializeCollection(InitializeCollectionEvent event) {
+    requireTransaction("Collection " + event.getCollection().getRole());
+  }
+
+  private static void requireTransaction(String loaded) {
+    if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+      throw new IllegalStateException(loaded + " loaded outside a transaction");
+    }
+  }
+
+}
@@ -1,6 +1,7 @@
 package br.com.emendes.financesapi.util.constant;
 
-import br.com.emendes.financesapi.model.Category;
+import br.com.emendes.financesapi.model.DefaultCategory;
+import br.com.emendes.financesapi.model.Money;
 import br.com.emendes.financesapi.model.entity.Expense;
 import br.com.emendes.financesapi.model.entity.Income;
 import br.com.emendes.financesapi.model.entity.Role;
@@ -41,8 +42,8 @@ public final class ConstantForTesting {
   public static final Expense EXPENSE = Expense.builder()
       .id(100_000L)
       .description("Aluguel xpto")
-      .category(Category.MORADIA)
-      .value(new BigDecimal("1500.00"))
+      .categoryId(DefaultCategory.MORADIA.getId())
+      .value(Money.of(new BigDecimal("1500.00")))
       .date(LocalDate.parse("2023-02-05"))
       .user(USER)
       .build();
@@ -51,7 +52,7 @@ public final class ConstantForTesting {
   public static final Income INCOME = Income.builder()
       .id(100_000L)
       .description("Salário")
-      .value(new BigDecimal("2500.00"))
+      .value(Money.of(new BigDecimal("2500.00")))
       .date(LocalDate.parse("2023-02-08"))
       .user(USER)
       .build();
@@ -35,4 +35,28 @@ public class SqlPath {
   public static final String INSERT_MULTIPLE_EXPENSES_FOR_ONE_USER = "/sql/expense/insert-multiple-expenses-for-one-user.sql";
   public static final String INSERT_EXPENSE_SQL_PATH = "/sql/expense/insert-expense.sql";
 
+  /**
+   * Path para um arquivo SQL que insere um usuário com despesas e receitas em BRL e USD e as cotações de
+   * 2023-02-05 a 2023-02-07.
+   */
+  public static final String INSERT_TRANSACTIONS_IN_MULTIPLE_CURRENCIES = "/sql/fx/insert-transactions-in-multiple-currencies.sql";
+
+  /**
+   * Path para um arquivo SQL que insere um usuário, um orçamento de 1400.00 para ALIMENTACAO em fevereiro/2023 e
+   * despesas nessa categoria e mês em BRL, USD e EUR em dias com cotações diferentes (fx/fx-rates.csv).
+   */
+  public static final String INSERT_MIXED_CURRENCY_MONTH = "/sql/fx/insert-mixed-currency-month.sql";
+
+  /**
+   * Path para um arquivo SQL que insere um usuário com despesas em BRL e USD em várias categorias e meses, os totais
+   * correspondentes em tb_expense_category_rollup e as cotações de 2023-02-05 a 2023-02-07.
+   */
+  public static final String INSERT_EXPENSES_BY_CATEGORY = "/sql/analytics/insert-expenses-by-category.sql";
+
+  /**
+   * Path para um arquivo SQL que insere um usuário e o último change_seq de cada mês, de janeiro a abril/2023, em
+   * tb_transaction_month_change.
+   */
+  public static final String INSERT_TRANSACTION_MONTH_CHANGES = "/sql/analytics/insert-transaction-month-changes.sql";
+
 }
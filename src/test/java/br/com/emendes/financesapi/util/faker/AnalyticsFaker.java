@@ -0,0 +1,48 @@
+package br.com.emendes.financesapi.util.faker;
+
+import br.com.emendes.financesapi.repository.projection.BalancePoint;
+import br.com.emendes.financesapi.repository.projection.CategoryMonthTotal;
+import br.com.emendes.financesapi.repository.projection.MonthlyNet;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Classe com objetos relacionados as análises para serem usados em testes automatizados.
+ */
+public class AnalyticsFaker {
+
+  /**
+   * Retorna um {@link MonthlyNet} com o saldo líquido net no mês que começa em month.
+   */
+  public static MonthlyNet monthlyNet(String month, String net) {
+    return new MonthlyNet() {
+      public LocalDate getMonth() { return LocalDate.parse(month); }
+      public BigDecimal getNet() { return new BigDecimal(net); }
+    };
+  }
+
+  /**
+   * Retorna um {@link BalancePoint} do período que começa em period.
+   */
+  public static BalancePoint balancePoint(String period, String income, String expense, String balance) {
+    return new BalancePoint() {
+      public LocalDate getPeriod() { return LocalDate.parse(period); }
+      public BigDecimal getIncome() { return new BigDecimal(income); }
+      public BigDecimal getExpense() { return new BigDecimal(expense); }
+      public BigDecimal getBalance() { return new BigDecimal(balance); }
+    };
+  }
+
+  /**
+   * Retorna um {@link CategoryMonthTotal} com o total gasto na categoria no mês que começa em month.
+   */
+  public static CategoryMonthTotal categoryMonthTotal(String category, String month, String total) {
+    return new CategoryMonthTotal() {
+      public String getCategory() { return category; }
+      public LocalDate getMonth() { return LocalDate.parse(month); }
+      public BigDecimal getTotal() { return new BigDecimal(total); }
+    };
+  }
+
+}
@@ -0,0 +1,63 @@
+package br.com.emendes.financesapi.util.faker;
+
+import br.com.emendes.financesapi.dto.response.BudgetResponse;
+import br.com.emendes.financesapi.model.DefaultCategory;
+import br.com.emendes.financesapi.model.entity.Budget;
+import br.com.emendes.financesapi.repository.projection.BudgetStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static br.com.emendes.financesapi.util.faker.UserFaker.user;
+
+/**
+ * Classe com objetos relacionados a Budget para serem usados em testes automatizados.
+ */
+public class BudgetFaker {
+
+  /**
+   * Retorna um {@link Budget} de ALIMENTACAO em fevereiro de 2023 com limite de 800.00.
+   */
+  public static Budget budget() {
+    return Budget.builder()
+        .id(300_000L)
+        .categoryId(DefaultCategory.ALIMENTACAO.getId())
+        .month(LocalDate.parse("2023-02-01"))
+        .limitValue(new BigDecimal("800.00"))
+        .user(user())
+        .build();
+  }
+
+  /**
+   * Retorna um {@code Optional<Budget>} não vazio.
+   */
+  public static Optional<Budget> budgetOptional() {
+    return Optional.of(budget());
+  }
+
+  /**
+   * Retorna um {@link BudgetStatus} com o dado limite e total gasto.
+   */
+  public static BudgetStatus budgetStatus(String category, String limit, String spent) {
+    return new BudgetStatus() {
+      public String getCategory() { return category; }
+      public BigDecimal getLimitValue() { return new BigDecimal(limit); }
+      public BigDecimal getSpent() { return new BigDecimal(spent); }
+    };
+  }
+
+  /**
+   * Retorna um {@link BudgetResponse} de ALIMENTACAO dentro do limite.
+   */
+  public static BudgetResponse budgetResponse() {
+    return BudgetResponse.builder()
+        .category("ALIMENTACAO")
+        .limit(new BigDecimal("800.00"))
+        .spent(new BigDecimal("271.94"))
+        .remaining(new BigDecimal("528.06"))
+        .exceeded(false)
+        .build();
+  }
+
+}
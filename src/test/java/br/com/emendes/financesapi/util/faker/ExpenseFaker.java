@@ -2,7 +2,8 @@ package br.com.emendes.financesapi.util.faker;
 
 import br.com.emendes.financesapi.dto.response.ExpenseResponse;
 import br.com.emendes.financesapi.dto.response.ValueByCategoryResponse;
-import br.com.emendes.financesapi.model.Category;
+import br.com.emendes.financesapi.model.DefaultCategory;
+import br.com.emendes.financesapi.model.Money;
 import br.com.emendes.financesapi.model.entity.Expense;
 
 import java.math.BigDecimal;
@@ -32,8 +33,9 @@ public class ExpenseFaker {
     return Expense.builder()
         .id(EXPENSE_ID)
         .description(EXPENSE_DESCRIPTION)
-        .category(Category.MORADIA)
-        .value(EXPENSE_VALUE)
+        .categoryId(DefaultCategory.MORADIA.getId())
+        .value(Money.of(EXPENSE_VALUE))
+        .currency("BRL")
         .date(EXPENSE_DATE)
         .user(user())
         .build();
@@ -60,8 +62,9 @@ public class ExpenseFaker {
     return ExpenseResponse.builder()
         .id(EXPENSE_ID)
         .description(EXPENSE_DESCRIPTION)
-        .category(Category.MORADIA)
-        .value(EXPENSE_VALUE)
+        .category("MORADIA")
+        .value(Money.of(EXPENSE_VALUE))
+        .currency("BRL")
         .date(EXPENSE_DATE)
         .build();
   }
@@ -73,10 +76,10 @@ public class ExpenseFaker {
    * @param value    valor total das despesas com essa categoria.
    * @return Objeto {@link ValueByCategoryResponse}.
    */
-  public static ValueByCategoryResponse valueByCategory(Category category, String value) {
+  public static ValueByCategoryResponse valueByCategory(String category, String value) {
     return ValueByCategoryResponse.builder()
         .category(category)
-        .value(new BigDecimal(value))
+        .value(Money.of(new BigDecimal(value)))
         .build();
   }
 
@@ -87,7 +90,8 @@ public class ExpenseFaker {
     return ExpenseResponse.builder()
         .id(EXPENSE_ID)
         .description(UPDATED_EXPENSE_DESCRIPTION)
-        .value(UPDATED_EXPENSE_VALUE)
+        .value(Money.of(UPDATED_EXPENSE_VALUE))
+        .currency("BRL")
         .date(UPDATED_EXPENSE_DATE)
         .build();
   }
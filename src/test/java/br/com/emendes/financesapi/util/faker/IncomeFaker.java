@@ -1,6 +1,7 @@
 package br.com.emendes.financesapi.util.faker;
 
 import br.com.emendes.financesapi.dto.response.IncomeResponse;
+import br.com.emendes.financesapi.model.Money;
 import br.com.emendes.financesapi.model.entity.Income;
 
 import java.math.BigDecimal;
@@ -30,7 +31,8 @@ public class IncomeFaker {
     return Income.builder()
         .id(INCOME_ID)
         .description(INCOME_DESCRIPTION)
-        .value(INCOME_VALUE)
+        .value(Money.of(INCOME_VALUE))
+        .currency("BRL")
         .date(INCOME_DATE)
         .user(user())
         .build();
@@ -42,7 +44,8 @@ public class IncomeFaker {
   public static Income incomeToBeSaved() {
     return Income.builder()
         .description(INCOME_DESCRIPTION)
-        .value(INCOME_VALUE)
+        .value(Money.of(INCOME_VALUE))
+        .currency("BRL")
         .date(INCOME_DATE)
         .build();
   }
@@ -68,7 +71,8 @@ public class IncomeFaker {
     return IncomeResponse.builder()
         .id(INCOME_ID)
         .description(INCOME_DESCRIPTION)
-        .value(INCOME_VALUE)
+        .value(Money.of(INCOME_VALUE))
+        .currency("BRL")
         .date(INCOME_DATE)
         .build();
   }
@@ -80,7 +84,8 @@ public class IncomeFaker {
     return IncomeResponse.builder()
         .id(INCOME_ID)
         .description(UPDATED_INCOME_DESCRIPTION)
-        .value(UPDATED_INCOME_VALUE)
+        .value(Money.of(UPDATED_INCOME_VALUE))
+        .currency("BRL")
         .date(UPDATED_INCOME_DATE)
         .build();
   }
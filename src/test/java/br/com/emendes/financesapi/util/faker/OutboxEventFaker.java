@@ -0,0 +1,29 @@
+package br.com.emendes.financesapi.util.faker;
+
+import br.com.emendes.financesapi.model.OutboxAggregateType;
+import br.com.emendes.financesapi.model.OutboxEventType;
+import br.com.emendes.financesapi.model.entity.OutboxEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Classe com objetos relacionados a OutboxEvent para serem usados em testes automatizados.
+ */
+public class OutboxEventFaker {
+
+  /**
+   * Retorna um {@link OutboxEvent} não publicado com o dado id.
+   */
+  public static OutboxEvent outboxEvent(Long id) {
+    return OutboxEvent.builder()
+        .id(id)
+        .aggregateType(OutboxAggregateType.EXPENSE)
+        .aggregateId(100_000L)
+        .userId(1_000L)
+        .eventType(OutboxEventType.CREATED)
+        .payload("{\"id\":100000}")
+        .createdAt(LocalDateTime.parse("2023-02-05T10:00:00"))
+        .build();
+  }
+
+}
@@ -0,0 +1,82 @@
+package br.com.emendes.financesapi.util.faker;
+
+import br.com.emendes.financesapi.dto.request.RecurringRuleRequest;
+import br.com.emendes.financesapi.dto.response.RecurringRuleResponse;
+import br.com.emendes.financesapi.model.DefaultCategory;
+import br.com.emendes.financesapi.model.Frequency;
+import br.com.emendes.financesapi.model.TransactionType;
+import br.com.emendes.financesapi.model.entity.RecurringRule;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static br.com.emendes.financesapi.util.faker.UserFaker.user;
+
+/**
+ * Classe com objetos relacionados a RecurringRule para serem usados em testes automatizados.
+ */
+public class RecurringRuleFaker {
+
+  private static final Long RECURRING_RULE_ID = 200_000L;
+  private static final String RECURRING_RULE_DESCRIPTION = "Aluguel";
+  private static final BigDecimal RECURRING_RULE_VALUE = new BigDecimal("1500.00");
+  private static final LocalDate RECURRING_RULE_START_DATE = LocalDate.parse("2024-01-31");
+
+  /**
+   * Retorna um {@link RecurringRuleRequest} mensal de despesa com todos os campos válidos.
+   */
+  public static RecurringRuleRequest recurringRuleRequest() {
+    return RecurringRuleRequest.builder()
+        .type("EXPENSE")
+        .description(RECURRING_RULE_DESCRIPTION)
+        .value(RECURRING_RULE_VALUE)
+        .category("MORADIA")
+        .frequency("MONTHLY")
+        .startDate(LocalDate.parse("2024-01-31"))
+        .build();
+  }
+
+  /**
+   * Retorna uma {@link RecurringRule} mensal de despesa com todos os campos.
+   */
+  public static RecurringRule recurringRule() {
+    return RecurringRule.builder()
+        .id(RECURRING_RULE_ID)
+        .type(TransactionType.EXPENSE)
+        .description(RECURRING_RULE_DESCRIPTION)
+        .value(RECURRING_RULE_VALUE)
+        .currency("BRL")
+        .categoryId(DefaultCategory.MORADIA.getId())
+        .frequency(Frequency.MONTHLY)
+        .startDate(RECURRING_RULE_START_DATE)
+        .nextOccurrence(RECURRING_RULE_START_DATE)
+        .user(user())
+        .build();
+  }
+
+  /**
+   * Retorna um {@code Optional<RecurringRule>} não vazio.
+   */
+  public static Optional<RecurringRule> recurringRuleOptional() {
+    return Optional.of(recurringRule());
+  }
+
+  /**
+   * Retorna um {@link RecurringRuleResponse} com todos os campos.
+   */
+  public static RecurringRuleResponse recurringRuleResponse() {
+    return RecurringRuleResponse.builder()
+        .id(RECURRING_RULE_ID)
+        .type(TransactionType.EXPENSE)
+        .description(RECURRING_RULE_DESCRIPTION)
+        .value(RECURRING_RULE_VALUE)
+        .currency("BRL")
+        .category("MORADIA")
+        .frequency(Frequency.MONTHLY)
+        .startDate(RECURRING_RULE_START_DATE)
+        .nextOccurrence(RECURRING_RULE_START_DATE)
+        .build();
+  }
+
+}
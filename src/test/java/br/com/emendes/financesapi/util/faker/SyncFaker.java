@@ -0,0 +1,41 @@
+package br.com.emendes.financesapi.util.faker;
+
+import br.com.emendes.financesapi.repository.projection.SyncChange;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Classe com objetos relacionados a sincronização para serem usados em testes automatizados.
+ */
+public class SyncFaker {
+
+  /**
+   * Retorna um {@link SyncChange} de uma despesa não deletada com o dado changeSeq.
+   */
+  public static SyncChange expenseChange(long id, long changeSeq) {
+    return syncChange("EXPENSE", id, "MORADIA", false, changeSeq);
+  }
+
+  /**
+   * Retorna um {@link SyncChange} de uma receita deletada (tombstone) com o dado changeSeq.
+   */
+  public static SyncChange deletedIncomeChange(long id, long changeSeq) {
+    return syncChange("INCOME", id, null, true, changeSeq);
+  }
+
+  private static SyncChange syncChange(String type, long id, String category, boolean deleted, long changeSeq) {
+    return new SyncChange() {
+      public String getType() { return type; }
+      public Long getId() { return id; }
+      public String getDescription() { return "Lorem ipsum"; }
+      public BigDecimal getValue() { return new BigDecimal("150.00"); }
+      public String getCurrency() { return "BRL"; }
+      public LocalDate getDate() { return LocalDate.parse("2023-02-05"); }
+      public String getCategory() { return category; }
+      public boolean getDeleted() { return deleted; }
+      public long getChangeSeq() { return changeSeq; }
+    };
+  }
+
+}
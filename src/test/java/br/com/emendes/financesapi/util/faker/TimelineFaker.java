@@ -0,0 +1,41 @@
+package br.com.emendes.financesapi.util.faker;
+
+import br.com.emendes.financesapi.repository.projection.TimelineEntry;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Classe com objetos relacionados a linha do tempo para serem usados em testes automatizados.
+ */
+public class TimelineFaker {
+
+  /**
+   * Retorna um {@link TimelineEntry} de uma despesa com os dados date, id e balance.
+   */
+  public static TimelineEntry expenseEntry(String date, long id, String balance) {
+    return timelineEntry("EXPENSE", id, "Aluguel", "1500.00", date, "MORADIA", balance);
+  }
+
+  /**
+   * Retorna um {@link TimelineEntry} de uma receita com os dados date, id e balance.
+   */
+  public static TimelineEntry incomeEntry(String date, long id, String balance) {
+    return timelineEntry("INCOME", id, "Salário", "2500.00", date, null, balance);
+  }
+
+  private static TimelineEntry timelineEntry(
+      String type, long id, String description, String value, String date, String category, String balance) {
+    return new TimelineEntry() {
+      public String getType() { return type; }
+      public Long getId() { return id; }
+      public String getDescription() { return description; }
+      public BigDecimal getValue() { return new BigDecimal(value); }
+      public String getCurrency() { return "BRL"; }
+      public LocalDate getDate() { return LocalDate.parse(date); }
+      public String getCategory() { return category; }
+      public BigDecimal getBalance() { return new BigDecimal(balance); }
+    };
+  }
+
+}
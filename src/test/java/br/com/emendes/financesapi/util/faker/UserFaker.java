@@ -27,6 +27,7 @@ public class UserFaker {
         .name(USER_NAME)
         .email(USER_EMAIL)
         .password(USER_PASSWORD)
+        .baseCurrency("BRL")
         .roles(List.of(userRole()))
         .build();
   }
@@ -39,6 +40,7 @@ public class UserFaker {
         .name(USER_NAME)
         .email(USER_EMAIL)
         .password(USER_PASSWORD)
+        .baseCurrency("BRL")
         .build();
   }
 
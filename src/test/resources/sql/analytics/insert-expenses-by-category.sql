@@ -0,0 +1,40 @@
+-- Add usuário com moeda base BRL.
+INSERT INTO tb_user (name, email, password) VALUES
+    ('John Doe', 'john.doe@email.com', '{bcrypt}$2a$10$g8ZNLct0Rcoyq2mExowkheD7GdQzwj/UNl7JvQnk.UiXnIFwt4be6');
+
+-- Add role do usuário.
+INSERT INTO tb_user_roles (user_id, roles_id) VALUES
+    (1, 1);
+
+-- Add as categorias padrão dos usuários.
+INSERT INTO tb_category (user_id, id, name)
+SELECT u.id, c.id, c.name
+FROM tb_user u
+CROSS JOIN (VALUES (1, 'ALIMENTACAO'), (2, 'SAUDE'), (3, 'MORADIA'), (4, 'TRANSPORTE'),
+                   (5, 'EDUCACAO'), (6, 'LAZER'), (7, 'IMPREVISTOS'), (8, 'OUTRAS')) AS c(id, name);
+
+-- Add cotações diárias (em BRL) de 2023-02-05 a 2023-02-07.
+INSERT INTO tb_fx_rate (currency, rate_date, rate) VALUES
+    ('BRL', '2023-02-05', 1),
+    ('BRL', '2023-02-06', 1),
+    ('BRL', '2023-02-07', 1),
+    ('USD', '2023-02-05', 5.0),
+    ('USD', '2023-02-06', 5.2),
+    ('USD', '2023-02-07', 5.1);
+
+-- Add as despesas (expenses) do usuário, as em USD de fevereiro têm cotações diferentes e a última está deletada.
+INSERT INTO tb_expense (description, value, currency, date, category_id, user_id, deleted) VALUES
+    ('Aluguel', 1500.00, 'BRL', '2023-01-10', 3, 1, false),
+    ('Aluguel', 1500.00, 'BRL', '2023-02-05', 3, 1, false),
+    ('Supermercado', 300.00, 'BRL', '2023-02-05', 1, 1, false),
+    ('Restaurante', 50.00, 'USD', '2023-02-05', 1, 1, false),
+    ('Restaurante', 50.00, 'USD', '2023-02-07', 1, 1, false),
+    ('Mercado', 200.00, 'BRL', '2023-03-01', 1, 1, false),
+    ('Cinema', 100.00, 'BRL', '2023-02-06', 1, 1, true);
+
+-- Add os totais mensais por categoria do usuário na moeda base, como mantidos pelo trigger de tb_expense.
+INSERT INTO tb_expense_category_rollup (user_id, month, category_id, total) VALUES
+    (1, '2023-01-01', 3, 1500.00),
+    (1, '2023-02-01', 3, 1500.00),
+    (1, '2023-02-01', 1, 805.00),
+    (1, '2023-03-01', 1, 200.00);
@@ -0,0 +1,10 @@
+-- Add usuário com moeda base BRL.
+INSERT INTO tb_user (name, email, password) VALUES
+    ('John Doe', 'john.doe@email.com', '{bcrypt}$2a$10$g8ZNLct0Rcoyq2mExowkheD7GdQzwj/UNl7JvQnk.UiXnIFwt4be6');
+
+-- Add o último change_seq de cada mês do usuário, como mantido pelos triggers de tb_expense e tb_income.
+INSERT INTO tb_transaction_month_change (user_id, month, change_seq) VALUES
+    (1, '2023-01-01', 3),
+    (1, '2023-02-01', 12),
+    (1, '2023-03-01', 8),
+    (1, '2023-04-01', 10);
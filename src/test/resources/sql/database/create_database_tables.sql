@@ -1,35 +1,163 @@
+-- Create sequence for sync changes
+CREATE SEQUENCE seq_change;
+
 -- Create table User
 CREATE TABLE tb_user (
     id bigserial NOT NULL,
     name varchar(100) NOT NULL,
-    email varchar(150) NOT NULL CONSTRAINT tb_user__f_email_unique UNIQUE,
+    email varchar(150) NOT NULL,
     password varchar(255) NOT NULL,
+    deleted boolean NOT NULL DEFAULT false,
+    base_currency varchar(3) NOT NULL DEFAULT 'BRL',
     CONSTRAINT tb_user_pk PRIMARY KEY (id)
 );
 
+CREATE UNIQUE INDEX ux_tb_user_email_not_deleted ON tb_user(email) WHERE deleted = false;
+
+-- Create table Category
+CREATE TABLE tb_category (
+    user_id bigint NOT NULL,
+    id smallint NOT NULL,
+    name varchar(25) NOT NULL,
+    CONSTRAINT tb_category_pk PRIMARY KEY (user_id, id),
+    CONSTRAINT tb_category_user_id_name_unique UNIQUE (user_id, name),
+    CONSTRAINT f_user_id_fk_tb_category FOREIGN KEY (user_id) REFERENCES tb_user(id) ON DELETE CASCADE
+);
+
+-- Create table Recurring Rule
+CREATE TABLE tb_recurring_rule (
+    id bigserial NOT NULL,
+    user_id bigint NOT NULL,
+    type varchar(20) NOT NULL,
+    description varchar(255) NOT NULL,
+    value numeric(14, 2) NOT NULL,
+    currency varchar(3) NOT NULL,
+    category_id smallint,
+    frequency varchar(20) NOT NULL,
+    start_date date NOT NULL,
+    end_date date,
+    next_occurrence date NOT NULL,
+    occurrences integer NOT NULL DEFAULT 0,
+    CONSTRAINT tb_recurring_rule_pk PRIMARY KEY (id),
+    CONSTRAINT f_user_id_fk_tb_recurring_rule FOREIGN KEY (user_id) REFERENCES tb_user(id) ON DELETE CASCADE,
+    CONSTRAINT f_category_id_fk_tb_recurring_rule FOREIGN KEY (user_id, category_id) REFERENCES tb_category(user_id, id)
+);
+
 -- Create table Expense
 CREATE TABLE tb_expense (
     id bigserial NOT NULL,
     description  varchar(255) NOT NULL,
-    value numeric(8, 2) NOT NULL,
+    value numeric(14, 2) NOT NULL,
     date date NOT NULL,
-    category varchar(25) NOT NULL,
+    currency varchar(3) NOT NULL DEFAULT 'BRL',
+    category_id smallint NOT NULL,
     user_id bigint NOT NULL,
+    deleted boolean NOT NULL DEFAULT false,
+    updated_at timestamp NOT NULL DEFAULT now(),
+    change_seq bigint NOT NULL DEFAULT nextval('seq_change'),
+    recurring_rule_id bigint,
     CONSTRAINT tb_expense_pk PRIMARY KEY (id),
-    CONSTRAINT f_user_id_fk_tb_expense FOREIGN KEY (user_id) REFERENCES tb_user(id)
+    CONSTRAINT f_recurring_rule_id_fk_tb_expense FOREIGN KEY (recurring_rule_id) REFERENCES tb_recurring_rule(id) ON DELETE SET NULL,
+    CONSTRAINT f_user_id_fk_tb_expense FOREIGN KEY (user_id) REFERENCES tb_user(id),
+    CONSTRAINT f_category_id_fk_tb_expense FOREIGN KEY (user_id, category_id) REFERENCES tb_category(user_id, id)
 );
 
 -- Create table Income
 CREATE TABLE tb_income (
     id bigserial NOT NULL,
     description  varchar(255) NOT NULL,
-    value numeric(8, 2) NOT NULL,
+    value numeric(14, 2) NOT NULL,
     date date NOT NULL,
+    currency varchar(3) NOT NULL DEFAULT 'BRL',
     user_id bigint NOT NULL,
+    deleted boolean NOT NULL DEFAULT false,
+    updated_at timestamp NOT NULL DEFAULT now(),
+    change_seq bigint NOT NULL DEFAULT nextval('seq_change'),
+    recurring_rule_id bigint,
     CONSTRAINT tb_income_pk PRIMARY KEY (id),
+    CONSTRAINT f_recurring_rule_id_fk_tb_income FOREIGN KEY (recurring_rule_id) REFERENCES tb_recurring_rule(id) ON DELETE SET NULL,
     CONSTRAINT f_user_id_fk_tb_income FOREIGN KEY (user_id) REFERENCES tb_user(id)
 );
 
+-- Create indexes on user_id
+CREATE INDEX ix_tb_expense_user_id ON tb_expense(user_id);
+CREATE INDEX ix_tb_income_user_id ON tb_income(user_id);
+CREATE INDEX ix_tb_expense_user_id_change_seq ON tb_expense(user_id, change_seq);
+CREATE INDEX ix_tb_income_user_id_change_seq ON tb_income(user_id, change_seq);
+CREATE INDEX ix_tb_expense_user_id_date_id ON tb_expense(user_id, date, id) WHERE deleted = false;
+CREATE INDEX ix_tb_income_user_id_date_id ON tb_income(user_id, date, id) WHERE deleted = false;
+CREATE UNIQUE INDEX ux_tb_expense_recurring_rule_id_date ON tb_expense(recurring_rule_id, date)
+    WHERE recurring_rule_id IS NOT NULL;
+CREATE UNIQUE INDEX ux_tb_income_recurring_rule_id_date ON tb_income(recurring_rule_id, date)
+    WHERE recurring_rule_id IS NOT NULL;
+
+-- Create table Budget
+CREATE TABLE tb_budget (
+    id bigserial NOT NULL,
+    user_id bigint NOT NULL,
+    category_id smallint NOT NULL,
+    month date NOT NULL,
+    limit_value numeric(14, 2) NOT NULL,
+    CONSTRAINT tb_budget_pk PRIMARY KEY (id),
+    CONSTRAINT tb_budget_user_id_category_month_unique UNIQUE (user_id, month, category_id),
+    CONSTRAINT f_user_id_fk_tb_budget FOREIGN KEY (user_id) REFERENCES tb_user(id) ON DELETE CASCADE,
+    CONSTRAINT f_category_id_fk_tb_budget FOREIGN KEY (user_id, category_id) REFERENCES tb_category(user_id, id)
+);
+
+-- Create table Expense Category Rollup
+CREATE TABLE tb_expense_category_rollup (
+    user_id bigint NOT NULL,
+    month date NOT NULL,
+    category_id smallint NOT NULL,
+    total numeric(18, 2) NOT NULL,
+    CONSTRAINT tb_expense_category_rollup_pk PRIMARY KEY (user_id, month, category_id),
+    CONSTRAINT f_user_id_fk_tb_expense_category_rollup FOREIGN KEY (user_id) REFERENCES tb_user(id) ON DELETE CASCADE
+);
+
+-- Create table Transaction Month Change
+CREATE TABLE tb_transaction_month_change (
+    user_id bigint NOT NULL,
+    month date NOT NULL,
+    change_seq bigint NOT NULL,
+    CONSTRAINT tb_transaction_month_change_pk PRIMARY KEY (user_id, month),
+    CONSTRAINT f_user_id_fk_tb_transaction_month_change FOREIGN KEY (user_id) REFERENCES tb_user(id) ON DELETE CASCADE
+);
+
+-- Create table FX Rate
+CREATE TABLE tb_fx_rate (
+    currency varchar(3) NOT NULL,
+    rate_date date NOT NULL,
+    rate numeric(20, 10) NOT NULL,
+    CONSTRAINT tb_fx_rate_pk PRIMARY KEY (currency, rate_date),
+    CONSTRAINT tb_fx_rate_rate_positive CHECK (rate > 0)
+);
+
+-- Create function Missing FX Rate
+CREATE FUNCTION fn_missing_fx_rate(p_currency varchar, p_date date) RETURNS numeric AS $$
+BEGIN
+    RAISE EXCEPTION 'FX rate of % on % is missing', p_currency, p_date USING ERRCODE = 'FX001';
+END;
+$$ LANGUAGE plpgsql;
+
+-- Create table Outbox Event
+CREATE TABLE tb_outbox_event (
+    id bigserial NOT NULL,
+    aggregate_type varchar(20) NOT NULL,
+    aggregate_id bigint NOT NULL,
+    user_id bigint NOT NULL,
+    event_type varchar(20) NOT NULL,
+    payload text NOT NULL,
+    created_at timestamp NOT NULL DEFAULT now(),
+    published_at timestamp,
+    CONSTRAINT tb_outbox_event_pk PRIMARY KEY (id)
+);
+
+-- Create table Rate Limit Bucket
+CREATE UNLOGGED TABLE tb_rate_limit_bucket (
+    bucket_key varchar(255) PRIMARY KEY,
+    arrival bigint NOT NULL
+);
+
 -- Create table Role
 CREATE TABLE tb_role (
     id integer NOT NULL,
@@ -1,5 +1,15 @@
 DROP TABLE IF EXISTS tb_user_roles;
 DROP TABLE IF EXISTS  tb_role;
+DROP TABLE IF EXISTS tb_outbox_event;
+DROP TABLE IF EXISTS tb_rate_limit_bucket;
+DROP TABLE IF EXISTS tb_fx_rate;
+DROP TABLE IF EXISTS tb_expense_category_rollup;
+DROP TABLE IF EXISTS tb_transaction_month_change;
+DROP TABLE IF EXISTS tb_budget;
 DROP TABLE IF EXISTS tb_income;
 DROP TABLE IF EXISTS tb_expense;
-DROP TABLE IF EXISTS tb_user;
\ No newline at end of file
+DROP TABLE IF EXISTS tb_recurring_rule;
+DROP TABLE IF EXISTS tb_category;
+DROP TABLE IF EXISTS tb_user;
+DROP FUNCTION IF EXISTS fn_missing_fx_rate(varchar, date);
+DROP SEQUENCE IF EXISTS seq_change;
\ No newline at end of file
@@ -5,6 +5,13 @@ INSERT INTO tb_user (name, email, password) VALUES
 INSERT INTO tb_user_roles (user_id, roles_id) VALUES
     (1, 1);
 
-INSERT INTO tb_expense (description, value, date, category, user_id) VALUES
-    ('Aluguel', 1500.00, '2023-02-05', 'MORADIA', 1),
-    ('Supermercado', 225.00, '2023-02-13', 'ALIMENTACAO', 1);
\ No newline at end of file
+-- Add as categorias padrão dos usuários.
+INSERT INTO tb_category (user_id, id, name)
+SELECT u.id, c.id, c.name
+FROM tb_user u
+CROSS JOIN (VALUES (1, 'ALIMENTACAO'), (2, 'SAUDE'), (3, 'MORADIA'), (4, 'TRANSPORTE'),
+                   (5, 'EDUCACAO'), (6, 'LAZER'), (7, 'IMPREVISTOS'), (8, 'OUTRAS')) AS c(id, name);
+
+INSERT INTO tb_expense (description, value, date, category_id, user_id) VALUES
+    ('Aluguel', 1500.00, '2023-02-05', 3, 1),
+    ('Supermercado', 225.00, '2023-02-13', 1, 1);
\ No newline at end of file
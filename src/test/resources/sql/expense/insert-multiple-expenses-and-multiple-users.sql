@@ -8,9 +8,16 @@ INSERT INTO tb_user_roles (user_id, roles_id) VALUES
     (1, 1),
     (2, 1);
 
+-- Add as categorias padrão dos usuários.
+INSERT INTO tb_category (user_id, id, name)
+SELECT u.id, c.id, c.name
+FROM tb_user u
+CROSS JOIN (VALUES (1, 'ALIMENTACAO'), (2, 'SAUDE'), (3, 'MORADIA'), (4, 'TRANSPORTE'),
+                   (5, 'EDUCACAO'), (6, 'LAZER'), (7, 'IMPREVISTOS'), (8, 'OUTRAS')) AS c(id, name);
+
 -- Add as despesas (expenses) dos usuários.
-INSERT INTO tb_expense (description, value, date, category, user_id) VALUES
-    ('Aluguel', 1500.00, '2023-02-05', 'MORADIA', 1),
-    ('mercado', 325.00, '2023-02-13', 'ALIMENTACAO', 1),
-    ('Aluguel', 1200.00, '2023-02-05', 'MORADIA', 2),
-    ('supermercado', 175.00, '2023-02-13', 'ALIMENTACAO', 2);
+INSERT INTO tb_expense (description, value, date, category_id, user_id) VALUES
+    ('Aluguel', 1500.00, '2023-02-05', 3, 1),
+    ('mercado', 325.00, '2023-02-13', 1, 1),
+    ('Aluguel', 1200.00, '2023-02-05', 3, 2),
+    ('supermercado', 175.00, '2023-02-13', 1, 2);
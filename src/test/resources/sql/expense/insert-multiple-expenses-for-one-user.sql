@@ -6,10 +6,17 @@ INSERT INTO tb_user (name, email, password) VALUES
 INSERT INTO tb_user_roles (user_id, roles_id) VALUES
     (1, 1);
 
+-- Add as categorias padrão dos usuários.
+INSERT INTO tb_category (user_id, id, name)
+SELECT u.id, c.id, c.name
+FROM tb_user u
+CROSS JOIN (VALUES (1, 'ALIMENTACAO'), (2, 'SAUDE'), (3, 'MORADIA'), (4, 'TRANSPORTE'),
+                   (5, 'EDUCACAO'), (6, 'LAZER'), (7, 'IMPREVISTOS'), (8, 'OUTRAS')) AS c(id, name);
+
 -- Add as despesas (expenses) do usuário.
-INSERT INTO tb_expense (description, value, date, category, user_id) VALUES
-    ('Aluguel', 1500.00, '2023-02-05', 'MORADIA', 1),
-    ('Supermercado', 325.00, '2023-02-06', 'ALIMENTACAO', 1),
-    ('Mercado', 200.00, '2023-02-13', 'ALIMENTACAO', 1),
-    ('MERCEARIA', 75.00, '2023-03-04', 'ALIMENTACAO', 1),
-    ('Aluguel', 1500.00, '2023-03-05', 'MORADIA', 1);
\ No newline at end of file
+INSERT INTO tb_expense (description, value, date, category_id, user_id) VALUES
+    ('Aluguel', 1500.00, '2023-02-05', 3, 1),
+    ('Supermercado', 325.00, '2023-02-06', 1, 1),
+    ('Mercado', 200.00, '2023-02-13', 1, 1),
+    ('MERCEARIA', 75.00, '2023-03-04', 1, 1),
+    ('Aluguel', 1500.00, '2023-03-05', 3, 1);
\ No newline at end of file
@@ -0,0 +1,27 @@
+-- Add usuário com moeda base BRL.
+INSERT INTO tb_user (name, email, password) VALUES
+    ('John Doe', 'john.doe@email.com', '{bcrypt}$2a$10$g8ZNLct0Rcoyq2mExowkheD7GdQzwj/UNl7JvQnk.UiXnIFwt4be6');
+
+-- Add role do usuário.
+INSERT INTO tb_user_roles (user_id, roles_id) VALUES
+    (1, 1);
+
+-- Add as categorias padrão dos usuários.
+INSERT INTO tb_category (user_id, id, name)
+SELECT u.id, c.id, c.name
+FROM tb_user u
+CROSS JOIN (VALUES (1, 'ALIMENTACAO'), (2, 'SAUDE'), (3, 'MORADIA'), (4, 'TRANSPORTE'),
+                   (5, 'EDUCACAO'), (6, 'LAZER'), (7, 'IMPREVISTOS'), (8, 'OUTRAS')) AS c(id, name);
+
+-- Add orçamento de fevereiro/2023 para ALIMENTACAO.
+INSERT INTO tb_budget (user_id, category_id, month, limit_value) VALUES
+    (1, 1, '2023-02-01', 1400.00);
+
+-- Add despesas de fevereiro/2023 em ALIMENTACAO em BRL, USD e EUR. Pelas cotações de fx/fx-rates.csv, convertidas
+-- no dia de cada despesa somam 100.00 + 520.00 + 510.00 + 280.00 = 1410.00, com as cotações do último dia do mês
+-- somariam 1395.00.
+INSERT INTO tb_expense (description, value, currency, date, category_id, user_id) VALUES
+    ('Padaria', 100.00, 'BRL', '2023-02-01', 1, 1),
+    ('Supermercado', 100.00, 'USD', '2023-02-01', 1, 1),
+    ('Restaurante', 100.00, 'USD', '2023-02-10', 1, 1),
+    ('Mercado', 50.00, 'EUR', '2023-02-20', 1, 1);
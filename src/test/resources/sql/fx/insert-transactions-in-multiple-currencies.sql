@@ -0,0 +1,34 @@
+-- Add usuário com moeda base BRL.
+INSERT INTO tb_user (name, email, password) VALUES
+    ('John Doe', 'john.doe@email.com', '{bcrypt}$2a$10$g8ZNLct0Rcoyq2mExowkheD7GdQzwj/UNl7JvQnk.UiXnIFwt4be6');
+
+-- Add role do usuário.
+INSERT INTO tb_user_roles (user_id, roles_id) VALUES
+    (1, 1);
+
+-- Add as categorias padrão dos usuários.
+INSERT INTO tb_category (user_id, id, name)
+SELECT u.id, c.id, c.name
+FROM tb_user u
+CROSS JOIN (VALUES (1, 'ALIMENTACAO'), (2, 'SAUDE'), (3, 'MORADIA'), (4, 'TRANSPORTE'),
+                   (5, 'EDUCACAO'), (6, 'LAZER'), (7, 'IMPREVISTOS'), (8, 'OUTRAS')) AS c(id, name);
+
+-- Add cotações diárias (em BRL) de 2023-02-05 a 2023-02-07.
+INSERT INTO tb_fx_rate (currency, rate_date, rate) VALUES
+    ('BRL', '2023-02-05', 1),
+    ('BRL', '2023-02-06', 1),
+    ('BRL', '2023-02-07', 1),
+    ('USD', '2023-02-05', 5.0),
+    ('USD', '2023-02-06', 5.2),
+    ('USD', '2023-02-07', 5.1);
+
+-- Add as despesas (expenses) do usuário, a última é posterior à última cotação.
+INSERT INTO tb_expense (description, value, currency, date, category_id, user_id) VALUES
+    ('Aluguel', 1500.00, 'BRL', '2023-02-05', 3, 1),
+    ('Supermercado', 100.00, 'USD', '2023-02-06', 1, 1),
+    ('Mercado', 10.00, 'USD', '2023-02-20', 1, 1);
+
+-- Add as receitas (incomes) do usuário.
+INSERT INTO tb_income (description, value, currency, date, user_id) VALUES
+    ('Salário', 2500.00, 'BRL', '2023-02-05', 1),
+    ('Freelance', 200.00, 'USD', '2023-02-06', 1);
@@ -6,6 +6,13 @@ INSERT INTO tb_user (name, email, password) VALUES
 INSERT INTO tb_user_roles (user_id, roles_id) VALUES
     (1, 1);
 
+-- Add as categorias padrão dos usuários.
+INSERT INTO tb_category (user_id, id, name)
+SELECT u.id, c.id, c.name
+FROM tb_user u
+CROSS JOIN (VALUES (1, 'ALIMENTACAO'), (2, 'SAUDE'), (3, 'MORADIA'), (4, 'TRANSPORTE'),
+                   (5, 'EDUCACAO'), (6, 'LAZER'), (7, 'IMPREVISTOS'), (8, 'OUTRAS')) AS c(id, name);
+
 -- Add as receitas (incomes) do usuário.
 INSERT INTO tb_income (description, value, date, user_id) VALUES
     ('Salário', 3500.00, '2023-02-05', 1),
@@ -5,16 +5,23 @@ INSERT INTO tb_user (name, email, password) VALUES
 INSERT INTO tb_user_roles (user_id, roles_id) VALUES
     (1, 1);
 
-INSERT INTO tb_expense (description, value, date, category, user_id) VALUES
-    ('Aluguel', 1500.00, '2023-02-05', 'MORADIA', 1),
-    ('Supermercado', 225.00, '2023-02-13', 'ALIMENTACAO', 1),
-    ('Internet', 100.00, '2023-02-03', 'MORADIA', 1),
-    ('Luz', 200.00, '2023-02-06', 'MORADIA', 1),
-    ('Condomínio', 150.00, '2023-02-04', 'MORADIA', 1),
-    ('Supermercado', 300.00, '2023-02-23', 'ALIMENTACAO', 1),
-    ('Ônibus', 400.00, '2023-02-28', 'TRANSPORTE', 1),
-    ('Farmácia', 80.00, '2023-02-16', 'SAUDE', 1),
-    ('Curso Online', 100.00, '2023-02-23', 'EDUCACAO', 1);
+-- Add as categorias padrão dos usuários.
+INSERT INTO tb_category (user_id, id, name)
+SELECT u.id, c.id, c.name
+FROM tb_user u
+CROSS JOIN (VALUES (1, 'ALIMENTACAO'), (2, 'SAUDE'), (3, 'MORADIA'), (4, 'TRANSPORTE'),
+                   (5, 'EDUCACAO'), (6, 'LAZER'), (7, 'IMPREVISTOS'), (8, 'OUTRAS')) AS c(id, name);
+
+INSERT INTO tb_expense (description, value, date, category_id, user_id) VALUES
+    ('Aluguel', 1500.00, '2023-02-05', 3, 1),
+    ('Supermercado', 225.00, '2023-02-13', 1, 1),
+    ('Internet', 100.00, '2023-02-03', 3, 1),
+    ('Luz', 200.00, '2023-02-06', 3, 1),
+    ('Condomínio', 150.00, '2023-02-04', 3, 1),
+    ('Supermercado', 300.00, '2023-02-23', 1, 1),
+    ('Ônibus', 400.00, '2023-02-28', 4, 1),
+    ('Farmácia', 80.00, '2023-02-16', 2, 1),
+    ('Curso Online', 100.00, '2023-02-23', 5, 1);
 
 INSERT INTO tb_income (description, value, date, user_id) VALUES
     ('Salário', 3500.00, '2023-02-08', 1);
\ No newline at end of file